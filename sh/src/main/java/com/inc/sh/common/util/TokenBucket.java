@@ -0,0 +1,86 @@
+package com.inc.sh.common.util;
+
+/**
+ * 토큰버킷 속도 제한기
+ * - 초당 permitsPerSecond개씩 토큰이 채워지고 최대 capacity개까지 누적
+ * - 토큰이 없으면 다음 토큰이 채워질 때까지 호출 스레드를 대기 (가상 스레드에서 대기 비용 낮음)
+ * - permitsPerSecond가 0 이하이면 속도 제한 없음
+ * - 시각 조회/대기는 Clock으로 분리 (테스트에서 가짜 시계로 대체)
+ */
+public class TokenBucket {
+
+    /**
+     * 토큰 충전 기준 시각과 대기
+     */
+    public interface Clock {
+        Clock SYSTEM = new Clock() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void sleep(long nanos) throws InterruptedException {
+                Thread.sleep(Math.max(1, nanos / 1_000_000L));
+            }
+        };
+
+        long nanoTime();
+
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private final double permitsPerSecond;
+    private final double capacity;
+    private final Clock clock;
+    private double tokens;
+    private long lastRefillNanos;
+    private long acquiredCount;
+
+    public TokenBucket(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, Clock.SYSTEM);
+    }
+
+    public TokenBucket(double permitsPerSecond, int capacity, Clock clock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = Math.max(1, capacity);
+        this.clock = clock;
+        this.tokens = this.capacity;
+        this.lastRefillNanos = clock.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        if (permitsPerSecond <= 0) {
+            synchronized (this) {
+                acquiredCount++;
+            }
+            return; // 속도 제한 없음
+        }
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    acquiredCount++;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - tokens) / permitsPerSecond * 1_000_000_000L);
+            }
+            clock.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 지금까지 발급한 토큰 수
+     */
+    public synchronized long getAcquiredCount() {
+        return acquiredCount;
+    }
+
+    private void refill() {
+        long now = clock.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,56 @@
+package com.inc.sh.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 하이픈 API 연동용 HttpClient 설정
+ * - 요청마다 HttpClient를 새로 만들면 커넥션 풀/TLS 핸드셰이크/셀렉터 스레드가 매번 생성되므로 하나를 공유
+ * - 응답 처리용 executor는 스레드 수를 제한 (Executor 빈으로 등록하면 스프링 기본 TaskExecutor가 빠지므로 내부 보관)
+ */
+@Configuration
+public class HyphenHttpClientConfig {
+
+    @Value("${hyphen.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${hyphen.http.executor-threads:8}")
+    private int executorThreads;
+
+    private ExecutorService hyphenHttpExecutor;
+
+    @Bean
+    public HttpClient hyphenHttpClient() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        hyphenHttpExecutor = new ThreadPoolExecutor(executorThreads, executorThreads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "hyphen-http-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2) // 서버가 지원하지 않으면 HTTP/1.1로 자동 전환
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(hyphenHttpExecutor)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (hyphenHttpExecutor != null) {
+            hyphenHttpExecutor.shutdown();
+        }
+    }
+}
@@ -2,23 +2,23 @@ package com.inc.sh.controller;
 
 import com.inc.sh.dto.transactionStatement.reqDto.TransactionStatementExcelReqDto;
 import com.inc.sh.service.TransactionStatementExcelService;
+import com.inc.sh.service.TransactionStatementExcelService.StatementOrder;
 import com.inc.sh.common.dto.RespDto;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/erp/transaction-statement")
@@ -31,9 +31,13 @@ public class TransactionStatementExcelController {
     /**
      * 거래명세표 엑셀 출력 (주문별 분리)
      * POST /api/v1/erp/transaction-statement/excel
+     * - 주문 1건: 엑셀, 여러 건: 주문별 엑셀 ZIP (singleFile=true면 주문별 시트 엑셀 1개)
+     * - 파일은 만들면서 바로 응답으로 전송
+     * - 첫 파일이 만들어진 뒤(첫 바이트 기록 시점)에 첨부 헤더 설정/응답 스트림 사용, 전부 실패하면 오류 응답
      */
     @PostMapping("/excel")
-    public ResponseEntity<?> generateTransactionStatementExcel(@RequestBody TransactionStatementExcelReqDto request) {
+    public ResponseEntity<?> generateTransactionStatementExcel(@RequestBody TransactionStatementExcelReqDto request,
+                                                               HttpServletResponse response) {
         
         log.info("거래명세표 엑셀 생성 요청 - 주문개수: {}, 본사: {}", 
                 request.getOrderNumbers() != null ? request.getOrderNumbers().size() : 0, 
@@ -51,62 +55,98 @@ public class TransactionStatementExcelController {
         }
         
         try {
-            // 엑셀 파일 생성
-            RespDto<Map<String, byte[]>> response = transactionStatementExcelService.generateTransactionStatementExcel(request);
+            // 출력 대상 주문 조회
+            RespDto<List<StatementOrder>> orderResponse = transactionStatementExcelService.findStatementOrders(request);
             
-            if (response.getCode() != 1 || response.getData() == null || response.getData().isEmpty()) {
-                return ResponseEntity.badRequest().body(response);
+            if (orderResponse.getCode() != 1 || orderResponse.getData() == null || orderResponse.getData().isEmpty()) {
+                return ResponseEntity.badRequest().body(orderResponse);
             }
             
-            Map<String, byte[]> excelFiles = response.getData();
+            List<StatementOrder> orders = orderResponse.getData();
             
-            // 단일 파일인 경우 바로 다운로드
-            if (excelFiles.size() == 1) {
-                Map.Entry<String, byte[]> entry = excelFiles.entrySet().iterator().next();
-                String orderNo = entry.getKey();
-                byte[] excelData = entry.getValue();
+            // 단일 주문 또는 엑셀 1개 요청
+            if (orders.size() == 1 || Boolean.TRUE.equals(request.getSingleFile())) {
+                String fileName = orders.size() == 1
+                        ? "거래명세표_" + orders.get(0).getOrderNo() + "_" +
+                                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyMMdd")) + ".xlsx"
+                        : "거래명세표_" + orders.size() + "건_" +
+                                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmm")) + ".xlsx";
                 
-                String fileName = "거래명세표_" + orderNo + "_" + 
-                        LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyMMdd")) + ".xlsx";
-                
-                return ResponseEntity.ok()
-                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                        .header(HttpHeaders.CONTENT_DISPOSITION, 
-                                "attachment; filename*=UTF-8''" + URLEncoder.encode(fileName, StandardCharsets.UTF_8))
-                        .body(new ByteArrayResource(excelData));
+                AttachmentOutputStream outputStream = new AttachmentOutputStream(response, fileName);
+                transactionStatementExcelService.writeStatementWorkbook(orders, outputStream);
+                outputStream.flush();
             }
             
-            // 여러 파일인 경우 ZIP으로 압축
+            // 여러 주문은 ZIP으로 압축
             else {
-                ByteArrayOutputStream zipOutputStream = new ByteArrayOutputStream();
-                
-                try (ZipOutputStream zip = new ZipOutputStream(zipOutputStream)) {
-                    for (Map.Entry<String, byte[]> entry : excelFiles.entrySet()) {
-                        String orderNo = entry.getKey();
-                        byte[] excelData = entry.getValue();
-                        
-                        String entryFileName = "거래명세표_" + orderNo + ".xlsx";
-                        ZipEntry zipEntry = new ZipEntry(entryFileName);
-                        zip.putNextEntry(zipEntry);
-                        zip.write(excelData);
-                        zip.closeEntry();
-                    }
-                }
-                
-                String zipFileName = "거래명세표_" + excelFiles.size() + "건_" +
+                String zipFileName = "거래명세표_" + orders.size() + "건_" +
                         LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmm")) + ".zip";
                 
-                return ResponseEntity.ok()
-                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                        .header(HttpHeaders.CONTENT_DISPOSITION, 
-                                "attachment; filename*=UTF-8''" + URLEncoder.encode(zipFileName, StandardCharsets.UTF_8))
-                        .body(new ByteArrayResource(zipOutputStream.toByteArray()));
+                AttachmentOutputStream outputStream = new AttachmentOutputStream(response, zipFileName);
+                transactionStatementExcelService.writeStatementZip(orders, outputStream);
+                outputStream.flush();
             }
             
+            return null; // 응답 본문은 직접 전송
+            
         } catch (Exception e) {
             log.error("거래명세표 엑셀 생성 중 오류 발생", e);
+            
+            // 전송이 시작된 뒤에는 오류 응답으로 바꿀 수 없음
+            if (response.isCommitted()) {
+                return null;
+            }
+            response.reset();
             return ResponseEntity.internalServerError()
                     .body(RespDto.fail("엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 첨부파일 응답 스트림
+     * - 첫 기록 시 첨부 헤더를 설정하고 응답 스트림을 가져옴 (기록 전 실패는 오류 응답으로 바꿀 수 있음)
+     * - 응답 스트림은 컨테이너 소유이므로 닫지 않음
+     */
+    static class AttachmentOutputStream extends OutputStream {
+        private final HttpServletResponse response;
+        private final String fileName;
+        private OutputStream target;
+
+        AttachmentOutputStream(HttpServletResponse response, String fileName) {
+            this.response = response;
+            this.fileName = fileName;
+        }
+
+        private OutputStream target() throws IOException {
+            if (target == null) {
+                response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename*=UTF-8''" + URLEncoder.encode(fileName, StandardCharsets.UTF_8));
+                target = response.getOutputStream();
+            }
+            return target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
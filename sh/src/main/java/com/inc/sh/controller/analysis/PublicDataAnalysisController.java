@@ -10,6 +10,7 @@ import jakarta.validation.Valid;
 import com.inc.sh.service.analysis.IncomeConsumptionDataCollectionService;
 import com.inc.sh.service.analysis.BusinessPopulationDataCollectionService;
 import com.inc.sh.service.analysis.IntegratedDataCollectionService;
+import com.inc.sh.service.analysis.PublicDataAnalysisCache;
 import com.inc.sh.service.analysis.PublicDataAnalysisService;
 
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -49,6 +51,7 @@ public class PublicDataAnalysisController {
         try {
             PublicDataAnalysisRespDto.CollectionProgressResp progress = 
                     salesDataCollectionService.collectSalesData(request);
+            publicDataAnalysisService.refreshCache();
             
             String message = String.format("매출 데이터 수집 %s - API호출: %d/%d, 레코드: %d/%d",
                     "COMPLETED".equals(progress.getStatus()) ? "완료" : 
@@ -79,6 +82,7 @@ public class PublicDataAnalysisController {
         try {
             PublicDataAnalysisRespDto.CollectionProgressResp progress = 
                     incomeConsumptionDataCollectionService.collectIncomeConsumptionData(request);
+            publicDataAnalysisService.refreshCache();
             
             String message = String.format("소득/소비 데이터 수집 %s - API호출: %d/%d, 레코드: %d/%d",
                     "COMPLETED".equals(progress.getStatus()) ? "완료" : 
@@ -109,6 +113,7 @@ public class PublicDataAnalysisController {
         try {
             PublicDataAnalysisRespDto.CollectionProgressResp progress = 
                     businessPopulationDataCollectionService.collectBusinessPopulationData(request);
+            publicDataAnalysisService.refreshCache();
             
             String message = String.format("업소수/인구 데이터 수집 %s - API호출: %d/%d, 레코드: %d/%d",
                     "COMPLETED".equals(progress.getStatus()) ? "완료" : 
@@ -127,7 +132,7 @@ public class PublicDataAnalysisController {
     }
 
     /**
-     * 4. 통합 데이터 수집 API (1→2→3 순차 실행)
+     * 4. 통합 데이터 수집 API (1 → 2, 3 동시 실행)
      * POST /api/v1/analysis/collect/integrated
      */
     @PostMapping("/collect/integrated")
@@ -188,6 +193,47 @@ public class PublicDataAnalysisController {
         }
     }
 
+    /**
+     * 6. 통합 데이터 수집 진행 상황 조회 (작업 기록 기준, 실행 중/서버 재시작 후에도 조회 가능)
+     * GET /api/v1/analysis/collect/progress/{taskId}
+     */
+    @GetMapping("/collect/progress/{taskId}")
+    public ResponseEntity<PublicDataAnalysisRespDto.ApiResponse<PublicDataAnalysisRespDto.CollectionProgressResp>> getCollectionProgress(
+            @PathVariable("taskId") String taskId) {
+
+        PublicDataAnalysisRespDto.CollectionProgressResp progress = integratedDataCollectionService.getProgress(taskId);
+        if (progress == null) {
+            return ResponseEntity.ok(PublicDataAnalysisRespDto.ApiResponse.failure(
+                    "수집 작업을 찾을 수 없습니다: " + taskId, "TASK_NOT_FOUND"));
+        }
+        return ResponseEntity.ok(PublicDataAnalysisRespDto.ApiResponse.success(progress, "진행 상황 조회 성공"));
+    }
+
+    /**
+     * 7. 통합 데이터 수집 재실행 (중단/실패한 작업, 완료된 단계와 호출 단위는 건너뜀)
+     * POST /api/v1/analysis/collect/resume/{taskId}
+     */
+    @PostMapping("/collect/resume/{taskId}")
+    public ResponseEntity<PublicDataAnalysisRespDto.ApiResponse<PublicDataAnalysisRespDto.CollectionProgressResp>> resumeCollection(
+            @PathVariable("taskId") String taskId) {
+
+        log.info("통합 데이터 수집 재실행 요청 - 작업ID: {}", taskId);
+
+        try {
+            PublicDataAnalysisRespDto.CollectionProgressResp progress = 
+                    integratedDataCollectionService.resumeIntegratedData(taskId);
+
+            return ResponseEntity.ok(PublicDataAnalysisRespDto.ApiResponse.success(progress, 
+                    "통합 데이터 수집 재실행 종료 - 상태: " + progress.getStatus()));
+
+        } catch (Exception e) {
+            log.error("통합 데이터 수집 재실행 중 오류 발생 - 작업ID: {}", taskId, e);
+            return ResponseEntity.internalServerError()
+                    .body(PublicDataAnalysisRespDto.ApiResponse.failure(
+                            "통합 데이터 수집 재실행 실패: " + e.getMessage(), "RESUME_COLLECTION_ERROR"));
+        }
+    }
+
     /**
      * 간단한 요청 생성 유틸리티 API들
      */
@@ -204,7 +250,6 @@ public class PublicDataAnalysisController {
                 .cities(Arrays.asList(cities.split(",")))
                 .applyMultiplier(true)
                 .retryCount(3)
-                .delayMs(100L)
                 .build();
         
         return collectSalesData(request);
@@ -221,7 +266,6 @@ public class PublicDataAnalysisController {
         PublicDataAnalysisReqDto.IncomeConsumptionDataCollectReq request = PublicDataAnalysisReqDto.IncomeConsumptionDataCollectReq.builder()
                 .cities(Arrays.asList(cities.split(",")))
                 .retryCount(3)
-                .delayMs(100L)
                 .build();
         
         return collectIncomeConsumptionData(request);
@@ -257,7 +301,6 @@ public class PublicDataAnalysisController {
                 .includeBusinessCount(true)
                 .includePopulationData(true)
                 .retryCount(3)
-                .delayMs(100L)
                 .build();
         
         return collectBusinessPopulationData(request);
@@ -317,7 +360,6 @@ public class PublicDataAnalysisController {
                 .includeBusinessCount(true)
                 .includePopulationData(true)
                 .retryCount(1)
-                .delayMs(50L)
                 .build();
         
         return collectBusinessPopulationData(request);
@@ -353,4 +395,62 @@ public class PublicDataAnalysisController {
             );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 지표 기준 상위 N개 행정동 조회 (캐시)
+     * GET /api/v1/analysis/top?metric=TOTAL_SALES&limit=10
+     */
+    @GetMapping("/top")
+    public ResponseEntity<RespDto<List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp>>> getTopAnalysisData(
+            @RequestParam(value = "metric", defaultValue = "TOTAL_SALES") String metric,
+            @RequestParam(value = "limit", defaultValue = "10") Integer limit) {
+
+        try {
+            List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> data =
+                    publicDataAnalysisService.getTopAnalysisData(PublicDataAnalysisCache.Metric.valueOf(metric), limit);
+
+            return ResponseEntity.ok(RespDto.success("상위 행정동 조회 성공", data));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(RespDto.fail("지원하지 않는 지표입니다: " + metric));
+
+        } catch (Exception e) {
+            log.error("상위 행정동 조회 실패 - 지표: {}", metric, e);
+            return ResponseEntity.ok(RespDto.fail("상위 행정동 조회 중 오류가 발생했습니다"));
+        }
+    }
+
+    /**
+     * 지표 값 범위로 행정동 조회 (캐시)
+     * GET /api/v1/analysis/range?metric=TOTAL_POPULATION&min=10000&max=50000
+     */
+    @GetMapping("/range")
+    public ResponseEntity<RespDto<List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp>>> getAnalysisDataInRange(
+            @RequestParam("metric") String metric,
+            @RequestParam(value = "min", required = false) Long min,
+            @RequestParam(value = "max", required = false) Long max) {
+
+        try {
+            List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> data =
+                    publicDataAnalysisService.getAnalysisDataInRange(PublicDataAnalysisCache.Metric.valueOf(metric), min, max);
+
+            return ResponseEntity.ok(RespDto.success("범위 조회 성공", data));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(RespDto.fail("지원하지 않는 지표입니다: " + metric));
+
+        } catch (Exception e) {
+            log.error("범위 조회 실패 - 지표: {}", metric, e);
+            return ResponseEntity.ok(RespDto.fail("범위 조회 중 오류가 발생했습니다"));
+        }
+    }
+
+    /**
+     * 분석 데이터 조회 캐시 통계
+     * GET /api/v1/analysis/cache/stats
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<RespDto<PublicDataAnalysisRespDto.CacheStatsResp>> getCacheStats() {
+        return ResponseEntity.ok(RespDto.success("캐시 통계 조회 성공", publicDataAnalysisService.getCacheStats()));
+    }
+}
@@ -27,10 +27,11 @@ public class AppChargeController {
             @RequestParam("startTransactionDate") String startTransactionDate,
             @RequestParam("endTransactionDate") String endTransactionDate,
             @RequestParam(value = "page", defaultValue = "0") Integer page,
-            @RequestParam(value = "size", defaultValue = "10") Integer size) {
+            @RequestParam(value = "size", defaultValue = "10") Integer size,
+            @RequestParam(value = "cursor", required = false) String cursor) {
         
-        log.info("[앱] 거래내역조회 - customerCode: {}, 기간: {} ~ {}, page: {}, size: {}", 
-                customerCode, startTransactionDate, endTransactionDate, page, size);
+        log.info("[앱] 거래내역조회 - customerCode: {}, 기간: {} ~ {}, page: {}, size: {}, cursor: {}", 
+                customerCode, startTransactionDate, endTransactionDate, page, size, cursor);
         
         AppTransactionHistoryReqDto request = AppTransactionHistoryReqDto.builder()
                 .customerCode(customerCode)
@@ -38,6 +39,7 @@ public class AppChargeController {
                 .endTransactionDate(endTransactionDate)
                 .page(page)
                 .size(size)
+                .cursor(cursor)
                 .build();
         
         RespDto<AppTransactionHistoryRespDto> response = appChargeService.getTransactionHistory(request);
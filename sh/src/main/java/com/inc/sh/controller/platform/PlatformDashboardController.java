@@ -69,6 +69,18 @@ public class PlatformDashboardController {
         }
     }
     
+    /**
+     * 월별 매출 집계 재생성 (백필)
+     * POST /api/v1/platform/dashboard/sales-rollup/rebuild?hqCode=2 (hqCode 생략 시 전체)
+     */
+    @PostMapping("/sales-rollup/rebuild")
+    public RespDto<Integer> rebuildSalesRollup(
+            @RequestParam(value = "hqCode", required = false) Integer hqCode) {
+        
+        log.info("월별 매출 집계 재생성 API 호출 - 본사: {}", hqCode);
+        return platformDashboardService.rebuildSalesRollup(hqCode);
+    }
+    
     /**
      * 대시보드 리뷰 종합 정보 조회 (5가지 한번에)
      * GET /api/v1/platform/dashboard/review-overview?hqCode=2&brandCode=0
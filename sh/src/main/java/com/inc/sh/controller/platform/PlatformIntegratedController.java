@@ -1,16 +1,18 @@
 package com.inc.sh.controller.platform;
 
-import com.inc.sh.service.platform.PlatformOrderService;
+import com.inc.sh.dto.platform.respDto.PlatformSyncJobRespDto;
+import com.inc.sh.service.platform.HyphenApiClient;
 import com.inc.sh.service.platform.PlatformSummaryService;
+import com.inc.sh.service.platform.PlatformSyncExecutor;
+import com.inc.sh.service.platform.PlatformSyncJobService;
 import com.inc.sh.common.dto.RespDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/platform/order")
@@ -18,40 +20,27 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class PlatformIntegratedController {
     
-    private final PlatformOrderService platformOrderService;
+    private final PlatformSyncJobService platformSyncJobService;
     private final PlatformSummaryService platformSummaryService;
+    private final PlatformSyncExecutor platformSyncExecutor;
+    private final HyphenApiClient hyphenApiClient;
     
     /**
-     * 통합 플랫폼 동기화 (순차 실행)
-     * - 즉시: 배민 조회 + DB저장 + 집계갱신
-     * - 2분후: 요기요 조회 + DB저장 + 집계갱신  
-     * - 3분후: 쿠팡이츠 조회 + DB저장 + 집계갱신
+     * 통합 플랫폼 동기화 (배민/요기요/쿠팡이츠 작업 등록 후 바로 반환)
+     * - 같은 본사/플랫폼 작업이 대기/진행 중이면 기존 작업을 반환
+     * - 진행 상태는 /sync/jobs/{jobId}로 조회
      */
     @PostMapping("/sync/all")
-    public RespDto<String> syncAllPlatforms(@RequestParam("hqCode") Integer hqCode) {
+    public RespDto<List<PlatformSyncJobRespDto>> syncAllPlatforms(@RequestParam("hqCode") Integer hqCode,
+                                                                  @RequestParam(value = "fullResync", defaultValue = "false") boolean fullResync) {
         try {
-            log.info("=== 통합 플랫폼 동기화 시작 - 본사코드: {} ===", hqCode);
+            log.info("=== 통합 플랫폼 동기화 요청 - 본사코드: {} ===", hqCode);
             
-            // 즉시 배민 실행
-            log.info("1. 배민 동기화 시작 - 본사: {}", hqCode);
-            executeAndUpdateSummary("배민", hqCode);
+            List<PlatformSyncJobRespDto> jobs = platformSyncJobService.submitAll(hqCode, fullResync).stream()
+                    .map(platformSyncJobService::toResp)
+                    .toList();
             
-            // 2분 후 요기요 실행
-            CompletableFuture.delayedExecutor(3, TimeUnit.MINUTES).execute(() -> {
-                log.info("2. 요기요 동기화 시작 (2분 후) - 본사: {}", hqCode);
-                executeAndUpdateSummary("요기요", hqCode);
-            });
-            
-            // 3분 후 쿠팡이츠 실행
-            CompletableFuture.delayedExecutor(3, TimeUnit.MINUTES).execute(() -> {
-                log.info("3. 쿠팡이츠 동기화 시작 (3분 후) - 본사: {}", hqCode);
-                executeAndUpdateSummary("쿠팡이츠", hqCode);
-            });
-            
-            String message = "통합 동기화 시작 (본사: " + hqCode + ") - 배민(즉시), 요기요(2분후), 쿠팡이츠(3분후)";
-            log.info(message);
-            
-            return RespDto.success(message, message);
+            return RespDto.success("통합 동기화 작업 등록 완료 (본사: " + hqCode + ")", jobs);
             
         } catch (Exception e) {
             log.error("통합 플랫폼 동기화 중 오류 발생 - 본사: {}", hqCode, e);
@@ -60,90 +49,100 @@ public class PlatformIntegratedController {
     }
     
     /**
-     * 플랫폼별 실행 및 집계 갱신
+     * 하이픈 API 엔드포인트별 호출 지표 조회 (호출수/재시도수/오류수/지연시간)
      */
-    @Async
-    private void executeAndUpdateSummary(String platform, Integer hqCode) {
-        try {
-            RespDto<String> result = null;
-            
-            // 플랫폼별 동기화 실행
-            switch (platform) {
-                case "배민":
-                    result = platformOrderService.syncBaeminOrders(hqCode);
-                    break;
-                case "요기요":
-                    result = platformOrderService.syncYogiyoOrders(hqCode);
-                    break;
-                case "쿠팡이츠":
-                    result = platformOrderService.syncCoupangOrders(hqCode);
-                    break;
-                default:
-                    log.error("지원하지 않는 플랫폼: {}", platform);
-                    return;
-            }
-            
-            // 동기화 성공 시 집계 갱신
-            if (result != null && result.getCode() == 1) {
-                log.info("{} 동기화 성공 (본사: {}) - 집계 갱신 시작", platform, hqCode);
-                
-                // 기본 브랜드 코드 1로 설정 (실제로는 세션에서 가져와야 함)
-                Integer brandCode = 1;
-                
-                // 집계 테이블 갱신
-                platformSummaryService.updateDailySalesSummary(platform, brandCode);
-                platformSummaryService.updateStoreRanking(platform, brandCode);
-                
-                log.info("{} 집계 갱신 완료 (본사: {})", platform, hqCode);
-            } else {
-                log.warn("{} 동기화 실패 (본사: {}) - 집계 갱신 스킵", platform, hqCode);
-            }
-            
-        } catch (Exception e) {
-            log.error("{} 동기화 및 집계 갱신 중 오류 발생 (본사: {})", platform, hqCode, e);
+    @GetMapping("/hyphen/metrics")
+    public RespDto<Map<String, Map<String, Object>>> getHyphenMetrics() {
+        return RespDto.success("하이픈 API 호출 지표 조회 완료", hyphenApiClient.getMetrics());
+    }
+    
+    /**
+     * 플랫폼 동기화 진행현황 조회 (매장별 상태)
+     */
+    @GetMapping("/sync/progress")
+    public RespDto<PlatformSyncExecutor.SyncProgress> getSyncProgress(@RequestParam("platform") String platform,
+                                                                     @RequestParam("hqCode") Integer hqCode) {
+        PlatformSyncExecutor.SyncProgress progress = platformSyncExecutor.getProgress(platform, hqCode);
+        if (progress == null) {
+            return RespDto.fail("진행 중이거나 완료된 동기화 내역이 없습니다.");
         }
+        return RespDto.success("동기화 진행현황 조회 완료", progress);
     }
     
     /**
-     * 개별 플랫폼 동기화 + 집계 갱신 (테스트용)
+     * 개별 플랫폼 동기화 (작업 등록 후 바로 반환)
      */
     @PostMapping("/sync/{platform}")
-    public RespDto<String> syncPlatformWithSummary(@PathVariable String platform, @RequestParam("hqCode") Integer hqCode) {
+    public RespDto<PlatformSyncJobRespDto> syncPlatformWithSummary(@PathVariable String platform, @RequestParam("hqCode") Integer hqCode,
+                                                                   @RequestParam(value = "fullResync", defaultValue = "false") boolean fullResync) {
         try {
-            log.info("개별 {} 동기화 + 집계 갱신 시작 - 본사: {}", platform, hqCode);
+            log.info("개별 {} 동기화 요청 - 본사: {}", platform, hqCode);
             
-            executeAndUpdateSummary(platform, hqCode);
+            PlatformSyncJobService.SyncJob job = platformSyncJobService.submit(hqCode, platform, fullResync);
             
-            String message = platform + " 동기화 및 집계 갱신 시작 (본사: " + hqCode + ")";
-            return RespDto.success(message, message);
+            return RespDto.success(platform + " 동기화 작업 등록 완료 (본사: " + hqCode + ")", platformSyncJobService.toResp(job));
             
         } catch (Exception e) {
-            log.error("{} 동기화 및 집계 갱신 중 오류 발생 - 본사: {}", platform, hqCode, e);
+            log.error("{} 동기화 요청 중 오류 발생 - 본사: {}", platform, hqCode, e);
             return RespDto.fail(platform + " 동기화 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
     
     /**
-     * 집계 테이블 강제 갱신 (데이터 수동 갱신용)
+     * 동기화 작업 상태 조회 (매장 진행수 포함)
      */
-    @PostMapping("/summary/update")
-    public RespDto<String> updateSummaryTables(@RequestParam(required = false) Integer brandCode) {
+    @GetMapping("/sync/jobs/{jobId}")
+    public RespDto<PlatformSyncJobRespDto> getSyncJob(@PathVariable("jobId") String jobId) {
+        PlatformSyncJobService.SyncJob job = platformSyncJobService.getJob(jobId);
+        if (job == null) {
+            return RespDto.fail("동기화 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return RespDto.success("동기화 작업 조회 완료", platformSyncJobService.toResp(job));
+    }
+    
+    /**
+     * 본사 동기화 작업 목록 조회 (최근 요청 순)
+     */
+    @GetMapping("/sync/jobs")
+    public RespDto<List<PlatformSyncJobRespDto>> getSyncJobs(@RequestParam("hqCode") Integer hqCode) {
+        List<PlatformSyncJobRespDto> jobs = platformSyncJobService.getJobs(hqCode).stream()
+                .map(platformSyncJobService::toResp)
+                .toList();
+        return RespDto.success("동기화 작업 목록 조회 완료", jobs);
+    }
+    
+    /**
+     * 동기화 작업 취소 (대기 중이면 실행 안 함, 진행 중이면 매장 동기화 중단)
+     */
+    @PostMapping("/sync/jobs/{jobId}/cancel")
+    public RespDto<PlatformSyncJobRespDto> cancelSyncJob(@PathVariable("jobId") String jobId) {
         try {
-            log.info("집계 테이블 강제 갱신 시작 - 브랜드: {}", brandCode);
-            
-            if (brandCode == null) {
-                brandCode = 1; // 기본값
+            PlatformSyncJobService.SyncJob job = platformSyncJobService.cancel(jobId);
+            if (job == null) {
+                return RespDto.fail("동기화 작업을 찾을 수 없습니다: " + jobId);
             }
+            return RespDto.success("동기화 작업 취소 완료", platformSyncJobService.toResp(job));
             
-            // 모든 플랫폼 집계 갱신
-            String[] platforms = {"배민", "요기요", "쿠팡이츠"};
+        } catch (Exception e) {
+            log.error("동기화 작업 취소 중 오류 발생 - 작업: {}", jobId, e);
+            return RespDto.fail("동기화 작업 취소 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 집계 테이블 강제 재집계 (원본 주문 기준, 데이터 수동 갱신용)
+     * - brandCode가 없으면 전체 브랜드, days는 오늘 포함 재집계 기간
+     */
+    @PostMapping("/summary/update")
+    public RespDto<String> updateSummaryTables(@RequestParam(required = false) Integer brandCode,
+                                               @RequestParam(value = "days", defaultValue = "7") int days) {
+        try {
+            log.info("집계 테이블 강제 재집계 시작 - 브랜드: {}, 기간: {}일", brandCode, days);
             
-            for (String platform : platforms) {
-                platformSummaryService.updateDailySalesSummary(platform, brandCode);
-                platformSummaryService.updateStoreRanking(platform, brandCode);
-            }
+            int rows = platformSummaryService.rebuildSummaries(brandCode, days);
             
-            String message = "모든 플랫폼 집계 테이블 갱신 완료 - 브랜드: " + brandCode;
+            String message = "집계 테이블 재집계 완료 - 브랜드: " + (brandCode == null ? "전체" : brandCode)
+                    + ", 일별 집계: " + rows + "건";
             log.info(message);
             
             return RespDto.success(message, message);
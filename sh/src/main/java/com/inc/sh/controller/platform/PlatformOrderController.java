@@ -1,7 +1,7 @@
 package com.inc.sh.controller.platform;
 
-import com.inc.sh.service.platform.PlatformOrderService;
-import com.inc.sh.service.platform.PlatformSummaryService;
+import com.inc.sh.dto.platform.respDto.PlatformSyncJobRespDto;
+import com.inc.sh.service.platform.PlatformSyncJobService;
 import com.inc.sh.common.dto.RespDto;
 
 import lombok.RequiredArgsConstructor;
@@ -14,35 +14,19 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class PlatformOrderController {
     
-    private final PlatformOrderService platformOrderService;
-    private final PlatformSummaryService platformSummaryService;
+    private final PlatformSyncJobService platformSyncJobService;
     
     /**
      * 배민 주문내역 동기화 (테스트용)
      */
     @PostMapping("/sync/baemin")
-    public RespDto<String> syncBaeminOrders(@RequestParam("hqCode") Integer hqCode) {
+    public RespDto<PlatformSyncJobRespDto> syncBaeminOrders(@RequestParam("hqCode") Integer hqCode,
+                                                            @RequestParam(value = "fullResync", defaultValue = "false") boolean fullResync) {
         try {
             log.info("배민 주문내역 동기화 API 호출 - 본사코드: {}", hqCode);
             
-            // 플랫폼 동기화 실행
-            RespDto<String> result = platformOrderService.syncBaeminOrders(hqCode);
-            
-            // 동기화 성공 시 집계 갱신
-            if (result != null && result.getCode() == 1) {
-                log.info("배민 동기화 성공 - 집계 갱신 시작");
-                
-                // 기본 브랜드 코드 1로 설정 (실제로는 세션에서 가져와야 함)
-                Integer brandCode = 1;
-                
-                // 집계 테이블 갱신
-                platformSummaryService.updateDailySalesSummary("배민", brandCode);
-                platformSummaryService.updateStoreRanking("배민", brandCode);
-                
-                log.info("배민 집계 갱신 완료");
-            }
-            
-            return result;
+            // 동기화 작업 등록 (일별 집계/매장 순위 갱신 포함, 진행 상태는 /sync/jobs/{jobId})
+            return submitSyncJob(hqCode, "배민", fullResync);
             
         } catch (Exception e) {
             log.error("배민 주문내역 동기화 API 오류", e);
@@ -54,28 +38,13 @@ public class PlatformOrderController {
      * 요기요 주문내역 동기화 (테스트용)
      */
     @PostMapping("/sync/yogiyo")
-    public RespDto<String> syncYogiyoOrders(@RequestParam("hqCode") Integer hqCode) {
+    public RespDto<PlatformSyncJobRespDto> syncYogiyoOrders(@RequestParam("hqCode") Integer hqCode,
+                                                            @RequestParam(value = "fullResync", defaultValue = "false") boolean fullResync) {
         try {
             log.info("요기요 주문내역 동기화 API 호출 - 본사코드: {}", hqCode);
             
-            // 플랫폼 동기화 실행
-            RespDto<String> result = platformOrderService.syncYogiyoOrders(hqCode);
-            
-            // 동기화 성공 시 집계 갱신
-            if (result != null && result.getCode() == 1) {
-                log.info("요기요 동기화 성공 - 집계 갱신 시작");
-                
-                // 기본 브랜드 코드 1로 설정 (실제로는 세션에서 가져와야 함)
-                Integer brandCode = 1;
-                
-                // 집계 테이블 갱신
-                platformSummaryService.updateDailySalesSummary("요기요", brandCode);
-                platformSummaryService.updateStoreRanking("요기요", brandCode);
-                
-                log.info("요기요 집계 갱신 완료");
-            }
-            
-            return result;
+            // 동기화 작업 등록 (일별 집계/매장 순위 갱신 포함, 진행 상태는 /sync/jobs/{jobId})
+            return submitSyncJob(hqCode, "요기요", fullResync);
             
         } catch (Exception e) {
             log.error("요기요 주문내역 동기화 API 오류", e);
@@ -87,28 +56,13 @@ public class PlatformOrderController {
      * 쿠팡이츠 주문내역 동기화 (테스트용)
      */
     @PostMapping("/sync/coupang")
-    public RespDto<String> syncCoupangOrders(@RequestParam("hqCode") Integer hqCode) {
+    public RespDto<PlatformSyncJobRespDto> syncCoupangOrders(@RequestParam("hqCode") Integer hqCode,
+                                                             @RequestParam(value = "fullResync", defaultValue = "false") boolean fullResync) {
         try {
             log.info("쿠팡이츠 주문내역 동기화 API 호출 - 본사코드: {}", hqCode);
             
-            // 플랫폼 동기화 실행
-            RespDto<String> result = platformOrderService.syncCoupangOrders(hqCode);
-            
-            // 동기화 성공 시 집계 갱신
-            if (result != null && result.getCode() == 1) {
-                log.info("쿠팡이츠 동기화 성공 - 집계 갱신 시작");
-                
-                // 기본 브랜드 코드 1로 설정 (실제로는 세션에서 가져와야 함)
-                Integer brandCode = 1;
-                
-                // 집계 테이블 갱신
-                platformSummaryService.updateDailySalesSummary("쿠팡이츠", brandCode);
-                platformSummaryService.updateStoreRanking("쿠팡이츠", brandCode);
-                
-                log.info("쿠팡이츠 집계 갱신 완료");
-            }
-            
-            return result;
+            // 동기화 작업 등록 (일별 집계/매장 순위 갱신 포함, 진행 상태는 /sync/jobs/{jobId})
+            return submitSyncJob(hqCode, "쿠팡이츠", fullResync);
             
         } catch (Exception e) {
             log.error("쿠팡이츠 주문내역 동기화 API 오류", e);
@@ -117,11 +71,15 @@ public class PlatformOrderController {
     }
     
     /**
-     * 주문내역 동기화 상태 확인 (향후 구현)
+     * 주문내역 동기화 상태 확인 (본사 작업 목록은 /sync/jobs?hqCode=)
      */
     @GetMapping("/sync/status")
     public RespDto<String> getSyncStatus() {
-        // TODO: 구현 예정
-        return RespDto.success("동기화 상태 확인 기능 준비중", "Not implemented yet");
+        return RespDto.success("동기화 상태는 작업 조회 API를 사용하세요", "/api/v1/platform/order/sync/jobs?hqCode={hqCode}");
+    }
+    
+    private RespDto<PlatformSyncJobRespDto> submitSyncJob(Integer hqCode, String platform, boolean fullResync) {
+        PlatformSyncJobService.SyncJob job = platformSyncJobService.submit(hqCode, platform, fullResync);
+        return RespDto.success(platform + " 동기화 작업 등록 완료 (본사: " + hqCode + ")", platformSyncJobService.toResp(job));
     }
-}
\ No newline at end of file
+}
@@ -23,12 +23,13 @@ public class PlatformReviewController {
      */
     @PostMapping("/sync/baemin")
     public RespDto<Map<String, Object>> syncBaeminReviews(
-            @RequestParam("hqCode") Integer hqCode) {
+            @RequestParam("hqCode") Integer hqCode,
+            @RequestParam(value = "fullResync", defaultValue = "false") boolean fullResync) {
         
         try {
             log.info("배민 리뷰 동기화 API 호출 - 본사: {}", hqCode);
             
-            return platformReviewService.syncBaeminReviews(hqCode);
+            return platformReviewService.syncBaeminReviews(hqCode, fullResync);
             
         } catch (Exception e) {
             log.error("배민 리뷰 동기화 API 오류", e);
@@ -42,12 +43,13 @@ public class PlatformReviewController {
      */
     @PostMapping("/sync/yogiyo")
     public RespDto<Map<String, Object>> syncYogiyoReviews(
-            @RequestParam("hqCode") Integer hqCode) {
+            @RequestParam("hqCode") Integer hqCode,
+            @RequestParam(value = "fullResync", defaultValue = "false") boolean fullResync) {
         
         try {
             log.info("요기요 리뷰 동기화 API 호출 - 본사: {}", hqCode);
             
-            return platformReviewService.syncYogiyoReviews(hqCode);
+            return platformReviewService.syncYogiyoReviews(hqCode, fullResync);
             
         } catch (Exception e) {
             log.error("요기요 리뷰 동기화 API 오류", e);
@@ -61,12 +63,13 @@ public class PlatformReviewController {
      */
     @PostMapping("/sync/coupang")
     public RespDto<Map<String, Object>> syncCoupangReviews(
-            @RequestParam("hqCode") Integer hqCode) {
+            @RequestParam("hqCode") Integer hqCode,
+            @RequestParam(value = "fullResync", defaultValue = "false") boolean fullResync) {
         
         try {
             log.info("쿠팡이츠 리뷰 동기화 API 호출 - 본사: {}", hqCode);
             
-            return platformReviewService.syncCoupangReviews(hqCode);
+            return platformReviewService.syncCoupangReviews(hqCode, fullResync);
             
         } catch (Exception e) {
             log.error("쿠팡이츠 리뷰 동기화 API 오류", e);
@@ -80,12 +83,13 @@ public class PlatformReviewController {
      */
     @PostMapping("/sync/all")
     public RespDto<Map<String, Object>> syncAllReviews(
-            @RequestParam("hqCode") Integer hqCode) {
+            @RequestParam("hqCode") Integer hqCode,
+            @RequestParam(value = "fullResync", defaultValue = "false") boolean fullResync) {
         
         try {
             log.info("전체 플랫폼 리뷰 동기화 API 호출 - 본사: {}", hqCode);
             
-            return platformReviewService.syncAllReviews(hqCode);
+            return platformReviewService.syncAllReviews(hqCode, fullResync);
             
         } catch (Exception e) {
             log.error("전체 플랫폼 리뷰 동기화 API 오류", e);
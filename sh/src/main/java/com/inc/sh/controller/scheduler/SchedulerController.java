@@ -1,6 +1,9 @@
 package com.inc.sh.controller.scheduler;
 
 import com.inc.sh.common.dto.RespDto;
+import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
+import com.inc.sh.service.CustomerBalanceSnapshotService;
+import com.inc.sh.service.analysis.PublicDataCollectionJobService;
 import com.inc.sh.service.scheduler.PublicDataCollectionScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +17,8 @@ import org.springframework.web.bind.annotation.*;
 public class SchedulerController {
 
     private final PublicDataCollectionScheduler publicDataCollectionScheduler;
+    private final PublicDataCollectionJobService publicDataCollectionJobService;
+    private final CustomerBalanceSnapshotService customerBalanceSnapshotService;
 
     /**
      * 수동으로 공공데이터 수집 스케줄러 실행 (테스트용)
@@ -41,12 +46,54 @@ public class SchedulerController {
     }
 
     /**
-     * 스케줄러 상태 확인
+     * 스케줄러 상태 확인 (최근 스케줄러 수집 작업의 진행 상황)
      */
     @GetMapping("/status")
-    public ResponseEntity<RespDto<String>> getSchedulerStatus() {
+    public ResponseEntity<RespDto<PublicDataAnalysisRespDto.CollectionProgressResp>> getSchedulerStatus() {
+        try {
+            PublicDataAnalysisRespDto.CollectionProgressResp progress = publicDataCollectionJobService
+                    .getLatestJobProgress(PublicDataCollectionJobService.JOB_TYPE_SCHEDULER);
+
+            if (progress == null) {
+                return ResponseEntity.ok(
+                    RespDto.success("스케줄러 수집 이력이 없습니다 - 매월 1일 새벽 3시 자동 실행", null)
+                );
+            }
+            return ResponseEntity.ok(RespDto.success("스케줄러 상태 조회 성공", progress));
+
+        } catch (Exception e) {
+            log.error("스케줄러 상태 조회 실패", e);
+            return ResponseEntity.ok(
+                RespDto.fail("스케줄러 상태 조회 중 오류가 발생했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 거래처 잔액 스냅샷 수동 반영
+     * - full=false: 마지막 반영 이후 거래만 (스케줄러와 동일)
+     * - full=true: 원장 전체 재구축 (최초 적용/불일치 시)
+     */
+    @PostMapping("/balance-snapshot")
+    public ResponseEntity<RespDto<String>> refreshBalanceSnapshot(
+            @RequestParam(value = "full", defaultValue = "false") boolean full) {
+        log.info("거래처 잔액 스냅샷 수동 반영 요청 - 전체재구축: {}", full);
+
+        // 별도 스레드에서 실행 (응답 시간 단축)
+        new Thread(() -> {
+            try {
+                if (full) {
+                    customerBalanceSnapshotService.backfill();
+                } else {
+                    customerBalanceSnapshotService.refresh();
+                }
+            } catch (Exception e) {
+                log.error("거래처 잔액 스냅샷 수동 반영 실패", e);
+            }
+        }).start();
+
         return ResponseEntity.ok(
-            RespDto.success("스케줄러 상태 조회 성공", "활성화됨 - 매시간 0분에 자동 실행")
+            RespDto.success("거래처 잔액 스냅샷 반영이 시작되었습니다", full ? "전체 재구축 진행 중..." : "증분 반영 진행 중...")
         );
     }
-}
\ No newline at end of file
+}
@@ -16,4 +16,5 @@ public class AppTransactionHistoryReqDto {
     private String endTransactionDate;      // 종료 거래일자 (yyyyMMdd)
     private Integer page;                   // 페이지 번호 (0부터 시작)
     private Integer size;                   // 페이지 크기 (기본 10개)
+    private String cursor;                  // 다음 페이지 커서 (이전 응답의 nextCursor, 없으면 page 기준)
 }
\ No newline at end of file
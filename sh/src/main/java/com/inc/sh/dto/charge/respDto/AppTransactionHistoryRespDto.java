@@ -17,5 +17,6 @@ public class AppTransactionHistoryRespDto {
     private Integer currentPage;                            // 현재 페이지
     private Integer totalPages;                             // 총 페이지 수
     private Boolean hasNext;                                // 다음 페이지 여부
+    private String nextCursor;                              // 다음 페이지 커서 (hasNext=false면 null)
     private List<AppTransactionRespDto> transactions;       // 거래내역 목록
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.inc.sh.dto.platform.respDto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 import java.util.List;
@@ -92,6 +93,10 @@ public class HyphenReviewRespDto {
         
         // 리뷰 이미지
         private List<ReviewImage> reviewImgList;
+        
+        // 원본 응답의 개별 리뷰 JSON (역직렬화 후 채움, 재직렬화 대상 아님)
+        @JsonIgnore
+        private String rawJson;
     }
     
     @Getter
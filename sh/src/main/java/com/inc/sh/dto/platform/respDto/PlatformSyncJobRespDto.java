@@ -0,0 +1,27 @@
+package com.inc.sh.dto.platform.respDto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlatformSyncJobRespDto {
+
+    private String jobId;                   // 작업 ID
+    private Integer hqCode;                 // 본사코드
+    private String platform;                // 플랫폼 (배민/요기요/쿠팡이츠)
+    private Boolean fullResync;             // 전체 재동기화 여부
+    private String status;                  // 대기/진행중/완료/실패/취소
+    private String message;                 // 결과 메시지
+    private Integer totalStoreCount;        // 전체 매장수
+    private Integer completedStoreCount;    // 처리 매장수
+    private Integer failedStoreCount;       // 실패 매장수
+    private LocalDateTime submittedAt;      // 요청일시
+    private LocalDateTime startedAt;        // 시작일시
+    private LocalDateTime finishedAt;       // 종료일시
+
+}
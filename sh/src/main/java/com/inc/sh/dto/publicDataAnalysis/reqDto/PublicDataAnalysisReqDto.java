@@ -1,5 +1,6 @@
 package com.inc.sh.dto.publicDataAnalysis.reqDto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -34,9 +35,6 @@ public class PublicDataAnalysisReqDto {
         
         @Builder.Default
         private Integer retryCount = 3; // 재시도 횟수
-        
-        @Builder.Default
-        private Long delayMs = 100L; // API 호출 간 지연 시간 (ms)
     }
 
     /**
@@ -54,9 +52,6 @@ public class PublicDataAnalysisReqDto {
         
         @Builder.Default
         private Integer retryCount = 3; // 재시도 횟수
-        
-        @Builder.Default
-        private Long delayMs = 100L; // API 호출 간 지연 시간 (ms)
     }
 
     /**
@@ -80,14 +75,13 @@ public class PublicDataAnalysisReqDto {
         
         @Builder.Default
         private Integer retryCount = 3; // 재시도 횟수
-        
-        @Builder.Default
-        private Long delayMs = 100L; // API 호출 간 지연 시간 (ms)
     }
 
     /**
      * 통합 데이터 수집 요청 DTO
+     * - 작업 기록(request_json)에 저장되므로 이전에 저장된 필드(delayMs 등)는 무시하고 복원
      */
+    @JsonIgnoreProperties(ignoreUnknown = true)
     @Getter
     @Setter
     @NoArgsConstructor
@@ -115,9 +109,6 @@ public class PublicDataAnalysisReqDto {
         
         @Builder.Default
         private Integer retryCount = 3; // 재시도 횟수
-        
-        @Builder.Default
-        private Long delayMs = 100L; // API 호출 간 지연 시간 (ms)
     }
 
     /**
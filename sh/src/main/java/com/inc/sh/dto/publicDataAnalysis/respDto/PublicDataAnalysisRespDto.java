@@ -183,6 +183,26 @@ public class PublicDataAnalysisRespDto {
         }
     }
 
+    /**
+     * 분석 데이터 조회 캐시 통계 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CacheStatsResp {
+        private Integer size; // 스냅샷 행정동 수
+        private Integer missCacheSize; // 스냅샷 밖에서 조회해 보관 중인 동코드 수
+        private Long hitCount;
+        private Long missCount;
+        private Double hitRate; // 적중률 (%)
+        private Long evictionCount;
+        private Long loadCount; // 스냅샷 적재 횟수
+        private LocalDateTime lastLoadedAt;
+        private Long lastLoadMs;
+    }
+
     /**
      * 페이징 응답 DTO
      */
@@ -12,4 +12,5 @@ public class TransactionStatementExcelReqDto {
     
     private List<String> orderNumbers;  // 주문번호 리스트 (필수)
     private Integer hqCode;             // 본사코드 (필수)
+    private Boolean singleFile;         // true: 여러 주문을 엑셀 1개(주문별 시트)로 출력 (선택, 기본: 주문별 파일 ZIP)
 }
\ No newline at end of file
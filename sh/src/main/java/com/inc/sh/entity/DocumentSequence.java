@@ -0,0 +1,42 @@
+package com.inc.sh.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "document_sequence", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_document_sequence_type_date", columnNames = {"seq_type", "seq_date"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentSequence {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sequence_code")
+    private Integer sequenceCode;
+    
+    @Column(name = "seq_type", length = 50, nullable = false)
+    private String seqType; // ORDER, RETURN, TRANSFER
+    
+    @Column(name = "seq_date", length = 8, nullable = false)
+    private String seqDate; // YYYYMMDD
+    
+    @Column(name = "last_value", nullable = false)
+    private Long lastValue; // 마지막으로 할당된 블록의 끝 번호
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
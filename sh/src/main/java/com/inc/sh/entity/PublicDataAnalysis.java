@@ -10,11 +10,14 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * 공공데이터 분석 엔티티
+ * - 매출/소득소비/업소수인구 수집이 같은 행의 서로 다른 컬럼을 동시에 갱신하므로 변경된 컬럼만 UPDATE
  */
 @Entity
+@DynamicUpdate
 @Table(name = "public_data_analysis",
        uniqueConstraints = @UniqueConstraint(columnNames = "adminDongCode"))
 @Getter
@@ -61,6 +61,12 @@ public class StorePlatforms {
     @Column(name = "last_synced_at", length = 250)
     private String lastSyncedAt;
 
+    @Column(name = "order_synced_at", length = 250)
+    private String orderSyncedAt; // 주문 증분 동기화 기준시각 (yyyy-MM-dd HH:mm:ss, 마지막 성공 동기화 시작시각)
+
+    @Column(name = "review_synced_at", length = 250)
+    private String reviewSyncedAt; // 리뷰 증분 동기화 기준시각 (yyyy-MM-dd HH:mm:ss, 마지막 성공 동기화 시작시각)
+
     @Column(name = "description", length = 250)
     private String description;
 
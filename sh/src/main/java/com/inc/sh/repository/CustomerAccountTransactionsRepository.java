@@ -85,20 +85,6 @@ public interface CustomerAccountTransactionsRepository extends JpaRepository<Cus
         @Param("adjustmentDateEnd") String adjustmentDateEnd
     );
 
-    /**
-     * 거래처별 전일잔액 조회 (시작일 이전 최근 잔액)
-     */
-    @Query(value = "SELECT customer_code, balance_after " +
-           "FROM customer_account_transactions " +
-           "WHERE customer_code = :customerCode " +
-           "AND transaction_date < :startDate " +
-           "ORDER BY transaction_date DESC, transaction_code DESC " +
-           "LIMIT 1", nativeQuery = true)
-    Object[] findPreviousBalanceByCustomerCode(
-        @Param("customerCode") Integer customerCode,
-        @Param("startDate") String startDate
-    );
-
     /**
      * 거래처별 기간 내 거래 집계 조회
      */
@@ -144,28 +130,48 @@ public interface CustomerAccountTransactionsRepository extends JpaRepository<Cus
     );
 
     /**
-     * 전체 거래처별 기간 내 거래 집계 조회 (본사별)
+     * [앱전용] 거래처별 거래내역 페이지 + 기간 합계 조회 (1회 조회)
+     * - (customer_code, transaction_date, transaction_code) 키셋 페이징 (같은 일자는 등록순 = 거래코드순, created_at은 NULL일 수 있어 키에서 제외)
+     * - 커서가 없으면 :offset 기준으로 첫 페이지부터 조회
+     * - 합계행(s)에 페이지행(t)을 붙여서 반환하므로 페이지가 비어도 합계 1행은 항상 반환됨
+     * 반환 컬럼: transaction_code, transaction_date, transaction_type, amount, balance_after, created_at,
+     *           total_deposit, total_order, total_adjustment, total_return, total_count
      */
     @Query(value = "SELECT " +
-           "cat.customer_code, " +
-           "c.customer_name, " +
-           "c.credit_limit, " +
-           "SUM(CASE WHEN cat.transaction_type IN ('출금', '외상') THEN ABS(cat.amount) ELSE 0 END) as sales_amount, " +
-           "SUM(CASE WHEN cat.transaction_type = '반품입금' THEN cat.amount ELSE 0 END) as return_amount, " +
-           "SUM(CASE WHEN cat.transaction_type = '입금' THEN cat.amount ELSE 0 END) as deposit_amount, " +
-           "SUM(CASE WHEN cat.transaction_type = '조정' THEN cat.amount ELSE 0 END) as adjustment_amount " +
-           "FROM customer_account_transactions cat " +
-           "JOIN customer c ON cat.customer_code = c.customer_code " +
-           "WHERE cat.transaction_date >= :startDate " +
-           "AND cat.transaction_date <= :endDate " +
-           "AND (:customerCode IS NULL OR cat.customer_code = :customerCode) " +
-           "AND c.hq_code = :hqCode " +
-           "GROUP BY cat.customer_code, c.customer_name, c.credit_limit " +
-           "ORDER BY cat.customer_code", nativeQuery = true)
-    List<Object[]> findAllCustomerTransactionSummaryWithHqCode(
+           "t.transaction_code, t.transaction_date, t.transaction_type, t.amount, t.balance_after, t.created_at, " +
+           "s.total_deposit, s.total_order, s.total_adjustment, s.total_return, s.total_count " +
+           "FROM (" +
+           "  SELECT " +
+           "  COALESCE(SUM(CASE WHEN transaction_type = '입금' THEN amount ELSE 0 END), 0) as total_deposit, " +
+           "  COALESCE(SUM(CASE WHEN transaction_type = '출금' THEN ABS(amount) ELSE 0 END), 0) as total_order, " +
+           "  COALESCE(SUM(CASE WHEN transaction_type = '조정' THEN amount ELSE 0 END), 0) as total_adjustment, " +
+           "  COALESCE(SUM(CASE WHEN transaction_type = '반품입금' THEN amount ELSE 0 END), 0) as total_return, " +
+           "  COUNT(*) as total_count " +
+           "  FROM customer_account_transactions " +
+           "  WHERE customer_code = :customerCode " +
+           "  AND transaction_date >= :startDate " +
+           "  AND transaction_date <= :endDate" +
+           ") s " +
+           "LEFT JOIN (" +
+           "  SELECT transaction_code, transaction_date, transaction_type, amount, balance_after, created_at " +
+           "  FROM customer_account_transactions " +
+           "  WHERE customer_code = :customerCode " +
+           "  AND transaction_date >= :startDate " +
+           "  AND transaction_date <= :endDate " +
+           "  AND (:cursorDate IS NULL " +
+           "       OR transaction_date < :cursorDate " +
+           "       OR (transaction_date = :cursorDate AND transaction_code < :cursorCode)) " +
+           "  ORDER BY transaction_date DESC, transaction_code DESC " +
+           "  LIMIT :limit OFFSET :offset" +
+           ") t ON 1 = 1 " +
+           "ORDER BY t.transaction_date DESC, t.transaction_code DESC", nativeQuery = true)
+    List<Object[]> findAppTransactionPageWithSummary(
+        @Param("customerCode") Integer customerCode,
         @Param("startDate") String startDate,
         @Param("endDate") String endDate,
-        @Param("customerCode") Integer customerCode,
-        @Param("hqCode") Integer hqCode
+        @Param("cursorDate") String cursorDate,
+        @Param("cursorCode") Integer cursorCode,
+        @Param("limit") int limit,
+        @Param("offset") int offset
     );
 }
\ No newline at end of file
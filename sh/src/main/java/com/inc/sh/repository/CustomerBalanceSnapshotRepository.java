@@ -0,0 +1,155 @@
+package com.inc.sh.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래처 일별 마감잔액 스냅샷(customer_balance_daily) JDBC Repository
+ * - (거래처, 거래일자)별로 그날 마지막 거래(transaction_code 최대)의 거래 후 잔액을 저장 (거래 있는 날만)
+ * - 하루치 값은 그날 거래만으로 정해지므로 새로 들어온 거래코드 범위에 포함된 (거래처, 일자)만 다시 계산
+ * - 스냅샷 반영 기준 거래코드 = MAX(last_transaction_code), 반영 시점에 커밋 전이던 거래가 있을 수 있으므로
+ *   조회 시 증분 반영과 같은 구간(반영 기준 - overlapCodes 이후)을 원장에서 직접 읽음
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerBalanceSnapshotRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 스냅샷에 반영된 마지막 거래코드 (없으면 0)
+     */
+    public int findProcessedTransactionCode() {
+        Integer code = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(last_transaction_code), 0) FROM customer_balance_daily", Integer.class);
+        return code != null ? code : 0;
+    }
+
+    /**
+     * 원장의 마지막 거래코드 (없으면 0)
+     */
+    public int findMaxTransactionCode() {
+        Integer code = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(transaction_code), 0) FROM customer_account_transactions", Integer.class);
+        return code != null ? code : 0;
+    }
+
+    /**
+     * 거래코드 (fromExclusive, toInclusive] 범위에 거래가 있는 (거래처, 일자)의 마감잔액 재계산
+     * - 같은 날의 기존 거래도 함께 보고 toInclusive 이하 마지막 거래로 갱신
+     * @return 반영 행 수
+     */
+    public int upsertDaysTouchedBetween(int fromExclusive, int toInclusive) {
+        String sql = "INSERT INTO customer_balance_daily " +
+                "(customer_code, balance_date, closing_balance, last_transaction_code, updated_at) " +
+                "SELECT t.customer_code, t.transaction_date, t.balance_after, t.transaction_code, CURRENT_TIMESTAMP " +
+                "FROM customer_account_transactions t " +
+                "JOIN (" +
+                "SELECT a.customer_code, a.transaction_date, MAX(a.transaction_code) AS last_code " +
+                "FROM customer_account_transactions a " +
+                "JOIN (" +
+                "SELECT DISTINCT customer_code, transaction_date FROM customer_account_transactions " +
+                "WHERE transaction_code > ? AND transaction_code <= ?" +
+                ") d ON a.customer_code = d.customer_code AND a.transaction_date = d.transaction_date " +
+                "WHERE a.transaction_code <= ? " +
+                "GROUP BY a.customer_code, a.transaction_date" +
+                ") m ON t.transaction_code = m.last_code " +
+                "ON DUPLICATE KEY UPDATE " +
+                "closing_balance = VALUES(closing_balance), " +
+                "last_transaction_code = VALUES(last_transaction_code), " +
+                "updated_at = VALUES(updated_at)";
+        return jdbcTemplate.update(sql, fromExclusive, toInclusive, toInclusive);
+    }
+
+    /**
+     * (거래처, 일자) 1건 재계산 (거래 수정/삭제 시)
+     * - 반영 기준 거래코드 이하 거래만 사용 (이후 거래는 다음 증분 반영 대상)
+     * - 남은 거래가 없으면 행 삭제
+     */
+    public void refreshDay(Integer customerCode, String balanceDate, int maxTransactionCode) {
+        jdbcTemplate.update("DELETE FROM customer_balance_daily WHERE customer_code = ? AND balance_date = ?",
+                customerCode, balanceDate);
+        jdbcTemplate.update("INSERT INTO customer_balance_daily " +
+                "(customer_code, balance_date, closing_balance, last_transaction_code, updated_at) " +
+                "SELECT customer_code, transaction_date, balance_after, transaction_code, CURRENT_TIMESTAMP " +
+                "FROM customer_account_transactions " +
+                "WHERE customer_code = ? AND transaction_date = ? AND transaction_code <= ? " +
+                "ORDER BY transaction_code DESC LIMIT 1",
+                customerCode, balanceDate, maxTransactionCode);
+    }
+
+    /**
+     * 거래가 남아있지 않은 날의 스냅샷 삭제 (전체 재구축 후 정리)
+     */
+    public int deleteDaysWithoutTransactions() {
+        return jdbcTemplate.update("DELETE FROM customer_balance_daily " +
+                "WHERE NOT EXISTS (SELECT 1 FROM customer_account_transactions t " +
+                "WHERE t.customer_code = customer_balance_daily.customer_code " +
+                "AND t.transaction_date = customer_balance_daily.balance_date)");
+    }
+
+    /**
+     * 기준일 이전 거래처별 최종 잔액 (기준일 전날 마감잔액)
+     * - 스냅샷: 거래처별 기준일 이전 마지막 마감잔액과 그날 마지막 거래코드
+     * - 원장: 반영 기준 - overlapCodes 이후 거래 중 기준일 이전 거래 (반영 기준 거래코드는 먼저 1회 조회, PK 범위 조회)
+     *   반영 후 늦게 커밋된 낮은 거래코드도 포함
+     * - 일자가 가장 늦은 값 사용, 같은 일자면 거래코드가 큰 값 사용 (이미 반영된 거래는 스냅샷과 같은 값)
+     * - 이전 거래 없는 거래처는 결과에 없음
+     * @param customerCode 거래처코드 (null: 본사 전체)
+     * @param overlapCodes 증분 반영과 같은 재확인 거래코드 수
+     */
+    public Map<Integer, Integer> findBalancesBefore(Integer hqCode, Integer customerCode, String beforeDate, int overlapCodes) {
+        List<Object> params = new ArrayList<>();
+        params.add(beforeDate);
+
+        StringBuilder snapshotWhere = new StringBuilder("WHERE c.hq_code = ? ");
+        params.add(hqCode);
+        if (customerCode != null) {
+            snapshotWhere.append("AND c.customer_code = ? ");
+            params.add(customerCode);
+        }
+
+        StringBuilder tailWhere = new StringBuilder("WHERE cat.transaction_code > ? AND c.hq_code = ? AND cat.transaction_date < ? ");
+        params.add(Math.max(0, findProcessedTransactionCode() - overlapCodes));
+        params.add(hqCode);
+        params.add(beforeDate);
+        if (customerCode != null) {
+            tailWhere.append("AND cat.customer_code = ? ");
+            params.add(customerCode);
+        }
+
+        String sql = "SELECT c.customer_code, b.last_transaction_code AS transaction_code, " +
+                "b.balance_date, b.closing_balance AS balance " +
+                "FROM customer c " +
+                "JOIN customer_balance_daily b ON b.customer_code = c.customer_code " +
+                "AND b.balance_date = (SELECT MAX(p.balance_date) FROM customer_balance_daily p " +
+                "WHERE p.customer_code = c.customer_code AND p.balance_date < ?) " +
+                snapshotWhere +
+                "UNION ALL " +
+                "SELECT cat.customer_code, cat.transaction_code, cat.transaction_date, cat.balance_after " +
+                "FROM customer_account_transactions cat " +
+                "JOIN customer c ON cat.customer_code = c.customer_code " +
+                tailWhere;
+
+        Map<Integer, Object[]> latest = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            Object[] row = {rs.getString("balance_date"), rs.getInt("transaction_code"), rs.getInt("balance")};
+            latest.merge(rs.getInt("customer_code"), row, (current, candidate) -> isLater(candidate, current) ? candidate : current);
+        }, params.toArray());
+
+        Map<Integer, Integer> balances = new HashMap<>();
+        latest.forEach((code, row) -> balances.put(code, (Integer) row[2]));
+        return balances;
+    }
+
+    private static boolean isLater(Object[] candidate, Object[] current) {
+        int byDate = ((String) candidate[0]).compareTo((String) current[0]);
+        return byDate != 0 ? byDate > 0 : (Integer) candidate[1] > (Integer) current[1];
+    }
+}
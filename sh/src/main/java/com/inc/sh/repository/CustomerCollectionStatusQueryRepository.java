@@ -0,0 +1,80 @@
+package com.inc.sh.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래처별잔액현황 조회 JDBC Repository
+ * - 기간 내 거래가 있는 거래처별 거래유형 합계를 쿼리 1회로 조회
+ * - 전일잔액은 거래처 일별 마감잔액 스냅샷에서 별도 1회 조회 (CustomerBalanceSnapshotRepository)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerCollectionStatusQueryRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 거래처 1행 (금액은 거래유형별 합계, 없으면 0)
+     */
+    @Getter
+    @Builder
+    public static class CollectionStatusRow {
+        private Integer customerCode;
+        private String customerName;
+        private int creditLimit;
+        private int salesAmount;        // 출금 + 외상 (절대값)
+        private int returnAmount;       // 반품입금
+        private int depositAmount;      // 입금
+        private int adjustmentAmount;   // 조정
+    }
+
+    /**
+     * 기간 내 거래가 있는 거래처별 집계 조회 (거래처코드 순)
+     * @param customerCode 거래처코드 (null: 전체)
+     */
+    public List<CollectionStatusRow> findCollectionStatus(Integer hqCode, String startDate, String endDate,
+                                                          Integer customerCode) {
+        List<Object> params = new ArrayList<>();
+
+        StringBuilder periodWhere = new StringBuilder("WHERE c.hq_code = ? AND cat.transaction_date >= ? AND cat.transaction_date <= ? ");
+        params.add(hqCode);
+        params.add(startDate);
+        params.add(endDate);
+        if (customerCode != null) {
+            periodWhere.append("AND cat.customer_code = ? ");
+            params.add(customerCode);
+        }
+
+        String sql = "SELECT s.customer_code, s.customer_name, s.credit_limit, " +
+                "s.sales_amount, s.return_amount, s.deposit_amount, s.adjustment_amount " +
+                "FROM (" +
+                "SELECT cat.customer_code, c.customer_name, c.credit_limit, " +
+                "COALESCE(SUM(CASE WHEN cat.transaction_type IN ('출금', '외상') THEN ABS(cat.amount) ELSE 0 END), 0) AS sales_amount, " +
+                "COALESCE(SUM(CASE WHEN cat.transaction_type = '반품입금' THEN cat.amount ELSE 0 END), 0) AS return_amount, " +
+                "COALESCE(SUM(CASE WHEN cat.transaction_type = '입금' THEN cat.amount ELSE 0 END), 0) AS deposit_amount, " +
+                "COALESCE(SUM(CASE WHEN cat.transaction_type = '조정' THEN cat.amount ELSE 0 END), 0) AS adjustment_amount " +
+                "FROM customer_account_transactions cat " +
+                "JOIN customer c ON cat.customer_code = c.customer_code " +
+                periodWhere +
+                "GROUP BY cat.customer_code, c.customer_name, c.credit_limit" +
+                ") s " +
+                "ORDER BY s.customer_code";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> CollectionStatusRow.builder()
+                .customerCode(rs.getInt("customer_code"))
+                .customerName(rs.getString("customer_name"))
+                .creditLimit(rs.getInt("credit_limit"))
+                .salesAmount(rs.getInt("sales_amount"))
+                .returnAmount(rs.getInt("return_amount"))
+                .depositAmount(rs.getInt("deposit_amount"))
+                .adjustmentAmount(rs.getInt("adjustment_amount"))
+                .build(), params.toArray());
+    }
+}
@@ -0,0 +1,229 @@
+package com.inc.sh.repository;
+
+import com.inc.sh.dto.customerLedger.reqDto.CustomerLedgerSummarySearchDto;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 거래처별원장 조회 JDBC Repository
+ * - 주문(배송요청)/배송(배송중, 배송완료)/반품을 (구분, 일자, 거래처, 품목) 단위로 쿼리 1회에 집계
+ * - 주문/배송은 같은 order + order_item 조인을 한 번만 읽고 주문상태로 구분
+ * - 주문 헤더 금액(집계 화면용)은 주문의 첫 품목 행에만 반영해 품목 수만큼 중복 합산되지 않도록 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerLedgerQueryRepository {
+
+    public static final String ORDER_TYPE_ORDER = "주문";
+    public static final String ORDER_TYPE_DELIVERY = "배송";
+    public static final String ORDER_TYPE_RETURN = "반품";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (구분, 일자, 거래처, 품목) 단위 집계 1행
+     * - qty ~ totalAmt: 품목(order_item / return) 합계
+     * - header*: 주문 헤더 합계 (반품은 반품 합계, 면세공급가 0)
+     * - itemRow: 품목 행 여부 (품목 없는 주문 헤더만 있는 행은 false)
+     */
+    @Getter
+    @Builder
+    public static class LedgerRow {
+        private String orderType;
+        private String ledgerDate;
+        private Integer customerCode;
+        private String customerName;
+        private String brandName;
+        private String telNum;
+        private Integer itemCode;
+        private String itemName;
+        private String specification;
+        private String unit;
+        private boolean itemRow;
+        private long qty;
+        private long supplyAmt;
+        private long vatAmt;
+        private long totalAmt;
+        private long headerQty;
+        private long headerTaxFreeAmt;
+        private long headerTaxableAmt;
+        private long headerSupplyAmt;
+        private long headerVatAmt;
+        private long headerTotalAmt;
+    }
+
+    /**
+     * 원장 집계 행 조회 (결과를 목록으로 쌓지 않고 행마다 consumer로 전달)
+     * @param orderTypes 조회할 구분 (주문/배송/반품)
+     */
+    public void streamLedgerRows(CustomerLedgerSummarySearchDto searchDto, Collection<String> orderTypes,
+                                 Consumer<LedgerRow> consumer) {
+        List<String> parts = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        List<String> deliveryStatuses = new ArrayList<>();
+        if (orderTypes.contains(ORDER_TYPE_ORDER)) {
+            deliveryStatuses.add("'배송요청'");
+        }
+        if (orderTypes.contains(ORDER_TYPE_DELIVERY)) {
+            deliveryStatuses.add("'배송중'");
+            deliveryStatuses.add("'배송완료'");
+        }
+        if (!deliveryStatuses.isEmpty()) {
+            parts.add(orderSql(searchDto, String.join(", ", deliveryStatuses), params));
+        }
+        if (orderTypes.contains(ORDER_TYPE_RETURN)) {
+            parts.add(returnSql(searchDto, params));
+        }
+        if (parts.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.query(String.join(" UNION ALL ", parts), rs -> {
+            consumer.accept(LedgerRow.builder()
+                    .orderType(rs.getString("order_type"))
+                    .ledgerDate(rs.getString("ledger_date"))
+                    .customerCode(rs.getObject("customer_code", Integer.class))
+                    .customerName(rs.getString("customer_name"))
+                    .brandName(rs.getString("brand_name"))
+                    .telNum(rs.getString("tel_num"))
+                    .itemCode(rs.getObject("item_code", Integer.class))
+                    .itemName(rs.getString("item_name"))
+                    .specification(rs.getString("specification"))
+                    .unit(rs.getString("unit"))
+                    .itemRow(rs.getInt("item_row") == 1)
+                    .qty(rs.getLong("qty"))
+                    .supplyAmt(rs.getLong("supply_amt"))
+                    .vatAmt(rs.getLong("vat_amt"))
+                    .totalAmt(rs.getLong("total_amt"))
+                    .headerQty(rs.getLong("header_qty"))
+                    .headerTaxFreeAmt(rs.getLong("header_tax_free_amt"))
+                    .headerTaxableAmt(rs.getLong("header_taxable_amt"))
+                    .headerSupplyAmt(rs.getLong("header_supply_amt"))
+                    .headerVatAmt(rs.getLong("header_vat_amt"))
+                    .headerTotalAmt(rs.getLong("header_total_amt"))
+                    .build());
+        }, params.toArray());
+    }
+
+    /**
+     * 주문/배송 집계 (order + order_item 1회 조인)
+     * - 품목 조건이 없으면 품목 없는 주문도 헤더 금액에 포함되도록 LEFT JOIN
+     * - 품목 조건이 있으면 해당 품목이 있는 주문만, 헤더 금액은 주문당 1회
+     */
+    private String orderSql(CustomerLedgerSummarySearchDto searchDto, String deliveryStatuses, List<Object> params) {
+        StringBuilder join = new StringBuilder();
+        if (searchDto.getItemCode() != null) {
+            join.append("JOIN order_item oi ON oi.order_no = o.order_no AND oi.item_code = ? ");
+            params.add(searchDto.getItemCode());
+        } else {
+            join.append("LEFT JOIN order_item oi ON oi.order_no = o.order_no ");
+        }
+
+        StringBuilder where = new StringBuilder("WHERE o.hq_code = ? AND o.delivery_status IN (" + deliveryStatuses + ") ");
+        params.add(searchDto.getHqCode());
+        appendCommonConditions(where, params, searchDto, "o.delivery_request_dt", "o.customer_code");
+
+        return "SELECT t.order_type, t.ledger_date, t.customer_code, t.customer_name, t.brand_name, t.tel_num, " +
+                "t.item_code, t.item_name, t.specification, t.unit, " +
+                "MAX(CASE WHEN t.order_item_code IS NULL THEN 0 ELSE 1 END) AS item_row, " +
+                "COALESCE(SUM(t.order_qty), 0) AS qty, " +
+                "COALESCE(SUM(t.supply_amt), 0) AS supply_amt, " +
+                "COALESCE(SUM(t.vat_amt), 0) AS vat_amt, " +
+                "COALESCE(SUM(t.total_amt), 0) AS total_amt, " +
+                headerSum("h_total_qty") + " AS header_qty, " +
+                headerSum("h_tax_free_amt") + " AS header_tax_free_amt, " +
+                headerSum("h_taxable_amt") + " AS header_taxable_amt, " +
+                headerSum("h_supply_amt") + " AS header_supply_amt, " +
+                headerSum("h_vat_amt") + " AS header_vat_amt, " +
+                headerSum("h_total_amt") + " AS header_total_amt " +
+                "FROM (" +
+                "SELECT CASE WHEN o.delivery_status = '배송요청' THEN '" + ORDER_TYPE_ORDER + "' " +
+                "ELSE '" + ORDER_TYPE_DELIVERY + "' END AS order_type, " +
+                "o.delivery_request_dt AS ledger_date, o.customer_code, o.customer_name, b.brand_name, c.tel_num, " +
+                "oi.order_item_code, oi.item_code, oi.item_name, oi.specification, oi.unit, " +
+                "oi.order_qty, oi.supply_amt, oi.vat_amt, oi.total_amt, " +
+                "o.total_qty AS h_total_qty, o.tax_free_amt AS h_tax_free_amt, o.taxable_amt AS h_taxable_amt, " +
+                "o.supply_amt AS h_supply_amt, o.vat_amt AS h_vat_amt, o.total_amt AS h_total_amt, " +
+                "ROW_NUMBER() OVER (PARTITION BY o.order_no ORDER BY oi.order_item_code) AS item_seq " +
+                "FROM `order` o " +
+                join +
+                "JOIN customer c ON o.customer_code = c.customer_code " +
+                "JOIN brand_info b ON c.brand_code = b.brand_code " +
+                where +
+                ") t " +
+                "GROUP BY t.order_type, t.ledger_date, t.customer_code, t.customer_name, t.brand_name, t.tel_num, " +
+                "t.item_code, t.item_name, t.specification, t.unit";
+    }
+
+    /**
+     * 반품 집계 (반품 품목 금액 = 헤더 금액, 면세공급가 0)
+     */
+    private String returnSql(CustomerLedgerSummarySearchDto searchDto, List<Object> params) {
+        StringBuilder where = new StringBuilder("WHERE o.hq_code = ? ");
+        params.add(searchDto.getHqCode());
+        appendCommonConditions(where, params, searchDto, "r.return_request_dt", "r.return_customer_code");
+        if (searchDto.getItemCode() != null) {
+            where.append("AND r.item_code = ? ");
+            params.add(searchDto.getItemCode());
+        }
+
+        return "SELECT '" + ORDER_TYPE_RETURN + "' AS order_type, r.return_request_dt AS ledger_date, " +
+                "r.return_customer_code AS customer_code, r.return_customer_name AS customer_name, " +
+                "b.brand_name, c.tel_num, r.item_code, r.item_name, r.specification, r.unit, " +
+                "1 AS item_row, " +
+                "COALESCE(SUM(r.qty), 0) AS qty, " +
+                "COALESCE(SUM(r.supply_price), 0) AS supply_amt, " +
+                "COALESCE(SUM(r.vat_amt), 0) AS vat_amt, " +
+                "COALESCE(SUM(r.total_amt), 0) AS total_amt, " +
+                "COALESCE(SUM(r.qty), 0) AS header_qty, " +
+                "0 AS header_tax_free_amt, " +
+                "COALESCE(SUM(r.supply_price), 0) AS header_taxable_amt, " +
+                "COALESCE(SUM(r.supply_price), 0) AS header_supply_amt, " +
+                "COALESCE(SUM(r.vat_amt), 0) AS header_vat_amt, " +
+                "COALESCE(SUM(r.total_amt), 0) AS header_total_amt " +
+                "FROM `return` r " +
+                "JOIN customer c ON r.return_customer_code = c.customer_code " +
+                "JOIN brand_info b ON c.brand_code = b.brand_code " +
+                "JOIN `order` o ON r.order_no = o.order_no " +
+                where +
+                "GROUP BY r.return_request_dt, r.return_customer_code, r.return_customer_name, b.brand_name, c.tel_num, " +
+                "r.item_code, r.item_name, r.specification, r.unit";
+    }
+
+    private static String headerSum(String column) {
+        return "SUM(CASE WHEN t.item_seq = 1 THEN COALESCE(t." + column + ", 0) ELSE 0 END)";
+    }
+
+    /**
+     * 기간/브랜드/거래처 조건 (값이 있는 조건만 추가)
+     */
+    private static void appendCommonConditions(StringBuilder where, List<Object> params,
+                                               CustomerLedgerSummarySearchDto searchDto,
+                                               String dateColumn, String customerColumn) {
+        if (searchDto.getDeliveryRequestDtStart() != null) {
+            where.append("AND ").append(dateColumn).append(" >= ? ");
+            params.add(searchDto.getDeliveryRequestDtStart());
+        }
+        if (searchDto.getDeliveryRequestDtEnd() != null) {
+            where.append("AND ").append(dateColumn).append(" <= ? ");
+            params.add(searchDto.getDeliveryRequestDtEnd());
+        }
+        if (searchDto.getBrandCode() != null) {
+            where.append("AND c.brand_code = ? ");
+            params.add(searchDto.getBrandCode());
+        }
+        if (searchDto.getCustomerCode() != null) {
+            where.append("AND ").append(customerColumn).append(" = ? ");
+            params.add(searchDto.getCustomerCode());
+        }
+    }
+}
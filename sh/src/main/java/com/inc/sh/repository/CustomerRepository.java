@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,6 +19,11 @@ public interface CustomerRepository extends JpaRepository<Customer, Integer>, Jp
      */
     Customer findByCustomerCode(Integer customerCode);
     
+    /**
+     * 거래처코드 목록으로 일괄 조회
+     */
+    List<Customer> findByCustomerCodeIn(Collection<Integer> customerCodes);
+    
     /**
      * 거래처코드 존재 여부 확인
      */
@@ -219,7 +225,27 @@ public interface CustomerRepository extends JpaRepository<Customer, Integer>, Jp
     							  @Param("virtualAccountCode") Integer virtualAccountCode,
                                   @Param("virtualAccountNum") String virtualAccountNum,
                                   @Param("bankName") String bankName);
-    
+
+    /**
+     * 거래처 잔액 원자적 증감
+     * - allowNegative가 0이면 증감 후 잔액이 음수가 되는 경우 갱신하지 않음
+     * @return 갱신된 행 수 (0이면 거래처 없음 또는 잔액 부족)
+     */
+    @Modifying
+    @Query(value = "UPDATE customer " +
+           "SET balance_amt = balance_amt + :delta, updated_at = NOW() " +
+           "WHERE customer_code = :customerCode " +
+           "AND (:allowNegative = 1 OR balance_amt + :delta >= 0)", nativeQuery = true)
+    int addBalanceAmt(@Param("customerCode") Integer customerCode,
+                      @Param("delta") Integer delta,
+                      @Param("allowNegative") Integer allowNegative);
+
+    /**
+     * 거래처 현재 잔액 조회 (영속성 컨텍스트를 거치지 않는 DB 값)
+     */
+    @Query(value = "SELECT balance_amt FROM customer WHERE customer_code = :customerCode", nativeQuery = true)
+    Integer findBalanceAmtByCustomerCode(@Param("customerCode") Integer customerCode);
+
     /**
      * 팝업용 거래처 검색 (기존 메서드 - 조인 없음)
      * @param customerCode 거래처코드 (부분일치, null 가능)
@@ -0,0 +1,134 @@
+package com.inc.sh.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일별 매출 집계(daily_sales_summary) JDBC 배치 Repository
+ * - (매장, 집계일자) 단위 행에 동기화로 새로 저장된 주문분만 누적 (UNIQUE KEY store_platform_code, summary_date)
+ * - 누락/불일치 시 rebuild로 원본 주문에서 기간 단위로 다시 집계
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailySalesSummaryBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String DESCRIPTION = "하이픈 API 자동 집계";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 매장/일자 단위 누적분
+     */
+    @Getter
+    @Builder
+    public static class DailySalesDelta {
+        private Integer storePlatformCode;
+        private Integer customerCode;
+        private Integer brandCode;
+        private String platform;
+        private String summaryDate; // YYYY-MM-DD
+        private Integer orderCount;
+        private Integer orderAmount;
+        private Integer deliveryAmount;
+        private Integer discountAmount;
+        private Integer fee;
+    }
+
+    /**
+     * 신규 주문분 누적 (없으면 생성)
+     * - 정산금액은 기존 집계와 같이 주문금액으로 누적
+     */
+    public void batchAccumulate(List<DailySalesDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO daily_sales_summary (" +
+                "store_platform_code, customer_code, brand_code, platform, summary_date, order_count, " +
+                "total_order_amount, total_settle_amount, total_delivery_amount, total_discount_amount, total_fee, " +
+                "description, created_at, updated_at" +
+                ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE " +
+                "order_count = order_count + ?, total_order_amount = total_order_amount + ?, " +
+                "total_settle_amount = total_settle_amount + ?, total_delivery_amount = total_delivery_amount + ?, " +
+                "total_discount_amount = total_discount_amount + ?, total_fee = total_fee + ?, " +
+                "customer_code = ?, brand_code = ?, updated_at = ?";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(sql, deltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setObject(1, delta.getStorePlatformCode());
+            ps.setObject(2, delta.getCustomerCode());
+            ps.setObject(3, delta.getBrandCode());
+            ps.setString(4, delta.getPlatform());
+            ps.setString(5, delta.getSummaryDate());
+            ps.setObject(6, delta.getOrderCount());
+            ps.setObject(7, delta.getOrderAmount());
+            ps.setObject(8, delta.getOrderAmount());
+            ps.setObject(9, delta.getDeliveryAmount());
+            ps.setObject(10, delta.getDiscountAmount());
+            ps.setObject(11, delta.getFee());
+            ps.setString(12, DESCRIPTION);
+            ps.setTimestamp(13, now);
+            ps.setTimestamp(14, now);
+            ps.setObject(15, delta.getOrderCount());
+            ps.setObject(16, delta.getOrderAmount());
+            ps.setObject(17, delta.getOrderAmount());
+            ps.setObject(18, delta.getDeliveryAmount());
+            ps.setObject(19, delta.getDiscountAmount());
+            ps.setObject(20, delta.getFee());
+            ps.setObject(21, delta.getCustomerCode());
+            ps.setObject(22, delta.getBrandCode());
+            ps.setTimestamp(23, now);
+        });
+    }
+
+    /**
+     * 시작일 이후 일별 집계를 원본 주문에서 다시 집계 (brandCode가 null이면 전체 브랜드)
+     * @param startDate 시작일 (YYYY-MM-DD)
+     * @return 생성된 집계 행 수
+     */
+    public int rebuild(Integer brandCode, String startDate) {
+        List<Object> deleteParams = new ArrayList<>(List.of(startDate));
+        if (brandCode != null) {
+            deleteParams.add(brandCode);
+        }
+        jdbcTemplate.update("DELETE FROM daily_sales_summary WHERE summary_date >= ?" +
+                (brandCode == null ? "" : " AND brand_code = ?"),
+                deleteParams.toArray());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> insertParams = new ArrayList<>(List.of(DESCRIPTION, now, now, startDate.replace("-", "")));
+        if (brandCode != null) {
+            insertParams.add(brandCode);
+        }
+
+        // 주문날짜 YYYYMMDD → 집계일자 YYYY-MM-DD
+        String summaryDate = "CONCAT(SUBSTRING(op.order_date, 1, 4), '-', SUBSTRING(op.order_date, 5, 2), '-', " +
+                "SUBSTRING(op.order_date, 7, 2))";
+
+        return jdbcTemplate.update("INSERT INTO daily_sales_summary (" +
+                        "store_platform_code, customer_code, brand_code, platform, summary_date, order_count, " +
+                        "total_order_amount, total_settle_amount, total_delivery_amount, total_discount_amount, total_fee, " +
+                        "description, created_at, updated_at) " +
+                        "SELECT op.store_platform_code, MAX(op.customer_code), MAX(op.brand_code), MAX(op.platform), " +
+                        summaryDate + ", " +
+                        "COUNT(*), COALESCE(SUM(op.order_amount), 0), COALESCE(SUM(op.order_amount), 0), " +
+                        "COALESCE(SUM(op.delivery_amount), 0), COALESCE(SUM(op.discount_amount), 0), " +
+                        "COALESCE(SUM(op.order_fee), 0) + COALESCE(SUM(op.card_fee), 0), ?, ?, ? " +
+                        "FROM order_platforms op " +
+                        "WHERE LENGTH(op.order_date) >= 8 AND op.order_date >= ?" +
+                        (brandCode == null ? "" : " AND op.brand_code = ?") + " " +
+                        "GROUP BY op.store_platform_code, " + summaryDate,
+                insertParams.toArray());
+    }
+}
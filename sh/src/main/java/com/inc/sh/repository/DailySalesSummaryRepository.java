@@ -11,11 +11,6 @@ import java.util.List;
 @Repository
 public interface DailySalesSummaryRepository extends JpaRepository<DailySalesSummary, Integer> {
     
-    /**
-     * 플랫폼별, 날짜별 집계 데이터 조회
-     */
-    DailySalesSummary findByPlatformAndSummaryDateAndBrandCode(String platform, String summaryDate, Integer brandCode);
-    
     /**
      * 브랜드별 집계 데이터 조회
      */
@@ -8,142 +8,39 @@ import com.inc.sh.entity.OrderPlatforms;
 
 import java.util.List;
 
+/**
+ * 대시보드 매출 Repository
+ * - 원본 주문(order_platforms) 대신 월별 매출 집계(platform_monthly_sales)만 조회 → 주문 이력이 늘어도 조회 시간 일정
+ */
 @Repository
 public interface DashboardSalesRepository extends JpaRepository<OrderPlatforms, Integer> {
 
     /**
-     * 3개월 매출액 조회 (현재월, -1월, -2월)
+     * 월별 플랫폼별 매출액/주문수 조회 (대시보드 매출 그래프 전체의 원천 데이터)
+     * - 3개월/12개월 추이와 5개월 배달앱 비율은 모두 이 결과에서 계산 (DashboardSalesEngine)
      * @param hqCode 본사코드
      * @param brandCode 브랜드코드 (0이면 전체)
-     * @param month1 현재월 (YYYYMM)
-     * @param month2 현재-1월 (YYYYMM)
-     * @param month3 현재-2월 (YYYYMM)
+     * @param startMonth 시작월 (YYYYMM)
+     * @param endMonth 종료월 (YYYYMM)
      */
     @Query(value = 
         "SELECT " +
-        "    SUBSTRING(op.order_date, 1, 6) AS month, " +    // 0: 월 (YYYYMM)
-        "    COALESCE(SUM(op.order_amount), 0) AS total_sales " + // 1: 총매출
-        "FROM store_platforms sp " +
+        "    pms.sales_month AS month, " +    // 0: 월 (YYYYMM)
+        "    pms.platform, " +                                // 1: 플랫폼 (배민/요기요/쿠팡이츠)
+        "    COALESCE(SUM(pms.order_amount), 0) AS total_sales, " + // 2: 매출
+        "    COALESCE(SUM(pms.order_count), 0) AS total_orders " + // 3: 주문수
+        "FROM platform_monthly_sales pms " +
+        "INNER JOIN store_platforms sp ON pms.store_platform_code = sp.store_platform_code " +
         "INNER JOIN customer c ON sp.customer_code = c.customer_code " +
-        "INNER JOIN order_platforms op ON sp.store_platform_code = op.store_platform_code " +
-        "WHERE sp.hq_code = :hqCode " +
+        "WHERE pms.hq_code = :hqCode " +
         "    AND sp.is_active = true " +
-        "    AND (:brandCode = 0 OR sp.brand_code = :brandCode) " +
-        "    AND SUBSTRING(op.order_date, 1, 6) IN (:month1, :month2, :month3) " +
-        "GROUP BY SUBSTRING(op.order_date, 1, 6) " +
-        "ORDER BY SUBSTRING(op.order_date, 1, 6)",
+        "    AND (:brandCode = 0 OR pms.brand_code = :brandCode) " +
+        "    AND pms.sales_month >= :startMonth " +
+        "    AND pms.sales_month <= :endMonth " +
+        "GROUP BY pms.sales_month, pms.platform " +
+        "ORDER BY pms.sales_month, pms.platform",
         nativeQuery = true)
-    List<Object[]> find3MonthSales(
-        @Param("hqCode") Integer hqCode,
-        @Param("brandCode") Integer brandCode,
-        @Param("month1") String month1,
-        @Param("month2") String month2,
-        @Param("month3") String month3
-    );
-
-    /**
-     * 3개월 주문수 조회 (현재월, -1월, -2월)
-     */
-    @Query(value = 
-        "SELECT " +
-        "    SUBSTRING(op.order_date, 1, 6) AS month, " +    // 0: 월 (YYYYMM)
-        "    COUNT(op.order_platform_code) AS total_orders " + // 1: 총주문수
-        "FROM store_platforms sp " +
-        "INNER JOIN customer c ON sp.customer_code = c.customer_code " +
-        "INNER JOIN order_platforms op ON sp.store_platform_code = op.store_platform_code " +
-        "WHERE sp.hq_code = :hqCode " +
-        "    AND sp.is_active = true " +
-        "    AND (:brandCode = 0 OR sp.brand_code = :brandCode) " +
-        "    AND SUBSTRING(op.order_date, 1, 6) IN (:month1, :month2, :month3) " +
-        "GROUP BY SUBSTRING(op.order_date, 1, 6) " +
-        "ORDER BY SUBSTRING(op.order_date, 1, 6)",
-        nativeQuery = true)
-    List<Object[]> find3MonthOrders(
-        @Param("hqCode") Integer hqCode,
-        @Param("brandCode") Integer brandCode,
-        @Param("month1") String month1,
-        @Param("month2") String month2,
-        @Param("month3") String month3
-    );
-
-    /**
-     * 12개월 매출액 추이 조회
-     * @param hqCode 본사코드
-     * @param brandCode 브랜드코드 (0이면 전체)
-     * @param startMonth 시작월 (12개월 전, YYYYMM)
-     * @param endMonth 종료월 (현재월, YYYYMM)
-     */
-    @Query(value = 
-        "SELECT " +
-        "    SUBSTRING(op.order_date, 1, 6) AS month, " +    // 0: 월 (YYYYMM)
-        "    COALESCE(SUM(op.order_amount), 0) AS total_sales " + // 1: 총매출
-        "FROM store_platforms sp " +
-        "INNER JOIN customer c ON sp.customer_code = c.customer_code " +
-        "INNER JOIN order_platforms op ON sp.store_platform_code = op.store_platform_code " +
-        "WHERE sp.hq_code = :hqCode " +
-        "    AND sp.is_active = true " +
-        "    AND (:brandCode = 0 OR sp.brand_code = :brandCode) " +
-        "    AND SUBSTRING(op.order_date, 1, 6) >= :startMonth " +
-        "    AND SUBSTRING(op.order_date, 1, 6) <= :endMonth " +
-        "GROUP BY SUBSTRING(op.order_date, 1, 6) " +
-        "ORDER BY SUBSTRING(op.order_date, 1, 6)",
-        nativeQuery = true)
-    List<Object[]> find12MonthSales(
-        @Param("hqCode") Integer hqCode,
-        @Param("brandCode") Integer brandCode,
-        @Param("startMonth") String startMonth,
-        @Param("endMonth") String endMonth
-    );
-
-    /**
-     * 12개월 주문수 추이 조회
-     */
-    @Query(value = 
-        "SELECT " +
-        "    SUBSTRING(op.order_date, 1, 6) AS month, " +    // 0: 월 (YYYYMM)
-        "    COUNT(op.order_platform_code) AS total_orders " + // 1: 총주문수
-        "FROM store_platforms sp " +
-        "INNER JOIN customer c ON sp.customer_code = c.customer_code " +
-        "INNER JOIN order_platforms op ON sp.store_platform_code = op.store_platform_code " +
-        "WHERE sp.hq_code = :hqCode " +
-        "    AND sp.is_active = true " +
-        "    AND (:brandCode = 0 OR sp.brand_code = :brandCode) " +
-        "    AND SUBSTRING(op.order_date, 1, 6) >= :startMonth " +
-        "    AND SUBSTRING(op.order_date, 1, 6) <= :endMonth " +
-        "GROUP BY SUBSTRING(op.order_date, 1, 6) " +
-        "ORDER BY SUBSTRING(op.order_date, 1, 6)",
-        nativeQuery = true)
-    List<Object[]> find12MonthOrders(
-        @Param("hqCode") Integer hqCode,
-        @Param("brandCode") Integer brandCode,
-        @Param("startMonth") String startMonth,
-        @Param("endMonth") String endMonth
-    );
-
-    /**
-     * 5개월 플랫폼별 매출 조회 (배달분석용)
-     * @param hqCode 본사코드
-     * @param brandCode 브랜드코드 (0이면 전체)
-     * @param startMonth 시작월 (5개월 전, YYYYMM)
-     * @param endMonth 종료월 (현재월, YYYYMM)
-     */
-    @Query(value = 
-        "SELECT " +
-        "    SUBSTRING(op.order_date, 1, 6) AS month, " +    // 0: 월 (YYYYMM)
-        "    sp.platform, " +                                // 1: 플랫폼 (배민/요기요/쿠팡이츠)
-        "    COALESCE(SUM(op.order_amount), 0) AS platform_sales " + // 2: 플랫폼별 매출
-        "FROM store_platforms sp " +
-        "INNER JOIN customer c ON sp.customer_code = c.customer_code " +
-        "INNER JOIN order_platforms op ON sp.store_platform_code = op.store_platform_code " +
-        "WHERE sp.hq_code = :hqCode " +
-        "    AND sp.is_active = true " +
-        "    AND (:brandCode = 0 OR sp.brand_code = :brandCode) " +
-        "    AND SUBSTRING(op.order_date, 1, 6) >= :startMonth " +
-        "    AND SUBSTRING(op.order_date, 1, 6) <= :endMonth " +
-        "GROUP BY SUBSTRING(op.order_date, 1, 6), sp.platform " +
-        "ORDER BY SUBSTRING(op.order_date, 1, 6), sp.platform",
-        nativeQuery = true)
-    List<Object[]> find5MonthPlatformSales(
+    List<Object[]> findMonthlyPlatformSales(
         @Param("hqCode") Integer hqCode,
         @Param("brandCode") Integer brandCode,
         @Param("startMonth") String startMonth,
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -62,4 +63,9 @@ public interface DeliveryHolidayRepository extends JpaRepository<DeliveryHoliday
      * 특정 날짜와 브랜드코드로 배송휴일 조회 (주문시 체크용)
      */
     List<DeliveryHoliday> findByBrandCodeAndHolidayDt(Integer brandCode, String holidayDt);
+    
+    /**
+     * 여러 브랜드/날짜의 배송휴일 일괄 조회 (주문 다중 저장 체크용)
+     */
+    List<DeliveryHoliday> findByBrandCodeInAndHolidayDtIn(Collection<Integer> brandCodes, Collection<String> holidayDts);
 }
\ No newline at end of file
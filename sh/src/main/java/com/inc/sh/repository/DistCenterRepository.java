@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -76,4 +77,9 @@ public interface DistCenterRepository extends JpaRepository<DistCenter, Integer>
      * 본사별 물류센터 조회
      */
     List<DistCenter> findByHqCode(Integer hqCode);
+    
+    /**
+     * 물류센터코드 목록으로 일괄 조회
+     */
+    List<DistCenter> findByDistCenterCodeIn(Collection<Integer> distCenterCodes);
 }
\ No newline at end of file
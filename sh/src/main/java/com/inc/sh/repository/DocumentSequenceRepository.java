@@ -0,0 +1,35 @@
+package com.inc.sh.repository;
+
+import com.inc.sh.entity.DocumentSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DocumentSequenceRepository extends JpaRepository<DocumentSequence, Integer> {
+    
+    /**
+     * 블록 단위 번호 예약 (단일 문장 - 카운터가 없으면 시작값 + 블록으로 생성, 있으면 블록만큼 증가)
+     * - 증가한 경우 새 last_value를 LAST_INSERT_ID()에 남김
+     * @return 1 = 새로 생성, 2 = 기존 카운터 증가
+     */
+    @Modifying
+    @Query(value = "INSERT INTO document_sequence (seq_type, seq_date, last_value, created_at, updated_at) " +
+           "VALUES (:seqType, :seqDate, :initialValue + :blockSize, NOW(), NOW()) " +
+           "ON DUPLICATE KEY UPDATE last_value = LAST_INSERT_ID(last_value + :blockSize), updated_at = NOW()",
+           nativeQuery = true)
+    int reserveBlock(
+        @Param("seqType") String seqType,
+        @Param("seqDate") String seqDate,
+        @Param("initialValue") Long initialValue,
+        @Param("blockSize") Long blockSize
+    );
+    
+    /**
+     * 같은 커넥션에서 직전 reserveBlock이 증가시킨 last_value
+     */
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long findReservedValue();
+}
@@ -0,0 +1,167 @@
+package com.inc.sh.repository;
+
+import com.inc.sh.entity.InventoryTransactions;
+import com.inc.sh.entity.WarehouseItems;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 재고 전기(posting)용 JDBC Repository
+ * - 창고재고는 원자적 증감 UPDATE, 재고수불부는 배치 INSERT, 월별재고마감은 카운터 증감 UPDATE로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryPostingRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (창고코드, 품목코드) 목록의 창고품목 일괄 조회
+     * @param keys [warehouseCode, itemCode] 목록
+     */
+    public List<WarehouseItems> findWarehouseItems(List<Integer[]> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = "SELECT warehouse_item_code, warehouse_code, item_code, current_quantity " +
+                "FROM warehouse_items " +
+                "WHERE (warehouse_code, item_code) IN (" + String.join(", ", Collections.nCopies(keys.size(), "(?, ?)")) + ")";
+
+        List<Object> params = new ArrayList<>();
+        for (Integer[] key : keys) {
+            params.add(key[0]);
+            params.add(key[1]);
+        }
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> WarehouseItems.builder()
+                .warehouseItemCode(rs.getInt("warehouse_item_code"))
+                .warehouseCode(rs.getInt("warehouse_code"))
+                .itemCode(rs.getInt("item_code"))
+                .currentQuantity(rs.getInt("current_quantity"))
+                .build(), params.toArray());
+    }
+
+    /**
+     * (창고코드, 품목코드, 마감년월) 목록 중 월별재고마감이 존재하는 키 조회
+     * @param keys [warehouseCode, itemCode, closingYm] 목록
+     * @return "창고코드:품목코드:마감년월" 형태의 키 집합
+     */
+    public Set<String> findExistingClosingKeys(List<Object[]> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        String sql = "SELECT warehouse_code, item_code, closing_ym " +
+                "FROM monthly_inventory_closing " +
+                "WHERE (warehouse_code, item_code, closing_ym) IN (" + String.join(", ", Collections.nCopies(keys.size(), "(?, ?, ?)")) + ")";
+
+        List<Object> params = new ArrayList<>();
+        for (Object[] key : keys) {
+            params.add(key[0]);
+            params.add(key[1]);
+            params.add(key[2]);
+        }
+
+        return new HashSet<>(jdbcTemplate.query(sql, (rs, rowNum) ->
+                rs.getInt("warehouse_code") + ":" + rs.getInt("item_code") + ":" + rs.getString("closing_ym"),
+                params.toArray()));
+    }
+
+    /**
+     * 창고재고 원자적 증감
+     * @param requireStock true면 차감 후 재고가 음수가 되는 경우 갱신하지 않음
+     * @return 갱신된 행 수 (0이면 품목 없음 또는 재고 부족)
+     */
+    public int addCurrentQuantity(Integer warehouseCode, Integer itemCode, int delta, boolean requireStock) {
+        String sql = "UPDATE warehouse_items " +
+                "SET current_quantity = current_quantity + ?, updated_at = NOW() " +
+                "WHERE warehouse_code = ? AND item_code = ?" +
+                (requireStock ? " AND current_quantity + ? >= 0" : "");
+
+        return requireStock
+                ? jdbcTemplate.update(sql, delta, warehouseCode, itemCode, delta)
+                : jdbcTemplate.update(sql, delta, warehouseCode, itemCode);
+    }
+
+    /**
+     * 재고수불부 일괄 INSERT
+     */
+    public void batchInsertTransactions(List<InventoryTransactions> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO inventory_transactions (" +
+                "warehouse_item_code, warehouse_code, item_code, transaction_date, transaction_type, " +
+                "quantity, unit_price, amount, note, description, created_at, updated_at" +
+                ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(sql, transactions, BATCH_SIZE, (ps, tx) -> {
+            ps.setObject(1, tx.getWarehouseItemCode());
+            ps.setObject(2, tx.getWarehouseCode());
+            ps.setObject(3, tx.getItemCode());
+            ps.setString(4, tx.getTransactionDate());
+            ps.setString(5, tx.getTransactionType());
+            ps.setObject(6, tx.getQuantity());
+            ps.setObject(7, tx.getUnitPrice());
+            ps.setObject(8, tx.getAmount());
+            ps.setString(9, tx.getNote());
+            ps.setString(10, tx.getDescription());
+            ps.setTimestamp(11, now);
+            ps.setTimestamp(12, now);
+        });
+    }
+
+    /**
+     * 월별재고마감 입출고 카운터 증감 (계산수량/금액 동시 재계산)
+     * - 계산수량/금액은 갱신 전 카운터와 증감값으로 계산 (SET 평가 순서와 무관)
+     * @return 갱신된 행 수 (0이면 마감 데이터 없음)
+     */
+    public int addClosingCounters(Integer warehouseCode, Integer itemCode, String closingYm,
+                                  int inQuantity, int inAmount, int outQuantity, int outAmount) {
+        String sql = "UPDATE monthly_inventory_closing SET " +
+                "cal_quantity = opening_quantity + (in_quantity + ?) - (out_quantity + ?), " +
+                "cal_amount = opening_amount + (in_amount + ?) - (out_amount + ?), " +
+                "in_quantity = in_quantity + ?, " +
+                "in_amount = in_amount + ?, " +
+                "out_quantity = out_quantity + ?, " +
+                "out_amount = out_amount + ?, " +
+                "updated_at = NOW() " +
+                "WHERE warehouse_code = ? AND item_code = ? AND closing_ym = ?";
+
+        return jdbcTemplate.update(sql, inQuantity, outQuantity, inAmount, outAmount,
+                inQuantity, inAmount, outQuantity, outAmount,
+                warehouseCode, itemCode, closingYm);
+    }
+
+    /**
+     * 월별재고마감 신규 생성 (이월 0 기준)
+     */
+    public void insertClosing(Integer warehouseItemCode, Integer warehouseCode, Integer itemCode, String closingYm,
+                              int inQuantity, int inAmount, int outQuantity, int outAmount) {
+        String sql = "INSERT INTO monthly_inventory_closing (" +
+                "warehouse_item_code, warehouse_code, item_code, closing_ym, " +
+                "opening_quantity, opening_amount, in_quantity, in_amount, out_quantity, out_amount, " +
+                "cal_quantity, cal_amount, actual_quantity, actual_unit_price, actual_amount, " +
+                "diff_quantity, diff_amount, is_closed, created_at, updated_at" +
+                ") VALUES (?, ?, ?, ?, 0, 0, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, NOW(), NOW())";
+
+        jdbcTemplate.update(sql, warehouseItemCode, warehouseCode, itemCode, closingYm,
+                inQuantity, inAmount, outQuantity, outAmount,
+                inQuantity - outQuantity, inAmount - outAmount);
+    }
+}
@@ -0,0 +1,128 @@
+package com.inc.sh.repository;
+
+import com.inc.sh.entity.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 대량 저장용 JDBC 배치 Repository
+ * - JPA save()는 건별 INSERT 라운드트립이 발생하므로 다중 저장 시 JDBC batchUpdate 사용
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OrderBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_ORDER_SQL = "INSERT INTO `order` (" +
+            "order_no, hq_code, customer_code, vehicle_code, dist_center_code, dist_center_name, " +
+            "customer_name, biz_num, zip_code, addr, owner_name, tel_num, " +
+            "order_dt, delivery_request_dt, delivery_amt, delivery_status, payment_status, deposit_type_code, " +
+            "order_message, taxable_amt, tax_free_amt, supply_amt, vat_amt, total_amt, total_qty, " +
+            "created_at, updated_at" +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 신규 주문 일괄 INSERT
+     * - 등록/수정일시는 INSERT 값과 같게 엔티티에도 설정 (응답 DTO용)
+     * - 500건 단위 배치가 실패하면 세이브포인트로 되돌리고 해당 배치만 건별 INSERT로 재시도
+     * - 트랜잭션 안에서 호출해야 함 (세이브포인트 사용)
+     * @return 실패한 주문의 목록 내 인덱스 → 오류 메시지
+     */
+    public Map<Integer, String> batchInsertOrders(List<Order> orders) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(createdAt);
+        for (Order order : orders) {
+            order.setCreatedAt(createdAt);
+            order.setUpdatedAt(createdAt);
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<Map<Integer, String>>) connection -> {
+            Map<Integer, String> failures = new LinkedHashMap<>();
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_ORDER_SQL)) {
+                for (int from = 0; from < orders.size(); from += BATCH_SIZE) {
+                    int to = Math.min(from + BATCH_SIZE, orders.size());
+                    Savepoint chunk = connection.setSavepoint();
+                    try {
+                        for (int i = from; i < to; i++) {
+                            setOrderValues(ps, orders.get(i), now);
+                            ps.addBatch();
+                        }
+                        ps.executeBatch();
+                        connection.releaseSavepoint(chunk);
+                    } catch (SQLException e) {
+                        ps.clearBatch();
+                        connection.rollback(chunk);
+                        log.warn("주문 배치 INSERT 실패 - {}~{}번째 건별 재시도, 에러: {}", from, to - 1, e.getMessage());
+                        insertOneByOne(connection, ps, orders, from, to, now, failures);
+                    }
+                }
+            }
+            return failures;
+        });
+    }
+
+    /**
+     * 실패한 배치 구간을 건별 INSERT (건마다 세이브포인트, 실패 건만 되돌림)
+     */
+    private void insertOneByOne(Connection connection, PreparedStatement ps, List<Order> orders, int from, int to,
+                                Timestamp now, Map<Integer, String> failures) throws SQLException {
+        for (int i = from; i < to; i++) {
+            Savepoint row = connection.setSavepoint();
+            try {
+                setOrderValues(ps, orders.get(i), now);
+                ps.executeUpdate();
+                connection.releaseSavepoint(row);
+            } catch (SQLException e) {
+                connection.rollback(row);
+                failures.put(i, e.getMessage());
+            }
+        }
+    }
+
+    private void setOrderValues(PreparedStatement ps, Order order, Timestamp now) throws SQLException {
+        ps.setString(1, order.getOrderNo());
+        ps.setObject(2, order.getHqCode());
+        ps.setObject(3, order.getCustomerCode());
+        ps.setObject(4, order.getVehicleCode());
+        ps.setObject(5, order.getDistCenterCode());
+        ps.setString(6, order.getDistCenterName());
+        ps.setString(7, order.getCustomerName());
+        ps.setString(8, order.getBizNum());
+        ps.setString(9, order.getZipCode());
+        ps.setString(10, order.getAddr());
+        ps.setString(11, order.getOwnerName());
+        ps.setString(12, order.getTelNum());
+        ps.setString(13, order.getOrderDt());
+        ps.setString(14, order.getDeliveryRequestDt());
+        ps.setObject(15, order.getDeliveryAmt());
+        ps.setString(16, order.getDeliveryStatus());
+        ps.setString(17, order.getPaymentStatus());
+        ps.setObject(18, order.getDepositTypeCode());
+        ps.setString(19, order.getOrderMessage());
+        ps.setObject(20, order.getTaxableAmt());
+        ps.setObject(21, order.getTaxFreeAmt());
+        ps.setObject(22, order.getSupplyAmt());
+        ps.setObject(23, order.getVatAmt());
+        ps.setObject(24, order.getTotalAmt());
+        ps.setObject(25, order.getTotalQty());
+        ps.setTimestamp(26, now);
+        ps.setTimestamp(27, now);
+    }
+}
@@ -4,6 +4,7 @@ import com.inc.sh.entity.OrderLimitSet;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -28,4 +29,9 @@ public interface OrderLimitSetRepository extends JpaRepository<OrderLimitSet, In
      * 브랜드코드와 요일명으로 주문제한설정 조회 (주문시 체크용)
      */
     List<OrderLimitSet> findByBrandCodeAndDayName(Integer brandCode, String dayName);
+    
+    /**
+     * 여러 브랜드의 요일별 주문제한설정 일괄 조회 (주문 다중 저장 체크용)
+     */
+    List<OrderLimitSet> findByBrandCodeInAndDayName(Collection<Integer> brandCodes, String dayName);
 }
\ No newline at end of file
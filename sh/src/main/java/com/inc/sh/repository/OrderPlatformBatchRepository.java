@@ -0,0 +1,121 @@
+package com.inc.sh.repository;
+
+import com.inc.sh.entity.OrderPlatforms;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 플랫폼 주문 대량 저장용 JDBC 배치 Repository
+ * - 주문마다 existsByOrderNo + save로 2회씩 왕복하지 않도록 기존 주문번호는 IN 조회, 신규 주문은 batchUpdate로 저장
+ * - 중복 방지는 UNIQUE(order_no, store_platform_code) + INSERT IGNORE, 같은 매장 동시 동기화는 매장 행 잠금으로 직렬화
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderPlatformBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 매장 행 잠금 (트랜잭션 종료까지 같은 매장의 다른 동기화는 대기)
+     * - 잠근 뒤 조회한 기존 주문번호는 커밋 전까지 바뀌지 않으므로 신규 주문 판정이 정확함
+     */
+    public void lockStore(Integer storePlatformCode) {
+        jdbcTemplate.queryForList("SELECT store_platform_code FROM store_platforms " +
+                "WHERE store_platform_code = ? FOR UPDATE", Integer.class, storePlatformCode);
+    }
+
+    /**
+     * 매장의 주문번호 목록 중 이미 저장된 주문번호 조회
+     */
+    public Set<String> findExistingOrderNos(Integer storePlatformCode, Collection<String> orderNos) {
+        Set<String> existing = new HashSet<>();
+        List<String> orderNoList = new ArrayList<>(orderNos);
+
+        for (int from = 0; from < orderNoList.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = orderNoList.subList(from, Math.min(from + IN_CHUNK_SIZE, orderNoList.size()));
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(storePlatformCode);
+            args.addAll(chunk);
+            String sql = "SELECT order_no FROM order_platforms WHERE store_platform_code = ? " +
+                    "AND order_no IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            existing.addAll(jdbcTemplate.queryForList(sql, String.class, args.toArray()));
+        }
+        return existing;
+    }
+
+    /**
+     * 신규 플랫폼 주문 일괄 INSERT IGNORE
+     * - 유니크 키에 걸린 주문은 영향 행 수 0으로 건너뜀
+     * - 드라이버가 행별 결과 없이 SUCCESS_NO_INFO를 돌려주는 경우(벌크 INSERT)는 저장된 것으로 봄 (lockStore 후 호출 전제)
+     * @return 실제 저장된 주문
+     */
+    public List<OrderPlatforms> batchInsert(List<OrderPlatforms> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = "INSERT IGNORE INTO order_platforms (" +
+                "store_platform_code, customer_code, brand_code, user_tr_no, hyphen_tr_no, platform, " +
+                "order_no, order_date, order_time, order_division, order_name, delivery_type, payment_method, " +
+                "order_amount, delivery_amount, discount_amount, coupon_amount, order_fee, card_fee, tax, " +
+                "settle_date, settle_amount, offline_order_amount, raw_data, description, created_at, updated_at" +
+                ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int[][] updateCounts = jdbcTemplate.batchUpdate(sql, orders, BATCH_SIZE, (ps, order) -> {
+            ps.setObject(1, order.getStorePlatformCode());
+            ps.setObject(2, order.getCustomerCode());
+            ps.setObject(3, order.getBrandCode());
+            ps.setString(4, order.getUserTrNo());
+            ps.setString(5, order.getHyphenTrNo());
+            ps.setString(6, order.getPlatform());
+            ps.setString(7, order.getOrderNo());
+            ps.setString(8, order.getOrderDate());
+            ps.setString(9, order.getOrderTime());
+            ps.setString(10, order.getOrderDivision());
+            ps.setString(11, order.getOrderName());
+            ps.setString(12, order.getDeliveryType());
+            ps.setString(13, order.getPaymentMethod());
+            ps.setObject(14, order.getOrderAmount());
+            ps.setObject(15, order.getDeliveryAmount());
+            ps.setObject(16, order.getDiscountAmount());
+            ps.setObject(17, order.getCouponAmount());
+            ps.setObject(18, order.getOrderFee());
+            ps.setObject(19, order.getCardFee());
+            ps.setObject(20, order.getTax());
+            ps.setString(21, order.getSettleDate());
+            ps.setObject(22, order.getSettleAmount());
+            ps.setObject(23, order.getOfflineOrderAmount());
+            ps.setString(24, order.getRawData());
+            ps.setString(25, order.getDescription());
+            ps.setTimestamp(26, now);
+            ps.setTimestamp(27, now);
+        });
+
+        List<OrderPlatforms> inserted = new ArrayList<>(orders.size());
+        int index = 0;
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    inserted.add(orders.get(index));
+                }
+                index++;
+            }
+        }
+        return inserted;
+    }
+}
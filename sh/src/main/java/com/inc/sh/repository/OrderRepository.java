@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -39,6 +40,11 @@ public interface OrderRepository extends JpaRepository<Order, String> {
      */
     Order findByOrderNo(String orderNo);
     
+    /**
+     * 주문번호 목록으로 일괄 조회
+     */
+    List<Order> findByOrderNoIn(Collection<String> orderNos);
+    
     /**
      * 주문번호 존재 여부 확인
      */
@@ -330,48 +336,6 @@ public interface OrderRepository extends JpaRepository<Order, String> {
         @Param("customerCode") Integer customerCode
     );
     
-    /**
-     * 거래처별원장용 주문 집계 조회 (본사별)
-     */
-    @Query(value = "SELECT " +
-           "o.customer_code, " +
-           "o.customer_name, " +
-           "b.brand_name, " +
-           "c.tel_num, " +
-           "'주문' as order_type, " +
-           "SUM(o.total_qty) as total_qty, " +
-           "SUM(o.tax_free_amt) as tax_free_amt, " +
-           "SUM(o.taxable_amt) as taxable_amt, " +
-           "SUM(o.supply_amt) as supply_amt, " +
-           "SUM(o.vat_amt) as vat_amt, " +
-           "SUM(o.total_amt) as total_amt, " +
-           "SUM(o.total_qty) as delivery_qty, " +
-           "SUM(o.supply_amt) as delivery_supply_amt, " +
-           "SUM(o.vat_amt) as delivery_vat_amt, " +
-           "SUM(o.total_amt) as delivery_total_amt " +
-           "FROM `order` o " +
-           "JOIN customer c ON o.customer_code = c.customer_code " +
-           "JOIN brand_info b ON c.brand_code = b.brand_code " +
-           "WHERE o.delivery_status = '배송요청' " +
-           "AND (:deliveryRequestDtStart IS NULL OR o.delivery_request_dt >= :deliveryRequestDtStart) " +
-           "AND (:deliveryRequestDtEnd IS NULL OR o.delivery_request_dt <= :deliveryRequestDtEnd) " +
-           "AND (:itemCode IS NULL OR EXISTS ( " +
-           "    SELECT 1 FROM order_item oi WHERE oi.order_no = o.order_no AND oi.item_code = :itemCode " +
-           ")) " +
-           "AND (:brandCode IS NULL OR c.brand_code = :brandCode) " +
-           "AND (:customerCode IS NULL OR o.customer_code = :customerCode) " +
-           "AND o.hq_code = :hqCode " +
-           "GROUP BY o.customer_code, o.customer_name, b.brand_name, c.tel_num " +
-           "ORDER BY o.customer_code", nativeQuery = true)
-    List<Object[]> findCustomerLedgerOrderSummaryWithHqCode(
-        @Param("deliveryRequestDtStart") String deliveryRequestDtStart,
-        @Param("deliveryRequestDtEnd") String deliveryRequestDtEnd,
-        @Param("itemCode") Integer itemCode,
-        @Param("brandCode") Integer brandCode,
-        @Param("customerCode") Integer customerCode,
-        @Param("hqCode") Integer hqCode
-    );
-    
     /**
      * 거래처별원장용 배송 집계 조회 (배송: 배송중 + 배송완료)
      */
@@ -412,48 +376,6 @@ public interface OrderRepository extends JpaRepository<Order, String> {
         @Param("customerCode") Integer customerCode
     );
     
-    /**
-     * 거래처별원장용 배송 집계 조회 (본사별)
-     */
-    @Query(value = "SELECT " +
-           "o.customer_code, " +
-           "o.customer_name, " +
-           "b.brand_name, " +
-           "c.tel_num, " +
-           "'배송' as order_type, " +
-           "SUM(o.total_qty) as total_qty, " +
-           "SUM(o.tax_free_amt) as tax_free_amt, " +
-           "SUM(o.taxable_amt) as taxable_amt, " +
-           "SUM(o.supply_amt) as supply_amt, " +
-           "SUM(o.vat_amt) as vat_amt, " +
-           "SUM(o.total_amt) as total_amt, " +
-           "SUM(o.total_qty) as delivery_qty, " +
-           "SUM(o.supply_amt) as delivery_supply_amt, " +
-           "SUM(o.vat_amt) as delivery_vat_amt, " +
-           "SUM(o.total_amt) as delivery_total_amt " +
-           "FROM `order` o " +
-           "JOIN customer c ON o.customer_code = c.customer_code " +
-           "JOIN brand_info b ON c.brand_code = b.brand_code " +
-           "WHERE o.delivery_status IN ('배송중', '배송완료') " +
-           "AND (:deliveryRequestDtStart IS NULL OR o.delivery_request_dt >= :deliveryRequestDtStart) " +
-           "AND (:deliveryRequestDtEnd IS NULL OR o.delivery_request_dt <= :deliveryRequestDtEnd) " +
-           "AND (:itemCode IS NULL OR EXISTS ( " +
-           "    SELECT 1 FROM order_item oi WHERE oi.order_no = o.order_no AND oi.item_code = :itemCode " +
-           ")) " +
-           "AND (:brandCode IS NULL OR c.brand_code = :brandCode) " +
-           "AND (:customerCode IS NULL OR o.customer_code = :customerCode) " +
-           "AND o.hq_code = :hqCode " +
-           "GROUP BY o.customer_code, o.customer_name, b.brand_name, c.tel_num " +
-           "ORDER BY o.customer_code", nativeQuery = true)
-    List<Object[]> findCustomerLedgerDeliverySummaryWithHqCode(
-        @Param("deliveryRequestDtStart") String deliveryRequestDtStart,
-        @Param("deliveryRequestDtEnd") String deliveryRequestDtEnd,
-        @Param("itemCode") Integer itemCode,
-        @Param("brandCode") Integer brandCode,
-        @Param("customerCode") Integer customerCode,
-        @Param("hqCode") Integer hqCode
-    );
-    
     /**
      * 거래처별원장용 주문 세부 조회 (주문: 배송요청만)
      */
@@ -495,49 +417,6 @@ public interface OrderRepository extends JpaRepository<Order, String> {
         @Param("customerCode") Integer customerCode
     );
     
-    /**
-     * 거래처별원장용 주문 세부 조회 (본사별)
-     */
-    @Query(value = "SELECT " +
-           "o.customer_code, " +
-           "o.customer_name, " +
-           "b.brand_name, " +
-           "c.tel_num, " +
-           "oi.item_code, " +
-           "oi.item_name, " +
-           "oi.specification, " +
-           "oi.unit, " +
-           "'주문' as order_type, " +
-           "SUM(oi.order_qty) as total_qty, " +
-           "SUM(oi.supply_amt) as supply_amt, " +
-           "SUM(oi.vat_amt) as vat_amt, " +
-           "SUM(oi.total_amt) as total_amt, " +
-           "SUM(oi.order_qty) as delivery_qty, " +
-           "SUM(oi.supply_amt) as delivery_supply_amt, " +
-           "SUM(oi.vat_amt) as delivery_vat_amt, " +
-           "SUM(oi.total_amt) as delivery_total_amt " +
-           "FROM `order` o " +
-           "JOIN order_item oi ON o.order_no = oi.order_no " +
-           "JOIN customer c ON o.customer_code = c.customer_code " +
-           "JOIN brand_info b ON c.brand_code = b.brand_code " +
-           "WHERE o.delivery_status = '배송요청' " +
-           "AND (:deliveryRequestDtStart IS NULL OR o.delivery_request_dt >= :deliveryRequestDtStart) " +
-           "AND (:deliveryRequestDtEnd IS NULL OR o.delivery_request_dt <= :deliveryRequestDtEnd) " +
-           "AND (:itemCode IS NULL OR oi.item_code = :itemCode) " +
-           "AND (:brandCode IS NULL OR c.brand_code = :brandCode) " +
-           "AND (:customerCode IS NULL OR o.customer_code = :customerCode) " +
-           "AND o.hq_code = :hqCode " +
-           "GROUP BY o.customer_code, o.customer_name, b.brand_name, c.tel_num, oi.item_code, oi.item_name, oi.specification, oi.unit " +
-           "ORDER BY o.customer_code, oi.item_code", nativeQuery = true)
-    List<Object[]> findCustomerLedgerOrderDetailWithHqCode(
-        @Param("deliveryRequestDtStart") String deliveryRequestDtStart,
-        @Param("deliveryRequestDtEnd") String deliveryRequestDtEnd,
-        @Param("itemCode") Integer itemCode,
-        @Param("brandCode") Integer brandCode,
-        @Param("customerCode") Integer customerCode,
-        @Param("hqCode") Integer hqCode
-    );
-    
     /**
      * 거래처별원장용 배송 세부 조회 (배송: 배송중 + 배송완료)
      */
@@ -579,49 +458,6 @@ public interface OrderRepository extends JpaRepository<Order, String> {
         @Param("customerCode") Integer customerCode
     );
     
-    /**
-     * 거래처별원장용 배송 세부 조회 (본사별)
-     */
-    @Query(value = "SELECT " +
-           "o.customer_code, " +
-           "o.customer_name, " +
-           "b.brand_name, " +
-           "c.tel_num, " +
-           "oi.item_code, " +
-           "oi.item_name, " +
-           "oi.specification, " +
-           "oi.unit, " +
-           "'배송' as order_type, " +
-           "SUM(oi.order_qty) as total_qty, " +
-           "SUM(oi.supply_amt) as supply_amt, " +
-           "SUM(oi.vat_amt) as vat_amt, " +
-           "SUM(oi.total_amt) as total_amt, " +
-           "SUM(oi.order_qty) as delivery_qty, " +
-           "SUM(oi.supply_amt) as delivery_supply_amt, " +
-           "SUM(oi.vat_amt) as delivery_vat_amt, " +
-           "SUM(oi.total_amt) as delivery_total_amt " +
-           "FROM `order` o " +
-           "JOIN order_item oi ON o.order_no = oi.order_no " +
-           "JOIN customer c ON o.customer_code = c.customer_code " +
-           "JOIN brand_info b ON c.brand_code = b.brand_code " +
-           "WHERE o.delivery_status IN ('배송중', '배송완료') " +
-           "AND (:deliveryRequestDtStart IS NULL OR o.delivery_request_dt >= :deliveryRequestDtStart) " +
-           "AND (:deliveryRequestDtEnd IS NULL OR o.delivery_request_dt <= :deliveryRequestDtEnd) " +
-           "AND (:itemCode IS NULL OR oi.item_code = :itemCode) " +
-           "AND (:brandCode IS NULL OR c.brand_code = :brandCode) " +
-           "AND (:customerCode IS NULL OR o.customer_code = :customerCode) " +
-           "AND o.hq_code = :hqCode " +
-           "GROUP BY o.customer_code, o.customer_name, b.brand_name, c.tel_num, oi.item_code, oi.item_name, oi.specification, oi.unit " +
-           "ORDER BY o.customer_code, oi.item_code", nativeQuery = true)
-    List<Object[]> findCustomerLedgerDeliveryDetailWithHqCode(
-        @Param("deliveryRequestDtStart") String deliveryRequestDtStart,
-        @Param("deliveryRequestDtEnd") String deliveryRequestDtEnd,
-        @Param("itemCode") Integer itemCode,
-        @Param("brandCode") Integer brandCode,
-        @Param("customerCode") Integer customerCode,
-        @Param("hqCode") Integer hqCode
-    );
-    
     /**
      * 거래처별원장용 주문 일자별 조회 (주문: 배송요청만)
      */
@@ -664,50 +500,6 @@ public interface OrderRepository extends JpaRepository<Order, String> {
         @Param("customerCode") Integer customerCode
     );
     
-    /**
-     * 거래처별원장용 주문 일자별 조회 (본사별)
-     */
-    @Query(value = "SELECT " +
-           "o.delivery_request_dt as order_date, " +
-           "o.customer_code, " +
-           "o.customer_name, " +
-           "b.brand_name, " +
-           "c.tel_num, " +
-           "oi.item_code, " +
-           "oi.item_name, " +
-           "oi.specification, " +
-           "oi.unit, " +
-           "'주문' as order_type, " +
-           "SUM(oi.order_qty) as total_qty, " +
-           "SUM(oi.supply_amt) as supply_amt, " +
-           "SUM(oi.vat_amt) as vat_amt, " +
-           "SUM(oi.total_amt) as total_amt, " +
-           "SUM(oi.order_qty) as delivery_qty, " +
-           "SUM(oi.supply_amt) as delivery_supply_amt, " +
-           "SUM(oi.vat_amt) as delivery_vat_amt, " +
-           "SUM(oi.total_amt) as delivery_total_amt " +
-           "FROM `order` o " +
-           "JOIN order_item oi ON o.order_no = oi.order_no " +
-           "JOIN customer c ON o.customer_code = c.customer_code " +
-           "JOIN brand_info b ON c.brand_code = b.brand_code " +
-           "WHERE o.delivery_status = '배송요청' " +
-           "AND (:deliveryRequestDtStart IS NULL OR o.delivery_request_dt >= :deliveryRequestDtStart) " +
-           "AND (:deliveryRequestDtEnd IS NULL OR o.delivery_request_dt <= :deliveryRequestDtEnd) " +
-           "AND (:itemCode IS NULL OR oi.item_code = :itemCode) " +
-           "AND (:brandCode IS NULL OR c.brand_code = :brandCode) " +
-           "AND (:customerCode IS NULL OR o.customer_code = :customerCode) " +
-           "AND o.hq_code = :hqCode " +
-           "GROUP BY o.delivery_request_dt, o.customer_code, o.customer_name, b.brand_name, c.tel_num, oi.item_code, oi.item_name, oi.specification, oi.unit " +
-           "ORDER BY o.delivery_request_dt, o.customer_code, oi.item_code", nativeQuery = true)
-    List<Object[]> findCustomerLedgerOrderDailyWithHqCode(
-        @Param("deliveryRequestDtStart") String deliveryRequestDtStart,
-        @Param("deliveryRequestDtEnd") String deliveryRequestDtEnd,
-        @Param("itemCode") Integer itemCode,
-        @Param("brandCode") Integer brandCode,
-        @Param("customerCode") Integer customerCode,
-        @Param("hqCode") Integer hqCode
-    );
-    
     /**
      * 거래처별원장용 배송 일자별 조회 (배송: 배송중 + 배송완료)
      */
@@ -750,50 +542,6 @@ public interface OrderRepository extends JpaRepository<Order, String> {
         @Param("customerCode") Integer customerCode
     );
     
-    /**
-     * 거래처별원장용 배송 일자별 조회 (본사별)
-     */
-    @Query(value = "SELECT " +
-           "o.delivery_request_dt as order_date, " +
-           "o.customer_code, " +
-           "o.customer_name, " +
-           "b.brand_name, " +
-           "c.tel_num, " +
-           "oi.item_code, " +
-           "oi.item_name, " +
-           "oi.specification, " +
-           "oi.unit, " +
-           "'배송' as order_type, " +
-           "SUM(oi.order_qty) as total_qty, " +
-           "SUM(oi.supply_amt) as supply_amt, " +
-           "SUM(oi.vat_amt) as vat_amt, " +
-           "SUM(oi.total_amt) as total_amt, " +
-           "SUM(oi.order_qty) as delivery_qty, " +
-           "SUM(oi.supply_amt) as delivery_supply_amt, " +
-           "SUM(oi.vat_amt) as delivery_vat_amt, " +
-           "SUM(oi.total_amt) as delivery_total_amt " +
-           "FROM `order` o " +
-           "JOIN order_item oi ON o.order_no = oi.order_no " +
-           "JOIN customer c ON o.customer_code = c.customer_code " +
-           "JOIN brand_info b ON c.brand_code = b.brand_code " +
-           "WHERE o.delivery_status IN ('배송중', '배송완료') " +
-           "AND (:deliveryRequestDtStart IS NULL OR o.delivery_request_dt >= :deliveryRequestDtStart) " +
-           "AND (:deliveryRequestDtEnd IS NULL OR o.delivery_request_dt <= :deliveryRequestDtEnd) " +
-           "AND (:itemCode IS NULL OR oi.item_code = :itemCode) " +
-           "AND (:brandCode IS NULL OR c.brand_code = :brandCode) " +
-           "AND (:customerCode IS NULL OR o.customer_code = :customerCode) " +
-           "AND o.hq_code = :hqCode " +
-           "GROUP BY o.delivery_request_dt, o.customer_code, o.customer_name, b.brand_name, c.tel_num, oi.item_code, oi.item_name, oi.specification, oi.unit " +
-           "ORDER BY o.delivery_request_dt, o.customer_code, oi.item_code", nativeQuery = true)
-    List<Object[]> findCustomerLedgerDeliveryDailyWithHqCode(
-        @Param("deliveryRequestDtStart") String deliveryRequestDtStart,
-        @Param("deliveryRequestDtEnd") String deliveryRequestDtEnd,
-        @Param("itemCode") Integer itemCode,
-        @Param("brandCode") Integer brandCode,
-        @Param("customerCode") Integer customerCode,
-        @Param("hqCode") Integer hqCode
-    );
-    
     /**
      * [앱전용] 최근 주문 정보 조회 (order_dt 기준 최근 1건)
      */
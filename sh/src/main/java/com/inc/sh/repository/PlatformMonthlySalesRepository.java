@@ -0,0 +1,105 @@
+package com.inc.sh.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 플랫폼 월별 매출 집계 Repository (platform_monthly_sales)
+ * - (본사, 브랜드, 매장, 플랫폼, 월) 단위 주문수/주문금액 합계
+ * - 주문 저장 시 신규 주문분만 누적하고, 대시보드는 원본 주문 대신 집계 테이블만 조회
+ * - 누락/불일치 시 rebuild로 원본 주문에서 다시 집계
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlatformMonthlySalesRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 매장/월 단위 누적분
+     */
+    @Getter
+    @Builder
+    public static class MonthlySalesDelta {
+        private Integer hqCode;
+        private Integer brandCode;
+        private Integer storePlatformCode;
+        private String platform;
+        private String salesMonth; // YYYYMM
+        private Integer orderCount;
+        private Long orderAmount;
+    }
+
+    /**
+     * 신규 주문분 누적 (없으면 생성)
+     */
+    public void batchAccumulate(List<MonthlySalesDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO platform_monthly_sales (" +
+                "store_platform_code, sales_month, hq_code, brand_code, platform, order_count, order_amount, updated_at" +
+                ") VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE " +
+                "order_count = order_count + ?, order_amount = order_amount + ?, " +
+                "hq_code = ?, brand_code = ?, platform = ?, updated_at = ?";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(sql, deltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setObject(1, delta.getStorePlatformCode());
+            ps.setString(2, delta.getSalesMonth());
+            ps.setObject(3, delta.getHqCode());
+            ps.setObject(4, delta.getBrandCode());
+            ps.setString(5, delta.getPlatform());
+            ps.setObject(6, delta.getOrderCount());
+            ps.setObject(7, delta.getOrderAmount());
+            ps.setTimestamp(8, now);
+            ps.setObject(9, delta.getOrderCount());
+            ps.setObject(10, delta.getOrderAmount());
+            ps.setObject(11, delta.getHqCode());
+            ps.setObject(12, delta.getBrandCode());
+            ps.setString(13, delta.getPlatform());
+            ps.setTimestamp(14, now);
+        });
+    }
+
+    /**
+     * 원본 주문에서 다시 집계 (hqCode가 null이면 전체)
+     * @return 생성된 집계 행 수
+     */
+    public int rebuild(Integer hqCode) {
+        if (hqCode == null) {
+            jdbcTemplate.update("DELETE FROM platform_monthly_sales");
+        } else {
+            // 저장된 hq_code가 아니라 매장의 현재 본사 기준 (본사가 바뀐 매장도 다시 집계)
+            jdbcTemplate.update("DELETE FROM platform_monthly_sales WHERE store_platform_code IN (" +
+                    "SELECT store_platform_code FROM store_platforms WHERE hq_code = ?)", hqCode);
+        }
+
+        String hqCondition = hqCode == null ? "" : " AND sp.hq_code = ?";
+        Object[] insertParams = hqCode == null
+                ? new Object[]{Timestamp.valueOf(LocalDateTime.now())}
+                : new Object[]{Timestamp.valueOf(LocalDateTime.now()), hqCode};
+
+        return jdbcTemplate.update("INSERT INTO platform_monthly_sales (" +
+                        "store_platform_code, sales_month, hq_code, brand_code, platform, order_count, order_amount, updated_at) " +
+                        "SELECT op.store_platform_code, SUBSTRING(op.order_date, 1, 6), sp.hq_code, sp.brand_code, sp.platform, " +
+                        "COUNT(op.order_platform_code), COALESCE(SUM(op.order_amount), 0), ? " +
+                        "FROM order_platforms op " +
+                        "INNER JOIN store_platforms sp ON sp.store_platform_code = op.store_platform_code " +
+                        "WHERE LENGTH(op.order_date) >= 6" + hqCondition + " " +
+                        "GROUP BY op.store_platform_code, SUBSTRING(op.order_date, 1, 6), sp.hq_code, sp.brand_code, sp.platform",
+                insertParams);
+    }
+}
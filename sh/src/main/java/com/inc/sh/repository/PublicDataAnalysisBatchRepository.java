@@ -0,0 +1,168 @@
+package com.inc.sh.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 공공데이터 분석 대량 저장용 JDBC 배치 Repository
+ * - 행정동마다 findByAdminDongCode + save로 2회씩 왕복하지 않도록 admin_dong_code 기준 배치 처리
+ * - 수집 단계(매출, 소득/소비, 인구)마다 UPSERT로 자기 컬럼만 갱신하므로 동시에 실행되는 다른 단계의 컬럼을 덮어쓰지 않음
+ * - 먼저 저장된 단계가 없는 행정동도 생성되므로 단계 실행 순서와 무관하게 저장
+ * - 값이 null인 컬럼은 기존 값 유지
+ */
+@Repository
+@RequiredArgsConstructor
+public class PublicDataAnalysisBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 단계별 갱신 컬럼 (각 단계는 자기 컬럼만 갱신)
+    private static final List<String> SALES_COLUMNS = List.of(
+            "korean_restaurant_count", "korean_sales", "chinese_restaurant_count", "chinese_sales",
+            "japanese_restaurant_count", "japanese_sales", "western_restaurant_count", "western_sales",
+            "southeast_asian_restaurant_count", "southeast_asian_sales");
+    private static final List<String> INCOME_CONSUMPTION_COLUMNS = List.of("income", "consumption");
+    private static final List<String> BUSINESS_POPULATION_COLUMNS = List.of(
+            "floating_population", "residential_population", "working_population", "household_count");
+    private static final List<String> ALL_STAGE_COLUMNS = Stream.of(
+                    SALES_COLUMNS, BUSINESS_POPULATION_COLUMNS, INCOME_CONSUMPTION_COLUMNS)
+            .flatMap(List::stream)
+            .toList();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 매출 단계 저장 데이터 (업종별 업소수/매출)
+     */
+    @Getter
+    @Builder
+    public static class SalesUpsert {
+        private Integer adminDongCode;
+        private String adminDongName;
+        private Integer koreanRestaurantCount;
+        private Long koreanSales;
+        private Integer chineseRestaurantCount;
+        private Long chineseSales;
+        private Integer japaneseRestaurantCount;
+        private Long japaneseSales;
+        private Integer westernRestaurantCount;
+        private Long westernSales;
+        private Integer southeastAsianRestaurantCount;
+        private Long southeastAsianSales;
+    }
+
+    /**
+     * 소득/소비 단계 저장 데이터
+     */
+    @Getter
+    @Builder
+    public static class IncomeConsumptionUpsert {
+        private Integer adminDongCode;
+        private String adminDongName;
+        private Long income;
+        private Long consumption;
+    }
+
+    /**
+     * 업소수/인구 단계 저장 데이터 (업종별 업소수는 매출 단계 컬럼이므로 제외)
+     */
+    @Getter
+    @Builder
+    public static class BusinessPopulationUpsert {
+        private Integer adminDongCode;
+        private String adminDongName;
+        private Integer floatingPopulation;
+        private Integer residentialPopulation;
+        private Integer workingPopulation;
+        private Integer householdCount;
+    }
+
+    /**
+     * 매출 데이터 일괄 UPSERT (신규 행정동은 생성, 기존 행정동은 매출 컬럼만 갱신)
+     */
+    public void batchUpsertSales(List<SalesUpsert> rows) {
+        batchUpsert(SALES_COLUMNS, rows, row -> new Object[]{
+                row.getAdminDongCode(), row.getAdminDongName(),
+                row.getKoreanRestaurantCount(), row.getKoreanSales(),
+                row.getChineseRestaurantCount(), row.getChineseSales(),
+                row.getJapaneseRestaurantCount(), row.getJapaneseSales(),
+                row.getWesternRestaurantCount(), row.getWesternSales(),
+                row.getSoutheastAsianRestaurantCount(), row.getSoutheastAsianSales()
+        });
+    }
+
+    /**
+     * 소득/소비 데이터 일괄 UPSERT (신규 행정동은 생성, 기존 행정동은 소득/소비 컬럼만 갱신)
+     */
+    public void batchUpsertIncomeConsumption(List<IncomeConsumptionUpsert> rows) {
+        batchUpsert(INCOME_CONSUMPTION_COLUMNS, rows, row -> new Object[]{
+                row.getAdminDongCode(), row.getAdminDongName(),
+                row.getIncome(), row.getConsumption()
+        });
+    }
+
+    /**
+     * 업소수/인구 데이터 일괄 UPSERT (신규 행정동은 생성, 기존 행정동은 인구/세대 컬럼만 갱신)
+     */
+    public void batchUpsertBusinessPopulation(List<BusinessPopulationUpsert> rows) {
+        batchUpsert(BUSINESS_POPULATION_COLUMNS, rows, row -> new Object[]{
+                row.getAdminDongCode(), row.getAdminDongName(),
+                row.getFloatingPopulation(), row.getResidentialPopulation(),
+                row.getWorkingPopulation(), row.getHouseholdCount()
+        });
+    }
+
+    /**
+     * 단계 컬럼 UPSERT 공통 처리
+     * - 신규 행은 단계 컬럼 값(null이면 0)과 나머지 단계 컬럼 0으로 생성
+     * - 기존 행은 단계 컬럼만 갱신 (null이면 기존 값 유지)
+     * @param values 행마다 [행정동코드, 행정동명, 단계 컬럼 값...] (columns 순서)
+     */
+    private <T> void batchUpsert(List<String> columns, List<T> rows, Function<T, Object[]> values) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<String> insertValues = new ArrayList<>();
+        for (String column : ALL_STAGE_COLUMNS) {
+            insertValues.add(columns.contains(column) ? "COALESCE(?, 0)" : "0");
+        }
+        List<String> updates = new ArrayList<>();
+        for (String column : columns) {
+            updates.add(column + " = COALESCE(?, " + column + ")");
+        }
+
+        String sql = "INSERT INTO public_data_analysis (admin_dong_code, admin_dong_name, " +
+                String.join(", ", ALL_STAGE_COLUMNS) + ", created_at, updated_at" +
+                ") VALUES (?, ?, " + String.join(", ", insertValues) + ", ?, ?) " +
+                "ON DUPLICATE KEY UPDATE " + String.join(", ", updates) + ", updated_at = ?";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(sql, rows, BATCH_SIZE, (ps, row) -> {
+            Object[] rowValues = values.apply(row);
+            int index = 1;
+            ps.setObject(index++, rowValues[0]);
+            ps.setString(index++, (String) rowValues[1]);
+            for (int i = 2; i < rowValues.length; i++) {
+                ps.setObject(index++, rowValues[i]);
+            }
+            ps.setTimestamp(index++, now);
+            ps.setTimestamp(index++, now);
+            for (int i = 2; i < rowValues.length; i++) {
+                ps.setObject(index++, rowValues[i]);
+            }
+            ps.setTimestamp(index, now);
+        });
+    }
+}
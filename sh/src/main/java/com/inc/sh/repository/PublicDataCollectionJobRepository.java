@@ -0,0 +1,252 @@
+package com.inc.sh.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 공공데이터 수집 작업 기록 Repository
+ * - 작업(job) / 단계(stage) / 완료된 호출 단위(unit)를 저장해 중단된 수집을 이어서 실행
+ * - 호출 단위는 완료될 때마다 응답과 함께 1건씩 저장 (재시작 시 저장된 응답을 다시 병합)
+ * - 응답(payload)은 재실행에만 쓰이므로 단계가 완료되면 비우고, 재실행되지 않은 오래된 작업은 호출 단위째 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class PublicDataCollectionJobRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 수집 작업
+     */
+    @Getter
+    @Builder
+    public static class JobRecord {
+        private Long jobCode;
+        private String taskId;
+        private String jobType;
+        private String status;
+        private String requestJson;
+        private String errorMessage;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+    }
+
+    /**
+     * 수집 단계
+     */
+    @Getter
+    @Builder
+    public static class StageRecord {
+        private String stage;
+        private String status;
+        private Integer totalUnits;
+        private Integer successRecords;
+        private Integer failureRecords;
+    }
+
+    private static final RowMapper<JobRecord> JOB_ROW_MAPPER = (rs, rowNum) -> JobRecord.builder()
+            .jobCode(rs.getLong("job_code"))
+            .taskId(rs.getString("task_id"))
+            .jobType(rs.getString("job_type"))
+            .status(rs.getString("status"))
+            .requestJson(rs.getString("request_json"))
+            .errorMessage(rs.getString("error_message"))
+            .startedAt(toLocalDateTime(rs.getTimestamp("started_at")))
+            .finishedAt(toLocalDateTime(rs.getTimestamp("finished_at")))
+            .build();
+
+    private static final String JOB_COLUMNS =
+            "job_code, task_id, job_type, status, request_json, error_message, started_at, finished_at";
+
+    /**
+     * 작업 생성 (단계는 PENDING으로 함께 생성)
+     * @param ownerId 작업을 실행하는 서버 인스턴스 (하트비트 갱신 대상)
+     */
+    public Long insertJob(String taskId, String jobType, String requestJson, List<String> stages, String ownerId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO public_data_collection_job (" +
+                            "task_id, job_type, status, request_json, owner_id, started_at, created_at, updated_at" +
+                            ") VALUES (?, ?, 'PROCESSING', ?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, taskId);
+            ps.setString(2, jobType);
+            ps.setString(3, requestJson);
+            ps.setString(4, ownerId);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            return ps;
+        }, keyHolder);
+
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new RuntimeException("수집 작업 생성 실패: " + taskId);
+        }
+        long jobCode = key.longValue();
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO public_data_collection_stage (job_code, stage, status, total_units, updated_at) " +
+                        "VALUES (?, ?, 'PENDING', 0, ?)",
+                stages, BATCH_SIZE, (ps, stage) -> {
+                    ps.setLong(1, jobCode);
+                    ps.setString(2, stage);
+                    ps.setTimestamp(3, now);
+                });
+        return jobCode;
+    }
+
+    public Optional<JobRecord> findJob(String taskId) {
+        return jdbcTemplate.query("SELECT " + JOB_COLUMNS + " FROM public_data_collection_job WHERE task_id = ?",
+                JOB_ROW_MAPPER, taskId).stream().findFirst();
+    }
+
+    /**
+     * 작업 유형별 최근 작업
+     */
+    public Optional<JobRecord> findLatestJob(String jobType) {
+        return jdbcTemplate.query("SELECT " + JOB_COLUMNS + " FROM public_data_collection_job " +
+                "WHERE job_type = ? ORDER BY job_code DESC LIMIT 1", JOB_ROW_MAPPER, jobType).stream().findFirst();
+    }
+
+    public List<JobRecord> findJobsByStatus(String status) {
+        return jdbcTemplate.query("SELECT " + JOB_COLUMNS + " FROM public_data_collection_job " +
+                "WHERE status = ? ORDER BY job_code", JOB_ROW_MAPPER, status);
+    }
+
+    public void updateJobStatus(Long jobCode, String status, String errorMessage, LocalDateTime finishedAt) {
+        jdbcTemplate.update("UPDATE public_data_collection_job SET status = ?, error_message = ?, finished_at = ?, " +
+                        "updated_at = ? WHERE job_code = ?",
+                status, errorMessage, finishedAt == null ? null : Timestamp.valueOf(finishedAt),
+                Timestamp.valueOf(LocalDateTime.now()), jobCode);
+    }
+
+    /**
+     * 종료된(완료 제외) 작업을 진행 중으로 변경, 이미 실행 중이거나 완료된 작업이면 0 반환
+     */
+    public int reopenJob(Long jobCode, String ownerId) {
+        return jdbcTemplate.update("UPDATE public_data_collection_job SET status = 'PROCESSING', error_message = NULL, " +
+                        "finished_at = NULL, owner_id = ?, updated_at = ? " +
+                        "WHERE job_code = ? AND status NOT IN ('PROCESSING', 'COMPLETED')",
+                ownerId, Timestamp.valueOf(LocalDateTime.now()), jobCode);
+    }
+
+    /**
+     * 인스턴스가 실행 중인 작업의 하트비트(updated_at) 갱신
+     */
+    public int touchProcessingJobs(String ownerId) {
+        return jdbcTemplate.update("UPDATE public_data_collection_job SET updated_at = ? " +
+                "WHERE status = 'PROCESSING' AND owner_id = ?", Timestamp.valueOf(LocalDateTime.now()), ownerId);
+    }
+
+    /**
+     * 하트비트가 기준 시각 이전에 멈춘 진행 중 작업을 중단 상태로 변경 (실행 서버가 종료된 작업)
+     * - 조건부 UPDATE라 다른 서버가 그 사이 하트비트를 갱신한 작업은 변경되지 않음
+     */
+    public int markStaleJobsInterrupted(LocalDateTime heartbeatBefore) {
+        return jdbcTemplate.update("UPDATE public_data_collection_job SET status = 'INTERRUPTED', updated_at = ? " +
+                        "WHERE status = 'PROCESSING' AND updated_at < ?",
+                Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(heartbeatBefore));
+    }
+
+    public List<StageRecord> findStages(Long jobCode) {
+        return jdbcTemplate.query("SELECT stage, status, total_units, success_records, failure_records " +
+                        "FROM public_data_collection_stage WHERE job_code = ? ORDER BY stage",
+                (rs, rowNum) -> StageRecord.builder()
+                        .stage(rs.getString("stage"))
+                        .status(rs.getString("status"))
+                        .totalUnits(rs.getInt("total_units"))
+                        .successRecords(rs.getObject("success_records", Integer.class))
+                        .failureRecords(rs.getObject("failure_records", Integer.class))
+                        .build(),
+                jobCode);
+    }
+
+    public void updateStageStarted(Long jobCode, String stage, int totalUnits) {
+        jdbcTemplate.update("UPDATE public_data_collection_stage SET status = 'RUNNING', total_units = ?, " +
+                        "updated_at = ? WHERE job_code = ? AND stage = ?",
+                totalUnits, Timestamp.valueOf(LocalDateTime.now()), jobCode, stage);
+    }
+
+    public void updateStageFinished(Long jobCode, String stage, String status, Integer successRecords, Integer failureRecords) {
+        jdbcTemplate.update("UPDATE public_data_collection_stage SET status = ?, success_records = ?, failure_records = ?, " +
+                        "updated_at = ? WHERE job_code = ? AND stage = ?",
+                status, successRecords, failureRecords, Timestamp.valueOf(LocalDateTime.now()), jobCode, stage);
+    }
+
+    /**
+     * 완료된 호출 단위 저장
+     */
+    public void insertUnit(Long jobCode, String stage, String unitKey, String payload) {
+        jdbcTemplate.update("INSERT INTO public_data_collection_unit (job_code, stage, unit_key, payload, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?)",
+                jobCode, stage, unitKey, payload, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 단계의 완료된 호출 단위별 응답 (unit_key -> payload)
+     */
+    public Map<String, String> findUnitPayloads(Long jobCode, String stage) {
+        Map<String, String> payloads = new HashMap<>();
+        jdbcTemplate.query("SELECT unit_key, payload FROM public_data_collection_unit WHERE job_code = ? AND stage = ?",
+                rs -> {
+                    payloads.put(rs.getString("unit_key"), rs.getString("payload"));
+                }, jobCode, stage);
+        return payloads;
+    }
+
+    /**
+     * 단계의 호출 단위 응답 비우기 (호출 단위 행은 진행률 계산용으로 유지)
+     */
+    public int clearUnitPayloads(Long jobCode, String stage) {
+        return jdbcTemplate.update("UPDATE public_data_collection_unit SET payload = NULL " +
+                "WHERE job_code = ? AND stage = ? AND payload IS NOT NULL", jobCode, stage);
+    }
+
+    /**
+     * 기준 시각 이전에 종료된 작업의 응답이 남은 호출 단위 삭제 (재실행 시 해당 호출 단위는 다시 수집)
+     */
+    public int deleteUnitPayloadsFinishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM public_data_collection_unit WHERE payload IS NOT NULL " +
+                        "AND job_code IN (SELECT job_code FROM public_data_collection_job " +
+                        "WHERE status <> 'PROCESSING' AND finished_at < ?)",
+                Timestamp.valueOf(cutoff));
+    }
+
+    /**
+     * 단계별 완료된 호출 단위 수
+     */
+    public Map<String, Integer> countUnitsByStage(Long jobCode) {
+        Map<String, Integer> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT stage, COUNT(*) AS unit_count FROM public_data_collection_unit " +
+                        "WHERE job_code = ? GROUP BY stage",
+                rs -> {
+                    counts.put(rs.getString("stage"), rs.getInt("unit_count"));
+                }, jobCode);
+        return counts;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
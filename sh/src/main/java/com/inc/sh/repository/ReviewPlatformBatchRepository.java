@@ -0,0 +1,158 @@
+package com.inc.sh.repository;
+
+import com.inc.sh.entity.ReviewImagePlatform;
+import com.inc.sh.entity.ReviewPlatform;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 플랫폼 리뷰 대량 저장용 JDBC 배치 Repository
+ * - 리뷰마다 중복 COUNT + INSERT + LAST_INSERT_ID() + 이미지 INSERT로 왕복하지 않도록
+ *   매장 단위로 중복 IN 조회 1회, 리뷰 배치 INSERT(생성키 반환), 이미지 배치 INSERT로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewPlatformBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * orderReviewId 목록 중 이미 저장된 orderReviewId 조회 (플랫폼 기준)
+     * - raw_data(원본 JSON)의 orderReviewId를 뽑아 둔 생성 컬럼 order_review_id로 비교 (platform, order_review_id 인덱스 사용)
+     */
+    public Set<String> findExistingOrderReviewIds(String platform, Collection<String> orderReviewIds) {
+        Set<String> existing = new HashSet<>();
+        List<String> idList = new ArrayList<>(orderReviewIds);
+
+        for (int from = 0; from < idList.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = idList.subList(from, Math.min(from + IN_CHUNK_SIZE, idList.size()));
+            String sql = "SELECT order_review_id " +
+                    "FROM review_platform " +
+                    "WHERE platform = ? " +
+                    "AND order_review_id IN (" +
+                    String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+            List<Object> params = new ArrayList<>(chunk.size() + 1);
+            params.add(platform);
+            params.addAll(chunk);
+            existing.addAll(jdbcTemplate.queryForList(sql, String.class, params.toArray()));
+        }
+        return existing;
+    }
+
+    /**
+     * 리뷰 일괄 INSERT
+     * @return 생성된 review_platform_code (입력 순서와 동일)
+     */
+    public List<Integer> batchInsertReviews(List<ReviewPlatform> reviews) {
+        List<Integer> generatedCodes = new ArrayList<>(reviews.size());
+        if (reviews.isEmpty()) {
+            return generatedCodes;
+        }
+
+        String sql = "INSERT INTO review_platform (" +
+                "store_platform_code, customer_code, brand_code, platform, " +
+                "review_date, review_time, rating, order_menu, content, " +
+                "owner_reply_content, owner_reply_date, owner_reply_time, " +
+                "has_images, raw_data, description, created_at, updated_at" +
+                ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < reviews.size(); from += BATCH_SIZE) {
+            List<ReviewPlatform> chunk = reviews.subList(from, Math.min(from + BATCH_SIZE, reviews.size()));
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ReviewPlatform review = chunk.get(i);
+                            ps.setObject(1, review.getStorePlatformCode());
+                            ps.setObject(2, review.getCustomerCode());
+                            ps.setObject(3, review.getBrandCode());
+                            ps.setString(4, review.getPlatform());
+                            ps.setDate(5, review.getReviewDate() != null ? Date.valueOf(review.getReviewDate()) : null);
+                            ps.setTime(6, review.getReviewTime() != null ? Time.valueOf(review.getReviewTime()) : null);
+                            ps.setObject(7, review.getRating());
+                            ps.setString(8, review.getOrderMenu());
+                            ps.setString(9, review.getContent());
+                            ps.setString(10, review.getOwnerReplyContent());
+                            ps.setDate(11, review.getOwnerReplyDate() != null ? Date.valueOf(review.getOwnerReplyDate()) : null);
+                            ps.setTime(12, review.getOwnerReplyTime() != null ? Time.valueOf(review.getOwnerReplyTime()) : null);
+                            ps.setString(13, review.getHasImages());
+                            ps.setString(14, review.getRawData());
+                            ps.setString(15, review.getDescription());
+                            ps.setTimestamp(16, now);
+                            ps.setTimestamp(17, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+
+            // 생성키가 행 수만큼 오지 않으면 이미지가 다른 리뷰에 연결될 수 있으므로 중단
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            if (keys.size() != chunk.size()) {
+                throw new RuntimeException("리뷰 생성키 개수가 일치하지 않습니다. 저장: " + chunk.size() + "건, 생성키: " + keys.size() + "건");
+            }
+            for (Map<String, Object> key : keys) {
+                generatedCodes.add(((Number) key.values().iterator().next()).intValue());
+            }
+        }
+        return generatedCodes;
+    }
+
+    /**
+     * 리뷰 이미지 일괄 INSERT
+     */
+    public void batchInsertImages(List<ReviewImagePlatform> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO review_image_platform (" +
+                "review_platform_code, store_platform_code, customer_code, brand_code, " +
+                "seq, image_url, description, created_at, updated_at" +
+                ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(sql, images, BATCH_SIZE, (ps, image) -> {
+            ps.setObject(1, image.getReviewPlatformCode());
+            ps.setObject(2, image.getStorePlatformCode());
+            ps.setObject(3, image.getCustomerCode());
+            ps.setObject(4, image.getBrandCode());
+            ps.setObject(5, image.getSeq());
+            ps.setString(6, image.getImageUrl());
+            ps.setString(7, image.getDescription());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+}
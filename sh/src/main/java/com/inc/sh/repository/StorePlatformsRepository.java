@@ -9,33 +9,43 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
+/**
+ * 플랫폼 매장 Repository
+ * - is_active는 정수 컬럼(0/1)이므로 활성 조건은 IsActiveTrue 파생 쿼리 대신 isActive = 1로 명시
+ */
 @Repository
 public interface StorePlatformsRepository extends JpaRepository<StorePlatforms, Integer> {
     
     /**
      * 플랫폼별 활성화된 매장 정보 조회 (본사코드 포함)
      */
-    List<StorePlatforms> findByPlatformAndHqCodeAndIsActiveTrue(String platform, Integer hqCode);
+    @Query("SELECT sp FROM StorePlatforms sp WHERE sp.platform = :platform AND sp.hqCode = :hqCode AND sp.isActive = 1")
+    List<StorePlatforms> findByPlatformAndHqCodeAndIsActiveTrue(@Param("platform") String platform, @Param("hqCode") Integer hqCode);
     
     /**
      * 플랫폼별 활성화된 매장 정보 조회
      */
-    List<StorePlatforms> findByPlatformAndIsActiveTrue(String platform);
+    @Query("SELECT sp FROM StorePlatforms sp WHERE sp.platform = :platform AND sp.isActive = 1")
+    List<StorePlatforms> findByPlatformAndIsActiveTrue(@Param("platform") String platform);
     
     /**
      * 거래처별 플랫폼 매장 정보 조회
      */
-    List<StorePlatforms> findByCustomerCodeAndIsActiveTrue(Integer customerCode);
+    @Query("SELECT sp FROM StorePlatforms sp WHERE sp.customerCode = :customerCode AND sp.isActive = 1")
+    List<StorePlatforms> findByCustomerCodeAndIsActiveTrue(@Param("customerCode") Integer customerCode);
     
     /**
      * 브랜드별 플랫폼 매장 정보 조회
      */
-    List<StorePlatforms> findByBrandCodeAndIsActiveTrue(Integer brandCode);
+    @Query("SELECT sp FROM StorePlatforms sp WHERE sp.brandCode = :brandCode AND sp.isActive = 1")
+    List<StorePlatforms> findByBrandCodeAndIsActiveTrue(@Param("brandCode") Integer brandCode);
     
     /**
      * 특정 플랫폼의 특정 거래처 매장 조회
      */
-    StorePlatforms findByCustomerCodeAndPlatformAndIsActiveTrue(Integer customerCode, String platform);
+    @Query("SELECT sp FROM StorePlatforms sp WHERE sp.customerCode = :customerCode AND sp.platform = :platform AND sp.isActive = 1")
+    StorePlatforms findByCustomerCodeAndPlatformAndIsActiveTrue(@Param("customerCode") Integer customerCode,
+                                                                @Param("platform") String platform);
     
     /**
      * 특정 플랫폼의 특정 거래처 매장 조회
@@ -63,4 +73,22 @@ public interface StorePlatformsRepository extends JpaRepository<StorePlatforms,
     @Modifying
     @Query("UPDATE StorePlatforms sp SET sp.lastSyncedAt = :syncTime WHERE sp.storePlatformCode = :storePlatformCode")
     void updateLastSyncedAt(@Param("storePlatformCode") Integer storePlatformCode, @Param("syncTime") String syncTime);
-}
\ No newline at end of file
+    
+    /**
+     * 주문 동기화 완료 - 주문 워터마크 + 동기화 시간 업데이트
+     */
+    @Modifying
+    @Query("UPDATE StorePlatforms sp SET sp.orderSyncedAt = :watermark, sp.lastSyncedAt = :syncTime WHERE sp.storePlatformCode = :storePlatformCode")
+    void updateOrderSyncedAt(@Param("storePlatformCode") Integer storePlatformCode,
+                             @Param("watermark") String watermark,
+                             @Param("syncTime") String syncTime);
+    
+    /**
+     * 리뷰 동기화 완료 - 리뷰 워터마크 + 동기화 시간 업데이트
+     */
+    @Modifying
+    @Query("UPDATE StorePlatforms sp SET sp.reviewSyncedAt = :watermark, sp.lastSyncedAt = :syncTime WHERE sp.storePlatformCode = :storePlatformCode")
+    void updateReviewSyncedAt(@Param("storePlatformCode") Integer storePlatformCode,
+                              @Param("watermark") String watermark,
+                              @Param("syncTime") String syncTime);
+}
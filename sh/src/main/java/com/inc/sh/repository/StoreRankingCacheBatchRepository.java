@@ -0,0 +1,92 @@
+package com.inc.sh.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 매장 순위 캐시(store_ranking_cache) JDBC Repository
+ * - 일별 매출 집계에서 매장별 합계를 구하고 ROW_NUMBER 윈도우 함수로 매출순위/주문수순위를 한 번에 계산
+ * - 순위 행을 한 건씩 save하지 않고 DELETE 1회 + INSERT ... SELECT 1회로 교체
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreRankingCacheBatchRepository {
+
+    public static final String RANKING_TYPE_AMOUNT = "매출순위";
+    public static final String RANKING_TYPE_ORDER_COUNT = "주문수순위";
+
+    private static final String DESCRIPTION = "하이픈 API 자동 집계";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기간 순위 재계산 (platform이 null이면 전체 플랫폼, brandCodes가 null이면 전체 브랜드)
+     * - 순위는 (순위유형, 플랫폼, 브랜드) 단위로 매김
+     * @param rankingPeriod 순위기간 (예: 최근7일)
+     * @param startDate 집계 시작일 (YYYY-MM-DD)
+     * @return 저장된 순위 행 수
+     */
+    public int refreshRankings(String platform, Collection<Integer> brandCodes, String rankingPeriod, String startDate) {
+        if (brandCodes != null && brandCodes.isEmpty()) {
+            return 0;
+        }
+
+        String platformCondition = platform == null ? "" : " AND platform = ?";
+        String brandCondition = brandCodes == null ? ""
+                : " AND brand_code IN (" + String.join(", ", Collections.nCopies(brandCodes.size(), "?")) + ")";
+        String summaryCondition = (platform == null ? "" : " AND dss.platform = ?")
+                + (brandCodes == null ? "" : " AND dss.brand_code IN (" + String.join(", ", Collections.nCopies(brandCodes.size(), "?")) + ")");
+
+        // 1. 기존 순위 삭제
+        List<Object> deleteParams = new ArrayList<>(List.of(rankingPeriod, RANKING_TYPE_AMOUNT, RANKING_TYPE_ORDER_COUNT));
+        addConditionParams(deleteParams, platform, brandCodes);
+        jdbcTemplate.update("DELETE FROM store_ranking_cache " +
+                        "WHERE ranking_period = ? AND ranking_type IN (?, ?)" + platformCondition + brandCondition,
+                deleteParams.toArray());
+
+        // 2. 매장별 합계 × 순위유형 → 윈도우 함수로 순위 계산 후 저장
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> insertParams = new ArrayList<>(List.of(rankingPeriod, now, DESCRIPTION, now, now, startDate));
+        addConditionParams(insertParams, platform, brandCodes);
+        String metric = "CASE WHEN k.ranking_type = '" + RANKING_TYPE_AMOUNT + "' THEN t.total_amount ELSE t.order_count END";
+
+        return jdbcTemplate.update("INSERT INTO store_ranking_cache (" +
+                        "store_platform_code, customer_code, brand_code, ranking_type, ranking_period, platform, " +
+                        "store_name, metric_value, rank_number, last_updated_at, description, created_at, updated_at) " +
+                        "SELECT t.store_platform_code, t.customer_code, t.brand_code, k.ranking_type, ?, t.platform, " +
+                        "t.store_name, " +
+                        metric + ", " +
+                        "ROW_NUMBER() OVER (PARTITION BY k.ranking_type, t.platform, t.brand_code " +
+                        "ORDER BY " + metric + " DESC, t.store_platform_code), " +
+                        "?, ?, ?, ? " +
+                        "FROM (" +
+                        "SELECT dss.store_platform_code, MAX(dss.customer_code) AS customer_code, dss.brand_code, " +
+                        "dss.platform, MAX(sp.platform_store_name) AS store_name, " +
+                        "SUM(dss.total_order_amount) AS total_amount, SUM(dss.order_count) AS order_count " +
+                        "FROM daily_sales_summary dss " +
+                        "INNER JOIN store_platforms sp ON sp.store_platform_code = dss.store_platform_code " +
+                        "WHERE dss.summary_date >= ?" + summaryCondition + " " +
+                        "GROUP BY dss.store_platform_code, dss.brand_code, dss.platform" +
+                        ") t " +
+                        "CROSS JOIN (SELECT '" + RANKING_TYPE_AMOUNT + "' AS ranking_type " +
+                        "UNION ALL SELECT '" + RANKING_TYPE_ORDER_COUNT + "') k",
+                insertParams.toArray());
+    }
+
+    private static void addConditionParams(List<Object> params, String platform, Collection<Integer> brandCodes) {
+        if (platform != null) {
+            params.add(platform);
+        }
+        if (brandCodes != null) {
+            params.addAll(brandCodes);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.inc.sh.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매장별 리뷰현황 조회 JDBC Repository
+ * - 매장 목록 + 매장별 플랫폼별 리뷰수/별점합 + 전체 합계를 쿼리 1회로 조회
+ * - 플랫폼 피벗은 조건부 집계(CASE), 합계는 윈도우 함수(SUM ... OVER ())로 DB에서 계산
+ * - 리뷰가 없는 매장도 LEFT JOIN으로 0건 행 포함
+ * - 리뷰 대시보드용 월별 플랫폼별 매장별 리뷰수/별점합도 쿼리 1회로 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreReviewStatsQueryRepository {
+
+    public static final String PLATFORM_BAEMIN = "배민";
+    public static final String PLATFORM_YOGIYO = "요기요";
+    public static final String PLATFORM_COUPANG = "쿠팡이츠";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 플랫폼 1개의 리뷰수/별점합
+     */
+    @Getter
+    @Builder
+    public static class ReviewCount {
+        private int reviewCount;
+        private long ratingSum;
+
+        /**
+         * 평점 평균 (소수 첫째 자리 반올림, 리뷰 없으면 0.0)
+         */
+        public double getAvgRating() {
+            return average(ratingSum, reviewCount);
+        }
+    }
+
+    /**
+     * 매장(또는 합계) 1행
+     */
+    @Getter
+    @Builder
+    public static class StoreReviewStatRow {
+        private String storeName;
+        private ReviewCount baemin;
+        private ReviewCount yogiyo;
+        private ReviewCount coupang;
+
+        public int getTotalReviewCount() {
+            return baemin.getReviewCount() + yogiyo.getReviewCount() + coupang.getReviewCount();
+        }
+
+        /**
+         * 3개 앱 전체 평점 평균 (전체 별점합 / 전체 리뷰수)
+         */
+        public double getTotalAvgRating() {
+            return average(baemin.getRatingSum() + yogiyo.getRatingSum() + coupang.getRatingSum(), getTotalReviewCount());
+        }
+    }
+
+    /**
+     * 조회 결과 (매장명 순 매장 목록 + 전체 합계)
+     */
+    @Getter
+    @Builder
+    public static class StoreReviewStats {
+        private List<StoreReviewStatRow> stores;
+        private StoreReviewStatRow total;
+    }
+
+    /**
+     * 리뷰 대시보드 집계 1행 (월 x 플랫폼 x 매장명)
+     */
+    @Getter
+    @Builder
+    public static class DashboardReviewCell {
+        private String month;       // YYYYMM
+        private String platform;
+        private String storeName;
+        private ReviewCount reviews;
+    }
+
+    /**
+     * 리뷰 대시보드 집계 조회 (월, 플랫폼, 매장명으로 그룹핑, 리뷰 있는 조합만)
+     * @param brandCode 브랜드코드 (0: 전체)
+     * @param startYearMonth 시작년월 (YYYYMM)
+     * @param endYearMonth 종료년월 (YYYYMM)
+     */
+    public List<DashboardReviewCell> findDashboardReviewCells(Integer hqCode, Integer brandCode,
+                                                              String startYearMonth, String endYearMonth) {
+        LocalDate startDate = toFirstDay(startYearMonth);
+        LocalDate endDateExclusive = toFirstDay(endYearMonth).plusMonths(1);
+
+        String sql = "SELECT YEAR(rp.review_date) AS review_year, MONTH(rp.review_date) AS review_month, " +
+                "rp.platform, sp.platform_store_name AS store_name, " +
+                "COUNT(*) AS review_count, SUM(rp.rating) AS rating_sum " +
+                "FROM review_platform rp " +
+                "INNER JOIN store_platforms sp ON rp.store_platform_code = sp.store_platform_code " +
+                "WHERE sp.hq_code = ? " +
+                "AND sp.is_active = true " +
+                "AND (? = 0 OR sp.brand_code = ?) " +
+                "AND rp.review_date >= ? AND rp.review_date < ? " +
+                "GROUP BY YEAR(rp.review_date), MONTH(rp.review_date), rp.platform, sp.platform_store_name";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> DashboardReviewCell.builder()
+                        .month(String.format("%04d%02d", rs.getInt("review_year"), rs.getInt("review_month")))
+                        .platform(rs.getString("platform"))
+                        .storeName(rs.getString("store_name"))
+                        .reviews(reviewCount(rs, "review_count", "rating_sum"))
+                        .build(),
+                hqCode, brandCode, brandCode, startDate, endDateExclusive);
+    }
+
+    /**
+     * 매장별 리뷰현황 조회 (매장명으로 그룹핑)
+     * @param brandCode 브랜드코드 (0: 전체)
+     * @param startYearMonth 시작년월 (YYYYMM)
+     * @param endYearMonth 종료년월 (YYYYMM)
+     */
+    public StoreReviewStats findStoreReviewStats(Integer hqCode, Integer brandCode,
+                                                 String startYearMonth, String endYearMonth) {
+        LocalDate startDate = toFirstDay(startYearMonth);
+        LocalDate endDateExclusive = toFirstDay(endYearMonth).plusMonths(1);
+
+        String sql = "SELECT sp.platform_store_name AS store_name, " +
+                platformColumns(PLATFORM_BAEMIN, "baemin") + ", " +
+                platformColumns(PLATFORM_YOGIYO, "yogiyo") + ", " +
+                platformColumns(PLATFORM_COUPANG, "coupang") + " " +
+                "FROM store_platforms sp " +
+                "LEFT JOIN review_platform rp ON rp.store_platform_code = sp.store_platform_code " +
+                "AND rp.review_date >= ? AND rp.review_date < ? " +
+                "WHERE sp.hq_code = ? " +
+                "AND sp.is_active = true " +
+                "AND (? = 0 OR sp.brand_code = ?) " +
+                "GROUP BY sp.platform_store_name " +
+                "ORDER BY sp.platform_store_name";
+
+        List<StoreReviewStatRow> stores = new ArrayList<>();
+        StoreReviewStatRow[] total = new StoreReviewStatRow[1];
+
+        jdbcTemplate.query(sql, rs -> {
+            stores.add(StoreReviewStatRow.builder()
+                    .storeName(rs.getString("store_name"))
+                    .baemin(reviewCount(rs, "baemin_count", "baemin_rating_sum"))
+                    .yogiyo(reviewCount(rs, "yogiyo_count", "yogiyo_rating_sum"))
+                    .coupang(reviewCount(rs, "coupang_count", "coupang_rating_sum"))
+                    .build());
+
+            if (total[0] == null) {
+                total[0] = StoreReviewStatRow.builder()
+                        .storeName("합계")
+                        .baemin(reviewCount(rs, "total_baemin_count", "total_baemin_rating_sum"))
+                        .yogiyo(reviewCount(rs, "total_yogiyo_count", "total_yogiyo_rating_sum"))
+                        .coupang(reviewCount(rs, "total_coupang_count", "total_coupang_rating_sum"))
+                        .build();
+            }
+        }, startDate, endDateExclusive, hqCode, brandCode, brandCode);
+
+        if (total[0] == null) {
+            ReviewCount empty = ReviewCount.builder().build();
+            total[0] = StoreReviewStatRow.builder().storeName("합계").baemin(empty).yogiyo(empty).coupang(empty).build();
+        }
+
+        return StoreReviewStats.builder()
+                .stores(stores)
+                .total(total[0])
+                .build();
+    }
+
+    /**
+     * 플랫폼별 매장 리뷰수/별점합 + 전체 매장 합계 컬럼
+     */
+    private static String platformColumns(String platform, String alias) {
+        String count = "SUM(CASE WHEN rp.platform = '" + platform + "' THEN 1 ELSE 0 END)";
+        String ratingSum = "SUM(CASE WHEN rp.platform = '" + platform + "' THEN rp.rating ELSE 0 END)";
+        return count + " AS " + alias + "_count, " +
+                ratingSum + " AS " + alias + "_rating_sum, " +
+                "SUM(" + count + ") OVER () AS total_" + alias + "_count, " +
+                "SUM(" + ratingSum + ") OVER () AS total_" + alias + "_rating_sum";
+    }
+
+    private static ReviewCount reviewCount(ResultSet rs, String countColumn, String ratingSumColumn) throws SQLException {
+        return ReviewCount.builder()
+                .reviewCount(rs.getInt(countColumn))
+                .ratingSum(rs.getLong(ratingSumColumn))
+                .build();
+    }
+
+    private static LocalDate toFirstDay(String yearMonth) {
+        return LocalDate.of(Integer.parseInt(yearMonth.substring(0, 4)), Integer.parseInt(yearMonth.substring(4, 6)), 1);
+    }
+
+    private static double average(long ratingSum, int reviewCount) {
+        if (reviewCount == 0) {
+            return 0.0;
+        }
+        return BigDecimal.valueOf(ratingSum)
+                .divide(BigDecimal.valueOf(reviewCount), 1, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+}
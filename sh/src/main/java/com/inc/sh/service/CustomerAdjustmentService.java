@@ -26,6 +26,8 @@ public class CustomerAdjustmentService {
     
     private final CustomerAccountTransactionsRepository customerAccountTransactionsRepository;
     private final CustomerRepository customerRepository;
+    private final CustomerBalanceLedgerService customerBalanceLedgerService;
+    private final CustomerBalanceSnapshotService customerBalanceSnapshotService;
     
     /**
      * 거래처조정처리 조회 (hqCode 검증 포함, 날짜 범위 검색)
@@ -171,6 +173,8 @@ public class CustomerAdjustmentService {
         boolean isUpdate = saveDto.getTransactionCode() != null;
         CustomerAccountTransactions originalTransaction = null;
         int originalAmount = 0;
+        Integer originalCustomerCode = null;
+        String originalTransactionDate = null;
         int originalBalanceAmt = customer.getBalanceAmt(); // 수정 전 잔액
         
         // 수정인 경우 기존 조정 정보 조회
@@ -180,9 +184,11 @@ public class CustomerAdjustmentService {
                 throw new RuntimeException("해당 조정내역을 찾을 수 없습니다.");
             }
             originalAmount = originalTransaction.getAmount();
+            originalCustomerCode = originalTransaction.getCustomerCode();
+            originalTransactionDate = originalTransaction.getTransactionDate();
         }
         
-        // 거래처 잔액 업데이트
+        // 거래처 잔액 업데이트 (원자적 증감)
         int newBalanceAmt;
         if (isUpdate) {
             // 수정 시: 기존 조정금액 되돌리고 새 조정금액 적용
@@ -190,20 +196,17 @@ public class CustomerAdjustmentService {
             int newAdjustment = saveDto.getAdjustmentAmount(); // 새 조정 적용
             int totalAdjustment = rollbackAmount + newAdjustment;
             
-            newBalanceAmt = customer.getBalanceAmt() + totalAdjustment;
-            customer.setBalanceAmt(newBalanceAmt);
+            newBalanceAmt = customerBalanceLedgerService.apply(customer.getCustomerCode(), totalAdjustment, true);
             
             log.info("개별 잔액 수정 계산 - 기존잔액: {}, 기존조정롤백: {}, 새조정: {}, 이조정: {}, 새잔액: {}", 
                     originalBalanceAmt, rollbackAmount, newAdjustment, totalAdjustment, newBalanceAmt);
         } else {
             // 신규 시: 조정금액만큼 잔액 조정
-            newBalanceAmt = customer.getBalanceAmt() + saveDto.getAdjustmentAmount();
-            customer.setBalanceAmt(newBalanceAmt);
+            newBalanceAmt = customerBalanceLedgerService.apply(customer.getCustomerCode(), saveDto.getAdjustmentAmount(), true);
             
             log.info("개별 잔액 신규 계산 - 기존잔액: {}, 조정금액: {}, 새잔액: {}", 
                     originalBalanceAmt, saveDto.getAdjustmentAmount(), newBalanceAmt);
         }
-        customerRepository.save(customer);
         
         // 조정 거래내역 저장
         CustomerAccountTransactions transaction;
@@ -241,6 +244,11 @@ public class CustomerAdjustmentService {
         if (!isUpdate) {
             transaction.setReferenceId(transaction.getTransactionCode().toString());
             customerAccountTransactionsRepository.save(transaction);
+        } else {
+            // 수정은 기존 거래 변경이므로 변경 전/후 일자 잔액 스냅샷 재계산 (신규는 다음 증분 반영 대상)
+            customerAccountTransactionsRepository.flush();
+            customerBalanceSnapshotService.refreshDays(originalCustomerCode, originalTransactionDate);
+            customerBalanceSnapshotService.refreshDays(transaction.getCustomerCode(), transaction.getTransactionDate());
         }
         
         String action = isUpdate ? "수정" : "등록";
@@ -340,14 +348,16 @@ public class CustomerAdjustmentService {
         int originalBalanceAmt = customer.getBalanceAmt();
         int adjustmentAmount = transaction.getAmount();
         
-        // 거래처 잔액 롤백 (조정금액의 반대만큼 적용)
-        int newBalanceAmt = customer.getBalanceAmt() - adjustmentAmount;
-        customer.setBalanceAmt(newBalanceAmt);
-        customerRepository.save(customer);
+        // 거래처 잔액 롤백 (조정금액의 반대만큼 원자적 적용)
+        int newBalanceAmt = customerBalanceLedgerService.apply(customer.getCustomerCode(), -adjustmentAmount, true);
         
         // 조정 거래내역 삭제
         customerAccountTransactionsRepository.delete(transaction);
         
+        // 삭제된 거래일자 잔액 스냅샷 재계산
+        customerAccountTransactionsRepository.flush();
+        customerBalanceSnapshotService.refreshDays(transaction.getCustomerCode(), transaction.getTransactionDate());
+        
         log.info("개별 조정 삭제 완료 - 거래내역코드: {}, 거래처: {}, 기존잔액: {}, 롤백금액: {}, 최종잔액: {}", 
                 transactionCode, customer.getCustomerName(), originalBalanceAmt, adjustmentAmount, newBalanceAmt);
         
@@ -0,0 +1,81 @@
+package com.inc.sh.service;
+
+import com.inc.sh.entity.CustomerAccountTransactions;
+import com.inc.sh.repository.CustomerAccountTransactionsRepository;
+import com.inc.sh.repository.CustomerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 거래처 잔액 원장 서비스 (충전형)
+ * - 잔액은 엔티티 조회-수정-저장 대신 조건부 원자적 UPDATE로만 증감
+ * - UPDATE가 잡은 행 잠금이 트랜잭션 종료까지 유지되므로 같은 트랜잭션에서 다시 읽은 잔액이 곧 거래 후 잔액
+ * - 호출 측은 Customer 엔티티의 balanceAmt를 직접 수정/저장하지 않고 반환된 거래 후 잔액을 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerBalanceLedgerService {
+
+    private final CustomerRepository customerRepository;
+    private final CustomerAccountTransactionsRepository customerAccountTransactionsRepository;
+
+    /**
+     * 잔액 차감 (잔액 부족 시 실패)
+     * @return 거래 후 잔액
+     */
+    @Transactional
+    public int debit(Integer customerCode, int amount) {
+        return apply(customerCode, -amount, false);
+    }
+
+    /**
+     * 잔액 증가
+     * @return 거래 후 잔액
+     */
+    @Transactional
+    public int credit(Integer customerCode, int amount) {
+        return apply(customerCode, amount, true);
+    }
+
+    /**
+     * 잔액 증감
+     * @param delta 증감액 (+입금/환불, -출금/차감)
+     * @param allowNegative false면 증감 후 잔액이 음수가 되는 경우 실패
+     * @return 거래 후 잔액
+     */
+    @Transactional
+    public int apply(Integer customerCode, int delta, boolean allowNegative) {
+        int updated = customerRepository.addBalanceAmt(customerCode, delta, allowNegative ? 1 : 0);
+
+        if (updated == 0) {
+            Integer currentBalance = customerRepository.findBalanceAmtByCustomerCode(customerCode);
+            if (currentBalance == null) {
+                throw new RuntimeException("해당 거래처를 찾을 수 없습니다: " + customerCode);
+            }
+            throw new RuntimeException(String.format(
+                    "잔액이 부족합니다. 현재 잔액: %,d원, 필요 금액: %,d원", currentBalance, -delta));
+        }
+
+        Integer balanceAfter = customerRepository.findBalanceAmtByCustomerCode(customerCode);
+        log.debug("거래처 잔액 반영 - 거래처코드: {}, 증감액: {}, 거래후잔액: {}", customerCode, delta, balanceAfter);
+        return balanceAfter;
+    }
+
+    /**
+     * 잔액 증감 + 거래내역 기록
+     * - 거래내역의 balanceAfter는 원자적 증감 결과로 설정
+     * @param transaction 저장할 거래내역 (customerCode 필수)
+     * @param delta 증감액 (+입금/환불, -출금/차감)
+     * @param allowNegative false면 증감 후 잔액이 음수가 되는 경우 실패
+     * @return 저장된 거래내역
+     */
+    @Transactional
+    public CustomerAccountTransactions post(CustomerAccountTransactions transaction, int delta, boolean allowNegative) {
+        int balanceAfter = apply(transaction.getCustomerCode(), delta, allowNegative);
+        transaction.setBalanceAfter(balanceAfter);
+        return customerAccountTransactionsRepository.save(transaction);
+    }
+}
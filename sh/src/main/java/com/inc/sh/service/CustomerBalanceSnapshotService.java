@@ -0,0 +1,102 @@
+package com.inc.sh.service;
+
+import com.inc.sh.repository.CustomerBalanceSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 거래처 일별 마감잔액 스냅샷 관리
+ * - 증분 반영: 마지막 반영 거래코드 이후 거래가 있는 (거래처, 일자)만 재계산 (스케줄러)
+ * - 전체 재구축: 원장 전체를 거래코드 구간 단위로 다시 반영 (수동)
+ * - 기준일 잔액 조회: 스냅샷 + 아직 반영되지 않은 거래
+ */
+@Service
+@Slf4j
+public class CustomerBalanceSnapshotService {
+
+    private final CustomerBalanceSnapshotRepository customerBalanceSnapshotRepository;
+    private final int chunkSize;
+    private final int overlapCodes;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CustomerBalanceSnapshotService(CustomerBalanceSnapshotRepository customerBalanceSnapshotRepository,
+                                          @Value("${customer.balance-snapshot.chunk-size:50000}") int chunkSize,
+                                          @Value("${customer.balance-snapshot.overlap-codes:1000}") int overlapCodes) {
+        this.customerBalanceSnapshotRepository = customerBalanceSnapshotRepository;
+        this.chunkSize = chunkSize;
+        this.overlapCodes = overlapCodes;
+    }
+
+    /**
+     * 증분 반영
+     * - 직전 반영 지점보다 overlapCodes만큼 앞에서 시작 (반영 시점에 커밋 전이던 거래 보정)
+     * @return 반영 행 수
+     */
+    public int refresh() {
+        int from = Math.max(0, customerBalanceSnapshotRepository.findProcessedTransactionCode() - overlapCodes);
+        return build(from, "증분");
+    }
+
+    /**
+     * 전체 재구축 (스냅샷 누락/불일치 시 수동 실행)
+     * - 기존 행은 덮어쓰므로 재구축 중에도 조회 가능
+     * @return 반영 행 수
+     */
+    public int backfill() {
+        int upserted = build(0, "전체");
+        int deleted = customerBalanceSnapshotRepository.deleteDaysWithoutTransactions();
+        log.info("거래처 잔액 스냅샷 정리 - 거래 없는 일자 {}건 삭제", deleted);
+        return upserted;
+    }
+
+    private int build(int fromExclusive, String mode) {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("거래처 잔액 스냅샷 작업이 이미 진행 중입니다.");
+        }
+        try {
+            long start = System.currentTimeMillis();
+            int to = customerBalanceSnapshotRepository.findMaxTransactionCode();
+            int upserted = 0;
+
+            // 구간별로 커밋해서 긴 트랜잭션/락 방지
+            for (int from = fromExclusive; from < to; from += chunkSize) {
+                upserted += customerBalanceSnapshotRepository.upsertDaysTouchedBetween(from, Math.min(from + chunkSize, to));
+            }
+
+            log.info("거래처 잔액 스냅샷 {} 반영 완료 - 거래코드: {}~{}, 반영: {}건, 소요: {}ms",
+                    mode, fromExclusive, to, upserted, System.currentTimeMillis() - start);
+            return upserted;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 기존 거래 수정/삭제 후 해당 (거래처, 일자) 스냅샷 재계산
+     * - 호출 전에 거래내역 변경이 flush 되어 있어야 함
+     */
+    @Transactional
+    public void refreshDays(Integer customerCode, String... balanceDates) {
+        int processed = customerBalanceSnapshotRepository.findProcessedTransactionCode();
+        for (String balanceDate : balanceDates) {
+            if (customerCode != null && balanceDate != null) {
+                customerBalanceSnapshotRepository.refreshDay(customerCode, balanceDate, processed);
+            }
+        }
+    }
+
+    /**
+     * 기준일 이전 거래처별 최종 잔액 (이전 거래 없는 거래처는 결과에 없음)
+     * - 미반영 거래는 증분 반영과 같은 구간(반영 기준 - overlapCodes 이후)을 원장에서 읽음
+     * @param customerCode 거래처코드 (null: 본사 전체)
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> getBalancesBefore(Integer hqCode, Integer customerCode, String beforeDate) {
+        return customerBalanceSnapshotRepository.findBalancesBefore(hqCode, customerCode, beforeDate, overlapCodes);
+    }
+}
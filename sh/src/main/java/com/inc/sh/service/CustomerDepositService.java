@@ -28,6 +28,8 @@ public class CustomerDepositService {
     private final DepositsRepository depositsRepository;
     private final CustomerAccountTransactionsRepository customerAccountTransactionsRepository;
     private final CustomerRepository customerRepository;
+    private final CustomerBalanceLedgerService customerBalanceLedgerService;
+    private final CustomerBalanceSnapshotService customerBalanceSnapshotService;
     
     /**
      * 거래처수금처리 조회 (referenceId, balanceAfter 포함)
@@ -256,24 +258,24 @@ public class CustomerDepositService {
         
         deposit = depositsRepository.save(deposit);
         
-        // 거래처 잔액 업데이트
+        // 거래처 잔액 업데이트 (원자적 증감)
         int newBalanceAmt;
         if (isUpdate) {
             int balanceDiff = saveDto.getDepositAmount() - originalAmount;
-            newBalanceAmt = customer.getBalanceAmt() + balanceDiff;
-            customer.setBalanceAmt(newBalanceAmt);
+            newBalanceAmt = customerBalanceLedgerService.apply(customer.getCustomerCode(), balanceDiff, true);
             log.info("잔액 수정 계산 - 기존잔액: {}, 금액차이: {}, 새잔액: {}", 
                     originalBalanceAmt, balanceDiff, newBalanceAmt);
         } else {
-            newBalanceAmt = customer.getBalanceAmt() + saveDto.getDepositAmount();
-            customer.setBalanceAmt(newBalanceAmt);
+            newBalanceAmt = customerBalanceLedgerService.apply(customer.getCustomerCode(), saveDto.getDepositAmount(), true);
             log.info("잔액 신규 계산 - 기존잔액: {}, 입금금액: {}, 새잔액: {}", 
                     originalBalanceAmt, saveDto.getDepositAmount(), newBalanceAmt);
         }
-        customerRepository.save(customer);
         
         // 거래처계좌거래내역 처리
+        List<CustomerAccountTransactions> originalTransactions = new ArrayList<>();
         if (isUpdate) {
+            originalTransactions = customerAccountTransactionsRepository.findByReferenceIdAndReferenceType(
+                    originalDeposit.getDepositId().toString(), "입금확인");
             customerAccountTransactionsRepository.deleteByReferenceIdAndReferenceType(
                     originalDeposit.getDepositId().toString(), "입금확인");
             log.info("기존 거래내역 삭제 완료 - 참조ID: {}", originalDeposit.getDepositId().toString());
@@ -295,6 +297,11 @@ public class CustomerDepositService {
         
         customerAccountTransactionsRepository.save(transaction);
         
+        // 수정은 기존 거래를 지웠으므로 기존 거래일자 잔액 스냅샷 재계산 (새 거래내역은 다음 증분 반영 대상)
+        if (isUpdate) {
+            refreshSnapshotDays(originalTransactions);
+        }
+        
         String action = isUpdate ? "수정" : "등록";
         log.info("거래처수금처리 {} 완료 - 입금코드: {}, 참조코드: {}, 최종잔액: {}", 
                 action, deposit.getDepositId(), saveDto.getReferenceId(), newBalanceAmt);
@@ -333,20 +340,34 @@ public class CustomerDepositService {
             throw new RuntimeException("해당 거래처를 찾을 수 없습니다: " + deposit.getCustomerCode());
         }
         
-        // 거래처 잔액 롤백 (입금금액만큼 차감)
-        customer.setBalanceAmt(customer.getBalanceAmt() - deposit.getDepositAmount());
-        customerRepository.save(customer);
+        // 거래처 잔액 롤백 (입금금액만큼 원자적 차감)
+        customerBalanceLedgerService.apply(customer.getCustomerCode(), -deposit.getDepositAmount(), true);
         
         // 거래처계좌거래내역 삭제
+        List<CustomerAccountTransactions> deletedTransactions = customerAccountTransactionsRepository
+                .findByReferenceIdAndReferenceType(depositId.toString(), "입금확인");
         customerAccountTransactionsRepository.deleteByReferenceIdAndReferenceType(
                 depositId.toString(), "입금확인");
         
         // 입금 정보 삭제
         depositsRepository.delete(deposit);
         
+        // 삭제된 거래일자 잔액 스냅샷 재계산
+        refreshSnapshotDays(deletedTransactions);
+        
         log.info("거래처수금처리 삭제 완료 - 입금코드: {}", depositId);
     }
     
+    /**
+     * 삭제된 거래내역의 (거래처, 거래일자) 잔액 스냅샷 재계산
+     */
+    private void refreshSnapshotDays(List<CustomerAccountTransactions> transactions) {
+        customerAccountTransactionsRepository.flush();
+        for (CustomerAccountTransactions transaction : transactions) {
+            customerBalanceSnapshotService.refreshDays(transaction.getCustomerCode(), transaction.getTransactionDate());
+        }
+    }
+    
     /**
      * 거래처명 안전 조회 (에러 발생시 사용)
      */
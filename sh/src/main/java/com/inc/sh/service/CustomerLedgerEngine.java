@@ -0,0 +1,215 @@
+package com.inc.sh.service;
+
+import com.inc.sh.dto.customerLedger.reqDto.CustomerLedgerSummarySearchDto;
+import com.inc.sh.dto.customerLedger.respDto.CustomerLedgerDailyRespDto;
+import com.inc.sh.dto.customerLedger.respDto.CustomerLedgerDetailRespDto;
+import com.inc.sh.dto.customerLedger.respDto.CustomerLedgerSummaryRespDto;
+import com.inc.sh.repository.CustomerLedgerQueryRepository;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래처별원장 계산
+ * - 기간 내 주문/배송/반품을 (구분, 일자, 거래처, 품목) 단위로 한 번만 조회하고
+ *   일자별 → 세부(거래처+품목) → 집계(거래처) 3가지 단위를 메모리에서 함께 계산
+ * - 집계 화면의 금액은 기존과 같이 주문 헤더 금액 기준, 세부/일자별은 주문 품목 금액 기준
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerLedgerEngine {
+
+    private static final List<String> ORDER_TYPES = List.of(
+            CustomerLedgerQueryRepository.ORDER_TYPE_ORDER,
+            CustomerLedgerQueryRepository.ORDER_TYPE_DELIVERY,
+            CustomerLedgerQueryRepository.ORDER_TYPE_RETURN);
+
+    private static final Comparator<Integer> CODE_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<String> TEXT_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final CustomerLedgerQueryRepository customerLedgerQueryRepository;
+
+    /**
+     * 원장 계산 결과 (구분 순서: 주문 → 배송 → 반품)
+     */
+    @Getter
+    @Builder
+    public static class Ledger {
+        private List<CustomerLedgerSummaryRespDto> summary;
+        private List<CustomerLedgerDetailRespDto> detail;
+        private List<CustomerLedgerDailyRespDto> daily;
+    }
+
+    /**
+     * 주문상태 조건 → 조회 구분 (빈값은 전체, 알 수 없는 값은 없음)
+     */
+    public static List<String> orderTypesOf(String orderStatus) {
+        if (orderStatus == null || orderStatus.isEmpty()) {
+            return ORDER_TYPES;
+        }
+        return ORDER_TYPES.contains(orderStatus) ? List.of(orderStatus) : List.of();
+    }
+
+    /**
+     * 집계/세부/일자별 원장 계산 (쿼리 1회)
+     */
+    public Ledger compute(CustomerLedgerSummarySearchDto searchDto) {
+        List<String> orderTypes = orderTypesOf(searchDto.getOrderStatus());
+
+        // 구분별 일자/세부/집계 누적 (키: 그룹 컬럼 목록)
+        Map<String, Map<List<Object>, long[]>> dailyByType = new LinkedHashMap<>();
+        Map<String, Map<List<Object>, long[]>> detailByType = new LinkedHashMap<>();
+        Map<String, Map<List<Object>, long[]>> summaryByType = new LinkedHashMap<>();
+        for (String orderType : orderTypes) {
+            dailyByType.put(orderType, new LinkedHashMap<>());
+            detailByType.put(orderType, new LinkedHashMap<>());
+            summaryByType.put(orderType, new LinkedHashMap<>());
+        }
+
+        long start = System.currentTimeMillis();
+        int[] rowCount = new int[1];
+
+        customerLedgerQueryRepository.streamLedgerRows(searchDto, orderTypes, row -> {
+            rowCount[0]++;
+            String orderType = row.getOrderType();
+
+            List<Object> customer = Arrays.asList(row.getCustomerCode(), row.getCustomerName(), row.getBrandName(), row.getTelNum());
+            add(summaryByType.get(orderType), customer, row.getHeaderQty(), row.getHeaderTaxFreeAmt(),
+                    row.getHeaderTaxableAmt(), row.getHeaderSupplyAmt(), row.getHeaderVatAmt(), row.getHeaderTotalAmt());
+
+            if (!row.isItemRow()) {
+                return; // 품목 없는 주문은 집계 금액에만 반영
+            }
+
+            List<Object> item = new ArrayList<>(customer);
+            item.addAll(Arrays.asList(row.getItemCode(), row.getItemName(), row.getSpecification(), row.getUnit()));
+            add(detailByType.get(orderType), item, row.getQty(), row.getSupplyAmt(), row.getVatAmt(), row.getTotalAmt());
+
+            List<Object> daily = new ArrayList<>(item);
+            daily.add(0, row.getLedgerDate());
+            add(dailyByType.get(orderType), daily, row.getQty(), row.getSupplyAmt(), row.getVatAmt(), row.getTotalAmt());
+        });
+
+        List<CustomerLedgerSummaryRespDto> summary = new ArrayList<>();
+        List<CustomerLedgerDetailRespDto> detail = new ArrayList<>();
+        List<CustomerLedgerDailyRespDto> daily = new ArrayList<>();
+
+        for (String orderType : orderTypes) {
+            summaryByType.get(orderType).entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(Comparator.comparing(key -> (Integer) key.get(0), CODE_ORDER)))
+                    .forEach(entry -> summary.add(toSummary(orderType, entry.getKey(), entry.getValue())));
+
+            detailByType.get(orderType).entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(Comparator.<List<Object>, Integer>comparing(key -> (Integer) key.get(0), CODE_ORDER)
+                            .thenComparing(key -> (Integer) key.get(4), CODE_ORDER)))
+                    .forEach(entry -> detail.add(toDetail(orderType, entry.getKey(), entry.getValue())));
+
+            dailyByType.get(orderType).entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(Comparator.<List<Object>, String>comparing(key -> (String) key.get(0), TEXT_ORDER)
+                            .thenComparing(key -> (Integer) key.get(1), CODE_ORDER)
+                            .thenComparing(key -> (Integer) key.get(5), CODE_ORDER)))
+                    .forEach(entry -> daily.add(toDaily(orderType, entry.getKey(), entry.getValue())));
+        }
+
+        log.info("거래처별원장 계산 완료 - hqCode: {}, 구분: {}, 조회행: {}건, 집계: {}건, 세부: {}건, 일자별: {}건, 소요: {}ms",
+                searchDto.getHqCode(), orderTypes, rowCount[0], summary.size(), detail.size(), daily.size(),
+                System.currentTimeMillis() - start);
+
+        return Ledger.builder()
+                .summary(summary)
+                .detail(detail)
+                .daily(daily)
+                .build();
+    }
+
+    private static void add(Map<List<Object>, long[]> totals, List<Object> key, long... values) {
+        long[] sums = totals.computeIfAbsent(key, k -> new long[values.length]);
+        for (int i = 0; i < values.length; i++) {
+            sums[i] += values[i];
+        }
+    }
+
+    /**
+     * 거래처 집계 행 (키: 거래처코드, 거래처명, 브랜드명, 연락처 / 값: 수량, 면세, 과세, 공급가, 부가세, 합계)
+     */
+    private static CustomerLedgerSummaryRespDto toSummary(String orderType, List<Object> key, long[] sums) {
+        return CustomerLedgerSummaryRespDto.builder()
+                .customerCode((Integer) key.get(0))
+                .customerName((String) key.get(1))
+                .brandName((String) key.get(2))
+                .telNum((String) key.get(3))
+                .orderType(orderType)
+                .totalQty((int) sums[0])
+                .taxFreeAmt((int) sums[1])
+                .taxableAmt((int) sums[2])
+                .supplyAmt((int) sums[3])
+                .vatAmt((int) sums[4])
+                .totalAmt((int) sums[5])
+                .deliveryQty((int) sums[0])
+                .deliverySupplyAmt((int) sums[3])
+                .deliveryVatAmt((int) sums[4])
+                .deliveryTotalAmt((int) sums[5])
+                .build();
+    }
+
+    /**
+     * 거래처+품목 세부 행 (키: 거래처 4개 + 품목코드, 품명, 규격, 단위 / 값: 수량, 공급가, 부가세, 합계)
+     */
+    private static CustomerLedgerDetailRespDto toDetail(String orderType, List<Object> key, long[] sums) {
+        return CustomerLedgerDetailRespDto.builder()
+                .customerCode((Integer) key.get(0))
+                .customerName((String) key.get(1))
+                .brandName((String) key.get(2))
+                .telNum((String) key.get(3))
+                .itemCode((Integer) key.get(4))
+                .itemName((String) key.get(5))
+                .specification((String) key.get(6))
+                .unit((String) key.get(7))
+                .orderType(orderType)
+                .totalQty((int) sums[0])
+                .supplyAmt((int) sums[1])
+                .vatAmt((int) sums[2])
+                .totalAmt((int) sums[3])
+                .deliveryQty((int) sums[0])
+                .deliverySupplyAmt((int) sums[1])
+                .deliveryVatAmt((int) sums[2])
+                .deliveryTotalAmt((int) sums[3])
+                .build();
+    }
+
+    /**
+     * 일자별 행 (키: 일자 + 세부 키)
+     */
+    private static CustomerLedgerDailyRespDto toDaily(String orderType, List<Object> key, long[] sums) {
+        return CustomerLedgerDailyRespDto.builder()
+                .orderDate((String) key.get(0))
+                .customerCode((Integer) key.get(1))
+                .customerName((String) key.get(2))
+                .brandName((String) key.get(3))
+                .telNum((String) key.get(4))
+                .itemCode((Integer) key.get(5))
+                .itemName((String) key.get(6))
+                .specification((String) key.get(7))
+                .unit((String) key.get(8))
+                .orderType(orderType)
+                .totalQty((int) sums[0])
+                .supplyAmt((int) sums[1])
+                .vatAmt((int) sums[2])
+                .totalAmt((int) sums[3])
+                .deliveryQty((int) sums[0])
+                .deliverySupplyAmt((int) sums[1])
+                .deliveryVatAmt((int) sums[2])
+                .deliveryTotalAmt((int) sums[3])
+                .build();
+    }
+}
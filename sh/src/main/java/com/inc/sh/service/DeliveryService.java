@@ -15,7 +15,6 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,11 +24,7 @@ public class DeliveryService {
     
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final WarehouseItemsRepository warehouseItemsRepository;
-    private final InventoryTransactionsRepository inventoryTransactionsRepository;
-    private final MonthlyInventoryClosingRepository monthlyInventoryClosingRepository;
-    private final WarehouseRepository warehouseRepository;
-    private final ItemRepository itemRepository;
+    private final InventoryPostingService inventoryPostingService;
     
     /**
      * 배송 주문 목록 조회
@@ -116,11 +111,9 @@ public class DeliveryService {
                         continue;
                     }
                     
-                    // 재고 차감 처리 (주문품목별로)
+                    // 재고 차감 처리 (주문 단위 일괄 전기)
                     List<OrderItem> orderItems = orderItemRepository.findByOrderNo(orderDto.getOrderNo());
-                    for (OrderItem item : orderItems) {
-                        processInventoryDeduction(item);
-                    }
+                    processInventoryDeduction(orderItems);
                     
                     // 주문 정보 업데이트
                     order.setVehicleCode(orderDto.getVehicleCode());
@@ -203,11 +196,9 @@ public class DeliveryService {
                         continue;
                     }
                     
-                    // 재고 복원 처리 (주문품목별로)
+                    // 재고 복원 처리 (주문 단위 일괄 전기)
                     List<OrderItem> orderItems = orderItemRepository.findByOrderNo(orderNo);
-                    for (OrderItem item : orderItems) {
-                        processInventoryRestoration(item);
-                    }
+                    processInventoryRestoration(orderItems);
                     
                     // 배송상태 변경
                     order.setDeliveryStatus("배송요청");
@@ -343,162 +334,60 @@ public class DeliveryService {
     
     /**
      * 재고 차감 처리 (배송시작 시)
+     * - 창고품목이 없으면 스킵, 재고 부족/월별재고마감 미등록이면 실패
      */
-    private void processInventoryDeduction(OrderItem item) {
-        // 1. 창고재고 차감
-        Optional<WarehouseItems> warehouseItemOpt = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(item.getReleaseWarehouseCode(), item.getItemCode());
+    private void processInventoryDeduction(List<OrderItem> orderItems) {
+        List<InventoryPostingService.PostingLine> lines = orderItems.stream()
+                .map(item -> toPostingLine(item, -1, "출고", "배송시작 - 재고출고"))
+                .collect(Collectors.toList());
         
-        if (warehouseItemOpt.isPresent()) {
-            WarehouseItems warehouseItem = warehouseItemOpt.get();
-            
-            // 재고 부족 체크
-            if (warehouseItem.getCurrentQuantity() < item.getOrderQty()) {
-                throw new RuntimeException(String.format(
-                    "재고 부족: 품목코드 %d, 주문수량 %d, 현재고 %d", 
-                    item.getItemCode(), item.getOrderQty(), warehouseItem.getCurrentQuantity()
-                ));
-            }
-            
-            // 창고재고 차감
-            warehouseItem.setCurrentQuantity(warehouseItem.getCurrentQuantity() - item.getOrderQty());
-            warehouseItemsRepository.save(warehouseItem);
-            
-            // 2. 재고수불부 기록 (출고)
-            createInventoryTransaction(item.getReleaseWarehouseCode(), item.getItemCode(), 
-                    warehouseItem.getWarehouseItemCode(), item.getOrderQty(), item.getOrderUnitPrice(), 
-                    "출고", "배송시작 - 재고출고");
-            
-            // 3. 월별재고마감 업데이트 (출고량 증가)
-            updateMonthlyInventoryClosing(item.getReleaseWarehouseCode(), item.getItemCode(), 
-                    item.getOrderQty(), item.getOrderQty() * item.getOrderUnitPrice());
-            
-            log.info("재고 차감 완료 - 품목코드: {}, 차감수량: {}", item.getItemCode(), item.getOrderQty());
-            
-        } else {
-            log.warn("창고품목을 찾을 수 없어 재고 차감을 스킵합니다 - 창고코드: {}, 품목코드: {}", 
-                    item.getReleaseWarehouseCode(), item.getItemCode());
-        }
+        inventoryPostingService.post(lines, InventoryPostingService.PostingOptions.builder()
+                .missingWarehouseItem(InventoryPostingService.MissingPolicy.SKIP)
+                .missingClosing(InventoryPostingService.MissingPolicy.FAIL)
+                .checkStock(true)
+                .build());
     }
     
     /**
      * 재고 복원 처리 (배송취소 시)
+     * - 창고품목이 없으면 스킵, 월별재고마감 미등록이면 실패
      */
-    private void processInventoryRestoration(OrderItem item) {
-        // 1. 창고재고 복원
-        Optional<WarehouseItems> warehouseItemOpt = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(item.getReleaseWarehouseCode(), item.getItemCode());
+    private void processInventoryRestoration(List<OrderItem> orderItems) {
+        List<InventoryPostingService.PostingLine> lines = orderItems.stream()
+                .map(item -> toPostingLine(item, 1, "입고", "배송취소 - 재고복원"))
+                .collect(Collectors.toList());
         
-        if (warehouseItemOpt.isPresent()) {
-            WarehouseItems warehouseItem = warehouseItemOpt.get();
-            
-            // 창고재고 복원
-            warehouseItem.setCurrentQuantity(warehouseItem.getCurrentQuantity() + item.getOrderQty());
-            warehouseItemsRepository.save(warehouseItem);
-            
-            // 2. 재고수불부 기록 (입고)
-            createInventoryTransaction(item.getReleaseWarehouseCode(), item.getItemCode(), 
-                    warehouseItem.getWarehouseItemCode(), item.getOrderQty(), item.getOrderUnitPrice(), 
-                    "입고", "배송취소 - 재고복원");
-            
-            // 3. 월별재고마감 업데이트 (출고량 감소)
-            updateMonthlyInventoryClosing(item.getReleaseWarehouseCode(), item.getItemCode(), 
-                    -item.getOrderQty(), -(item.getOrderQty() * item.getOrderUnitPrice()));
-            
-            log.info("재고 복원 완료 - 품목코드: {}, 복원수량: {}", item.getItemCode(), item.getOrderQty());
-            
-        } else {
-            log.warn("창고품목을 찾을 수 없어 재고 복원을 스킵합니다 - 창고코드: {}, 품목코드: {}", 
-                    item.getReleaseWarehouseCode(), item.getItemCode());
-        }
+        inventoryPostingService.post(lines, InventoryPostingService.PostingOptions.builder()
+                .missingWarehouseItem(InventoryPostingService.MissingPolicy.SKIP)
+                .missingClosing(InventoryPostingService.MissingPolicy.FAIL)
+                .build());
     }
     
     /**
-     * 재고수불부 기록 생성
+     * 주문품목 -> 재고 전기 항목 변환
+     * @param sign -1: 출고(재고차감, 출고량 증가), 1: 복원(재고증가, 출고량 감소)
      */
-    private void createInventoryTransaction(Integer warehouseCode, Integer itemCode, 
-            Integer warehouseItemCode, Integer quantity, Integer unitPrice, 
+    private InventoryPostingService.PostingLine toPostingLine(OrderItem item, int sign, 
             String transactionType, String description) {
+        int amount = item.getOrderQty() * item.getOrderUnitPrice();
         
-        InventoryTransactions transaction = InventoryTransactions.builder()
-                .warehouseCode(warehouseCode)
-                .warehouseItemCode(warehouseItemCode)
-                .itemCode(itemCode)
-                .transactionDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                .transactionType(transactionType)
-                .quantity(quantity)
-                .unitPrice(unitPrice)
-                .amount(quantity * unitPrice)
-                .description(description)
+        return InventoryPostingService.PostingLine.builder()
+                .warehouseCode(item.getReleaseWarehouseCode())
+                .itemCode(item.getItemCode())
+                .quantityChange(sign * item.getOrderQty())
+                .closingYm(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM")))
+                .outQuantity(-sign * item.getOrderQty())
+                .outAmount(-sign * amount)
+                .transaction(InventoryTransactions.builder()
+                        .warehouseCode(item.getReleaseWarehouseCode())
+                        .itemCode(item.getItemCode())
+                        .transactionDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
+                        .transactionType(transactionType)
+                        .quantity(item.getOrderQty())
+                        .unitPrice(item.getOrderUnitPrice())
+                        .amount(amount)
+                        .description(description)
+                        .build())
                 .build();
-        
-        inventoryTransactionsRepository.save(transaction);
-    }
-    
-    /**
-     * 월별재고마감 업데이트 (✅ 재고등록 안된 품목은 배송처리 불가)
-     */
-    private void updateMonthlyInventoryClosing(Integer warehouseCode, Integer itemCode, 
-            Integer outQuantityChange, Integer outAmountChange) {
-        
-        String closingYm = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-        
-        Optional<MonthlyInventoryClosing> closingOpt = monthlyInventoryClosingRepository
-                .findByWarehouseCodeAndItemCodeAndClosingYm(warehouseCode, itemCode, closingYm);
-        
-        if (closingOpt.isPresent()) {
-            MonthlyInventoryClosing closing = closingOpt.get();
-            
-            // 출고량/출고금액 업데이트
-            closing.setOutQuantity(closing.getOutQuantity() + outQuantityChange);
-            closing.setOutAmount(closing.getOutAmount() + outAmountChange);
-            
-            // 계산수량/계산금액 재계산 (이월+입고-출고)
-            Integer calQuantity = closing.getOpeningQuantity() + closing.getInQuantity() - closing.getOutQuantity();
-            Integer calAmount = closing.getOpeningAmount() + closing.getInAmount() - closing.getOutAmount();
-            
-            closing.setCalQuantity(calQuantity);
-            closing.setCalAmount(calAmount);
-            
-            monthlyInventoryClosingRepository.save(closing);
-            
-            log.info("월별재고마감 업데이트 완료 - 창고코드: {}, 품목코드: {}, 출고량 변화: {}", 
-                    warehouseCode, itemCode, outQuantityChange);
-            
-        } else {
-            // ✅ 재고등록 안된 품목은 배송처리 불가
-            String warehouseName = getWarehouseNameSafely(warehouseCode);
-            String itemName = getItemNameSafely(itemCode);
-            
-            throw new RuntimeException(String.format(
-                "재고등록이 필요합니다. 품목명: %s, 창고: %s (품목코드: %d, 창고코드: %d, 마감년월: %s)", 
-                itemName, warehouseName, itemCode, warehouseCode, closingYm));
-        }
-    }
-    
-    /**
-     * 창고명 안전 조회
-     */
-    private String getWarehouseNameSafely(Integer warehouseCode) {
-        try {
-            return warehouseRepository.findById(warehouseCode)
-                    .map(warehouse -> warehouse.getWarehouseName())
-                    .orElse("알 수 없는 창고");
-        } catch (Exception e) {
-            return "창고코드: " + warehouseCode;
-        }
-    }
-    
-    /**
-     * 품목명 안전 조회
-     */
-    private String getItemNameSafely(Integer itemCode) {
-        try {
-            return itemRepository.findById(itemCode)
-                    .map(item -> item.getItemName())
-                    .orElse("알 수 없는 품목");
-        } catch (Exception e) {
-            return "품목코드: " + itemCode;
-        }
     }
 }
\ No newline at end of file
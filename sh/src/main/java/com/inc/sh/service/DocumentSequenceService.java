@@ -0,0 +1,158 @@
+package com.inc.sh.service;
+
+import com.inc.sh.repository.DocumentSequenceRepository;
+import com.inc.sh.repository.OrderRepository;
+import com.inc.sh.repository.ReturnRepository;
+import com.inc.sh.repository.WarehouseTransfersRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 문서번호(주문/반품/이송) 채번 서비스
+ * - 문서유형/일자별 카운터 1행(document_sequence)을 블록 단위로 원자적 증가시켜 예약
+ * - 예약한 블록은 메모리에서 순차 발급 (인스턴스가 여러 대여도 블록이 겹치지 않음)
+ * - 카운터 시작값(기존 최신번호 LIKE 조회)은 인스턴스별로 일자당 1회만 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentSequenceService {
+    
+    public enum DocumentType { ORDER, RETURN, TRANSFER }
+    
+    private final DocumentSequenceRepository documentSequenceRepository;
+    private final OrderRepository orderRepository;
+    private final ReturnRepository returnRepository;
+    private final WarehouseTransfersRepository warehouseTransfersRepository;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${document.sequence.block-size:10}")
+    private long blockSize;
+    
+    // 문서유형별 현재 일자 블록 (일자가 바뀌면 교체, 남은 번호는 결번 처리)
+    private final Map<DocumentType, SequenceBlock> blocks = new EnumMap<>(DocumentType.class);
+    
+    /**
+     * 주문번호 발급 (YYYYMMDD001 형태)
+     */
+    public String nextOrderNo() {
+        String today = today();
+        long sequence = next(DocumentType.ORDER, today, () ->
+                parseSequence(orderRepository.findLatestOrderNoByDate(today), 8));
+        return String.format("%s%03d", today, sequence);
+    }
+    
+    /**
+     * 반품번호 발급 (prefix + YYYYMMDD + 001 형태, prefix: "RET" 또는 "RET_")
+     * - 두 prefix는 같은 일자 카운터를 공유
+     */
+    public String nextReturnNo(String prefix) {
+        String today = today();
+        long sequence = next(DocumentType.RETURN, today, () -> Math.max(
+                parseSequence(returnRepository.findLatestReturnNoByDate("RET" + today), 11),
+                parseSequence(returnRepository.findLatestReturnNoByDate("RET_" + today), 12)));
+        return String.format("%s%s%03d", prefix, today, sequence);
+    }
+    
+    /**
+     * 이송번호 발급 (TR251114-0001 형태, 이송일자 기준)
+     */
+    public String nextTransferCode(String transferDate) {
+        // YYYYMMDD -> YYMMDD 변환
+        String dateStr = transferDate.substring(2, 8);
+        long sequence = next(DocumentType.TRANSFER, transferDate.substring(0, 8), () -> {
+            String lastTransferCode = warehouseTransfersRepository.findLastTransferCodeByDate(dateStr);
+            return lastTransferCode == null ? 0L
+                    : parseSequence(lastTransferCode, lastTransferCode.lastIndexOf("-") + 1);
+        });
+        return String.format("TR%s-%04d", dateStr, sequence);
+    }
+    
+    /**
+     * 문서유형/일자별 다음 순번 발급
+     */
+    long next(DocumentType type, String seqDate, LongSupplier initialValue) {
+        SequenceBlock block;
+        synchronized (blocks) {
+            block = blocks.get(type);
+            if (block == null || !block.seqDate.equals(seqDate)) {
+                block = new SequenceBlock(seqDate);
+                blocks.put(type, block);
+            }
+        }
+        
+        synchronized (block) {
+            if (block.next > block.max) {
+                if (block.initialValue == null) {
+                    block.initialValue = initialValue.getAsLong();
+                }
+                long max = reserveBlock(type, seqDate, block.initialValue);
+                block.next = max - blockSize + 1;
+                block.max = max;
+            }
+            return block.next++;
+        }
+    }
+    
+    /**
+     * 블록 예약 - 별도 트랜잭션에서 카운터 행을 생성/증가시키고 즉시 커밋 (행 잠금 최소화)
+     * @return 예약된 블록의 마지막 번호
+     */
+    private long reserveBlock(DocumentType type, String seqDate, long initialValue) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        Long max = template.execute(status -> {
+            int affected = documentSequenceRepository.reserveBlock(type.name(), seqDate, initialValue, blockSize);
+            // 새로 생성된 경우 LAST_INSERT_ID()는 자동증가 키이므로 예약값을 직접 계산
+            return affected == 1 ? initialValue + blockSize : documentSequenceRepository.findReservedValue();
+        });
+        
+        log.debug("문서번호 블록 예약 - type: {}, date: {}, range: {} ~ {}", type, seqDate, max - blockSize + 1, max);
+        return max;
+    }
+    
+    /**
+     * 기존 문서번호에서 순번 부분 추출 (없으면 0)
+     */
+    private long parseSequence(String documentNo, int sequenceStart) {
+        if (documentNo == null || documentNo.length() <= sequenceStart) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(documentNo.substring(sequenceStart));
+        } catch (NumberFormatException e) {
+            log.warn("문서번호 순번 파싱 실패 - documentNo: {}", documentNo);
+            return 0L;
+        }
+    }
+    
+    private String today() {
+        return LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    }
+    
+    /**
+     * 메모리에 보관 중인 예약 블록 (next > max 이면 소진)
+     */
+    private static class SequenceBlock {
+        private final String seqDate;
+        private Long initialValue;
+        private long next = 1;
+        private long max = 0;
+        
+        private SequenceBlock(String seqDate) {
+            this.seqDate = seqDate;
+        }
+    }
+}
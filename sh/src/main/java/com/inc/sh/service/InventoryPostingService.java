@@ -0,0 +1,248 @@
+package com.inc.sh.service;
+
+import com.inc.sh.entity.InventoryTransactions;
+import com.inc.sh.entity.WarehouseItems;
+import com.inc.sh.repository.InventoryPostingRepository;
+import com.inc.sh.repository.ItemRepository;
+import com.inc.sh.repository.WarehouseItemsRepository;
+import com.inc.sh.repository.WarehouseRepository;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 재고 전기(posting) 서비스
+ * - 한 건의 주문/배송/반품/이송에서 발생한 재고 변동 목록을 받아 (창고, 품목)별로 상계
+ * - 창고재고는 키별 원자적 증감 UPDATE 1회, 재고수불부는 배치 INSERT, 월별재고마감은 키별 카운터 UPDATE 1회
+ * - 쓰기 전에 창고품목/월별재고마감 존재 여부와 재고를 일괄 조회로 검증
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryPostingService {
+
+    private final InventoryPostingRepository inventoryPostingRepository;
+    private final WarehouseItemsRepository warehouseItemsRepository;
+    private final ItemRepository itemRepository;
+    private final WarehouseRepository warehouseRepository;
+
+    /**
+     * 창고품목/월별재고마감이 없을 때 처리 방식
+     */
+    public enum MissingPolicy {
+        SKIP,   // 해당 키의 변동 무시
+        FAIL,   // 예외 발생
+        CREATE  // 신규 생성
+    }
+
+    /**
+     * 재고 변동 1건
+     */
+    @Getter
+    @Builder
+    public static class PostingLine {
+        private final Integer warehouseCode;
+        private final Integer itemCode;
+        private final int quantityChange;           // 창고재고 증감 (+입고/복원, -출고/차감)
+        private final String closingYm;             // 월별재고마감 년월 (YYYYMM)
+        private final int inQuantity;               // 월별재고마감 입고수량 증감
+        private final int inAmount;                 // 월별재고마감 입고금액 증감
+        private final int outQuantity;              // 월별재고마감 출고수량 증감
+        private final int outAmount;                // 월별재고마감 출고금액 증감
+        private final InventoryTransactions transaction; // 재고수불부 기록 (warehouseItemCode는 자동 설정, null이면 기록 안함)
+    }
+
+    /**
+     * 전기 옵션
+     */
+    @Getter
+    @Builder
+    public static class PostingOptions {
+        @Builder.Default
+        private final MissingPolicy missingWarehouseItem = MissingPolicy.SKIP;
+        @Builder.Default
+        private final MissingPolicy missingClosing = MissingPolicy.SKIP;
+        private final boolean checkStock;           // 차감 후 재고가 음수면 실패
+    }
+
+    /**
+     * 재고 변동 일괄 전기
+     */
+    @Transactional
+    public void post(List<PostingLine> lines, PostingOptions options) {
+        if (lines == null || lines.isEmpty()) {
+            return;
+        }
+
+        // 1. (창고, 품목)별 재고 증감 상계
+        Map<String, int[]> netQuantities = new LinkedHashMap<>();
+        Map<String, Integer[]> itemKeys = new LinkedHashMap<>();
+        for (PostingLine line : lines) {
+            String itemKey = itemKey(line.getWarehouseCode(), line.getItemCode());
+            itemKeys.putIfAbsent(itemKey, new Integer[]{line.getWarehouseCode(), line.getItemCode()});
+            netQuantities.computeIfAbsent(itemKey, k -> new int[1])[0] += line.getQuantityChange();
+        }
+
+        // 2. 창고품목 일괄 조회 및 검증
+        Map<String, WarehouseItems> warehouseItems = new HashMap<>();
+        for (WarehouseItems item : inventoryPostingRepository.findWarehouseItems(new ArrayList<>(itemKeys.values()))) {
+            warehouseItems.put(itemKey(item.getWarehouseCode(), item.getItemCode()), item);
+        }
+
+        for (Map.Entry<String, Integer[]> entry : itemKeys.entrySet()) {
+            Integer warehouseCode = entry.getValue()[0];
+            Integer itemCode = entry.getValue()[1];
+            WarehouseItems item = warehouseItems.get(entry.getKey());
+            int net = netQuantities.get(entry.getKey())[0];
+
+            if (item == null) {
+                switch (options.getMissingWarehouseItem()) {
+                    case FAIL:
+                        throw new RuntimeException(String.format(
+                                "창고품목을 찾을 수 없습니다. 창고코드: %d, 품목코드: %d", warehouseCode, itemCode));
+                    case CREATE:
+                        item = warehouseItemsRepository.save(WarehouseItems.builder()
+                                .warehouseCode(warehouseCode)
+                                .itemCode(itemCode)
+                                .currentQuantity(0)
+                                .safeQuantity(0)
+                                .build());
+                        warehouseItems.put(entry.getKey(), item);
+                        break;
+                    default:
+                        log.warn("창고품목을 찾을 수 없어 재고 처리를 스킵합니다 - 창고코드: {}, 품목코드: {}", warehouseCode, itemCode);
+                        continue;
+                }
+            }
+
+            if (options.isCheckStock() && net < 0 && item.getCurrentQuantity() + net < 0) {
+                throw new RuntimeException(String.format(
+                        "재고 부족: 창고코드 %d, 품목코드 %d, 요청수량 %d, 현재고 %d",
+                        warehouseCode, itemCode, -net, item.getCurrentQuantity()));
+            }
+        }
+
+        // 3. 월별재고마감 (창고, 품목, 년월)별 카운터 상계 및 존재 여부 검증
+        Map<String, int[]> closingCounters = new LinkedHashMap<>();
+        Map<String, PostingLine> closingLines = new LinkedHashMap<>();
+        for (PostingLine line : lines) {
+            if (line.getClosingYm() == null || !warehouseItems.containsKey(itemKey(line.getWarehouseCode(), line.getItemCode()))) {
+                continue;
+            }
+            String closingKey = itemKey(line.getWarehouseCode(), line.getItemCode()) + ":" + line.getClosingYm();
+            closingLines.putIfAbsent(closingKey, line);
+            int[] counters = closingCounters.computeIfAbsent(closingKey, k -> new int[4]);
+            counters[0] += line.getInQuantity();
+            counters[1] += line.getInAmount();
+            counters[2] += line.getOutQuantity();
+            counters[3] += line.getOutAmount();
+        }
+
+        List<Object[]> closingKeyParams = new ArrayList<>();
+        for (PostingLine line : closingLines.values()) {
+            closingKeyParams.add(new Object[]{line.getWarehouseCode(), line.getItemCode(), line.getClosingYm()});
+        }
+        Set<String> existingClosings = inventoryPostingRepository.findExistingClosingKeys(closingKeyParams);
+
+        if (options.getMissingClosing() == MissingPolicy.FAIL) {
+            for (Map.Entry<String, PostingLine> entry : closingLines.entrySet()) {
+                if (!existingClosings.contains(entry.getKey())) {
+                    PostingLine line = entry.getValue();
+                    throw new RuntimeException(String.format(
+                            "재고등록이 필요합니다. 품목명: %s, 창고: %s (품목코드: %d, 창고코드: %d, 마감년월: %s)",
+                            getItemNameSafely(line.getItemCode()), getWarehouseNameSafely(line.getWarehouseCode()),
+                            line.getItemCode(), line.getWarehouseCode(), line.getClosingYm()));
+                }
+            }
+        }
+
+        // 4. 창고재고 원자적 증감 (키별 1회)
+        for (Map.Entry<String, Integer[]> entry : itemKeys.entrySet()) {
+            int net = netQuantities.get(entry.getKey())[0];
+            if (net == 0 || !warehouseItems.containsKey(entry.getKey())) {
+                continue;
+            }
+            Integer warehouseCode = entry.getValue()[0];
+            Integer itemCode = entry.getValue()[1];
+            int updated = inventoryPostingRepository.addCurrentQuantity(warehouseCode, itemCode, net, options.isCheckStock());
+            if (updated == 0) {
+                throw new RuntimeException(String.format(
+                        "재고 부족: 창고코드 %d, 품목코드 %d, 요청수량 %d", warehouseCode, itemCode, -net));
+            }
+        }
+
+        // 5. 재고수불부 배치 기록
+        List<InventoryTransactions> transactions = new ArrayList<>();
+        for (PostingLine line : lines) {
+            WarehouseItems item = warehouseItems.get(itemKey(line.getWarehouseCode(), line.getItemCode()));
+            if (line.getTransaction() == null || item == null) {
+                continue;
+            }
+            InventoryTransactions transaction = line.getTransaction();
+            transaction.setWarehouseItemCode(item.getWarehouseItemCode());
+            transactions.add(transaction);
+        }
+        inventoryPostingRepository.batchInsertTransactions(transactions);
+
+        // 6. 월별재고마감 카운터 증감 (키별 1회)
+        for (Map.Entry<String, int[]> entry : closingCounters.entrySet()) {
+            int[] counters = entry.getValue();
+            if (counters[0] == 0 && counters[1] == 0 && counters[2] == 0 && counters[3] == 0) {
+                continue;
+            }
+            PostingLine line = closingLines.get(entry.getKey());
+
+            if (existingClosings.contains(entry.getKey())) {
+                inventoryPostingRepository.addClosingCounters(line.getWarehouseCode(), line.getItemCode(), line.getClosingYm(),
+                        counters[0], counters[1], counters[2], counters[3]);
+            } else if (options.getMissingClosing() == MissingPolicy.CREATE) {
+                WarehouseItems item = warehouseItems.get(itemKey(line.getWarehouseCode(), line.getItemCode()));
+                inventoryPostingRepository.insertClosing(item.getWarehouseItemCode(), line.getWarehouseCode(),
+                        line.getItemCode(), line.getClosingYm(), counters[0], counters[1], counters[2], counters[3]);
+            }
+        }
+
+        log.info("재고 전기 완료 - 변동: {}건, 창고품목: {}건, 수불부: {}건, 월별마감: {}건",
+                lines.size(), itemKeys.size(), transactions.size(), closingCounters.size());
+    }
+
+    /**
+     * 창고명 안전 조회 (오류 메시지용)
+     */
+    private String getWarehouseNameSafely(Integer warehouseCode) {
+        try {
+            return warehouseRepository.findById(warehouseCode)
+                    .map(warehouse -> warehouse.getWarehouseName())
+                    .orElse("알 수 없는 창고");
+        } catch (Exception e) {
+            return "창고코드: " + warehouseCode;
+        }
+    }
+
+    /**
+     * 품목명 안전 조회 (오류 메시지용)
+     */
+    private String getItemNameSafely(Integer itemCode) {
+        try {
+            return itemRepository.findById(itemCode)
+                    .map(item -> item.getItemName())
+                    .orElse("알 수 없는 품목");
+        } catch (Exception e) {
+            return "품목코드: " + itemCode;
+        }
+    }
+
+    private String itemKey(Integer warehouseCode, Integer itemCode) {
+        return warehouseCode + ":" + itemCode;
+    }
+}
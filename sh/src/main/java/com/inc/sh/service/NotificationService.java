@@ -3,6 +3,7 @@ package com.inc.sh.service;
 import com.inc.sh.common.dto.RespDto;
 import com.inc.sh.dto.notification.respDto.NotificationRespDto;
 import com.inc.sh.entity.Notification;
+import com.inc.sh.entity.Order;
 import com.inc.sh.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,14 +26,7 @@ public class NotificationService {
     @Transactional
     public void createOrderNotification(Integer hqCode, Integer customerCode, String customerName, String orderNo) {
         try {
-            Notification notification = Notification.builder()
-                    .hqCode(hqCode)
-                    .customerCode(customerCode)
-                    .customerName(customerName)
-                    .referenceName("주문")
-                    .referenceCode(orderNo)
-                    .readYn(0) // 기본값 안읽음
-                    .build();
+            Notification notification = orderNotification(hqCode, customerCode, customerName, orderNo);
             
             notificationRepository.save(notification);
             
@@ -45,6 +39,38 @@ public class NotificationService {
         }
     }
     
+    /**
+     * 알림 일괄 생성 (주문 다중 저장시 호출)
+     */
+    @Transactional
+    public void createOrderNotifications(List<Order> orders) {
+        try {
+            List<Notification> notifications = orders.stream()
+                    .map(order -> orderNotification(order.getHqCode(), order.getCustomerCode(),
+                            order.getCustomerName(), order.getOrderNo()))
+                    .collect(Collectors.toList());
+            
+            notificationRepository.saveAll(notifications);
+            
+            log.info("주문 알림 일괄 생성 완료 - {}건", notifications.size());
+            
+        } catch (Exception e) {
+            log.error("주문 알림 일괄 생성 실패 - {}건", orders.size(), e);
+            // 알림 생성 실패는 주문 로직에 영향주지 않음
+        }
+    }
+    
+    private Notification orderNotification(Integer hqCode, Integer customerCode, String customerName, String orderNo) {
+        return Notification.builder()
+                .hqCode(hqCode)
+                .customerCode(customerCode)
+                .customerName(customerName)
+                .referenceName("주문")
+                .referenceCode(orderNo)
+                .readYn(0) // 기본값 안읽음
+                .build();
+    }
+    
     /**
      * 본사별 알림 목록 조회
      */
@@ -16,7 +16,11 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,11 +34,12 @@ public class OrderService {
     private final CustomerAccountTransactionsRepository customerAccountTransactionsRepository;
     private final DeliveryHolidayRepository deliveryHolidayRepository;
     private final OrderLimitSetRepository orderLimitSetRepository;
-    private final WarehouseItemsRepository warehouseItemsRepository;
-    private final InventoryTransactionsRepository inventoryTransactionsRepository;
-    private final MonthlyInventoryClosingRepository monthlyInventoryClosingRepository;
+    private final InventoryPostingService inventoryPostingService;
     private final NotificationService notificationService;
     private final DistCenterRepository distCenterRepository;
+    private final DocumentSequenceService documentSequenceService;
+    private final OrderBatchRepository orderBatchRepository;
+    private final CustomerBalanceLedgerService customerBalanceLedgerService;
     /**
      * 주문 목록 조회
      */
@@ -93,43 +98,81 @@ public class OrderService {
 
     /**
      * 주문 다중 저장 (신규/수정)
+     * - 거래처/배송휴일/주문제한/물류센터/수정대상 주문을 IN 조회로 한 번에 가져와 메모리에서 검증
+     * - 신규 주문은 JDBC 배치 INSERT, 수정 주문은 변경감지로 반영
      */
     @Transactional
     public RespDto<OrderBatchResult> saveOrders(OrderSaveReqDto reqDto) {
         
-        log.info("주문 다중 저장 시작 - 총 {}건", reqDto.getOrders().size());
+        List<OrderSaveReqDto.OrderSaveItemDto> orders = reqDto.getOrders();
+        log.info("주문 다중 저장 시작 - 총 {}건", orders.size());
         
-        List<OrderRespDto> successData = new ArrayList<>();
-        List<OrderBatchResult.OrderErrorDto> failData = new ArrayList<>();
+        // 1. 참조 데이터 일괄 조회
+        OrderSaveContext context = loadOrderSaveContext(orders);
+        
+        // 요청 순서대로 결과를 담기 위한 배열 (성공: OrderRespDto, 실패: OrderErrorDto)
+        Object[] results = new Object[orders.size()];
+        List<Order> newOrders = new ArrayList<>();
+        List<Integer> newOrderIndexes = new ArrayList<>();
         
-        for (OrderSaveReqDto.OrderSaveItemDto order : reqDto.getOrders()) {
+        // 2. 메모리 검증 및 엔티티 생성/수정
+        for (int i = 0; i < orders.size(); i++) {
+            OrderSaveReqDto.OrderSaveItemDto order = orders.get(i);
             try {
-                // 개별 주문 저장 처리
-                OrderRespDto savedOrder = saveSingleOrder(order);
-                successData.add(savedOrder);
+                Order orderEntity = buildOrderEntity(order, context);
                 
-                log.info("주문 저장 성공 - orderNo: {}, customerCode: {}", 
-                        savedOrder.getOrderNo(), savedOrder.getCustomerCode());
+                if (isNewOrder(order)) {
+                    newOrders.add(orderEntity);
+                    newOrderIndexes.add(i);
+                } else {
+                    results[i] = OrderRespDto.fromEntity(orderEntity);
+                    log.info("주문 정보 수정 - orderNo: {}, customerName: {}", 
+                            orderEntity.getOrderNo(), orderEntity.getCustomerName());
+                }
                 
             } catch (Exception e) {
                 log.error("주문 저장 실패 - customerCode: {}, 에러: {}", order.getCustomerCode(), e.getMessage());
-                
-                // 에러 시 거래처명 조회 시도
-                String customerName = getCustomerNameSafely(order.getCustomerCode());
-                
-                OrderBatchResult.OrderErrorDto errorDto = OrderBatchResult.OrderErrorDto.builder()
-                        .orderNo(order.getOrderNo())
-                        .customerName(customerName)
-                        .errorMessage(e.getMessage())
-                        .build();
-                
-                failData.add(errorDto);
+                results[i] = toOrderError(order, context, e.getMessage());
+            }
+        }
+        
+        // 3. 신규 주문 배치 INSERT (INSERT 실패 건은 건별로 실패 처리)
+        if (!newOrders.isEmpty()) {
+            Map<Integer, String> insertFailures = orderBatchRepository.batchInsertOrders(newOrders);
+            
+            List<Order> insertedOrders = new ArrayList<>();
+            for (int j = 0; j < newOrders.size(); j++) {
+                int index = newOrderIndexes.get(j);
+                String insertError = insertFailures.get(j);
+                if (insertError != null) {
+                    log.error("주문 생성 실패 - customerCode: {}, 에러: {}", orders.get(index).getCustomerCode(), insertError);
+                    results[index] = toOrderError(orders.get(index), context, "주문 생성 중 오류가 발생했습니다: " + insertError);
+                } else {
+                    results[index] = OrderRespDto.fromEntity(newOrders.get(j));
+                    insertedOrders.add(newOrders.get(j));
+                }
+            }
+            log.info("주문 신규 생성 - {}건 (실패 {}건)", insertedOrders.size(), insertFailures.size());
+            
+            // 주문 알림 생성 (실패해도 주문 저장에는 영향 없음)
+            if (!insertedOrders.isEmpty()) {
+                notificationService.createOrderNotifications(insertedOrders);
+            }
+        }
+        
+        List<OrderRespDto> successData = new ArrayList<>();
+        List<OrderBatchResult.OrderErrorDto> failData = new ArrayList<>();
+        for (Object result : results) {
+            if (result instanceof OrderRespDto) {
+                successData.add((OrderRespDto) result);
+            } else {
+                failData.add((OrderBatchResult.OrderErrorDto) result);
             }
         }
         
         // 배치 결과 생성
         OrderBatchResult result = OrderBatchResult.builder()
-                .totalCount(reqDto.getOrders().size())
+                .totalCount(orders.size())
                 .successCount(successData.size())
                 .failCount(failData.size())
                 .successData(successData)
@@ -140,26 +183,85 @@ public class OrderService {
                 successData.size(), failData.size());
         
         log.info("주문 다중 저장 완료 - 총 {}건 중 성공 {}건, 실패 {}건", 
-                reqDto.getOrders().size(), successData.size(), failData.size());
+                orders.size(), successData.size(), failData.size());
         
         return RespDto.success(message, result);
     }
     
     /**
-     * 개별 주문 저장 처리 (기존 검증 로직 포함)
+     * 주문 다중 저장 검증용 참조 데이터 일괄 조회
      */
-    private OrderRespDto saveSingleOrder(OrderSaveReqDto.OrderSaveItemDto saveDto) {
+    private OrderSaveContext loadOrderSaveContext(List<OrderSaveReqDto.OrderSaveItemDto> orders) {
+        Set<Integer> customerCodes = new HashSet<>();
+        Set<Integer> distCenterCodes = new HashSet<>();
+        Set<String> deliveryRequestDts = new HashSet<>();
+        Set<String> orderNos = new HashSet<>();
+        
+        for (OrderSaveReqDto.OrderSaveItemDto order : orders) {
+            if (order.getCustomerCode() != null) customerCodes.add(order.getCustomerCode());
+            if (order.getDistCenterCode() != null) distCenterCodes.add(order.getDistCenterCode());
+            if (order.getDeliveryRequestDt() != null) deliveryRequestDts.add(order.getDeliveryRequestDt());
+            if (!isNewOrder(order)) orderNos.add(order.getOrderNo());
+        }
+        
+        OrderSaveContext context = new OrderSaveContext();
+        
+        if (!customerCodes.isEmpty()) {
+            for (Customer customer : customerRepository.findByCustomerCodeIn(customerCodes)) {
+                context.customers.put(customer.getCustomerCode(), customer);
+            }
+        }
+        
+        Set<Integer> brandCodes = context.customers.values().stream()
+                .map(Customer::getBrandCode)
+                .collect(Collectors.toSet());
+        
+        if (!brandCodes.isEmpty() && !deliveryRequestDts.isEmpty()) {
+            for (DeliveryHoliday holiday : deliveryHolidayRepository.findByBrandCodeInAndHolidayDtIn(brandCodes, deliveryRequestDts)) {
+                context.holidays.add(holiday.getBrandCode() + ":" + holiday.getHolidayDt());
+            }
+        }
+        
+        // 주문시간 제한 체크 기준 (요청 시점 1회 계산)
+        LocalDateTime now = LocalDateTime.now();
+        context.currentTime = now.format(DateTimeFormatter.ofPattern("HH:mm"));
+        String[] dayNames = {"월", "화", "수", "목", "금", "토", "일"};
+        int dayIdx = now.getDayOfWeek().getValue() - 1;
+        if (now.getDayOfWeek() == DayOfWeek.SUNDAY) dayIdx = 6;
+        
+        if (!brandCodes.isEmpty()) {
+            context.limitsByBrand = orderLimitSetRepository.findByBrandCodeInAndDayName(brandCodes, dayNames[dayIdx]).stream()
+                    .collect(Collectors.groupingBy(OrderLimitSet::getBrandCode));
+        }
+        
+        if (!distCenterCodes.isEmpty()) {
+            for (DistCenter distCenter : distCenterRepository.findByDistCenterCodeIn(distCenterCodes)) {
+                context.distCenters.put(distCenter.getDistCenterCode(), distCenter);
+            }
+        }
+        
+        if (!orderNos.isEmpty()) {
+            for (Order order : orderRepository.findByOrderNoIn(orderNos)) {
+                context.existingOrders.put(order.getOrderNo(), order);
+            }
+        }
+        
+        return context;
+    }
+    
+    /**
+     * 개별 주문 검증 및 엔티티 생성/수정 (기존 검증 로직 포함, DB 조회 없음)
+     */
+    private Order buildOrderEntity(OrderSaveReqDto.OrderSaveItemDto saveDto, OrderSaveContext context) {
         
         // 1. 거래처 정보 조회 및 검증
-        Customer customer = customerRepository.findByCustomerCode(saveDto.getCustomerCode());
+        Customer customer = context.customers.get(saveDto.getCustomerCode());
         if (customer == null) {
             throw new RuntimeException("존재하지 않는 거래처입니다: " + saveDto.getCustomerCode());
         }
 
         // 2. 배송휴일 체크
-        List<DeliveryHoliday> holidays = deliveryHolidayRepository.findByBrandCodeAndHolidayDt(
-                customer.getBrandCode(), saveDto.getDeliveryRequestDt());
-        if (holidays != null && !holidays.isEmpty()) {
+        if (context.holidays.contains(customer.getBrandCode() + ":" + saveDto.getDeliveryRequestDt())) {
             throw new RuntimeException("해당 날짜는 배송휴일입니다. 다른 날짜를 선택해주세요.");
         }
 
@@ -173,35 +275,22 @@ public class OrderService {
         }
 
         // 4. 주문시간 제한 체크
-        LocalDateTime now = LocalDateTime.now();
-        String currentTime = now.format(DateTimeFormatter.ofPattern("HH:mm"));
-        String[] dayNames = {"월", "화", "수", "목", "금", "토", "일"};
-        int dayIdx = now.getDayOfWeek().getValue() - 1;
-        if (now.getDayOfWeek() == DayOfWeek.SUNDAY) dayIdx = 6;
-        String today = dayNames[dayIdx];
-        
-        List<OrderLimitSet> limits = orderLimitSetRepository.findByBrandCodeAndDayName(customer.getBrandCode(), today);
-        for (OrderLimitSet limit : limits) {
-            if (isTimeInRange(currentTime, limit.getLimitStartTime(), limit.getLimitEndTime())) {
+        for (OrderLimitSet limit : context.limitsByBrand.getOrDefault(customer.getBrandCode(), List.of())) {
+            if (isTimeInRange(context.currentTime, limit.getLimitStartTime(), limit.getLimitEndTime())) {
                 throw new RuntimeException("주문 제한 시간입니다. " + limit.getLimitStartTime() + "~" + limit.getLimitEndTime() + " 시간에는 주문할 수 없습니다.");
             }
         }
         
         // 5. 물류센터 조회
-        DistCenter distCenter = distCenterRepository.findByDistCenterCode(saveDto.getDistCenterCode());
+        DistCenter distCenter = context.distCenters.get(saveDto.getDistCenterCode());
         if (distCenter == null) {
             throw new RuntimeException("존재하지 않는 물류센터입니다: " + saveDto.getDistCenterCode());
         }
         
-        String orderNo;
-        Order orderEntity;
-        
-        if (saveDto.getOrderNo() == null || saveDto.getOrderNo().trim().isEmpty()) {
-            // 신규 주문 생성
-            orderNo = generateOrderNo();
-            
-            orderEntity = Order.builder()
-                    .orderNo(orderNo)
+        if (isNewOrder(saveDto)) {
+            // 신규 주문 생성 (INSERT는 배치로 처리)
+            return Order.builder()
+                    .orderNo(generateOrderNo())
                     .hqCode(saveDto.getHqCode())
                     .customerCode(saveDto.getCustomerCode())
                     .vehicleCode(saveDto.getVehicleCode())
@@ -227,66 +316,70 @@ public class OrderService {
                     .totalAmt(0)
                     .totalQty(0)
                     .build();
-            
-            orderEntity = orderRepository.save(orderEntity);
-            
-            log.info("주문 신규 생성 - orderNo: {}, customerName: {}", orderNo, customer.getCustomerName());
-            
-         // 주문 알림 생성 추가
-            try {
-                notificationService.createOrderNotification(
-                    orderEntity.getHqCode(),
-                    orderEntity.getCustomerCode(),
-                    customer.getCustomerName(),
-                    orderNo
-                );
-            } catch (Exception e) {
-                log.warn("주문 알림 생성 실패 - orderNo: {}", orderNo, e);
-            }
-            
-        } else {
-            // 주문 수정
-            orderEntity = orderRepository.findByOrderNo(saveDto.getOrderNo());
-            if (orderEntity == null) {
-                throw new RuntimeException("존재하지 않는 주문입니다: " + saveDto.getOrderNo());
-            }
-            
-            // 배송요청 상태에서만 수정 가능
-            if (!"배송요청".equals(orderEntity.getDeliveryStatus())) {
-                throw new RuntimeException("배송요청 상태의 주문만 수정할 수 있습니다.");
-            }
-            
-            // 주문 정보 수정
-            orderEntity.setCustomerCode(saveDto.getCustomerCode());
-            orderEntity.setVehicleCode(saveDto.getVehicleCode());
-            orderEntity.setDistCenterCode(saveDto.getDistCenterCode());
-            
-            // 거래처 정보 업데이트
-            orderEntity.setCustomerName(customer.getCustomerName());
-            orderEntity.setBizNum(customer.getBizNum());
-            orderEntity.setZipCode(customer.getZipCode());
-            orderEntity.setAddr(customer.getAddr());
-            orderEntity.setOwnerName(customer.getOwnerName());
-            orderEntity.setTelNum(customer.getTelNum());
-            
-            // 물류센터 정보 수정
-            orderEntity.setDistCenterName(distCenter.getDistCenterName());
-            
-            // 주문 관련 정보 업데이트
-            orderEntity.setOrderDt(saveDto.getOrderDt());
-            orderEntity.setDeliveryRequestDt(saveDto.getDeliveryRequestDt());
-            orderEntity.setDeliveryAmt(saveDto.getDeliveryAmt());
-            orderEntity.setDeliveryStatus(saveDto.getDeliveryStatus());
-            orderEntity.setDepositTypeCode(customer.getDepositTypeCode());
-            orderEntity.setOrderMessage(saveDto.getOrderMessage());
-            
-            orderEntity = orderRepository.save(orderEntity);
-            orderNo = orderEntity.getOrderNo();
-            
-            log.info("주문 정보 수정 - orderNo: {}, customerName: {}", orderNo, customer.getCustomerName());
         }
         
-        return OrderRespDto.fromEntity(orderEntity);
+        // 주문 수정
+        Order orderEntity = context.existingOrders.get(saveDto.getOrderNo());
+        if (orderEntity == null) {
+            throw new RuntimeException("존재하지 않는 주문입니다: " + saveDto.getOrderNo());
+        }
+        
+        // 배송요청 상태에서만 수정 가능
+        if (!"배송요청".equals(orderEntity.getDeliveryStatus())) {
+            throw new RuntimeException("배송요청 상태의 주문만 수정할 수 있습니다.");
+        }
+        
+        // 주문 정보 수정
+        orderEntity.setCustomerCode(saveDto.getCustomerCode());
+        orderEntity.setVehicleCode(saveDto.getVehicleCode());
+        orderEntity.setDistCenterCode(saveDto.getDistCenterCode());
+        
+        // 거래처 정보 업데이트
+        orderEntity.setCustomerName(customer.getCustomerName());
+        orderEntity.setBizNum(customer.getBizNum());
+        orderEntity.setZipCode(customer.getZipCode());
+        orderEntity.setAddr(customer.getAddr());
+        orderEntity.setOwnerName(customer.getOwnerName());
+        orderEntity.setTelNum(customer.getTelNum());
+        
+        // 물류센터 정보 수정
+        orderEntity.setDistCenterName(distCenter.getDistCenterName());
+        
+        // 주문 관련 정보 업데이트 (트랜잭션 종료 시 변경감지로 UPDATE)
+        orderEntity.setOrderDt(saveDto.getOrderDt());
+        orderEntity.setDeliveryRequestDt(saveDto.getDeliveryRequestDt());
+        orderEntity.setDeliveryAmt(saveDto.getDeliveryAmt());
+        orderEntity.setDeliveryStatus(saveDto.getDeliveryStatus());
+        orderEntity.setDepositTypeCode(customer.getDepositTypeCode());
+        orderEntity.setOrderMessage(saveDto.getOrderMessage());
+        
+        return orderEntity;
+    }
+    
+    private boolean isNewOrder(OrderSaveReqDto.OrderSaveItemDto saveDto) {
+        return saveDto.getOrderNo() == null || saveDto.getOrderNo().trim().isEmpty();
+    }
+    
+    private OrderBatchResult.OrderErrorDto toOrderError(OrderSaveReqDto.OrderSaveItemDto order, 
+                                                        OrderSaveContext context, String errorMessage) {
+        Customer customer = context.customers.get(order.getCustomerCode());
+        return OrderBatchResult.OrderErrorDto.builder()
+                .orderNo(order.getOrderNo())
+                .customerName(customer != null ? customer.getCustomerName() : "알 수 없음")
+                .errorMessage(errorMessage)
+                .build();
+    }
+    
+    /**
+     * 주문 다중 저장 시 일괄 조회한 참조 데이터
+     */
+    private static class OrderSaveContext {
+        private final Map<Integer, Customer> customers = new HashMap<>();
+        private final Set<String> holidays = new HashSet<>();           // brandCode:holidayDt
+        private Map<Integer, List<OrderLimitSet>> limitsByBrand = new HashMap<>();
+        private final Map<Integer, DistCenter> distCenters = new HashMap<>();
+        private final Map<String, Order> existingOrders = new HashMap<>();
+        private String currentTime;
     }
     
     /**
@@ -344,11 +437,7 @@ public class OrderService {
                         return RespDto.fail("잔액이 부족합니다. 추가 필요 금액: " + difference + "원");
                     }
                     
-                    // 잔액 업데이트 (차액만 반영)
-                    customer.setBalanceAmt(customer.getBalanceAmt() - difference);
-                    customerRepository.save(customer);
-                    
-                    // 거래내역 생성
+                    // 거래내역 생성 + 잔액 원자적 반영 (차액만 반영, 추가 결제는 잔액 부족 시 실패)
                     String transactionType = difference > 0 ? "출금" : "입금";
                     String note = difference > 0 ? 
                             "주문품목수정 - 추가결제 (" + difference + "원)" : 
@@ -360,15 +449,14 @@ public class OrderService {
                             .transactionDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
                             .transactionType(transactionType)
                             .amount(Math.abs(difference))
-                            .balanceAfter(customer.getBalanceAmt())
                             .referenceType("주문품목수정")
                             .referenceId(order.getOrderNo())
                             .note(note)
                             .build();
                     
-                    customerAccountTransactionsRepository.save(transaction);
+                    customerBalanceLedgerService.post(transaction, -difference, difference < 0);
                     
-                    log.info("거래내역 생성 - 유형: {}, 금액: {}, 잔액: {}", transactionType, Math.abs(difference), customer.getBalanceAmt());
+                    log.info("거래내역 생성 - 유형: {}, 금액: {}, 잔액: {}", transactionType, Math.abs(difference), transaction.getBalanceAfter());
                 }
                 
                 // 결제완료 처리
@@ -376,11 +464,14 @@ public class OrderService {
                 order.setPaymentAt(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")));
             }
             
+            // 재고 변동 목록 (기존 품목 복원 + 신규 품목 차감을 한 번에 전기)
+            List<InventoryPostingService.PostingLine> postingLines = new ArrayList<>();
+            
             // 기존 모든 주문품목의 재고 복원 (배송요청 상태에서만)
             if ("배송요청".equals(order.getDeliveryStatus())) {
                 List<OrderItem> existingItems = orderItemRepository.findByOrderNo(updateDto.getOrderNo());
                 for (OrderItem item : existingItems) {
-                    restoreInventoryForItem(item);
+                    postingLines.add(toRestorePostingLine(item));
                 }
             }
             
@@ -394,10 +485,13 @@ public class OrderService {
                 
                 // 배송요청 상태에서만 재고 차감
                 if ("배송요청".equals(order.getDeliveryStatus())) {
-                    updateInventoryForOrderItem(itemDto);
+                    postingLines.add(toDeductPostingLine(itemDto));
                 }
             }
             
+            // (창고, 품목)별 상계 후 일괄 반영 (창고품목/월별재고마감이 없으면 스킵)
+            inventoryPostingService.post(postingLines, InventoryPostingService.PostingOptions.builder().build());
+            
             // 주문 금액 업데이트
             order.setTaxableAmt(updateDto.getTaxableAmt());
             order.setTaxFreeAmt(updateDto.getTaxFreeAmt());
@@ -445,107 +539,55 @@ public class OrderService {
     }
 
     /**
-     * 재고 차감 처리
-     */
-    private void updateInventoryForOrderItem(OrderItemUpdateDto.OrderItemSaveDto itemDto) {
-        // 창고재고 차감
-        WarehouseItems warehouseItem = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(itemDto.getReleaseWarehouseCode(), itemDto.getItemCode())
-                .orElse(null);
-        
-        if (warehouseItem != null) {
-            warehouseItem.setCurrentQuantity(warehouseItem.getCurrentQuantity() - itemDto.getOrderQty());
-            warehouseItemsRepository.save(warehouseItem);
-            
-            // 재고수불부 기록 (출고)
-            createInventoryTransaction(itemDto.getReleaseWarehouseCode(), itemDto.getItemCode(), 
-                    -itemDto.getOrderQty(), itemDto.getOrderUnitPrice(), "출고", "주문품목 등록");
-            
-            // 월별재고마감 업데이트 (출고량 증가)
-            updateMonthlyInventoryClosing(itemDto.getReleaseWarehouseCode(), itemDto.getItemCode(), 
-                    itemDto.getOrderQty(), itemDto.getOrderQty() * itemDto.getOrderUnitPrice());
-        }
-    }
-
-    /**
-     * 개별 품목 재고 복원
+     * 재고 차감 전기 항목 생성 (주문품목 등록)
      */
-    private void restoreInventoryForItem(OrderItem item) {
-        // 창고재고 복원
-        WarehouseItems warehouseItem = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(item.getReleaseWarehouseCode(), item.getItemCode())
-                .orElse(null);
+    private InventoryPostingService.PostingLine toDeductPostingLine(OrderItemUpdateDto.OrderItemSaveDto itemDto) {
+        int amount = itemDto.getOrderQty() * itemDto.getOrderUnitPrice();
         
-        if (warehouseItem != null) {
-            warehouseItem.setCurrentQuantity(warehouseItem.getCurrentQuantity() + item.getOrderQty());
-            warehouseItemsRepository.save(warehouseItem);
-            
-            // 재고수불부 기록 (입고)
-            createInventoryTransaction(item.getReleaseWarehouseCode(), item.getItemCode(), 
-                    item.getOrderQty(), item.getOrderUnitPrice(), "입고", "주문품목 수정으로 인한 재고 복원");
-            
-            // 월별재고마감 업데이트 (출고량 감소)
-            updateMonthlyInventoryClosing(item.getReleaseWarehouseCode(), item.getItemCode(), 
-                    -item.getOrderQty(), -(item.getOrderQty() * item.getOrderUnitPrice()));
-        }
-    }
-
-    /**
-     * 재고수불부 기록 생성
-     */
-    private void createInventoryTransaction(Integer warehouseCode, Integer itemCode, 
-            Integer quantity, Integer unitPrice, String transactionType, String description) {
-        
-        // warehouse_item_code 조회
-        WarehouseItems warehouseItem = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(warehouseCode, itemCode)
-                .orElse(null);
-        
-        if (warehouseItem == null) {
-            log.warn("창고품목을 찾을 수 없습니다. warehouseCode: {}, itemCode: {}", warehouseCode, itemCode);
-            return; // 창고품목이 없으면 재고수불부 기록 생성하지 않음
-        }
-        
-        InventoryTransactions transaction = InventoryTransactions.builder()
-                .warehouseCode(warehouseCode)
-                .warehouseItemCode(warehouseItem.getWarehouseItemCode()) // warehouse_item_code 설정
-                .itemCode(itemCode)
-                .transactionDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                .transactionType(transactionType)
-                .quantity(quantity)
-                .unitPrice(unitPrice)
-                .amount(quantity * unitPrice)
-                .description(description)
+        return InventoryPostingService.PostingLine.builder()
+                .warehouseCode(itemDto.getReleaseWarehouseCode())
+                .itemCode(itemDto.getItemCode())
+                .quantityChange(-itemDto.getOrderQty())
+                .closingYm(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM")))
+                .outQuantity(itemDto.getOrderQty())         // 월별재고마감 출고량 증가
+                .outAmount(amount)
+                .transaction(InventoryTransactions.builder()  // 재고수불부 기록 (출고)
+                        .warehouseCode(itemDto.getReleaseWarehouseCode())
+                        .itemCode(itemDto.getItemCode())
+                        .transactionDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
+                        .transactionType("출고")
+                        .quantity(-itemDto.getOrderQty())
+                        .unitPrice(itemDto.getOrderUnitPrice())
+                        .amount(-amount)
+                        .description("주문품목 등록")
+                        .build())
                 .build();
-        
-        inventoryTransactionsRepository.save(transaction);
     }
 
     /**
-     * 월별재고마감 업데이트
+     * 재고 복원 전기 항목 생성 (주문품목 수정)
      */
-    private void updateMonthlyInventoryClosing(Integer warehouseCode, Integer itemCode, 
-            Integer outQuantity, Integer outAmount) {
-        
-        String closingYm = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-        
-        MonthlyInventoryClosing closing = monthlyInventoryClosingRepository
-                .findByWarehouseCodeAndItemCodeAndClosingYm(warehouseCode, itemCode, closingYm)
-                .orElse(null);
-        
-        if (closing != null) {
-            closing.setOutQuantity(closing.getOutQuantity() + outQuantity);
-            closing.setOutAmount(closing.getOutAmount() + outAmount);
-            
-            // 계산수량, 계산금액 업데이트 (이월+입고-출고)
-            Integer calQuantity = closing.getOpeningQuantity() + closing.getInQuantity() - closing.getOutQuantity();
-            Integer calAmount = closing.getOpeningAmount() + closing.getInAmount() - closing.getOutAmount();
-            
-            closing.setCalQuantity(calQuantity);
-            closing.setCalAmount(calAmount);
-            
-            monthlyInventoryClosingRepository.save(closing);
-        }
+    private InventoryPostingService.PostingLine toRestorePostingLine(OrderItem item) {
+        int amount = item.getOrderQty() * item.getOrderUnitPrice();
+        
+        return InventoryPostingService.PostingLine.builder()
+                .warehouseCode(item.getReleaseWarehouseCode())
+                .itemCode(item.getItemCode())
+                .quantityChange(item.getOrderQty())
+                .closingYm(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM")))
+                .outQuantity(-item.getOrderQty())           // 월별재고마감 출고량 감소
+                .outAmount(-amount)
+                .transaction(InventoryTransactions.builder()  // 재고수불부 기록 (입고)
+                        .warehouseCode(item.getReleaseWarehouseCode())
+                        .itemCode(item.getItemCode())
+                        .transactionDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
+                        .transactionType("입고")
+                        .quantity(item.getOrderQty())
+                        .unitPrice(item.getOrderUnitPrice())
+                        .amount(amount)
+                        .description("주문품목 수정으로 인한 재고 복원")
+                        .build())
+                .build();
     }
 
 
@@ -643,26 +685,21 @@ public class OrderService {
             
             // 환불할 금액이 있는 경우에만 거래내역 생성
             if (totalRefundAmount > 0) {
-                // 잔액 증가 (환불)
-                customer.setBalanceAmt(customer.getBalanceAmt() + totalRefundAmount);
-                customerRepository.save(customer);
-                
-                // 주문취소 거래내역 생성
+                // 주문취소 거래내역 생성 + 잔액 증가 (환불)
                 CustomerAccountTransactions cancelTransaction = CustomerAccountTransactions.builder()
                         .customerCode(customer.getCustomerCode())
                         .virtualAccountCode(customer.getVirtualAccountCode())
                         .transactionDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
                         .transactionType("입금")
                         .amount(totalRefundAmount)
-                        .balanceAfter(customer.getBalanceAmt())
                         .referenceType("주문취소")
                         .referenceId(orderNo)
                         .note("주문취소 - 전액환불 (" + totalRefundAmount + "원)")
                         .build();
                 
-                customerAccountTransactionsRepository.save(cancelTransaction);
+                customerBalanceLedgerService.post(cancelTransaction, totalRefundAmount, true);
                 
-                log.info("주문취소 환불 처리 완료 - 환불금액: {}, 잔액: {}", totalRefundAmount, customer.getBalanceAmt());
+                log.info("주문취소 환불 처리 완료 - 환불금액: {}, 잔액: {}", totalRefundAmount, cancelTransaction.getBalanceAfter());
             }
         }
         
@@ -693,18 +730,6 @@ public class OrderService {
         }
     }
 
-    /**
-     * 거래처명 안전 조회 (에러 발생시 사용)
-     */
-    private String getCustomerNameSafely(Integer customerCode) {
-        try {
-            Customer customer = customerRepository.findByCustomerCode(customerCode);
-            return customer != null ? customer.getCustomerName() : "알 수 없음";
-        } catch (Exception e) {
-            return "조회 실패";
-        }
-    }
-
     /**
      * 주문번호로 거래처명 안전 조회 (에러 발생시 사용)
      */
@@ -802,24 +827,19 @@ public class OrderService {
      */
     private void processPayment(Customer customer, Order order, Integer amount) {
         try {
-            // 잔액 차감
-            customer.setBalanceAmt(customer.getBalanceAmt() - amount);
-            customerRepository.save(customer);
-            
-            // 거래내역 생성
+            // 거래내역 생성 + 잔액 원자적 차감
             CustomerAccountTransactions transaction = CustomerAccountTransactions.builder()
                     .customerCode(customer.getCustomerCode())
                     .virtualAccountCode(customer.getVirtualAccountCode())
                     .transactionDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
                     .transactionType("출금")
                     .amount(amount)
-                    .balanceAfter(customer.getBalanceAmt())
                     .referenceType("주문")
                     .referenceId(order.getOrderNo())
                     .note("주문결제 - " + order.getOrderNo())
                     .build();
             
-            customerAccountTransactionsRepository.save(transaction);
+            customerBalanceLedgerService.post(transaction, -amount, false);
             
         } catch (Exception e) {
             log.error("결제 처리 중 오류 발생", e);
@@ -831,16 +851,7 @@ public class OrderService {
      * 주문번호 생성 (YYYYMMDD001 형태)
      */
     private String generateOrderNo() {
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String latestOrderNo = orderRepository.findLatestOrderNoByDate(today);
-
-        int sequence = 1;
-        if (latestOrderNo != null && latestOrderNo.length() >= 11) {
-            String sequencePart = latestOrderNo.substring(8);
-            sequence = Integer.parseInt(sequencePart) + 1;
-        }
-
-        return String.format("%s%03d", today, sequence);
+        return documentSequenceService.nextOrderNo();
     }
     
     /**
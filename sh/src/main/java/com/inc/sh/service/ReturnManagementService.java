@@ -11,21 +11,15 @@ import com.inc.sh.entity.Customer;
 import com.inc.sh.entity.CustomerAccountTransactions;
 import com.inc.sh.entity.InventoryTransactions;
 import com.inc.sh.entity.Item;
-import com.inc.sh.entity.MonthlyInventoryClosing;
 import com.inc.sh.entity.Order;
 import com.inc.sh.entity.OrderItem;
 import com.inc.sh.entity.Return;
 import com.inc.sh.entity.Warehouse;
-import com.inc.sh.entity.WarehouseItems;
-import com.inc.sh.repository.CustomerAccountTransactionsRepository;
 import com.inc.sh.repository.CustomerRepository;
-import com.inc.sh.repository.InventoryTransactionsRepository;
 import com.inc.sh.repository.ItemRepository;
-import com.inc.sh.repository.MonthlyInventoryClosingRepository;
 import com.inc.sh.repository.OrderItemRepository;
 import com.inc.sh.repository.OrderRepository;
 import com.inc.sh.repository.ReturnRepository;
-import com.inc.sh.repository.WarehouseItemsRepository;
 import com.inc.sh.repository.WarehouseRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -38,7 +32,6 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -52,12 +45,12 @@ public class ReturnManagementService {
     private final OrderItemRepository orderItemRepository;
     private final OrderRepository orderRepository;
     private final WarehouseRepository warehouseRepository;
-    private final WarehouseItemsRepository warehouseItemsRepository;
-    private final MonthlyInventoryClosingRepository monthlyInventoryClosingRepository;
-    private final InventoryTransactionsRepository inventoryTransactionsRepository;
+    private final InventoryPostingService inventoryPostingService;
     
     // 금융처리를 위한 의존성 추가
-    private final CustomerAccountTransactionsRepository customerAccountTransactionsRepository;
+    private final CustomerBalanceLedgerService customerBalanceLedgerService;
+    
+    private final DocumentSequenceService documentSequenceService;
     
     /**
      * 반품 조회
@@ -441,17 +434,7 @@ public class ReturnManagementService {
      * 반품번호 생성 (RET + YYYYMMDD + 001 형태)
      */
     private String generateReturnNo() {
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String datePrefix = "RET" + today;
-        String latestReturnNo = returnRepository.findLatestReturnNoByDate(datePrefix);
-
-        int sequence = 1;
-        if (latestReturnNo != null && latestReturnNo.length() >= 14) {
-            String sequencePart = latestReturnNo.substring(11);
-            sequence = Integer.parseInt(sequencePart) + 1;
-        }
-
-        return String.format("%s%03d", datePrefix, sequence);
+        return documentSequenceService.nextReturnNo("RET");
     }
     
     /**
@@ -575,33 +558,15 @@ public class ReturnManagementService {
      */
     private void processReturnApprovalInventory(Return returnEntity, String currentDate, String currentYm) {
         
-        // 1. 창고재고 증가
-        Optional<WarehouseItems> warehouseItemOpt = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(returnEntity.getReceiveWarehouseCode(), returnEntity.getItemCode());
+        inventoryPostingService.post(
+                List.of(toReturnPostingLine(returnEntity, 1, currentDate, currentYm, "반품입고")),
+                InventoryPostingService.PostingOptions.builder()
+                        .missingWarehouseItem(InventoryPostingService.MissingPolicy.FAIL)
+                        .missingClosing(InventoryPostingService.MissingPolicy.FAIL)
+                        .build());
         
-        if (warehouseItemOpt.isPresent()) {
-            WarehouseItems warehouseItem = warehouseItemOpt.get();
-            
-            // 창고재고 증가 (반품입고)
-            warehouseItem.setCurrentQuantity(warehouseItem.getCurrentQuantity() + returnEntity.getQty());
-            warehouseItemsRepository.save(warehouseItem);
-            
-            // 2. 재고수불부 기록 추가
-            createReturnInventoryTransaction(warehouseItem, returnEntity, currentDate, "반품입고");
-            
-            // 3. 월별재고마감 업데이트 (입고량 증가)
-            updateMonthlyInventoryForReturn(returnEntity.getReceiveWarehouseCode(), 
-                    returnEntity.getItemCode(), returnEntity.getQty(), 
-                    returnEntity.getQty() * returnEntity.getUnitPrice(), currentYm);
-            
-            log.info("반품승인 재고처리 완료 - 품목코드: {}, 입고수량: {}, 창고코드: {}", 
-                    returnEntity.getItemCode(), returnEntity.getQty(), returnEntity.getReceiveWarehouseCode());
-            
-        } else {
-            throw new RuntimeException(String.format(
-                "창고품목을 찾을 수 없습니다. 창고코드: %d, 품목코드: %d", 
-                returnEntity.getReceiveWarehouseCode(), returnEntity.getItemCode()));
-        }
+        log.info("반품승인 재고처리 완료 - 품목코드: {}, 입고수량: {}, 창고코드: {}", 
+                returnEntity.getItemCode(), returnEntity.getQty(), returnEntity.getReceiveWarehouseCode());
     }
     
     /**
@@ -609,96 +574,45 @@ public class ReturnManagementService {
      */
     private void rollbackReturnApprovalInventory(Return returnEntity, String currentDate, String currentYm) {
         
-        // 1. 창고재고 감소
-        Optional<WarehouseItems> warehouseItemOpt = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(returnEntity.getReceiveWarehouseCode(), returnEntity.getItemCode());
-        
-        if (warehouseItemOpt.isPresent()) {
-            WarehouseItems warehouseItem = warehouseItemOpt.get();
-            
-            // 재고 부족 체크
-            if (warehouseItem.getCurrentQuantity() < returnEntity.getQty()) {
-                throw new RuntimeException(String.format(
-                    "재고 부족으로 반품승인을 취소할 수 없습니다. 현재고: %d, 반품수량: %d", 
-                    warehouseItem.getCurrentQuantity(), returnEntity.getQty()));
-            }
-            
-            // 창고재고 감소
-            warehouseItem.setCurrentQuantity(warehouseItem.getCurrentQuantity() - returnEntity.getQty());
-            warehouseItemsRepository.save(warehouseItem);
-            
-            // 2. 재고수불부 기록 추가
-            createReturnInventoryTransaction(warehouseItem, returnEntity, currentDate, "반품승인취소");
-            
-            // 3. 월별재고마감 업데이트 (입고량 감소)
-            updateMonthlyInventoryForReturn(returnEntity.getReceiveWarehouseCode(), 
-                    returnEntity.getItemCode(), -returnEntity.getQty(), 
-                    -(returnEntity.getQty() * returnEntity.getUnitPrice()), currentYm);
-            
-            log.info("반품승인 롤백 재고처리 완료 - 품목코드: {}, 감소수량: {}, 창고코드: {}", 
-                    returnEntity.getItemCode(), returnEntity.getQty(), returnEntity.getReceiveWarehouseCode());
-            
-        } else {
-            throw new RuntimeException(String.format(
-                "창고품목을 찾을 수 없습니다. 창고코드: %d, 품목코드: %d", 
-                returnEntity.getReceiveWarehouseCode(), returnEntity.getItemCode()));
-        }
-    }
-    
-    /**
-     * 반품용 재고수불부 기록 생성
-     */
-    private void createReturnInventoryTransaction(WarehouseItems warehouseItem, Return returnEntity, 
-                                                String currentDate, String transactionType) {
-        InventoryTransactions transaction = InventoryTransactions.builder()
-                .warehouseCode(warehouseItem.getWarehouseCode())
-                .warehouseItemCode(warehouseItem.getWarehouseItemCode())
-                .itemCode(warehouseItem.getItemCode())
-                .transactionDate(currentDate)
-                .transactionType(transactionType)
-                .quantity(returnEntity.getQty())
-                .unitPrice(returnEntity.getUnitPrice())
-                .amount(returnEntity.getQty() * returnEntity.getUnitPrice())
-                .description("반품번호: " + returnEntity.getReturnNo())
-                .build();
+        // 재고 부족 시 반품승인 취소 불가
+        inventoryPostingService.post(
+                List.of(toReturnPostingLine(returnEntity, -1, currentDate, currentYm, "반품승인취소")),
+                InventoryPostingService.PostingOptions.builder()
+                        .missingWarehouseItem(InventoryPostingService.MissingPolicy.FAIL)
+                        .missingClosing(InventoryPostingService.MissingPolicy.FAIL)
+                        .checkStock(true)
+                        .build());
         
-        inventoryTransactionsRepository.save(transaction);
+        log.info("반품승인 롤백 재고처리 완료 - 품목코드: {}, 감소수량: {}, 창고코드: {}", 
+                returnEntity.getItemCode(), returnEntity.getQty(), returnEntity.getReceiveWarehouseCode());
     }
     
     /**
-     * 반품용 월별재고마감 업데이트
+     * 반품 -> 재고 전기 항목 변환
+     * @param sign 1: 반품입고(재고/입고량 증가), -1: 승인취소(재고/입고량 감소)
      */
-    private void updateMonthlyInventoryForReturn(Integer warehouseCode, Integer itemCode, 
-                                               Integer inQuantityChange, Integer inAmountChange, String closingYm) {
-        
-        Optional<MonthlyInventoryClosing> closingOpt = monthlyInventoryClosingRepository
-                .findByWarehouseCodeAndItemCodeAndClosingYm(warehouseCode, itemCode, closingYm);
+    private InventoryPostingService.PostingLine toReturnPostingLine(Return returnEntity, int sign, 
+            String currentDate, String currentYm, String transactionType) {
+        int amount = returnEntity.getQty() * returnEntity.getUnitPrice();
         
-        if (closingOpt.isPresent()) {
-            MonthlyInventoryClosing closing = closingOpt.get();
-            
-            // ✅ 입고량/입고금액 업데이트 (반품은 입고로 처리)
-            closing.setInQuantity(closing.getInQuantity() + inQuantityChange);
-            closing.setInAmount(closing.getInAmount() + inAmountChange);
-            
-            // 계산수량/계산금액 재계산 (이월+입고-출고)
-            Integer calQuantity = closing.getOpeningQuantity() + closing.getInQuantity() - closing.getOutQuantity();
-            Integer calAmount = closing.getOpeningAmount() + closing.getInAmount() - closing.getOutAmount();
-            
-            closing.setCalQuantity(calQuantity);
-            closing.setCalAmount(calAmount);
-            
-            monthlyInventoryClosingRepository.save(closing);
-            
-            log.info("반품 월별재고마감 업데이트 완료 - 창고코드: {}, 품목코드: {}, 입고량 변화: {}", 
-                    warehouseCode, itemCode, inQuantityChange);
-            
-        } else {
-            // 월별재고마감 데이터가 없으면 에러
-            throw new RuntimeException(String.format(
-                "반품처리를 위한 월별재고마감 데이터가 없습니다. 창고코드: %d, 품목코드: %d, 마감년월: %s (재고등록이 필요합니다)", 
-                warehouseCode, itemCode, closingYm));
-        }
+        return InventoryPostingService.PostingLine.builder()
+                .warehouseCode(returnEntity.getReceiveWarehouseCode())
+                .itemCode(returnEntity.getItemCode())
+                .quantityChange(sign * returnEntity.getQty())
+                .closingYm(currentYm)
+                .inQuantity(sign * returnEntity.getQty())   // 반품은 입고로 처리
+                .inAmount(sign * amount)
+                .transaction(InventoryTransactions.builder()
+                        .warehouseCode(returnEntity.getReceiveWarehouseCode())
+                        .itemCode(returnEntity.getItemCode())
+                        .transactionDate(currentDate)
+                        .transactionType(transactionType)
+                        .quantity(returnEntity.getQty())
+                        .unitPrice(returnEntity.getUnitPrice())
+                        .amount(amount)
+                        .description("반품번호: " + returnEntity.getReturnNo())
+                        .build())
+                .build();
     }
     
     /**
@@ -740,28 +654,24 @@ public class ReturnManagementService {
             }
             
             // 2. 거래처 잔액 증가 (반품금액만큼 환불) - 충전형/후입금 구분없이 처리
-            Integer refundAmount = returnEntity.getTotalAmt() != null ? returnEntity.getTotalAmt() : 0;
-            customer.setBalanceAmt(customer.getBalanceAmt() + refundAmount);
-            customerRepository.save(customer);
-            
             // 3. 거래처계좌내역 생성
+            Integer refundAmount = returnEntity.getTotalAmt() != null ? returnEntity.getTotalAmt() : 0;
             CustomerAccountTransactions transaction = CustomerAccountTransactions.builder()
                     .customerCode(returnEntity.getReturnCustomerCode())
                     .virtualAccountCode(customer.getVirtualAccountCode())
                     .transactionDate(currentDate)
                     .transactionType("입금") // 반품승인 = 고객에게 환불 = 입금
                     .amount(refundAmount)
-                    .balanceAfter(customer.getBalanceAmt())
                     .referenceType("반품")
                     .referenceId(returnEntity.getReturnNo())
                     .note("반품승인 환불 - " + returnEntity.getItemName())
                     .description("반품승인처리")
                     .build();
             
-            customerAccountTransactionsRepository.save(transaction);
+            customerBalanceLedgerService.post(transaction, refundAmount, true);
             
             log.info("반품승인 금융처리 완료 - customerCode: {}, 환불금액: {}, 잔액: {}", 
-                    returnEntity.getReturnCustomerCode(), refundAmount, customer.getBalanceAmt());
+                    returnEntity.getReturnCustomerCode(), refundAmount, transaction.getBalanceAfter());
             
         } catch (Exception e) {
             log.error("반품승인 금융처리 중 오류 발생 - customerCode: {}", returnEntity.getReturnCustomerCode(), e);
@@ -783,35 +693,23 @@ public class ReturnManagementService {
             
             Integer rollbackAmount = returnEntity.getTotalAmt() != null ? returnEntity.getTotalAmt() : 0;
             
-            // 2. 잔액 부족 체크
-            if (customer.getBalanceAmt() < rollbackAmount) {
-                throw new RuntimeException(String.format(
-                    "잔액 부족으로 반품승인을 취소할 수 없습니다. 현재잔액: %d, 필요금액: %d", 
-                    customer.getBalanceAmt(), rollbackAmount));
-            }
-            
-            // 3. 거래처 잔액 감소 (환불했던 금액 회수)
-            customer.setBalanceAmt(customer.getBalanceAmt() - rollbackAmount);
-            customerRepository.save(customer);
-            
-            // 4. 거래처계좌내역 생성
+            // 2. 거래처계좌내역 생성 + 잔액 감소 (환불했던 금액 회수, 잔액 부족 시 실패)
             CustomerAccountTransactions transaction = CustomerAccountTransactions.builder()
                     .customerCode(returnEntity.getReturnCustomerCode())
                     .virtualAccountCode(customer.getVirtualAccountCode())
                     .transactionDate(currentDate)
                     .transactionType("출금") // 승인취소 = 환불금액 회수 = 출금
                     .amount(rollbackAmount)
-                    .balanceAfter(customer.getBalanceAmt())
                     .referenceType("반품취소")
                     .referenceId(returnEntity.getReturnNo())
                     .note("반품승인취소 - " + returnEntity.getItemName())
                     .description("반품승인취소처리")
                     .build();
             
-            customerAccountTransactionsRepository.save(transaction);
+            customerBalanceLedgerService.post(transaction, -rollbackAmount, false);
             
             log.info("반품승인 금융롤백 완료 - customerCode: {}, 회수금액: {}, 잔액: {}", 
-                    returnEntity.getReturnCustomerCode(), rollbackAmount, customer.getBalanceAmt());
+                    returnEntity.getReturnCustomerCode(), rollbackAmount, transaction.getBalanceAfter());
             
         } catch (Exception e) {
             log.error("반품승인 금융롤백 중 오류 발생 - customerCode: {}", returnEntity.getReturnCustomerCode(), e);
@@ -20,8 +20,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -39,6 +37,8 @@ public class ReturnRegistrationService {
     // ✅ 반품가능 주문품목 뷰 조회용 Repository 추가
     private final OrderItemReturnStatusRepository orderItemReturnStatusRepository;
     
+    private final DocumentSequenceService documentSequenceService;
+    
     /**
      * 반품등록용 주문품목 조회 (✅ 뷰 사용)
      */
@@ -138,20 +138,7 @@ public class ReturnRegistrationService {
      * 반품번호 생성 (RET_YYYYMMDD001 형태)
      */
     private String generateReturnNo() {
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String datePrefix = "RET_" + today;
-        
-        // 오늘 날짜의 최신 반품번호 조회
-        String latestReturnNo = returnRepository.findLatestReturnNoByDate(datePrefix);
-        
-        int sequence = 1;
-        if (latestReturnNo != null && latestReturnNo.length() >= 12) {
-            // "RET_20241117001"에서 "001" 부분 추출
-            String sequencePart = latestReturnNo.substring(12); // 마지막 3자리
-            sequence = Integer.parseInt(sequencePart) + 1;
-        }
-        
-        return String.format("%s%03d", datePrefix, sequence);
+        return documentSequenceService.nextReturnNo("RET_");
     }
     
     /**
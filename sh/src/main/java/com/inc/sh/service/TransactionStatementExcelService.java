@@ -3,11 +3,14 @@ package com.inc.sh.service;
 import com.inc.sh.dto.transactionStatement.reqDto.TransactionStatementExcelReqDto;
 import com.inc.sh.common.dto.RespDto;
 import com.inc.sh.repository.OrderRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.core.io.ClassPathResource;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,31 +18,69 @@ import java.io.*;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TransactionStatementExcelService {
     
     private final OrderRepository orderRepository;
+    private final ExecutorService renderExecutor;
+    private final int renderThreads;
+    private final int maxPendingStatements;
+    
+    private volatile TransactionStatementTemplate template; // 최초 사용 시 1회 로드
+    
+    public TransactionStatementExcelService(OrderRepository orderRepository,
+                                            @Value("${transaction-statement.render-threads:0}") int renderThreads,
+                                            @Value("${transaction-statement.max-pending:0}") int maxPendingStatements) {
+        this.orderRepository = orderRepository;
+        this.renderThreads = renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors();
+        this.maxPendingStatements = maxPendingStatements > 0 ? maxPendingStatements : this.renderThreads * 2;
+        this.renderExecutor = Executors.newFixedThreadPool(this.renderThreads,
+                Thread.ofPlatform().name("statement-render-", 1).daemon(true).factory());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdownNow();
+    }
+    
+    /**
+     * 거래명세표 주문 1건 (조회 결과 원본 행)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class StatementOrder {
+        private final String orderNo;
+        private final Object[] orderInfo;
+        private final List<Object[]> orderItems;
+        private final Object[] collectionInfo;
+    }
     
     /**
-     * 거래명세표 엑셀 생성 (주문번호별 분리, 하나의 시트에 세로로 길게)
+     * 거래명세표 출력 대상 주문 조회 (요청 순서, 주문 정보 없는 주문번호는 제외)
      */
     @Transactional(readOnly = true)
-    public RespDto<Map<String, byte[]>> generateTransactionStatementExcel(TransactionStatementExcelReqDto reqDto) {
+    public RespDto<List<StatementOrder>> findStatementOrders(TransactionStatementExcelReqDto reqDto) {
         try {
-            log.info("거래명세표 엑셀 생성 시작 - 주문 개수: {}", reqDto.getOrderNumbers().size());
+            List<String> orderNumbers = new ArrayList<>(new LinkedHashSet<>(reqDto.getOrderNumbers()));
+            log.info("거래명세표 주문 조회 시작 - 주문 개수: {}", orderNumbers.size());
             
             // 주문 기본 정보 조회
-            List<Object[]> orderInfoResults = orderRepository.findOrderInfoForTransactionStatement(reqDto.getOrderNumbers());
+            List<Object[]> orderInfoResults = orderRepository.findOrderInfoForTransactionStatement(orderNumbers);
             
             // 주문 상세 항목 조회
-            List<Object[]> orderItemResults = orderRepository.findOrderItemsForTransactionStatement(reqDto.getOrderNumbers());
+            List<Object[]> orderItemResults = orderRepository.findOrderItemsForTransactionStatement(orderNumbers);
             
             // 수금 정보 조회
-            List<Object[]> collectionResults = orderRepository.findCollectionInfoForTransactionStatement(reqDto.getOrderNumbers());
+            List<Object[]> collectionResults = orderRepository.findCollectionInfoForTransactionStatement(orderNumbers);
             
             // 주문번호별로 그룹핑
             Map<String, Object[]> orderInfoMap = orderInfoResults.stream()
@@ -51,244 +92,236 @@ public class TransactionStatementExcelService {
             Map<String, Object[]> collectionMap = collectionResults.stream()
                     .collect(Collectors.toMap(row -> (String) row[0], row -> row, (a, b) -> a));
             
-            // 주문별로 엑셀 생성
-            Map<String, byte[]> excelFiles = new LinkedHashMap<>();
-            
-            for (String orderNo : reqDto.getOrderNumbers()) {
-                try {
-                    Object[] orderInfo = orderInfoMap.get(orderNo);
-                    List<Object[]> orderItems = orderItemsMap.get(orderNo);
-                    Object[] collectionInfo = collectionMap.get(orderNo);
-                    
-                    if (orderInfo == null) {
-                        log.warn("주문 정보를 찾을 수 없습니다 - orderNo: {}", orderNo);
-                        continue;
-                    }
-                    
-                    byte[] excelData = createSingleOrderExcel(orderNo, orderInfo, orderItems, collectionInfo);
-                    excelFiles.put(orderNo, excelData);
-                    
-                    log.info("거래명세표 엑셀 생성 완료 - orderNo: {}", orderNo);
-                    
-                } catch (Exception e) {
-                    log.error("주문별 엑셀 생성 실패 - orderNo: {}", orderNo, e);
+            List<StatementOrder> orders = new ArrayList<>();
+            for (String orderNo : orderNumbers) {
+                Object[] orderInfo = orderInfoMap.get(orderNo);
+                if (orderInfo == null) {
+                    log.warn("주문 정보를 찾을 수 없습니다 - orderNo: {}", orderNo);
+                    continue;
                 }
+                orders.add(new StatementOrder(orderNo, orderInfo, orderItemsMap.get(orderNo), collectionMap.get(orderNo)));
             }
             
-            log.info("거래명세표 엑셀 생성 전체 완료 - 생성된 파일 수: {}", excelFiles.size());
+            if (orders.isEmpty()) {
+                return RespDto.fail("거래명세표를 출력할 주문이 없습니다.");
+            }
             
-            return RespDto.success("거래명세표 엑셀 생성 완료", excelFiles);
+            return RespDto.success("거래명세표 주문 조회 완료", orders);
             
         } catch (Exception e) {
-            log.error("거래명세표 엑셀 생성 중 오류 발생", e);
+            log.error("거래명세표 주문 조회 중 오류 발생", e);
             return RespDto.fail("거래명세표 엑셀 생성 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
     
     /**
-     * 단일 주문 엑셀 생성 (하나의 시트에 세로로 길게)
+     * 거래명세표 엑셀 1개 출력 (주문별 시트)
+     * - 워크북 1개는 여러 스레드에서 쓸 수 없으므로 호출 스레드에서 순서대로 생성
+     * - 실패한 주문은 시트를 빼고 계속, 전부 실패하면 아무것도 쓰지 않고 예외
+     * @return 출력된 주문 수
      */
-    private byte[] createSingleOrderExcel(String orderNo, Object[] orderInfo, 
-                                         List<Object[]> orderItems, Object[] collectionInfo) throws Exception {
+    public int writeStatementWorkbook(List<StatementOrder> orders, OutputStream outputStream) throws IOException {
+        long start = System.currentTimeMillis();
+        SXSSFWorkbook workbook = template().newWorkbook();
         
-        log.info("단일 주문 엑셀 생성 시작 - orderNo: {}, 총 품목: {}개", orderNo, orderItems != null ? orderItems.size() : 0);
-        
-        // 템플릿 엑셀 로드
-        ClassPathResource templateResource = new ClassPathResource("templates/transaction_statement_template.xlsx");
-        
-        try (InputStream templateStream = templateResource.getInputStream();
-             Workbook workbook = new XSSFWorkbook(templateStream)) {
-            
-            Sheet sheet = workbook.getSheetAt(0);
-            
-            // 품목을 10개씩 그룹으로 나누기
-            List<List<Object[]>> itemGroups = groupItemsByPage(orderItems, 10);
-            int totalPages = itemGroups.size();
-            
-            log.info("페이지 수: {} (품목 {}개)", totalPages, orderItems != null ? orderItems.size() : 0);
-            
-            // 각 페이지별로 처리
-            for (int pageIndex = 0; pageIndex < totalPages; pageIndex++) {
-                List<Object[]> pageItems = itemGroups.get(pageIndex);
-                int currentPage = pageIndex + 1;
-                int startRow = pageIndex * 58; // 각 페이지는 57행 간격
-                
-                log.info("페이지 {} 생성 시작 - 시작행: {}, 품목: {}개", currentPage, startRow + 1, pageItems.size());
-                
-                if (pageIndex > 0) {
-                    // 2페이지부터는 템플릿 구조를 아래쪽에 복사
-                    copyTemplateStructureDown(sheet, startRow);
-                }
-                
-                // 페이지별 데이터 입력
-                fillPageDataAtRow(sheet, orderNo, orderInfo, pageItems, collectionInfo, 
-                                orderItems, currentPage, totalPages, startRow);
-                
-                // 페이지 나누기 추가 (마지막 페이지 제외)
-                if (pageIndex < totalPages - 1) {
-                    int pageBreakRow = startRow + 58; // 57행 뒤에 페이지 나누기
-                    sheet.setRowBreak(pageBreakRow);
-                    log.info("페이지 나누기 추가: {}행 뒤", pageBreakRow + 1);
+        try {
+            int written = 0;
+            for (StatementOrder order : orders) {
+                int sheetCount = workbook.getNumberOfSheets();
+                try {
+                    renderOrderSheet(workbook, order);
+                    written++;
+                } catch (Exception e) {
+                    log.error("주문별 엑셀 생성 실패 - orderNo: {}", order.getOrderNo(), e);
+                    if (workbook.getNumberOfSheets() > sheetCount) {
+                        workbook.getSheetAt(sheetCount).flushRows(); // 남은 행을 먼저 내려야 시트 제거 시 임시파일 정리됨
+                        workbook.removeSheetAt(sheetCount);
+                    }
                 }
-                
-                log.info("페이지 {} 생성 완료 - 행 범위: {}-{}", currentPage, startRow + 1, startRow + 58);
             }
             
-            // 바이트 배열로 변환
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            workbook.write(outputStream);
+            if (written == 0) {
+                throw new RuntimeException("거래명세표 엑셀 생성에 실패했습니다.");
+            }
             
-            log.info("단일 주문 엑셀 생성 완료 - orderNo: {}, 페이지 수: {}, 총 행 수: {}, 파일 크기: {} bytes", 
-                    orderNo, totalPages, totalPages * 58, outputStream.size());
+            workbook.write(outputStream);
             
-            return outputStream.toByteArray();
+            log.info("거래명세표 엑셀 출력 완료 - 주문 수: {}, 소요: {}ms", written, System.currentTimeMillis() - start);
+            return written;
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
     
     /**
-     * 품목을 페이지별로 그룹핑 (10개씩)
+     * 거래명세표 ZIP 출력 (주문별 엑셀 파일)
+     * - 주문별 엑셀은 작업 스레드(render-threads)에서 동시에 생성, 워크북은 작업마다 따로 만들고 파일로 변환 후 바로 정리
+     * - ZIP 기록은 호출 스레드 1개가 요청 순서대로 수행
+     * - 생성 중이거나 기록 대기 중인 파일은 최대 max-pending건 (기록이 밀리면 다음 주문 생성을 멈춤)
+     * - 실패한 주문은 건너뛰고 계속, 전부 실패하면 아무것도 쓰지 않고 예외
+     * @return 출력된 주문 수
      */
-    private List<List<Object[]>> groupItemsByPage(List<Object[]> orderItems, int itemsPerPage) {
-        List<List<Object[]>> groups = new ArrayList<>();
+    public int writeStatementZip(List<StatementOrder> orders, OutputStream outputStream) throws IOException {
+        long start = System.currentTimeMillis();
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        Iterator<StatementOrder> remaining = orders.iterator();
+        Deque<PendingStatement> pending = new ArrayDeque<>();
+        int written = 0;
         
-        if (orderItems == null || orderItems.isEmpty()) {
-            // 빈 그룹 하나라도 만들어야 페이지가 생성됨
-            groups.add(new ArrayList<>());
-            return groups;
+        try {
+            while (remaining.hasNext() || !pending.isEmpty()) {
+                // 대기열이 찰 때까지 생성 요청
+                while (remaining.hasNext() && pending.size() < maxPendingStatements) {
+                    StatementOrder order = remaining.next();
+                    pending.add(new PendingStatement(order, renderExecutor.submit(() -> renderStatementFile(order))));
+                }
+                
+                PendingStatement next = pending.poll();
+                byte[] excelData;
+                try {
+                    excelData = next.rendered.get();
+                } catch (ExecutionException e) {
+                    log.error("주문별 엑셀 생성 실패 - orderNo: {}", next.order.getOrderNo(), e.getCause());
+                    continue;
+                }
+                
+                writeZipEntry(zip, next.order.getOrderNo(), excelData);
+                written++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("거래명세표 엑셀 생성이 중단되었습니다.", e);
+        } finally {
+            // 기록 실패/중단 시 남은 생성 요청 취소 (이미 실행 중인 작업은 자기 워크북을 정리하고 끝남)
+            pending.forEach(statement -> statement.rendered.cancel(true));
         }
         
-        for (int i = 0; i < orderItems.size(); i += itemsPerPage) {
-            int endIndex = Math.min(i + itemsPerPage, orderItems.size());
-            List<Object[]> group = orderItems.subList(i, endIndex);
-            groups.add(new ArrayList<>(group));
+        if (written == 0) {
+            throw new RuntimeException("거래명세표 엑셀 생성에 실패했습니다.");
         }
         
-        return groups;
+        zip.finish();
+        
+        log.info("거래명세표 ZIP 출력 완료 - 파일 수: {}, 생성 스레드: {}, 소요: {}ms",
+                written, renderThreads, System.currentTimeMillis() - start);
+        return written;
     }
     
     /**
-     * 템플릿 구조를 아래쪽 행에 복사 (병합 영역 포함)
+     * 생성 요청한 주문 1건
      */
-    private void copyTemplateStructureDown(Sheet sheet, int startRow) {
-        // 원본 템플릿 범위: 0-56행 (57행)
-        for (int rowIdx = 0; rowIdx < 58; rowIdx++) {
-            Row sourceRow = sheet.getRow(rowIdx);
-            if (sourceRow != null) {
-                Row targetRow = sheet.getRow(startRow + rowIdx);
-                if (targetRow == null) {
-                    targetRow = sheet.createRow(startRow + rowIdx);
-                }
-                
-                // 행 높이 복사
-                targetRow.setHeight(sourceRow.getHeight());
-                
-                // 각 셀 복사
-                for (int cellIdx = 0; cellIdx < sourceRow.getLastCellNum(); cellIdx++) {
-                    Cell sourceCell = sourceRow.getCell(cellIdx);
-                    if (sourceCell != null) {
-                        Cell targetCell = targetRow.getCell(cellIdx);
-                        if (targetCell == null) {
-                            targetCell = targetRow.createCell(cellIdx);
-                        }
-                        
-                        // 스타일 복사 (같은 워크북이므로 안전함)
-                        targetCell.setCellStyle(sourceCell.getCellStyle());
-                        
-                        // 값 복사 (템플릿 기본값만)
-                        switch (sourceCell.getCellType()) {
-                            case STRING:
-                                targetCell.setCellValue(sourceCell.getStringCellValue());
-                                break;
-                            case NUMERIC:
-                                targetCell.setCellValue(sourceCell.getNumericCellValue());
-                                break;
-                            case BOOLEAN:
-                                targetCell.setCellValue(sourceCell.getBooleanCellValue());
-                                break;
-                            case FORMULA:
-                                try {
-                                    if (sourceCell.getCachedFormulaResultType() == CellType.NUMERIC) {
-                                        targetCell.setCellValue(sourceCell.getNumericCellValue());
-                                    } else if (sourceCell.getCachedFormulaResultType() == CellType.STRING) {
-                                        targetCell.setCellValue(sourceCell.getStringCellValue());
-                                    }
-                                } catch (Exception e) {
-                                    targetCell.setCellValue(""); // 오류 시 빈 값
-                                }
-                                break;
-                            default:
-                                break;
-                        }
-                    }
-                }
-            }
+    @AllArgsConstructor
+    private static class PendingStatement {
+        private final StatementOrder order;
+        private final Future<byte[]> rendered;
+    }
+    
+    /**
+     * 단일 주문 엑셀 파일 생성 (작업 스레드)
+     */
+    byte[] renderStatementFile(StatementOrder order) throws IOException {
+        SXSSFWorkbook workbook = renderStatement(order);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            workbook.write(outputStream);
+            return outputStream.toByteArray();
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
-        
-        // 병합된 셀 영역 복사 (템플릿 범위 0-56행)
-        copyMergedRegions(sheet, 0, 56, startRow);
-        
-        log.debug("템플릿 구조 복사 완료 - 시작행: {}, 병합 영역 포함", startRow + 1);
     }
     
     /**
-     * 안전한 병합된 셀 영역 복사
+     * ZIP 항목 기록 (호출 스레드)
+     */
+    void writeZipEntry(ZipOutputStream zip, String orderNo, byte[] excelData) throws IOException {
+        zip.putNextEntry(new ZipEntry("거래명세표_" + orderNo + ".xlsx"));
+        zip.write(excelData);
+        zip.closeEntry();
+    }
+    
+    /**
+     * 단일 주문 엑셀 생성 (사용 후 dispose + close 필요)
      */
-    private void copyMergedRegions(Sheet sheet, int sourceStartRow, int sourceEndRow, int targetStartRow) {
+    SXSSFWorkbook renderStatement(StatementOrder order) throws IOException {
+        SXSSFWorkbook workbook = template().newWorkbook();
         try {
-            List<org.apache.poi.ss.util.CellRangeAddress> mergedRegions = new ArrayList<>(sheet.getMergedRegions());
+            renderOrderSheet(workbook, order);
+            return workbook;
+        } catch (RuntimeException e) {
+            workbook.dispose();
+            workbook.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * 주문 1건 시트 생성 (하나의 시트에 세로로 길게, 10품목씩 페이지)
+     */
+    private void renderOrderSheet(SXSSFWorkbook workbook, StatementOrder order) {
+        TransactionStatementTemplate template = template();
+        SXSSFSheet sheet = template.newSheet(workbook, order.getOrderNo());
+        
+        // 품목을 10개씩 그룹으로 나누기
+        List<List<Object[]>> itemGroups = groupItemsByPage(order.getOrderItems(), 10);
+        int totalPages = itemGroups.size();
+        
+        for (int pageIndex = 0; pageIndex < totalPages; pageIndex++) {
+            // 템플릿 페이지를 아래쪽에 이어서 기록
+            int startRow = template.writePage(sheet, pageIndex);
             
-            for (org.apache.poi.ss.util.CellRangeAddress mergedRegion : mergedRegions) {
-                // 소스 범위 내의 병합 영역만 복사
-                if (mergedRegion.getFirstRow() >= sourceStartRow && mergedRegion.getLastRow() <= sourceEndRow) {
-                    
-                    // 새로운 위치로 병합 영역 이동
-                    int newFirstRow = mergedRegion.getFirstRow() - sourceStartRow + targetStartRow;
-                    int newLastRow = mergedRegion.getLastRow() - sourceStartRow + targetStartRow;
-                    int newFirstCol = mergedRegion.getFirstColumn();
-                    int newLastCol = mergedRegion.getLastColumn();
-                    
-                    // 유효한 범위인지 체크
-                    if (newFirstRow >= 0 && newLastRow < 1048576 && newFirstCol >= 0 && newLastCol < 16384) {
-                        org.apache.poi.ss.util.CellRangeAddress newMergedRegion = 
-                            new org.apache.poi.ss.util.CellRangeAddress(newFirstRow, newLastRow, newFirstCol, newLastCol);
-                        
-                        // 안전하게 추가
-                        try {
-                            sheet.addMergedRegion(newMergedRegion);
-                            log.debug("병합 영역 복사 성공: ({},{}) to ({},{})", 
-                                     newFirstRow + 1, newFirstCol + 1, newLastRow + 1, newLastCol + 1);
-                        } catch (Exception e) {
-                            log.warn("병합 영역 복사 실패: {}", e.getMessage());
-                        }
-                    }
+            // 페이지별 데이터 입력
+            fillPageDataAtRow(sheet, order.getOrderNo(), order.getOrderInfo(), itemGroups.get(pageIndex),
+                    order.getCollectionInfo(), order.getOrderItems(), pageIndex + 1, totalPages, startRow);
+            
+            // 페이지 나누기 추가 (마지막 페이지 제외, 템플릿과 같이 페이지 마지막 행 뒤)
+            if (pageIndex < totalPages - 1) {
+                sheet.setRowBreak(startRow + TransactionStatementTemplate.ROWS_PER_PAGE - 1);
+            }
+        }
+        
+        log.debug("단일 주문 엑셀 생성 완료 - orderNo: {}, 페이지 수: {}", order.getOrderNo(), totalPages);
+    }
+    
+    private TransactionStatementTemplate template() {
+        TransactionStatementTemplate loaded = template;
+        if (loaded == null) {
+            synchronized (this) {
+                if (template == null) {
+                    template = TransactionStatementTemplate.load();
                 }
+                loaded = template;
             }
-        } catch (Exception e) {
-            log.error("병합 영역 복사 중 오류 발생", e);
         }
+        return loaded;
     }
     
     /**
-     * 중복 병합 영역 체크
+     * 품목을 페이지별로 그룹핑 (10개씩)
      */
-    private boolean isDuplicateMergedRegion(Sheet sheet, org.apache.poi.ss.util.CellRangeAddress newRegion) {
-        List<org.apache.poi.ss.util.CellRangeAddress> existingRegions = sheet.getMergedRegions();
-        
-        for (org.apache.poi.ss.util.CellRangeAddress existing : existingRegions) {
-            if (existing.getFirstRow() == newRegion.getFirstRow() &&
-                existing.getLastRow() == newRegion.getLastRow() &&
-                existing.getFirstColumn() == newRegion.getFirstColumn() &&
-                existing.getLastColumn() == newRegion.getLastColumn()) {
-                return true; // 중복됨
-            }
+    private List<List<Object[]>> groupItemsByPage(List<Object[]> orderItems, int itemsPerPage) {
+        List<List<Object[]>> groups = new ArrayList<>();
+        
+        if (orderItems == null || orderItems.isEmpty()) {
+            // 빈 그룹 하나라도 만들어야 페이지가 생성됨
+            groups.add(new ArrayList<>());
+            return groups;
         }
-        return false; // 중복 아님
+        
+        for (int i = 0; i < orderItems.size(); i += itemsPerPage) {
+            int endIndex = Math.min(i + itemsPerPage, orderItems.size());
+            List<Object[]> group = orderItems.subList(i, endIndex);
+            groups.add(new ArrayList<>(group));
+        }
+        
+        return groups;
     }
     
     /**
      * 특정 행 위치에서 페이지별 데이터 입력
      */
-    private void fillPageDataAtRow(Sheet sheet, String orderNo, Object[] orderInfo, 
+    void fillPageDataAtRow(Sheet sheet, String orderNo, Object[] orderInfo, 
                                   List<Object[]> pageItems, Object[] collectionInfo, 
                                   List<Object[]> allItems, int currentPage, int totalPages, int startRow) {
         
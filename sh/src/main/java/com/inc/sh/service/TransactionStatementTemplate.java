@@ -0,0 +1,259 @@
+package com.inc.sh.service;
+
+import lombok.AllArgsConstructor;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.usermodel.extensions.XSSFCellBorder;
+import org.apache.poi.xssf.usermodel.extensions.XSSFCellFill;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTBorder;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTFill;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTFont;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTXf;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래명세표 템플릿 (templates/transaction_statement_template.xlsx)
+ * - 템플릿은 한 번만 읽어서 1페이지(58행)의 셀 값/스타일, 병합 영역, 열 너비, 인쇄 설정을 보관
+ * - 스타일은 시트를 뺀 템플릿 워크북(스켈레톤)에 남겨두고 출력 파일마다 빈 워크북에 같은 순서로 복사 (스타일 인덱스 동일)
+ * - 스켈레톤은 로드 시 1회만 파싱, 출력 파일마다 파일을 다시 읽지 않음
+ * - 출력은 SXSSF: 1페이지 분량 행만 메모리에 두고 이전 페이지 행은 임시파일로 내려감
+ */
+final class TransactionStatementTemplate {
+
+    static final String TEMPLATE_PATH = "templates/transaction_statement_template.xlsx";
+    static final int ROWS_PER_PAGE = 58;    // 페이지 간격 (1번 블록 + 2번 블록 + 여백 1행)
+    private static final int COLUMN_COUNT = 11; // A~K
+
+    private final XSSFWorkbook skeleton;
+    private final byte[] themeXml;
+    private final TemplateRow[] rows = new TemplateRow[ROWS_PER_PAGE];
+    private final List<CellRangeAddress> mergedRegions = new ArrayList<>();
+    private final int[] columnWidths = new int[COLUMN_COUNT];
+    private final int[] columnStyles = new int[COLUMN_COUNT];
+    private final short defaultRowHeight;
+    private final double[] margins = new double[PageMargin.values().length];
+    private final short paperSize;
+    private final short scale;
+    private final boolean landscape;
+    private final boolean fitToPage;
+    private final int[] columnBreaks;
+
+    static TransactionStatementTemplate load() {
+        try (InputStream templateStream = new ClassPathResource(TEMPLATE_PATH).getInputStream()) {
+            return new TransactionStatementTemplate(new XSSFWorkbook(templateStream));
+        } catch (IOException e) {
+            throw new RuntimeException("거래명세표 템플릿을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private TransactionStatementTemplate(XSSFWorkbook workbook) throws IOException {
+        Sheet sheet = workbook.getSheetAt(0);
+
+        for (int rowIdx = 0; rowIdx < ROWS_PER_PAGE; rowIdx++) {
+            rows[rowIdx] = TemplateRow.of(sheet.getRow(rowIdx));
+        }
+        for (CellRangeAddress region : sheet.getMergedRegions()) {
+            if (region.getLastRow() < ROWS_PER_PAGE) {
+                mergedRegions.add(region);
+            }
+        }
+        for (int col = 0; col < COLUMN_COUNT; col++) {
+            columnWidths[col] = sheet.getColumnWidth(col);
+            CellStyle columnStyle = sheet.getColumnStyle(col);
+            columnStyles[col] = columnStyle != null ? columnStyle.getIndex() : -1;
+        }
+        defaultRowHeight = sheet.getDefaultRowHeight();
+        for (PageMargin margin : PageMargin.values()) {
+            margins[margin.ordinal()] = sheet.getMargin(margin);
+        }
+        PrintSetup printSetup = sheet.getPrintSetup();
+        paperSize = printSetup.getPaperSize();
+        scale = printSetup.getScale();
+        landscape = printSetup.getLandscape();
+        fitToPage = sheet.getFitToPage();
+        columnBreaks = sheet.getColumnBreaks();
+
+        // 스타일/글꼴만 남긴 스켈레톤
+        workbook.removeSheetAt(0);
+        skeleton = workbook;
+        ByteArrayOutputStream themeStream = new ByteArrayOutputStream();
+        workbook.getTheme().writeTo(themeStream);
+        themeXml = themeStream.toByteArray();
+    }
+
+    /**
+     * 출력용 워크북 생성 (사용 후 dispose + close 필요)
+     * - 빈 워크북에 스켈레톤의 표시 형식/글꼴/채우기/테두리/셀 스타일을 XML 객체 복사로 옮김 (셀 스타일 인덱스 동일)
+     * - 테마는 XML 문서 1개만 읽음
+     * - 스켈레톤 읽기는 동시 생성 작업 간에 직렬화
+     */
+    SXSSFWorkbook newWorkbook() {
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        StylesTable styles = workbook.getStylesSource();
+        try {
+            styles.ensureThemesTable();
+            styles.getTheme().readFrom(new ByteArrayInputStream(themeXml));
+        } catch (IOException e) {
+            throw new RuntimeException("거래명세표 워크북 생성 실패: " + e.getMessage(), e);
+        }
+
+        StylesTable source = skeleton.getStylesSource();
+        synchronized (skeleton) {
+            source.getNumberFormats().forEach(styles::putNumberFormat);
+
+            // 0번 글꼴은 기본 글꼴(열 너비 기준)이므로 그대로 덮어씀, 나머지는 추가 후 번호 매핑
+            int[] fontIds = new int[source.getFonts().size()];
+            styles.getFontAt(0).getCTFont().set(source.getFontAt(0).getCTFont());
+            for (int i = 1; i < fontIds.length; i++) {
+                fontIds[i] = styles.putFont(new XSSFFont((CTFont) source.getFontAt(i).getCTFont().copy()), true);
+            }
+            int[] fillIds = new int[source.getFills().size()];
+            for (int i = 0; i < fillIds.length; i++) {
+                fillIds[i] = styles.putFill(new XSSFCellFill((CTFill) source.getFillAt(i).getCTFill().copy(),
+                        styles.getIndexedColors()));
+            }
+            int[] borderIds = new int[source.getBorders().size()];
+            for (int i = 0; i < borderIds.length; i++) {
+                borderIds[i] = styles.putBorder(new XSSFCellBorder((CTBorder) source.getBorderAt(i).getCTBorder().copy(),
+                        styles.getTheme(), styles.getIndexedColors()));
+            }
+
+            for (int i = 0; i < source.getNumCellStyles(); i++) {
+                CTXf xf = (CTXf) source.getCellXfAt(i).copy();
+                xf.setFontId(fontIds[(int) xf.getFontId()]);
+                xf.setFillId(fillIds[(int) xf.getFillId()]);
+                xf.setBorderId(borderIds[(int) xf.getBorderId()]);
+                if (i == 0) {
+                    styles.replaceCellXfAt(0, xf);
+                } else {
+                    styles.putCellXf(xf);
+                }
+            }
+        }
+        return new SXSSFWorkbook(workbook, ROWS_PER_PAGE);
+    }
+
+    /**
+     * 템플릿과 같은 열 너비/인쇄 설정의 빈 시트 생성
+     */
+    SXSSFSheet newSheet(SXSSFWorkbook workbook, String sheetName) {
+        SXSSFSheet sheet = workbook.createSheet(WorkbookUtil.createSafeSheetName(sheetName));
+
+        for (int col = 0; col < COLUMN_COUNT; col++) {
+            sheet.setColumnWidth(col, columnWidths[col]);
+            if (columnStyles[col] >= 0) {
+                sheet.setDefaultColumnStyle(col, workbook.getCellStyleAt(columnStyles[col]));
+            }
+        }
+        sheet.setDefaultRowHeight(defaultRowHeight);
+        for (PageMargin margin : PageMargin.values()) {
+            sheet.setMargin(margin, margins[margin.ordinal()]);
+        }
+        PrintSetup printSetup = sheet.getPrintSetup();
+        printSetup.setPaperSize(paperSize);
+        printSetup.setScale(scale);
+        printSetup.setLandscape(landscape);
+        sheet.setFitToPage(fitToPage);
+        for (int columnBreak : columnBreaks) {
+            sheet.setColumnBreak(columnBreak);
+        }
+        return sheet;
+    }
+
+    /**
+     * 페이지 템플릿 58행을 pageIndex 위치에 기록 (행은 순서대로만 생성 가능)
+     * @return 페이지 시작행 (0-based)
+     */
+    int writePage(SXSSFSheet sheet, int pageIndex) {
+        int startRow = pageIndex * ROWS_PER_PAGE;
+        Workbook workbook = sheet.getWorkbook();
+
+        for (int rowIdx = 0; rowIdx < ROWS_PER_PAGE; rowIdx++) {
+            rows[rowIdx].writeTo(sheet.createRow(startRow + rowIdx), workbook);
+        }
+        // 템플릿 병합 영역은 서로 겹치지 않으므로 검사 생략
+        for (CellRangeAddress region : mergedRegions) {
+            sheet.addMergedRegionUnsafe(new CellRangeAddress(
+                    region.getFirstRow() + startRow, region.getLastRow() + startRow,
+                    region.getFirstColumn(), region.getLastColumn()));
+        }
+        return startRow;
+    }
+
+    /**
+     * 템플릿 행 (높이, 행 스타일, 셀 스타일/기본값)
+     */
+    @AllArgsConstructor
+    private static class TemplateRow {
+        private final short height;
+        private final int rowStyle;
+        private final TemplateCell[] cells;
+
+        static TemplateRow of(Row row) {
+            if (row == null) {
+                return new TemplateRow((short) -1, -1, new TemplateCell[0]);
+            }
+            List<TemplateCell> cells = new ArrayList<>();
+            for (Cell cell : row) {
+                cells.add(new TemplateCell(cell.getColumnIndex(), cell.getCellStyle().getIndex(), valueOf(cell)));
+            }
+            CellStyle rowStyle = row.getRowStyle();
+            return new TemplateRow(row.getHeight(), rowStyle != null ? rowStyle.getIndex() : -1,
+                    cells.toArray(new TemplateCell[0]));
+        }
+
+        void writeTo(Row target, Workbook workbook) {
+            if (height >= 0) {
+                target.setHeight(height);
+            }
+            if (rowStyle >= 0) {
+                target.setRowStyle(workbook.getCellStyleAt(rowStyle));
+            }
+            for (TemplateCell templateCell : cells) {
+                Cell cell = target.createCell(templateCell.column);
+                cell.setCellStyle(workbook.getCellStyleAt(templateCell.style));
+                Object value = templateCell.value;
+                if (value instanceof String) {
+                    cell.setCellValue((String) value);
+                } else if (value instanceof Double) {
+                    cell.setCellValue((Double) value);
+                } else if (value instanceof Boolean) {
+                    cell.setCellValue((Boolean) value);
+                }
+            }
+        }
+
+        /**
+         * 템플릿 기본값 (수식은 계산된 값만 사용)
+         */
+        private static Object valueOf(Cell cell) {
+            CellType type = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+            return switch (type) {
+                case STRING -> cell.getStringCellValue();
+                case NUMERIC -> cell.getNumericCellValue();
+                case BOOLEAN -> cell.getBooleanCellValue();
+                default -> null;
+            };
+        }
+    }
+
+    @AllArgsConstructor
+    private static class TemplateCell {
+        private final int column;
+        private final short style;
+        private final Object value;
+    }
+}
@@ -28,9 +28,9 @@ public class WarehouseTransferService {
     private final WarehouseItemsRepository warehouseItemsRepository;
     private final WarehouseTransfersRepository warehouseTransfersRepository;
     private final WarehouseTransfersItemsRepository warehouseTransfersItemsRepository;
-    private final MonthlyInventoryClosingRepository monthlyInventoryClosingRepository;
-    private final InventoryTransactionsRepository inventoryTransactionsRepository;
+    private final InventoryPostingService inventoryPostingService;
     private final MonthlyClosingService monthlyClosingService;
+    private final DocumentSequenceService documentSequenceService;
     
     /**
      * 창고이송현황 목록 조회
@@ -207,16 +207,8 @@ public class WarehouseTransferService {
         // 6. 이송품목 저장
         saveTransferItem(transferCode, item);
         
-        // 7. 재고 업데이트
-        updateInventories(item);
-        
-        // 8. 재고수불부 기록
-        createInventoryTransactions(transferCode, item.getFromWarehouseCode(), 
-                item.getToWarehouseCode(), item, item.getTransferDate());
-        
-        // 9. 월별재고마감 업데이트
-        updateMonthlyInventoryClosing(item.getFromWarehouseCode(), item.getToWarehouseCode(),
-                item.getItemCode(), item.getQuantity(), item.getAmount(), yearMonth);
+        // 7. 재고 업데이트 + 재고수불부 기록 + 월별재고마감 업데이트 (일괄 전기)
+        postTransferInventory(transferCode, item, yearMonth);
     }
     
     /**
@@ -309,206 +301,60 @@ public class WarehouseTransferService {
         log.debug("이송품목 저장 완료 - 이송번호: {}, 품목: {}", transferCode, item.getItemCode());
     }
     
-    /**
-     * 재고 업데이트 (출고창고 차감 + 입고창고 증가)
-     */
-    private void updateInventories(TransferItemDto item) {
-        // 출고창고 재고 차감
-        updateFromWarehouseQuantity(item.getFromWarehouseCode(), item.getItemCode(), item.getQuantity());
-        // 입고창고 재고 증가
-        updateToWarehouseQuantity(item.getToWarehouseCode(), item.getItemCode(), item.getQuantity());
-    }
-    
     /**
      * 이송번호 생성 (TR251114-0001 형식)
      */
     private String generateTransferCode(String transferDate) {
-        // YYYYMMDD -> YYMMDD 변환
-        String dateStr = transferDate.substring(2, 8);
-        
-        // 해당 날짜의 마지막 이송번호 조회
-        String lastTransferCode = warehouseTransfersRepository.findLastTransferCodeByDate(dateStr);
-        
-        int sequence = 1;
-        if (lastTransferCode != null) {
-            // TR251114-0001에서 0001 부분 추출
-            String lastSequenceStr = lastTransferCode.substring(lastTransferCode.lastIndexOf("-") + 1);
-            sequence = Integer.parseInt(lastSequenceStr) + 1;
-        }
-        
-        return String.format("TR%s-%04d", dateStr, sequence);
-    }
-    
-    /**
-     * 출고창고 재고 차감
-     */
-    private void updateFromWarehouseQuantity(Integer warehouseCode, Integer itemCode, Integer quantity) {
-        WarehouseItems warehouseItem = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(warehouseCode, itemCode)
-                .orElseThrow(() -> new RuntimeException("출고창고 품목을 찾을 수 없습니다."));
-        
-        warehouseItem.setCurrentQuantity(warehouseItem.getCurrentQuantity() - quantity);
-        warehouseItemsRepository.save(warehouseItem);
-    }
-    
-    /**
-     * 입고창고 재고 증가
-     */
-    private void updateToWarehouseQuantity(Integer warehouseCode, Integer itemCode, Integer quantity) {
-        Optional<WarehouseItems> existing = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(warehouseCode, itemCode);
-        
-        if (existing.isPresent()) {
-            // 기존 품목 수량 증가
-            WarehouseItems warehouseItem = existing.get();
-            warehouseItem.setCurrentQuantity(warehouseItem.getCurrentQuantity() + quantity);
-            warehouseItemsRepository.save(warehouseItem);
-        } else {
-            // 새 품목 생성
-            WarehouseItems newWarehouseItem = WarehouseItems.builder()
-                    .warehouseCode(warehouseCode)
-                    .itemCode(itemCode)
-                    .currentQuantity(quantity)
-                    .safeQuantity(0)
-                    .build();
-            warehouseItemsRepository.save(newWarehouseItem);
-        }
+        return documentSequenceService.nextTransferCode(transferDate);
     }
     
     /**
-     * 월별재고마감 업데이트
+     * 이송 재고 전기 (출고창고 차감/출고 + 입고창고 증가/입고)
+     * - 입고창고 품목/월별재고마감이 없으면 생성
      */
-    private void updateMonthlyInventoryClosing(Integer fromWarehouseCode, Integer toWarehouseCode,
-                                             Integer itemCode, Integer quantity, Integer amount, String yearMonth) {
-        // 출고창고 월별재고마감 업데이트 (출고 증가)
-        updateMonthlyClosingByWarehouse(fromWarehouseCode, itemCode, yearMonth, 0, 0, quantity, amount);
-        
-        // 입고창고 월별재고마감 업데이트 (입고 증가)  
-        updateMonthlyClosingByWarehouse(toWarehouseCode, itemCode, yearMonth, quantity, amount, 0, 0);
-    }
-    
-    /**
-     * 창고별 월별재고마감 업데이트 (없으면 생성)
-     */
-    private void updateMonthlyClosingByWarehouse(Integer warehouseCode, Integer itemCode, String yearMonth,
-                                               Integer inQuantity, Integer inAmount, Integer outQuantity, Integer outAmount) {
-        // 먼저 해당 창고품목 조회
-        Optional<WarehouseItems> warehouseItemOpt = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(warehouseCode, itemCode);
-        
-        if (warehouseItemOpt.isEmpty()) {
-            log.warn("창고품목을 찾을 수 없습니다. 창고코드: {}, 품목코드: {}", warehouseCode, itemCode);
-            return;
-        }
-        
-        WarehouseItems warehouseItem = warehouseItemOpt.get();
-        
-        // 기존 월별재고마감 데이터 조회
-        List<MonthlyInventoryClosing> closingList = monthlyInventoryClosingRepository
-                .findByWarehouseCodeAndClosingYm(warehouseCode, yearMonth);
-        
-        // 해당 품목의 기존 데이터가 있는지 확인
-        Optional<MonthlyInventoryClosing> existingClosing = closingList.stream()
-                .filter(closing -> closing.getItemCode().equals(itemCode))
-                .findFirst();
-        
-        if (existingClosing.isPresent()) {
-            // 기존 데이터 업데이트
-            MonthlyInventoryClosing closing = existingClosing.get();
-            
-            // 입출고 수량/금액 업데이트
-            closing.setInQuantity(closing.getInQuantity() + inQuantity);
-            closing.setInAmount(closing.getInAmount() + inAmount);
-            closing.setOutQuantity(closing.getOutQuantity() + outQuantity);
-            closing.setOutAmount(closing.getOutAmount() + outAmount);
-            
-            // 계산수량/금액 재계산
-            int newCalQuantity = closing.getOpeningQuantity() + closing.getInQuantity() - closing.getOutQuantity();
-            int newCalAmount = closing.getOpeningAmount() + closing.getInAmount() - closing.getOutAmount();
-            
-            closing.setCalQuantity(newCalQuantity);
-            closing.setCalAmount(newCalAmount);
-            
-            monthlyInventoryClosingRepository.save(closing);
-            
-            log.info("월별재고마감 업데이트 완료 - 창고: {}, 품목: {}, 계산수량: {}", 
-                    warehouseCode, itemCode, newCalQuantity);
-            
-        } else {
-            // 새로운 월별재고마감 생성
-            MonthlyInventoryClosing newClosing = MonthlyInventoryClosing.builder()
-                    .warehouseItemCode(warehouseItem.getWarehouseItemCode())
-                    .warehouseCode(warehouseCode)
-                    .itemCode(itemCode)
-                    .closingYm(yearMonth)
-                    .openingQuantity(0)  // 이월수량 0
-                    .openingAmount(0)    // 이월금액 0
-                    .inQuantity(inQuantity)
-                    .inAmount(inAmount)
-                    .outQuantity(outQuantity)
-                    .outAmount(outAmount)
-                    .calQuantity(inQuantity - outQuantity)  // 계산수량 = 입고 - 출고
-                    .calAmount(inAmount - outAmount)        // 계산금액 = 입고금액 - 출고금액
-                    .actualQuantity(0)      // 실사수량 초기값
-                    .actualUnitPrice(0)     // 실사단가 초기값
-                    .actualAmount(0)        // 실사금액 초기값
-                    .diffQuantity(0)        // 오차수량 초기값
-                    .diffAmount(0)          // 오차금액 초기값
-                    .isClosed(false)        // 마감여부 false
-                    .build();
-            
-            monthlyInventoryClosingRepository.save(newClosing);
-            
-            log.info("월별재고마감 신규생성 완료 - 창고: {}, 품목: {}, 계산수량: {}", 
-                    warehouseCode, itemCode, newClosing.getCalQuantity());
-        }
-    }
-    
-    /**
-     * 재고수불부 기록 생성
-     */
-    private void createInventoryTransactions(String transferCode, Integer fromWarehouseCode, 
-                                           Integer toWarehouseCode, TransferItemDto item, String transferDate) {
-        // 출고창고의 warehouse_item_code 조회
-        Optional<WarehouseItems> fromWarehouseItem = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(fromWarehouseCode, item.getItemCode());
-        
-        // 입고창고의 warehouse_item_code 조회
-        Optional<WarehouseItems> toWarehouseItem = warehouseItemsRepository
-                .findByWarehouseCodeAndItemCode(toWarehouseCode, item.getItemCode());
+    private void postTransferInventory(String transferCode, TransferItemDto item, String yearMonth) {
+        InventoryPostingService.PostingLine outLine = InventoryPostingService.PostingLine.builder()
+                .warehouseCode(item.getFromWarehouseCode())
+                .itemCode(item.getItemCode())
+                .quantityChange(-item.getQuantity())
+                .closingYm(yearMonth)
+                .outQuantity(item.getQuantity())
+                .outAmount(item.getAmount())
+                .transaction(InventoryTransactions.builder()
+                        .warehouseCode(item.getFromWarehouseCode())
+                        .itemCode(item.getItemCode())
+                        .transactionDate(item.getTransferDate())
+                        .transactionType("이송출고")
+                        .quantity(-item.getQuantity()) // 음수로 기록
+                        .unitPrice(item.getUnitPrice())
+                        .amount(-item.getAmount()) // 음수로 기록
+                        .note("창고이송 - " + transferCode)
+                        .build())
+                .build();
         
-        // 출고 기록
-        if (fromWarehouseItem.isPresent()) {
-            InventoryTransactions outTransaction = InventoryTransactions.builder()
-                    .warehouseItemCode(fromWarehouseItem.get().getWarehouseItemCode())
-                    .warehouseCode(fromWarehouseCode)
-                    .itemCode(item.getItemCode())
-                    .transactionDate(transferDate)
-                    .transactionType("이송출고")
-                    .quantity(-item.getQuantity()) // 음수로 기록
-                    .unitPrice(item.getUnitPrice())
-                    .amount(-item.getAmount()) // 음수로 기록
-                    .note("창고이송 - " + transferCode)
-                    .build();
-            
-            inventoryTransactionsRepository.save(outTransaction);
-        }
+        InventoryPostingService.PostingLine inLine = InventoryPostingService.PostingLine.builder()
+                .warehouseCode(item.getToWarehouseCode())
+                .itemCode(item.getItemCode())
+                .quantityChange(item.getQuantity())
+                .closingYm(yearMonth)
+                .inQuantity(item.getQuantity())
+                .inAmount(item.getAmount())
+                .transaction(InventoryTransactions.builder()
+                        .warehouseCode(item.getToWarehouseCode())
+                        .itemCode(item.getItemCode())
+                        .transactionDate(item.getTransferDate())
+                        .transactionType("이송입고")
+                        .quantity(item.getQuantity())
+                        .unitPrice(item.getUnitPrice())
+                        .amount(item.getAmount())
+                        .note("창고이송 - " + transferCode)
+                        .build())
+                .build();
         
-        // 입고 기록
-        if (toWarehouseItem.isPresent()) {
-            InventoryTransactions inTransaction = InventoryTransactions.builder()
-                    .warehouseItemCode(toWarehouseItem.get().getWarehouseItemCode())
-                    .warehouseCode(toWarehouseCode)
-                    .itemCode(item.getItemCode())
-                    .transactionDate(transferDate)
-                    .transactionType("이송입고")
-                    .quantity(item.getQuantity())
-                    .unitPrice(item.getUnitPrice())
-                    .amount(item.getAmount())
-                    .note("창고이송 - " + transferCode)
-                    .build();
-            
-            inventoryTransactionsRepository.save(inTransaction);
-        }
+        inventoryPostingService.post(List.of(outLine, inLine), InventoryPostingService.PostingOptions.builder()
+                .missingWarehouseItem(InventoryPostingService.MissingPolicy.CREATE)
+                .missingClosing(InventoryPostingService.MissingPolicy.CREATE)
+                .checkStock(true)
+                .build());
     }
 }
\ No newline at end of file
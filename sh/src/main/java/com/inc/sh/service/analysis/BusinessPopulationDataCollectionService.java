@@ -1,9 +1,9 @@
 package com.inc.sh.service.analysis;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.inc.sh.dto.publicDataAnalysis.reqDto.PublicDataAnalysisReqDto;
 import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
-import com.inc.sh.entity.PublicDataAnalysis;
-import com.inc.sh.repository.PublicDataAnalysisRepository;
+import com.inc.sh.repository.PublicDataAnalysisBatchRepository;
 import com.inc.sh.config.CityBoxCoordinates;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,15 +18,22 @@ import java.util.*;
  * 
  * 🎯 수정된 정책:
  * 1. API 파라미터는 기본값 유지 (areaGb=1&areaDiv=1) - 추측으로 변경 안함
- * 2. 응답 데이터에서 동 단위(8자리 이상)만 필터링
- * 3. 기존 매출 레코드가 있는 경우에만 UPDATE
- * 4. 새로운 레코드 생성하지 않음 (시/구 단위 중복 방지)
+ * 2. 응답 데이터에서 동 단위(8자리 이상)만 필터링 (시/구 단위 중복 방지)
+ * 3. 행정동별 배치 UPSERT로 인구/세대 컬럼만 저장 (매출 레코드가 아직 없는 동도 생성)
+ * 4. 업종별 업소수 컬럼은 매출 단계가 저장하므로 갱신하지 않음
  */
 @Slf4j
 @Service
 public class BusinessPopulationDataCollectionService {
 
-    private final PublicDataAnalysisRepository repository;
+    private static final TypeReference<List<PublicDataAnalysisRespDto.DynpplSttusApiResp>> DYNPPL_PAYLOAD_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<List<PublicDataAnalysisRespDto.RgnSttusApiResp>> RGN_PAYLOAD_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<List<PublicDataAnalysisRespDto.WrcpplSttusApiResp>> WRCPPL_PAYLOAD_TYPE =
+            new TypeReference<>() {};
+
+    private final PublicDataAnalysisBatchRepository batchRepository;
     private RestTemplate restTemplate;
     
     @Value("${public-api.business-population.base-url:}")
@@ -38,8 +45,8 @@ public class BusinessPopulationDataCollectionService {
     @Value("${public-api.working-population.base-url:}")
     private String workingPopulationApiBaseUrl;
 
-    public BusinessPopulationDataCollectionService(PublicDataAnalysisRepository repository) {
-        this.repository = repository;
+    public BusinessPopulationDataCollectionService(PublicDataAnalysisBatchRepository batchRepository) {
+        this.batchRepository = batchRepository;
         this.restTemplate = new RestTemplate();
     }
 
@@ -47,11 +54,6 @@ public class BusinessPopulationDataCollectionService {
     private static class BusinessPopulationData {
         private Integer adminDongCode;
         private String adminDongName;
-        private Integer koreanRestaurantCount;
-        private Integer chineseRestaurantCount;
-        private Integer japaneseRestaurantCount;
-        private Integer westernRestaurantCount;
-        private Integer southeastAsianRestaurantCount;
         private Integer floatingPopulation;
         private Integer residentialPopulation;
         private Integer workingPopulation;
@@ -79,24 +81,9 @@ public class BusinessPopulationDataCollectionService {
             }
         }
 
-        public void updateBusinessCount(String upjongCd, Integer count) {
-            switch (upjongCd) {
-                case "I201": this.koreanRestaurantCount = count; break;
-                case "I202": this.chineseRestaurantCount = count; break;
-                case "I203": this.japaneseRestaurantCount = count; break;
-                case "I204": this.westernRestaurantCount = count; break;
-                case "I205": this.southeastAsianRestaurantCount = count; break;
-            }
-        }
-
         // Getters and Setters
         public Integer getAdminDongCode() { return adminDongCode; }
         public String getAdminDongName() { return adminDongName; }
-        public Integer getKoreanRestaurantCount() { return koreanRestaurantCount; }
-        public Integer getChineseRestaurantCount() { return chineseRestaurantCount; }
-        public Integer getJapaneseRestaurantCount() { return japaneseRestaurantCount; }
-        public Integer getWesternRestaurantCount() { return westernRestaurantCount; }
-        public Integer getSoutheastAsianRestaurantCount() { return southeastAsianRestaurantCount; }
         public Integer getFloatingPopulation() { return floatingPopulation; }
         public Integer getResidentialPopulation() { return residentialPopulation; }
         public Integer getWorkingPopulation() { return workingPopulation; }
@@ -132,6 +119,14 @@ public class BusinessPopulationDataCollectionService {
      */
     public PublicDataAnalysisRespDto.CollectionProgressResp collectBusinessPopulationData(
             PublicDataAnalysisReqDto.BusinessPopulationDataCollectReq request) {
+        return collectBusinessPopulationData(request, CollectionCheckpoint.NONE);
+    }
+
+    /**
+     * 업소수/인구 데이터 수집 (체크포인트: 완료된 호출 단위는 저장된 응답으로 복원하고 다시 호출하지 않음)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp collectBusinessPopulationData(
+            PublicDataAnalysisReqDto.BusinessPopulationDataCollectReq request, CollectionCheckpoint checkpoint) {
 
         String taskId = "business_population_" + System.currentTimeMillis();
         PublicDataAnalysisRespDto.CollectionProgressResp progress = 
@@ -167,6 +162,8 @@ public class BusinessPopulationDataCollectionService {
         progress.setTotalApiCalls(totalApiCalls);
 
         try {
+            checkpoint.begin(totalApiCalls);
+
             for (String areaCd : request.getAreaCodes()) {
                 progress.setCurrentAreaCode(areaCd);
                 log.info("지역코드 {} 데이터 수집 시작", areaCd);
@@ -175,13 +172,17 @@ public class BusinessPopulationDataCollectionService {
                 if (request.getIncludeBusinessCount()) {
                     for (String upjongCd : CityBoxCoordinates.UPJONG_CODES_BUSINESS) {
                         try {
-                            String apiUrl = buildBusinessPopulationApiUrl(areaCd, upjongCd);
-                            BusinessPopulationApiResponse apiResponse = callBusinessPopulationApi(apiUrl);
+                            List<PublicDataAnalysisRespDto.DynpplSttusApiResp> statsList = checkpoint.callOrRestore(
+                                    areaCd + "|" + upjongCd, DYNPPL_PAYLOAD_TYPE, unitKey -> {
+                                        BusinessPopulationApiResponse apiResponse =
+                                                callBusinessPopulationApi(buildBusinessPopulationApiUrl(areaCd, upjongCd));
+                                        return apiResponse != null ? apiResponse.getDynpplStatsList() : null;
+                                    });
                             
-                            if (apiResponse != null && apiResponse.getDynpplStatsList() != null) {
+                            if (statsList != null) {
                                 log.info("🔍 업소수 API 응답 데이터 개수: {}, areaCd: {}, upjongCd: {}", 
-                                        apiResponse.getDynpplStatsList().size(), areaCd, upjongCd);
-                                processBusinessPopulationResponse(apiResponse.getDynpplStatsList(), upjongCd, dongDataMap);
+                                        statsList.size(), areaCd, upjongCd);
+                                processBusinessPopulationResponse(statsList, upjongCd, dongDataMap);
                             } else {
                                 log.warn("❌ 업소수 API 응답 null 또는 빈 데이터: areaCd={}, upjongCd={}", areaCd, upjongCd);
                             }
@@ -200,11 +201,15 @@ public class BusinessPopulationDataCollectionService {
                 // 2. 세대수 및 주거인구 수집
                 if (request.getIncludePopulationData()) {
                     try {
-                        String apiUrl = buildHouseholdResidentialApiUrl(areaCd);
-                        HouseholdResidentialApiResponse apiResponse = callHouseholdResidentialApi(apiUrl);
+                        List<PublicDataAnalysisRespDto.RgnSttusApiResp> statsList = checkpoint.callOrRestore(
+                                areaCd + "|RGN", RGN_PAYLOAD_TYPE, unitKey -> {
+                                    HouseholdResidentialApiResponse apiResponse =
+                                            callHouseholdResidentialApi(buildHouseholdResidentialApiUrl(areaCd));
+                                    return apiResponse != null ? apiResponse.getRgnStatsList() : null;
+                                });
                         
-                        if (apiResponse != null && apiResponse.getRgnStatsList() != null) {
-                            processHouseholdResidentialResponse(apiResponse.getRgnStatsList(), dongDataMap);
+                        if (statsList != null) {
+                            processHouseholdResidentialResponse(statsList, dongDataMap);
                         }
                         progress.setSuccessApiCalls((progress.getSuccessApiCalls() == null ? 0 : progress.getSuccessApiCalls()) + 1);
                         
@@ -216,11 +221,15 @@ public class BusinessPopulationDataCollectionService {
 
                     // 3. 직장인구 수집
                     try {
-                        String apiUrl = buildWorkingPopulationApiUrl(areaCd);
-                        WorkingPopulationApiResponse apiResponse = callWorkingPopulationApi(apiUrl);
+                        List<PublicDataAnalysisRespDto.WrcpplSttusApiResp> statsList = checkpoint.callOrRestore(
+                                areaCd + "|WRC", WRCPPL_PAYLOAD_TYPE, unitKey -> {
+                                    WorkingPopulationApiResponse apiResponse =
+                                            callWorkingPopulationApi(buildWorkingPopulationApiUrl(areaCd));
+                                    return apiResponse != null ? apiResponse.getWrcpplStatsList() : null;
+                                });
                         
-                        if (apiResponse != null && apiResponse.getWrcpplStatsList() != null) {
-                            processWorkingPopulationResponse(apiResponse.getWrcpplStatsList(), dongDataMap);
+                        if (statsList != null) {
+                            processWorkingPopulationResponse(statsList, dongDataMap);
                         }
                         progress.setSuccessApiCalls((progress.getSuccessApiCalls() == null ? 0 : progress.getSuccessApiCalls()) + 1);
                         
@@ -232,8 +241,8 @@ public class BusinessPopulationDataCollectionService {
                 }
             }
 
-            // 4. 기존 매출 레코드만 업데이트
-            updateOnlyExistingRecords(dongDataMap, progress);
+            // 4. 행정동별 인구/세대 컬럼 저장
+            upsertPopulationRecords(dongDataMap, progress);
 
             progress.setStatus("COMPLETED");
             progress.setCompletedSteps(1);
@@ -256,7 +265,7 @@ public class BusinessPopulationDataCollectionService {
     }
 
     /**
-     * 🎯 핵심 로직: 업소수 API 응답 처리 - 동 단위만, 기존 레코드만
+     * 🎯 핵심 로직: 업소수 API 응답 처리 - 동 단위만 (유동인구만 사용, 업소수는 매출 단계 컬럼)
      */
     private void processBusinessPopulationResponse(List<PublicDataAnalysisRespDto.DynpplSttusApiResp> responseList, 
                                                   String upjongCd,
@@ -285,26 +294,15 @@ public class BusinessPopulationDataCollectionService {
             // 🎯 동 단위만 처리 (8자리 이상)
             if (String.valueOf(adminDongCode).length() >= 8) {
                 
-                // 🎯 기존 매출 레코드가 있는지 확인
-                Optional<PublicDataAnalysis> existingOpt = repository.findByAdminDongCode(adminDongCode);
+                dongDataMap.computeIfAbsent(adminDongCode, k -> 
+                    BusinessPopulationData.builder()
+                            .adminDongCode(adminDongCode)
+                            .adminDongName(resp.getAreaNm())
+                            .build());
                 
-                if (existingOpt.isPresent()) {
-                    
-                    dongDataMap.computeIfAbsent(adminDongCode, k -> 
-                        BusinessPopulationData.builder()
-                                .adminDongCode(adminDongCode)
-                                .adminDongName(resp.getAreaNm())
-                                .build());
-                    
-                    BusinessPopulationData data = dongDataMap.get(adminDongCode);
-                    data.updateBusinessCount(upjongCd, parseInteger(resp.getUpsoCnt()));
-                    
-                    if (data.getFloatingPopulation() == null || data.getFloatingPopulation() == 0) {
-                        data.setFloatingPopulation(parseInteger(resp.getDynPopnum()));
-                    }
-                    
-                } else {
-                    log.info("❌ 기존 매출 레코드 없음 - 건너뜀: {} ({})", adminDongCode, resp.getAreaNm());
+                BusinessPopulationData data = dongDataMap.get(adminDongCode);
+                if (data.getFloatingPopulation() == null || data.getFloatingPopulation() == 0) {
+                    data.setFloatingPopulation(parseInteger(resp.getDynPopnum()));
                 }
             } else {
                 log.info("❌ 시/구 단위 데이터 - 건너뜀: {} (길이: {})", 
@@ -331,18 +329,15 @@ public class BusinessPopulationDataCollectionService {
                 continue;
             }
 
-            // 기존 매출 레코드가 있는지 확인
-            if (repository.findByAdminDongCode(adminDongCode).isPresent()) {
-                dongDataMap.computeIfAbsent(adminDongCode, k -> 
-                    BusinessPopulationData.builder()
-                            .adminDongCode(adminDongCode)
-                            .adminDongName(resp.getAreaNm())
-                            .build());
-                
-                BusinessPopulationData data = dongDataMap.get(adminDongCode);
-                data.setHouseholdCount(parseInteger(resp.getHous()));
-                data.setResidentialPopulation(parseInteger(resp.getPop()));
-            }
+            dongDataMap.computeIfAbsent(adminDongCode, k -> 
+                BusinessPopulationData.builder()
+                        .adminDongCode(adminDongCode)
+                        .adminDongName(resp.getAreaNm())
+                        .build());
+            
+            BusinessPopulationData data = dongDataMap.get(adminDongCode);
+            data.setHouseholdCount(parseInteger(resp.getHous()));
+            data.setResidentialPopulation(parseInteger(resp.getPop()));
         }
     }
 
@@ -362,85 +357,43 @@ public class BusinessPopulationDataCollectionService {
                 continue;
             }
 
-            // 기존 매출 레코드가 있는지 확인
-            if (repository.findByAdminDongCode(adminDongCode).isPresent()) {
-                dongDataMap.computeIfAbsent(adminDongCode, k -> 
-                    BusinessPopulationData.builder()
-                            .adminDongCode(adminDongCode)
-                            .adminDongName(resp.getAreaNm())
-                            .build());
-                
-                BusinessPopulationData data = dongDataMap.get(adminDongCode);
-                data.setWorkingPopulation(parseInteger(resp.getWrcPopnum()));
-            }
+            dongDataMap.computeIfAbsent(adminDongCode, k -> 
+                BusinessPopulationData.builder()
+                        .adminDongCode(adminDongCode)
+                        .adminDongName(resp.getAreaNm())
+                        .build());
+            
+            BusinessPopulationData data = dongDataMap.get(adminDongCode);
+            data.setWorkingPopulation(parseInteger(resp.getWrcPopnum()));
         }
     }
 
     /**
-     * 🎯 핵심 로직: 기존 매출 레코드만 업데이트, 새 레코드 생성 안함
+     * 🎯 핵심 로직: 행정동별 인구/세대 컬럼 배치 UPSERT
+     * - 매출 레코드가 아직 없는 동도 생성, 업소수/매출/소득 컬럼은 건드리지 않음
      */
-    private void updateOnlyExistingRecords(Map<Integer, BusinessPopulationData> dongDataMap, 
+    private void upsertPopulationRecords(Map<Integer, BusinessPopulationData> dongDataMap, 
                                          PublicDataAnalysisRespDto.CollectionProgressResp progress) {
         
-        log.info("🎯 기존 매출 레코드 업데이트 시작 - 대상 동: {}개", dongDataMap.size());
+        log.info("🎯 인구/세대 데이터 저장 시작 - 대상 동: {}개", dongDataMap.size());
         progress.setTotalRecords(dongDataMap.size());
-        
-        for (Map.Entry<Integer, BusinessPopulationData> entry : dongDataMap.entrySet()) {
-            Integer adminDongCode = entry.getKey();
-            BusinessPopulationData data = entry.getValue();
-            
-            try {
-                Optional<PublicDataAnalysis> existingOpt = repository.findByAdminDongCode(adminDongCode);
-                
-                if (existingOpt.isPresent()) {
-                    PublicDataAnalysis analysis = existingOpt.get();
-                    
-                    // 업소수 업데이트
-                    updateBusinessCounts(analysis, data);
-                    
-                    // 인구 데이터 업데이트
-                    analysis.updatePopulationData(
-                            data.getFloatingPopulation(),
-                            data.getResidentialPopulation(),
-                            data.getWorkingPopulation(),
-                            data.getHouseholdCount()
-                    );
-                    
-                    repository.save(analysis);
-                    progress.setSuccessRecords((progress.getSuccessRecords() == null ? 0 : progress.getSuccessRecords()) + 1);
-                    
-                } else {
-                    // 이 경우는 발생하지 않아야 함 (이미 필터링했으므로)
-                    log.warn("⚠️ 예상치 못한 상황: 기존 레코드가 없습니다 - {}", adminDongCode);
-                    progress.setFailureRecords((progress.getFailureRecords() == null ? 0 : progress.getFailureRecords()) + 1);
-                }
-                
-            } catch (Exception e) {
-                log.error("❌ 레코드 업데이트 실패 - AdminDongCode: {}", adminDongCode, e);
-                progress.setFailureRecords((progress.getFailureRecords() == null ? 0 : progress.getFailureRecords()) + 1);
-            }
-            
-            progress.setProcessedRecords((progress.getProcessedRecords() == null ? 0 : progress.getProcessedRecords()) + 1);
-        }
-        
-    }
 
-    private void updateBusinessCounts(PublicDataAnalysis analysis, BusinessPopulationData data) {
-        if (data.getKoreanRestaurantCount() != null) {
-            analysis.updateBusinessCount("I201", data.getKoreanRestaurantCount());
-        }
-        if (data.getChineseRestaurantCount() != null) {
-            analysis.updateBusinessCount("I202", data.getChineseRestaurantCount());
-        }
-        if (data.getJapaneseRestaurantCount() != null) {
-            analysis.updateBusinessCount("I203", data.getJapaneseRestaurantCount());
-        }
-        if (data.getWesternRestaurantCount() != null) {
-            analysis.updateBusinessCount("I204", data.getWesternRestaurantCount());
-        }
-        if (data.getSoutheastAsianRestaurantCount() != null) {
-            analysis.updateBusinessCount("I205", data.getSoutheastAsianRestaurantCount());
+        List<PublicDataAnalysisBatchRepository.BusinessPopulationUpsert> rows = new ArrayList<>();
+        for (BusinessPopulationData data : new TreeMap<>(dongDataMap).values()) {
+            rows.add(PublicDataAnalysisBatchRepository.BusinessPopulationUpsert.builder()
+                    .adminDongCode(data.getAdminDongCode())
+                    .adminDongName(data.getAdminDongName())
+                    .floatingPopulation(data.getFloatingPopulation())
+                    .residentialPopulation(data.getResidentialPopulation())
+                    .workingPopulation(data.getWorkingPopulation())
+                    .householdCount(data.getHouseholdCount())
+                    .build());
         }
+
+        batchRepository.batchUpsertBusinessPopulation(rows);
+
+        progress.setSuccessRecords(rows.size());
+        progress.setProcessedRecords(rows.size());
     }
 
     // API URL 생성 메서드들 - 기본 파라미터 유지 (추측으로 변경 안함)
@@ -0,0 +1,135 @@
+package com.inc.sh.service.analysis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inc.sh.repository.PublicDataCollectionJobRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 수집 단계 체크포인트 (작업 1건의 단계 1개)
+ * - 호출 단위가 끝날 때마다 응답을 작업 기록에 저장
+ * - 재실행 시 저장된 응답을 먼저 병합하고 남은 호출 단위만 반환
+ * - 작업 없이 단독 실행되는 수집은 NONE (저장/복원 없음)
+ */
+@Slf4j
+public class CollectionCheckpoint {
+
+    public static final CollectionCheckpoint NONE = new CollectionCheckpoint(null, null, null, null);
+
+    private final PublicDataCollectionJobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final Long jobCode;
+    private final String stage;
+
+    // 재실행 시 저장된 응답 (unit_key -> payload), 처음 사용할 때 한 번만 조회
+    private Map<String, String> storedPayloads;
+
+    CollectionCheckpoint(PublicDataCollectionJobRepository jobRepository, ObjectMapper objectMapper,
+                         Long jobCode, String stage) {
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.jobCode = jobCode;
+        this.stage = stage;
+    }
+
+    public boolean isEnabled() {
+        return jobRepository != null;
+    }
+
+    /**
+     * 단계 시작 기록 (전체 호출 단위 수)
+     */
+    public void begin(int totalUnits) {
+        if (isEnabled()) {
+            jobRepository.updateStageStarted(jobCode, stage, totalUnits);
+        }
+    }
+
+    /**
+     * 완료된 호출 단위의 저장된 응답을 병합하고 남은 호출 단위 반환
+     */
+    public <T, R> List<T> restore(List<T> tasks, Function<T, String> unitKey, TypeReference<R> payloadType,
+                                  PublicDataCollectionEngine.ResultMerger<T, R> merger) {
+        if (!isEnabled()) {
+            return tasks;
+        }
+
+        Map<String, String> payloads = storedPayloads();
+        List<T> remaining = new ArrayList<>();
+        for (T task : tasks) {
+            String payload = payloads.get(unitKey.apply(task));
+            if (payload == null) {
+                remaining.add(task);
+                continue;
+            }
+            merger.merge(task, read(payload, payloadType));
+        }
+
+        if (!payloads.isEmpty()) {
+            log.info("[{}] 체크포인트 복원 - 작업: {}, 복원: {}건, 남은 호출: {}건",
+                    stage, jobCode, tasks.size() - remaining.size(), remaining.size());
+        }
+        return remaining;
+    }
+
+    /**
+     * 병합 후 응답을 저장하는 병합기 (작업 스레드에서 동시에 호출됨)
+     */
+    public <T, R> PublicDataCollectionEngine.ResultMerger<T, R> recording(
+            Function<T, String> unitKey, PublicDataCollectionEngine.ResultMerger<T, R> merger) {
+        if (!isEnabled()) {
+            return merger;
+        }
+        return (task, result) -> {
+            merger.merge(task, result);
+            record(unitKey.apply(task), result);
+        };
+    }
+
+    /**
+     * 순차 수집용: 저장된 응답이 있으면 복원, 없으면 호출 후 저장
+     */
+    public <R> R callOrRestore(String unitKey, TypeReference<R> payloadType,
+                               PublicDataCollectionEngine.CollectionCall<String, R> call) throws Exception {
+        if (isEnabled()) {
+            String payload = storedPayloads().get(unitKey);
+            if (payload != null) {
+                return read(payload, payloadType);
+            }
+        }
+
+        R result = call.call(unitKey);
+        if (isEnabled()) {
+            record(unitKey, result);
+        }
+        return result;
+    }
+
+    private synchronized Map<String, String> storedPayloads() {
+        if (storedPayloads == null) {
+            storedPayloads = jobRepository.findUnitPayloads(jobCode, stage);
+        }
+        return storedPayloads;
+    }
+
+    private void record(String unitKey, Object result) {
+        try {
+            jobRepository.insertUnit(jobCode, stage, unitKey, objectMapper.writeValueAsString(result));
+        } catch (Exception e) {
+            throw new RuntimeException("수집 체크포인트 저장 실패 - " + stage + ": " + unitKey, e);
+        }
+    }
+
+    private <R> R read(String payload, TypeReference<R> payloadType) {
+        try {
+            return objectMapper.readValue(payload, payloadType);
+        } catch (Exception e) {
+            throw new RuntimeException("수집 체크포인트 복원 실패 - " + stage, e);
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package com.inc.sh.service.analysis;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.inc.sh.config.CityBoxCoordinates;
 import com.inc.sh.dto.publicDataAnalysis.reqDto.PublicDataAnalysisReqDto;
 import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
-import com.inc.sh.entity.PublicDataAnalysis;
-import com.inc.sh.repository.PublicDataAnalysisRepository;
+import com.inc.sh.repository.PublicDataAnalysisBatchRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
@@ -18,15 +23,19 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 소득/소비 데이터 수집 서비스
+ * - (광역시, 박스, 소득/소비) 단위 API 호출은 PublicDataCollectionEngine에서 동시 실행 (전체 초당 호출 수 제한)
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
-@Transactional
 public class IncomeConsumptionDataCollectionService {
 
-    private final PublicDataAnalysisRepository repository;
+    private static final TypeReference<List<AdminDongAmount>> AMOUNT_PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final PublicDataAnalysisBatchRepository batchRepository;
     private final RestTemplate restTemplate;
+    private final PublicDataCollectionEngine collectionEngine;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${public-api.consumption.base-url:https://bigdata.sbiz.or.kr/gis/api/getMapRadsWholCnsmpAmt.json}")
     private String consumptionApiBaseUrl;
@@ -48,6 +57,14 @@ public class IncomeConsumptionDataCollectionService {
      */
     public PublicDataAnalysisRespDto.CollectionProgressResp collectIncomeConsumptionData(
             PublicDataAnalysisReqDto.IncomeConsumptionDataCollectReq request) {
+        return collectIncomeConsumptionData(request, CollectionCheckpoint.NONE);
+    }
+
+    /**
+     * 소득/소비 데이터 수집 (체크포인트: 완료된 호출 단위는 저장된 응답으로 복원하고 다시 호출하지 않음)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp collectIncomeConsumptionData(
+            PublicDataAnalysisReqDto.IncomeConsumptionDataCollectReq request, CollectionCheckpoint checkpoint) {
 
         log.info("소득/소비 데이터 수집 시작 - 대상 광역시: {}", request.getCities());
 
@@ -84,96 +101,60 @@ public class IncomeConsumptionDataCollectionService {
         progress.setTotalApiCalls(totalApiCalls);
 
         try {
-            // 중복 제거를 위한 맵 (행정동코드 -> 소득/소비 데이터)
+            // 중복 제거를 위한 맵 (행정동코드 -> 소득/소비 데이터), 작업 스레드에서 동시에 병합
             Map<Integer, IncomeConsumptionData> adminDongDataMap = new ConcurrentHashMap<>();
 
+            // (광역시, 박스, 소득/소비) 단위 호출 목록
+            List<IncomeConsumptionCall> calls = new ArrayList<>();
             for (String city : request.getCities()) {
-                progress.setCurrentCity(city);
-                log.info("광역시 {} 소득/소비 데이터 수집 시작", city);
-
-                List<CityBoxCoordinates.BoxCoordinate> boxes = CityBoxCoordinates.getBoxes(city);
-                
-                for (CityBoxCoordinates.BoxCoordinate box : boxes) {
-                    
-                    // 소비 데이터 수집
-                    try {
-                        String consumptionApiUrl = buildConsumptionApiUrl(box);
-                        List<PublicDataAnalysisRespDto.ConsumptionApiResp> consumptionResponse = callConsumptionApi(consumptionApiUrl);
-                        
-                        for (PublicDataAnalysisRespDto.ConsumptionApiResp resp : consumptionResponse) {
-                            if (isValidData(resp.getAdmCd(), resp.getAdmNm())) {
-                                Integer adminDongCode = parseAdminDongCode(resp.getAdmCd());
-                                Long consumption = parseAmount(resp.getWholCnsmpAmt()) * 10000; // 만원 -> 원
-                                
-                                adminDongDataMap.computeIfAbsent(adminDongCode, k -> 
-                                    IncomeConsumptionData.builder()
-                                            .adminDongCode(adminDongCode)
-                                            .adminDongName(resp.getAdmNm())
-                                            .build());
-                                
-                                adminDongDataMap.get(adminDongCode).setConsumption(consumption);
-                            }
-                        }
-                        
-                        progress.setSuccessApiCalls(progress.getSuccessApiCalls() + 1);
-                        
-                    } catch (Exception e) {
-                        log.error("소비 API 호출 실패 - City: {}, Box: {}, Error: {}", 
-                                city, box.toString(), e.getMessage(), e);
-                        progress.setFailureApiCalls(progress.getFailureApiCalls() + 1);
-                        progress.getErrorMessages().add(String.format("소비 API 호출 실패 - %s: %s", 
-                                city, e.getMessage()));
-                    }
-                    
-                    progress.setCompletedApiCalls(progress.getCompletedApiCalls() + 1);
-                    
-                    // 소득 데이터 수집
-                    try {
-                        String incomeApiUrl = buildIncomeApiUrl(box);
-                        List<PublicDataAnalysisRespDto.IncomeApiResp> incomeResponse = callIncomeApi(incomeApiUrl);
-                        
-                        for (PublicDataAnalysisRespDto.IncomeApiResp resp : incomeResponse) {
-                            if (isValidData(resp.getAdmCd(), resp.getAdmNm())) {
-                                Integer adminDongCode = parseAdminDongCode(resp.getAdmCd());
-                                Long income = parseAmount(resp.getWholEarnAmt()) * 10000; // 만원 -> 원
-                                
-                                adminDongDataMap.computeIfAbsent(adminDongCode, k -> 
-                                    IncomeConsumptionData.builder()
-                                            .adminDongCode(adminDongCode)
-                                            .adminDongName(resp.getAdmNm())
-                                            .build());
-                                
-                                adminDongDataMap.get(adminDongCode).setIncome(income);
-                            }
-                        }
-                        
-                        progress.setSuccessApiCalls(progress.getSuccessApiCalls() + 1);
-                        
-                    } catch (Exception e) {
-                        log.error("소득 API 호출 실패 - City: {}, Box: {}, Error: {}", 
-                                city, box.toString(), e.getMessage(), e);
-                        progress.setFailureApiCalls(progress.getFailureApiCalls() + 1);
-                        progress.getErrorMessages().add(String.format("소득 API 호출 실패 - %s: %s", 
-                                city, e.getMessage()));
-                    }
-                    
-                    progress.setCompletedApiCalls(progress.getCompletedApiCalls() + 1);
-                    
-                    // 지연 시간
-                    if (request.getDelayMs() > 0) {
-                        Thread.sleep(request.getDelayMs());
-                    }
-                    
-                    // 진행률 업데이트
-                    double progressPercent = (double) progress.getCompletedApiCalls() / totalApiCalls * 100;
-                    progress.setProgressPercent(progressPercent);
+                for (CityBoxCoordinates.BoxCoordinate box : CityBoxCoordinates.getBoxes(city)) {
+                    calls.add(new IncomeConsumptionCall(city, box, false));
+                    calls.add(new IncomeConsumptionCall(city, box, true));
                 }
-                
-                log.info("광역시 {} 소득/소비 데이터 수집 완료", city);
             }
+            progress.setCurrentCity(String.join(",", request.getCities()));
+
+            checkpoint.begin(calls.size());
+
+            // 행정동별 병합은 compute로 원자적으로 처리
+            PublicDataCollectionEngine.ResultMerger<IncomeConsumptionCall, List<AdminDongAmount>> merger =
+                    (call, amounts) -> amounts.forEach(amount -> adminDongDataMap.compute(amount.getAdminDongCode(),
+                            (code, data) -> {
+                                IncomeConsumptionData merged = data != null ? data : IncomeConsumptionData.builder()
+                                        .adminDongCode(code)
+                                        .adminDongName(amount.getAdminDongName())
+                                        .build();
+                                if (call.isIncome()) {
+                                    merged.setIncome(amount.getAmount());
+                                } else {
+                                    merged.setConsumption(amount.getAmount());
+                                }
+                                return merged;
+                            }));
+
+            // 이전 실행에서 완료된 호출 단위 복원
+            List<IncomeConsumptionCall> remainingCalls =
+                    checkpoint.restore(calls, IncomeConsumptionCall::unitKey, AMOUNT_PAYLOAD_TYPE, merger);
+            int restoredCalls = calls.size() - remainingCalls.size();
+
+            // 동시 호출 + 응답 데이터 병합
+            PublicDataCollectionEngine.CollectionResult collection = collectionEngine.collect(
+                    "소득/소비", remainingCalls, request.getRetryCount() != null ? request.getRetryCount() : 0,
+                    this::callIncomeOrConsumptionApi,
+                    checkpoint.recording(IncomeConsumptionCall::unitKey, merger));
+
+            progress.setSuccessApiCalls(collection.getSuccessCalls().get() + restoredCalls);
+            progress.setFailureApiCalls(collection.getFailureCalls().get());
+            progress.setCompletedApiCalls(progress.getSuccessApiCalls() + progress.getFailureApiCalls());
+            progress.getErrorMessages().addAll(collection.getErrorMessages());
+            if (restoredCalls > 0) {
+                progress.getWarnings().add("체크포인트에서 " + restoredCalls + "건 복원");
+            }
+            progress.setProgressPercent(totalApiCalls == 0 ? 100.0
+                    : (double) progress.getCompletedApiCalls() / totalApiCalls * 100);
 
-            // DB에 업데이트
-            updateIncomeConsumptionData(adminDongDataMap, progress);
+            // DB에 업데이트 (API 호출이 끝난 뒤 저장 구간만 트랜잭션)
+            transactionTemplate.executeWithoutResult(status -> updateIncomeConsumptionData(adminDongDataMap, progress));
 
             progress.setStatus("COMPLETED");
             progress.setCompletedSteps(1);
@@ -198,6 +179,31 @@ public class IncomeConsumptionDataCollectionService {
         return progress;
     }
 
+    /**
+     * 소득 또는 소비 API 호출 후 행정동별 금액(원)으로 변환
+     */
+    private List<AdminDongAmount> callIncomeOrConsumptionApi(IncomeConsumptionCall call) throws Exception {
+        List<AdminDongAmount> amounts = new ArrayList<>();
+
+        if (call.isIncome()) {
+            for (PublicDataAnalysisRespDto.IncomeApiResp resp : callIncomeApi(buildIncomeApiUrl(call.getBox()))) {
+                Integer adminDongCode = isValidData(resp.getAdmCd(), resp.getAdmNm()) ? parseAdminDongCode(resp.getAdmCd()) : null;
+                if (adminDongCode != null) {
+                    amounts.add(new AdminDongAmount(adminDongCode, resp.getAdmNm(), parseAmount(resp.getWholEarnAmt()) * 10000)); // 만원 -> 원
+                }
+            }
+        } else {
+            for (PublicDataAnalysisRespDto.ConsumptionApiResp resp : callConsumptionApi(buildConsumptionApiUrl(call.getBox()))) {
+                Integer adminDongCode = isValidData(resp.getAdmCd(), resp.getAdmNm()) ? parseAdminDongCode(resp.getAdmCd()) : null;
+                if (adminDongCode != null) {
+                    amounts.add(new AdminDongAmount(adminDongCode, resp.getAdmNm(), parseAmount(resp.getWholCnsmpAmt()) * 10000)); // 만원 -> 원
+                }
+            }
+        }
+
+        return amounts;
+    }
+
     /**
      * 소비 API URL 생성
      */
@@ -337,43 +343,58 @@ public class IncomeConsumptionDataCollectionService {
     }
 
     /**
-     * DB에 소득/소비 데이터 업데이트
+     * DB에 소득/소비 데이터 저장 (배치 UPSERT, 소득/소비 컬럼만 갱신)
+     * - 매출 단계가 아직 저장하지 않은 행정동도 생성
      */
     private void updateIncomeConsumptionData(Map<Integer, IncomeConsumptionData> adminDongDataMap, 
                                            PublicDataAnalysisRespDto.CollectionProgressResp progress) {
         
         progress.setTotalRecords(adminDongDataMap.size());
-        int processedCount = 0;
-        
-        for (Map.Entry<Integer, IncomeConsumptionData> entry : adminDongDataMap.entrySet()) {
-            Integer adminDongCode = entry.getKey();
-            IncomeConsumptionData data = entry.getValue();
-            
-            try {
-                Optional<PublicDataAnalysis> existingOpt = repository.findByAdminDongCode(adminDongCode);
-                
-                if (existingOpt.isPresent()) {
-                    PublicDataAnalysis analysis = existingOpt.get();
-                    analysis.updateIncomeAndConsumption(data.getIncome(), data.getConsumption());
-                    repository.save(analysis);
-                    progress.setSuccessRecords(progress.getSuccessRecords() + 1);
-                } else {
-                    // 기존 레코드가 없으면 경고 로그
-                    log.warn("기존 레코드가 없어 소득/소비 데이터를 업데이트할 수 없습니다. AdminDongCode: {}", adminDongCode);
-                    progress.getWarnings().add(String.format("기존 레코드 없음 - %d", adminDongCode));
-                    progress.setFailureRecords(progress.getFailureRecords() + 1);
-                }
-                
-            } catch (Exception e) {
-                log.error("소득/소비 데이터 업데이트 실패 - AdminDongCode: {}", adminDongCode, e);
-                progress.setFailureRecords(progress.getFailureRecords() + 1);
-                progress.getErrorMessages().add(String.format("데이터 업데이트 실패 - %d: %s", 
-                        adminDongCode, e.getMessage()));
-            }
-            
-            processedCount++;
-            progress.setProcessedRecords(processedCount);
+
+        // 동코드 순으로 저장 (동시에 실행되는 다른 단계 저장과 행 잠금 순서를 맞춰 교착 방지)
+        List<PublicDataAnalysisBatchRepository.IncomeConsumptionUpsert> rows = new ArrayList<>();
+        for (IncomeConsumptionData data : new TreeMap<>(adminDongDataMap).values()) {
+            rows.add(PublicDataAnalysisBatchRepository.IncomeConsumptionUpsert.builder()
+                    .adminDongCode(data.getAdminDongCode())
+                    .adminDongName(data.getAdminDongName())
+                    .income(data.getIncome())
+                    .consumption(data.getConsumption())
+                    .build());
         }
+
+        batchRepository.batchUpsertIncomeConsumption(rows);
+
+        progress.setSuccessRecords(rows.size());
+        progress.setProcessedRecords(adminDongDataMap.size());
+    }
+
+    /**
+     * 소득/소비 API 호출 단위 (광역시, 박스, 소득 여부)
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    private static class IncomeConsumptionCall {
+        private final String city;
+        private final CityBoxCoordinates.BoxCoordinate box;
+        private final boolean income; // true=소득, false=소비
+
+        String unitKey() {
+            return city + "|" + box.toUrlParams() + "|" + (income ? "INCOME" : "CONSUMPTION");
+        }
+    }
+
+    /**
+     * 행정동별 소득 또는 소비 금액 (원), 체크포인트 응답으로 저장/복원
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class AdminDongAmount {
+        private Integer adminDongCode;
+        private String adminDongName;
+        private Long amount;
     }
 
     /**
@@ -2,13 +2,16 @@ package com.inc.sh.service.analysis;
 
 import com.inc.sh.dto.publicDataAnalysis.reqDto.PublicDataAnalysisReqDto;
 import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
+import com.inc.sh.repository.PublicDataCollectionJobRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * 통합 공공데이터 수집 서비스
@@ -21,205 +24,181 @@ public class IntegratedDataCollectionService {
     private final SalesDataCollectionService salesDataCollectionService;
     private final IncomeConsumptionDataCollectionService incomeConsumptionDataCollectionService;
     private final BusinessPopulationDataCollectionService businessPopulationDataCollectionService;
+    private final PublicDataPipelineRunner pipelineRunner;
+    private final PublicDataCollectionJobService jobService;
+    private final PublicDataAnalysisService publicDataAnalysisService;
+
+    private static final String STAGE_SALES = "SALES";
+    private static final String STAGE_INCOME_CONSUMPTION = "INCOME_CONSUMPTION";
+    private static final String STAGE_BUSINESS_POPULATION = "BUSINESS_POPULATION";
 
     /**
      * 통합 데이터 수집 메인 메서드
      * 1. 매출 데이터 수집
      * 2. 소득/소비 데이터 수집
      * 3. 업소수/인구 데이터 수집
+     * - 세 단계는 서로 다른 API를 호출하고 서로 다른 컬럼을 갱신하므로 선행 단계가 없으면 동시에 실행
+     * - 소득/소비, 업소수/인구는 매출 단계가 만든 행만 갱신하므로 매출을 함께 수집하면 매출 완료 후 실행
      */
     public PublicDataAnalysisRespDto.CollectionProgressResp collectIntegratedData(
             PublicDataAnalysisReqDto.IntegratedDataCollectReq request) {
+        return collectIntegratedData("integrated_" + System.currentTimeMillis(),
+                PublicDataCollectionJobService.JOB_TYPE_INTEGRATED, request);
+    }
 
-        log.info("통합 공공데이터 수집 시작 - 광역시: {}, 지역코드: {}개", 
-                request.getCities(), request.getAreaCodes().size());
+    /**
+     * 작업 ID를 지정한 통합 데이터 수집 (작업 기록을 남겨 진행 조회/중단 후 재실행 가능)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp collectIntegratedData(
+            String taskId, String jobType, PublicDataAnalysisReqDto.IntegratedDataCollectReq request) {
 
-        String taskId = "integrated_" + System.currentTimeMillis();
-        
-        PublicDataAnalysisRespDto.CollectionProgressResp totalProgress = PublicDataAnalysisRespDto.CollectionProgressResp.builder()
-                .taskId(taskId)
-                .status("PROCESSING")
-                .currentStep("INITIALIZATION")
-                .totalSteps(calculateTotalSteps(request))
-                .completedSteps(0)
-                .totalApiCalls(0)
-                .completedApiCalls(0)
-                .successApiCalls(0)
-                .failureApiCalls(0)
-                .totalRecords(0)
-                .processedRecords(0)
-                .successRecords(0)
-                .failureRecords(0)
-                .startTime(LocalDateTime.now())
-                .progressPercent(0.0)
-                .errorMessages(new ArrayList<>())
-                .warnings(new ArrayList<>())
-                .build();
+        log.info("통합 공공데이터 수집 시작 - 작업ID: {}, 광역시: {}, 지역코드: {}개", 
+                taskId, request.getCities(), request.getAreaCodes().size());
+
+        Long jobCode = jobService.startJob(taskId, jobType, request, stageNames(request));
+
+        return runJob(taskId, jobCode, request, Set.of());
+    }
+
+    /**
+     * 진행 상황 조회 (작업 기록 기준, 기록이 없으면 메모리의 실행 상태)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp getProgress(String taskId) {
+        PublicDataAnalysisRespDto.CollectionProgressResp progress = jobService.getJobProgress(taskId);
+        return progress != null ? progress : pipelineRunner.getProgress(taskId);
+    }
+
+    /**
+     * 중단/실패한 작업 재실행
+     * - 완료된 단계는 건너뛰고, 진행 중이던 단계는 완료된 호출 단위를 제외하고 이어서 수집
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp resumeIntegratedData(String taskId) {
+        PublicDataCollectionJobRepository.JobRecord job = jobService.getJob(taskId);
+        PublicDataAnalysisReqDto.IntegratedDataCollectReq request = jobService.readRequest(job);
+        Set<String> completedStages = jobService.completedStages(job.getJobCode());
+
+        jobService.reopenJob(job);
+        log.info("통합 공공데이터 수집 재실행 - 작업ID: {}, 완료된 단계: {}", taskId, completedStages);
 
+        return runJob(taskId, job.getJobCode(), request, completedStages);
+    }
+
+    private PublicDataAnalysisRespDto.CollectionProgressResp runJob(
+            String taskId, Long jobCode, PublicDataAnalysisReqDto.IntegratedDataCollectReq request,
+            Set<String> completedStages) {
+
+        PublicDataAnalysisRespDto.CollectionProgressResp totalProgress;
         try {
-            // 1단계: 매출 데이터 수집
-            if (request.getIncludeSales()) {
-                log.info("통합 수집 1단계: 매출 데이터 수집 시작");
-                totalProgress.setCurrentStep("SALES");
-                
-                PublicDataAnalysisReqDto.SalesDataCollectReq salesRequest = PublicDataAnalysisReqDto.SalesDataCollectReq.builder()
-                        .cities(request.getCities())
-                        .applyMultiplier(request.getApplyMultiplier())
-                        .retryCount(request.getRetryCount())
-                        .delayMs(request.getDelayMs())
-                        .build();
-                
-                PublicDataAnalysisRespDto.CollectionProgressResp salesProgress = 
-                        salesDataCollectionService.collectSalesData(salesRequest);
-                
-                // 진행 상황 통합
-                mergeProgress(totalProgress, salesProgress);
-                totalProgress.setCompletedSteps(totalProgress.getCompletedSteps() + 1);
-                
-                if ("FAILED".equals(salesProgress.getStatus())) {
-                    totalProgress.setStatus("FAILED");
-                    totalProgress.getErrorMessages().add("매출 데이터 수집 실패");
-                    log.error("매출 데이터 수집 실패로 인한 통합 수집 중단");
-                    return totalProgress;
-                }
-                
-                log.info("통합 수집 1단계: 매출 데이터 수집 완료");
-            }
-
-            // 2단계: 소득/소비 데이터 수집
-            if (request.getIncludeIncomeConsumption()) {
-                log.info("통합 수집 2단계: 소득/소비 데이터 수집 시작");
-                totalProgress.setCurrentStep("INCOME_CONSUMPTION");
-                
-                PublicDataAnalysisReqDto.IncomeConsumptionDataCollectReq incomeRequest = 
-                        PublicDataAnalysisReqDto.IncomeConsumptionDataCollectReq.builder()
-                                .cities(request.getCities())
-                                .retryCount(request.getRetryCount())
-                                .delayMs(request.getDelayMs())
-                                .build();
-                
-                PublicDataAnalysisRespDto.CollectionProgressResp incomeProgress = 
-                        incomeConsumptionDataCollectionService.collectIncomeConsumptionData(incomeRequest);
-                
-                // 진행 상황 통합
-                mergeProgress(totalProgress, incomeProgress);
-                totalProgress.setCompletedSteps(totalProgress.getCompletedSteps() + 1);
-                
-                if ("FAILED".equals(incomeProgress.getStatus())) {
-                    totalProgress.setStatus("PARTIAL_SUCCESS");
-                    totalProgress.getErrorMessages().add("소득/소비 데이터 수집 실패 (부분 성공)");
-                    log.warn("소득/소비 데이터 수집 실패, 다음 단계 진행");
-                } else {
-                    log.info("통합 수집 2단계: 소득/소비 데이터 수집 완료");
-                }
-            }
-
-            // 3단계: 업소수/인구 데이터 수집
-            if (request.getIncludeBusinessPopulation()) {
-                log.info("통합 수집 3단계: 업소수/인구 데이터 수집 시작");
-                totalProgress.setCurrentStep("BUSINESS_POPULATION");
-                
-                PublicDataAnalysisReqDto.BusinessPopulationDataCollectReq businessRequest = 
-                        PublicDataAnalysisReqDto.BusinessPopulationDataCollectReq.builder()
-                                .areaCodes(request.getAreaCodes())
-                                .includeBusinessCount(true)
-                                .includePopulationData(true)
-                                .retryCount(request.getRetryCount())
-                                .delayMs(request.getDelayMs())
-                                .build();
-                
-                PublicDataAnalysisRespDto.CollectionProgressResp businessProgress = 
-                        businessPopulationDataCollectionService.collectBusinessPopulationData(businessRequest);
-                
-                // 진행 상황 통합
-                mergeProgress(totalProgress, businessProgress);
-                totalProgress.setCompletedSteps(totalProgress.getCompletedSteps() + 1);
-                
-                if ("FAILED".equals(businessProgress.getStatus())) {
-                    if (!"FAILED".equals(totalProgress.getStatus())) {
-                        totalProgress.setStatus("PARTIAL_SUCCESS");
-                    }
-                    totalProgress.getErrorMessages().add("업소수/인구 데이터 수집 실패 (부분 성공)");
-                    log.warn("업소수/인구 데이터 수집 실패");
-                } else {
-                    log.info("통합 수집 3단계: 업소수/인구 데이터 수집 완료");
-                }
-            }
-
-            // 최종 상태 설정
-            if (!"FAILED".equals(totalProgress.getStatus()) && !"PARTIAL_SUCCESS".equals(totalProgress.getStatus())) {
-                totalProgress.setStatus("COMPLETED");
-            }
-            
-            totalProgress.setCurrentStep("COMPLETED");
-            totalProgress.setEndTime(LocalDateTime.now());
-            totalProgress.setProgressPercent(100.0);
-            
-            if (totalProgress.getStartTime() != null) {
-                totalProgress.setElapsedTimeMs(
-                    java.time.Duration.between(totalProgress.getStartTime(), totalProgress.getEndTime()).toMillis()
-                );
-            }
-            
-            log.info("통합 공공데이터 수집 완료 - 상태: {}, API호출: {}/{}, 레코드: {}/{}", 
-                    totalProgress.getStatus(),
-                    totalProgress.getSuccessApiCalls(), totalProgress.getTotalApiCalls(),
-                    totalProgress.getSuccessRecords(), totalProgress.getTotalRecords());
-
-        } catch (Exception e) {
-            log.error("통합 공공데이터 수집 중 오류 발생", e);
-            totalProgress.setStatus("FAILED");
-            totalProgress.setEndTime(LocalDateTime.now());
-            totalProgress.getErrorMessages().add("통합 수집 프로세스 오류: " + e.getMessage());
+            totalProgress = pipelineRunner.run(taskId, buildStages(jobCode, request, completedStages));
+        } catch (RuntimeException e) {
+            jobService.finishJob(jobCode, PublicDataAnalysisRespDto.CollectionProgressResp.builder()
+                    .status(PublicDataCollectionJobService.STATUS_FAILED)
+                    .errorMessages(List.of(String.valueOf(e.getMessage())))
+                    .build());
+            throw e;
         }
+        jobService.finishJob(jobCode, totalProgress);
+
+        // 수집된 데이터로 조회 캐시 교체 (일부 단계만 성공해도 저장된 결과는 반영)
+        publicDataAnalysisService.refreshCache();
+
+        log.info("통합 공공데이터 수집 완료 - 상태: {}, API호출: {}/{}, 레코드: {}/{}, 소요: {}ms", 
+                totalProgress.getStatus(),
+                totalProgress.getSuccessApiCalls(), totalProgress.getTotalApiCalls(),
+                totalProgress.getSuccessRecords(), totalProgress.getTotalRecords(),
+                totalProgress.getElapsedTimeMs());
 
         return totalProgress;
     }
 
     /**
-     * 전체 단계 수 계산
+     * 요청에 포함된 단계 이름
      */
-    private int calculateTotalSteps(PublicDataAnalysisReqDto.IntegratedDataCollectReq request) {
-        int steps = 0;
-        
-        if (request.getIncludeSales()) steps++;
-        if (request.getIncludeIncomeConsumption()) steps++;
-        if (request.getIncludeBusinessPopulation()) steps++;
-        
-        return Math.max(steps, 1);
+    private List<String> stageNames(PublicDataAnalysisReqDto.IntegratedDataCollectReq request) {
+        List<String> names = new ArrayList<>();
+        if (Boolean.TRUE.equals(request.getIncludeSales())) {
+            names.add(STAGE_SALES);
+        }
+        if (Boolean.TRUE.equals(request.getIncludeIncomeConsumption())) {
+            names.add(STAGE_INCOME_CONSUMPTION);
+        }
+        if (Boolean.TRUE.equals(request.getIncludeBusinessPopulation())) {
+            names.add(STAGE_BUSINESS_POPULATION);
+        }
+        return names;
     }
 
     /**
-     * 개별 진행 상황을 전체 진행 상황에 통합
+     * 수집 단계 구성 (이전 실행에서 완료된 단계는 기록된 결과만 반환)
      */
-    private void mergeProgress(PublicDataAnalysisRespDto.CollectionProgressResp totalProgress,
-                             PublicDataAnalysisRespDto.CollectionProgressResp stepProgress) {
-        
-        // API 호출 통계 누적
-        totalProgress.setTotalApiCalls(totalProgress.getTotalApiCalls() + stepProgress.getTotalApiCalls());
-        totalProgress.setCompletedApiCalls(totalProgress.getCompletedApiCalls() + stepProgress.getCompletedApiCalls());
-        totalProgress.setSuccessApiCalls(totalProgress.getSuccessApiCalls() + stepProgress.getSuccessApiCalls());
-        totalProgress.setFailureApiCalls(totalProgress.getFailureApiCalls() + stepProgress.getFailureApiCalls());
-        
-        // 레코드 통계 누적
-        totalProgress.setTotalRecords(totalProgress.getTotalRecords() + stepProgress.getTotalRecords());
-        totalProgress.setProcessedRecords(totalProgress.getProcessedRecords() + stepProgress.getProcessedRecords());
-        totalProgress.setSuccessRecords(totalProgress.getSuccessRecords() + stepProgress.getSuccessRecords());
-        totalProgress.setFailureRecords(totalProgress.getFailureRecords() + stepProgress.getFailureRecords());
-        
-        // 에러 메시지 통합
-        if (stepProgress.getErrorMessages() != null && !stepProgress.getErrorMessages().isEmpty()) {
-            totalProgress.getErrorMessages().addAll(stepProgress.getErrorMessages());
+    private List<PublicDataPipelineRunner.Stage> buildStages(Long jobCode,
+                                                             PublicDataAnalysisReqDto.IntegratedDataCollectReq request,
+                                                             Set<String> completedStages) {
+        List<PublicDataPipelineRunner.Stage> stages = new ArrayList<>();
+
+        // 소득/소비, 업소수/인구는 기존 행만 갱신하므로 매출 단계가 새로 추가하는 행정동까지 반영되도록 매출 완료를 기다림
+        String[] salesDependency = Boolean.TRUE.equals(request.getIncludeSales())
+                ? new String[]{STAGE_SALES}
+                : new String[0];
+
+        if (Boolean.TRUE.equals(request.getIncludeSales())) {
+            PublicDataAnalysisReqDto.SalesDataCollectReq salesRequest = PublicDataAnalysisReqDto.SalesDataCollectReq.builder()
+                    .cities(request.getCities())
+                    .applyMultiplier(request.getApplyMultiplier())
+                    .retryCount(request.getRetryCount())
+                    .build();
+
+            stages.add(PublicDataPipelineRunner.Stage.of(STAGE_SALES,
+                    () -> runStage(jobCode, STAGE_SALES, completedStages,
+                            checkpoint -> salesDataCollectionService.collectSalesData(salesRequest, checkpoint))));
         }
-        
-        // 경고 메시지 통합
-        if (stepProgress.getWarnings() != null && !stepProgress.getWarnings().isEmpty()) {
-            totalProgress.getWarnings().addAll(stepProgress.getWarnings());
+
+        if (Boolean.TRUE.equals(request.getIncludeIncomeConsumption())) {
+            PublicDataAnalysisReqDto.IncomeConsumptionDataCollectReq incomeRequest = 
+                    PublicDataAnalysisReqDto.IncomeConsumptionDataCollectReq.builder()
+                            .cities(request.getCities())
+                            .retryCount(request.getRetryCount())
+                            .build();
+
+            stages.add(PublicDataPipelineRunner.Stage.of(STAGE_INCOME_CONSUMPTION,
+                    () -> runStage(jobCode, STAGE_INCOME_CONSUMPTION, completedStages,
+                            checkpoint -> incomeConsumptionDataCollectionService.collectIncomeConsumptionData(
+                                    incomeRequest, checkpoint)),
+                    salesDependency));
         }
-        
-        // 진행률 계산 (단계별)
-        double stepProgressPercent = (double) totalProgress.getCompletedSteps() / totalProgress.getTotalSteps() * 100;
-        totalProgress.setProgressPercent(stepProgressPercent);
+
+        if (Boolean.TRUE.equals(request.getIncludeBusinessPopulation())) {
+            PublicDataAnalysisReqDto.BusinessPopulationDataCollectReq businessRequest = 
+                    PublicDataAnalysisReqDto.BusinessPopulationDataCollectReq.builder()
+                            .areaCodes(request.getAreaCodes())
+                            .includeBusinessCount(true)
+                            .includePopulationData(true)
+                            .retryCount(request.getRetryCount())
+                            .build();
+
+            stages.add(PublicDataPipelineRunner.Stage.of(STAGE_BUSINESS_POPULATION,
+                    () -> runStage(jobCode, STAGE_BUSINESS_POPULATION, completedStages,
+                            checkpoint -> businessPopulationDataCollectionService.collectBusinessPopulationData(
+                                    businessRequest, checkpoint)),
+                    salesDependency));
+        }
+
+        return stages;
+    }
+
+    /**
+     * 단계 1개 실행 후 결과 기록 (완료된 단계는 다시 수집하지 않음)
+     */
+    private PublicDataAnalysisRespDto.CollectionProgressResp runStage(
+            Long jobCode, String stage, Set<String> completedStages,
+            Function<CollectionCheckpoint, PublicDataAnalysisRespDto.CollectionProgressResp> collector) {
+        if (completedStages.contains(stage)) {
+            return jobService.completedStageProgress(jobCode, stage);
+        }
+
+        PublicDataAnalysisRespDto.CollectionProgressResp result = collector.apply(jobService.checkpoint(jobCode, stage));
+        jobService.finishStage(jobCode, stage, result);
+        return result;
     }
 
     /**
@@ -286,7 +265,6 @@ public class IntegratedDataCollectionService {
                 .includeBusinessPopulation(true)
                 .applyMultiplier(true)
                 .retryCount(3)
-                .delayMs(100L)
                 .build();
         
         return collectIntegratedData(request);
@@ -0,0 +1,293 @@
+package com.inc.sh.service.analysis;
+
+import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
+import com.inc.sh.entity.PublicDataAnalysis;
+import com.inc.sh.repository.PublicDataAnalysisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * 공공데이터 분석 조회 캐시 (읽기 전용 모델)
+ * - 분석 데이터는 월 1회 수집 후에만 바뀌므로 전체 행정동을 응답 DTO로 미리 변환해 메모리에 보관
+ * - 서버 시작 시와 수집 완료 후 새로 적재하고, 적재가 끝난 스냅샷으로 한 번에 교체 (조회 중 일부만 바뀐 상태가 보이지 않음)
+ * - 지표별 정렬 배열을 미리 만들어 상위 N개/범위 조회를 DB 없이 처리
+ * - 스냅샷에 없는 동코드는 DB에서 조회해 크기 제한 LRU에 보관 (없는 동코드도 보관해 반복 조회 방지)
+ * - 반환하는 DTO는 캐시와 공유되므로 호출하는 쪽에서 수정하지 않음
+ */
+@Component
+@Slf4j
+public class PublicDataAnalysisCache {
+
+    /**
+     * 정렬/범위 조회 지표
+     */
+    public enum Metric {
+        TOTAL_SALES(r -> sum(r.getKoreanSales(), r.getChineseSales(), r.getJapaneseSales(),
+                r.getWesternSales(), r.getSoutheastAsianSales())),
+        KOREAN_SALES(r -> value(r.getKoreanSales())),
+        CHINESE_SALES(r -> value(r.getChineseSales())),
+        JAPANESE_SALES(r -> value(r.getJapaneseSales())),
+        WESTERN_SALES(r -> value(r.getWesternSales())),
+        SOUTHEAST_ASIAN_SALES(r -> value(r.getSoutheastAsianSales())),
+        TOTAL_RESTAURANT_COUNT(r -> sum(r.getKoreanRestaurantCount(), r.getChineseRestaurantCount(),
+                r.getJapaneseRestaurantCount(), r.getWesternRestaurantCount(), r.getSoutheastAsianRestaurantCount())),
+        TOTAL_POPULATION(r -> sum(r.getFloatingPopulation(), r.getResidentialPopulation(), r.getWorkingPopulation())),
+        FLOATING_POPULATION(r -> value(r.getFloatingPopulation())),
+        RESIDENTIAL_POPULATION(r -> value(r.getResidentialPopulation())),
+        WORKING_POPULATION(r -> value(r.getWorkingPopulation())),
+        HOUSEHOLD_COUNT(r -> value(r.getHouseholdCount())),
+        INCOME(r -> value(r.getIncome())),
+        CONSUMPTION(r -> value(r.getConsumption()));
+
+        private final ToLongFunction<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> extractor;
+
+        Metric(ToLongFunction<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> extractor) {
+            this.extractor = extractor;
+        }
+
+        public long valueOf(PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp resp) {
+            return extractor.applyAsLong(resp);
+        }
+    }
+
+    private final PublicDataAnalysisRepository repository;
+    private final Map<Integer, Optional<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp>> missCache;
+
+    private volatile Snapshot snapshot;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public PublicDataAnalysisCache(PublicDataAnalysisRepository repository,
+                                   @Value("${public-api.analysis.cache.max-miss-entries:1000}") int maxMissEntries) {
+        this.repository = repository;
+        int capacity = Math.max(1, maxMissEntries);
+        this.missCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Optional<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp>> eldest) {
+                if (size() > capacity) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 서버 시작 시 적재 (실패해도 조회 시 다시 적재)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("공공데이터 분석 캐시 적재 실패 - 첫 조회 시 다시 적재", e);
+        }
+    }
+
+    /**
+     * 전체 분석 데이터를 새로 적재해 스냅샷 교체
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+
+        List<PublicDataAnalysis> entities = repository.findAll();
+        Map<Integer, PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> byCode = new HashMap<>(entities.size() * 2);
+        for (PublicDataAnalysis entity : entities) {
+            byCode.put(entity.getAdminDongCode(), PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp.fromEntity(entity));
+        }
+
+        long elapsedMs = System.currentTimeMillis() - start;
+        snapshot = new Snapshot(byCode, LocalDateTime.now(), elapsedMs);
+        synchronized (missCache) {
+            missCache.clear();
+        }
+        loads.increment();
+
+        log.info("공공데이터 분석 캐시 적재 완료 - 행정동: {}개, 소요: {}ms", byCode.size(), elapsedMs);
+    }
+
+    /**
+     * 동코드로 조회 (없으면 빈 값)
+     */
+    public Optional<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> get(Integer adminDongCode) {
+        PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp cached = snapshot().byCode.get(adminDongCode);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        synchronized (missCache) {
+            Optional<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> missed = missCache.get(adminDongCode);
+            if (missed != null) {
+                hits.increment();
+                return missed;
+            }
+        }
+
+        misses.increment();
+        Optional<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> loaded = repository.findByAdminDongCode(adminDongCode)
+                .map(PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp::fromEntity);
+        synchronized (missCache) {
+            missCache.put(adminDongCode, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 지표 기준 상위 N개 (내림차순)
+     */
+    public List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> top(Metric metric, int limit) {
+        PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp[] sorted = snapshot().sorted(metric);
+        int count = Math.min(Math.max(limit, 0), sorted.length);
+
+        List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> result = new ArrayList<>(count);
+        for (int i = sorted.length - 1; i >= sorted.length - count; i--) {
+            result.add(sorted[i]);
+        }
+        hits.increment();
+        return result;
+    }
+
+    /**
+     * 지표 값이 min 이상 max 이하인 행정동 (오름차순, null이면 제한 없음)
+     */
+    public List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> range(Metric metric, Long min, Long max) {
+        Snapshot current = snapshot();
+        PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp[] sorted = current.sorted(metric);
+        long[] values = current.values(metric);
+
+        int from = min == null ? 0 : lowerBound(values, min);
+        int to = max == null ? values.length : lowerBound(values, max == Long.MAX_VALUE ? max : max + 1);
+        hits.increment();
+        if (from >= to) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(sorted).subList(from, to));
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public PublicDataAnalysisRespDto.CacheStatsResp getStats() {
+        Snapshot current = snapshot;
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        int missCacheSize;
+        synchronized (missCache) {
+            missCacheSize = missCache.size();
+        }
+
+        return PublicDataAnalysisRespDto.CacheStatsResp.builder()
+                .size(current == null ? 0 : current.byCode.size())
+                .missCacheSize(missCacheSize)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .hitRate(hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount) * 100)
+                .evictionCount(evictions.sum())
+                .loadCount(loads.sum())
+                .lastLoadedAt(current == null ? null : current.loadedAt)
+                .lastLoadMs(current == null ? null : current.loadMs)
+                .build();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static int lowerBound(long[] values, long target) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long value(Number number) {
+        return number == null ? 0L : number.longValue();
+    }
+
+    private static long sum(Number... numbers) {
+        long total = 0L;
+        for (Number number : numbers) {
+            total += value(number);
+        }
+        return total;
+    }
+
+    /**
+     * 적재 시점의 불변 스냅샷 (동코드 색인 + 지표별 오름차순 정렬 배열)
+     */
+    private static final class Snapshot {
+        private final Map<Integer, PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> byCode;
+        private final Map<Metric, PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp[]> sortedByMetric = new EnumMap<>(Metric.class);
+        private final Map<Metric, long[]> valuesByMetric = new EnumMap<>(Metric.class);
+        private final LocalDateTime loadedAt;
+        private final long loadMs;
+
+        private Snapshot(Map<Integer, PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> byCode,
+                         LocalDateTime loadedAt, long loadMs) {
+            this.byCode = Collections.unmodifiableMap(byCode);
+            this.loadedAt = loadedAt;
+            this.loadMs = loadMs;
+
+            for (Metric metric : Metric.values()) {
+                // 같은 값이면 동코드 순 (상위 N개 조회 결과가 매번 같도록)
+                PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp[] sorted = byCode.values().stream()
+                        .sorted(Comparator.<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp>comparingLong(metric::valueOf)
+                                .thenComparing(PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp::getAdminDongCode,
+                                        Comparator.reverseOrder()))
+                        .toArray(PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp[]::new);
+                long[] values = new long[sorted.length];
+                for (int i = 0; i < sorted.length; i++) {
+                    values[i] = metric.valueOf(sorted[i]);
+                }
+                sortedByMetric.put(metric, sorted);
+                valuesByMetric.put(metric, values);
+            }
+        }
+
+        private PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp[] sorted(Metric metric) {
+            return sortedByMetric.get(metric);
+        }
+
+        private long[] values(Metric metric) {
+            return valuesByMetric.get(metric);
+        }
+    }
+}
@@ -1,30 +1,61 @@
 package com.inc.sh.service.analysis;
 
 import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
-import com.inc.sh.entity.PublicDataAnalysis;
-import com.inc.sh.repository.PublicDataAnalysisRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PublicDataAnalysisService {
 
-    private final PublicDataAnalysisRepository repository;
+    private final PublicDataAnalysisCache analysisCache;
 
     /**
-     * 동코드로 분석 데이터 조회
+     * 동코드로 분석 데이터 조회 (캐시)
      */
     public PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp getAnalysisData(Integer adminDongCode) {
-        log.info("분석 데이터 조회 - 동코드: {}", adminDongCode);
+        log.debug("분석 데이터 조회 - 동코드: {}", adminDongCode);
         
-        PublicDataAnalysis entity = repository.findByAdminDongCode(adminDongCode)
+        PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp data = analysisCache.get(adminDongCode)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 동코드입니다: " + adminDongCode));
         
-        log.info("분석 데이터 조회 성공 - 동코드: {}, 동이름: {}", adminDongCode, entity.getAdminDongName());
-        return PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp.fromEntity(entity);
+        log.debug("분석 데이터 조회 성공 - 동코드: {}, 동이름: {}", adminDongCode, data.getAdminDongName());
+        return data;
+    }
+
+    /**
+     * 지표 기준 상위 N개 행정동 조회
+     */
+    public List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> getTopAnalysisData(
+            PublicDataAnalysisCache.Metric metric, int limit) {
+        return analysisCache.top(metric, limit);
+    }
+
+    /**
+     * 지표 값 범위로 행정동 조회
+     */
+    public List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> getAnalysisDataInRange(
+            PublicDataAnalysisCache.Metric metric, Long min, Long max) {
+        return analysisCache.range(metric, min, max);
+    }
+
+    public PublicDataAnalysisRespDto.CacheStatsResp getCacheStats() {
+        return analysisCache.getStats();
+    }
+
+    /**
+     * 수집 후 캐시 재적재 (실패하면 기존 스냅샷 유지)
+     */
+    public void refreshCache() {
+        try {
+            analysisCache.reload();
+        } catch (Exception e) {
+            log.error("공공데이터 분석 캐시 재적재 실패 - 기존 데이터로 계속 조회", e);
+        }
     }
 
-}
\ No newline at end of file
+}
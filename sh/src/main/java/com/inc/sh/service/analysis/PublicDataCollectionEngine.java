@@ -0,0 +1,172 @@
+package com.inc.sh.service.analysis;
+
+import com.inc.sh.common.util.TokenBucket;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공공데이터 API 수집 실행기
+ * - (광역시, 박스, 업종) 단위 호출을 가상 스레드에서 동시에 실행하고 동시 호출 수(max-concurrency)를 제한
+ * - 전체 수집에 하나의 토큰버킷을 공유해 초당 호출 수(permits-per-second)를 제한
+ * - 호출 실패 시 지터를 섞은 지수 백오프로 재시도 (4xx는 재시도하지 않음)
+ * - 호출 결과는 작업 스레드에서 바로 병합되므로 병합 대상은 동시성 안전해야 함
+ */
+@Component
+@Slf4j
+public class PublicDataCollectionEngine {
+
+    private final int maxConcurrency;
+    private final long backoffMs;
+    // 전체 수집 공유 토큰버킷 (테스트에서 가짜 시계 버킷으로 교체)
+    private TokenBucket rateLimiter;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PublicDataCollectionEngine(
+            @Value("${public-api.collection.max-concurrency:8}") int maxConcurrency,
+            @Value("${public-api.collection.permits-per-second:10}") double permitsPerSecond,
+            @Value("${public-api.collection.backoff-ms:500}") long backoffMs) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.backoffMs = backoffMs;
+        this.rateLimiter = new TokenBucket(permitsPerSecond, this.maxConcurrency);
+    }
+
+    /**
+     * API 호출 1건
+     */
+    @FunctionalInterface
+    public interface CollectionCall<T, R> {
+        R call(T task) throws Exception;
+    }
+
+    /**
+     * 호출 결과 병합 (작업 스레드에서 동시에 호출됨)
+     */
+    @FunctionalInterface
+    public interface ResultMerger<T, R> {
+        void merge(T task, R result);
+    }
+
+    /**
+     * 수집 결과 집계
+     */
+    @Getter
+    public static class CollectionResult {
+        private final int totalCalls;
+        private final AtomicInteger successCalls = new AtomicInteger();
+        private final AtomicInteger failureCalls = new AtomicInteger();
+        private final AtomicInteger retryCalls = new AtomicInteger();
+        private final List<String> errorMessages = Collections.synchronizedList(new ArrayList<>());
+        private long elapsedMs;
+
+        CollectionResult(int totalCalls) {
+            this.totalCalls = totalCalls;
+        }
+    }
+
+    /**
+     * 작업 목록 동시 수집
+     * @param name 로그/오류 메시지용 수집명
+     * @param maxRetries 호출당 최대 재시도 횟수
+     */
+    public <T, R> CollectionResult collect(String name, List<T> tasks, int maxRetries,
+                                           CollectionCall<T, R> call, ResultMerger<T, R> merger) {
+        CollectionResult result = new CollectionResult(tasks.size());
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        long start = System.currentTimeMillis();
+
+        log.info("[{}] 공공데이터 수집 시작 - 호출수: {}, 동시실행: {}", name, tasks.size(), maxConcurrency);
+
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (T task : tasks) {
+            futures.add(executor.submit(() -> {
+                runTask(name, task, Math.max(0, maxRetries), call, merger, inFlight, result);
+                return null;
+            }));
+        }
+
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new RuntimeException("[" + name + "] 공공데이터 수집이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                // 실행기 종료(shutdownNow)로 작업 스레드가 인터럽트된 경우, 일부만 수집된 결과를 완료로 취급하지 않음
+                interrupted |= e.getCause() instanceof InterruptedException;
+                log.error("[{}] 수집 작업 오류", name, e.getCause());
+            }
+        }
+
+        if (interrupted) {
+            throw new RuntimeException("[" + name + "] 공공데이터 수집이 중단되었습니다.");
+        }
+
+        result.elapsedMs = System.currentTimeMillis() - start;
+        log.info("[{}] 공공데이터 수집 종료 - 성공: {}, 실패: {}, 재시도: {}, 소요: {}ms", name,
+                result.getSuccessCalls().get(), result.getFailureCalls().get(), result.getRetryCalls().get(),
+                result.getElapsedMs());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T, R> void runTask(String name, T task, int maxRetries, CollectionCall<T, R> call,
+                                ResultMerger<T, R> merger, Semaphore inFlight, CollectionResult result)
+            throws InterruptedException {
+        inFlight.acquire();
+        try {
+            for (int attempt = 0; ; attempt++) {
+                rateLimiter.acquire();
+                try {
+                    merger.merge(task, call.call(task));
+                    result.getSuccessCalls().incrementAndGet();
+                    return;
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    if (attempt >= maxRetries || e instanceof HttpClientErrorException) {
+                        log.error("[{}] API 호출 실패 - 작업: {}, 오류: {}", name, task, e.getMessage());
+                        result.getFailureCalls().incrementAndGet();
+                        result.getErrorMessages().add(String.format("%s API 호출 실패 - %s: %s", name, task, e.getMessage()));
+                        return;
+                    }
+                    log.warn("[{}] API 호출 실패 - 재시도 {}/{}, 작업: {}, 오류: {}",
+                            name, attempt + 1, maxRetries, task, e.getMessage());
+                    result.getRetryCalls().incrementAndGet();
+                    backoff(attempt);
+                }
+            }
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * 지터 포함 지수 백오프 (backoffMs * 2^attempt의 50~150%)
+     */
+    private void backoff(int attempt) throws InterruptedException {
+        long base = backoffMs * (1L << Math.min(attempt, 10));
+        Thread.sleep((long) (base * ThreadLocalRandom.current().nextDouble(0.5, 1.5)));
+    }
+}
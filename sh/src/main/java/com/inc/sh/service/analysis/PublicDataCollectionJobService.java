@@ -0,0 +1,321 @@
+package com.inc.sh.service.analysis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inc.sh.dto.publicDataAnalysis.reqDto.PublicDataAnalysisReqDto;
+import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
+import com.inc.sh.repository.PublicDataCollectionJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 공공데이터 수집 작업 기록 서비스
+ * - 통합 수집 1회를 작업(job)으로 저장하고 단계별 상태와 완료된 호출 단위를 기록
+ * - 서버가 중간에 종료되어도 같은 작업 ID로 재실행하면 완료된 단계/호출 단위를 건너뜀
+ * - 진행 상황은 기록에서 계산하므로 다른 요청/서버 재시작 후에도 조회 가능
+ * - 실행 중인 작업은 실행 서버 인스턴스(owner)가 주기적으로 하트비트를 갱신하고, 하트비트가 멈춘 작업만 중단 처리
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PublicDataCollectionJobService {
+
+    public static final String JOB_TYPE_SCHEDULER = "SCHEDULER";
+    public static final String JOB_TYPE_INTEGRATED = "INTEGRATED";
+
+    public static final String STATUS_PROCESSING = "PROCESSING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_INTERRUPTED = "INTERRUPTED";
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private final PublicDataCollectionJobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+
+    // 작업을 실행하는 서버 인스턴스 식별자 (재시작하면 새 값)
+    private final String instanceId = instanceName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Value("${public-api.collection.heartbeat-timeout-seconds:300}")
+    private int heartbeatTimeoutSeconds;
+
+    // 종료 중에 끝난 작업은 실패가 아니라 중단으로 기록 (재시작 시 이어서 실행)
+    private volatile boolean shuttingDown;
+
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        shuttingDown = true;
+    }
+
+    /**
+     * 작업 생성
+     */
+    public Long startJob(String taskId, String jobType, PublicDataAnalysisReqDto.IntegratedDataCollectReq request,
+                         List<String> stages) {
+        try {
+            return jobRepository.insertJob(taskId, jobType, objectMapper.writeValueAsString(request), stages, instanceId);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("수집 요청 저장 실패: " + taskId, e);
+        }
+    }
+
+    public PublicDataCollectionJobRepository.JobRecord getJob(String taskId) {
+        return jobRepository.findJob(taskId)
+                .orElseThrow(() -> new RuntimeException("수집 작업을 찾을 수 없습니다: " + taskId));
+    }
+
+    /**
+     * 작업 유형별 최근 작업
+     */
+    public Optional<PublicDataCollectionJobRepository.JobRecord> findLatestJob(String jobType) {
+        return jobRepository.findLatestJob(jobType);
+    }
+
+    /**
+     * 작업 생성 시 저장한 수집 요청
+     */
+    public PublicDataAnalysisReqDto.IntegratedDataCollectReq readRequest(PublicDataCollectionJobRepository.JobRecord job) {
+        try {
+            return objectMapper.readValue(job.getRequestJson(), PublicDataAnalysisReqDto.IntegratedDataCollectReq.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("수집 요청 복원 실패: " + job.getTaskId(), e);
+        }
+    }
+
+    /**
+     * 완료된 단계 목록
+     */
+    public Set<String> completedStages(Long jobCode) {
+        Set<String> completed = new HashSet<>();
+        for (PublicDataCollectionJobRepository.StageRecord stage : jobRepository.findStages(jobCode)) {
+            if (STATUS_COMPLETED.equals(stage.getStatus())) {
+                completed.add(stage.getStage());
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * 재실행 전 작업 상태를 진행 중으로 되돌림 (동시에 재실행 요청이 와도 한 번만 성공)
+     */
+    public void reopenJob(PublicDataCollectionJobRepository.JobRecord job) {
+        if (jobRepository.reopenJob(job.getJobCode(), instanceId) == 0) {
+            throw new RuntimeException(STATUS_COMPLETED.equals(job.getStatus())
+                    ? "이미 완료된 수집 작업입니다: " + job.getTaskId()
+                    : "이미 실행 중인 수집 작업입니다: " + job.getTaskId());
+        }
+    }
+
+    public CollectionCheckpoint checkpoint(Long jobCode, String stage) {
+        return new CollectionCheckpoint(jobRepository, objectMapper, jobCode, stage);
+    }
+
+    /**
+     * 단계 종료 기록
+     * - 완료된 단계는 재실행 시 건너뛰므로 저장된 호출 단위 응답을 비움
+     */
+    public void finishStage(Long jobCode, String stage, PublicDataAnalysisRespDto.CollectionProgressResp result) {
+        String status = STATUS_COMPLETED.equals(result.getStatus()) ? STATUS_COMPLETED : STATUS_FAILED;
+        jobRepository.updateStageFinished(jobCode, stage, status, result.getSuccessRecords(), result.getFailureRecords());
+        if (STATUS_COMPLETED.equals(status)) {
+            jobRepository.clearUnitPayloads(jobCode, stage);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 미완료 작업의 호출 단위 응답 삭제
+     */
+    public int purgeUnitPayloads(int retentionDays) {
+        int deleted = jobRepository.deleteUnitPayloadsFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("공공데이터 수집 작업 호출 단위 응답 삭제 - 보관기간: {}일, 삭제: {}건", retentionDays, deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * 이전 실행에서 완료된 단계의 결과 (재실행 시 해당 단계는 다시 수집하지 않음)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp completedStageProgress(Long jobCode, String stage) {
+        Map<String, Integer> unitCounts = jobRepository.countUnitsByStage(jobCode);
+        PublicDataCollectionJobRepository.StageRecord record = jobRepository.findStages(jobCode).stream()
+                .filter(candidate -> candidate.getStage().equals(stage))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("수집 단계를 찾을 수 없습니다: " + stage));
+
+        int units = unitCounts.getOrDefault(stage, 0);
+        int successRecords = valueOf(record.getSuccessRecords());
+        int failureRecords = valueOf(record.getFailureRecords());
+        List<String> warnings = new ArrayList<>();
+        warnings.add(stage + " 단계는 이전 실행에서 완료되어 건너뜀");
+
+        return PublicDataAnalysisRespDto.CollectionProgressResp.builder()
+                .status(STATUS_COMPLETED)
+                .currentStep(stage)
+                .totalSteps(1)
+                .completedSteps(1)
+                .totalApiCalls(valueOf(record.getTotalUnits()))
+                .completedApiCalls(units)
+                .successApiCalls(units)
+                .failureApiCalls(0)
+                .totalRecords(successRecords + failureRecords)
+                .processedRecords(successRecords + failureRecords)
+                .successRecords(successRecords)
+                .failureRecords(failureRecords)
+                .progressPercent(100.0)
+                .errorMessages(new ArrayList<>())
+                .warnings(warnings)
+                .build();
+    }
+
+    /**
+     * 작업 종료 기록
+     */
+    public void finishJob(Long jobCode, PublicDataAnalysisRespDto.CollectionProgressResp progress) {
+        String status = progress.getStatus();
+        if (shuttingDown && !STATUS_COMPLETED.equals(status)) {
+            status = STATUS_INTERRUPTED;
+        }
+
+        String errorMessage = null;
+        if (progress.getErrorMessages() != null && !progress.getErrorMessages().isEmpty()) {
+            errorMessage = String.join(" / ", progress.getErrorMessages());
+            if (errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH) {
+                errorMessage = errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+            }
+        }
+        jobRepository.updateJobStatus(jobCode, status, errorMessage, LocalDateTime.now());
+    }
+
+    /**
+     * 실행 중인 작업 하트비트 갱신 및 하트비트가 멈춘 작업 중단 처리
+     */
+    @Scheduled(fixedDelayString = "${public-api.collection.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        try {
+            jobRepository.touchProcessingJobs(instanceId);
+            markStaleJobsInterrupted();
+        } catch (Exception e) {
+            log.error("공공데이터 수집 작업 하트비트 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 하트비트가 멈춘 작업을 중단 처리하고 중단된 작업 목록 반환
+     * - 다른 서버가 실행 중인 작업(하트비트 갱신 중)은 그대로 둠
+     */
+    public List<PublicDataCollectionJobRepository.JobRecord> recoverInterruptedJobs() {
+        markStaleJobsInterrupted();
+        return jobRepository.findJobsByStatus(STATUS_INTERRUPTED);
+    }
+
+    private void markStaleJobsInterrupted() {
+        int interrupted = jobRepository.markStaleJobsInterrupted(LocalDateTime.now().minusSeconds(heartbeatTimeoutSeconds));
+        if (interrupted > 0) {
+            log.warn("하트비트가 {}초 이상 멈춰 중단 처리한 공공데이터 수집 작업: {}건", heartbeatTimeoutSeconds, interrupted);
+        }
+    }
+
+    private static String instanceName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    /**
+     * 작업 진행 상황 (기록 기준, 없으면 null)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp getJobProgress(String taskId) {
+        return jobRepository.findJob(taskId).map(this::toProgress).orElse(null);
+    }
+
+    /**
+     * 작업 유형별 최근 작업 진행 상황 (없으면 null)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp getLatestJobProgress(String jobType) {
+        return jobRepository.findLatestJob(jobType).map(this::toProgress).orElse(null);
+    }
+
+    private PublicDataAnalysisRespDto.CollectionProgressResp toProgress(PublicDataCollectionJobRepository.JobRecord job) {
+        List<PublicDataCollectionJobRepository.StageRecord> stages = jobRepository.findStages(job.getJobCode());
+        Map<String, Integer> unitCounts = jobRepository.countUnitsByStage(job.getJobCode());
+
+        int totalUnits = 0;
+        int completedUnits = 0;
+        int completedSteps = 0;
+        int successRecords = 0;
+        int failureRecords = 0;
+        List<String> runningStages = new ArrayList<>();
+        for (PublicDataCollectionJobRepository.StageRecord stage : stages) {
+            int stageTotal = valueOf(stage.getTotalUnits());
+            totalUnits += stageTotal;
+            completedUnits += Math.min(unitCounts.getOrDefault(stage.getStage(), 0), stageTotal);
+            successRecords += valueOf(stage.getSuccessRecords());
+            failureRecords += valueOf(stage.getFailureRecords());
+            if (STATUS_COMPLETED.equals(stage.getStatus())) {
+                completedSteps++;
+            }
+            if ("RUNNING".equals(stage.getStatus())) {
+                runningStages.add(stage.getStage());
+            }
+        }
+
+        boolean processing = STATUS_PROCESSING.equals(job.getStatus());
+        String currentStep = !runningStages.isEmpty() ? String.join(",", runningStages)
+                : processing ? "INITIALIZATION" : "COMPLETED";
+        double progressPercent = totalUnits > 0 ? (double) completedUnits / totalUnits * 100
+                : stages.isEmpty() ? 0.0 : (double) completedSteps / stages.size() * 100;
+        LocalDateTime endTime = job.getFinishedAt();
+
+        List<String> errorMessages = new ArrayList<>();
+        if (job.getErrorMessage() != null) {
+            errorMessages.add(job.getErrorMessage());
+        }
+
+        return PublicDataAnalysisRespDto.CollectionProgressResp.builder()
+                .taskId(job.getTaskId())
+                .status(job.getStatus())
+                .currentStep(currentStep)
+                .totalSteps(stages.size())
+                .completedSteps(completedSteps)
+                .totalApiCalls(totalUnits)
+                .completedApiCalls(completedUnits)
+                .successApiCalls(completedUnits)
+                .failureApiCalls(0)
+                .totalRecords(successRecords + failureRecords)
+                .processedRecords(successRecords + failureRecords)
+                .successRecords(successRecords)
+                .failureRecords(failureRecords)
+                .startTime(job.getStartedAt())
+                .endTime(endTime)
+                .elapsedTimeMs(job.getStartedAt() == null ? null : Duration.between(job.getStartedAt(),
+                        endTime == null || processing ? LocalDateTime.now() : endTime).toMillis())
+                .progressPercent(STATUS_COMPLETED.equals(job.getStatus()) ? 100.0 : Math.min(progressPercent, 100.0))
+                .errorMessages(errorMessages)
+                .warnings(new ArrayList<>())
+                .build();
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,370 @@
+package com.inc.sh.service.analysis;
+
+import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 공공데이터 수집 단계 실행기 (DAG)
+ * - 선행 단계가 없는 단계끼리는 가상 스레드에서 동시에 실행
+ * - 선행 단계가 실패하면 그 단계에 의존하는 단계만 건너뛰고 나머지는 계속 진행
+ * - 단계별 결과를 작업 ID 단위로 보관해 진행 중 조회, 실패/건너뛴 단계만 재실행(resume) 가능
+ */
+@Component
+@Slf4j
+public class PublicDataPipelineRunner {
+
+    public static final String STAGE_PENDING = "PENDING";
+    public static final String STAGE_RUNNING = "RUNNING";
+    public static final String STAGE_COMPLETED = "COMPLETED";
+    public static final String STAGE_FAILED = "FAILED";
+    public static final String STAGE_SKIPPED = "SKIPPED";
+
+    // 조회용으로 보관하는 최근 작업 수
+    private static final int MAX_RETAINED_RUNS = 20;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, PipelineRun> runs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PipelineRun> eldest) {
+            return size() > MAX_RETAINED_RUNS;
+        }
+    };
+
+    /**
+     * 수집 단계 정의
+     */
+    @Getter
+    public static class Stage {
+        private final String name;
+        private final List<String> dependsOn;
+        private final Supplier<PublicDataAnalysisRespDto.CollectionProgressResp> action;
+
+        private Stage(String name, List<String> dependsOn, Supplier<PublicDataAnalysisRespDto.CollectionProgressResp> action) {
+            this.name = name;
+            this.dependsOn = dependsOn;
+            this.action = action;
+        }
+
+        public static Stage of(String name, Supplier<PublicDataAnalysisRespDto.CollectionProgressResp> action,
+                               String... dependsOn) {
+            return new Stage(name, List.copyOf(Arrays.asList(dependsOn)), action);
+        }
+    }
+
+    /**
+     * 단계 실행 (모든 단계가 끝날 때까지 대기)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp run(String taskId, List<Stage> stages) {
+        PipelineRun run = new PipelineRun(taskId, sortStages(stages));
+        synchronized (runs) {
+            runs.put(taskId, run);
+        }
+        execute(run);
+        return run.snapshot();
+    }
+
+    /**
+     * 실패/건너뛴 단계만 재실행 (완료된 단계는 결과 유지)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp resume(String taskId) {
+        PipelineRun run = findRun(taskId);
+        if (run == null) {
+            throw new RuntimeException("수집 작업을 찾을 수 없습니다: " + taskId);
+        }
+        if (!run.beginResume()) {
+            throw new RuntimeException("이미 실행 중인 수집 작업입니다: " + taskId);
+        }
+        log.info("[{}] 수집 작업 재실행 - 대상 단계: {}", taskId, run.pendingStageNames());
+        execute(run);
+        return run.snapshot();
+    }
+
+    /**
+     * 진행 상황 조회 (실행 중에도 단계 단위로 갱신됨)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp getProgress(String taskId) {
+        PipelineRun run = findRun(taskId);
+        return run == null ? null : run.snapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private PipelineRun findRun(String taskId) {
+        synchronized (runs) {
+            return runs.get(taskId);
+        }
+    }
+
+    private void execute(PipelineRun run) {
+        Map<String, CompletableFuture<Boolean>> futures = new HashMap<>();
+
+        // 위상 정렬 순서이므로 선행 단계의 future가 항상 먼저 만들어짐
+        for (Stage stage : run.stages) {
+            if (STAGE_COMPLETED.equals(run.statusOf(stage.getName()))) {
+                futures.put(stage.getName(), CompletableFuture.completedFuture(true));
+                continue;
+            }
+
+            Map<String, CompletableFuture<Boolean>> dependencies = new LinkedHashMap<>();
+            stage.getDependsOn().forEach(dependency -> dependencies.put(dependency, futures.get(dependency)));
+
+            CompletableFuture<Void> ready = CompletableFuture.allOf(dependencies.values().toArray(CompletableFuture[]::new));
+            futures.put(stage.getName(), ready.thenApplyAsync(ignored -> {
+                List<String> failedDependencies = dependencies.entrySet().stream()
+                        .filter(dependency -> !dependency.getValue().join())
+                        .map(Map.Entry::getKey)
+                        .toList();
+                if (!failedDependencies.isEmpty()) {
+                    log.warn("[{}] {} 단계 건너뜀 - 선행 단계 실패: {}", run.taskId, stage.getName(), failedDependencies);
+                    run.skip(stage.getName(), failedDependencies);
+                    return false;
+                }
+                return runStage(run, stage);
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } finally {
+            run.finish();
+        }
+
+        PublicDataAnalysisRespDto.CollectionProgressResp progress = run.snapshot();
+        log.info("[{}] 수집 작업 종료 - 상태: {}, 단계: {}, 소요: {}ms", run.taskId, progress.getStatus(),
+                run.stageStatuses(), progress.getElapsedTimeMs());
+    }
+
+    private boolean runStage(PipelineRun run, Stage stage) {
+        run.start(stage.getName());
+        log.info("[{}] {} 단계 시작", run.taskId, stage.getName());
+        try {
+            PublicDataAnalysisRespDto.CollectionProgressResp result = stage.getAction().get();
+            boolean success = result != null && STAGE_COMPLETED.equals(result.getStatus());
+            run.complete(stage.getName(), result, success);
+            log.info("[{}] {} 단계 {} - 레코드: {}/{}", run.taskId, stage.getName(), success ? "완료" : "실패",
+                    result == null ? 0 : result.getSuccessRecords(), result == null ? 0 : result.getTotalRecords());
+            return success;
+        } catch (Exception e) {
+            log.error("[{}] {} 단계 오류", run.taskId, stage.getName(), e);
+            run.fail(stage.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 위상 정렬 (없는 선행 단계나 순환 의존이 있으면 예외)
+     */
+    private static List<Stage> sortStages(List<Stage> stages) {
+        Map<String, Stage> byName = new LinkedHashMap<>();
+        for (Stage stage : stages) {
+            if (byName.put(stage.getName(), stage) != null) {
+                throw new IllegalArgumentException("중복된 수집 단계입니다: " + stage.getName());
+            }
+        }
+
+        List<Stage> sorted = new ArrayList<>();
+        Map<String, Boolean> visiting = new HashMap<>();
+        for (Stage stage : stages) {
+            visit(stage, byName, visiting, sorted);
+        }
+        return sorted;
+    }
+
+    private static void visit(Stage stage, Map<String, Stage> byName, Map<String, Boolean> visiting, List<Stage> sorted) {
+        Boolean state = visiting.get(stage.getName());
+        if (Boolean.FALSE.equals(state)) {
+            return;
+        }
+        if (Boolean.TRUE.equals(state)) {
+            throw new IllegalArgumentException("수집 단계 순환 의존: " + stage.getName());
+        }
+
+        visiting.put(stage.getName(), true);
+        for (String dependency : stage.getDependsOn()) {
+            Stage dependencyStage = byName.get(dependency);
+            if (dependencyStage == null) {
+                throw new IllegalArgumentException(stage.getName() + " 단계의 선행 단계가 없습니다: " + dependency);
+            }
+            visit(dependencyStage, byName, visiting, sorted);
+        }
+        visiting.put(stage.getName(), false);
+        sorted.add(stage);
+    }
+
+    /**
+     * 작업 1건의 단계별 상태/결과 (단계 스레드와 조회 스레드가 함께 접근하므로 동기화)
+     */
+    private static class PipelineRun {
+        private final String taskId;
+        private final List<Stage> stages;
+        private final Map<String, String> statuses = new LinkedHashMap<>();
+        private final Map<String, PublicDataAnalysisRespDto.CollectionProgressResp> results = new HashMap<>();
+        private final Map<String, List<String>> stageErrors = new HashMap<>();
+        private final LocalDateTime startTime = LocalDateTime.now();
+        private LocalDateTime endTime;
+        private boolean running = true;
+
+        PipelineRun(String taskId, List<Stage> stages) {
+            this.taskId = taskId;
+            this.stages = stages;
+            stages.forEach(stage -> statuses.put(stage.getName(), STAGE_PENDING));
+        }
+
+        synchronized String statusOf(String name) {
+            return statuses.get(name);
+        }
+
+        synchronized Map<String, String> stageStatuses() {
+            return new LinkedHashMap<>(statuses);
+        }
+
+        synchronized List<String> pendingStageNames() {
+            return statuses.entrySet().stream()
+                    .filter(entry -> !STAGE_COMPLETED.equals(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        synchronized boolean beginResume() {
+            if (running) {
+                return false;
+            }
+            running = true;
+            endTime = null;
+            statuses.replaceAll((name, status) -> STAGE_COMPLETED.equals(status) ? status : STAGE_PENDING);
+            results.keySet().removeIf(name -> !STAGE_COMPLETED.equals(statuses.get(name)));
+            stageErrors.keySet().removeIf(name -> !STAGE_COMPLETED.equals(statuses.get(name)));
+            return true;
+        }
+
+        synchronized void start(String name) {
+            statuses.put(name, STAGE_RUNNING);
+        }
+
+        synchronized void complete(String name, PublicDataAnalysisRespDto.CollectionProgressResp result, boolean success) {
+            statuses.put(name, success ? STAGE_COMPLETED : STAGE_FAILED);
+            if (result != null) {
+                results.put(name, result);
+            }
+            if (!success) {
+                stageErrors.put(name, List.of(name + " 단계 실패"));
+            }
+        }
+
+        synchronized void fail(String name, Exception e) {
+            statuses.put(name, STAGE_FAILED);
+            stageErrors.put(name, List.of(name + " 단계 오류: " + e.getMessage()));
+        }
+
+        synchronized void skip(String name, List<String> failedDependencies) {
+            statuses.put(name, STAGE_SKIPPED);
+            stageErrors.put(name, List.of(name + " 단계 건너뜀 - 선행 단계 실패: " + String.join(", ", failedDependencies)));
+        }
+
+        synchronized void finish() {
+            running = false;
+            endTime = LocalDateTime.now();
+        }
+
+        /**
+         * 단계별 결과를 합친 진행 상황
+         */
+        synchronized PublicDataAnalysisRespDto.CollectionProgressResp snapshot() {
+            PublicDataAnalysisRespDto.CollectionProgressResp total = PublicDataAnalysisRespDto.CollectionProgressResp.builder()
+                    .taskId(taskId)
+                    .totalSteps(stages.size())
+                    .totalApiCalls(0)
+                    .completedApiCalls(0)
+                    .successApiCalls(0)
+                    .failureApiCalls(0)
+                    .totalRecords(0)
+                    .processedRecords(0)
+                    .successRecords(0)
+                    .failureRecords(0)
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .errorMessages(new ArrayList<>())
+                    .warnings(new ArrayList<>())
+                    .build();
+
+            int completed = 0;
+            int finished = 0;
+            List<String> runningStages = new ArrayList<>();
+            for (Stage stage : stages) {
+                String status = statuses.get(stage.getName());
+                if (STAGE_COMPLETED.equals(status)) {
+                    completed++;
+                }
+                if (!STAGE_PENDING.equals(status) && !STAGE_RUNNING.equals(status)) {
+                    finished++;
+                }
+                if (STAGE_RUNNING.equals(status)) {
+                    runningStages.add(stage.getName());
+                }
+
+                PublicDataAnalysisRespDto.CollectionProgressResp result = results.get(stage.getName());
+                if (result != null) {
+                    merge(total, result);
+                }
+                total.getErrorMessages().addAll(stageErrors.getOrDefault(stage.getName(), List.of()));
+            }
+
+            total.setCompletedSteps(completed);
+            total.setProgressPercent(stages.isEmpty() ? 100.0 : (double) finished / stages.size() * 100);
+
+            if (running) {
+                total.setStatus("PROCESSING");
+                total.setCurrentStep(runningStages.isEmpty() ? "INITIALIZATION" : String.join(",", runningStages));
+            } else {
+                total.setStatus(completed == stages.size() ? "COMPLETED" : completed > 0 ? "PARTIAL_SUCCESS" : "FAILED");
+                total.setCurrentStep("COMPLETED");
+            }
+            total.setElapsedTimeMs(Duration.between(startTime, endTime == null ? LocalDateTime.now() : endTime).toMillis());
+            return total;
+        }
+
+        private static void merge(PublicDataAnalysisRespDto.CollectionProgressResp total,
+                                  PublicDataAnalysisRespDto.CollectionProgressResp step) {
+            total.setTotalApiCalls(total.getTotalApiCalls() + valueOf(step.getTotalApiCalls()));
+            total.setCompletedApiCalls(total.getCompletedApiCalls() + valueOf(step.getCompletedApiCalls()));
+            total.setSuccessApiCalls(total.getSuccessApiCalls() + valueOf(step.getSuccessApiCalls()));
+            total.setFailureApiCalls(total.getFailureApiCalls() + valueOf(step.getFailureApiCalls()));
+
+            total.setTotalRecords(total.getTotalRecords() + valueOf(step.getTotalRecords()));
+            total.setProcessedRecords(total.getProcessedRecords() + valueOf(step.getProcessedRecords()));
+            total.setSuccessRecords(total.getSuccessRecords() + valueOf(step.getSuccessRecords()));
+            total.setFailureRecords(total.getFailureRecords() + valueOf(step.getFailureRecords()));
+
+            if (step.getErrorMessages() != null) {
+                total.getErrorMessages().addAll(step.getErrorMessages());
+            }
+            if (step.getWarnings() != null) {
+                total.getWarnings().addAll(step.getWarnings());
+            }
+        }
+
+        private static int valueOf(Integer value) {
+            return value == null ? 0 : value;
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package com.inc.sh.service.analysis;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inc.sh.config.CityBoxCoordinates;
 import com.inc.sh.dto.publicDataAnalysis.reqDto.PublicDataAnalysisReqDto;
 import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
-import com.inc.sh.entity.PublicDataAnalysis;
-import com.inc.sh.repository.PublicDataAnalysisRepository;
+import com.inc.sh.repository.PublicDataAnalysisBatchRepository;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
@@ -21,16 +24,21 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 매출 데이터 수집 서비스
+ * - (광역시, 박스, 업종) 단위 API 호출은 PublicDataCollectionEngine에서 동시 실행 (전체 초당 호출 수 제한)
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
-@Transactional
 public class SalesDataCollectionService {
 
-    private final PublicDataAnalysisRepository repository;
+    private static final TypeReference<List<PublicDataAnalysisRespDto.SalesApiResp>> SALES_PAYLOAD_TYPE =
+            new TypeReference<>() {};
+
+    private final PublicDataAnalysisBatchRepository batchRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final PublicDataCollectionEngine collectionEngine;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${public-api.sales.base-url:https://bigdata.sbiz.or.kr/gis/api/getMapRadsSaleAmt.json}")
     private String salesApiBaseUrl;
@@ -49,6 +57,14 @@ public class SalesDataCollectionService {
      */
     public PublicDataAnalysisRespDto.CollectionProgressResp collectSalesData(
             PublicDataAnalysisReqDto.SalesDataCollectReq request) {
+        return collectSalesData(request, CollectionCheckpoint.NONE);
+    }
+
+    /**
+     * 매출 데이터 수집 (체크포인트: 완료된 호출 단위는 저장된 응답으로 복원하고 다시 호출하지 않음)
+     */
+    public PublicDataAnalysisRespDto.CollectionProgressResp collectSalesData(
+            PublicDataAnalysisReqDto.SalesDataCollectReq request, CollectionCheckpoint checkpoint) {
 
         log.info("매출 데이터 수집 시작 - 대상 광역시: {}", request.getCities());
 
@@ -85,77 +101,47 @@ public class SalesDataCollectionService {
         progress.setTotalApiCalls(totalApiCalls);
 
         try {
-            // 중복 제거를 위한 맵 (행정동코드 -> 매출 데이터)
+            // 중복 제거를 위한 맵 (행정동코드 -> 업종코드 -> 매출 데이터), 작업 스레드에서 동시에 병합
             Map<Integer, Map<String, SalesData>> adminDongSalesMap = new ConcurrentHashMap<>();
 
+            // (광역시, 박스, 업종) 단위 호출 목록
+            List<SalesCall> calls = new ArrayList<>();
             for (String city : request.getCities()) {
-                progress.setCurrentCity(city);
-                log.info("광역시 {} 매출 데이터 수집 시작", city);
-
-                List<CityBoxCoordinates.BoxCoordinate> boxes = CityBoxCoordinates.getBoxes(city);
-                
-                for (CityBoxCoordinates.BoxCoordinate box : boxes) {
+                for (CityBoxCoordinates.BoxCoordinate box : CityBoxCoordinates.getBoxes(city)) {
                     for (String upjongCd : CityBoxCoordinates.UPJONG_CODES_SALES) {
-                        
-                        try {
-                            // API 호출
-                            String apiUrl = buildSalesApiUrl(box, upjongCd);
-                            List<PublicDataAnalysisRespDto.SalesApiResp> apiResponse = callSalesApi(apiUrl);
-                            
-                            // 응답 데이터 처리
-                            for (PublicDataAnalysisRespDto.SalesApiResp salesResp : apiResponse) {
-                                if (isValidSalesData(salesResp)) {
-                                    Integer adminDongCode = parseAdminDongCode(salesResp.getAdmCd());
-                                    
-                                    adminDongSalesMap.computeIfAbsent(adminDongCode, k -> new HashMap<>());
-                                    
-                                    SalesData salesData = SalesData.builder()
-                                            .adminDongCode(adminDongCode)
-                                            .adminDongName(salesResp.getAdmNm())
-                                            .saleAmt(parseSaleAmount(salesResp.getSaleAmt()))
-                                            .storeCnt(parseStoreCount(salesResp.getStoreCnt()))
-                                            .build();
-                                    
-                                    // 배수 적용
-                                    if (request.getApplyMultiplier()) {
-                                        Double multiplier = CityBoxCoordinates.SALES_MULTIPLIER.get(upjongCd);
-                                        if (multiplier != null) {
-                                            salesData.setSaleAmt((long) (salesData.getSaleAmt() * multiplier));
-                                        }
-                                    }
-                                    
-                                    adminDongSalesMap.get(adminDongCode).put(upjongCd, salesData);
-                                }
-                            }
-                            
-                            progress.setSuccessApiCalls(progress.getSuccessApiCalls() + 1);
-                            
-                            // 지연 시간
-                            if (request.getDelayMs() > 0) {
-                                Thread.sleep(request.getDelayMs());
-                            }
-                            
-                        } catch (Exception e) {
-                            log.error("API 호출 실패 - City: {}, Box: {}, UpjongCd: {}, Error: {}", 
-                                    city, box.toString(), upjongCd, e.getMessage(), e);
-                            progress.setFailureApiCalls(progress.getFailureApiCalls() + 1);
-                            progress.getErrorMessages().add(String.format("API 호출 실패 - %s, %s: %s", 
-                                    city, upjongCd, e.getMessage()));
-                        }
-                        
-                        progress.setCompletedApiCalls(progress.getCompletedApiCalls() + 1);
-                        
-                        // 진행률 업데이트
-                        double progressPercent = (double) progress.getCompletedApiCalls() / totalApiCalls * 100;
-                        progress.setProgressPercent(progressPercent);
+                        calls.add(new SalesCall(city, box, upjongCd));
                     }
                 }
-                
-                log.info("광역시 {} 매출 데이터 수집 완료", city);
             }
+            progress.setCurrentCity(String.join(",", request.getCities()));
+            checkpoint.begin(calls.size());
+
+            PublicDataCollectionEngine.ResultMerger<SalesCall, List<PublicDataAnalysisRespDto.SalesApiResp>> merger =
+                    (salesCall, apiResponse) -> mergeSalesData(adminDongSalesMap, salesCall.getUpjongCd(),
+                            apiResponse, request.getApplyMultiplier());
+
+            // 이전 실행에서 완료된 호출 단위 복원
+            List<SalesCall> remainingCalls = checkpoint.restore(calls, SalesCall::unitKey, SALES_PAYLOAD_TYPE, merger);
+            int restoredCalls = calls.size() - remainingCalls.size();
+
+            // 동시 호출 + 응답 데이터 병합
+            PublicDataCollectionEngine.CollectionResult collection = collectionEngine.collect(
+                    "매출", remainingCalls, request.getRetryCount() != null ? request.getRetryCount() : 0,
+                    salesCall -> callSalesApi(buildSalesApiUrl(salesCall.getBox(), salesCall.getUpjongCd())),
+                    checkpoint.recording(SalesCall::unitKey, merger));
+
+            progress.setSuccessApiCalls(collection.getSuccessCalls().get() + restoredCalls);
+            progress.setFailureApiCalls(collection.getFailureCalls().get());
+            progress.setCompletedApiCalls(progress.getSuccessApiCalls() + progress.getFailureApiCalls());
+            progress.getErrorMessages().addAll(collection.getErrorMessages());
+            if (restoredCalls > 0) {
+                progress.getWarnings().add("체크포인트에서 " + restoredCalls + "건 복원");
+            }
+            progress.setProgressPercent(totalApiCalls == 0 ? 100.0
+                    : (double) progress.getCompletedApiCalls() / totalApiCalls * 100);
 
-            // DB에 저장
-            saveOrUpdateSalesData(adminDongSalesMap, progress);
+            // DB에 저장 (API 호출이 끝난 뒤 저장 구간만 트랜잭션)
+            transactionTemplate.executeWithoutResult(status -> saveOrUpdateSalesData(adminDongSalesMap, progress));
 
             progress.setStatus("COMPLETED");
             progress.setCompletedSteps(1);
@@ -180,6 +166,39 @@ public class SalesDataCollectionService {
         return progress;
     }
 
+    /**
+     * 매출 API 응답을 행정동별 맵에 병합 (작업 스레드에서 동시에 호출됨)
+     */
+    private void mergeSalesData(Map<Integer, Map<String, SalesData>> adminDongSalesMap, String upjongCd,
+                                List<PublicDataAnalysisRespDto.SalesApiResp> apiResponse, Boolean applyMultiplier) {
+        for (PublicDataAnalysisRespDto.SalesApiResp salesResp : apiResponse) {
+            if (!isValidSalesData(salesResp)) {
+                continue;
+            }
+            Integer adminDongCode = parseAdminDongCode(salesResp.getAdmCd());
+            if (adminDongCode == null) {
+                continue;
+            }
+
+            SalesData salesData = SalesData.builder()
+                    .adminDongCode(adminDongCode)
+                    .adminDongName(salesResp.getAdmNm())
+                    .saleAmt(parseSaleAmount(salesResp.getSaleAmt()))
+                    .storeCnt(parseStoreCount(salesResp.getStoreCnt()))
+                    .build();
+
+            // 배수 적용
+            if (Boolean.TRUE.equals(applyMultiplier)) {
+                Double multiplier = CityBoxCoordinates.SALES_MULTIPLIER.get(upjongCd);
+                if (multiplier != null) {
+                    salesData.setSaleAmt((long) (salesData.getSaleAmt() * multiplier));
+                }
+            }
+
+            adminDongSalesMap.computeIfAbsent(adminDongCode, k -> new ConcurrentHashMap<>()).put(upjongCd, salesData);
+        }
+    }
+
     /**
      * 매출 API URL 생성
      */
@@ -293,53 +312,72 @@ public class SalesDataCollectionService {
     }
 
     /**
-     * DB에 매출 데이터 저장 또는 업데이트
+     * DB에 매출 데이터 저장 또는 업데이트 (admin_dong_code 기준 배치 UPSERT, 매출 컬럼만 갱신)
      */
     private void saveOrUpdateSalesData(Map<Integer, Map<String, SalesData>> adminDongSalesMap, 
                                      PublicDataAnalysisRespDto.CollectionProgressResp progress) {
         
         progress.setTotalRecords(adminDongSalesMap.size());
-        int processedCount = 0;
-        
-        for (Map.Entry<Integer, Map<String, SalesData>> entry : adminDongSalesMap.entrySet()) {
-            Integer adminDongCode = entry.getKey();
-            Map<String, SalesData> salesByUpjong = entry.getValue();
-            
-            try {
-                Optional<PublicDataAnalysis> existingOpt = repository.findByAdminDongCode(adminDongCode);
-                PublicDataAnalysis analysis;
-                
-                if (existingOpt.isPresent()) {
-                    analysis = existingOpt.get();
-                } else {
-                    // 새로운 레코드 생성
-                    String adminDongName = salesByUpjong.values().iterator().next().getAdminDongName();
-                    analysis = PublicDataAnalysis.builder()
-                            .adminDongCode(adminDongCode)
-                            .adminDongName(adminDongName)
-                            .build();
-                }
-                
-                // 업종별 매출 데이터 업데이트
-                for (Map.Entry<String, SalesData> salesEntry : salesByUpjong.entrySet()) {
-                    String upjongCd = salesEntry.getKey();
-                    SalesData salesData = salesEntry.getValue();
-                    
-                    analysis.updateSalesData(upjongCd, salesData.getStoreCnt(), salesData.getSaleAmt());
-                }
-                
-                repository.save(analysis);
-                progress.setSuccessRecords(progress.getSuccessRecords() + 1);
-                
-            } catch (Exception e) {
-                log.error("매출 데이터 저장 실패 - AdminDongCode: {}", adminDongCode, e);
-                progress.setFailureRecords(progress.getFailureRecords() + 1);
-                progress.getErrorMessages().add(String.format("데이터 저장 실패 - %d: %s", 
-                        adminDongCode, e.getMessage()));
+
+        // 동코드 순으로 저장 (동시에 실행되는 소득/소비 저장과 행 잠금 순서를 맞춰 교착 방지)
+        List<PublicDataAnalysisBatchRepository.SalesUpsert> rows = new ArrayList<>();
+        for (Map.Entry<Integer, Map<String, SalesData>> entry : new TreeMap<>(adminDongSalesMap).entrySet()) {
+            rows.add(toSalesUpsert(entry.getKey(), entry.getValue()));
+        }
+
+        batchRepository.batchUpsertSales(rows);
+
+        progress.setSuccessRecords(rows.size());
+        progress.setProcessedRecords(rows.size());
+    }
+
+    /**
+     * 업종별 매출 데이터를 행정동 1건의 UPSERT 데이터로 변환 (수집되지 않은 업종은 null → 기존 값 유지)
+     */
+    private PublicDataAnalysisBatchRepository.SalesUpsert toSalesUpsert(Integer adminDongCode,
+                                                                        Map<String, SalesData> salesByUpjong) {
+        PublicDataAnalysisBatchRepository.SalesUpsert.SalesUpsertBuilder builder =
+                PublicDataAnalysisBatchRepository.SalesUpsert.builder()
+                        .adminDongCode(adminDongCode)
+                        .adminDongName(salesByUpjong.values().iterator().next().getAdminDongName());
+
+        for (Map.Entry<String, SalesData> salesEntry : salesByUpjong.entrySet()) {
+            SalesData salesData = salesEntry.getValue();
+
+            switch (salesEntry.getKey()) {
+                case "I20101": // 한식
+                    builder.koreanRestaurantCount(salesData.getStoreCnt()).koreanSales(salesData.getSaleAmt());
+                    break;
+                case "I20201": // 중식
+                    builder.chineseRestaurantCount(salesData.getStoreCnt()).chineseSales(salesData.getSaleAmt());
+                    break;
+                case "I20301": // 일식
+                    builder.japaneseRestaurantCount(salesData.getStoreCnt()).japaneseSales(salesData.getSaleAmt());
+                    break;
+                case "I20402": // 서양식
+                    builder.westernRestaurantCount(salesData.getStoreCnt()).westernSales(salesData.getSaleAmt());
+                    break;
+                case "I20501": // 동남아식
+                    builder.southeastAsianRestaurantCount(salesData.getStoreCnt()).southeastAsianSales(salesData.getSaleAmt());
+                    break;
             }
-            
-            processedCount++;
-            progress.setProcessedRecords(processedCount);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 매출 API 호출 단위 (광역시, 박스, 업종)
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    private static class SalesCall {
+        private final String city;
+        private final CityBoxCoordinates.BoxCoordinate box;
+        private final String upjongCd;
+
+        String unitKey() {
+            return city + "|" + box.toUrlParams() + "|" + upjongCd;
         }
     }
 
@@ -5,7 +5,6 @@ import com.inc.sh.dto.charge.reqDto.AppTransactionHistoryReqDto;
 import com.inc.sh.dto.charge.respDto.AppTransactionHistoryRespDto;
 import com.inc.sh.dto.charge.respDto.AppTransactionRespDto;
 import com.inc.sh.dto.charge.respDto.AppTransactionSummaryRespDto;
-import com.inc.sh.entity.CustomerAccountTransactions;
 import com.inc.sh.repository.CustomerAccountTransactionsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,59 +22,67 @@ public class AppChargeService {
     
     /**
      * [앱] 거래내역조회 (페이징)
+     * - 거래처+기간 조건으로 DB에서 직접 페이징(키셋)하고, 기간 합계는 같은 쿼리에서 집계
+     * - cursor가 있으면 커서 이후부터, 없으면 page * size 위치부터 조회
      */
     @Transactional(readOnly = true)
     public RespDto<AppTransactionHistoryRespDto> getTransactionHistory(AppTransactionHistoryReqDto request) {
         try {
-            // 1. 거래내역 전체 조회 (JpaRepository 기본 메서드 사용)
-            List<CustomerAccountTransactions> allTransactions = transactionRepository.findAll();
+            int size = request.getSize();
             
-            // 2. 거래처별 + 날짜 범위 필터링 및 정렬
-            List<CustomerAccountTransactions> filteredTransactions = allTransactions.stream()
-                    .filter(transaction -> 
-                        transaction.getCustomerCode().equals(request.getCustomerCode()) &&
-                        transaction.getTransactionDate().compareTo(request.getStartTransactionDate()) >= 0 && 
-                        transaction.getTransactionDate().compareTo(request.getEndTransactionDate()) <= 0
-                    )
-                    .sorted((t1, t2) -> {
-                        // 거래일자 최신순 정렬
-                        int dateCompare = t2.getTransactionDate().compareTo(t1.getTransactionDate());
-                        if (dateCompare != 0) return dateCompare;
-                        // 같은 날이면 createdAt 또는 다른 필드로 정렬
-                        if (t1.getCreatedAt() != null && t2.getCreatedAt() != null) {
-                            return t2.getCreatedAt().compareTo(t1.getCreatedAt());
-                        }
-                        return 0;
-                    })
-                    .toList();
+            // 1. 커서 파싱 (transactionDate|transactionCode)
+            String cursorDate = null;
+            Integer cursorCode = null;
+            if (request.getCursor() != null && !request.getCursor().isBlank()) {
+                String[] parts = request.getCursor().split("\\|");
+                if (parts.length != 2) {
+                    return RespDto.fail("잘못된 커서입니다");
+                }
+                try {
+                    cursorDate = parts[0];
+                    cursorCode = Integer.valueOf(parts[1]);
+                } catch (NumberFormatException e) {
+                    return RespDto.fail("잘못된 커서입니다");
+                }
+            }
+            int offset = (cursorDate == null) ? request.getPage() * size : 0;
             
-            // 3. 페이징 처리
-            int totalCount = filteredTransactions.size();
-            int startIndex = request.getPage() * request.getSize();
-            int endIndex = Math.min(startIndex + request.getSize(), totalCount);
+            // 2. 페이지(size + 1건) + 기간 합계 조회 (1회 조회)
+            List<Object[]> rows = transactionRepository.findAppTransactionPageWithSummary(
+                    request.getCustomerCode(),
+                    request.getStartTransactionDate(),
+                    request.getEndTransactionDate(),
+                    cursorDate, cursorCode,
+                    size + 1, offset);
             
-            List<CustomerAccountTransactions> pagedTransactions = (startIndex < totalCount) 
-                    ? filteredTransactions.subList(startIndex, endIndex)
-                    : List.of();
+            // 3. 합계 (모든 행에 동일하게 포함됨)
+            AppTransactionSummaryRespDto summary = convertToSummaryDto(rows.get(0));
+            int totalCount = summary.getTotalCount().intValue();
             
-            // 4. 합계 계산 (전체 데이터 기준)
-            AppTransactionSummaryRespDto summary = calculateSummary(filteredTransactions);
+            // 4. 페이지 행 DTO 변환 (빈 페이지면 페이지 컬럼이 null인 합계행 1건만 반환됨)
+            List<Object[]> pageRows = rows.stream()
+                    .filter(row -> row[0] != null)
+                    .toList();
+            boolean hasNext = pageRows.size() > size;
+            if (hasNext) {
+                pageRows = pageRows.subList(0, size);
+            }
             
-            // 5. DTO 변환
-            List<AppTransactionRespDto> transactionList = pagedTransactions.stream()
+            List<AppTransactionRespDto> transactionList = pageRows.stream()
                     .map(this::convertToTransactionDto)
                     .toList();
             
-            // 6. 페이징 정보 계산
-            int totalPages = (int) Math.ceil((double) totalCount / request.getSize());
-            boolean hasNext = (request.getPage() + 1) < totalPages;
+            // 5. 다음 페이지 커서 / 페이징 정보 계산
+            String nextCursor = hasNext ? buildCursor(pageRows.get(pageRows.size() - 1)) : null;
+            int totalPages = (int) Math.ceil((double) totalCount / size);
             
-            // 7. 응답 데이터 생성
+            // 6. 응답 데이터 생성
             AppTransactionHistoryRespDto response = AppTransactionHistoryRespDto.builder()
                     .summary(summary)
                     .currentPage(request.getPage())
                     .totalPages(totalPages)
                     .hasNext(hasNext)
+                    .nextCursor(nextCursor)
                     .transactions(transactionList)
                     .build();
             
@@ -93,58 +100,40 @@ public class AppChargeService {
     }
     
     /**
-     * 거래내역 합계 계산
+     * 합계 컬럼 -> AppTransactionSummaryRespDto 변환
+     * 컬럼 순서: [6]total_deposit, [7]total_order, [8]total_adjustment, [9]total_return, [10]total_count
      */
-    private AppTransactionSummaryRespDto calculateSummary(List<CustomerAccountTransactions> transactions) {
-        int totalDeposit = 0;      // 입금 합계
-        int totalOrder = 0;        // 출금 합계 (절댓값)
-        int totalAdjustment = 0;   // 조정 합계
-        int totalReturn = 0;       // 반품입금 합계
-        
-        for (CustomerAccountTransactions transaction : transactions) {
-            String transactionType = transaction.getTransactionType();
-            Integer amount = transaction.getAmount();
-            
-            if (amount == null) continue;
-            
-            switch (transactionType) {
-                case "입금":
-                    totalDeposit += amount;
-                    break;
-                case "출금":
-                    totalOrder += Math.abs(amount); // 절댓값
-                    break;
-                case "조정":
-                    totalAdjustment += amount;
-                    break;
-                case "반품입금":
-                    totalReturn += amount;
-                    break;
-            }
-        }
-        
+    private AppTransactionSummaryRespDto convertToSummaryDto(Object[] row) {
         return AppTransactionSummaryRespDto.builder()
-                .totalDeposit(totalDeposit)
-                .totalOrder(totalOrder)
-                .totalAdjustment(totalAdjustment)
-                .totalReturn(totalReturn)
-                .totalCount((long) transactions.size())
+                .totalDeposit(toInteger(row[6]))
+                .totalOrder(toInteger(row[7]))
+                .totalAdjustment(toInteger(row[8]))
+                .totalReturn(toInteger(row[9]))
+                .totalCount(row[10] != null ? ((Number) row[10]).longValue() : 0L)
                 .build();
     }
     
     /**
-     * CustomerAccountTransactions -> AppTransactionRespDto 변환
+     * 마지막 행 기준 다음 페이지 커서 생성
+     */
+    private String buildCursor(Object[] row) {
+        return row[1] + "|" + toInteger(row[0]);
+    }
+    
+    /**
+     * 거래내역 행 -> AppTransactionRespDto 변환
+     * 컬럼 순서: [0]transaction_code, [1]transaction_date, [2]transaction_type, [3]amount, [4]balance_after, [5]created_at
      * 날짜 형식: yyyyMMdd -> YYYY-MM-DD
      */
-    private AppTransactionRespDto convertToTransactionDto(CustomerAccountTransactions transaction) {
+    private AppTransactionRespDto convertToTransactionDto(Object[] row) {
         // yyyyMMdd -> YYYY-MM-DD 변환
-        String formattedDate = formatDate(transaction.getTransactionDate());
+        String formattedDate = formatDate((String) row[1]);
         
         return AppTransactionRespDto.builder()
                 .transactionDate(formattedDate)
-                .transactionType(transaction.getTransactionType())
-                .amount(transaction.getAmount())
-                .balanceAfter(transaction.getBalanceAfter())
+                .transactionType((String) row[2])
+                .amount(toInteger(row[3]))
+                .balanceAfter(toInteger(row[4]))
                 .build();
     }
     
@@ -158,4 +147,9 @@ public class AppChargeService {
         // 20241125 -> 2024-11-25
         return dateStr.substring(0, 4) + "-" + dateStr.substring(4, 6) + "-" + dateStr.substring(6, 8);
     }
+    
+    private Integer toInteger(Object obj) {
+        if (obj == null) return 0;
+        return ((Number) obj).intValue();
+    }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import com.inc.sh.dto.order.reqDto.OrderCreateReqDto;
 import com.inc.sh.dto.order.respDto.AppOrderRespDto;
 import com.inc.sh.entity.*;
 import com.inc.sh.repository.*;
+import com.inc.sh.service.CustomerBalanceLedgerService;
+import com.inc.sh.service.DocumentSequenceService;
 import com.inc.sh.service.NotificationService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,11 +30,12 @@ public class AppOrderCreateService {
     private final OrderItemRepository orderItemRepository;
     private final CustomerRepository customerRepository;
     private final CustomerCartRepository customerCartRepository;
-    private final CustomerAccountTransactionsRepository customerAccountTransactionsRepository;
     private final DeliveryHolidayRepository deliveryHolidayRepository;
     private final OrderLimitSetRepository orderLimitSetRepository;
     private final NotificationService notificationService;
     private final DistCenterRepository distCenterRepository;
+    private final DocumentSequenceService documentSequenceService;
+    private final CustomerBalanceLedgerService customerBalanceLedgerService;
     
     /**
      * 주문 생성
@@ -199,29 +202,24 @@ public class AppOrderCreateService {
                 return RespDto.fail("잔액이 부족하여 주문처리가 되지않습니다");
             }
             
-            // 잔액 차감
-            customer.setBalanceAmt(customer.getBalanceAmt() - request.getTotalAmt());
-            customerRepository.save(customer);
-            
             // 주문 생성
             String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
             RespDto<AppOrderRespDto> orderResult = createOrderRecord(request, customer, "결제완료", "배송요청", today, distCenter);
             
             if (orderResult.getCode() == 1) {
-                // 거래내역 추가
+                // 거래내역 추가 + 잔액 원자적 차감 (동시 주문으로 잔액 부족 시 실패 → 주문 롤백)
                 CustomerAccountTransactions transaction = CustomerAccountTransactions.builder()
                         .customerCode(customer.getCustomerCode())
                         .virtualAccountCode(customer.getVirtualAccountCode())
                         .transactionDate(today)
                         .transactionType("출금")
                         .amount(request.getTotalAmt())
-                        .balanceAfter(customer.getBalanceAmt())
                         .referenceType("주문")
                         .referenceId(orderResult.getData().getOrderNo())
                         .note("주문결제")
                         .build();
                 
-                customerAccountTransactionsRepository.save(transaction);
+                customerBalanceLedgerService.post(transaction, -request.getTotalAmt(), false);
             }
             
             return orderResult;
@@ -236,8 +234,7 @@ public class AppOrderCreateService {
         try {
             // 주문번호 생성
             String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String latestOrderNo = orderRepository.findLatestOrderNoByDate(today);
-            String orderNo = generateOrderNo(today, latestOrderNo);
+            String orderNo = documentSequenceService.nextOrderNo();
             
             // Order 생성
             Order order = Order.builder()
@@ -320,19 +317,6 @@ public class AppOrderCreateService {
         }
     }
     
-    /**
-     * 주문번호 생성
-     */
-    private String generateOrderNo(String datePrefix, String latestOrderNo) {
-        if (latestOrderNo == null || latestOrderNo.isEmpty()) {
-            return datePrefix + "001";
-        }
-        
-        String sequencePart = latestOrderNo.substring(8); // 날짜 이후 순번 부분
-        int nextSequence = Integer.parseInt(sequencePart) + 1;
-        return datePrefix + String.format("%03d", nextSequence);
-    }
-    
     /**
      * 주문 실패시 장바구니 수량 복원
      */
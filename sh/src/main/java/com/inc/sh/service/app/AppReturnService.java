@@ -21,6 +21,7 @@ import com.inc.sh.repository.OrderItemRepository;
 import com.inc.sh.repository.OrderItemReturnStatusRepository;
 import com.inc.sh.repository.ReturnRepository;
 import com.inc.sh.repository.WarehouseRepository;
+import com.inc.sh.service.DocumentSequenceService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,6 +47,8 @@ public class AppReturnService {
     // ✅ 반품가능 주문품목 뷰 조회용 Repository 추가
     private final OrderItemReturnStatusRepository orderItemReturnStatusRepository;
     
+    private final DocumentSequenceService documentSequenceService;
+    
     /**
      * [앱] 반품가능한 주문번호 조회 (✅ 뷰 사용)
      */
@@ -356,17 +359,7 @@ public class AppReturnService {
      * 반품번호 생성 (RET + YYYYMMDD + 001 형태)
      */
     private String generateReturnNo() {
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String datePrefix = "RET" + today;
-        String latestReturnNo = returnRepository.findLatestReturnNoByDate(datePrefix);
-
-        int sequence = 1;
-        if (latestReturnNo != null && latestReturnNo.length() >= 14) {
-            String sequencePart = latestReturnNo.substring(11);
-            sequence = Integer.parseInt(sequencePart) + 1;
-        }
-
-        return String.format("%s%03d", datePrefix, sequence);
+        return documentSequenceService.nextReturnNo("RET");
     }
     
     /**
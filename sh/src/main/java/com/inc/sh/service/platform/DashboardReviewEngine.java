@@ -0,0 +1,236 @@
+package com.inc.sh.service.platform;
+
+import com.inc.sh.dto.platform.respDto.DashboardReviewRespDto;
+import com.inc.sh.repository.StoreReviewStatsQueryRepository;
+import com.inc.sh.repository.StoreReviewStatsQueryRepository.DashboardReviewCell;
+import com.inc.sh.repository.StoreReviewStatsQueryRepository.ReviewCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대시보드 리뷰 종합 정보 계산
+ * - 12개월 월별 플랫폼별 매장별 리뷰수/별점합을 한 번만 조회하고, 5가지 항목은 메모리에서 계산
+ * - 3개월 채널 비율/별점, 현재월 매장 순위는 12개월 구간에 포함되므로 별도 조회 없음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardReviewEngine {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int RANKING_SIZE = 10;
+    private static final int MIN_RATED_REVIEW_COUNT = 3;  // 평점 순위는 리뷰 3개 이상 매장만
+
+    private final StoreReviewStatsQueryRepository storeReviewStatsQueryRepository;
+
+    /**
+     * 기준일이 속한 월까지의 대시보드 리뷰 종합 정보
+     * @param brandCode 브랜드코드 (0이면 전체)
+     */
+    public DashboardReviewRespDto render(Integer hqCode, Integer brandCode, LocalDate baseDate) {
+        List<String> months12 = new ArrayList<>(12);
+        for (int i = 11; i >= 0; i--) {
+            months12.add(baseDate.minusMonths(i).format(MONTH_FORMAT));
+        }
+        Set<String> months3 = new HashSet<>(months12.subList(9, 12));
+        String currentMonth = months12.get(11);
+
+        long start = System.currentTimeMillis();
+        List<DashboardReviewCell> cells = storeReviewStatsQueryRepository.findDashboardReviewCells(
+                hqCode, brandCode, months12.get(0), currentMonth);
+        long queryMs = System.currentTimeMillis() - start;
+
+        // 3개월 플랫폼별, 월별 플랫폼별, 현재월 매장별 합계
+        Map<String, ReviewSum> platform3Month = new HashMap<>();
+        Map<String, Map<String, ReviewSum>> monthPlatform = new HashMap<>();
+        Map<String, ReviewSum> currentMonthStores = new HashMap<>();
+
+        for (DashboardReviewCell cell : cells) {
+            ReviewCount reviews = cell.getReviews();
+            monthPlatform.computeIfAbsent(cell.getMonth(), k -> new HashMap<>())
+                    .computeIfAbsent(cell.getPlatform(), k -> new ReviewSum(null)).add(reviews);
+            if (months3.contains(cell.getMonth())) {
+                platform3Month.computeIfAbsent(cell.getPlatform(), k -> new ReviewSum(null)).add(reviews);
+            }
+            if (currentMonth.equals(cell.getMonth())) {
+                currentMonthStores.computeIfAbsent(cell.getStoreName(), ReviewSum::new).add(reviews);
+            }
+        }
+
+        log.info("대시보드 리뷰 계산 완료 - 본사: {}, 브랜드: {}, 조회: {}건, DB: {}ms",
+                hqCode, brandCode, cells.size(), queryMs);
+
+        Comparator<String> byStoreName = Comparator.nullsFirst(Comparator.naturalOrder());
+        Comparator<ReviewSum> byRating = Comparator.comparingDouble(ReviewSum::avgRating).reversed()
+                .thenComparing(Comparator.comparingInt(ReviewSum::reviewCount).reversed())
+                .thenComparing(ReviewSum::storeName, byStoreName);
+        Comparator<ReviewSum> byReviewCount = Comparator.comparingInt(ReviewSum::reviewCount).reversed()
+                .thenComparing(Comparator.comparingDouble(ReviewSum::avgRating).reversed())
+                .thenComparing(ReviewSum::storeName, byStoreName);
+
+        List<ReviewSum> topRated = currentMonthStores.values().stream()
+                .filter(store -> store.reviewCount() >= MIN_RATED_REVIEW_COUNT)
+                .sorted(byRating)
+                .limit(RANKING_SIZE)
+                .toList();
+        List<ReviewSum> topReviewed = currentMonthStores.values().stream()
+                .sorted(byReviewCount)
+                .limit(RANKING_SIZE)
+                .toList();
+
+        return DashboardReviewRespDto.builder()
+                .channelRatio(createChannelRatio(platform3Month))
+                .channelRatings(createChannelRatings(platform3Month))
+                .channelTrend(createMonthlyTrend(monthPlatform, months12))
+                .topRatedStores(createStoreRankings(topRated, true))  // true = 평점순위
+                .topReviewedStores(createStoreRankings(topReviewed, false)) // false = 리뷰수순위
+                .build();
+    }
+
+    /**
+     * 채널별 리뷰 비율 데이터 생성
+     */
+    private DashboardReviewRespDto.ChannelRatio createChannelRatio(Map<String, ReviewSum> platformSums) {
+        int baeminCount = reviewCount(platformSums, StoreReviewStatsQueryRepository.PLATFORM_BAEMIN);
+        int yogiyoCount = reviewCount(platformSums, StoreReviewStatsQueryRepository.PLATFORM_YOGIYO);
+        int coupangCount = reviewCount(platformSums, StoreReviewStatsQueryRepository.PLATFORM_COUPANG);
+        int totalCount = baeminCount + yogiyoCount + coupangCount;
+
+        return DashboardReviewRespDto.ChannelRatio.builder()
+                .baeminCount(baeminCount)
+                .baeminRate(calculatePercentage(baeminCount, totalCount))
+                .yogiyoCount(yogiyoCount)
+                .yogiyoRate(calculatePercentage(yogiyoCount, totalCount))
+                .coupangCount(coupangCount)
+                .coupangRate(calculatePercentage(coupangCount, totalCount))
+                .totalCount(totalCount)
+                .build();
+    }
+
+    /**
+     * 채널별 별점평균 데이터 생성
+     */
+    private DashboardReviewRespDto.ChannelRatings createChannelRatings(Map<String, ReviewSum> platformSums) {
+        return DashboardReviewRespDto.ChannelRatings.builder()
+                .baeminRating(avgRating(platformSums, StoreReviewStatsQueryRepository.PLATFORM_BAEMIN))
+                .yogiyoRating(avgRating(platformSums, StoreReviewStatsQueryRepository.PLATFORM_YOGIYO))
+                .coupangRating(avgRating(platformSums, StoreReviewStatsQueryRepository.PLATFORM_COUPANG))
+                .build();
+    }
+
+    /**
+     * 월별 리뷰추이 데이터 생성 (monthList 순서, 없으면 0)
+     */
+    private List<DashboardReviewRespDto.MonthlyReviewTrend> createMonthlyTrend(
+            Map<String, Map<String, ReviewSum>> monthPlatform, List<String> monthList) {
+
+        List<DashboardReviewRespDto.MonthlyReviewTrend> trendList = new ArrayList<>(monthList.size());
+
+        for (String month : monthList) {
+            Map<String, ReviewSum> platformSums = monthPlatform.getOrDefault(month, Map.of());
+
+            int baeminCount = reviewCount(platformSums, StoreReviewStatsQueryRepository.PLATFORM_BAEMIN);
+            int yogiyoCount = reviewCount(platformSums, StoreReviewStatsQueryRepository.PLATFORM_YOGIYO);
+            int coupangCount = reviewCount(platformSums, StoreReviewStatsQueryRepository.PLATFORM_COUPANG);
+
+            trendList.add(DashboardReviewRespDto.MonthlyReviewTrend.builder()
+                    .month(convertToKoreanMonth(month))
+                    .baeminCount(baeminCount)
+                    .yogiyoCount(yogiyoCount)
+                    .coupangCount(coupangCount)
+                    .totalCount(baeminCount + yogiyoCount + coupangCount)
+                    .build());
+        }
+
+        return trendList;
+    }
+
+    /**
+     * 매장 순위 데이터 생성
+     */
+    private List<DashboardReviewRespDto.StoreRanking> createStoreRankings(List<ReviewSum> stores, boolean isRatingRank) {
+        List<DashboardReviewRespDto.StoreRanking> rankings = new ArrayList<>(stores.size());
+
+        for (int i = 0; i < stores.size(); i++) {
+            ReviewSum store = stores.get(i);
+            rankings.add(DashboardReviewRespDto.StoreRanking.builder()
+                    .rank(i + 1)  // 순위는 1부터 시작
+                    .storeName(store.storeName())
+                    .rating(isRatingRank ? store.avgRating() : null)  // 평점순위면 평점, 리뷰순위면 null
+                    .reviewCount(isRatingRank ? null : store.reviewCount())  // 리뷰순위면 리뷰수, 평점순위면 null
+                    .build());
+        }
+
+        return rankings;
+    }
+
+    private static int reviewCount(Map<String, ReviewSum> platformSums, String platform) {
+        ReviewSum sum = platformSums.get(platform);
+        return sum == null ? 0 : sum.reviewCount();
+    }
+
+    private static double avgRating(Map<String, ReviewSum> platformSums, String platform) {
+        ReviewSum sum = platformSums.get(platform);
+        return sum == null ? 0.0 : sum.avgRating();
+    }
+
+    /**
+     * 비율 계산 (소수점 1자리 + %)
+     */
+    private static String calculatePercentage(int partValue, int totalValue) {
+        if (totalValue == 0) {
+            return "0.0%";
+        }
+        double percentage = ((double) partValue / totalValue) * 100;
+        return String.format("%.1f%%", percentage);
+    }
+
+    /**
+     * YYYYMM 형식을 한글 형식으로 변환
+     * "202601" → "2026년 1월"
+     */
+    private static String convertToKoreanMonth(String yyyyMM) {
+        return yyyyMM.substring(0, 4) + "년 " + Integer.parseInt(yyyyMM.substring(4, 6)) + "월";
+    }
+
+    /**
+     * 리뷰수/별점합 누적 (매장 순위용 매장명 포함)
+     */
+    private static final class ReviewSum {
+        private final String storeName;
+        private int reviewCount;
+        private long ratingSum;
+
+        private ReviewSum(String storeName) {
+            this.storeName = storeName;
+        }
+
+        private void add(ReviewCount reviews) {
+            reviewCount += reviews.getReviewCount();
+            ratingSum += reviews.getRatingSum();
+        }
+
+        private String storeName() {
+            return storeName;
+        }
+
+        private int reviewCount() {
+            return reviewCount;
+        }
+
+        private double avgRating() {
+            return ReviewCount.builder().reviewCount(reviewCount).ratingSum(ratingSum).build().getAvgRating();
+        }
+    }
+}
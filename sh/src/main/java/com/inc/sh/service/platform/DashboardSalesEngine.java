@@ -0,0 +1,156 @@
+package com.inc.sh.service.platform;
+
+import com.inc.sh.dto.platform.respDto.DashboardSalesRespDto;
+import com.inc.sh.repository.DashboardSalesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대시보드 매출 그래프 계산
+ * - 12개월 월별 플랫폼별 매출/주문수를 한 번만 조회하고, 3개월/12개월 추이와 5개월 배달앱 비율은 메모리에서 계산
+ * - 3개월, 5개월 구간은 12개월 구간에 포함되므로 별도 조회 없음
+ * - PlatformDashboardService, DashboardSalesService 공통
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardSalesEngine {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final DashboardSalesRepository dashboardSalesRepository;
+
+    /**
+     * 기준일이 속한 월까지의 대시보드 매출 그래프 데이터
+     * @param brandCode 브랜드코드 (0이면 전체)
+     */
+    public DashboardSalesRespDto render(Integer hqCode, Integer brandCode, LocalDate baseDate) {
+        List<String> months12 = generateMonthList(baseDate, 12);
+        List<String> months5 = months12.subList(7, 12);
+        List<String> months3 = months12.subList(9, 12);
+
+        long start = System.currentTimeMillis();
+        List<Object[]> results = dashboardSalesRepository.findMonthlyPlatformSales(
+                hqCode, brandCode, months12.get(0), months12.get(11));
+        long queryMs = System.currentTimeMillis() - start;
+
+        // 월 → {매출, 주문수}, 월 → 플랫폼 → 매출
+        Map<String, long[]> monthTotals = new HashMap<>();
+        Map<String, Map<String, Long>> monthPlatformSales = new HashMap<>();
+
+        for (Object[] result : results) {
+            String month = (String) result[0];
+            String platform = (String) result[1];
+            long sales = ((Number) result[2]).longValue();
+            long orders = ((Number) result[3]).longValue();
+
+            long[] totals = monthTotals.computeIfAbsent(month, k -> new long[2]);
+            totals[0] += sales;
+            totals[1] += orders;
+            monthPlatformSales.computeIfAbsent(month, k -> new HashMap<>()).merge(platform, sales, Long::sum);
+        }
+
+        log.info("대시보드 매출 계산 완료 - 본사: {}, 브랜드: {}, 조회: {}건, DB: {}ms",
+                hqCode, brandCode, results.size(), queryMs);
+
+        return DashboardSalesRespDto.builder()
+                .sales3Month(toMonthlyData(monthTotals, months3, 0))
+                .order3Month(toMonthlyData(monthTotals, months3, 1))
+                .sales12Month(toMonthlyData(monthTotals, months12, 0))
+                .order12Month(toMonthlyData(monthTotals, months12, 1))
+                .deliveryAnalysis(toDeliveryRateData(monthPlatformSales, months5))
+                .build();
+    }
+
+    /**
+     * 월별 합계를 MonthlyData 리스트로 변환 (과거월 먼저, 현재월 마지막, 없으면 0)
+     * @param index 0: 매출, 1: 주문수
+     */
+    private List<DashboardSalesRespDto.MonthlyData> toMonthlyData(Map<String, long[]> monthTotals,
+                                                                 List<String> monthList, int index) {
+        List<DashboardSalesRespDto.MonthlyData> monthlyDataList = new ArrayList<>(monthList.size());
+
+        for (String month : monthList) {
+            long[] totals = monthTotals.get(month);
+            monthlyDataList.add(DashboardSalesRespDto.MonthlyData.builder()
+                    .month(convertToKoreanMonth(month))
+                    .value(totals == null ? 0L : totals[index])
+                    .build());
+        }
+
+        return monthlyDataList;
+    }
+
+    /**
+     * 플랫폼별 매출을 배달앱 비율 데이터로 변환
+     */
+    private List<DashboardSalesRespDto.DeliveryRateData> toDeliveryRateData(
+            Map<String, Map<String, Long>> monthPlatformSales, List<String> monthList) {
+        List<DashboardSalesRespDto.DeliveryRateData> deliveryRateList = new ArrayList<>(monthList.size());
+
+        for (String month : monthList) {
+            Map<String, Long> platformSales = monthPlatformSales.getOrDefault(month, Map.of());
+
+            // 각 플랫폼 매출 (없으면 0)
+            Long baeminSales = platformSales.getOrDefault("배민", 0L);
+            Long yogiyoSales = platformSales.getOrDefault("요기요", 0L);
+            Long coupangSales = platformSales.getOrDefault("쿠팡이츠", 0L);
+            Long totalSales = baeminSales + yogiyoSales + coupangSales;
+
+            deliveryRateList.add(DashboardSalesRespDto.DeliveryRateData.builder()
+                    .month(convertToKoreanMonth(month))
+                    .baeminRate(calculatePercentage(baeminSales, totalSales))
+                    .coupangRate(calculatePercentage(coupangSales, totalSales))
+                    .yogiyoRate(calculatePercentage(yogiyoSales, totalSales))
+                    .build());
+        }
+
+        return deliveryRateList;
+    }
+
+    /**
+     * 월 리스트 생성 (과거월 먼저, 기준월 마지막)
+     */
+    private List<String> generateMonthList(LocalDate baseDate, int count) {
+        List<String> monthList = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            monthList.add(baseDate.minusMonths(i).format(MONTH_FORMAT));
+        }
+        return monthList;
+    }
+
+    /**
+     * 비율 계산 (소수점 1자리 + %)
+     */
+    private String calculatePercentage(Number partValue, Number totalValue) {
+        if (totalValue == null || totalValue.longValue() == 0) {
+            return "0.0%";
+        }
+
+        double percentage = (partValue.doubleValue() / totalValue.doubleValue()) * 100;
+        return String.format("%.1f%%", percentage);
+    }
+
+    /**
+     * YYYYMM 형식을 한글 형식으로 변환
+     * "202601" → "2026년 1월"
+     */
+    private String convertToKoreanMonth(String yyyyMM) {
+        try {
+            String year = yyyyMM.substring(0, 4);
+            int monthInt = Integer.parseInt(yyyyMM.substring(4, 6));
+            return year + "년 " + monthInt + "월";
+        } catch (Exception e) {
+            log.warn("월 형식 변환 오류 - 입력값: {}", yyyyMM, e);
+            return yyyyMM; // 변환 실패시 원본 반환
+        }
+    }
+}
@@ -251,6 +251,12 @@ public class DeliveryAppConnectionService {
         // customer 테이블에서 customerName 조회
         Customer customer = deliveryAppConnectionRepository.findCustomerByCustomerCode(reqDto.getCustomerCode());
         
+        // 매장ID가 바뀌면 새 매장이므로 증분 동기화 워터마크 초기화 (다음 동기화는 전체 기간 조회)
+        if (!Objects.equals(existingEntity.getPlatformStoreId(), reqDto.getStoreId())) {
+            existingEntity.setOrderSyncedAt(null);
+            existingEntity.setReviewSyncedAt(null);
+        }
+        
         // 데이터 업데이트
         existingEntity.setPlatformStoreName(customer.getCustomerName());
         existingEntity.setPlatformStoreId(reqDto.getStoreId());
@@ -0,0 +1,162 @@
+package com.inc.sh.service.platform;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 하이픈 API 호출 클라이언트
+ * - 공유 HttpClient(커넥션 재사용)로 호출
+ * - 요청별 응답 타임아웃, 5xx 응답/연결 실패 시 지수 백오프 재시도
+ * - 주문/리뷰 조회 POST는 요청이 전달된 뒤의 타임아웃/IO 오류를 재시도하면 중복 처리될 수 있으므로
+ *   해당 재시도는 설정(retry-on-timeout)으로만 켜고, 켠 경우 재시도 요청은 더 짧은 타임아웃 사용
+ * - 엔드포인트(URL)별 호출수/재시도수/오류수/지연시간 집계
+ */
+@Component
+@Slf4j
+public class HyphenApiClient {
+
+    private final HttpClient httpClient;
+    private final long readTimeoutMs;
+    private final int maxRetries;
+    private final long backoffMs;
+    private final boolean retryOnTimeout;
+    private final long retryReadTimeoutMs;
+
+    private final Map<String, EndpointMetrics> metrics = new ConcurrentHashMap<>();
+
+    public HyphenApiClient(
+            HttpClient hyphenHttpClient,
+            @Value("${hyphen.http.read-timeout-ms:60000}") long readTimeoutMs,
+            @Value("${hyphen.http.max-retries:2}") int maxRetries,
+            @Value("${hyphen.http.backoff-ms:500}") long backoffMs,
+            @Value("${hyphen.http.retry-on-timeout:false}") boolean retryOnTimeout,
+            @Value("${hyphen.http.retry-read-timeout-ms:15000}") long retryReadTimeoutMs) {
+        this.httpClient = hyphenHttpClient;
+        this.readTimeoutMs = readTimeoutMs;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.backoffMs = backoffMs;
+        this.retryOnTimeout = retryOnTimeout;
+        this.retryReadTimeoutMs = Math.min(readTimeoutMs, retryReadTimeoutMs);
+    }
+
+    /**
+     * 요청 전송 (재시도 포함)
+     * - 5xx 응답은 재시도 후에도 5xx면 마지막 응답을 그대로 반환 (상태코드 처리는 호출 측 책임)
+     * - 연결 실패(요청 미전송)는 재시도 후에도 실패하면 예외 발생
+     * - 응답 타임아웃/전송 중 IO 오류는 retry-on-timeout이 켜진 경우에만 재시도 (재시도 요청은 retry-read-timeout-ms)
+     */
+    public HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        String endpoint = request.uri().getScheme() + "://" + request.uri().getAuthority() + request.uri().getPath();
+        EndpointMetrics endpointMetrics = metrics.computeIfAbsent(endpoint, k -> new EndpointMetrics());
+        HttpRequest timedRequest = withTimeout(request, readTimeoutMs);
+
+        endpointMetrics.requests.increment();
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    HttpResponse<String> response = httpClient.send(timedRequest, HttpResponse.BodyHandlers.ofString());
+
+                    if (response.statusCode() >= 500 && attempt < maxRetries) {
+                        log.warn("하이픈 API 5xx 응답 - 재시도 {}/{}, URL: {}, Status: {}",
+                                attempt + 1, maxRetries, endpoint, response.statusCode());
+                        endpointMetrics.retries.increment();
+                        backoff(attempt);
+                        continue;
+                    }
+
+                    if (response.statusCode() >= 400) {
+                        endpointMetrics.errors.increment();
+                    }
+                    return response;
+
+                } catch (ConnectException | HttpConnectTimeoutException e) {
+                    if (attempt >= maxRetries) {
+                        endpointMetrics.errors.increment();
+                        throw e;
+                    }
+                    log.warn("하이픈 API 연결 실패 - 재시도 {}/{}, URL: {}, 오류: {}",
+                            attempt + 1, maxRetries, endpoint, e.getMessage());
+                    endpointMetrics.retries.increment();
+                    backoff(attempt);
+                } catch (IOException e) {
+                    // 요청이 이미 전달됐을 수 있음 (응답 타임아웃, 전송 중 연결 끊김)
+                    if (!retryOnTimeout || attempt >= maxRetries) {
+                        endpointMetrics.errors.increment();
+                        throw e;
+                    }
+                    log.warn("하이픈 API {} - 재시도 {}/{}, URL: {}, 오류: {}",
+                            e instanceof HttpTimeoutException ? "타임아웃" : "IO 오류",
+                            attempt + 1, maxRetries, endpoint, e.getMessage());
+                    endpointMetrics.retries.increment();
+                    timedRequest = withTimeout(request, retryReadTimeoutMs);
+                    backoff(attempt);
+                }
+            }
+        } finally {
+            endpointMetrics.record((System.nanoTime() - start) / 1_000_000L);
+        }
+    }
+
+    /**
+     * 엔드포인트별 호출 지표 조회
+     */
+    public Map<String, Map<String, Object>> getMetrics() {
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        metrics.forEach((endpoint, endpointMetrics) -> snapshot.put(endpoint, endpointMetrics.snapshot()));
+        return snapshot;
+    }
+
+    private static HttpRequest withTimeout(HttpRequest request, long timeoutMs) {
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .timeout(Duration.ofMillis(timeoutMs))
+                .build();
+    }
+
+    private void backoff(int attempt) throws InterruptedException {
+        Thread.sleep(backoffMs * (1L << attempt));
+    }
+
+    /**
+     * 엔드포인트 1개의 호출 지표
+     */
+    private static class EndpointMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalLatencyMs = new LongAdder();
+        private final AtomicLong maxLatencyMs = new AtomicLong();
+
+        void record(long latencyMs) {
+            totalLatencyMs.add(latencyMs);
+            maxLatencyMs.accumulateAndGet(latencyMs, Math::max);
+        }
+
+        Map<String, Object> snapshot() {
+            long requestCount = requests.sum();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requestCount", requestCount);
+            result.put("retryCount", retries.sum());
+            result.put("errorCount", errors.sum());
+            result.put("avgLatencyMs", requestCount == 0 ? 0 : totalLatencyMs.sum() / requestCount);
+            result.put("maxLatencyMs", maxLatencyMs.get());
+            return result;
+        }
+    }
+}
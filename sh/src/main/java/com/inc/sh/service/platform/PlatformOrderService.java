@@ -9,19 +9,21 @@ import com.inc.sh.common.dto.RespDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 @Service
 @RequiredArgsConstructor
@@ -29,18 +31,18 @@ import java.util.List;
 public class PlatformOrderService {
     
     private final StorePlatformsRepository storePlatformsRepository;
-    private final OrderPlatformsRepository orderPlatformsRepository;
+    private final OrderPlatformBatchRepository orderPlatformBatchRepository;
+    private final PlatformMonthlySalesRepository platformMonthlySalesRepository;
     private final OrderDetailPlatformRepository orderDetailPlatformRepository;
     private final OrderOptionPlatformRepository orderOptionPlatformRepository;
     
-    private final ObjectMapper objectMapper;
-    
-    // 테스트용 지연 설정 (운영시 false로 변경)
-    @Value("${platform.sync.delay.enabled:true}")
-    private boolean delayEnabled;
+    private final PlatformSummaryService platformSummaryService;
+    private final PlatformSyncExecutor platformSyncExecutor;
+    private final HyphenApiClient hyphenApiClient;
+    private final TransactionTemplate transactionTemplate;
+    private final PlatformSyncWatermark platformSyncWatermark;
     
-    @Value("${platform.sync.delay.seconds:120}")
-    private int delaySeconds;
+    private final ObjectMapper objectMapper;
     
     // 하이픈 API 설정
     private static final String HYPHEN_API_URL_BAEMIN = "https://api.hyphen.im/in0022000083";
@@ -53,298 +55,125 @@ public class PlatformOrderService {
     /**
      * 배민 주문내역 전체 동기화
      */
-    @Transactional
-    public RespDto<String> syncBaeminOrders(Integer hqCode) {
-        try {
-            log.info("배민 주문내역 동기화 시작 - 본사코드: {}", hqCode);
-            
-            // 1. 배민 매장 정보 조회 (본사코드 조건 추가)
-            List<StorePlatforms> baeminStores = storePlatformsRepository.findByPlatformAndHqCodeAndIsActiveTrue("배민", hqCode);
-            
-            if (baeminStores.isEmpty()) {
-                log.warn("배민 매장 정보가 없습니다. - 본사코드: {}", hqCode);
-                return RespDto.fail("배민 매장 정보가 없습니다. (본사코드: " + hqCode + ")");
-            }
-            
-            int totalSuccess = 0;
-            int totalFailed = 0;
-            
-            // 2. 조회기간 설정 (오늘부터 7일전까지) - YYYYMMDD 형식
-            LocalDate today = LocalDate.now();
-            LocalDate sevenDaysAgo = today.minusDays(7);
-            String dateFrom = sevenDaysAgo.format(DateTimeFormatter.ofPattern("yyyyMMdd"));  // YYYYMMDD 형식
-            String dateTo = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));      // YYYYMMDD 형식
-            
-            log.info("조회기간: {} ~ {}", dateFrom, dateTo);
-            
-            // 3. 각 매장별로 주문내역 조회
-            for (StorePlatforms store : baeminStores) {
-                try {
-                    log.info("매장 주문내역 조회 시작 - 매장코드: {}, 매장명: {}", 
-                            store.getStorePlatformCode(), store.getPlatformStoreName());
-                    
-                    // 하이픈 API 호출
-                    HyphenOrderRespDto apiResponse = callHyphenOrderApi(
-                            store.getLoginId(), 
-                            store.getLoginPassword(), 
-                            dateFrom, 
-                            dateTo
-                    );
-                    
-                    if (apiResponse != null && apiResponse.getCommon() != null) {
-                        // 에러 체크
-                        if ("Y".equals(apiResponse.getCommon().getErrYn())) {
-                            log.error("하이픈 API 에러 - 매장코드: {}, 에러메시지: {}", 
-                                    store.getStorePlatformCode(), apiResponse.getCommon().getErrMsg());
-                            totalFailed++;
-                            continue;
-                        }
-                        
-                        // 성공 응답 처리
-                        if (apiResponse.getData() != null && apiResponse.getData().getTouchOrderList() != null) {
-                            // DB 저장
-                            int savedCount = saveOrdersToDatabase(store, apiResponse.getData().getTouchOrderList());
-                            totalSuccess += savedCount;
-                            
-                            // 동기화 시간 업데이트
-                            String currentTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                            storePlatformsRepository.updateLastSyncedAt(store.getStorePlatformCode(), currentTime);
-                            
-                            log.info("매장 주문내역 동기화 완료 - 매장코드: {}, 저장건수: {}", 
-                                    store.getStorePlatformCode(), savedCount);
-                        } else {
-                            log.warn("매장 주문내역 조회 결과 없음 - 매장코드: {}", store.getStorePlatformCode());
-                        }
-                    } else {
-                        log.warn("하이픈 API 응답이 null - 매장코드: {}", store.getStorePlatformCode());
-                        totalFailed++;
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("매장 주문내역 동기화 실패 - 매장코드: {}", store.getStorePlatformCode(), e);
-                    totalFailed++;
-                }
-                // 테스트용: 매장별 지연 처리 (마지막 매장 제외)
-                if (delayEnabled && baeminStores.indexOf(store) < baeminStores.size() - 1) {
-                    try {
-                        log.info("🕒 테스트용 지연 시작 - {}초 대기 (매장: {})", delaySeconds, store.getPlatformStoreName());
-                        Thread.sleep(delaySeconds * 1000L);
-                        log.info("⏰ 테스트용 지연 완료 - 다음 매장 처리 시작");
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.warn("지연 처리 중단됨");
-                    }
-                }
-            }
-            
-            String resultMessage = String.format("배민 주문내역 동기화 완료 - 성공: %d건, 실패: %d건", 
-                    totalSuccess, totalFailed);
-            log.info(resultMessage);
-            
-            return RespDto.success(resultMessage, resultMessage);
-            
-        } catch (Exception e) {
-            log.error("배민 주문내역 동기화 중 오류 발생", e);
-            return RespDto.fail("배민 주문내역 동기화 중 오류가 발생했습니다: " + e.getMessage());
-        }
+    public RespDto<String> syncBaeminOrders(Integer hqCode, boolean fullResync) {
+        return syncOrders("배민", hqCode, 7, fullResync, this::callHyphenOrderApi);
     }
     
     /**
      * 요기요 주문내역 전체 동기화
      */
-    @Transactional
-    public RespDto<String> syncYogiyoOrders(Integer hqCode) {
-        try {
-            log.info("요기요 주문내역 동기화 시작 - 본사코드: {}", hqCode);
-            
-            // 1. 요기요 매장 정보 조회 (본사코드 조건 추가)
-            List<StorePlatforms> yogiyoStores = storePlatformsRepository.findByPlatformAndHqCodeAndIsActiveTrue("요기요", hqCode);
-            
-            if (yogiyoStores.isEmpty()) {
-                log.warn("요기요 매장 정보가 없습니다. - 본사코드: {}", hqCode);
-                return RespDto.fail("요기요 매장 정보가 없습니다. (본사코드: " + hqCode + ")");
-            }
-            
-            int totalSuccess = 0;
-            int totalFailed = 0;
-            
-            // 2. 조회기간 설정 (오늘부터 7일전까지) - YYYYMMDD 형식
-            LocalDate today = LocalDate.now();
-            LocalDate sevenDaysAgo = today.minusDays(20);
-            String dateFrom = sevenDaysAgo.format(DateTimeFormatter.ofPattern("yyyyMMdd"));  // YYYYMMDD 형식
-            String dateTo = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));      // YYYYMMDD 형식
-            
-            log.info("조회기간: {} ~ {}", dateFrom, dateTo);
-            
-            // 3. 각 매장별로 주문내역 조회
-            for (StorePlatforms store : yogiyoStores) {
-                try {
-                    log.info("매장 주문내역 조회 시작 - 매장코드: {}, 매장명: {}", 
-                            store.getStorePlatformCode(), store.getPlatformStoreName());
-                    
-                    // 하이픈 API 호출 (요기요용)
-                    HyphenOrderRespDto apiResponse = callHyphenOrderApiYogiyo(
-                            store.getLoginId(), 
-                            store.getLoginPassword(), 
-                            dateFrom, 
-                            dateTo
-                    );
-                    
-                    if (apiResponse != null && apiResponse.getCommon() != null) {
-                        // 에러 체크
-                        if ("Y".equals(apiResponse.getCommon().getErrYn())) {
-                            log.error("하이픈 API 에러 - 매장코드: {}, 에러메시지: {}", 
-                                    store.getStorePlatformCode(), apiResponse.getCommon().getErrMsg());
-                            totalFailed++;
-                            continue;
-                        }
-                        
-                        // 성공 응답 처리 - DB 저장 추가
-                        if (apiResponse.getData() != null && apiResponse.getData().getTouchOrderList() != null) {
-                            // DB 저장
-                            int savedCount = saveOrdersToDatabase(store, apiResponse.getData().getTouchOrderList());
-                            totalSuccess += savedCount;
-                            
-                            // 동기화 시간 업데이트
-                            String currentTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                            storePlatformsRepository.updateLastSyncedAt(store.getStorePlatformCode(), currentTime);
-                            
-                            log.info("요기요 주문내역 동기화 완료 - 매장코드: {}, 저장건수: {}", 
-                                    store.getStorePlatformCode(), savedCount);
-                        } else {
-                            log.warn("요기요 매장 주문내역 조회 결과 없음 - 매장코드: {}", store.getStorePlatformCode());
-                        }
-                    } else {
-                        log.warn("하이픈 API 응답이 null - 매장코드: {}", store.getStorePlatformCode());
-                        totalFailed++;
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("매장 주문내역 동기화 실패 - 매장코드: {}", store.getStorePlatformCode(), e);
-                    totalFailed++;
-                }
-                // 테스트용: 매장별 지연 처리 (마지막 매장 제외)
-                if (delayEnabled && yogiyoStores.indexOf(store) < yogiyoStores.size() - 1) {
-                    try {
-                        log.info("🕒 테스트용 지연 시작 - {}초 대기 (매장: {})", delaySeconds, store.getPlatformStoreName());
-                        Thread.sleep(delaySeconds * 1000L);
-                        log.info("⏰ 테스트용 지연 완료 - 다음 매장 처리 시작");
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.warn("지연 처리 중단됨");
-                    }
-                }
-            }
-            
-            String resultMessage = String.format("요기요 주문내역 동기화 완료 - 성공: %d건, 실패: %d건", 
-                    totalSuccess, totalFailed);
-            log.info(resultMessage);
-            
-            return RespDto.success(resultMessage, resultMessage);
-            
-        } catch (Exception e) {
-            log.error("요기요 주문내역 동기화 중 오류 발생", e);
-            return RespDto.fail("요기요 주문내역 동기화 중 오류가 발생했습니다: " + e.getMessage());
-        }
+    public RespDto<String> syncYogiyoOrders(Integer hqCode, boolean fullResync) {
+        return syncOrders("요기요", hqCode, 20, fullResync, this::callHyphenOrderApiYogiyo);
     }
     
     /**
      * 쿠팡이츠 주문내역 전체 동기화
      */
-    @Transactional
-    public RespDto<String> syncCoupangOrders(Integer hqCode) {
+    public RespDto<String> syncCoupangOrders(Integer hqCode, boolean fullResync) {
+        return syncOrders("쿠팡이츠", hqCode, 20, fullResync, this::callHyphenOrderApiCoupang);
+    }
+    
+    /**
+     * 플랫폼 주문 API 호출
+     */
+    @FunctionalInterface
+    private interface OrderApiCall {
+        HyphenOrderRespDto call(String userId, String userPw, String dateFrom, String dateTo) throws Exception;
+    }
+    
+    /**
+     * 플랫폼 주문내역 전체 동기화 (공통)
+     * - 매장별 API 호출은 PlatformSyncExecutor에서 동시 실행 (플랫폼별 속도 제한)
+     * - 매장별 DB 저장은 각 매장 스레드의 개별 트랜잭션으로 처리
+     * - 매장별 주문 워터마크 기준 증분 조회 (fullResync면 daysBack 전체 조회)
+     */
+    private RespDto<String> syncOrders(String platform, Integer hqCode, int daysBack, boolean fullResync, OrderApiCall apiCall) {
         try {
-            log.info("쿠팡이츠 주문내역 동기화 시작 - 본사코드: {}", hqCode);
+            log.info("{} 주문내역 동기화 시작 - 본사코드: {}", platform, hqCode);
             
-            // 1. 쿠팡이츠 매장 정보 조회 (본사코드 조건 추가)
-            List<StorePlatforms> coupangStores = storePlatformsRepository.findByPlatformAndHqCodeAndIsActiveTrue("쿠팡이츠", hqCode);
+            // 1. 매장 정보 조회 (본사코드 조건 추가)
+            List<StorePlatforms> stores = storePlatformsRepository.findByPlatformAndHqCodeAndIsActiveTrue(platform, hqCode);
             
-            if (coupangStores.isEmpty()) {
-                log.warn("쿠팡이츠 매장 정보가 없습니다. - 본사코드: {}", hqCode);
-                return RespDto.fail("쿠팡이츠 매장 정보가 없습니다. (본사코드: " + hqCode + ")");
+            if (stores.isEmpty()) {
+                log.warn("{} 매장 정보가 없습니다. - 본사코드: {}", platform, hqCode);
+                return RespDto.fail(platform + " 매장 정보가 없습니다. (본사코드: " + hqCode + ")");
             }
             
+            // 2. 매장별 주문내역 동시 조회 및 저장 (조회기간은 매장별 워터마크로 결정)
+            log.info("{} 주문 조회 최대기간: {}일, 전체 재동기화: {}", platform, daysBack, fullResync);
+            List<PlatformSyncExecutor.StoreSyncResult<Integer>> results = platformSyncExecutor.execute(
+                    platform, hqCode, stores, store -> syncStoreOrders(store, apiCall, daysBack, fullResync));
+            
             int totalSuccess = 0;
             int totalFailed = 0;
-            
-            // 2. 조회기간 설정 (오늘부터 7일전까지) - YYYYMMDD 형식
-            LocalDate today = LocalDate.now();
-            LocalDate sevenDaysAgo = today.minusDays(20);
-            String dateFrom = sevenDaysAgo.format(DateTimeFormatter.ofPattern("yyyyMMdd"));  // YYYYMMDD 형식
-            String dateTo = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));      // YYYYMMDD 형식
-            
-            log.info("조회기간: {} ~ {}", dateFrom, dateTo);
-            
-            // 3. 각 매장별로 주문내역 조회
-            for (StorePlatforms store : coupangStores) {
-                try {
-                    log.info("매장 주문내역 조회 시작 - 매장코드: {}, 매장명: {}", 
-                            store.getStorePlatformCode(), store.getPlatformStoreName());
-                    
-                    // 하이픈 API 호출 (쿠팡이츠용)
-                    HyphenOrderRespDto apiResponse = callHyphenOrderApiCoupang(
-                            store.getLoginId(), 
-                            store.getLoginPassword(), 
-                            dateFrom, 
-                            dateTo
-                    );
-                    
-                    if (apiResponse != null && apiResponse.getCommon() != null) {
-                        // 에러 체크
-                        if ("Y".equals(apiResponse.getCommon().getErrYn())) {
-                            log.error("하이픈 API 에러 - 매장코드: {}, 에러메시지: {}", 
-                                    store.getStorePlatformCode(), apiResponse.getCommon().getErrMsg());
-                            totalFailed++;
-                            continue;
-                        }
-                        
-                        // 성공 응답 처리 - DB 저장 추가
-                        if (apiResponse.getData() != null && apiResponse.getData().getTouchOrderList() != null) {
-                            // DB 저장
-                            int savedCount = saveOrdersToDatabase(store, apiResponse.getData().getTouchOrderList());
-                            totalSuccess += savedCount;
-                            
-                            // 동기화 시간 업데이트
-                            String currentTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                            storePlatformsRepository.updateLastSyncedAt(store.getStorePlatformCode(), currentTime);
-                            
-                            log.info("쿠팡이츠 주문내역 동기화 완료 - 매장코드: {}, 저장건수: {}", 
-                                    store.getStorePlatformCode(), savedCount);
-                        } else {
-                            log.warn("쿠팡이츠 매장 주문내역 조회 결과 없음 - 매장코드: {}", store.getStorePlatformCode());
-                        }
-                    } else {
-                        log.warn("하이픈 API 응답이 null - 매장코드: {}", store.getStorePlatformCode());
-                        totalFailed++;
+            Set<Integer> affectedBrandCodes = new TreeSet<>();
+            for (PlatformSyncExecutor.StoreSyncResult<Integer> result : results) {
+                if (result.isSuccess()) {
+                    totalSuccess += result.getResult();
+                    if (result.getResult() > 0) {
+                        affectedBrandCodes.add(result.getStore().getBrandCode());
                     }
-                    
-                } catch (Exception e) {
-                    log.error("매장 주문내역 동기화 실패 - 매장코드: {}", store.getStorePlatformCode(), e);
+                } else {
                     totalFailed++;
                 }
-                // 테스트용: 매장별 지연 처리 (마지막 매장 제외)
-                if (delayEnabled && coupangStores.indexOf(store) < coupangStores.size() - 1) {
-                    try {
-                        log.info("🕒 테스트용 지연 시작 - {}초 대기 (매장: {})", delaySeconds, store.getPlatformStoreName());
-                        Thread.sleep(delaySeconds * 1000L);
-                        log.info("⏰ 테스트용 지연 완료 - 다음 매장 처리 시작");
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.warn("지연 처리 중단됨");
-                    }
-                }
             }
             
-            String resultMessage = String.format("쿠팡이츠 주문내역 동기화 완료 - 성공: %d건, 실패: %d건", 
-                    totalSuccess, totalFailed);
+            // 3. 신규 주문이 있었던 브랜드만 매장 순위 재계산 (일별 집계는 매장별 저장 시 누적 완료)
+            platformSummaryService.refreshStoreRankings(platform, affectedBrandCodes);
+            
+            String resultMessage = String.format("%s 주문내역 동기화 완료 - 성공: %d건, 실패: %d건", 
+                    platform, totalSuccess, totalFailed);
             log.info(resultMessage);
             
             return RespDto.success(resultMessage, resultMessage);
             
         } catch (Exception e) {
-            log.error("쿠팡이츠 주문내역 동기화 중 오류 발생", e);
-            return RespDto.fail("쿠팡이츠 주문내역 동기화 중 오류가 발생했습니다: " + e.getMessage());
+            log.error("{} 주문내역 동기화 중 오류 발생", platform, e);
+            return RespDto.fail(platform + " 주문내역 동기화 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 매장 1건 주문내역 조회 및 저장
+     * @return 저장건수
+     */
+    private Integer syncStoreOrders(StorePlatforms store, OrderApiCall apiCall, int daysBack, boolean fullResync) throws Exception {
+        // 조회기간 설정 - YYYYMMDD 형식 (마지막 성공 동기화 - 겹침 기간 ~ 오늘)
+        String watermark = platformSyncWatermark.now();
+        String dateFrom = platformSyncWatermark.resolveDateFrom(store.getOrderSyncedAt(), daysBack, fullResync);
+        String dateTo = LocalDate.now().format(PlatformSyncWatermark.API_DATE_FORMAT);
+        
+        log.info("매장 주문내역 조회 시작 - 매장코드: {}, 매장명: {}, 조회기간: {} ~ {}", 
+                store.getStorePlatformCode(), store.getPlatformStoreName(), dateFrom, dateTo);
+        
+        // 하이픈 API 호출 (트랜잭션 밖에서 호출)
+        HyphenOrderRespDto apiResponse = apiCall.call(store.getLoginId(), store.getLoginPassword(), dateFrom, dateTo);
+        
+        if (apiResponse == null || apiResponse.getCommon() == null) {
+            throw new RuntimeException("하이픈 API 응답이 null - 매장코드: " + store.getStorePlatformCode());
+        }
+        
+        // 에러 체크
+        if ("Y".equals(apiResponse.getCommon().getErrYn())) {
+            throw new RuntimeException("하이픈 API 에러 - 매장코드: " + store.getStorePlatformCode()
+                    + ", 에러메시지: " + apiResponse.getCommon().getErrMsg());
+        }
+        
+        List<HyphenOrderRespDto.OrderData> orders = apiResponse.getData() != null ? apiResponse.getData().getTouchOrderList() : null;
+        if (orders == null) {
+            log.warn("{} 매장 주문내역 조회 결과 없음 - 매장코드: {}", store.getPlatform(), store.getStorePlatformCode());
         }
+        
+        // DB 저장 + 워터마크/동기화 시간 업데이트 (같은 트랜잭션으로 커밋되어야 워터마크 전진)
+        Integer savedCount = transactionTemplate.execute(status -> {
+            int saved = orders != null ? saveOrdersToDatabase(store, orders) : 0;
+            storePlatformsRepository.updateOrderSyncedAt(store.getStorePlatformCode(), watermark, platformSyncWatermark.now());
+            return saved;
+        });
+        
+        log.info("{} 주문내역 동기화 완료 - 매장코드: {}, 저장건수: {}", 
+                store.getPlatform(), store.getStorePlatformCode(), savedCount);
+        return savedCount;
     }
     
     /**
@@ -422,7 +251,7 @@ public class PlatformOrderService {
                 .build();
         
         // HTTP 요청 실행
-        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = hyphenApiClient.send(request);
         
         log.info("=== 하이픈 API 응답 ({}) ===", platform);
         log.info("Status Code: {}", response.statusCode());
@@ -457,90 +286,133 @@ public class PlatformOrderService {
     
     /**
      * 주문 데이터를 DB에 저장 - 플랫폼별 핵심 필드 매핑 + storeId 검증
+     * - 기존 주문번호는 IN 조회 1회로 확인, 신규 주문은 JDBC 배치 INSERT
      */
     private int saveOrdersToDatabase(StorePlatforms store, List<HyphenOrderRespDto.OrderData> orderDataList) {
-        int savedCount = 0;
         int filteredCount = 0;
         
         log.info("주문 데이터 저장 시작 - 매장코드: {}, 플랫폼: {}, 주문건수: {}", 
                 store.getStorePlatformCode(), store.getPlatform(), orderDataList.size());
         
+        // 1. storeId 검증 + 플랫폼별 데이터 매핑 (같은 응답 내 중복 주문번호는 첫 건만 사용)
+        Map<String, OrderPlatforms> candidates = new LinkedHashMap<>();
         for (HyphenOrderRespDto.OrderData orderData : orderDataList) {
-            try {
-                // storeId 검증: API 응답의 storeId와 매장의 platformStoreId 일치 확인
-                String apiStoreId = orderData.getStoreId();
-                String platformStoreId = store.getPlatformStoreId();
-                
-                if (apiStoreId == null || !apiStoreId.equals(platformStoreId)) {
-                    log.debug("권한 없는 매장의 주문 필터링 - API storeId: {}, 매장 storeId: {}, 주문번호: {}", 
-                            apiStoreId, platformStoreId, orderData.getOrderNo());
-                    filteredCount++;
-                    continue; // 다른 매장의 주문은 저장하지 않음
-                }
-                
-                // 플랫폼별 데이터 매핑
-                String orderNo = extractOrderNo(orderData, store.getPlatform());
-                String orderDate = extractOrderDate(orderData, store.getPlatform());
-                String orderName = extractOrderName(orderData, store.getPlatform());
-                Integer orderAmount = extractOrderAmount(orderData, store.getPlatform());
-                
-                log.debug("권한 확인된 주문 처리 중 - 주문번호: {}, 플랫폼: {}, 매장ID: {}", 
-                        orderNo, store.getPlatform(), apiStoreId);
-                
-                // 중복 체크
-                if (orderPlatformsRepository.existsByOrderNo(orderNo)) {
-                    log.debug("이미 존재하는 주문 스킵 - 주문번호: {}", orderNo);
-                    continue;
-                }
-                
-                // OrderPlatforms 생성 (핵심 4개 필드)
-                OrderPlatforms orderPlatform = new OrderPlatforms();
-                orderPlatform.setStorePlatformCode(store.getStorePlatformCode());
-                orderPlatform.setCustomerCode(store.getCustomerCode());
-                orderPlatform.setBrandCode(store.getBrandCode());
-                orderPlatform.setPlatform(store.getPlatform());
-                orderPlatform.setOrderNo(orderNo);
-                orderPlatform.setOrderDate(orderDate != null ? orderDate : "");
-                orderPlatform.setOrderName(orderName); // 요기요는 null
-                orderPlatform.setOrderAmount(orderAmount != null ? orderAmount : 0);
-                
-                // 나머지 필드는 기본값
-                orderPlatform.setOrderTime(null);
-                orderPlatform.setOrderDivision(null);
-                orderPlatform.setDeliveryType(null);
-                orderPlatform.setPaymentMethod(null);
-                orderPlatform.setDeliveryAmount(0);
-                orderPlatform.setDiscountAmount(0);
-                orderPlatform.setCouponAmount(0);
-                orderPlatform.setOrderFee(0);
-                orderPlatform.setCardFee(0);
-                orderPlatform.setTax(0);
-                orderPlatform.setSettleDate(null);
-                orderPlatform.setSettleAmount(0);
-                orderPlatform.setOfflineOrderAmount(0);
-                orderPlatform.setDescription("하이픈 API 연동 - 본사:" + store.getHqCode());
-                
-                log.debug("DB 저장 시도 - 주문번호: {}, 매장코드: {}, 금액: {}", 
-                        orderNo, store.getStorePlatformCode(), orderAmount);
-                
-                // DB 저장
-                orderPlatform = orderPlatformsRepository.save(orderPlatform);
-                
-                log.debug("DB 저장 성공 - 주문번호: {}, 생성된 ID: {}", 
-                        orderNo, orderPlatform.getOrderPlatformCode());
-                
-                savedCount++;
-                
-            } catch (Exception e) {
-                log.error("주문 저장 실패 - 플랫폼: {}, 에러: {}", store.getPlatform(), e.getMessage());
-                log.error("상세 에러:", e);
+            // storeId 검증: API 응답의 storeId와 매장의 platformStoreId 일치 확인
+            String apiStoreId = orderData.getStoreId();
+            String platformStoreId = store.getPlatformStoreId();
+            
+            if (apiStoreId == null || !apiStoreId.equals(platformStoreId)) {
+                log.debug("권한 없는 매장의 주문 필터링 - API storeId: {}, 매장 storeId: {}, 주문번호: {}", 
+                        apiStoreId, platformStoreId, orderData.getOrderNo());
+                filteredCount++;
+                continue; // 다른 매장의 주문은 저장하지 않음
             }
+            
+            String orderNo = extractOrderNo(orderData, store.getPlatform());
+            if (orderNo == null) {
+                log.warn("주문번호 없는 주문 스킵 - 매장코드: {}", store.getStorePlatformCode());
+                continue;
+            }
+            candidates.putIfAbsent(orderNo, toOrderPlatform(store, orderData, orderNo));
         }
         
-        log.info("주문 데이터 저장 완료 - 매장코드: {}, 플랫폼: {}, 총주문: {}건, 권한확인: {}건, 필터링: {}건", 
-                store.getStorePlatformCode(), store.getPlatform(), orderDataList.size(), savedCount, filteredCount);
+        if (candidates.isEmpty()) {
+            log.info("주문 데이터 저장 완료 - 매장코드: {}, 플랫폼: {}, 총주문: {}건, 저장: 0건, 필터링: {}건", 
+                    store.getStorePlatformCode(), store.getPlatform(), orderDataList.size(), filteredCount);
+            return 0;
+        }
         
-        return savedCount;
+        // 2. 매장 잠금 후 기존 주문번호 일괄 조회 (중복 체크)
+        orderPlatformBatchRepository.lockStore(store.getStorePlatformCode());
+        Set<String> existingOrderNos = orderPlatformBatchRepository.findExistingOrderNos(
+                store.getStorePlatformCode(), candidates.keySet());
+        
+        List<OrderPlatforms> newOrders = new ArrayList<>();
+        for (Map.Entry<String, OrderPlatforms> entry : candidates.entrySet()) {
+            if (existingOrderNos.contains(entry.getKey())) {
+                log.debug("이미 존재하는 주문 스킵 - 주문번호: {}", entry.getKey());
+                continue;
+            }
+            newOrders.add(entry.getValue());
+        }
+        
+        // 3. 신규 주문 배치 저장 + 실제 저장된 주문만 월별/일별 매출 집계 누적 (같은 트랜잭션)
+        List<OrderPlatforms> insertedOrders = orderPlatformBatchRepository.batchInsert(newOrders);
+        platformMonthlySalesRepository.batchAccumulate(toMonthlySalesDeltas(store, insertedOrders));
+        platformSummaryService.accumulateDailySales(store, insertedOrders);
+        
+        log.info("주문 데이터 저장 완료 - 매장코드: {}, 플랫폼: {}, 총주문: {}건, 저장: {}건, 중복: {}건, 필터링: {}건", 
+                store.getStorePlatformCode(), store.getPlatform(), orderDataList.size(), insertedOrders.size(),
+                candidates.size() - insertedOrders.size(), filteredCount);
+        
+        return insertedOrders.size();
+    }
+    
+    /**
+     * 신규 주문을 월별 집계 누적분으로 변환 (주문날짜 YYYYMMDD의 앞 6자리 기준)
+     */
+    private List<PlatformMonthlySalesRepository.MonthlySalesDelta> toMonthlySalesDeltas(StorePlatforms store,
+                                                                                       List<OrderPlatforms> orders) {
+        Map<String, long[]> totalsByMonth = new TreeMap<>();
+        for (OrderPlatforms order : orders) {
+            String orderDate = order.getOrderDate();
+            if (orderDate == null || orderDate.length() < 6) {
+                continue;
+            }
+            long[] totals = totalsByMonth.computeIfAbsent(orderDate.substring(0, 6), k -> new long[2]);
+            totals[0]++;
+            totals[1] += order.getOrderAmount() != null ? order.getOrderAmount() : 0;
+        }
+
+        List<PlatformMonthlySalesRepository.MonthlySalesDelta> deltas = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : totalsByMonth.entrySet()) {
+            deltas.add(PlatformMonthlySalesRepository.MonthlySalesDelta.builder()
+                    .hqCode(store.getHqCode())
+                    .brandCode(store.getBrandCode())
+                    .storePlatformCode(store.getStorePlatformCode())
+                    .platform(store.getPlatform())
+                    .salesMonth(entry.getKey())
+                    .orderCount((int) entry.getValue()[0])
+                    .orderAmount(entry.getValue()[1])
+                    .build());
+        }
+        return deltas;
+    }
+    
+    /**
+     * API 주문 데이터 → OrderPlatforms 변환 (핵심 4개 필드, 나머지는 기본값)
+     */
+    private OrderPlatforms toOrderPlatform(StorePlatforms store, HyphenOrderRespDto.OrderData orderData, String orderNo) {
+        String orderDate = extractOrderDate(orderData, store.getPlatform());
+        String orderName = extractOrderName(orderData, store.getPlatform());
+        Integer orderAmount = extractOrderAmount(orderData, store.getPlatform());
+        
+        OrderPlatforms orderPlatform = new OrderPlatforms();
+        orderPlatform.setStorePlatformCode(store.getStorePlatformCode());
+        orderPlatform.setCustomerCode(store.getCustomerCode());
+        orderPlatform.setBrandCode(store.getBrandCode());
+        orderPlatform.setPlatform(store.getPlatform());
+        orderPlatform.setOrderNo(orderNo);
+        orderPlatform.setOrderDate(orderDate != null ? orderDate : "");
+        orderPlatform.setOrderName(orderName); // 요기요는 null
+        orderPlatform.setOrderAmount(orderAmount != null ? orderAmount : 0);
+        
+        // 나머지 필드는 기본값
+        orderPlatform.setOrderTime(null);
+        orderPlatform.setOrderDivision(null);
+        orderPlatform.setDeliveryType(null);
+        orderPlatform.setPaymentMethod(null);
+        orderPlatform.setDeliveryAmount(0);
+        orderPlatform.setDiscountAmount(0);
+        orderPlatform.setCouponAmount(0);
+        orderPlatform.setOrderFee(0);
+        orderPlatform.setCardFee(0);
+        orderPlatform.setTax(0);
+        orderPlatform.setSettleDate(null);
+        orderPlatform.setSettleAmount(0);
+        orderPlatform.setOfflineOrderAmount(0);
+        orderPlatform.setDescription("하이픈 API 연동 - 본사:" + store.getHqCode());
+        return orderPlatform;
     }
     
     /**
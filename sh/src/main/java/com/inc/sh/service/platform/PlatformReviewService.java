@@ -1,28 +1,29 @@
 package com.inc.sh.service.platform;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inc.sh.common.dto.RespDto;
 import com.inc.sh.dto.platform.respDto.HyphenReviewRespDto;
+import com.inc.sh.entity.ReviewImagePlatform;
+import com.inc.sh.entity.ReviewPlatform;
 import com.inc.sh.entity.StorePlatforms;
 import com.inc.sh.repository.StorePlatformsRepository;
-import com.inc.sh.repository.ReviewPlatformRepository;
+import com.inc.sh.repository.ReviewPlatformBatchRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.Future;
 
 @Service
 @RequiredArgsConstructor
@@ -31,14 +32,11 @@ public class PlatformReviewService {
     
     private final ObjectMapper objectMapper;
     private final StorePlatformsRepository storePlatformsRepository;
-    private final ReviewPlatformRepository reviewPlatformRepository;
-    
-    // 테스트용 지연 설정 (운영시 false로 변경)
-    @Value("${platform.sync.delay.enabled:true}")
-    private boolean delayEnabled;
-    
-    @Value("${platform.sync.delay.seconds:120}")
-    private int delaySeconds;
+    private final ReviewPlatformBatchRepository reviewPlatformBatchRepository;
+    private final PlatformSyncExecutor platformSyncExecutor;
+    private final HyphenApiClient hyphenApiClient;
+    private final TransactionTemplate transactionTemplate;
+    private final PlatformSyncWatermark platformSyncWatermark;
     
     // 하이픈 API 설정
     private static final String HYPHEN_API_URL_BAEMIN = "https://api.hyphen.im/in0022000066";
@@ -48,255 +46,62 @@ public class PlatformReviewService {
     private static final String HKEY = "30cab2cddc0a9352";
     private static final String USER_ID = "shcompany2";
     
+    // 리뷰 최대 조회기간 (워터마크가 없거나 전체 재동기화 시)
+    private static final int REVIEW_MAX_DAYS_BACK = 30;
+    
     /**
      * 배민 리뷰 동기화
      */
-    @Transactional
-    public RespDto<Map<String, Object>> syncBaeminReviews(Integer hqCode) {
-        try {
-            log.info("배민 리뷰 동기화 시작 - 본사코드: {}", hqCode);
-            
-            // 1. 해당 본사의 배민 매장 조회
-            List<StorePlatforms> authorizedStores = storePlatformsRepository
-                    .findByPlatformAndHqCodeAndIsActiveTrue("배민", hqCode);
-            
-            if (authorizedStores.isEmpty()) {
-                log.warn("배민 매장 정보가 없습니다. - 본사코드: {}", hqCode);
-                return RespDto.fail("배민 매장 정보가 없습니다. (본사코드: " + hqCode + ")");
-            }
-            
-            // 조회기간 설정 (30일간)
-            LocalDate today = LocalDate.now();
-            String dateFrom = today.minusDays(30).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String dateTo = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            
-            log.info("조회기간: {} ~ {}", dateFrom, dateTo);
-            
-            log.info("권한 있는 배민 매장 수: {}", authorizedStores.size());
-            
-            int totalReviews = 0;
-            int savedReviews = 0;
-            int duplicateReviews = 0;
-            int filteredReviews = 0;
-            int totalFailed = 0;
-            
-            // 2. 각 매장별로 리뷰 조회 및 저장
-            for (StorePlatforms store : authorizedStores) {
-                try {
-                    log.info("매장 리뷰 조회 시작 - 매장코드: {}, 매장명: {}", 
-                            store.getStorePlatformCode(), store.getPlatformStoreName());
-                    
-                    // 하이픈 API 호출 (배민은 body 없음)
-                    HyphenReviewRespDto apiResponse = callHyphenReviewApiBaemin(
-                            store.getLoginId(), store.getLoginPassword(), dateFrom, dateTo);
-                    
-                    if (apiResponse != null && apiResponse.getCommon() != null) {
-                        // 에러 체크
-                        if ("Y".equals(apiResponse.getCommon().getErrYn())) {
-                            log.error("하이픈 API 에러 - 매장코드: {}, 에러메시지: {}", 
-                                    store.getStorePlatformCode(), apiResponse.getCommon().getErrMsg());
-                            totalFailed++;
-                            continue;
-                        }
-                        
-                        // 리뷰 데이터 처리
-                        Map<String, Integer> storeResult = processStoreReviews(store, apiResponse, "배민");
-                        totalReviews += storeResult.get("total");
-                        savedReviews += storeResult.get("saved");
-                        duplicateReviews += storeResult.get("duplicate");
-                        filteredReviews += storeResult.get("filtered");
-                        
-                        // 동기화 시간 업데이트
-                        String currentTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                        storePlatformsRepository.updateLastSyncedAt(store.getStorePlatformCode(), currentTime);
-                        
-                        log.info("배민 매장 리뷰 동기화 완료 - 매장코드: {}, 저장건수: {}", 
-                                store.getStorePlatformCode(), storeResult.get("saved"));
-                                
-                    } else {
-                        log.warn("하이픈 API 응답이 null - 매장코드: {}", store.getStorePlatformCode());
-                        totalFailed++;
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("매장 리뷰 동기화 실패 - 매장코드: {}", store.getStorePlatformCode(), e);
-                    totalFailed++;
-                }
-                
-                // 테스트용: 매장별 지연 처리
-                if (delayEnabled && authorizedStores.indexOf(store) < authorizedStores.size() - 1) {
-                    try {
-                        log.info("🕒 테스트용 지연 시작 - {}초 대기 (매장: {})", delaySeconds, store.getPlatformStoreName());
-                        Thread.sleep(delaySeconds * 1000L);
-                        log.info("⏰ 테스트용 지연 완료 - 다음 매장 처리 시작");
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.warn("지연 처리 중단됨");
-                    }
-                }
-            }
-            
-            // 결과 생성
-            Map<String, Object> result = new HashMap<>();
-            result.put("hqCode", hqCode);
-            result.put("platform", "배민");
-            result.put("authorizedStoreCount", authorizedStores.size());
-            result.put("totalReviewsReceived", totalReviews);
-            result.put("savedReviewCount", savedReviews);
-            result.put("duplicateReviewCount", duplicateReviews);
-            result.put("filteredReviewCount", filteredReviews);
-            result.put("failedStoreCount", totalFailed);
-            result.put("description", "하이픈 API 연동 - 배민 리뷰 - 본사: " + hqCode);
-            
-            String resultMessage = String.format("배민 리뷰 동기화 완료 - 총:%d건, 저장:%d건, 중복:%d건, 필터링:%d건, 실패:%d매장", 
-                    totalReviews, savedReviews, duplicateReviews, filteredReviews, totalFailed);
-            log.info(resultMessage);
-            
-            return RespDto.success(resultMessage, result);
-            
-        } catch (Exception e) {
-            log.error("배민 리뷰 동기화 중 오류 발생", e);
-            return RespDto.fail("배민 리뷰 동기화 실패: " + e.getMessage());
-        }
+    public RespDto<Map<String, Object>> syncBaeminReviews(Integer hqCode, boolean fullResync) {
+        return syncReviews("배민", hqCode, fullResync, this::callHyphenReviewApiBaemin);
     }
     
     /**
      * 요기요 리뷰 동기화
      */
-    @Transactional
-    public RespDto<Map<String, Object>> syncYogiyoReviews(Integer hqCode) {
-        try {
-            log.info("요기요 리뷰 동기화 시작 - 본사코드: {}", hqCode);
-            
-            // 1. 해당 본사의 요기요 매장 조회
-            List<StorePlatforms> authorizedStores = storePlatformsRepository
-                    .findByPlatformAndHqCodeAndIsActiveTrue("요기요", hqCode);
-            
-            if (authorizedStores.isEmpty()) {
-                log.warn("요기요 매장 정보가 없습니다. - 본사코드: {}", hqCode);
-                return RespDto.fail("요기요 매장 정보가 없습니다. (본사코드: " + hqCode + ")");
-            }
-            
-            log.info("권한 있는 요기요 매장 수: {}", authorizedStores.size());
-            
-            // 조회기간 설정 (30일간)
-            LocalDate today = LocalDate.now();
-            String dateFrom = today.minusDays(30).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String dateTo = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            
-            log.info("조회기간: {} ~ {}", dateFrom, dateTo);
-            
-            int totalReviews = 0;
-            int savedReviews = 0;
-            int duplicateReviews = 0;
-            int filteredReviews = 0;
-            int totalFailed = 0;
-            
-            // 2. 각 매장별로 리뷰 조회 및 저장
-            for (StorePlatforms store : authorizedStores) {
-                try {
-                    log.info("매장 리뷰 조회 시작 - 매장코드: {}, 매장명: {}", 
-                            store.getStorePlatformCode(), store.getPlatformStoreName());
-                    
-                    // 하이픈 API 호출 (요기요)
-                    HyphenReviewRespDto apiResponse = callHyphenReviewApiYogiyo(
-                            store.getLoginId(), store.getLoginPassword(), dateFrom, dateTo);
-                    
-                    if (apiResponse != null && apiResponse.getCommon() != null) {
-                        // 에러 체크
-                        if ("Y".equals(apiResponse.getCommon().getErrYn())) {
-                            log.error("하이픈 API 에러 - 매장코드: {}, 에러메시지: {}", 
-                                    store.getStorePlatformCode(), apiResponse.getCommon().getErrMsg());
-                            totalFailed++;
-                            continue;
-                        }
-                        
-                        // 리뷰 데이터 처리
-                        Map<String, Integer> storeResult = processStoreReviews(store, apiResponse, "요기요");
-                        totalReviews += storeResult.get("total");
-                        savedReviews += storeResult.get("saved");
-                        duplicateReviews += storeResult.get("duplicate");
-                        filteredReviews += storeResult.get("filtered");
-                        
-                        // 동기화 시간 업데이트
-                        String currentTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                        storePlatformsRepository.updateLastSyncedAt(store.getStorePlatformCode(), currentTime);
-                        
-                        log.info("요기요 매장 리뷰 동기화 완료 - 매장코드: {}, 저장건수: {}", 
-                                store.getStorePlatformCode(), storeResult.get("saved"));
-                                
-                    } else {
-                        log.warn("하이픈 API 응답이 null - 매장코드: {}", store.getStorePlatformCode());
-                        totalFailed++;
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("매장 리뷰 동기화 실패 - 매장코드: {}", store.getStorePlatformCode(), e);
-                    totalFailed++;
-                }
-                
-                // 테스트용: 매장별 지연 처리
-                if (delayEnabled && authorizedStores.indexOf(store) < authorizedStores.size() - 1) {
-                    try {
-                        log.info("🕒 테스트용 지연 시작 - {}초 대기 (매장: {})", delaySeconds, store.getPlatformStoreName());
-                        Thread.sleep(delaySeconds * 1000L);
-                        log.info("⏰ 테스트용 지연 완료 - 다음 매장 처리 시작");
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.warn("지연 처리 중단됨");
-                    }
-                }
-            }
-            
-            // 결과 생성
-            Map<String, Object> result = new HashMap<>();
-            result.put("hqCode", hqCode);
-            result.put("platform", "요기요");
-            result.put("authorizedStoreCount", authorizedStores.size());
-            result.put("totalReviewsReceived", totalReviews);
-            result.put("savedReviewCount", savedReviews);
-            result.put("duplicateReviewCount", duplicateReviews);
-            result.put("filteredReviewCount", filteredReviews);
-            result.put("failedStoreCount", totalFailed);
-            result.put("description", "하이픈 API 연동 - 요기요 리뷰 - 본사: " + hqCode);
-            
-            String resultMessage = String.format("요기요 리뷰 동기화 완료 - 총:%d건, 저장:%d건, 중복:%d건, 필터링:%d건, 실패:%d매장", 
-                    totalReviews, savedReviews, duplicateReviews, filteredReviews, totalFailed);
-            log.info(resultMessage);
-            
-            return RespDto.success(resultMessage, result);
-            
-        } catch (Exception e) {
-            log.error("요기요 리뷰 동기화 중 오류 발생", e);
-            return RespDto.fail("요기요 리뷰 동기화 실패: " + e.getMessage());
-        }
+    public RespDto<Map<String, Object>> syncYogiyoReviews(Integer hqCode, boolean fullResync) {
+        return syncReviews("요기요", hqCode, fullResync, this::callHyphenReviewApiYogiyo);
     }
     
     /**
      * 쿠팡이츠 리뷰 동기화
      */
-    @Transactional
-    public RespDto<Map<String, Object>> syncCoupangReviews(Integer hqCode) {
+    public RespDto<Map<String, Object>> syncCoupangReviews(Integer hqCode, boolean fullResync) {
+        return syncReviews("쿠팡이츠", hqCode, fullResync, this::callHyphenReviewApiCoupang);
+    }
+    
+    /**
+     * 플랫폼 리뷰 API 호출
+     */
+    @FunctionalInterface
+    private interface ReviewApiCall {
+        HyphenReviewRespDto call(String userId, String userPw, String dateFrom, String dateTo) throws Exception;
+    }
+    
+    /**
+     * 플랫폼 리뷰 동기화 (공통)
+     * - 매장별 API 호출은 PlatformSyncExecutor에서 동시 실행 (플랫폼별 속도 제한)
+     * - 매장별 DB 저장은 각 매장 스레드의 개별 트랜잭션으로 처리
+     * - 매장별 리뷰 워터마크 기준 증분 조회 (fullResync면 최대 조회기간 전체 조회)
+     */
+    private RespDto<Map<String, Object>> syncReviews(String platform, Integer hqCode, boolean fullResync, ReviewApiCall apiCall) {
         try {
-            log.info("쿠팡이츠 리뷰 동기화 시작 - 본사코드: {}", hqCode);
+            log.info("{} 리뷰 동기화 시작 - 본사코드: {}", platform, hqCode);
             
-            // 1. 해당 본사의 쿠팡이츠 매장 조회
+            // 1. 해당 본사의 매장 조회
             List<StorePlatforms> authorizedStores = storePlatformsRepository
-                    .findByPlatformAndHqCodeAndIsActiveTrue("쿠팡이츠", hqCode);
+                    .findByPlatformAndHqCodeAndIsActiveTrue(platform, hqCode);
             
             if (authorizedStores.isEmpty()) {
-                log.warn("쿠팡이츠 매장 정보가 없습니다. - 본사코드: {}", hqCode);
-                return RespDto.fail("쿠팡이츠 매장 정보가 없습니다. (본사코드: " + hqCode + ")");
+                log.warn("{} 매장 정보가 없습니다. - 본사코드: {}", platform, hqCode);
+                return RespDto.fail(platform + " 매장 정보가 없습니다. (본사코드: " + hqCode + ")");
             }
             
-            // 조회기간 설정 (30일간)
-            LocalDate today = LocalDate.now();
-            String dateFrom = today.minusDays(30).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String dateTo = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            log.info("권한 있는 {} 매장 수: {}, 전체 재동기화: {}", platform, authorizedStores.size(), fullResync);
             
-            log.info("조회기간: {} ~ {}", dateFrom, dateTo);
-            
-            log.info("권한 있는 쿠팡이츠 매장 수: {}", authorizedStores.size());
+            // 2. 매장별 리뷰 동시 조회 및 저장 (조회기간은 매장별 워터마크로 결정)
+            List<PlatformSyncExecutor.StoreSyncResult<Map<String, Integer>>> results = platformSyncExecutor.execute(
+                    platform, hqCode, authorizedStores, store -> syncStoreReviews(store, platform, apiCall, fullResync));
             
             int totalReviews = 0;
             int savedReviews = 0;
@@ -304,111 +109,99 @@ public class PlatformReviewService {
             int filteredReviews = 0;
             int totalFailed = 0;
             
-            // 2. 각 매장별로 리뷰 조회 및 저장
-            for (StorePlatforms store : authorizedStores) {
-                try {
-                    log.info("매장 리뷰 조회 시작 - 매장코드: {}, 매장명: {}", 
-                            store.getStorePlatformCode(), store.getPlatformStoreName());
-                    
-                    // 하이픈 API 호출 (쿠팡이츠는 body 없음)
-                    HyphenReviewRespDto apiResponse = callHyphenReviewApiCoupang(
-                            store.getLoginId(), store.getLoginPassword(), dateFrom, dateTo);
-                    
-                    if (apiResponse != null && apiResponse.getCommon() != null) {
-                        // 에러 체크
-                        if ("Y".equals(apiResponse.getCommon().getErrYn())) {
-                            log.error("하이픈 API 에러 - 매장코드: {}, 에러메시지: {}", 
-                                    store.getStorePlatformCode(), apiResponse.getCommon().getErrMsg());
-                            totalFailed++;
-                            continue;
-                        }
-                        
-                        // 리뷰 데이터 처리
-                        Map<String, Integer> storeResult = processStoreReviews(store, apiResponse, "쿠팡이츠");
-                        totalReviews += storeResult.get("total");
-                        savedReviews += storeResult.get("saved");
-                        duplicateReviews += storeResult.get("duplicate");
-                        filteredReviews += storeResult.get("filtered");
-                        
-                        // 동기화 시간 업데이트
-                        String currentTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                        storePlatformsRepository.updateLastSyncedAt(store.getStorePlatformCode(), currentTime);
-                        
-                        log.info("쿠팡이츠 매장 리뷰 동기화 완료 - 매장코드: {}, 저장건수: {}", 
-                                store.getStorePlatformCode(), storeResult.get("saved"));
-                                
-                    } else {
-                        log.warn("하이픈 API 응답이 null - 매장코드: {}", store.getStorePlatformCode());
-                        totalFailed++;
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("매장 리뷰 동기화 실패 - 매장코드: {}", store.getStorePlatformCode(), e);
+            for (PlatformSyncExecutor.StoreSyncResult<Map<String, Integer>> storeResult : results) {
+                if (!storeResult.isSuccess()) {
                     totalFailed++;
+                    continue;
                 }
-                
-                // 테스트용: 매장별 지연 처리
-                if (delayEnabled && authorizedStores.indexOf(store) < authorizedStores.size() - 1) {
-                    try {
-                        log.info("🕒 테스트용 지연 시간 - {}초 대기 (매장: {})", delaySeconds, store.getPlatformStoreName());
-                        Thread.sleep(delaySeconds * 1000L);
-                        log.info("⏰ 테스트용 지연 완료 - 다음 매장 처리 시작");
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.warn("지연 처리 중단됨");
-                    }
-                }
+                totalReviews += storeResult.getResult().get("total");
+                savedReviews += storeResult.getResult().get("saved");
+                duplicateReviews += storeResult.getResult().get("duplicate");
+                filteredReviews += storeResult.getResult().get("filtered");
             }
             
             // 결과 생성
             Map<String, Object> result = new HashMap<>();
             result.put("hqCode", hqCode);
-            result.put("platform", "쿠팡이츠");
+            result.put("platform", platform);
             result.put("authorizedStoreCount", authorizedStores.size());
             result.put("totalReviewsReceived", totalReviews);
             result.put("savedReviewCount", savedReviews);
             result.put("duplicateReviewCount", duplicateReviews);
             result.put("filteredReviewCount", filteredReviews);
             result.put("failedStoreCount", totalFailed);
-            result.put("description", "하이픈 API 연동 - 쿠팡이츠 리뷰 - 본사: " + hqCode);
+            result.put("description", "하이픈 API 연동 - " + platform + " 리뷰 - 본사: " + hqCode);
             
-            String resultMessage = String.format("쿠팡이츠 리뷰 동기화 완료 - 총:%d건, 저장:%d건, 중복:%d건, 필터링:%d건, 실패:%d매장", 
-                    totalReviews, savedReviews, duplicateReviews, filteredReviews, totalFailed);
+            String resultMessage = String.format("%s 리뷰 동기화 완료 - 총:%d건, 저장:%d건, 중복:%d건, 필터링:%d건, 실패:%d매장", 
+                    platform, totalReviews, savedReviews, duplicateReviews, filteredReviews, totalFailed);
             log.info(resultMessage);
             
             return RespDto.success(resultMessage, result);
             
         } catch (Exception e) {
-            log.error("쿠팡이츠 리뷰 동기화 중 오류 발생", e);
-            return RespDto.fail("쿠팡이츠 리뷰 동기화 실패: " + e.getMessage());
+            log.error("{} 리뷰 동기화 중 오류 발생", platform, e);
+            return RespDto.fail(platform + " 리뷰 동기화 실패: " + e.getMessage());
         }
     }
     
+    /**
+     * 매장 1건 리뷰 조회 및 저장
+     */
+    private Map<String, Integer> syncStoreReviews(StorePlatforms store, String platform, ReviewApiCall apiCall,
+                                                  boolean fullResync) throws Exception {
+        // 조회기간 설정 (마지막 성공 동기화 - 겹침 기간 ~ 오늘, 최대 30일)
+        String watermark = platformSyncWatermark.now();
+        String dateFrom = platformSyncWatermark.resolveDateFrom(store.getReviewSyncedAt(), REVIEW_MAX_DAYS_BACK, fullResync);
+        String dateTo = LocalDate.now().format(PlatformSyncWatermark.API_DATE_FORMAT);
+        
+        log.info("매장 리뷰 조회 시작 - 매장코드: {}, 매장명: {}, 조회기간: {} ~ {}", 
+                store.getStorePlatformCode(), store.getPlatformStoreName(), dateFrom, dateTo);
+        
+        // 하이픈 API 호출 (트랜잭션 밖에서 호출)
+        HyphenReviewRespDto apiResponse = apiCall.call(store.getLoginId(), store.getLoginPassword(), dateFrom, dateTo);
+        
+        if (apiResponse == null || apiResponse.getCommon() == null) {
+            throw new RuntimeException("하이픈 API 응답이 null - 매장코드: " + store.getStorePlatformCode());
+        }
+        
+        // 에러 체크
+        if ("Y".equals(apiResponse.getCommon().getErrYn())) {
+            throw new RuntimeException("하이픈 API 에러 - 매장코드: " + store.getStorePlatformCode()
+                    + ", 에러메시지: " + apiResponse.getCommon().getErrMsg());
+        }
+        
+        // 리뷰 데이터 처리 + 워터마크/동기화 시간 업데이트 (같은 트랜잭션으로 커밋되어야 워터마크 전진)
+        Map<String, Integer> storeResult = transactionTemplate.execute(status -> {
+            Map<String, Integer> processed = processStoreReviews(store, apiResponse, platform);
+            storePlatformsRepository.updateReviewSyncedAt(store.getStorePlatformCode(), watermark, platformSyncWatermark.now());
+            return processed;
+        });
+        
+        log.info("{} 매장 리뷰 동기화 완료 - 매장코드: {}, 저장건수: {}", 
+                platform, store.getStorePlatformCode(), storeResult.get("saved"));
+        return storeResult;
+    }
+    
     /**
      * 전체 플랫폼 리뷰 동기화
+     * - 플랫폼별 속도 제한이 독립적이므로 3개 플랫폼을 동시에 실행
      */
-    public RespDto<Map<String, Object>> syncAllReviews(Integer hqCode) {
+    public RespDto<Map<String, Object>> syncAllReviews(Integer hqCode, boolean fullResync) {
         try {
             log.info("전체 플랫폼 리뷰 동기화 시작 - 본사: {}", hqCode);
             
             Map<String, Object> allResults = new HashMap<>();
             
-            // 1. 배민 리뷰 동기화
-            RespDto<Map<String, Object>> baeminResult = syncBaeminReviews(hqCode);
-            allResults.put("baemin", baeminResult);
+            Future<RespDto<Map<String, Object>>> baeminFuture = platformSyncExecutor.submit(() -> syncBaeminReviews(hqCode, fullResync));
+            Future<RespDto<Map<String, Object>>> yogiyoFuture = platformSyncExecutor.submit(() -> syncYogiyoReviews(hqCode, fullResync));
+            Future<RespDto<Map<String, Object>>> coupangFuture = platformSyncExecutor.submit(() -> syncCoupangReviews(hqCode, fullResync));
             
-            // 지연 시간 추가 (API 부하 방지)
-            Thread.sleep(1000);
+            RespDto<Map<String, Object>> baeminResult = baeminFuture.get();
+            RespDto<Map<String, Object>> yogiyoResult = yogiyoFuture.get();
+            RespDto<Map<String, Object>> coupangResult = coupangFuture.get();
             
-            // 2. 요기요 리뷰 동기화
-            RespDto<Map<String, Object>> yogiyoResult = syncYogiyoReviews(hqCode);
+            allResults.put("baemin", baeminResult);
             allResults.put("yogiyo", yogiyoResult);
-            
-            // 지연 시간 추가
-            Thread.sleep(1000);
-            
-            // 3. 쿠팡이츠 리뷰 동기화
-            RespDto<Map<String, Object>> coupangResult = syncCoupangReviews(hqCode);
             allResults.put("coupang", coupangResult);
             
             // 전체 결과 요약
@@ -496,7 +289,7 @@ public class PlatformReviewService {
         HttpRequest request = requestBuilder.POST(bodyPublisher).build();
         
         // HTTP 요청 실행
-        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = hyphenApiClient.send(request);
         
         log.info("=== 하이픈 리뷰 API 응답 ({}) ===", platform);
         log.info("Status Code: {}", response.statusCode());
@@ -505,7 +298,9 @@ public class PlatformReviewService {
         
         if (response.statusCode() == 200) {
             try {
-                HyphenReviewRespDto result = objectMapper.readValue(response.body(), HyphenReviewRespDto.class);
+                JsonNode root = objectMapper.readTree(response.body());
+                HyphenReviewRespDto result = objectMapper.treeToValue(root, HyphenReviewRespDto.class);
+                attachRawReviewJson(root, result);
                 
                 // 하이픈 API 에러 체크
                 if (result.getCommon() != null && "Y".equals(result.getCommon().getErrYn())) {
@@ -529,8 +324,10 @@ public class PlatformReviewService {
     
     /**
      * 매장별 리뷰 데이터 처리
+     * - 매장 응답 전체의 orderReviewId를 모아 중복 조회 1회
+     * - 신규 리뷰는 배치 INSERT 후 생성키로 이미지 배치 INSERT
+     * - 저장 오류는 호출 측 트랜잭션이 롤백되도록 그대로 전파
      */
-    @Transactional
     private Map<String, Integer> processStoreReviews(StorePlatforms store, HyphenReviewRespDto apiResponse, String platform) {
         
         Map<String, Integer> result = new HashMap<>();
@@ -539,131 +336,135 @@ public class PlatformReviewService {
         result.put("duplicate", 0);
         result.put("filtered", 0);
         
-        try {
-            if (apiResponse.getData() == null || apiResponse.getData().getStoreList() == null) {
-                log.warn("리뷰 데이터가 없습니다 - 매장: {}", store.getPlatformStoreName());
-                return result;
-            }
-            
-            // 매장별 리뷰 처리
-            for (HyphenReviewRespDto.StoreData storeData : apiResponse.getData().getStoreList()) {
-                String apiStoreId = storeData.getStoreId();
-                String platformStoreId = store.getPlatformStoreId();
-                
-                // storeId 검증
-                if (apiStoreId == null || !apiStoreId.equals(platformStoreId)) {
-                    log.debug("권한 없는 매장 리뷰 필터링 - API storeId: {}, 매장 storeId: {}", 
-                            apiStoreId, platformStoreId);
-                    if (storeData.getReviewList() != null) {
-                        result.put("filtered", result.get("filtered") + storeData.getReviewList().size());
-                    }
-                    continue;
-                }
-                
-                // 리뷰 저장
+        if (apiResponse.getData() == null || apiResponse.getData().getStoreList() == null) {
+            log.warn("리뷰 데이터가 없습니다 - 매장: {}", store.getPlatformStoreName());
+            return result;
+        }
+        
+        // 1. 권한 있는 매장의 리뷰만 수집
+        List<HyphenReviewRespDto.ReviewData> reviews = new ArrayList<>();
+        for (HyphenReviewRespDto.StoreData storeData : apiResponse.getData().getStoreList()) {
+            String apiStoreId = storeData.getStoreId();
+            String platformStoreId = store.getPlatformStoreId();
+            
+            // storeId 검증
+            if (apiStoreId == null || !apiStoreId.equals(platformStoreId)) {
+                log.debug("권한 없는 매장 리뷰 필터링 - API storeId: {}, 매장 storeId: {}", 
+                        apiStoreId, platformStoreId);
                 if (storeData.getReviewList() != null) {
-                    for (HyphenReviewRespDto.ReviewData review : storeData.getReviewList()) {
-                        result.put("total", result.get("total") + 1);
-                        
-                        // 중복 검사
-                        String orderReviewId = review.getOrderReviewId();
-                        if (orderReviewId != null && 
-                            reviewPlatformRepository.countByPlatformAndOrderReviewId(platform, orderReviewId) > 0) {
-                            result.put("duplicate", result.get("duplicate") + 1);
-                            log.debug("중복 리뷰 스킵 - platform: {}, orderReviewId: {}", platform, orderReviewId);
-                            continue;
-                        }
-                        
-                        // DB 저장
-                        saveReviewToDatabase(review, store, platform);
-                        result.put("saved", result.get("saved") + 1);
-                    }
+                    result.put("filtered", result.get("filtered") + storeData.getReviewList().size());
                 }
+                continue;
             }
             
-        } catch (Exception e) {
-            log.error("매장 리뷰 데이터 처리 중 오류 발생 - 매장: {}", store.getPlatformStoreName(), e);
-            // 예외 재발생하지 말고 로그만 남김
+            if (storeData.getReviewList() != null) {
+                reviews.addAll(storeData.getReviewList());
+            }
+        }
+        result.put("total", reviews.size());
+        
+        // 2. 중복 검사 (IN 조회 1회 + 같은 응답 내 중복)
+        Set<String> orderReviewIds = new HashSet<>();
+        for (HyphenReviewRespDto.ReviewData review : reviews) {
+            if (review.getOrderReviewId() != null) {
+                orderReviewIds.add(review.getOrderReviewId());
+            }
+        }
+        Set<String> seen = reviewPlatformBatchRepository.findExistingOrderReviewIds(platform, orderReviewIds);
+        
+        List<HyphenReviewRespDto.ReviewData> newReviews = new ArrayList<>();
+        List<ReviewPlatform> rows = new ArrayList<>();
+        for (HyphenReviewRespDto.ReviewData review : reviews) {
+            String orderReviewId = review.getOrderReviewId();
+            if (orderReviewId != null && !seen.add(orderReviewId)) {
+                result.put("duplicate", result.get("duplicate") + 1);
+                log.debug("중복 리뷰 스킵 - platform: {}, orderReviewId: {}", platform, orderReviewId);
+                continue;
+            }
+            newReviews.add(review);
+            rows.add(toReviewPlatform(review, store, platform));
+        }
+        
+        // 3. 리뷰 배치 저장 (생성된 review_platform_code는 입력 순서와 동일)
+        List<Integer> reviewPlatformCodes = reviewPlatformBatchRepository.batchInsertReviews(rows);
+        
+        // 4. 이미지 배치 저장
+        List<ReviewImagePlatform> images = new ArrayList<>();
+        for (int i = 0; i < newReviews.size(); i++) {
+            List<HyphenReviewRespDto.ReviewImage> imageList = newReviews.get(i).getReviewImgList();
+            if (imageList == null) {
+                continue;
+            }
+            for (int seq = 0; seq < imageList.size(); seq++) {
+                images.add(ReviewImagePlatform.builder()
+                        .reviewPlatformCode(reviewPlatformCodes.get(i))
+                        .storePlatformCode(store.getStorePlatformCode())
+                        .customerCode(store.getCustomerCode())
+                        .brandCode(store.getBrandCode())
+                        .seq(seq + 1) // 순서 (1부터 시작)
+                        .imageUrl(imageList.get(seq).getReviewImg())
+                        .description("리뷰 이미지")
+                        .build());
+            }
         }
+        reviewPlatformBatchRepository.batchInsertImages(images);
+        
+        result.put("saved", rows.size());
+        log.debug("매장 리뷰 저장 완료 - 매장: {}, 리뷰: {}건, 이미지: {}건", 
+                store.getPlatformStoreName(), rows.size(), images.size());
         
         return result;
     }
     
     /**
-     * 개별 리뷰를 DB에 저장
+     * 리뷰 응답 → review_platform 행 변환
      */
-    @Transactional
-    private void saveReviewToDatabase(HyphenReviewRespDto.ReviewData review, StorePlatforms store, String platform) {
-        try {
-            // 1. review_platform 테이블에 INSERT
-            
-            // 날짜 변환
-            LocalDate reviewDate = parseReviewDate(review.getReviewDt());
-            LocalTime reviewTime = parseReviewTime(review.getReviewTm());
-            
-            // 별점 변환
-            Integer rating = parseRating(review.getAllStar());
-            
-            // 텍스트 길이 제한
-            String orderMenu = limitString(review.getJumun(), 250);
-            String content = limitString(review.getComment(), 500);
-            String ownerReplyContent = limitString(review.getOwnerReply(), 500);
-            
-            // 사장댓글 날짜
-            LocalDate ownerReplyDate = parseOwnerReplyDate(review.getOwnerReplyDt());
-            LocalTime ownerReplyTime = parseReviewTime(review.getOwnerReplyTm());
-            
-            // 이미지 여부
-            char hasImages = (review.getReviewImgList() != null && !review.getReviewImgList().isEmpty()) ? 'Y' : 'N';
-            
-            // 원본 데이터 (개별 리뷰만)
-            String rawData = objectMapper.writeValueAsString(review);
-            
-            // DB INSERT
-            reviewPlatformRepository.insertReview(
-                    store.getStorePlatformCode(),
-                    store.getCustomerCode(),
-                    store.getBrandCode(),
-                    platform,
-                    reviewDate != null ? reviewDate.toString() : null,
-                    reviewTime != null ? reviewTime.toString() : null,
-                    rating,
-                    orderMenu,
-                    content,
-                    ownerReplyContent,
-                    ownerReplyDate != null ? ownerReplyDate.toString() : null,
-                    ownerReplyTime != null ? ownerReplyTime.toString() : null,
-                    String.valueOf(hasImages),
-                    rawData,
-                    "하이픈 API 연동 - 리뷰 - 본사:" + store.getHqCode()
-            );
-            
-            // 2. 이미지가 있으면 review_image_platform 테이블에 INSERT
-            if (review.getReviewImgList() != null && !review.getReviewImgList().isEmpty()) {
-                Integer reviewPlatformCode = reviewPlatformRepository.getLastInsertId();
-                
-                for (int i = 0; i < review.getReviewImgList().size(); i++) {
-                    HyphenReviewRespDto.ReviewImage image = review.getReviewImgList().get(i);
-                    
-                    reviewPlatformRepository.insertReviewImage(
-                            reviewPlatformCode,
-                            store.getStorePlatformCode(),
-                            store.getCustomerCode(),
-                            store.getBrandCode(),
-                            i + 1, // 순서 (1부터 시작)
-                            image.getReviewImg(),
-                            "리뷰 이미지"
-                    );
+    private ReviewPlatform toReviewPlatform(HyphenReviewRespDto.ReviewData review, StorePlatforms store, String platform) {
+        // 이미지 여부
+        boolean hasImages = review.getReviewImgList() != null && !review.getReviewImgList().isEmpty();
+        
+        return ReviewPlatform.builder()
+                .storePlatformCode(store.getStorePlatformCode())
+                .customerCode(store.getCustomerCode())
+                .brandCode(store.getBrandCode())
+                .platform(platform)
+                .reviewDate(parseReviewDate(review.getReviewDt()))
+                .reviewTime(parseReviewTime(review.getReviewTm()))
+                .rating(parseRating(review.getAllStar()))
+                .orderMenu(limitString(review.getJumun(), 250))
+                .content(limitString(review.getComment(), 500))
+                .ownerReplyContent(limitString(review.getOwnerReply(), 500))
+                .ownerReplyDate(parseOwnerReplyDate(review.getOwnerReplyDt()))
+                .ownerReplyTime(parseReviewTime(review.getOwnerReplyTm()))
+                .hasImages(hasImages ? "Y" : "N")
+                .rawData(review.getRawJson()) // 원본 데이터 (개별 리뷰 응답 그대로)
+                .description("하이픈 API 연동 - 리뷰 - 본사:" + store.getHqCode())
+                .build();
+    }
+    
+    /**
+     * 개별 리뷰 원본 JSON 연결
+     * - DTO를 다시 직렬화하지 않고 응답 트리의 reviewList 항목을 그대로 보관
+     */
+    private void attachRawReviewJson(JsonNode root, HyphenReviewRespDto result) {
+        if (result.getData() == null || result.getData().getStoreList() == null) {
+            return;
+        }
+        
+        JsonNode storeNodes = root.path("data").path("storeList");
+        List<HyphenReviewRespDto.StoreData> storeList = result.getData().getStoreList();
+        for (int i = 0; i < storeList.size(); i++) {
+            List<HyphenReviewRespDto.ReviewData> reviewList = storeList.get(i).getReviewList();
+            if (reviewList == null) {
+                continue;
+            }
+            JsonNode reviewNodes = storeNodes.path(i).path("reviewList");
+            for (int j = 0; j < reviewList.size(); j++) {
+                JsonNode reviewNode = reviewNodes.path(j);
+                if (reviewList.get(j) != null && reviewNode.isObject()) {
+                    reviewList.get(j).setRawJson(reviewNode.toString());
                 }
-                
-                log.debug("리뷰 이미지 저장 완료 - 리뷰ID: {}, 이미지수: {}", 
-                        reviewPlatformCode, review.getReviewImgList().size());
             }
-            
-        } catch (Exception e) {
-            log.error("리뷰 DB 저장 중 오류 발생 - orderReviewId: {}, 매장: {}", 
-                    review.getOrderReviewId(), store.getPlatformStoreName(), e);
-            // 개별 리뷰 저장 실패는 전체를 망치지 않도록 예외를 다시 던지지 않음
         }
     }
     
@@ -1,170 +1,129 @@
 package com.inc.sh.service.platform;
 
-import com.inc.sh.entity.DailySalesSummary;
-import com.inc.sh.entity.StoreRankingCache;
-import com.inc.sh.repository.DailySalesSummaryRepository;
-import com.inc.sh.repository.StoreRankingCacheRepository;
-import com.inc.sh.repository.OrderPlatformsRepository;
+import com.inc.sh.entity.OrderPlatforms;
+import com.inc.sh.entity.StorePlatforms;
+import com.inc.sh.repository.DailySalesSummaryBatchRepository;
+import com.inc.sh.repository.StoreRankingCacheBatchRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
+/**
+ * 플랫폼 매출 집계 (일별 매출 집계 + 매장 순위 캐시)
+ * - 일별 집계: 동기화로 새로 저장된 주문만 (매장, 일자) 단위로 누적 → 동기화 후 7일 재조회 없음
+ * - 매장 순위: 동기화에서 신규 주문이 있었던 브랜드만 최근 7일 일별 집계에서 한 번에 재계산
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PlatformSummaryService {
-    
-    private final OrderPlatformsRepository orderPlatformsRepository;
-    private final DailySalesSummaryRepository dailySalesSummaryRepository;
-    private final StoreRankingCacheRepository storeRankingCacheRepository;
-    
+
+    private static final String RANKING_PERIOD = "최근7일";
+    private static final int RANKING_DAYS = 7;
+    private static final DateTimeFormatter SUMMARY_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final DailySalesSummaryBatchRepository dailySalesSummaryBatchRepository;
+    private final StoreRankingCacheBatchRepository storeRankingCacheBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
     /**
-     * 일별 매출 집계 테이블 갱신
+     * 신규 주문분 일별 매출 집계 누적 (주문 저장과 같은 트랜잭션에서 호출)
      */
-    @Transactional
-    public void updateDailySalesSummary(String platform, Integer brandCode) {
-        try {
-            log.info("일별 매출 집계 갱신 시작 - 플랫폼: {}, 브랜드: {}", platform, brandCode);
-            
-            // 최근 7일간 데이터 집계
-            LocalDate today = LocalDate.now();
-            for (int i = 0; i < 7; i++) {
-                LocalDate targetDate = today.minusDays(i);
-                String summaryDate = targetDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                
-                // 해당일의 플랫폼별 주문 집계 조회
-                Object[] result = orderPlatformsRepository.findDailySummaryByPlatformAndDate(
-                    platform, summaryDate, brandCode);
-                
-                if (result != null && result.length >= 2) {
-                    Integer orderCount = ((Number) result[0]).intValue();
-                    Integer totalAmount = ((Number) result[1]).intValue();
-                    
-                    // 기존 집계 데이터 확인 및 갱신
-                    DailySalesSummary existing = dailySalesSummaryRepository
-                        .findByPlatformAndSummaryDateAndBrandCode(platform, summaryDate, brandCode);
-                    
-                    if (existing != null) {
-                        // 기존 데이터 갱신
-                        existing.setOrderCount(orderCount);
-                        existing.setTotalOrderAmount(totalAmount);
-                        existing.setTotalSettleAmount(totalAmount); // 일단 동일하게 설정
-                        dailySalesSummaryRepository.save(existing);
-                        log.debug("일별 집계 갱신 - 날짜: {}, 플랫폼: {}, 주문: {}건, 금액: {}원", 
-                                summaryDate, platform, orderCount, totalAmount);
-                    } else if (orderCount > 0) {
-                        // 새로운 집계 데이터 생성
-                        DailySalesSummary newSummary = DailySalesSummary.builder()
-                                .storePlatformCode(0) // 플랫폼 전체 집계
-                                .customerCode(0) // 전체 거래처
-                                .brandCode(brandCode)
-                                .platform(platform)
-                                .summaryDate(summaryDate)
-                                .orderCount(orderCount)
-                                .totalOrderAmount(totalAmount)
-                                .totalSettleAmount(totalAmount)
-                                .totalDeliveryAmount(0)
-                                .totalDiscountAmount(0)
-                                .totalFee(0)
-                                .description("하이픈 API 자동 집계")
-                                .build();
-                        
-                        dailySalesSummaryRepository.save(newSummary);
-                        log.debug("일별 집계 신규 생성 - 날짜: {}, 플랫폼: {}, 주문: {}건, 금액: {}원", 
-                                summaryDate, platform, orderCount, totalAmount);
-                    }
-                }
+    public void accumulateDailySales(StorePlatforms store, List<OrderPlatforms> newOrders) {
+        // 집계일자 → {주문수, 주문금액, 배달료, 할인금액, 수수료}
+        Map<String, long[]> totalsByDate = new TreeMap<>();
+        for (OrderPlatforms order : newOrders) {
+            String orderDate = order.getOrderDate();
+            if (orderDate == null || orderDate.length() < 8) {
+                continue;
             }
-            
-            log.info("일별 매출 집계 갱신 완료 - 플랫폼: {}, 브랜드: {}", platform, brandCode);
-            
-        } catch (Exception e) {
-            log.error("일별 매출 집계 갱신 실패 - 플랫폼: {}, 브랜드: {}", platform, brandCode, e);
+            String summaryDate = orderDate.substring(0, 4) + "-" + orderDate.substring(4, 6) + "-" + orderDate.substring(6, 8);
+            long[] totals = totalsByDate.computeIfAbsent(summaryDate, k -> new long[5]);
+            totals[0]++;
+            totals[1] += valueOf(order.getOrderAmount());
+            totals[2] += valueOf(order.getDeliveryAmount());
+            totals[3] += valueOf(order.getDiscountAmount());
+            totals[4] += valueOf(order.getOrderFee()) + valueOf(order.getCardFee());
+        }
+
+        List<DailySalesSummaryBatchRepository.DailySalesDelta> deltas = new ArrayList<>(totalsByDate.size());
+        for (Map.Entry<String, long[]> entry : totalsByDate.entrySet()) {
+            long[] totals = entry.getValue();
+            deltas.add(DailySalesSummaryBatchRepository.DailySalesDelta.builder()
+                    .storePlatformCode(store.getStorePlatformCode())
+                    .customerCode(store.getCustomerCode())
+                    .brandCode(store.getBrandCode())
+                    .platform(store.getPlatform())
+                    .summaryDate(entry.getKey())
+                    .orderCount((int) totals[0])
+                    .orderAmount((int) totals[1])
+                    .deliveryAmount((int) totals[2])
+                    .discountAmount((int) totals[3])
+                    .fee((int) totals[4])
+                    .build());
         }
+
+        dailySalesSummaryBatchRepository.batchAccumulate(deltas);
     }
-    
+
     /**
-     * 매장 순위 캐시 갱신 
+     * 매장 순위 캐시 재계산 (최근 7일, 신규 주문이 있었던 브랜드만)
+     * - 순위 갱신 실패는 동기화 결과에 영향 없음 (다음 동기화 또는 수동 재집계 시 다시 계산)
      */
-    @Transactional
-    public void updateStoreRanking(String platform, Integer brandCode) {
+    public void refreshStoreRankings(String platform, Collection<Integer> brandCodes) {
+        if (brandCodes.isEmpty()) {
+            log.info("매장 순위 갱신 스킵 - 플랫폼: {}, 신규 주문 없음", platform);
+            return;
+        }
+
         try {
-            log.info("매장 순위 갱신 시작 - 플랫폼: {}, 브랜드: {}", platform, brandCode);
-            
-            // 최근 7일 기준 매장별 순위 계산
-            updateStoreRankingByType(platform, brandCode, "매출순위", "최근7일");
-            updateStoreRankingByType(platform, brandCode, "주문수순위", "최근7일");
-            
-            log.info("매장 순위 갱신 완료 - 플랫폼: {}, 브랜드: {}", platform, brandCode);
-            
+            long start = System.currentTimeMillis();
+            String startDate = LocalDate.now().minusDays(RANKING_DAYS).format(SUMMARY_DATE_FORMAT);
+
+            Integer rows = transactionTemplate.execute(status -> storeRankingCacheBatchRepository.refreshRankings(
+                    platform, brandCodes, RANKING_PERIOD, startDate));
+
+            log.info("매장 순위 갱신 완료 - 플랫폼: {}, 브랜드: {}, 순위행: {}건, 소요: {}ms",
+                    platform, brandCodes, rows, System.currentTimeMillis() - start);
+
         } catch (Exception e) {
-            log.error("매장 순위 갱신 실패 - 플랫폼: {}, 브랜드: {}", platform, brandCode, e);
+            log.error("매장 순위 갱신 실패 - 플랫폼: {}, 브랜드: {}", platform, brandCodes, e);
         }
     }
-    
+
     /**
-     * 순위 유형별 매장 순위 갱신
+     * 일별 매출 집계 + 매장 순위 재집계 (원본 주문 기준, brandCode가 null이면 전체 브랜드)
+     * @param days 재집계 기간 (오늘 포함 최근 N일)
+     * @return 재집계된 일별 집계 행 수
      */
-    private void updateStoreRankingByType(String platform, Integer brandCode, String rankingType, String period) {
-        try {
-            // 7일전 날짜 계산
-            LocalDate sevenDaysAgo = LocalDate.now().minusDays(7);
-            String startDate = sevenDaysAgo.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            
-            List<Object[]> rankings;
-            
-            if ("매출순위".equals(rankingType)) {
-                // 매출액 기준 순위
-                rankings = orderPlatformsRepository.findStoreRankingByAmount(platform, startDate, brandCode);
-            } else {
-                // 주문수 기준 순위
-                rankings = orderPlatformsRepository.findStoreRankingByOrderCount(platform, startDate, brandCode);
-            }
-            
-            // 기존 캐시 데이터 삭제 (해당 플랫폼, 유형, 기간)
-            storeRankingCacheRepository.deleteByPlatformAndRankingTypeAndRankingPeriodAndBrandCode(
-                platform, rankingType, period, brandCode);
-            
-            // 새로운 순위 데이터 저장
-            int rank = 1;
-            for (Object[] ranking : rankings) {
-                if (ranking.length >= 4) {
-                    Integer storePlatformCode = ((Number) ranking[0]).intValue();
-                    Integer customerCode = ((Number) ranking[1]).intValue();
-                    String storeName = (String) ranking[2];
-                    Number metricValue = (Number) ranking[3];
-                    
-                    StoreRankingCache rankingCache = StoreRankingCache.builder()
-                            .storePlatformCode(storePlatformCode)
-                            .customerCode(customerCode)
-                            .brandCode(brandCode)
-                            .rankingType(rankingType)
-                            .rankingPeriod(period)
-                            .platform(platform)
-                            .storeName(storeName)
-                            .metricValue(BigDecimal.valueOf(metricValue.doubleValue()))
-                            .rankNumber(rank)
-                            .lastUpdatedAt(LocalDateTime.now())
-                            .description("하이픈 API 자동 집계")
-                            .build();
-                    
-                    storeRankingCacheRepository.save(rankingCache);
-                    
-                    log.debug("매장 순위 저장 - 순위: {}, 매장: {}, 값: {}", rank, storeName, metricValue);
-                    rank++;
-                }
-            }
-            
-        } catch (Exception e) {
-            log.error("매장 순위 갱신 실패 - 플랫폼: {}, 유형: {}", platform, rankingType, e);
-        }
+    public int rebuildSummaries(Integer brandCode, int days) {
+        long start = System.currentTimeMillis();
+        String summaryStartDate = LocalDate.now().minusDays(Math.max(days, 1) - 1L).format(SUMMARY_DATE_FORMAT);
+        String rankingStartDate = LocalDate.now().minusDays(RANKING_DAYS).format(SUMMARY_DATE_FORMAT);
+        List<Integer> brandCodes = brandCode == null ? null : List.of(brandCode);
+
+        Integer rows = transactionTemplate.execute(status -> {
+            int summaryRows = dailySalesSummaryBatchRepository.rebuild(brandCode, summaryStartDate);
+            storeRankingCacheBatchRepository.refreshRankings(null, brandCodes, RANKING_PERIOD, rankingStartDate);
+            return summaryRows;
+        });
+
+        log.info("일별 매출 집계 재집계 완료 - 브랜드: {}, 시작일: {}, 집계행: {}건, 소요: {}ms",
+                brandCode == null ? "전체" : brandCode, summaryStartDate, rows, System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    private static long valueOf(Integer value) {
+        return value != null ? value : 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,248 @@
+package com.inc.sh.service.platform;
+
+import com.inc.sh.common.util.TokenBucket;
+import com.inc.sh.entity.StorePlatforms;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플랫폼 매장 동기화 실행기
+ * - 매장별 동기화를 가상 스레드에서 동시에 실행
+ * - 플랫폼별 토큰버킷으로 API 호출 속도를 제한하고, 플랫폼별 동시 실행 매장 수(max-in-flight)를 제한
+ * - 매장별 진행상황을 로그와 진행현황 조회로 제공 (완료 후 보관기간이 지나면 삭제)
+ */
+@Component
+@Slf4j
+public class PlatformSyncExecutor {
+
+    private final int maxInFlight;
+    private final double permitsPerSecond;
+    private final int burst;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> inFlightLimits = new ConcurrentHashMap<>();
+    private final Map<String, SyncProgress> progresses = new ConcurrentHashMap<>();
+
+    // 완료된 진행현황 보관기간
+    @Value("${platform.sync.progress-retention-minutes:30}")
+    private long progressRetentionMinutes = 30;
+
+    // 토큰버킷 시계 (테스트에서 가짜 시계로 교체)
+    private TokenBucket.Clock clock = TokenBucket.Clock.SYSTEM;
+
+    public PlatformSyncExecutor(
+            @Value("${platform.sync.max-in-flight:4}") int maxInFlight,
+            @Value("${platform.sync.permits-per-second:1.0}") double permitsPerSecond,
+            @Value("${platform.sync.burst:1}") int burst) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+    }
+
+    /**
+     * 매장 1건 동기화 작업
+     */
+    @FunctionalInterface
+    public interface StoreSyncTask<T> {
+        T sync(StorePlatforms store) throws Exception;
+    }
+
+    /**
+     * 매장 1건 동기화 결과
+     */
+    @Getter
+    @Builder
+    public static class StoreSyncResult<T> {
+        private final StorePlatforms store;
+        private final boolean success;
+        private final T result;
+        private final Exception error;
+        private final long elapsedMs;
+    }
+
+    /**
+     * 플랫폼/본사별 동기화 진행현황
+     */
+    @Getter
+    public static class SyncProgress {
+        private final String platform;
+        private final Integer hqCode;
+        private final int totalCount;
+        private final AtomicInteger completedCount = new AtomicInteger();
+        private final AtomicInteger failedCount = new AtomicInteger();
+        private final Map<Integer, String> storeStatuses = Collections.synchronizedMap(new LinkedHashMap<>());
+        private volatile Long finishedNanos;
+
+        SyncProgress(String platform, Integer hqCode, List<StorePlatforms> stores) {
+            this.platform = platform;
+            this.hqCode = hqCode;
+            this.totalCount = stores.size();
+            for (StorePlatforms store : stores) {
+                storeStatuses.put(store.getStorePlatformCode(), "대기");
+            }
+        }
+
+        public boolean isFinished() {
+            return completedCount.get() >= totalCount;
+        }
+
+        void markFinished(long nanos) {
+            finishedNanos = nanos;
+        }
+
+        boolean isExpired(long nanos, long retentionNanos) {
+            Long finished = finishedNanos;
+            return finished != null && nanos - finished > retentionNanos;
+        }
+    }
+
+    /**
+     * 매장 목록 동시 동기화
+     * - 매장마다 토큰을 1개 소비한 뒤 작업 실행
+     * - 한 매장의 실패는 다른 매장에 영향을 주지 않음
+     * @return 매장 순서대로 정렬된 결과 목록
+     */
+    public <T> List<StoreSyncResult<T>> execute(String platform, Integer hqCode, List<StorePlatforms> stores,
+                                                StoreSyncTask<T> task) {
+        TokenBucket bucket = buckets.computeIfAbsent(platform, p -> new TokenBucket(permitsPerSecond, burst, clock));
+        Semaphore inFlight = inFlightLimits.computeIfAbsent(platform, p -> new Semaphore(maxInFlight));
+        SyncProgress progress = new SyncProgress(platform, hqCode, stores);
+        evictFinishedProgresses();
+        progresses.put(progressKey(platform, hqCode), progress);
+
+        log.info("[{}] 매장 동기화 시작 - 본사: {}, 매장수: {}, 동시실행: {}, 초당호출: {}",
+                platform, hqCode, stores.size(), maxInFlight, permitsPerSecond);
+
+        List<Future<StoreSyncResult<T>>> futures = new ArrayList<>();
+        for (StorePlatforms store : stores) {
+            futures.add(executor.submit(() -> runStore(platform, store, task, bucket, inFlight, progress)));
+        }
+
+        List<StoreSyncResult<T>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(f -> f.cancel(true));
+                    throw new RuntimeException("[" + platform + "] 매장 동기화가 중단되었습니다.", e);
+                } catch (ExecutionException e) {
+                    Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    results.add(StoreSyncResult.<T>builder().store(stores.get(i)).success(false).error(cause).build());
+                }
+            }
+        } finally {
+            progress.markFinished(clock.nanoTime());
+        }
+
+        log.info("[{}] 매장 동기화 종료 - 본사: {}, 완료: {}, 실패: {}",
+                platform, hqCode, progress.getCompletedCount().get(), progress.getFailedCount().get());
+        return results;
+    }
+
+    /**
+     * 임의 작업을 동기화 실행기에서 비동기로 실행 (플랫폼 간 병렬 실행용)
+     */
+    public Future<?> submit(Runnable runnable) {
+        return executor.submit(runnable);
+    }
+
+    public <T> Future<T> submit(Callable<T> callable) {
+        return executor.submit(callable);
+    }
+
+    /**
+     * 플랫폼별 토큰버킷 (해당 플랫폼 동기화가 실행된 적 없으면 null)
+     */
+    public TokenBucket getBucket(String platform) {
+        return buckets.get(platform);
+    }
+
+    /**
+     * 동기화 진행현황 조회 (진행 중이거나 보관기간 내에 완료된 동기화)
+     */
+    public SyncProgress getProgress(String platform, Integer hqCode) {
+        evictFinishedProgresses();
+        return progresses.get(progressKey(platform, hqCode));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> StoreSyncResult<T> runStore(String platform, StorePlatforms store, StoreSyncTask<T> task,
+                                            TokenBucket bucket, Semaphore inFlight, SyncProgress progress)
+            throws InterruptedException {
+        inFlight.acquire();
+        long start = System.currentTimeMillis();
+        StoreSyncResult<T> result;
+        try {
+            bucket.acquire();
+            progress.getStoreStatuses().put(store.getStorePlatformCode(), "진행중");
+
+            T value = task.sync(store);
+            result = StoreSyncResult.<T>builder()
+                    .store(store)
+                    .success(true)
+                    .result(value)
+                    .elapsedMs(System.currentTimeMillis() - start)
+                    .build();
+            progress.getStoreStatuses().put(store.getStorePlatformCode(), "완료");
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("[{}] 매장 동기화 실패 - 매장코드: {}", platform, store.getStorePlatformCode(), e);
+            progress.getFailedCount().incrementAndGet();
+            progress.getStoreStatuses().put(store.getStorePlatformCode(), "실패: " + e.getMessage());
+            result = StoreSyncResult.<T>builder()
+                    .store(store)
+                    .success(false)
+                    .error(e)
+                    .elapsedMs(System.currentTimeMillis() - start)
+                    .build();
+        } finally {
+            inFlight.release();
+        }
+
+        log.info("[{}] 매장 동기화 진행 {}/{} - 매장코드: {}, 매장명: {}, 결과: {}, 소요: {}ms",
+                platform, progress.getCompletedCount().incrementAndGet(), progress.getTotalCount(),
+                store.getStorePlatformCode(), store.getPlatformStoreName(),
+                result.isSuccess() ? "성공" : "실패", result.getElapsedMs());
+        return result;
+    }
+
+    /**
+     * 완료 후 보관기간이 지난 진행현황 삭제
+     */
+    private void evictFinishedProgresses() {
+        long now = clock.nanoTime();
+        long retentionNanos = TimeUnit.MINUTES.toNanos(progressRetentionMinutes);
+        progresses.values().removeIf(progress -> progress.isExpired(now, retentionNanos));
+    }
+
+    private String progressKey(String platform, Integer hqCode) {
+        return platform + ":" + hqCode;
+    }
+}
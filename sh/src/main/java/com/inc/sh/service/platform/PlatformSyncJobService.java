@@ -0,0 +1,260 @@
+package com.inc.sh.service.platform;
+
+import com.inc.sh.common.dto.RespDto;
+import com.inc.sh.dto.platform.respDto.PlatformSyncJobRespDto;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 주문 동기화 작업 관리
+ * - (본사, 플랫폼)당 작업 1개를 전용 작업 스레드풀(동시 실행 수/대기열 크기 제한)에서 실행하고 요청 스레드는 바로 반환
+ * - 같은 본사/플랫폼의 작업이 대기 또는 진행 중이면 새로 만들지 않고 기존 작업 반환
+ * - 작업 상태/매장별 진행현황 조회와 취소(진행 중이면 인터럽트) 제공
+ * - 종료된 작업은 최근 N건만 메모리에 보관
+ */
+@Service
+@Slf4j
+public class PlatformSyncJobService {
+
+    public static final List<String> PLATFORMS = List.of("배민", "요기요", "쿠팡이츠");
+
+    public static final String STATUS_PENDING = "대기";
+    public static final String STATUS_RUNNING = "진행중";
+    public static final String STATUS_COMPLETED = "완료";
+    public static final String STATUS_FAILED = "실패";
+    public static final String STATUS_CANCELLED = "취소";
+
+    private final PlatformOrderService platformOrderService;
+    private final PlatformSyncExecutor platformSyncExecutor;
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, SyncJob> activeJobs = new ConcurrentHashMap<>();
+    private final Map<String, SyncJob> jobs;
+
+    public PlatformSyncJobService(PlatformOrderService platformOrderService,
+                                  PlatformSyncExecutor platformSyncExecutor,
+                                  @Value("${platform.sync.job.max-concurrent:3}") int maxConcurrent,
+                                  @Value("${platform.sync.job.queue-capacity:30}") int queueCapacity,
+                                  @Value("${platform.sync.job.history-size:200}") int historySize) {
+        this.platformOrderService = platformOrderService;
+        this.platformSyncExecutor = platformSyncExecutor;
+
+        int threads = Math.max(1, maxConcurrent);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("platform-sync-job-", 1).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        int capacity = Math.max(1, historySize);
+        this.jobs = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SyncJob> eldest) {
+                return size() > capacity && eldest.getValue().isFinished();
+            }
+        };
+    }
+
+    /**
+     * 동기화 작업 1건 (상태 변경은 작업 단위로 동기화)
+     */
+    @Getter
+    public static class SyncJob {
+        private final String jobId = UUID.randomUUID().toString();
+        private final Integer hqCode;
+        private final String platform;
+        private final boolean fullResync;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile String status = STATUS_PENDING;
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile Future<?> future;
+
+        SyncJob(Integer hqCode, String platform, boolean fullResync) {
+            this.hqCode = hqCode;
+            this.platform = platform;
+            this.fullResync = fullResync;
+        }
+
+        public boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        synchronized boolean start() {
+            if (!STATUS_PENDING.equals(status)) {
+                return false;
+            }
+            status = STATUS_RUNNING;
+            startedAt = LocalDateTime.now();
+            return true;
+        }
+
+        synchronized boolean finish(String finalStatus, String finalMessage) {
+            if (isFinished()) {
+                return false;
+            }
+            status = finalStatus;
+            message = finalMessage;
+            finishedAt = LocalDateTime.now();
+            return true;
+        }
+    }
+
+    /**
+     * 본사의 모든 플랫폼 동기화 작업 요청
+     */
+    public List<SyncJob> submitAll(Integer hqCode, boolean fullResync) {
+        List<SyncJob> submitted = new ArrayList<>();
+        for (String platform : PLATFORMS) {
+            submitted.add(submit(hqCode, platform, fullResync));
+        }
+        return submitted;
+    }
+
+    /**
+     * 플랫폼 동기화 작업 요청 (같은 본사/플랫폼 작업이 대기/진행 중이면 기존 작업 반환)
+     */
+    public synchronized SyncJob submit(Integer hqCode, String platform, boolean fullResync) {
+        if (!PLATFORMS.contains(platform)) {
+            throw new RuntimeException("지원하지 않는 플랫폼입니다: " + platform);
+        }
+
+        String key = jobKey(hqCode, platform);
+        SyncJob active = activeJobs.get(key);
+        if (active != null && !active.isFinished()) {
+            log.info("[{}] 동기화 작업 진행 중 - 기존 작업 반환 (본사: {}, 작업: {})", platform, hqCode, active.getJobId());
+            return active;
+        }
+
+        SyncJob job = new SyncJob(hqCode, platform, fullResync);
+        try {
+            job.future = executor.submit(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            throw new RuntimeException("동기화 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        activeJobs.put(key, job);
+        synchronized (jobs) {
+            jobs.put(job.getJobId(), job);
+        }
+        log.info("[{}] 동기화 작업 등록 - 본사: {}, 작업: {}, 대기: {}건", platform, hqCode, job.getJobId(), executor.getQueue().size());
+        return job;
+    }
+
+    /**
+     * 작업 취소 (대기 중이면 실행하지 않고, 진행 중이면 매장 동기화 인터럽트)
+     * @return 취소된 작업 (없으면 null, 이미 종료된 작업이면 예외)
+     */
+    public SyncJob cancel(String jobId) {
+        SyncJob job = getJob(jobId);
+        if (job == null) {
+            return null;
+        }
+        if (!job.finish(STATUS_CANCELLED, "사용자 요청으로 취소")) {
+            throw new RuntimeException("이미 종료된 동기화 작업입니다: " + job.getStatus());
+        }
+
+        activeJobs.remove(jobKey(job.getHqCode(), job.getPlatform()), job);
+        Future<?> future = job.getFuture();
+        if (future != null) {
+            future.cancel(true);
+        }
+        log.info("[{}] 동기화 작업 취소 - 본사: {}, 작업: {}", job.getPlatform(), job.getHqCode(), jobId);
+        return job;
+    }
+
+    public SyncJob getJob(String jobId) {
+        synchronized (jobs) {
+            return jobs.get(jobId);
+        }
+    }
+
+    /**
+     * 본사 작업 목록 (최근 요청 순)
+     */
+    public List<SyncJob> getJobs(Integer hqCode) {
+        List<SyncJob> result = new ArrayList<>();
+        synchronized (jobs) {
+            for (SyncJob job : jobs.values()) {
+                if (hqCode == null || hqCode.equals(job.getHqCode())) {
+                    result.add(0, job);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 작업 상태 + 매장별 진행현황 응답 변환
+     */
+    public PlatformSyncJobRespDto toResp(SyncJob job) {
+        PlatformSyncExecutor.SyncProgress progress = job.getStartedAt() == null
+                ? null : platformSyncExecutor.getProgress(job.getPlatform(), job.getHqCode());
+
+        return PlatformSyncJobRespDto.builder()
+                .jobId(job.getJobId())
+                .hqCode(job.getHqCode())
+                .platform(job.getPlatform())
+                .fullResync(job.isFullResync())
+                .status(job.getStatus())
+                .message(job.getMessage())
+                .totalStoreCount(progress != null ? progress.getTotalCount() : null)
+                .completedStoreCount(progress != null ? progress.getCompletedCount().get() : null)
+                .failedStoreCount(progress != null ? progress.getFailedCount().get() : null)
+                .submittedAt(job.getSubmittedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(SyncJob job) {
+        if (!job.start()) {
+            return; // 대기 중 취소
+        }
+
+        log.info("[{}] 동기화 작업 시작 - 본사: {}, 작업: {}", job.getPlatform(), job.getHqCode(), job.getJobId());
+        try {
+            RespDto<String> result = switch (job.getPlatform()) {
+                case "배민" -> platformOrderService.syncBaeminOrders(job.getHqCode(), job.isFullResync());
+                case "요기요" -> platformOrderService.syncYogiyoOrders(job.getHqCode(), job.isFullResync());
+                default -> platformOrderService.syncCoupangOrders(job.getHqCode(), job.isFullResync());
+            };
+
+            boolean success = result != null && result.getCode() == 1;
+            job.finish(success ? STATUS_COMPLETED : STATUS_FAILED, result != null ? result.getMessage() : null);
+
+        } catch (Exception e) {
+            log.error("[{}] 동기화 작업 실패 - 본사: {}, 작업: {}", job.getPlatform(), job.getHqCode(), job.getJobId(), e);
+            job.finish(STATUS_FAILED, e.getMessage());
+        } finally {
+            activeJobs.remove(jobKey(job.getHqCode(), job.getPlatform()), job);
+            log.info("[{}] 동기화 작업 종료 - 본사: {}, 작업: {}, 상태: {}",
+                    job.getPlatform(), job.getHqCode(), job.getJobId(), job.getStatus());
+        }
+    }
+
+    private String jobKey(Integer hqCode, String platform) {
+        return hqCode + ":" + platform;
+    }
+}
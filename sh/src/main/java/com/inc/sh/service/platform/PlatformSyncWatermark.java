@@ -0,0 +1,63 @@
+package com.inc.sh.service.platform;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 플랫폼 증분 동기화 기준시각(워터마크) 계산
+ * - 매장별 마지막 성공 동기화 시각에서 겹침 기간(overlap-days)만큼 앞당겨 조회 시작일 결정
+ * - 워터마크가 없거나 전체 재동기화 요청이면 플랫폼 기본 조회기간 사용
+ * - 조회 시작일은 기본 조회기간보다 과거로 가지 않음
+ */
+@Component
+@Slf4j
+public class PlatformSyncWatermark {
+
+    public static final DateTimeFormatter WATERMARK_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    public static final DateTimeFormatter API_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final int overlapDays;
+
+    public PlatformSyncWatermark(@Value("${platform.sync.overlap-days:1}") int overlapDays) {
+        this.overlapDays = Math.max(0, overlapDays);
+    }
+
+    /**
+     * 현재 시각 워터마크 (API 호출 직전에 잡아야 호출 중 들어온 데이터가 다음 동기화에 포함됨)
+     */
+    public String now() {
+        return LocalDateTime.now().format(WATERMARK_FORMAT);
+    }
+
+    /**
+     * 조회 시작일 계산 (YYYYMMDD)
+     */
+    public String resolveDateFrom(String watermark, int maxDaysBack, boolean fullResync) {
+        LocalDate today = LocalDate.now();
+        LocalDate oldest = today.minusDays(maxDaysBack);
+
+        if (fullResync || watermark == null || watermark.isBlank()) {
+            return oldest.format(API_DATE_FORMAT);
+        }
+
+        try {
+            LocalDate from = LocalDateTime.parse(watermark, WATERMARK_FORMAT).toLocalDate().minusDays(overlapDays);
+            if (from.isBefore(oldest)) {
+                from = oldest;
+            }
+            if (from.isAfter(today)) {
+                from = today;
+            }
+            return from.format(API_DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            log.warn("동기화 워터마크 형식 오류: {} - 기본 조회기간 사용", watermark);
+            return oldest.format(API_DATE_FORMAT);
+        }
+    }
+}
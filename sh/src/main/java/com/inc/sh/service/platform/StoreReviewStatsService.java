@@ -5,6 +5,7 @@ import com.inc.sh.dto.platform.reqDto.StoreReviewStatsReqDto;
 import com.inc.sh.dto.platform.reqDto.PeriodReviewReqDto;
 import com.inc.sh.dto.platform.respDto.StoreReviewStatsRespDto;
 import com.inc.sh.dto.platform.respDto.PeriodReviewRespDto;
+import com.inc.sh.repository.StoreReviewStatsQueryRepository;
 import com.inc.sh.repository.StoreReviewStatsRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ import java.util.stream.Collectors;
 public class StoreReviewStatsService {
     
     private final StoreReviewStatsRepository storeReviewStatsRepository;
+    private final StoreReviewStatsQueryRepository storeReviewStatsQueryRepository;
     
     /**
      * 매장별 리뷰현황 조회
@@ -49,23 +51,18 @@ public class StoreReviewStatsService {
                 return RespDto.fail("시작년월이 종료년월보다 클 수 없습니다.");
             }
             
-            // 2. 매장별 플랫폼별 리뷰 통계 조회
-            List<Map<String, Object>> rawStoreStats = storeReviewStatsRepository
-                    .findStoreReviewStatsByPeriod(reqDto.getHqCode(), reqDto.getBrandCode(), 
-                                                  reqDto.getStartYearMonth(), reqDto.getEndYearMonth());
+            // 2. 매장별 플랫폼별 리뷰 통계 + 전체 합계 조회 (쿼리 1회, 리뷰가 없는 매장 포함)
+            StoreReviewStatsQueryRepository.StoreReviewStats stats = storeReviewStatsQueryRepository
+                    .findStoreReviewStats(reqDto.getHqCode(), reqDto.getBrandCode(),
+                                          reqDto.getStartYearMonth(), reqDto.getEndYearMonth());
             
-            // 3. 전체 합계 통계 조회
-            List<Map<String, Object>> totalStats = storeReviewStatsRepository
-                    .findTotalReviewStatsByPeriod(reqDto.getHqCode(), reqDto.getBrandCode(), 
-                                                  reqDto.getStartYearMonth(), reqDto.getEndYearMonth());
-            
-            // 4. 매장 목록 조회 (리뷰가 없는 매장도 포함)
-            List<Map<String, Object>> allStores = storeReviewStatsRepository
-                    .findStoresByHqCode(reqDto.getHqCode(), reqDto.getBrandCode());
-            
-            // 5. 데이터 가공
-            List<StoreReviewStatsRespDto.StoreReviewStat> resultList = processStoreReviewStats(
-                    rawStoreStats, totalStats, allStores);
+            // 3. 응답 변환 (합계 행 + 매장별 행)
+            List<StoreReviewStatsRespDto.StoreReviewStat> resultList = new ArrayList<>(stats.getStores().size() + 1);
+            resultList.add(toStoreReviewStat(0, stats.getTotal()));
+            int rowNumber = 1;
+            for (StoreReviewStatsQueryRepository.StoreReviewStatRow store : stats.getStores()) {
+                resultList.add(toStoreReviewStat(rowNumber++, store));
+            }
             
             StoreReviewStatsRespDto respDto = StoreReviewStatsRespDto.builder()
                     .storeReviewStats(resultList)
@@ -84,166 +81,23 @@ public class StoreReviewStatsService {
     }
     
     /**
-     * 매장별 리뷰 통계 데이터 가공
-     */
-    private List<StoreReviewStatsRespDto.StoreReviewStat> processStoreReviewStats(
-            List<Map<String, Object>> rawStoreStats,
-            List<Map<String, Object>> totalStats,
-            List<Map<String, Object>> allStores) {
-        
-        List<StoreReviewStatsRespDto.StoreReviewStat> resultList = new ArrayList<>();
-        
-        // 1. 전체 합계 행 생성
-        StoreReviewStatsRespDto.StoreReviewStat totalStat = createTotalStat(totalStats);
-        resultList.add(totalStat);
-        
-        // 2. 매장별 통계를 Map으로 그룹핑
-        Map<String, Map<String, Map<String, Object>>> storeStatsMap = groupStoreStatsByStore(rawStoreStats);
-        
-        // 3. 매장별 통계 생성
-        int rowNumber = 1;
-        for (Map<String, Object> storeInfo : allStores) {
-            String storeName = (String) storeInfo.get("store_name");
-            
-            StoreReviewStatsRespDto.StoreReviewStat storeStat = createStoreStat(
-                    rowNumber, storeName, storeStatsMap.get(storeName));
-            resultList.add(storeStat);
-            rowNumber++;
-        }
-        
-        return resultList;
-    }
-    
-    /**
-     * 전체 합계 통계 생성
+     * 매장(합계) 행 변환 (매장명 기준이므로 매장코드 없음)
      */
-    private StoreReviewStatsRespDto.StoreReviewStat createTotalStat(List<Map<String, Object>> totalStats) {
-        
-        Map<String, Map<String, Object>> platformStats = new HashMap<>();
-        
-        // 플랫폼별 통계를 Map으로 변환
-        for (Map<String, Object> stat : totalStats) {
-            String platform = (String) stat.get("platform");
-            platformStats.put(platform, stat);
-        }
-        
-        // 전체 합계 계산
-        int totalReviewCount = 0;
-        double totalRatingSum = 0.0;
-        int platformCount = 0;
-        
-        // 배민, 요기요, 쿠팡이츠 각각의 통계 추출
-        Map<String, Object> baeminStat = platformStats.get("배민");
-        Map<String, Object> yogiyoStat = platformStats.get("요기요");
-        Map<String, Object> coupangStat = platformStats.get("쿠팡이츠");
-        
-        // 전체 통계 계산
-        if (baeminStat != null) {
-            totalReviewCount += ((Number) baeminStat.get("review_count")).intValue();
-            totalRatingSum += ((Number) baeminStat.get("avg_rating")).doubleValue() * 
-                             ((Number) baeminStat.get("review_count")).intValue();
-            platformCount++;
-        }
-        if (yogiyoStat != null) {
-            totalReviewCount += ((Number) yogiyoStat.get("review_count")).intValue();
-            totalRatingSum += ((Number) yogiyoStat.get("avg_rating")).doubleValue() * 
-                             ((Number) yogiyoStat.get("review_count")).intValue();
-            platformCount++;
-        }
-        if (coupangStat != null) {
-            totalReviewCount += ((Number) coupangStat.get("review_count")).intValue();
-            totalRatingSum += ((Number) coupangStat.get("avg_rating")).doubleValue() * 
-                             ((Number) coupangStat.get("review_count")).intValue();
-            platformCount++;
-        }
-        
-        // 가중평균 계산
-        Double totalAvgRating = totalReviewCount > 0 ? 
-                Math.round((totalRatingSum / totalReviewCount) * 10.0) / 10.0 : 0.0;
-        
-        return StoreReviewStatsRespDto.StoreReviewStat.builder()
-                .rowNumber(0)
-                .storeName("합계")
-                .totalReviewCount(totalReviewCount)
-                .totalAvgRating(totalAvgRating)
-                .baeminReviewCount(baeminStat != null ? ((Number) baeminStat.get("review_count")).intValue() : 0)
-                .baeminAvgRating(baeminStat != null ? ((Number) baeminStat.get("avg_rating")).doubleValue() : 0.0)
-                .yogiyoReviewCount(yogiyoStat != null ? ((Number) yogiyoStat.get("review_count")).intValue() : 0)
-                .yogiyoAvgRating(yogiyoStat != null ? ((Number) yogiyoStat.get("avg_rating")).doubleValue() : 0.0)
-                .coupangReviewCount(coupangStat != null ? ((Number) coupangStat.get("review_count")).intValue() : 0)
-                .coupangAvgRating(coupangStat != null ? ((Number) coupangStat.get("avg_rating")).doubleValue() : 0.0)
-                .storePlatformCode(null)
-                .build();
-    }
-    
-    /**
-     * 매장별 통계를 매장명으로 그룹핑
-     */
-    private Map<String, Map<String, Map<String, Object>>> groupStoreStatsByStore(List<Map<String, Object>> rawStats) {
-        
-        Map<String, Map<String, Map<String, Object>>> result = new HashMap<>();
-        
-        for (Map<String, Object> stat : rawStats) {
-            String storeName = (String) stat.get("store_name");
-            String platform = (String) stat.get("platform");
-            
-            result.computeIfAbsent(storeName, k -> new HashMap<>()).put(platform, stat);
-        }
-        
-        return result;
-    }
-    
-    /**
-     * 개별 매장 통계 생성
-     */
-    private StoreReviewStatsRespDto.StoreReviewStat createStoreStat(
-            int rowNumber, String storeName, 
-            Map<String, Map<String, Object>> platformStats) {
-        
-        if (platformStats == null) {
-            platformStats = new HashMap<>();
-        }
-        
-        // 플랫폼별 통계 추출
-        Map<String, Object> baeminStat = platformStats.get("배민");
-        Map<String, Object> yogiyoStat = platformStats.get("요기요");
-        Map<String, Object> coupangStat = platformStats.get("쿠팡이츠");
-        
-        // 전체 합계 계산
-        int totalReviewCount = 0;
-        double totalRatingSum = 0.0;
-        
-        if (baeminStat != null) {
-            totalReviewCount += ((Number) baeminStat.get("review_count")).intValue();
-            totalRatingSum += ((Number) baeminStat.get("avg_rating")).doubleValue() * 
-                             ((Number) baeminStat.get("review_count")).intValue();
-        }
-        if (yogiyoStat != null) {
-            totalReviewCount += ((Number) yogiyoStat.get("review_count")).intValue();
-            totalRatingSum += ((Number) yogiyoStat.get("avg_rating")).doubleValue() * 
-                             ((Number) yogiyoStat.get("review_count")).intValue();
-        }
-        if (coupangStat != null) {
-            totalReviewCount += ((Number) coupangStat.get("review_count")).intValue();
-            totalRatingSum += ((Number) coupangStat.get("avg_rating")).doubleValue() * 
-                             ((Number) coupangStat.get("review_count")).intValue();
-        }
-        
-        Double totalAvgRating = totalReviewCount > 0 ? 
-                Math.round((totalRatingSum / totalReviewCount) * 10.0) / 10.0 : 0.0;
+    private StoreReviewStatsRespDto.StoreReviewStat toStoreReviewStat(
+            int rowNumber, StoreReviewStatsQueryRepository.StoreReviewStatRow row) {
         
         return StoreReviewStatsRespDto.StoreReviewStat.builder()
                 .rowNumber(rowNumber)
-                .storeName(storeName)
-                .totalReviewCount(totalReviewCount)
-                .totalAvgRating(totalAvgRating)
-                .baeminReviewCount(baeminStat != null ? ((Number) baeminStat.get("review_count")).intValue() : 0)
-                .baeminAvgRating(baeminStat != null ? ((Number) baeminStat.get("avg_rating")).doubleValue() : 0.0)
-                .yogiyoReviewCount(yogiyoStat != null ? ((Number) yogiyoStat.get("review_count")).intValue() : 0)
-                .yogiyoAvgRating(yogiyoStat != null ? ((Number) yogiyoStat.get("avg_rating")).doubleValue() : 0.0)
-                .coupangReviewCount(coupangStat != null ? ((Number) coupangStat.get("review_count")).intValue() : 0)
-                .coupangAvgRating(coupangStat != null ? ((Number) coupangStat.get("avg_rating")).doubleValue() : 0.0)
-                .storePlatformCode(null) // 매장명 기준이므로 특정 코드 없음
+                .storeName(row.getStoreName())
+                .totalReviewCount(row.getTotalReviewCount())
+                .totalAvgRating(row.getTotalAvgRating())
+                .baeminReviewCount(row.getBaemin().getReviewCount())
+                .baeminAvgRating(row.getBaemin().getAvgRating())
+                .yogiyoReviewCount(row.getYogiyo().getReviewCount())
+                .yogiyoAvgRating(row.getYogiyo().getAvgRating())
+                .coupangReviewCount(row.getCoupang().getReviewCount())
+                .coupangAvgRating(row.getCoupang().getAvgRating())
+                .storePlatformCode(null)
                 .build();
     }
     
@@ -0,0 +1,28 @@
+package com.inc.sh.service.scheduler;
+
+import com.inc.sh.service.CustomerBalanceSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerBalanceSnapshotScheduler {
+
+    private final CustomerBalanceSnapshotService customerBalanceSnapshotService;
+
+    /**
+     * 운영용 - 매일 새벽 2시 30분 거래처 일별 마감잔액 증분 반영
+     */
+    @Scheduled(cron = "${customer.balance-snapshot.cron:0 30 2 * * *}")
+    public void refreshDaily() {
+        log.info("=== 거래처 잔액 스냅샷 스케줄러 시작 ===");
+        try {
+            customerBalanceSnapshotService.refresh();
+        } catch (Exception e) {
+            log.error("거래처 잔액 스냅샷 반영 실패", e);
+        }
+    }
+}
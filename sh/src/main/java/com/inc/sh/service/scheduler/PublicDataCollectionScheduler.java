@@ -3,14 +3,18 @@ package com.inc.sh.service.scheduler;
 import com.inc.sh.config.CityBoxCoordinates;
 import com.inc.sh.dto.publicDataAnalysis.reqDto.PublicDataAnalysisReqDto;
 import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
-import com.inc.sh.service.analysis.SalesDataCollectionService;
-import com.inc.sh.service.analysis.IncomeConsumptionDataCollectionService;
-import com.inc.sh.service.analysis.BusinessPopulationDataCollectionService;
+import com.inc.sh.repository.PublicDataCollectionJobRepository;
+import com.inc.sh.service.analysis.IntegratedDataCollectionService;
+import com.inc.sh.service.analysis.PublicDataCollectionJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -21,9 +25,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PublicDataCollectionScheduler {
 
-    private final SalesDataCollectionService salesDataCollectionService;
-    private final IncomeConsumptionDataCollectionService incomeConsumptionDataCollectionService;
-    private final BusinessPopulationDataCollectionService businessPopulationDataCollectionService;
+    private final IntegratedDataCollectionService integratedDataCollectionService;
+    private final PublicDataCollectionJobService jobService;
+
+    @Value("${public-api.collection.resume-on-startup:false}")
+    private boolean resumeOnStartup;
+
+    @Value("${public-api.collection.unit-retention-days:30}")
+    private int unitRetentionDays;
 
     // 7개 광역시 목록
     private final List<String> TARGET_CITIES = Arrays.asList(
@@ -58,131 +67,92 @@ public class PublicDataCollectionScheduler {
     }
 
     /**
-     * 공공데이터 수집 실행 (순차 처리)
+     * 서버 시작 시 이번 달 스케줄러 수집이 중간에 끊겼으면 이어서 실행 (완료된 단계/호출 단위는 건너뜀)
+     * - 하트비트가 멈춘 작업만 중단으로 보므로 롤링 배포 중 다른 서버가 실행 중인 작업은 가져오지 않음
+     * - 재실행은 조건부 UPDATE로 작업을 다시 열어 한 서버만 성공 (기본 비활성화)
      */
-    private void executeDataCollection(String mode) {
-        String startTime = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        log.info("🎯 공공데이터 수집 시작 - 모드: {}, 시작시간: {}", mode, startTime);
-
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedCollection() {
+        if (!resumeOnStartup) {
+            return;
+        }
         try {
-            // 1단계: 매출 데이터 수집
-            log.info("📊 1단계: 매출 데이터 수집 시작");
-            boolean salesSuccess = collectSalesData();
-            if (!salesSuccess) {
-                log.error("❌ 매출 데이터 수집 실패 - 스케줄러 중단");
+            jobService.recoverInterruptedJobs();
+
+            PublicDataCollectionJobRepository.JobRecord job = jobService
+                    .findLatestJob(PublicDataCollectionJobService.JOB_TYPE_SCHEDULER)
+                    .orElse(null);
+            if (job == null || !PublicDataCollectionJobService.STATUS_INTERRUPTED.equals(job.getStatus())
+                    || job.getStartedAt() == null
+                    || job.getStartedAt().toLocalDate().withDayOfMonth(1).isBefore(LocalDate.now().withDayOfMonth(1))) {
                 return;
             }
-            log.info("✅ 1단계 완료: 매출 데이터 수집 성공");
 
-            // 2단계: 소득/소비 데이터 수집
-            log.info("💰 2단계: 소득/소비 데이터 수집 시작");
-            boolean incomeSuccess = collectIncomeConsumptionData();
-            if (!incomeSuccess) {
-                log.error("❌ 소득/소비 데이터 수집 실패 - 스케줄러 중단");
-                return;
-            }
-            log.info("✅ 2단계 완료: 소득/소비 데이터 수집 성공");
-
-            // 3단계: 업소수/인구 데이터 수집
-            log.info("🏪 3단계: 업소수/인구 데이터 수집 시작");
-            boolean businessSuccess = collectBusinessPopulationData();
-            if (!businessSuccess) {
-                log.error("❌ 업소수/인구 데이터 수집 실패");
-                return;
-            }
-            log.info("✅ 3단계 완료: 업소수/인구 데이터 수집 성공");
-
-            String endTime = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-            log.info("🎉 공공데이터 수집 스케줄러 완료 - 모드: {}, 종료시간: {}", mode, endTime);
+            log.info("🔄 중단된 공공데이터 수집 재개 - 작업ID: {}, 시작시간: {}", job.getTaskId(), job.getStartedAt());
+            Thread.ofVirtual().name("public-data-resume").start(() -> {
+                try {
+                    PublicDataAnalysisRespDto.CollectionProgressResp result =
+                            integratedDataCollectionService.resumeIntegratedData(job.getTaskId());
+                    log.info("🔄 중단된 공공데이터 수집 재개 종료 - 작업ID: {}, 상태: {}", job.getTaskId(), result.getStatus());
+                } catch (Exception e) {
+                    log.error("❌ 중단된 공공데이터 수집 재개 실패 - 작업ID: {}", job.getTaskId(), e);
+                }
+            });
 
         } catch (Exception e) {
-            log.error("❌ 공공데이터 수집 스케줄러 실행 중 오류 발생", e);
+            log.error("❌ 중단된 공공데이터 수집 확인 중 오류 발생", e);
         }
     }
 
     /**
-     * 1단계: 매출 데이터 수집
+     * 운영용 - 매일 새벽 4시 보관기간이 지난 미완료 수집 작업의 호출 단위 응답 삭제
      */
-    private boolean collectSalesData() {
+    @Scheduled(cron = "${public-api.collection.unit-cleanup-cron:0 0 4 * * *}")
+    public void purgeCollectionUnitPayloads() {
         try {
-            PublicDataAnalysisReqDto.SalesDataCollectReq request = 
-                PublicDataAnalysisReqDto.SalesDataCollectReq.builder()
-                        .cities(TARGET_CITIES)
-                        .applyMultiplier(true)
-                        .retryCount(3)
-                        .delayMs(100L)
-                        .build();
-
-            PublicDataAnalysisRespDto.CollectionProgressResp result = 
-                    salesDataCollectionService.collectSalesData(request);
-
-            log.info("📊 매출 데이터 수집 결과 - 성공: {}, 실패: {}, 상태: {}", 
-                    result.getSuccessRecords(), result.getFailureRecords(), result.getStatus());
-
-            return "COMPLETED".equals(result.getStatus()) && 
-                   result.getSuccessRecords() != null && result.getSuccessRecords() > 0;
-
+            jobService.purgeUnitPayloads(unitRetentionDays);
         } catch (Exception e) {
-            log.error("매출 데이터 수집 중 오류 발생", e);
-            return false;
+            log.error("공공데이터 수집 작업 호출 단위 응답 삭제 실패", e);
         }
     }
 
     /**
-     * 2단계: 소득/소비 데이터 수집
+     * 공공데이터 수집 실행
+     * - 매출, 소득/소비, 업소수/인구를 동시에 수집하고 한 단계가 실패해도 나머지 단계 결과는 유지
+     * - 실패/중단된 작업은 작업 ID로 재실행 가능 (POST /api/v1/analysis/collect/resume/{taskId})
      */
-    private boolean collectIncomeConsumptionData() {
-        try {
-            PublicDataAnalysisReqDto.IncomeConsumptionDataCollectReq request = 
-                PublicDataAnalysisReqDto.IncomeConsumptionDataCollectReq.builder()
-                        .cities(TARGET_CITIES)
-                        .retryCount(3)
-                        .delayMs(100L)
-                        .build();
-
-            PublicDataAnalysisRespDto.CollectionProgressResp result = 
-                    incomeConsumptionDataCollectionService.collectIncomeConsumptionData(request);
-
-            log.info("💰 소득/소비 데이터 수집 결과 - 성공: {}, 실패: {}, 상태: {}", 
-                    result.getSuccessRecords(), result.getFailureRecords(), result.getStatus());
-
-            return "COMPLETED".equals(result.getStatus()) && 
-                   result.getSuccessRecords() != null && result.getSuccessRecords() > 0;
-
-        } catch (Exception e) {
-            log.error("소득/소비 데이터 수집 중 오류 발생", e);
-            return false;
-        }
-    }
+    private void executeDataCollection(String mode) {
+        String startTime = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        String taskId = "scheduler_" + System.currentTimeMillis();
+        log.info("🎯 공공데이터 수집 시작 - 모드: {}, 작업ID: {}, 시작시간: {}", mode, taskId, startTime);
 
-    /**
-     * 3단계: 업소수/인구 데이터 수집
-     */
-    private boolean collectBusinessPopulationData() {
         try {
-            // CityBoxCoordinates에서 지역 코드 가져오기
-            List<String> areaCodes = Arrays.asList(CityBoxCoordinates.AREA_CODES);
-
-            PublicDataAnalysisReqDto.BusinessPopulationDataCollectReq request = 
-                PublicDataAnalysisReqDto.BusinessPopulationDataCollectReq.builder()
-                        .areaCodes(areaCodes)
-                        .includeBusinessCount(true)
-                        .includePopulationData(true)
+            PublicDataAnalysisReqDto.IntegratedDataCollectReq request = 
+                PublicDataAnalysisReqDto.IntegratedDataCollectReq.builder()
+                        .cities(TARGET_CITIES)
+                        .areaCodes(Arrays.asList(CityBoxCoordinates.AREA_CODES))
+                        .includeSales(true)
+                        .includeIncomeConsumption(true)
+                        .includeBusinessPopulation(true)
+                        .applyMultiplier(true)
                         .retryCount(3)
-                        .delayMs(100L)
                         .build();
 
             PublicDataAnalysisRespDto.CollectionProgressResp result = 
-                    businessPopulationDataCollectionService.collectBusinessPopulationData(request);
-
-            log.info("🏪 업소수/인구 데이터 수집 결과 - 성공: {}, 실패: {}, 상태: {}", 
-                    result.getSuccessRecords(), result.getFailureRecords(), result.getStatus());
+                    integratedDataCollectionService.collectIntegratedData(
+                            taskId, PublicDataCollectionJobService.JOB_TYPE_SCHEDULER, request);
 
-            return "COMPLETED".equals(result.getStatus());
+            String endTime = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            if ("COMPLETED".equals(result.getStatus())) {
+                log.info("🎉 공공데이터 수집 스케줄러 완료 - 모드: {}, 레코드: {}/{}, 소요: {}ms, 종료시간: {}", mode,
+                        result.getSuccessRecords(), result.getTotalRecords(), result.getElapsedTimeMs(), endTime);
+            } else {
+                log.error("❌ 공공데이터 수집 스케줄러 {} - 모드: {}, 작업ID: {}, 오류: {}, 종료시간: {}", 
+                        result.getStatus(), mode, taskId, result.getErrorMessages(), endTime);
+            }
 
         } catch (Exception e) {
-            log.error("업소수/인구 데이터 수집 중 오류 발생", e);
-            return false;
+            log.error("❌ 공공데이터 수집 스케줄러 실행 중 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -3,7 +3,20 @@ package com.inc.sh;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+/**
+ * 애플리케이션 컨텍스트 로딩 테스트
+ * - 설정된 운영 DB에 접속하지 않도록 H2 메모리 DB(MariaDB 호환 모드) 사용
+ * - 테이블은 엔티티 기준으로 Hibernate가 생성 (테스트용 schema.sql 자동 실행 안 함)
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:sh-context;MODE=MariaDB;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.sql.init.mode=never",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
 class ShApplicationTests {
 
 	@Test
@@ -0,0 +1,29 @@
+package com.inc.sh.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 토큰버킷 시계
+ * - 실제로 대기하지 않고 대기 시간만큼 시각을 앞당김
+ * - 여러 스레드가 동시에 대기하면 겹치는 구간은 한 번만 흐른 것으로 계산 (대기 시작 시각 + 대기 시간 중 최댓값)
+ */
+public class ManualClock implements TokenBucket.Clock {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Override
+    public long nanoTime() {
+        return nanos.get();
+    }
+
+    @Override
+    public void sleep(long sleepNanos) {
+        long wakeUp = nanos.get() + sleepNanos;
+        nanos.accumulateAndGet(wakeUp, Math::max);
+        Thread.yield();
+    }
+
+    public long elapsedMs() {
+        return nanos.get() / 1_000_000L;
+    }
+}
@@ -0,0 +1,34 @@
+package com.inc.sh.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 토큰버킷 테스트 (가짜 시계)
+ * - 버킷이 가득 찬 상태에서 N건 요청 시 (N - capacity) / 초당토큰 만큼 흐른 뒤 모두 발급
+ */
+class TokenBucketTests {
+
+    @Test
+    void acquiresAtConfiguredRateAfterBurst() throws InterruptedException {
+        assertEquals(1_900, elapsedMsFor(20, 10.0, 1));
+        assertEquals(950, elapsedMsFor(20, 20.0, 1));
+        assertEquals(1_500, elapsedMsFor(20, 10.0, 5));
+    }
+
+    @Test
+    void unlimitedBucketNeverWaits() throws InterruptedException {
+        assertEquals(0, elapsedMsFor(20, 0, 1));
+    }
+
+    private static long elapsedMsFor(int permits, double permitsPerSecond, int capacity) throws InterruptedException {
+        ManualClock clock = new ManualClock();
+        TokenBucket bucket = new TokenBucket(permitsPerSecond, capacity, clock);
+        for (int i = 0; i < permits; i++) {
+            bucket.acquire();
+        }
+        assertEquals(permits, bucket.getAcquiredCount());
+        return clock.elapsedMs();
+    }
+}
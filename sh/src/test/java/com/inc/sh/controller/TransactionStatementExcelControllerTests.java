@@ -0,0 +1,107 @@
+package com.inc.sh.controller;
+
+import com.inc.sh.common.dto.RespDto;
+import com.inc.sh.dto.transactionStatement.reqDto.TransactionStatementExcelReqDto;
+import com.inc.sh.repository.OrderRepository;
+import com.inc.sh.service.TransactionStatementExcelService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 거래명세표 엑셀 출력 API 테스트
+ * - 전부 실패하면 빈 첨부파일(200)이 아니라 오류 JSON 응답 (헤더/응답 스트림을 건드리지 않음)
+ * - 성공하면 첫 기록 시점에 첨부 헤더 설정
+ */
+class TransactionStatementExcelControllerTests {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final TransactionStatementExcelService service = new TransactionStatementExcelService(orderRepository, 2, 3);
+    private final TransactionStatementExcelController controller = new TransactionStatementExcelController(service);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void everyOrderFailingReturnsErrorJson() {
+        // 합계 금액이 숫자가 아니면 시트 생성 실패
+        givenOrders(orderInfo("ORD-1", "합계 아님"), orderInfo("ORD-2", "합계 아님"));
+
+        for (Boolean singleFile : new Boolean[]{false, true}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            ResponseEntity<?> result = controller.generateTransactionStatementExcel(request(singleFile, "ORD-1", "ORD-2"), response);
+
+            assertNotNull(result, "singleFile=" + singleFile);
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
+            assertNotEquals(1, ((RespDto<?>) result.getBody()).getCode());
+            assertFalse(response.isCommitted());
+            assertNull(response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+            assertEquals(0, response.getContentAsByteArray().length);
+        }
+    }
+
+    @Test
+    void writesAttachmentWhenAnyOrderSucceeds() throws IOException {
+        givenOrders(orderInfo("ORD-1", 0), orderInfo("ORD-2", "합계 아님"), orderInfo("ORD-3", 0));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertNull(controller.generateTransactionStatementExcel(request(false, "ORD-1", "ORD-2", "ORD-3"), response));
+
+        assertTrue(response.getHeader(HttpHeaders.CONTENT_DISPOSITION).startsWith("attachment;"));
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                entries.add(entry.getName());
+            }
+        }
+        assertEquals(List.of("거래명세표_ORD-1.xlsx", "거래명세표_ORD-3.xlsx"), entries);
+    }
+
+    private void givenOrders(Object[]... orderInfos) {
+        when(orderRepository.findOrderInfoForTransactionStatement(anyList())).thenReturn(List.of(orderInfos));
+        when(orderRepository.findOrderItemsForTransactionStatement(anyList())).thenReturn(List.of());
+        when(orderRepository.findCollectionInfoForTransactionStatement(anyList())).thenReturn(List.of());
+    }
+
+    private static TransactionStatementExcelReqDto request(Boolean singleFile, String... orderNumbers) {
+        return TransactionStatementExcelReqDto.builder()
+                .orderNumbers(List.of(orderNumbers))
+                .hqCode(1)
+                .singleFile(singleFile)
+                .build();
+    }
+
+    /**
+     * 주문 기본 정보 행 (품목 없음)
+     */
+    private static Object[] orderInfo(String orderNo, Object totalAmount) {
+        Object[] orderInfo = new Object[22];
+        orderInfo[0] = orderNo;
+        orderInfo[1] = "20250310";
+        orderInfo[2] = totalAmount;
+        orderInfo[3] = 0;
+        orderInfo[4] = 0;
+        orderInfo[5] = 0;
+        for (int i = 6; i < 22; i++) {
+            orderInfo[i] = "정보" + i;
+        }
+        return orderInfo;
+    }
+}
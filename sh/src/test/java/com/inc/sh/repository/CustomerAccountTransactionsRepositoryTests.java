@@ -0,0 +1,188 @@
+package com.inc.sh.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * [앱] 거래내역 페이지 + 기간 합계 쿼리 테스트 (H2 MariaDB 호환 모드)
+ * - 리포지토리 @Query 네이티브 SQL을 그대로 실행
+ * - 커서(거래일자|거래코드)로 끝까지 넘긴 결과 = OFFSET 페이지 결과 = 전체 정렬 결과 (created_at이 같은 행 포함)
+ * - benchmark 태그: 뒤쪽 페이지 조회 시 키셋과 OFFSET 시간 비교
+ */
+class CustomerAccountTransactionsRepositoryTests {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final String START_DATE = "20240101";
+    private static final String END_DATE = "20241231";
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private String pageQuery;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("app-transactions"));
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        pageQuery = CustomerAccountTransactionsRepository.class.getMethod("findAppTransactionPageWithSummary",
+                Integer.class, String.class, String.class, String.class, Integer.class, int.class, int.class)
+                .getAnnotation(Query.class).value();
+    }
+
+    /**
+     * 거래처 1~customerCount, 거래처마다 perCustomer건 (일자는 뒤섞어서 기록, 7건 중 1건은 created_at 동일)
+     */
+    private void seed(int customerCount, int perCustomer) {
+        String[] types = {"입금", "출금", "조정", "반품입금"};
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < perCustomer; i++) {
+            for (int customer = 1; customer <= customerCount; customer++) {
+                LocalDate date = FIRST_DAY.plusDays((i * 37L + customer) % 366);
+                Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i % 7 == 0 ? 0 : i));
+                int amount = (i % 4 == 1 ? -1 : 1) * (1_000 + i % 9 * 100);
+                rows.add(new Object[]{customer, date.format(DATE), types[i % 4], amount, i * 100, createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO customer_account_transactions " +
+                "(customer_code, transaction_date, transaction_type, amount, balance_after, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    void cursorPagesMatchOffsetPagesIncludingSameCreatedAt() {
+        seed(3, 300);
+        int size = 25;
+
+        List<Integer> expected = jdbcTemplate.queryForList("SELECT transaction_code FROM customer_account_transactions " +
+                "WHERE customer_code = 2 AND transaction_date BETWEEN ? AND ? " +
+                "ORDER BY transaction_date DESC, transaction_code DESC", Integer.class, START_DATE, END_DATE);
+
+        List<Integer> byCursor = new ArrayList<>();
+        List<Integer> byOffset = new ArrayList<>();
+        String cursorDate = null;
+        Integer cursorCode = null;
+        for (int page = 0; ; page++) {
+            List<Object[]> cursorRows = page(2, cursorDate, cursorCode, size + 1, 0);
+            List<Object[]> offsetRows = page(2, null, null, size + 1, page * size);
+            assertEquals(codes(offsetRows), codes(cursorRows), "page " + page);
+
+            List<Integer> pageCodes = codes(cursorRows);
+            boolean hasNext = pageCodes.size() > size;
+            byCursor.addAll(pageCodes.subList(0, Math.min(size, pageCodes.size())));
+            byOffset.addAll(codes(offsetRows).subList(0, Math.min(size, pageCodes.size())));
+            if (!hasNext) {
+                break;
+            }
+            Object[] last = cursorRows.get(size - 1);
+            cursorDate = (String) last[1];
+            cursorCode = ((Number) last[0]).intValue();
+        }
+
+        assertEquals(expected, byCursor);
+        assertEquals(expected, byOffset);
+        assertEquals(300, byCursor.size());
+    }
+
+    @Test
+    void summaryCoversWholePeriodEvenPastLastPage() {
+        seed(2, 100);
+        Object[] summary = jdbcTemplate.queryForObject("SELECT " +
+                "SUM(CASE WHEN transaction_type = '입금' THEN amount ELSE 0 END), " +
+                "SUM(CASE WHEN transaction_type = '출금' THEN ABS(amount) ELSE 0 END), " +
+                "SUM(CASE WHEN transaction_type = '조정' THEN amount ELSE 0 END), " +
+                "SUM(CASE WHEN transaction_type = '반품입금' THEN amount ELSE 0 END), COUNT(*) " +
+                "FROM customer_account_transactions WHERE customer_code = 1",
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)});
+
+        // 첫 거래보다 앞선 커서: 페이지 행은 없고 합계 1행만 반환
+        List<Object[]> rows = page(1, "20231231", Integer.MAX_VALUE, 11, 0);
+
+        assertEquals(1, rows.size());
+        assertNull(rows.get(0)[0]);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(summary[i], ((Number) rows.get(0)[6 + i]).longValue(), "summary " + i);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void keysetStaysFlatWhereOffsetGrowsWithPageDepth() {
+        seed(2, 100_000);
+        int size = 20;
+        int deepOffset = 90_000;
+
+        // 깊은 페이지 시작점의 커서 (같은 위치를 OFFSET으로 조회한 결과와 비교)
+        List<Object[]> anchor = page(1, null, null, 1, deepOffset - 1);
+        String cursorDate = (String) anchor.get(0)[1];
+        Integer cursorCode = ((Number) anchor.get(0)[0]).intValue();
+
+        for (int i = 0; i < 3; i++) {
+            page(1, null, null, size + 1, deepOffset);
+            page(1, cursorDate, cursorCode, size + 1, 0);
+        }
+
+        long start = System.nanoTime();
+        List<Object[]> offsetRows = null;
+        for (int i = 0; i < 5; i++) {
+            offsetRows = page(1, null, null, size + 1, deepOffset);
+        }
+        long offsetNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<Object[]> keysetRows = null;
+        for (int i = 0; i < 5; i++) {
+            keysetRows = page(1, cursorDate, cursorCode, size + 1, 0);
+        }
+        long keysetNanos = System.nanoTime() - start;
+
+        assertEquals(codes(offsetRows), codes(keysetRows));
+        assertEquals(size + 1, keysetRows.size());
+        assertTrue(keysetNanos < offsetNanos,
+                "키셋 " + keysetNanos / 1_000_000 + "ms / OFFSET " + offsetNanos / 1_000_000 + "ms");
+    }
+
+    private List<Object[]> page(int customerCode, String cursorDate, Integer cursorCode, int limit, int offset) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("customerCode", customerCode)
+                .addValue("startDate", START_DATE)
+                .addValue("endDate", END_DATE)
+                .addValue("cursorDate", cursorDate, Types.VARCHAR)
+                .addValue("cursorCode", cursorCode, Types.INTEGER)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        return namedJdbcTemplate.query(pageQuery, parameters, (rs, rowNum) -> {
+            Object[] row = new Object[11];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            return row;
+        });
+    }
+
+    private static List<Integer> codes(List<Object[]> rows) {
+        List<Integer> codes = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                codes.add(((Number) row[0]).intValue());
+            }
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,210 @@
+package com.inc.sh.repository;
+
+import com.inc.sh.service.CustomerBalanceSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 거래처 일별 마감잔액 스냅샷 테스트 (H2 MariaDB 호환 모드)
+ * - 기준일 잔액(스냅샷 + 미반영 거래)이 원장 직접 조회(시작일 이전 최근 거래 1건)와 같은지
+ * - 과거 일자로 들어온 거래, 같은 날 여러 거래, 거래 수정/삭제 후 재계산, 전체 재구축 정리
+ * - 반영 후 늦게 커밋된 낮은 거래코드 (재확인 구간에서 읽음)
+ * - benchmark 태그: 원장 이력이 4년치(약 28만 건)로 늘어도 기준일 잔액이 원장 조회와 같은지
+ *   (H2는 역방향 인덱스 탐색을 하지 않아 스냅샷의 시간 이득이 나타나지 않으므로 시간은 비교하지 않음)
+ */
+class CustomerBalanceSnapshotRepositoryTests {
+
+    private static final int OVERLAP_CODES = 50;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final LocalDate FIRST_DAY = LocalDate.of(2022, 1, 1);
+    private static final String LEGACY_BALANCES = "SELECT c.customer_code, (" +
+            "SELECT p.balance_after FROM customer_account_transactions p " +
+            "WHERE p.customer_code = c.customer_code AND p.transaction_date < ? " +
+            "ORDER BY p.transaction_date DESC, p.transaction_code DESC LIMIT 1) AS balance_after " +
+            "FROM customer c WHERE c.hq_code = 1";
+
+    private JdbcTemplate jdbcTemplate;
+    private CustomerBalanceSnapshotRepository repository;
+    private CustomerBalanceSnapshotService service;
+    private final Map<Integer, Integer> balances = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("balance-snapshot"));
+        repository = new CustomerBalanceSnapshotRepository(jdbcTemplate);
+        service = new CustomerBalanceSnapshotService(repository, 700, OVERLAP_CODES);
+    }
+
+    /**
+     * 거래처별 [startDay, endDay) 기간 2~3일마다 1~3건 거래 (1/5은 최대 9일 전 일자로 기록)
+     */
+    private void seed(int customerCount, int startDay, int endDay, int seedOffset) {
+        List<Object[]> transactions = new ArrayList<>();
+        for (int customer = 1; customer <= customerCount; customer++) {
+            if (!balances.containsKey(customer)) {
+                jdbcTemplate.update("INSERT INTO customer (customer_code, hq_code) VALUES (?, ?)", customer, customer % 10 == 0 ? 2 : 1);
+                balances.put(customer, 0);
+            }
+            for (int day = startDay + (customer + seedOffset) % 3; day < endDay; day += 2 + (customer + day) % 2) {
+                for (int k = 0; k <= (customer * day + seedOffset) % 3; k++) {
+                    int amount = ((customer * 31 + day * 7 + k + seedOffset) % 21 - 10) * 1_000;
+                    int balance = balances.merge(customer, amount, Integer::sum);
+                    int recordedDay = (day + k + seedOffset) % 5 == 0 ? Math.max(0, day - 9) : day;
+                    transactions.add(new Object[]{customer, FIRST_DAY.plusDays(recordedDay).format(DATE), amount, balance});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO customer_account_transactions " +
+                "(customer_code, transaction_date, amount, balance_after) VALUES (?, ?, ?, ?)", transactions);
+    }
+
+    @Test
+    void balancesBeforeMatchLedger() {
+        seed(60, 0, 120, 0);
+        service.backfill();
+
+        // 스냅샷 이후 거래 (과거 일자 포함) → 미반영 구간으로 조회
+        seed(60, 0, 120, 1);
+        assertMatchesLedger();
+
+        // 증분 반영 후에도 동일
+        service.refresh();
+        assertEquals(repository.findMaxTransactionCode(), repository.findProcessedTransactionCode());
+        assertMatchesLedger();
+
+        // 단일 거래처 조회
+        String beforeDate = FIRST_DAY.plusDays(60).format(DATE);
+        Map<Integer, Integer> single = repository.findBalancesBefore(1, 7, beforeDate, OVERLAP_CODES);
+        assertEquals(Map.of(7, legacyBalance(7, beforeDate)), single);
+    }
+
+    @Test
+    void lowerCodeCommittedAfterRefreshIsReadFromOverlap() {
+        seed(20, 0, 30, 0);
+        service.refresh();
+        int max = repository.findMaxTransactionCode();
+
+        // max + 1 채번 후 커밋 전에 max + 2 가 커밋되어 반영됨
+        insertTransaction(max + 2, 2, FIRST_DAY.plusDays(40), 11_000);
+        service.refresh();
+        assertEquals(max + 2, repository.findProcessedTransactionCode());
+
+        // 반영 후 커밋된 낮은 거래코드 (스냅샷보다 늦은 일자)
+        insertTransaction(max + 1, 3, FIRST_DAY.plusDays(45), 22_000);
+        String beforeDate = FIRST_DAY.plusDays(50).format(DATE);
+        assertEquals(22_000, repository.findBalancesBefore(1, 3, beforeDate, OVERLAP_CODES).get(3));
+        assertMatchesLedger();
+
+        // 같은 날 스냅샷 거래보다 낮은 거래코드가 늦게 커밋되면 스냅샷(그날 마지막 거래) 유지
+        insertTransaction(max + 4, 4, FIRST_DAY.plusDays(45), 44_000);
+        service.refresh();
+        insertTransaction(max + 3, 4, FIRST_DAY.plusDays(45), 33_000);
+        assertEquals(44_000, repository.findBalancesBefore(1, 4, beforeDate, OVERLAP_CODES).get(4));
+        assertMatchesLedger();
+
+        // 다음 증분 반영에서 스냅샷에도 반영
+        service.refresh();
+        assertMatchesLedger();
+    }
+
+    @Test
+    void refreshDaysAfterChangeAndDelete() {
+        seed(20, 0, 60, 0);
+        service.refresh();
+
+        // 같은 날 마지막 거래 삭제, 다른 거래의 일자 변경 (조정 수정/삭제와 같은 변경)
+        Map<String, Object> last = jdbcTemplate.queryForMap("SELECT customer_code, transaction_date, transaction_code " +
+                "FROM customer_account_transactions WHERE customer_code = 3 ORDER BY transaction_date DESC, transaction_code DESC LIMIT 1");
+        jdbcTemplate.update("DELETE FROM customer_account_transactions WHERE transaction_code = ?", last.get("transaction_code"));
+        service.refreshDays(3, (String) last.get("transaction_date"));
+
+        Map<String, Object> moved = jdbcTemplate.queryForMap("SELECT transaction_code, transaction_date " +
+                "FROM customer_account_transactions WHERE customer_code = 5 ORDER BY transaction_code LIMIT 1 OFFSET 10");
+        String newDate = FIRST_DAY.plusDays(59).format(DATE);
+        jdbcTemplate.update("UPDATE customer_account_transactions SET transaction_date = ?, balance_after = 123456 " +
+                "WHERE transaction_code = ?", newDate, moved.get("transaction_code"));
+        service.refreshDays(5, (String) moved.get("transaction_date"), newDate);
+
+        assertMatchesLedger();
+    }
+
+    @Test
+    void backfillRebuildsAndRemovesStaleDays() {
+        seed(20, 0, 60, 0);
+        service.refresh();
+
+        // 스냅샷 불일치 (잘못된 잔액, 거래 없는 일자)
+        jdbcTemplate.update("UPDATE customer_balance_daily SET closing_balance = closing_balance + 1 WHERE customer_code = 4");
+        jdbcTemplate.update("INSERT INTO customer_balance_daily (customer_code, balance_date, closing_balance, " +
+                "last_transaction_code, updated_at) VALUES (6, '20211231', 999, 1, CURRENT_TIMESTAMP)");
+
+        service.backfill();
+
+        Integer stale = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM customer_balance_daily WHERE balance_date = '20211231'", Integer.class);
+        assertEquals(0, stale);
+        assertMatchesLedger();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void asOfLookupMatchesLedgerAsHistoryGrows() {
+        int seededYears = 0;
+        for (int years : new int[]{1, 4}) {
+            for (; seededYears < years; seededYears++) {
+                seed(200, seededYears * 365, (seededYears + 1) * 365, seededYears);
+            }
+            service.refresh();
+
+            String beforeDate = FIRST_DAY.plusDays(years * 365L - 100).format(DATE);
+            assertEquals(legacyBalances(beforeDate), repository.findBalancesBefore(1, null, beforeDate, OVERLAP_CODES));
+        }
+    }
+
+    private void assertMatchesLedger() {
+        List<String> dates = new ArrayList<>();
+        for (int day = 0; day <= 130; day += 7) {
+            dates.add(FIRST_DAY.plusDays(day).format(DATE));
+        }
+        for (String beforeDate : dates) {
+            assertEquals(legacyBalances(beforeDate), repository.findBalancesBefore(1, null, beforeDate, OVERLAP_CODES), beforeDate);
+        }
+        assertTrue(repository.findBalancesBefore(1, null, FIRST_DAY.format(DATE), OVERLAP_CODES).isEmpty());
+    }
+
+    /**
+     * 원장 직접 조회 (본사 1 거래처별 시작일 이전 최근 거래 1건, 이전 거래 없으면 제외)
+     */
+    private Map<Integer, Integer> legacyBalances(String beforeDate) {
+        Map<Integer, Integer> result = new HashMap<>();
+        jdbcTemplate.query(LEGACY_BALANCES, rs -> {
+            int balance = rs.getInt("balance_after");
+            if (!rs.wasNull()) {
+                result.put(rs.getInt("customer_code"), balance);
+            }
+        }, beforeDate);
+        return result;
+    }
+
+    private void insertTransaction(int transactionCode, int customerCode, LocalDate transactionDate, int balanceAfter) {
+        jdbcTemplate.update("INSERT INTO customer_account_transactions " +
+                "(transaction_code, customer_code, transaction_date, amount, balance_after) VALUES (?, ?, ?, 0, ?)",
+                transactionCode, customerCode, transactionDate.format(DATE), balanceAfter);
+    }
+
+    private Integer legacyBalance(Integer customerCode, String beforeDate) {
+        return legacyBalances(beforeDate).get(customerCode);
+    }
+}
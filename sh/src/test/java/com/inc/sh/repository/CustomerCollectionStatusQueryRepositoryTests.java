@@ -0,0 +1,158 @@
+package com.inc.sh.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 거래처별잔액현황 단일 조회 테스트 (H2 MariaDB 호환 모드)
+ * - 기존 방식(기간 집계 1회 + 거래처마다 전일잔액 1회)과 같은 결과 (전일잔액은 일별 마감잔액 스냅샷)
+ * - 이전 거래 없는 거래처 전일잔액 0, 같은 날짜 거래는 거래코드 순 마지막 잔액
+ * - 거래처 수가 늘어도 쿼리 수 고정 (집계 1회 + 스냅샷 반영 기준 1회 + 전일잔액 1회)
+ */
+class CustomerCollectionStatusQueryRepositoryTests {
+
+    private static final String[] TYPES = {"출금", "외상", "반품입금", "입금", "조정"};
+
+    private static final String LEGACY_SUMMARY = "SELECT cat.customer_code, c.customer_name, c.credit_limit, " +
+            "SUM(CASE WHEN cat.transaction_type IN ('출금', '외상') THEN ABS(cat.amount) ELSE 0 END) as sales_amount, " +
+            "SUM(CASE WHEN cat.transaction_type = '반품입금' THEN cat.amount ELSE 0 END) as return_amount, " +
+            "SUM(CASE WHEN cat.transaction_type = '입금' THEN cat.amount ELSE 0 END) as deposit_amount, " +
+            "SUM(CASE WHEN cat.transaction_type = '조정' THEN cat.amount ELSE 0 END) as adjustment_amount " +
+            "FROM customer_account_transactions cat JOIN customer c ON cat.customer_code = c.customer_code " +
+            "WHERE cat.transaction_date >= ? AND cat.transaction_date <= ? " +
+            "AND (? IS NULL OR cat.customer_code = ?) AND c.hq_code = ? " +
+            "GROUP BY cat.customer_code, c.customer_name, c.credit_limit ORDER BY cat.customer_code";
+    private static final String LEGACY_PREVIOUS_BALANCE = "SELECT customer_code, balance_after " +
+            "FROM customer_account_transactions WHERE customer_code = ? AND transaction_date < ? " +
+            "ORDER BY transaction_date DESC, transaction_code DESC LIMIT 1";
+
+    private JdbcTemplate jdbcTemplate;
+    private CustomerCollectionStatusQueryRepository repository;
+    private CustomerBalanceSnapshotRepository snapshotRepository;
+    private final AtomicInteger queryCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("collection-status")) {
+            @Override
+            public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse) {
+                queryCount.incrementAndGet();
+                return super.query(psc, pss, rse);
+            }
+
+            @Override
+            public <T> T query(String sql, ResultSetExtractor<T> rse) {
+                queryCount.incrementAndGet();
+                return super.query(sql, rse);
+            }
+        };
+        repository = new CustomerCollectionStatusQueryRepository(jdbcTemplate);
+        snapshotRepository = new CustomerBalanceSnapshotRepository(jdbcTemplate);
+    }
+
+    /**
+     * 거래처당 약 20건, 2025-01 ~ 2025-04 거래 생성 (7번째 거래처마다 기간 이전 거래 없음)
+     */
+    private void seed(int customerCount) {
+        List<Object[]> transactions = new ArrayList<>();
+        for (int customer = 1; customer <= customerCount; customer++) {
+            jdbcTemplate.update("INSERT INTO customer (customer_code, hq_code, customer_name, credit_limit) VALUES (?, ?, ?, ?)",
+                    customer, customer % 20 == 0 ? 2 : 1, "거래처" + customer, customer % 5 * 100_000);
+
+            int balance = 0;
+            for (int i = 0; i < 20; i++) {
+                int day = customer % 7 == 0 ? 40 + i * 3 : (customer * 3 + i * 6) % 120;
+                String date = String.format("2025-%02d-%02d", day / 30 + 1, day % 28 + 1);
+                String type = TYPES[(customer + i) % TYPES.length];
+                int amount = 1_000 * (1 + (customer * i) % 9);
+                int signed = type.equals("출금") || type.equals("외상") ? -amount : amount;
+                balance += signed;
+                transactions.add(new Object[]{customer, date, type, signed, balance});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO customer_account_transactions " +
+                "(customer_code, transaction_date, transaction_type, amount, balance_after) VALUES (?, ?, ?, ?, ?)", transactions);
+        snapshotRepository.upsertDaysTouchedBetween(0, snapshotRepository.findMaxTransactionCode());
+    }
+
+    @Test
+    void matchesPerCustomerLookups() {
+        seed(300);
+
+        for (Integer customerCode : new Integer[]{null, 7, 8, 20}) {
+            for (String[] period : new String[][]{{"2025-02-01", "2025-03-31"}, {"2025-01-01", "2025-04-30"}, {"2025-03-10", "2025-03-20"}}) {
+                List<List<Object>> legacy = legacyLookup(1, period[0], period[1], customerCode);
+                List<List<Object>> current = lookup(1, period[0], period[1], customerCode);
+                assertEquals(legacy, current);
+            }
+        }
+
+        // 이전 거래 없는 거래처 → 전일잔액 0, 있는 거래처 → 0이 아닌 잔액 포함
+        List<List<Object>> rows = lookup(1, "2025-02-01", "2025-03-31", null);
+        assertTrue(rows.stream().filter(row -> (Integer) row.get(0) % 7 == 0).allMatch(row -> (Integer) row.get(7) == 0));
+        assertTrue(rows.stream().anyMatch(row -> (Integer) row.get(7) != 0));
+    }
+
+    @Test
+    void constantQueryCountRegardlessOfCustomers() {
+        for (int customerCount : new int[]{20, 200}) {
+            jdbcTemplate.execute("DELETE FROM customer_account_transactions");
+            jdbcTemplate.execute("DELETE FROM customer");
+            seed(customerCount);
+
+            queryCount.set(0);
+            int rows = lookup(1, "2025-02-01", "2025-03-31", null).size();
+            assertEquals(3, queryCount.get());
+
+            queryCount.set(0);
+            assertEquals(rows, legacyLookup(1, "2025-02-01", "2025-03-31", null).size());
+            assertEquals(rows + 1, queryCount.get());
+        }
+    }
+
+    /**
+     * 변경 조회 방식: 기간 집계 1회 + 스냅샷 전일잔액 (반영 기준 1회 + 잔액 1회)
+     */
+    private List<List<Object>> lookup(int hqCode, String startDate, String endDate, Integer customerCode) {
+        Map<Integer, Integer> previousBalances = snapshotRepository.findBalancesBefore(hqCode, customerCode, startDate, 1000);
+        return repository.findCollectionStatus(hqCode, startDate, endDate, customerCode).stream()
+                .map(row -> Arrays.<Object>asList(row.getCustomerCode(), row.getCustomerName(), row.getCreditLimit(),
+                        row.getSalesAmount(), row.getReturnAmount(), row.getDepositAmount(),
+                        row.getAdjustmentAmount(), previousBalances.getOrDefault(row.getCustomerCode(), 0)))
+                .toList();
+    }
+
+    /**
+     * 기존 조회 방식: 기간 집계 후 거래처마다 전일잔액 조회
+     */
+    private List<List<Object>> legacyLookup(int hqCode, String startDate, String endDate, Integer customerCode) {
+        List<List<Object>> result = new ArrayList<>();
+        List<Map<String, Object>> summaries = jdbcTemplate.queryForList(LEGACY_SUMMARY,
+                startDate, endDate, customerCode, customerCode, hqCode);
+
+        for (Map<String, Object> summary : summaries) {
+            Integer code = ((Number) summary.get("customer_code")).intValue();
+            List<Map<String, Object>> previous = jdbcTemplate.queryForList(LEGACY_PREVIOUS_BALANCE, code, startDate);
+            int previousBalance = previous.isEmpty() ? 0 : ((Number) previous.get(0).get("balance_after")).intValue();
+
+            result.add(Arrays.asList(code, summary.get("customer_name"), ((Number) summary.get("credit_limit")).intValue(),
+                    ((Number) summary.get("sales_amount")).intValue(), ((Number) summary.get("return_amount")).intValue(),
+                    ((Number) summary.get("deposit_amount")).intValue(), ((Number) summary.get("adjustment_amount")).intValue(),
+                    previousBalance));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+package com.inc.sh.repository;
+
+import com.inc.sh.entity.OrderPlatforms;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 일별 매출 집계 / 매장 순위 캐시 테스트 (H2 MariaDB 호환 모드)
+ * - 동기화 배치마다 누적한 일별 집계 = 원본 주문에서 다시 집계한 결과
+ * - 순위는 대상 브랜드만 교체, (순위유형, 플랫폼, 브랜드) 단위로 1위부터 매김
+ */
+class DailySalesSummaryBatchRepositoryTests {
+
+    private static final String[] PLATFORMS = {"배민", "요기요"};
+    private static final int STORE_COUNT = 12;
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderPlatformBatchRepository orderPlatformBatchRepository;
+    private DailySalesSummaryBatchRepository dailySalesSummaryBatchRepository;
+    private StoreRankingCacheBatchRepository storeRankingCacheBatchRepository;
+    private int orderSeq;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("summary"));
+        orderPlatformBatchRepository = new OrderPlatformBatchRepository(jdbcTemplate);
+        dailySalesSummaryBatchRepository = new DailySalesSummaryBatchRepository(jdbcTemplate);
+        storeRankingCacheBatchRepository = new StoreRankingCacheBatchRepository(jdbcTemplate);
+
+        for (int store = 1; store <= STORE_COUNT; store++) {
+            jdbcTemplate.update("INSERT INTO store_platforms (store_platform_code, platform_store_name) VALUES (?, ?)",
+                    store, "매장" + store);
+        }
+    }
+
+    @Test
+    void accumulatedSummaryMatchesRebuild() {
+        // 동기화 2회 (겹치는 일자 포함)
+        syncDays(1, 4);
+        syncDays(3, 6);
+
+        List<Map<String, Object>> accumulated = summaryRows();
+        assertEquals(STORE_COUNT * 6, accumulated.size());
+
+        assertEquals(accumulated.size(), dailySalesSummaryBatchRepository.rebuild(null, "2025-03-01"));
+        assertEquals(accumulated, summaryRows());
+
+        // 시작일 이후 + 브랜드 2만 재집계: 나머지 행은 그대로
+        jdbcTemplate.update("UPDATE daily_sales_summary SET order_count = -1");
+        int rebuilt = dailySalesSummaryBatchRepository.rebuild(2, "2025-03-05");
+        assertEquals(2 * 4, rebuilt); // 브랜드 2 매장 4개 × 2일
+        assertEquals(accumulated.size() - rebuilt, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM daily_sales_summary WHERE order_count = -1", Integer.class));
+    }
+
+    @Test
+    void refreshesRankingsOnlyForGivenBrands() {
+        syncDays(1, 7);
+
+        assertEquals(STORE_COUNT * 2, storeRankingCacheBatchRepository.refreshRankings(null, null, "최근7일", "2025-03-01"));
+        assertRankingsMatchSummary();
+
+        // 주문 추가 후 배민 브랜드 1만 재계산 → 나머지 순위는 이전 값 유지
+        jdbcTemplate.update("UPDATE store_ranking_cache SET description = 'old'");
+        syncDays(7, 7);
+        int rows = storeRankingCacheBatchRepository.refreshRankings("배민", List.of(1), "최근7일", "2025-03-01");
+
+        assertEquals(2 * 2, rows); // 배민 × 브랜드 1 매장 2개 × 순위유형 2
+        assertEquals(STORE_COUNT * 2 - rows, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM store_ranking_cache WHERE description = 'old'", Integer.class));
+        assertRankingsMatchSummary();
+
+        // 시작일 이후 집계만 반영
+        storeRankingCacheBatchRepository.refreshRankings(null, null, "최근7일", "2025-03-07");
+        assertEquals(STORE_COUNT * 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM store_ranking_cache", Integer.class));
+    }
+
+    /**
+     * 순위: 같은 (순위유형, 플랫폼, 브랜드) 안에서 지표 내림차순 1..N (이번에 다시 계산된 행만 확인)
+     */
+    private void assertRankingsMatchSummary() {
+        List<Map<String, Object>> rankings = jdbcTemplate.queryForList(
+                "SELECT ranking_type, platform, brand_code, store_platform_code, metric_value, rank_number " +
+                "FROM store_ranking_cache WHERE description <> 'old' ORDER BY ranking_type, platform, brand_code, rank_number");
+
+        Map<String, Double> previousValue = new TreeMap<>();
+        Map<String, Integer> expectedRank = new TreeMap<>();
+        for (Map<String, Object> ranking : rankings) {
+            String group = ranking.get("ranking_type") + "|" + ranking.get("platform") + "|" + ranking.get("brand_code");
+            double value = ((Number) ranking.get("metric_value")).doubleValue();
+            int rank = expectedRank.merge(group, 1, Integer::sum);
+
+            assertEquals(rank, ((Number) ranking.get("rank_number")).intValue());
+            if (previousValue.containsKey(group)) {
+                assertTrue(previousValue.get(group) >= value);
+            }
+            previousValue.put(group, value);
+
+            String column = StoreRankingCacheBatchRepository.RANKING_TYPE_AMOUNT.equals(ranking.get("ranking_type"))
+                    ? "total_order_amount" : "order_count";
+            assertEquals(jdbcTemplate.queryForObject("SELECT SUM(" + column + ") FROM daily_sales_summary " +
+                            "WHERE store_platform_code = ?", Long.class, ranking.get("store_platform_code")).doubleValue(),
+                    value);
+        }
+    }
+
+    /**
+     * 매장마다 2025-03-from ~ to 일자 주문 저장 + 일별 집계 누적 (PlatformOrderService 저장 흐름과 같은 순서)
+     */
+    private void syncDays(int fromDay, int toDay) {
+        for (int store = 1; store <= STORE_COUNT; store++) {
+            List<OrderPlatforms> orders = new ArrayList<>();
+            Map<String, int[]> totals = new TreeMap<>();
+            for (int day = fromDay; day <= toDay; day++) {
+                for (int i = 0; i < store % 4 + 1; i++) {
+                    int amount = 1_000 * ((store * 7 + day + i) % 13 + 1);
+                    orders.add(OrderPlatforms.builder()
+                            .storePlatformCode(store)
+                            .customerCode(100 + store)
+                            .brandCode(brandOf(store))
+                            .platform(PLATFORMS[store % 2])
+                            .orderNo("order-" + orderSeq++)
+                            .orderDate(String.format("202503%02d", day))
+                            .orderAmount(amount)
+                            .deliveryAmount(500)
+                            .orderFee(100)
+                            .cardFee(10)
+                            .build());
+                    int[] total = totals.computeIfAbsent(String.format("2025-03-%02d", day), k -> new int[2]);
+                    total[0]++;
+                    total[1] += amount;
+                }
+            }
+            orderPlatformBatchRepository.batchInsert(orders);
+
+            List<DailySalesSummaryBatchRepository.DailySalesDelta> deltas = new ArrayList<>();
+            for (Map.Entry<String, int[]> entry : totals.entrySet()) {
+                int count = entry.getValue()[0];
+                deltas.add(DailySalesSummaryBatchRepository.DailySalesDelta.builder()
+                        .storePlatformCode(store)
+                        .customerCode(100 + store)
+                        .brandCode(brandOf(store))
+                        .platform(PLATFORMS[store % 2])
+                        .summaryDate(entry.getKey())
+                        .orderCount(count)
+                        .orderAmount(entry.getValue()[1])
+                        .deliveryAmount(500 * count)
+                        .discountAmount(0)
+                        .fee(110 * count)
+                        .build());
+            }
+            dailySalesSummaryBatchRepository.batchAccumulate(deltas);
+        }
+    }
+
+    private static int brandOf(int store) {
+        return store % 3 + 1;
+    }
+
+    private List<Map<String, Object>> summaryRows() {
+        return jdbcTemplate.queryForList("SELECT store_platform_code, customer_code, brand_code, platform, summary_date, " +
+                "order_count, total_order_amount, total_settle_amount, total_delivery_amount, total_discount_amount, total_fee " +
+                "FROM daily_sales_summary ORDER BY store_platform_code, summary_date");
+    }
+}
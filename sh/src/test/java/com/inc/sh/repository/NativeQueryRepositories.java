@@ -0,0 +1,59 @@
+package com.inc.sh.repository;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * JPA 컨텍스트 없이 서비스 테스트용 리포지토리 프록시 생성
+ * - 네이티브 @Query 메서드는 선언된 SQL을 @Param 이름으로 바인딩해 NamedParameterJdbcTemplate으로 실행
+ *   (@Modifying이면 변경 건수, 아니면 첫 행 단일 컬럼 또는 null)
+ * - 그 외 메서드(save 등)는 fallback으로 위임, fallback이 없으면 미지원
+ */
+public final class NativeQueryRepositories {
+
+    private NativeQueryRepositories() {
+    }
+
+    public static <T> T create(Class<T> repositoryType, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        return create(repositoryType, namedJdbcTemplate, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T create(Class<T> repositoryType, NamedParameterJdbcTemplate namedJdbcTemplate,
+                               InvocationHandler fallback) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    Query query = method.getAnnotation(Query.class);
+                    if (query != null && query.nativeQuery()) {
+                        MapSqlParameterSource parameters = parameters(method, args);
+                        if (method.isAnnotationPresent(Modifying.class)) {
+                            return namedJdbcTemplate.update(query.value(), parameters);
+                        }
+                        List<?> results = namedJdbcTemplate.queryForList(query.value(), parameters, method.getReturnType());
+                        return results.isEmpty() ? null : results.get(0);
+                    }
+                    if (fallback != null) {
+                        return fallback.invoke(proxy, method, args);
+                    }
+                    throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName());
+                });
+    }
+
+    private static MapSqlParameterSource parameters(Method method, Object[] args) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        Parameter[] declared = method.getParameters();
+        for (int i = 0; i < declared.length; i++) {
+            parameters.addValue(declared[i].getAnnotation(Param.class).value(), args[i]);
+        }
+        return parameters;
+    }
+}
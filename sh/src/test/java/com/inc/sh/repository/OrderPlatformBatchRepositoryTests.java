@@ -0,0 +1,124 @@
+package com.inc.sh.repository;
+
+import com.inc.sh.entity.OrderPlatforms;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 플랫폼 주문 일괄 저장 테스트 (H2 MariaDB 호환 모드)
+ * - UNIQUE(order_no, store_platform_code) + INSERT IGNORE: 중복 주문은 건너뛰고 실제 저장된 주문만 반환
+ * - benchmark 태그: 주문마다 SELECT + 단건 INSERT 하던 방식과 IN 조회 + 배치 INSERT 비교
+ *   (입력 주문의 절반은 이미 저장된 주문, 재동기화 상황)
+ */
+class OrderPlatformBatchRepositoryTests {
+
+    private static final int ORDER_COUNT = 10_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderPlatformBatchRepository orderPlatformBatchRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("order-platforms"));
+        orderPlatformBatchRepository = new OrderPlatformBatchRepository(jdbcTemplate);
+
+        jdbcTemplate.update("INSERT INTO store_platforms (store_platform_code) VALUES (1)");
+    }
+
+    @Test
+    void duplicateOrdersAreIgnoredAndOnlyInsertedRowsReturned() {
+        orderPlatformBatchRepository.batchInsert(orders("dup", 0, 3));
+
+        // 0~2는 이미 저장됨(잠금 전에 다른 동기화가 저장한 상황), 3~5만 신규
+        List<OrderPlatforms> inserted = orderPlatformBatchRepository.batchInsert(orders("dup", 0, 6));
+
+        assertEquals(List.of("dup-3", "dup-4", "dup-5"), inserted.stream().map(OrderPlatforms::getOrderNo).toList());
+        assertEquals(6, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_platforms", Integer.class));
+    }
+
+    @Test
+    void existingOrderNosAreScopedToStore() {
+        orderPlatformBatchRepository.batchInsert(orders("scope", 0, 2));
+        List<OrderPlatforms> otherStore = orders("scope", 0, 2);
+        otherStore.forEach(order -> order.setStorePlatformCode(2));
+
+        orderPlatformBatchRepository.lockStore(1);
+        Set<String> existing = orderPlatformBatchRepository.findExistingOrderNos(1, List.of("scope-0", "scope-1", "scope-2"));
+
+        assertEquals(Set.of("scope-0", "scope-1"), existing);
+        assertTrue(orderPlatformBatchRepository.findExistingOrderNos(2, List.of("scope-0")).isEmpty());
+        // 같은 주문번호라도 매장이 다르면 저장
+        assertEquals(2, orderPlatformBatchRepository.batchInsert(otherStore).size());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareRowByRowWithBatch() {
+        // 변경 전 방식: 절반 선저장 후 전체 재동기화
+        orderPlatformBatchRepository.batchInsert(orders("before", 0, ORDER_COUNT / 2));
+        List<OrderPlatforms> incoming = orders("before", 0, ORDER_COUNT);
+
+        long start = System.nanoTime();
+        int savedBefore = 0;
+        for (OrderPlatforms order : incoming) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM order_platforms WHERE store_platform_code = 1 AND order_no = ?",
+                    Integer.class, order.getOrderNo());
+            if (count != null && count > 0) {
+                continue;
+            }
+            orderPlatformBatchRepository.batchInsert(List.of(order));
+            savedBefore++;
+        }
+        long beforeNanos = System.nanoTime() - start;
+
+        // 변경 후 방식: 같은 조건에서 IN 조회 + 배치 INSERT
+        orderPlatformBatchRepository.batchInsert(orders("after", 0, ORDER_COUNT / 2));
+        List<OrderPlatforms> incomingAfter = orders("after", 0, ORDER_COUNT);
+
+        start = System.nanoTime();
+        orderPlatformBatchRepository.lockStore(1);
+        Set<String> existing = orderPlatformBatchRepository.findExistingOrderNos(1,
+                incomingAfter.stream().map(OrderPlatforms::getOrderNo).toList());
+        List<OrderPlatforms> newOrders = new ArrayList<>();
+        for (OrderPlatforms order : incomingAfter) {
+            if (!existing.contains(order.getOrderNo())) {
+                newOrders.add(order);
+            }
+        }
+        List<OrderPlatforms> inserted = orderPlatformBatchRepository.batchInsert(newOrders);
+        long afterNanos = System.nanoTime() - start;
+
+        assertEquals(ORDER_COUNT / 2, savedBefore);
+        assertEquals(ORDER_COUNT / 2, inserted.size());
+        assertEquals(ORDER_COUNT * 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_platforms", Integer.class));
+        assertTrue(afterNanos < beforeNanos,
+                "배치 " + afterNanos / 1_000_000 + "ms / 건별 " + beforeNanos / 1_000_000 + "ms");
+    }
+
+    private List<OrderPlatforms> orders(String prefix, int from, int to) {
+        List<OrderPlatforms> orders = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            orders.add(OrderPlatforms.builder()
+                    .storePlatformCode(1)
+                    .customerCode(1)
+                    .brandCode(1)
+                    .platform("배민")
+                    .orderNo(prefix + "-" + i)
+                    .orderDate("20250101")
+                    .orderAmount(10_000)
+                    .description("벤치마크")
+                    .build());
+        }
+        return orders;
+    }
+}
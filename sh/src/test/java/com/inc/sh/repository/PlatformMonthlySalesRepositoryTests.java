@@ -0,0 +1,185 @@
+package com.inc.sh.repository;
+
+import com.inc.sh.entity.OrderPlatforms;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 플랫폼 월별 매출 집계 테스트 (H2 MariaDB 호환 모드)
+ * - 주문 저장 시 누적한 집계 = 원본 주문에서 다시 집계한 결과
+ * - benchmark 태그: 대시보드 월별 조회 원본 주문 GROUP BY SUBSTRING(order_date) vs 집계 테이블 (주문 이력 증가에 따른 시간 비교)
+ */
+class PlatformMonthlySalesRepositoryTests {
+
+    private static final String[] PLATFORMS = {"배민", "요기요", "쿠팡이츠"};
+    private static final int STORE_COUNT = 30;
+
+    private static final String RAW_MONTHLY_SQL =
+            "SELECT SUBSTRING(op.order_date, 1, 6) AS ym, COALESCE(SUM(op.order_amount), 0) AS total_sales " +
+            "FROM store_platforms sp " +
+            "INNER JOIN customer c ON sp.customer_code = c.customer_code " +
+            "INNER JOIN order_platforms op ON sp.store_platform_code = op.store_platform_code " +
+            "WHERE sp.hq_code = ? AND sp.is_active = true AND (? = 0 OR sp.brand_code = ?) " +
+            "AND SUBSTRING(op.order_date, 1, 6) >= ? AND SUBSTRING(op.order_date, 1, 6) <= ? " +
+            "GROUP BY SUBSTRING(op.order_date, 1, 6) ORDER BY SUBSTRING(op.order_date, 1, 6)";
+
+    private static final String ROLLUP_MONTHLY_SQL =
+            "SELECT pms.sales_month AS ym, COALESCE(SUM(pms.order_amount), 0) AS total_sales " +
+            "FROM platform_monthly_sales pms " +
+            "INNER JOIN store_platforms sp ON pms.store_platform_code = sp.store_platform_code " +
+            "INNER JOIN customer c ON sp.customer_code = c.customer_code " +
+            "WHERE pms.hq_code = ? AND sp.is_active = true AND (? = 0 OR pms.brand_code = ?) " +
+            "AND pms.sales_month >= ? AND pms.sales_month <= ? " +
+            "GROUP BY pms.sales_month ORDER BY pms.sales_month";
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderPlatformBatchRepository orderPlatformBatchRepository;
+    private PlatformMonthlySalesRepository platformMonthlySalesRepository;
+    private int orderSeq;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("rollup"));
+        orderPlatformBatchRepository = new OrderPlatformBatchRepository(jdbcTemplate);
+        platformMonthlySalesRepository = new PlatformMonthlySalesRepository(jdbcTemplate);
+
+        for (int store = 1; store <= STORE_COUNT; store++) {
+            jdbcTemplate.update("INSERT INTO customer (customer_code) VALUES (?)", store);
+            jdbcTemplate.update("INSERT INTO store_platforms (store_platform_code, customer_code, brand_code, hq_code, " +
+                    "platform, is_active) VALUES (?, ?, ?, ?, ?, ?)",
+                    store, store, store % 2 + 1, store <= 20 ? 1 : 2, PLATFORMS[store % 3], store != 7 ? 1 : 0);
+        }
+    }
+
+    @Test
+    void accumulatedRollupMatchesRebuild() {
+        // 동기화 2회: 같은 매장/월에 누적
+        syncMonths(2024, 1, 3, 5);
+        syncMonths(2024, 3, 6, 5);
+
+        List<Map<String, Object>> accumulated = rollupRows();
+        assertEquals(accumulated.size(), platformMonthlySalesRepository.rebuild(null));
+        assertEquals(accumulated, rollupRows());
+
+        // 본사 1만 재집계: 본사 2 집계는 그대로
+        jdbcTemplate.update("UPDATE platform_monthly_sales SET order_count = 0 WHERE hq_code = 2");
+        platformMonthlySalesRepository.rebuild(1);
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT SUM(order_count) FROM platform_monthly_sales WHERE hq_code = 2", Integer.class));
+        assertEquals(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM order_platforms op INNER JOIN store_platforms sp " +
+                        "ON sp.store_platform_code = op.store_platform_code WHERE sp.hq_code = 1", Integer.class),
+                jdbcTemplate.queryForObject(
+                        "SELECT SUM(order_count) FROM platform_monthly_sales WHERE hq_code = 1", Integer.class));
+
+        // 대시보드 월별 매출: 원본 주문 조회와 같은 결과
+        Object[] params = {1, 0, 0, "202401", "202412"};
+        assertEquals(monthlyTotals(RAW_MONTHLY_SQL, params), monthlyTotals(ROLLUP_MONTHLY_SQL, params));
+        Object[] brandParams = {1, 2, 2, "202402", "202405"};
+        assertEquals(monthlyTotals(RAW_MONTHLY_SQL, brandParams), monthlyTotals(ROLLUP_MONTHLY_SQL, brandParams));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareRawScanWithRollupAsHistoryGrows() {
+        Map<Integer, long[]> elapsedByMonths = new LinkedHashMap<>();
+        int syncedMonths = 0;
+
+        for (int months : new int[]{12, 36, 72}) {
+            for (int month = syncedMonths; month < months; month++) {
+                syncMonths(2020 + month / 12, month % 12 + 1, month % 12 + 1, 20);
+            }
+            syncedMonths = months;
+
+            String endMonth = String.format("%04d%02d", 2020 + (months - 1) / 12, (months - 1) % 12 + 1);
+            String startMonth = String.format("%04d%02d", 2020 + (months - 12) / 12, (months - 12) % 12 + 1);
+            Object[] params = {1, 0, 0, startMonth, endMonth};
+
+            assertEquals(monthlyTotals(RAW_MONTHLY_SQL, params), monthlyTotals(ROLLUP_MONTHLY_SQL, params));
+            elapsedByMonths.put(months, new long[]{
+                    median(RAW_MONTHLY_SQL, params), median(ROLLUP_MONTHLY_SQL, params),
+                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_platforms", Long.class)});
+        }
+
+        elapsedByMonths.forEach((months, elapsed) -> assertTrue(elapsed[1] < elapsed[0],
+                "주문 이력 " + months + "개월 (" + elapsed[2] + "건): 집계 " + elapsed[1] + "µs / 원본 " + elapsed[0] + "µs"));
+    }
+
+    /**
+     * 매장마다 월별 주문 저장 + 집계 누적 (PlatformOrderService 저장 흐름과 같은 순서)
+     */
+    private void syncMonths(int year, int fromMonth, int toMonth, int ordersPerStoreMonth) {
+        for (int store = 1; store <= STORE_COUNT; store++) {
+            List<OrderPlatforms> orders = new ArrayList<>();
+            Map<String, long[]> totals = new TreeMap<>();
+            for (int month = fromMonth; month <= toMonth; month++) {
+                for (int i = 0; i < ordersPerStoreMonth; i++) {
+                    String orderDate = String.format("%04d%02d%02d", year, month, i % 28 + 1);
+                    int amount = 1_000 * (store + i % 7);
+                    orders.add(OrderPlatforms.builder()
+                            .storePlatformCode(store)
+                            .customerCode(store)
+                            .brandCode(store % 2 + 1)
+                            .platform(PLATFORMS[store % 3])
+                            .orderNo("order-" + orderSeq++)
+                            .orderDate(orderDate)
+                            .orderAmount(amount)
+                            .build());
+                    long[] total = totals.computeIfAbsent(orderDate.substring(0, 6), k -> new long[2]);
+                    total[0]++;
+                    total[1] += amount;
+                }
+            }
+            orderPlatformBatchRepository.batchInsert(orders);
+
+            List<PlatformMonthlySalesRepository.MonthlySalesDelta> deltas = new ArrayList<>();
+            for (Map.Entry<String, long[]> entry : totals.entrySet()) {
+                deltas.add(PlatformMonthlySalesRepository.MonthlySalesDelta.builder()
+                        .hqCode(store <= 20 ? 1 : 2)
+                        .brandCode(store % 2 + 1)
+                        .storePlatformCode(store)
+                        .platform(PLATFORMS[store % 3])
+                        .salesMonth(entry.getKey())
+                        .orderCount((int) entry.getValue()[0])
+                        .orderAmount(entry.getValue()[1])
+                        .build());
+            }
+            platformMonthlySalesRepository.batchAccumulate(deltas);
+        }
+    }
+
+    private List<Map<String, Object>> rollupRows() {
+        return jdbcTemplate.queryForList("SELECT store_platform_code, sales_month, hq_code, brand_code, platform, " +
+                "order_count, order_amount FROM platform_monthly_sales ORDER BY store_platform_code, sales_month");
+    }
+
+    private Map<String, Long> monthlyTotals(String sql, Object[] params) {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            totals.put(rs.getString("ym"), rs.getLong("total_sales"));
+        }, params);
+        return totals;
+    }
+
+    private long median(String sql, Object[] params) {
+        long[] samples = new long[7];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            monthlyTotals(sql, params);
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+        java.util.Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+}
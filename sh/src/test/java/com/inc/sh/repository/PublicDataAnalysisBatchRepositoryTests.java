@@ -0,0 +1,175 @@
+package com.inc.sh.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 공공데이터 분석 배치 저장 테스트 (H2 MariaDB 호환 모드)
+ * - 변경 전: 행정동마다 findByAdminDongCode + save (2회 왕복, 전체 컬럼 UPDATE)
+ * - 변경 후: admin_dong_code 기준 단계별 배치 UPSERT (단계별 컬럼만 갱신, 매출 행이 없는 동도 저장)
+ * - benchmark 태그: 건별 조회 + 저장 방식과 배치 UPSERT 비교
+ */
+public class PublicDataAnalysisBatchRepositoryTests {
+
+    private static final int DONG_COUNT = 3_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private PublicDataAnalysisBatchRepository batchRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("analysis"));
+        batchRepository = new PublicDataAnalysisBatchRepository(jdbcTemplate);
+    }
+
+    @Test
+    void salesUpsertInsertsNewDongsAndKeepsOtherStageColumns() {
+        batchRepository.batchUpsertSales(List.of(sales(11110515, 1_000L, null)));
+        batchRepository.batchUpsertIncomeConsumption(List.of(income(11110515, 500L, 300L)));
+
+        // 재수집: 한식은 새 값, 중식은 이번에 수집되지 않음(null) → 기존 값 유지, 소득/소비는 그대로
+        batchRepository.batchUpsertSales(List.of(sales(11110515, 2_000L, 7L), sales(11110520, 10L, null)));
+
+        Map<String, Object> row = row(11110515);
+        assertEquals(2_000L, ((Number) row.get("KOREAN_SALES")).longValue());
+        assertEquals(7L, ((Number) row.get("CHINESE_SALES")).longValue());
+        assertEquals(500L, ((Number) row.get("INCOME")).longValue());
+        assertEquals(300L, ((Number) row.get("CONSUMPTION")).longValue());
+
+        Map<String, Object> inserted = row(11110520);
+        assertEquals("행정동11110520", inserted.get("ADMIN_DONG_NAME"));
+        assertEquals(0L, ((Number) inserted.get("CHINESE_SALES")).longValue());
+        assertEquals(0, ((Number) inserted.get("FLOATING_POPULATION")).intValue());
+    }
+
+    @Test
+    void incomeAndPopulationStagesUpsertOnlyTheirColumns() {
+        batchRepository.batchUpsertSales(List.of(sales(11110515, 1_000L, 20L)));
+
+        // 11110999는 매출 행이 없어도 소득/소비, 인구 단계에서 생성
+        batchRepository.batchUpsertBusinessPopulation(List.of(
+                population(11110515, 9_000, null),
+                population(11110999, 100, 50)));
+        batchRepository.batchUpsertIncomeConsumption(List.of(income(11110999, 700L, null)));
+
+        Map<String, Object> row = row(11110515);
+        assertEquals(9_000, ((Number) row.get("FLOATING_POPULATION")).intValue());
+        assertEquals(0, ((Number) row.get("RESIDENTIAL_POPULATION")).intValue());
+        assertEquals(3, ((Number) row.get("KOREAN_RESTAURANT_COUNT")).intValue());
+        assertEquals(1_000L, ((Number) row.get("KOREAN_SALES")).longValue());
+
+        Map<String, Object> created = row(11110999);
+        assertEquals("행정동11110999", created.get("ADMIN_DONG_NAME"));
+        assertEquals(100, ((Number) created.get("FLOATING_POPULATION")).intValue());
+        assertEquals(50, ((Number) created.get("RESIDENTIAL_POPULATION")).intValue());
+        assertEquals(700L, ((Number) created.get("INCOME")).longValue());
+        assertEquals(0L, ((Number) created.get("CONSUMPTION")).longValue());
+        assertEquals(0, ((Number) created.get("KOREAN_RESTAURANT_COUNT")).intValue());
+
+        // 나중에 도착한 매출은 매출 컬럼만 갱신
+        batchRepository.batchUpsertSales(List.of(sales(11110999, 30L, null)));
+        created = row(11110999);
+        assertEquals(30L, ((Number) created.get("KOREAN_SALES")).longValue());
+        assertEquals(3, ((Number) created.get("KOREAN_RESTAURANT_COUNT")).intValue());
+        assertEquals(100, ((Number) created.get("FLOATING_POPULATION")).intValue());
+        assertEquals(700L, ((Number) created.get("INCOME")).longValue());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM public_data_analysis", Integer.class));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareRowByRowWithBatch() {
+        // 절반은 기존 행정동, 절반은 신규 행정동
+        List<PublicDataAnalysisBatchRepository.SalesUpsert> existing = new ArrayList<>();
+        for (int i = 0; i < DONG_COUNT / 2; i++) {
+            existing.add(sales(10_000_000 + i, 1L, 1L));
+            existing.add(sales(20_000_000 + i, 1L, 1L));
+        }
+        batchRepository.batchUpsertSales(existing);
+
+        // 변경 전 방식: 행정동마다 조회 후 INSERT 또는 전체 컬럼 UPDATE
+        long start = System.nanoTime();
+        int roundTripsBefore = 0;
+        for (int i = 0; i < DONG_COUNT; i++) {
+            int code = 10_000_000 + (i < DONG_COUNT / 2 ? i : DONG_COUNT + i);
+            List<Map<String, Object>> found = jdbcTemplate.queryForList(
+                    "SELECT * FROM public_data_analysis WHERE admin_dong_code = ?", code);
+            if (found.isEmpty()) {
+                batchRepository.batchUpsertSales(List.of(sales(code, 5L, 5L)));
+            } else {
+                jdbcTemplate.update("UPDATE public_data_analysis SET admin_dong_name = ?, " +
+                                "korean_restaurant_count = ?, korean_sales = ?, chinese_restaurant_count = ?, chinese_sales = ?, " +
+                                "japanese_restaurant_count = ?, japanese_sales = ?, western_restaurant_count = ?, western_sales = ?, " +
+                                "southeast_asian_restaurant_count = ?, southeast_asian_sales = ?, floating_population = ?, " +
+                                "residential_population = ?, working_population = ?, household_count = ?, income = ?, " +
+                                "consumption = ?, updated_at = CURRENT_TIMESTAMP WHERE analysis_code = ?",
+                        "행정동" + code, 3, 5L, 3, 5L, 0, 0L, 0, 0L, 0, 0L, 0, 0, 0, 0, 0L, 0L,
+                        found.get(0).get("ANALYSIS_CODE"));
+            }
+            roundTripsBefore += 2;
+        }
+        long beforeNanos = System.nanoTime() - start;
+
+        // 변경 후 방식: 같은 조건에서 배치 UPSERT
+        List<PublicDataAnalysisBatchRepository.SalesUpsert> incoming = new ArrayList<>();
+        for (int i = 0; i < DONG_COUNT; i++) {
+            incoming.add(sales(20_000_000 + (i < DONG_COUNT / 2 ? i : DONG_COUNT + i), 5L, 5L));
+        }
+        start = System.nanoTime();
+        batchRepository.batchUpsertSales(incoming);
+        long afterNanos = System.nanoTime() - start;
+        int roundTripsAfter = (int) Math.ceil(DONG_COUNT / 500.0);
+
+        assertEquals(DONG_COUNT * 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM public_data_analysis", Integer.class));
+        assertEquals(5L, ((Number) row(20_000_000).get("KOREAN_SALES")).longValue());
+
+        assertTrue(roundTripsAfter < roundTripsBefore, "배치 " + roundTripsAfter + "회 / 건별 " + roundTripsBefore + "회");
+        assertTrue(afterNanos < beforeNanos,
+                "배치 " + afterNanos / 1_000_000 + "ms / 건별 " + beforeNanos / 1_000_000 + "ms");
+    }
+
+    private Map<String, Object> row(int adminDongCode) {
+        return jdbcTemplate.queryForMap("SELECT * FROM public_data_analysis WHERE admin_dong_code = ?", adminDongCode);
+    }
+
+    private static PublicDataAnalysisBatchRepository.IncomeConsumptionUpsert income(int adminDongCode, Long income,
+                                                                                   Long consumption) {
+        return PublicDataAnalysisBatchRepository.IncomeConsumptionUpsert.builder()
+                .adminDongCode(adminDongCode)
+                .adminDongName("행정동" + adminDongCode)
+                .income(income)
+                .consumption(consumption)
+                .build();
+    }
+
+    private static PublicDataAnalysisBatchRepository.BusinessPopulationUpsert population(int adminDongCode,
+                                                                                         Integer floatingPopulation,
+                                                                                         Integer residentialPopulation) {
+        return PublicDataAnalysisBatchRepository.BusinessPopulationUpsert.builder()
+                .adminDongCode(adminDongCode)
+                .adminDongName("행정동" + adminDongCode)
+                .floatingPopulation(floatingPopulation)
+                .residentialPopulation(residentialPopulation)
+                .build();
+    }
+
+    private static PublicDataAnalysisBatchRepository.SalesUpsert sales(int adminDongCode, Long koreanSales, Long chineseSales) {
+        return PublicDataAnalysisBatchRepository.SalesUpsert.builder()
+                .adminDongCode(adminDongCode)
+                .adminDongName("행정동" + adminDongCode)
+                .koreanRestaurantCount(3)
+                .koreanSales(koreanSales)
+                .chineseRestaurantCount(chineseSales == null ? null : 3)
+                .chineseSales(chineseSales)
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package com.inc.sh.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inc.sh.entity.ReviewImagePlatform;
+import com.inc.sh.entity.ReviewPlatform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 플랫폼 리뷰 배치 저장 테스트 (H2 MariaDB 호환 모드)
+ * - 변경 전: 리뷰마다 중복 COUNT + INSERT + LAST_INSERT_ID() + 이미지 건별 INSERT
+ * - 변경 후: 중복 IN 조회 1회 + 리뷰 배치 INSERT(생성키) + 이미지 배치 INSERT
+ * - 중복 조회는 raw_data의 orderReviewId를 뽑은 생성 컬럼 order_review_id + (platform, order_review_id) 인덱스 사용
+ * - benchmark 태그: 건별 조회/INSERT 방식과 IN 조회 + 배치 INSERT 비교
+ * - H2에는 JSON_EXTRACT/JSON_UNQUOTE가 없으므로 MariaDB와 같은 결과를 내는 함수로 대체 (TestDatabase)
+ */
+public class ReviewPlatformBatchRepositoryTests {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final int REVIEW_COUNT = 2_000;
+    private static final int IMAGES_PER_REVIEW = 2;
+
+    private JdbcTemplate jdbcTemplate;
+    private ReviewPlatformBatchRepository reviewPlatformBatchRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("review"));
+        reviewPlatformBatchRepository = new ReviewPlatformBatchRepository(jdbcTemplate);
+    }
+
+    @Test
+    void generatedKeysLinkImagesToTheirReviews() {
+        List<ReviewPlatform> reviews = reviews("keys", 0, 3);
+
+        List<Integer> codes = reviewPlatformBatchRepository.batchInsertReviews(reviews);
+        reviewPlatformBatchRepository.batchInsertImages(images(codes, reviews));
+
+        assertEquals(3, codes.size());
+        for (int i = 0; i < codes.size(); i++) {
+            String rawData = jdbcTemplate.queryForObject(
+                    "SELECT raw_data FROM review_platform WHERE review_platform_code = ?", String.class, codes.get(i));
+            assertEquals(reviews.get(i).getRawData(), rawData);
+
+            List<String> imageUrls = jdbcTemplate.queryForList(
+                    "SELECT image_url FROM review_image_platform WHERE review_platform_code = ? ORDER BY seq",
+                    String.class, codes.get(i));
+            assertEquals(List.of(imageUrl("keys-" + i, 1), imageUrl("keys-" + i, 2)), imageUrls);
+        }
+    }
+
+    @Test
+    void findsExistingOrderReviewIdsPerPlatform() {
+        reviewPlatformBatchRepository.batchInsertReviews(reviews("dup", 0, 3));
+
+        Set<String> existing = reviewPlatformBatchRepository.findExistingOrderReviewIds(
+                "배민", List.of("dup-0", "dup-2", "dup-9"));
+
+        assertEquals(Set.of("dup-0", "dup-2"), existing);
+        assertEquals(Set.of(), reviewPlatformBatchRepository.findExistingOrderReviewIds("요기요", List.of("dup-0")));
+    }
+
+    @Test
+    void duplicateLookupUsesOrderReviewIdIndex() {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT order_review_id FROM review_platform " +
+                "WHERE platform = ? AND order_review_id IN (?, ?)", String.class, "배민", "a", "b");
+
+        assertTrue(plan.toUpperCase().contains("IDX_REVIEW_PLATFORM_ORDER_REVIEW_ID"), plan);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareRowByRowWithBatch() {
+        // 변경 전 방식: 절반 선저장 후 전체 재동기화
+        reviewPlatformBatchRepository.batchInsertReviews(reviews("before", 0, REVIEW_COUNT / 2));
+        List<ReviewPlatform> incoming = reviews("before", 0, REVIEW_COUNT);
+
+        long start = System.nanoTime();
+        int roundTripsBefore = 0;
+        for (ReviewPlatform review : incoming) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM review_platform WHERE platform = ? " +
+                    "AND JSON_UNQUOTE(JSON_EXTRACT(raw_data, '$.orderReviewId')) = ?",
+                    Integer.class, review.getPlatform(), orderReviewId(review));
+            roundTripsBefore++;
+            if (count != null && count > 0) {
+                continue;
+            }
+            reviewPlatformBatchRepository.batchInsertReviews(List.of(review));
+            Integer code = jdbcTemplate.queryForObject("SELECT MAX(review_platform_code) FROM review_platform", Integer.class);
+            roundTripsBefore += 2;
+            for (ReviewImagePlatform image : images(List.of(code), List.of(review))) {
+                reviewPlatformBatchRepository.batchInsertImages(List.of(image));
+                roundTripsBefore++;
+            }
+        }
+        long beforeNanos = System.nanoTime() - start;
+
+        // 변경 후 방식: 같은 조건에서 IN 조회 + 배치 INSERT
+        reviewPlatformBatchRepository.batchInsertReviews(reviews("after", 0, REVIEW_COUNT / 2));
+        List<ReviewPlatform> incomingAfter = reviews("after", 0, REVIEW_COUNT);
+
+        start = System.nanoTime();
+        Set<String> existing = reviewPlatformBatchRepository.findExistingOrderReviewIds(
+                "배민", incomingAfter.stream().map(ReviewPlatformBatchRepositoryTests::orderReviewId).toList());
+        List<ReviewPlatform> newReviews = new ArrayList<>();
+        for (ReviewPlatform review : incomingAfter) {
+            if (!existing.contains(orderReviewId(review))) {
+                newReviews.add(review);
+            }
+        }
+        List<Integer> codes = reviewPlatformBatchRepository.batchInsertReviews(newReviews);
+        List<ReviewImagePlatform> images = images(codes, newReviews);
+        reviewPlatformBatchRepository.batchInsertImages(images);
+        long afterNanos = System.nanoTime() - start;
+        int roundTripsAfter = 1 + (int) Math.ceil(newReviews.size() / 500.0) + (int) Math.ceil(images.size() / 500.0);
+
+        assertEquals(REVIEW_COUNT / 2, newReviews.size());
+        assertEquals(REVIEW_COUNT * 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review_platform", Integer.class));
+        assertEquals(REVIEW_COUNT * IMAGES_PER_REVIEW,
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review_image_platform", Integer.class));
+
+        assertTrue(roundTripsAfter < roundTripsBefore, "배치 " + roundTripsAfter + "회 / 건별 " + roundTripsBefore + "회");
+        assertTrue(afterNanos < beforeNanos,
+                "배치 " + afterNanos / 1_000_000 + "ms / 건별 " + beforeNanos / 1_000_000 + "ms");
+    }
+
+    private static String orderReviewId(ReviewPlatform review) {
+        try {
+            return OBJECT_MAPPER.readTree(review.getRawData()).path("orderReviewId").asText();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<ReviewPlatform> reviews(String prefix, int from, int to) {
+        List<ReviewPlatform> reviews = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            reviews.add(ReviewPlatform.builder()
+                    .storePlatformCode(1)
+                    .customerCode(1)
+                    .brandCode(1)
+                    .platform("배민")
+                    .reviewDate(LocalDate.of(2025, 1, 1))
+                    .rating(5)
+                    .content("맛있어요")
+                    .hasImages("Y")
+                    .rawData("{\"orderReviewId\":\"" + prefix + "-" + i + "\",\"allStar\":\"5\"}")
+                    .description("벤치마크")
+                    .build());
+        }
+        return reviews;
+    }
+
+    private List<ReviewImagePlatform> images(List<Integer> codes, List<ReviewPlatform> reviews) {
+        List<ReviewImagePlatform> images = new ArrayList<>();
+        for (int i = 0; i < codes.size(); i++) {
+            for (int seq = 1; seq <= IMAGES_PER_REVIEW; seq++) {
+                images.add(ReviewImagePlatform.builder()
+                        .reviewPlatformCode(codes.get(i))
+                        .storePlatformCode(1)
+                        .customerCode(1)
+                        .brandCode(1)
+                        .seq(seq)
+                        .imageUrl(imageUrl(orderReviewId(reviews.get(i)), seq))
+                        .description("리뷰 이미지")
+                        .build());
+            }
+        }
+        return images;
+    }
+
+    private static String imageUrl(String orderReviewId, int seq) {
+        return "https://img.example.com/" + orderReviewId + "/" + seq + ".jpg";
+    }
+}
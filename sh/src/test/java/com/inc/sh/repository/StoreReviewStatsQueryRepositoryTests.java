@@ -0,0 +1,162 @@
+package com.inc.sh.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 매장별 리뷰현황 단일 조회 테스트 (H2 MariaDB 호환 모드)
+ * - 기존 3개 쿼리(매장별 플랫폼별 통계, 전체 합계, 매장 목록)와 같은 리뷰수/평점
+ * - 리뷰 없는 매장 포함, 비활성 매장/기간 밖 리뷰 제외
+ * - 1회 조회당 쿼리 1회 (기존 3회)
+ */
+class StoreReviewStatsQueryRepositoryTests {
+
+    private static final String[] PLATFORMS = {"배민", "요기요", "쿠팡이츠"};
+    private static final int STORE_COUNT = 300;
+
+    private static final String LEGACY_FROM_WHERE =
+            "FROM review_platform rp " +
+            "INNER JOIN store_platforms sp ON rp.store_platform_code = sp.store_platform_code " +
+            "WHERE sp.hq_code = ? AND sp.is_active = true AND (? = 0 OR sp.brand_code = ?) " +
+            "AND rp.review_date >= ? AND rp.review_date < ? ";
+    private static final String LEGACY_STORE_STATS = "SELECT sp.platform_store_name AS store_name, rp.platform, " +
+            "COUNT(*) AS review_count, ROUND(AVG(CAST(rp.rating AS DECIMAL(3,2))), 1) AS avg_rating " +
+            LEGACY_FROM_WHERE + "GROUP BY sp.platform_store_name, rp.platform ORDER BY sp.platform_store_name, rp.platform";
+    private static final String LEGACY_TOTAL_STATS = "SELECT rp.platform, " +
+            "COUNT(*) AS review_count, ROUND(AVG(CAST(rp.rating AS DECIMAL(3,2))), 1) AS avg_rating " +
+            LEGACY_FROM_WHERE + "GROUP BY rp.platform ORDER BY rp.platform";
+    private static final String LEGACY_STORES = "SELECT DISTINCT sp.platform_store_name AS store_name " +
+            "FROM store_platforms sp WHERE sp.hq_code = ? AND sp.is_active = true AND (? = 0 OR sp.brand_code = ?) " +
+            "ORDER BY sp.platform_store_name";
+
+    private JdbcTemplate jdbcTemplate;
+    private StoreReviewStatsQueryRepository repository;
+    private final AtomicInteger queryCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("review-stats")) {
+            @Override
+            public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse) {
+                queryCount.incrementAndGet();
+                return super.query(psc, pss, rse);
+            }
+        };
+        repository = new StoreReviewStatsQueryRepository(jdbcTemplate);
+
+        // 매장명 1개 = 플랫폼별 매장 3개, 매장 10개 중 1개는 리뷰 없음, 13개 중 1개는 비활성
+        List<Object[]> reviews = new ArrayList<>();
+        LocalDate firstDay = LocalDate.of(2024, 11, 1);
+        for (int code = 1; code <= STORE_COUNT * 3; code++) {
+            int store = (code - 1) / 3 + 1;
+            String platform = PLATFORMS[code % 3];
+            jdbcTemplate.update("INSERT INTO store_platforms (store_platform_code, hq_code, brand_code, platform, " +
+                    "platform_store_name, is_active) VALUES (?, ?, ?, ?, ?, ?)",
+                    code, store % 50 == 0 ? 2 : 1, store % 4 + 1, platform, String.format("매장%04d", store), code % 13 != 0 ? 1 : 0);
+
+            if (store % 10 == 0) {
+                continue;
+            }
+            for (int i = 0; i < 20 + code % 17; i++) {
+                reviews.add(new Object[]{code, platform, Date.valueOf(firstDay.plusDays((code * 7L + i * 11L) % 150)),
+                        1 + (code + i * i) % 5});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO review_platform (store_platform_code, platform, review_date, rating) " +
+                "VALUES (?, ?, ?, ?)", reviews);
+    }
+
+    @Test
+    void matchesSeparateQueries() {
+        for (int brandCode : new int[]{0, 3}) {
+            for (String[] period : new String[][]{{"202412", "202502"}, {"202411", "202411"}, {"202501", "202503"}}) {
+                StoreReviewStatsQueryRepository.StoreReviewStats stats =
+                        repository.findStoreReviewStats(1, brandCode, period[0], period[1]);
+                Object[] params = legacyParams(1, brandCode, period[0], period[1]);
+
+                // 매장 목록 (리뷰 없는 매장 포함, 매장명 순)
+                List<String> legacyStores = jdbcTemplate.queryForList(LEGACY_STORES, String.class, 1, brandCode, brandCode);
+                assertEquals(legacyStores, stats.getStores().stream()
+                        .map(StoreReviewStatsQueryRepository.StoreReviewStatRow::getStoreName).toList());
+
+                // 매장별 플랫폼별 리뷰수/평점
+                Map<String, Object> legacyByStore = new TreeMap<>();
+                for (Map<String, Object> row : jdbcTemplate.queryForList(LEGACY_STORE_STATS, params)) {
+                    legacyByStore.put(row.get("store_name") + "|" + row.get("platform"), countAndRating(row));
+                }
+                Map<String, Object> byStore = new TreeMap<>();
+                for (StoreReviewStatsQueryRepository.StoreReviewStatRow row : stats.getStores()) {
+                    putNonEmpty(byStore, row.getStoreName() + "|", row);
+                }
+                assertEquals(legacyByStore, byStore);
+
+                // 전체 합계
+                Map<String, Object> legacyTotal = new TreeMap<>();
+                for (Map<String, Object> row : jdbcTemplate.queryForList(LEGACY_TOTAL_STATS, params)) {
+                    legacyTotal.put("|" + row.get("platform"), countAndRating(row));
+                }
+                Map<String, Object> total = new TreeMap<>();
+                putNonEmpty(total, "|", stats.getTotal());
+                assertEquals(legacyTotal, total);
+                assertEquals("합계", stats.getTotal().getStoreName());
+            }
+        }
+
+        // 매장 없는 본사 → 매장 0건, 합계 0
+        StoreReviewStatsQueryRepository.StoreReviewStats empty = repository.findStoreReviewStats(99, 0, "202411", "202503");
+        assertEquals(0, empty.getStores().size());
+        assertEquals(0, empty.getTotal().getTotalReviewCount());
+        assertEquals(0.0, empty.getTotal().getTotalAvgRating());
+    }
+
+    @Test
+    void oneQueryPerLookup() {
+        queryCount.set(0);
+        legacyLookup(legacyParams(1, 0, "202411", "202503"));
+        assertEquals(3, queryCount.get());
+
+        queryCount.set(0);
+        repository.findStoreReviewStats(1, 0, "202411", "202503");
+        assertEquals(1, queryCount.get());
+    }
+
+    private void legacyLookup(Object[] params) {
+        jdbcTemplate.queryForList(LEGACY_STORE_STATS, params);
+        jdbcTemplate.queryForList(LEGACY_TOTAL_STATS, params);
+        jdbcTemplate.queryForList(LEGACY_STORES, params[0], params[1], params[2]);
+    }
+
+    private static Object[] legacyParams(int hqCode, int brandCode, String startYearMonth, String endYearMonth) {
+        LocalDate start = LocalDate.of(Integer.parseInt(startYearMonth.substring(0, 4)), Integer.parseInt(startYearMonth.substring(4)), 1);
+        LocalDate end = LocalDate.of(Integer.parseInt(endYearMonth.substring(0, 4)), Integer.parseInt(endYearMonth.substring(4)), 1);
+        return new Object[]{hqCode, brandCode, brandCode, Date.valueOf(start), Date.valueOf(end.plusMonths(1))};
+    }
+
+    private static List<Object> countAndRating(Map<String, Object> row) {
+        return List.of(((Number) row.get("review_count")).intValue(), ((Number) row.get("avg_rating")).doubleValue());
+    }
+
+    private static void putNonEmpty(Map<String, Object> target, String prefix,
+                                    StoreReviewStatsQueryRepository.StoreReviewStatRow row) {
+        StoreReviewStatsQueryRepository.ReviewCount[] counts = {row.getBaemin(), row.getYogiyo(), row.getCoupang()};
+        for (int i = 0; i < PLATFORMS.length; i++) {
+            if (counts[i].getReviewCount() > 0) {
+                target.put(prefix + PLATFORMS[i], List.of(counts[i].getReviewCount(), counts[i].getAvgRating()));
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.inc.sh.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * 테스트용 H2 메모리 DB (MariaDB 호환 모드)
+ * - 설정된 운영 DB에 접속하지 않고 테스트마다 이름이 다른 메모리 DB를 만들어 공통 스키마(schema.sql) 적용
+ * - 행 잠금 대기 10초 (동시성 테스트), 같은 쿼리 결과 재사용 안 함 (쿼리 비교/벤치마크)
+ * - MariaDB JSON_EXTRACT/JSON_UNQUOTE 대체 함수 제공 (schema.sql에서 별칭 등록)
+ */
+public final class TestDatabase {
+
+    private static final String SCHEMA = "schema.sql";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private TestDatabase() {
+    }
+
+    /**
+     * 커넥션 1개를 계속 쓰는 DB (단일 스레드 테스트)
+     */
+    public static SingleConnectionDataSource singleConnection(String name) {
+        return withSchema(new SingleConnectionDataSource(url(name), "sa", "", true));
+    }
+
+    /**
+     * 요청마다 커넥션을 새로 여는 DB (스레드/인스턴스마다 커넥션이 필요한 동시성 테스트)
+     */
+    public static DriverManagerDataSource connectionPerCall(String name) {
+        return withSchema(new DriverManagerDataSource(url(name), "sa", ""));
+    }
+
+    /**
+     * 스키마를 적용한 커넥션 (커넥션을 감싸서 쓰는 테스트)
+     */
+    public static Connection connection(String name) throws SQLException {
+        Connection connection = DriverManager.getConnection(url(name), "sa", "");
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource(SCHEMA));
+        return connection;
+    }
+
+    private static String url(String name) {
+        return "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() +
+                ";MODE=MariaDB;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000;OPTIMIZE_REUSE_RESULTS=FALSE";
+    }
+
+    private static <T extends DataSource> T withSchema(T dataSource) {
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA)).execute(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * MariaDB JSON_EXTRACT 대체 (문자열 값은 따옴표 포함 JSON으로 반환, 최상위 키 경로 '$.key'만 지원)
+     */
+    public static String jsonExtract(String json, String path) throws Exception {
+        if (json == null) {
+            return null;
+        }
+        JsonNode node = OBJECT_MAPPER.readTree(json).path(path.substring(2));
+        return node.isMissingNode() ? null : node.toString();
+    }
+
+    /**
+     * MariaDB JSON_UNQUOTE 대체
+     */
+    public static String jsonUnquote(String value) throws Exception {
+        if (value == null || !value.startsWith("\"")) {
+            return value;
+        }
+        return OBJECT_MAPPER.readTree(value).asText();
+    }
+}
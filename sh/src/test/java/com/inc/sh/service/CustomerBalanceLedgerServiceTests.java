@@ -0,0 +1,172 @@
+package com.inc.sh.service;
+
+import com.inc.sh.entity.CustomerAccountTransactions;
+import com.inc.sh.repository.CustomerAccountTransactionsRepository;
+import com.inc.sh.repository.CustomerRepository;
+import com.inc.sh.repository.NativeQueryRepositories;
+import com.inc.sh.repository.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 거래처 잔액 원장 동시성 테스트 (H2 MariaDB 호환 모드)
+ * - 거래처 1건에 다중 스레드로 입출금을 집중시킨 뒤 최종 잔액이 정확한지 확인
+ * - 리포지토리는 @Query 네이티브 SQL을 그대로 실행하는 프록시 (save는 거래내역 INSERT), 트랜잭션은 호출마다 TransactionTemplate
+ */
+class CustomerBalanceLedgerServiceTests {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 200;
+    private static final int CUSTOMER_CODE = 1;
+    private static final int INITIAL_BALANCE = 5_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private CustomerBalanceLedgerService customerBalanceLedgerService;
+    private final String referenceId = "LEDGER-TEST-" + UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // 스레드마다 커넥션을 따로 씀 (행 잠금 대기 10초)
+        DriverManagerDataSource dataSource = TestDatabase.connectionPerCall("balance-ledger");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        jdbcTemplate.update("INSERT INTO customer (customer_code, balance_amt, updated_at) VALUES (?, ?, NOW())",
+                CUSTOMER_CODE, INITIAL_BALANCE);
+
+        customerBalanceLedgerService = new CustomerBalanceLedgerService(
+                NativeQueryRepositories.create(CustomerRepository.class, namedJdbcTemplate),
+                NativeQueryRepositories.create(CustomerAccountTransactionsRepository.class, namedJdbcTemplate,
+                        (proxy, method, args) -> {
+                            if (method.getName().equals("save")) {
+                                insert(namedJdbcTemplate, (CustomerAccountTransactions) args[0]);
+                                return args[0];
+                            }
+                            throw new UnsupportedOperationException(method.getName());
+                        }));
+    }
+
+    @Test
+    void concurrentCreditAndDebitKeepExactBalance() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < ROUNDS; i++) {
+            futures.add(executor.submit(() -> {
+                post(transaction("입금", 1_000), 1_000, true);
+                post(transaction("출금", 1_000), -1_000, false);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(INITIAL_BALANCE, balance());
+        assertEquals(ROUNDS * 2, transactionCount());
+    }
+
+    @Test
+    void concurrentDebitsNeverOverdraw() throws Exception {
+        post(transaction("입금", 10_000), 10_000, true);
+        int total = INITIAL_BALANCE + 10_000;
+        int unit = total / 10;
+
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < ROUNDS; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    post(transaction("출금", unit), -unit, false);
+                    succeeded.incrementAndGet();
+                } catch (RuntimeException e) {
+                    // 잔액 부족으로 실패한 차감 (트랜잭션 롤백)
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(total / unit, succeeded.get());
+        assertEquals(total - succeeded.get() * unit, balance());
+        assertEquals(1 + succeeded.get(), transactionCount());
+    }
+
+    @Test
+    void debitFailsWithoutChangingBalance() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> transactionTemplate.execute(status -> customerBalanceLedgerService.debit(CUSTOMER_CODE, INITIAL_BALANCE + 1)));
+
+        assertEquals(String.format("잔액이 부족합니다. 현재 잔액: %,d원, 필요 금액: %,d원", INITIAL_BALANCE, INITIAL_BALANCE + 1),
+                exception.getMessage());
+        assertEquals(INITIAL_BALANCE, balance());
+    }
+
+    private void post(CustomerAccountTransactions transaction, int delta, boolean allowNegative) {
+        transactionTemplate.executeWithoutResult(status ->
+                customerBalanceLedgerService.post(transaction, delta, allowNegative));
+    }
+
+    private int balance() {
+        return jdbcTemplate.queryForObject("SELECT balance_amt FROM customer WHERE customer_code = ?",
+                Integer.class, CUSTOMER_CODE);
+    }
+
+    private int transactionCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_account_transactions " +
+                "WHERE reference_id = ? AND reference_type = '테스트'", Integer.class, referenceId);
+    }
+
+    private CustomerAccountTransactions transaction(String transactionType, int amount) {
+        return CustomerAccountTransactions.builder()
+                .customerCode(CUSTOMER_CODE)
+                .virtualAccountCode(0)
+                .transactionDate("20000101")
+                .transactionType(transactionType)
+                .amount(amount)
+                .referenceType("테스트")
+                .referenceId(referenceId)
+                .note("잔액원장 동시성 테스트")
+                .build();
+    }
+
+    private static void insert(NamedParameterJdbcTemplate namedJdbcTemplate, CustomerAccountTransactions transaction) {
+        namedJdbcTemplate.update("INSERT INTO customer_account_transactions (customer_code, virtual_account_code, " +
+                        "transaction_date, transaction_type, amount, balance_after, reference_type, reference_id, note) " +
+                        "VALUES (:customerCode, :virtualAccountCode, :transactionDate, :transactionType, :amount, " +
+                        ":balanceAfter, :referenceType, :referenceId, :note)",
+                new MapSqlParameterSource()
+                        .addValue("customerCode", transaction.getCustomerCode())
+                        .addValue("virtualAccountCode", transaction.getVirtualAccountCode())
+                        .addValue("transactionDate", transaction.getTransactionDate())
+                        .addValue("transactionType", transaction.getTransactionType())
+                        .addValue("amount", transaction.getAmount())
+                        .addValue("balanceAfter", transaction.getBalanceAfter())
+                        .addValue("referenceType", transaction.getReferenceType())
+                        .addValue("referenceId", transaction.getReferenceId())
+                        .addValue("note", transaction.getNote()));
+    }
+}
@@ -0,0 +1,290 @@
+package com.inc.sh.service;
+
+import com.inc.sh.dto.customerLedger.reqDto.CustomerLedgerSummarySearchDto;
+import com.inc.sh.dto.customerLedger.respDto.CustomerLedgerDailyRespDto;
+import com.inc.sh.dto.customerLedger.respDto.CustomerLedgerDetailRespDto;
+import com.inc.sh.dto.customerLedger.respDto.CustomerLedgerSummaryRespDto;
+import com.inc.sh.repository.CustomerLedgerQueryRepository;
+import com.inc.sh.repository.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 거래처별원장 계산 테스트 (H2 MariaDB 호환 모드)
+ * - 기존 구분별 개별 쿼리(집계/세부/일자별 × 주문/배송/반품)와 같은 결과
+ * - 품목 없는 주문, 품목 조건 시 주문 헤더 금액 1회 반영 확인
+ * - 원장 1회 조회당 쿼리 1회 (기존 구분별 개별 쿼리 9회)
+ */
+class CustomerLedgerEngineTests {
+
+    private static final String[] STATUSES = {"배송요청", "배송중", "배송완료", "주문취소"};
+    private static final int CUSTOMER_COUNT = 40;
+    private static final int ORDER_COUNT = 3_000;
+
+    // 기존 OrderRepository / ReturnRepository 쿼리 (본사별)
+    private static final String LEGACY_ORDER_FILTER =
+            "AND (:deliveryRequestDtStart IS NULL OR o.delivery_request_dt >= :deliveryRequestDtStart) " +
+            "AND (:deliveryRequestDtEnd IS NULL OR o.delivery_request_dt <= :deliveryRequestDtEnd) " +
+            "AND (:brandCode IS NULL OR c.brand_code = :brandCode) " +
+            "AND (:customerCode IS NULL OR o.customer_code = :customerCode) " +
+            "AND o.hq_code = :hqCode ";
+    private static final String LEGACY_RETURN_FILTER =
+            "WHERE (:deliveryRequestDtStart IS NULL OR r.return_request_dt >= :deliveryRequestDtStart) AND " +
+            "(:deliveryRequestDtEnd IS NULL OR r.return_request_dt <= :deliveryRequestDtEnd) AND " +
+            "(:itemCode IS NULL OR r.item_code = :itemCode) AND " +
+            "(:brandCode IS NULL OR c.brand_code = :brandCode) AND " +
+            "(:customerCode IS NULL OR r.return_customer_code = :customerCode) AND " +
+            "o.hq_code = :hqCode ";
+    private static final String LEGACY_RETURN_FROM = "FROM `return` r " +
+            "JOIN customer c ON r.return_customer_code = c.customer_code " +
+            "JOIN brand_info b ON c.brand_code = b.brand_code " +
+            "LEFT JOIN `order` o ON r.order_no = o.order_no ";
+    private static final String ITEM_SUMS = "SUM(oi.order_qty), SUM(oi.supply_amt), SUM(oi.vat_amt), SUM(oi.total_amt) ";
+    private static final String RETURN_ITEM_SUMS = "SUM(r.qty), SUM(r.supply_price), SUM(r.vat_amt), SUM(r.total_amt) ";
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private CustomerLedgerEngine engine;
+    private final AtomicInteger queryCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("ledger"));
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        for (int brand = 1; brand <= 3; brand++) {
+            jdbcTemplate.update("INSERT INTO brand_info (brand_code, brand_name) VALUES (?, ?)", brand, "브랜드" + brand);
+        }
+        for (int customer = 1; customer <= CUSTOMER_COUNT; customer++) {
+            jdbcTemplate.update("INSERT INTO customer (customer_code, brand_code, tel_num) VALUES (?, ?, ?)",
+                    customer, customer % 3 + 1, "010-" + customer);
+        }
+
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> returns = new ArrayList<>();
+        for (int i = 1; i <= ORDER_COUNT; i++) {
+            String orderNo = String.format("O%06d", i);
+            int customer = i % CUSTOMER_COUNT + 1;
+            String date = String.format("2025-03-%02d", i % 28 + 1);
+            // 헤더 금액은 품목 합계와 다를 수 있음 (배송비 등)
+            orders.add(new Object[]{orderNo, i % 17 == 0 ? 2 : 1, customer, "거래처" + customer + (i % 50 == 0 ? "(변경)" : ""),
+                    date, STATUSES[i % STATUSES.length], 1_000 * (i % 3), 10_000 + i, 10_000 + i + 1_000 * (i % 3),
+                    1_000 + i % 100, 11_000 + i * 2, 3 + i % 5});
+
+            int itemCount = i % 23 == 0 ? 0 : 1 + i % 4; // 품목 없는 주문 포함
+            for (int k = 0; k < itemCount; k++) {
+                int itemCode = 100 + (i * 7 + k * 3) % 15;
+                items.add(new Object[]{orderNo, itemCode, "품목" + itemCode, "규격" + itemCode % 3, "EA",
+                        1 + (i + k) % 6, 2_000 + (i * k) % 900, 200 + k, 2_200 + (i * k) % 900 + k});
+            }
+            if (i % 9 == 0) {
+                int itemCode = 100 + i % 15;
+                returns.add(new Object[]{"R" + orderNo, orderNo, customer, "거래처" + customer,
+                        String.format("2025-03-%02d", (i + 3) % 28 + 1), itemCode, "품목" + itemCode, "규격" + itemCode % 3, "EA",
+                        1 + i % 2, 1_500 + i % 300, 150, 1_650 + i % 300});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO `order` (order_no, hq_code, customer_code, customer_name, " +
+                "delivery_request_dt, delivery_status, tax_free_amt, taxable_amt, supply_amt, vat_amt, total_amt, total_qty) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", orders);
+        jdbcTemplate.batchUpdate("INSERT INTO order_item (order_no, item_code, item_name, specification, unit, " +
+                "order_qty, supply_amt, vat_amt, total_amt) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", items);
+        jdbcTemplate.batchUpdate("INSERT INTO `return` (return_no, order_no, return_customer_code, return_customer_name, " +
+                "return_request_dt, item_code, item_name, specification, unit, qty, supply_price, vat_amt, total_amt) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", returns);
+
+        engine = new CustomerLedgerEngine(new CustomerLedgerQueryRepository(jdbcTemplate) {
+            @Override
+            public void streamLedgerRows(CustomerLedgerSummarySearchDto searchDto, java.util.Collection<String> orderTypes,
+                                         java.util.function.Consumer<LedgerRow> consumer) {
+                super.streamLedgerRows(searchDto, orderTypes, consumer);
+                queryCount.incrementAndGet();
+            }
+        });
+    }
+
+    @Test
+    void matchesSeparateQueries() {
+        List<CustomerLedgerSummarySearchDto> searches = List.of(
+                search(null, null, null, null, null, null),
+                search("2025-03-05", "2025-03-20", null, null, null, null),
+                search("2025-03-01", "2025-03-31", 104, null, null, null),
+                search(null, null, null, 2, null, "주문"),
+                search(null, "2025-03-10", null, null, 7, "배송"),
+                search("2025-03-10", null, 110, 1, null, "반품"),
+                search(null, null, null, null, null, "주문취소"));
+
+        for (CustomerLedgerSummarySearchDto searchDto : searches) {
+            CustomerLedgerEngine.Ledger ledger = engine.compute(searchDto);
+
+            assertEquals(legacySummary(searchDto), ledger.getSummary().stream().map(CustomerLedgerEngineTests::values).toList());
+            assertEquals(legacyDetail(searchDto), ledger.getDetail().stream().map(CustomerLedgerEngineTests::values).toList());
+            assertEquals(legacyDaily(searchDto), ledger.getDaily().stream().map(CustomerLedgerEngineTests::values).toList());
+        }
+
+        // 전체 조회 결과에 3개 구분 모두 포함
+        CustomerLedgerEngine.Ledger all = engine.compute(searchDto(null));
+        assertTrue(all.getSummary().stream().anyMatch(row -> "반품".equals(row.getOrderType())));
+        assertEquals(List.of("주문", "배송", "반품"),
+                all.getDaily().stream().map(CustomerLedgerDailyRespDto::getOrderType).distinct().toList());
+    }
+
+    @Test
+    void computesWithOneQuery() {
+        CustomerLedgerSummarySearchDto searchDto = searchDto(null);
+
+        resetCounters();
+        legacySummary(searchDto);
+        legacyDetail(searchDto);
+        legacyDaily(searchDto);
+        assertEquals(9, queryCount.get());
+
+        resetCounters();
+        engine.compute(searchDto);
+        assertEquals(1, queryCount.get());
+    }
+
+    // ==================== 기존 조회 방식 ====================
+
+    private List<List<Object>> legacySummary(CustomerLedgerSummarySearchDto searchDto) {
+        String headerSums = "SUM(o.total_qty), SUM(o.tax_free_amt), SUM(o.taxable_amt), SUM(o.supply_amt), SUM(o.vat_amt), SUM(o.total_amt) ";
+        String orderSql = "SELECT o.customer_code, o.customer_name, b.brand_name, c.tel_num, %s, " + headerSums +
+                "FROM `order` o JOIN customer c ON o.customer_code = c.customer_code " +
+                "JOIN brand_info b ON c.brand_code = b.brand_code WHERE %s " +
+                "AND (:itemCode IS NULL OR EXISTS (SELECT 1 FROM order_item oi WHERE oi.order_no = o.order_no AND oi.item_code = :itemCode)) " +
+                LEGACY_ORDER_FILTER +
+                "GROUP BY o.customer_code, o.customer_name, b.brand_name, c.tel_num ORDER BY o.customer_code";
+        String returnSql = "SELECT r.return_customer_code, r.return_customer_name, b.brand_name, c.tel_num, '반품', " +
+                "SUM(r.qty), 0, SUM(r.supply_price), SUM(r.supply_price), SUM(r.vat_amt), SUM(r.total_amt) " +
+                LEGACY_RETURN_FROM + LEGACY_RETURN_FILTER +
+                "GROUP BY r.return_customer_code, r.return_customer_name, b.brand_name, c.tel_num ORDER BY r.return_customer_code";
+        return legacy(searchDto, orderSql, returnSql);
+    }
+
+    private List<List<Object>> legacyDetail(CustomerLedgerSummarySearchDto searchDto) {
+        String orderSql = "SELECT o.customer_code, o.customer_name, b.brand_name, c.tel_num, " +
+                "oi.item_code, oi.item_name, oi.specification, oi.unit, %s, " + ITEM_SUMS +
+                "FROM `order` o JOIN order_item oi ON o.order_no = oi.order_no " +
+                "JOIN customer c ON o.customer_code = c.customer_code " +
+                "JOIN brand_info b ON c.brand_code = b.brand_code WHERE %s " +
+                "AND (:itemCode IS NULL OR oi.item_code = :itemCode) " + LEGACY_ORDER_FILTER +
+                "GROUP BY o.customer_code, o.customer_name, b.brand_name, c.tel_num, oi.item_code, oi.item_name, oi.specification, oi.unit " +
+                "ORDER BY o.customer_code, oi.item_code";
+        String returnSql = "SELECT r.return_customer_code, r.return_customer_name, b.brand_name, c.tel_num, " +
+                "r.item_code, r.item_name, r.specification, r.unit, '반품', " + RETURN_ITEM_SUMS +
+                LEGACY_RETURN_FROM + LEGACY_RETURN_FILTER +
+                "GROUP BY r.return_customer_code, r.return_customer_name, b.brand_name, c.tel_num, r.item_code, r.item_name, r.specification, r.unit " +
+                "ORDER BY r.return_customer_code, r.item_code";
+        return legacy(searchDto, orderSql, returnSql);
+    }
+
+    private List<List<Object>> legacyDaily(CustomerLedgerSummarySearchDto searchDto) {
+        String orderSql = "SELECT o.delivery_request_dt, o.customer_code, o.customer_name, b.brand_name, c.tel_num, " +
+                "oi.item_code, oi.item_name, oi.specification, oi.unit, %s, " + ITEM_SUMS +
+                "FROM `order` o JOIN order_item oi ON o.order_no = oi.order_no " +
+                "JOIN customer c ON o.customer_code = c.customer_code " +
+                "JOIN brand_info b ON c.brand_code = b.brand_code WHERE %s " +
+                "AND (:itemCode IS NULL OR oi.item_code = :itemCode) " + LEGACY_ORDER_FILTER +
+                "GROUP BY o.delivery_request_dt, o.customer_code, o.customer_name, b.brand_name, c.tel_num, " +
+                "oi.item_code, oi.item_name, oi.specification, oi.unit " +
+                "ORDER BY o.delivery_request_dt, o.customer_code, oi.item_code";
+        String returnSql = "SELECT r.return_request_dt, r.return_customer_code, r.return_customer_name, b.brand_name, c.tel_num, " +
+                "r.item_code, r.item_name, r.specification, r.unit, '반품', " + RETURN_ITEM_SUMS +
+                LEGACY_RETURN_FROM + LEGACY_RETURN_FILTER +
+                "GROUP BY r.return_request_dt, r.return_customer_code, r.return_customer_name, b.brand_name, c.tel_num, " +
+                "r.item_code, r.item_name, r.specification, r.unit " +
+                "ORDER BY r.return_request_dt, r.return_customer_code, r.item_code";
+        return legacy(searchDto, orderSql, returnSql);
+    }
+
+    /**
+     * 주문상태별 기존 쿼리 실행 (빈값: 주문 + 배송 + 반품)
+     */
+    private List<List<Object>> legacy(CustomerLedgerSummarySearchDto searchDto, String orderSql, String returnSql) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("deliveryRequestDtStart", searchDto.getDeliveryRequestDtStart())
+                .addValue("deliveryRequestDtEnd", searchDto.getDeliveryRequestDtEnd())
+                .addValue("itemCode", searchDto.getItemCode())
+                .addValue("brandCode", searchDto.getBrandCode())
+                .addValue("customerCode", searchDto.getCustomerCode())
+                .addValue("hqCode", searchDto.getHqCode());
+
+        String status = searchDto.getOrderStatus();
+        boolean all = status == null || status.isEmpty();
+        List<List<Object>> rows = new ArrayList<>();
+        if (all || "주문".equals(status)) {
+            rows.addAll(query(String.format(orderSql, "'주문'", "o.delivery_status = '배송요청'"), params));
+        }
+        if (all || "배송".equals(status)) {
+            rows.addAll(query(String.format(orderSql, "'배송'", "o.delivery_status IN ('배송중', '배송완료')"), params));
+        }
+        if (all || "반품".equals(status)) {
+            rows.addAll(query(returnSql, params));
+        }
+        return rows;
+    }
+
+    private List<List<Object>> query(String sql, MapSqlParameterSource params) {
+        List<List<Object>> rows = namedJdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            List<Object> row = new ArrayList<>();
+            for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+                Object value = rs.getObject(i);
+                row.add(value instanceof Number number ? (Object) number.intValue() : value);
+            }
+            return row;
+        });
+        queryCount.incrementAndGet();
+        return rows;
+    }
+
+    private void resetCounters() {
+        queryCount.set(0);
+    }
+
+    private static CustomerLedgerSummarySearchDto searchDto(String orderStatus) {
+        return search(null, null, null, null, null, orderStatus);
+    }
+
+    private static CustomerLedgerSummarySearchDto search(String start, String end, Integer itemCode, Integer brandCode,
+                                                         Integer customerCode, String orderStatus) {
+        return CustomerLedgerSummarySearchDto.builder()
+                .deliveryRequestDtStart(start)
+                .deliveryRequestDtEnd(end)
+                .itemCode(itemCode)
+                .brandCode(brandCode)
+                .customerCode(customerCode)
+                .orderStatus(orderStatus)
+                .hqCode(1)
+                .build();
+    }
+
+    private static List<Object> values(CustomerLedgerSummaryRespDto dto) {
+        return Arrays.asList(dto.getCustomerCode(), dto.getCustomerName(), dto.getBrandName(), dto.getTelNum(),
+                dto.getOrderType(), dto.getTotalQty(), dto.getTaxFreeAmt(), dto.getTaxableAmt(), dto.getSupplyAmt(),
+                dto.getVatAmt(), dto.getTotalAmt());
+    }
+
+    private static List<Object> values(CustomerLedgerDetailRespDto dto) {
+        return Arrays.asList(dto.getCustomerCode(), dto.getCustomerName(), dto.getBrandName(), dto.getTelNum(),
+                dto.getItemCode(), dto.getItemName(), dto.getSpecification(), dto.getUnit(), dto.getOrderType(),
+                dto.getTotalQty(), dto.getSupplyAmt(), dto.getVatAmt(), dto.getTotalAmt());
+    }
+
+    private static List<Object> values(CustomerLedgerDailyRespDto dto) {
+        return Arrays.asList(dto.getOrderDate(), dto.getCustomerCode(), dto.getCustomerName(), dto.getBrandName(),
+                dto.getTelNum(), dto.getItemCode(), dto.getItemName(), dto.getSpecification(), dto.getUnit(),
+                dto.getOrderType(), dto.getTotalQty(), dto.getSupplyAmt(), dto.getVatAmt(), dto.getTotalAmt());
+    }
+}
@@ -0,0 +1,128 @@
+package com.inc.sh.service;
+
+import com.inc.sh.repository.DocumentSequenceRepository;
+import com.inc.sh.repository.NativeQueryRepositories;
+import com.inc.sh.repository.OrderRepository;
+import com.inc.sh.repository.ReturnRepository;
+import com.inc.sh.repository.TestDatabase;
+import com.inc.sh.repository.WarehouseTransfersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 문서번호 채번 동시성 테스트 (H2 MariaDB 호환 모드)
+ * - 서비스 인스턴스 여러 개(서버 여러 대)가 같은 카운터에서 동시에 블록을 예약해도 발급 번호가 겹치지 않는지
+ * - 카운터가 처음 생길 때 기존 최신번호 다음부터 발급되는지
+ */
+class DocumentSequenceServiceTests {
+
+    private static final int INSTANCES = 4;
+    private static final int THREADS_PER_INSTANCE = 8;
+    private static final int NUMBERS_PER_THREAD = 25;
+    private static final long BLOCK_SIZE = 10;
+
+    private JdbcTemplate jdbcTemplate;
+    private final List<DocumentSequenceService> services = new ArrayList<>();
+    private String today;
+
+    @BeforeEach
+    void setUp() {
+        // 인스턴스/스레드마다 커넥션을 따로 씀 (행 잠금 대기 10초)
+        DriverManagerDataSource dataSource = TestDatabase.connectionPerCall("document-sequence");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        // 카운터 도입 전에 발급된 오늘자 주문번호
+        today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        jdbcTemplate.update("INSERT INTO `order` (order_no) VALUES (?), (?)", today + "041", today + "042");
+
+        for (int i = 0; i < INSTANCES; i++) {
+            DocumentSequenceService service = new DocumentSequenceService(
+                    NativeQueryRepositories.create(DocumentSequenceRepository.class, namedJdbcTemplate),
+                    NativeQueryRepositories.create(OrderRepository.class, namedJdbcTemplate),
+                    NativeQueryRepositories.create(ReturnRepository.class, namedJdbcTemplate),
+                    NativeQueryRepositories.create(WarehouseTransfersRepository.class, namedJdbcTemplate),
+                    new DataSourceTransactionManager(dataSource));
+            ReflectionTestUtils.setField(service, "blockSize", BLOCK_SIZE);
+            services.add(service);
+        }
+    }
+
+    @Test
+    void concurrentInstancesNeverIssueDuplicateOrderNumbers() throws Exception {
+        int total = INSTANCES * THREADS_PER_INSTANCE * NUMBERS_PER_THREAD;
+        ConcurrentLinkedQueue<String> issued = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(INSTANCES * THREADS_PER_INSTANCE);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (DocumentSequenceService service : services) {
+            for (int t = 0; t < THREADS_PER_INSTANCE; t++) {
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    for (int n = 0; n < NUMBERS_PER_THREAD; n++) {
+                        issued.add(service.nextOrderNo());
+                    }
+                    return null;
+                }));
+            }
+        }
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Set<String> unique = new HashSet<>(issued);
+        assertEquals(total, issued.size());
+        assertEquals(total, unique.size(), "중복 발급 " + (total - unique.size()) + "건");
+
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (String orderNo : unique) {
+            assertTrue(orderNo.startsWith(today), orderNo);
+            long sequence = Long.parseLong(orderNo.substring(8));
+            min = Math.min(min, sequence);
+            max = Math.max(max, sequence);
+        }
+        assertEquals(43, min);
+        // 인스턴스별로 마지막 블록의 남은 번호만 결번
+        long reserved = jdbcTemplate.queryForObject(
+                "SELECT last_value FROM document_sequence WHERE seq_type = 'ORDER' AND seq_date = ?", Long.class, today);
+        assertTrue(max <= reserved, max + " > " + reserved);
+        assertTrue(reserved - 42 - total < INSTANCES * BLOCK_SIZE, "예약 " + (reserved - 42) + "건 / 발급 " + total + "건");
+    }
+
+    @Test
+    void blocksFromDifferentInstancesDoNotOverlap() {
+        DocumentSequenceService first = services.get(0);
+        DocumentSequenceService second = services.get(1);
+
+        assertEquals(today + "043", first.nextOrderNo());
+        assertEquals(today + "053", second.nextOrderNo());
+        assertEquals(today + "044", first.nextOrderNo());
+        assertEquals(today + "054", second.nextOrderNo());
+        assertEquals(62L, jdbcTemplate.queryForObject(
+                "SELECT last_value FROM document_sequence WHERE seq_type = 'ORDER' AND seq_date = ?", Long.class, today));
+    }
+}
@@ -0,0 +1,172 @@
+package com.inc.sh.service;
+
+import com.inc.sh.entity.Item;
+import com.inc.sh.entity.Warehouse;
+import com.inc.sh.entity.WarehouseItems;
+import com.inc.sh.repository.InventoryPostingRepository;
+import com.inc.sh.repository.ItemRepository;
+import com.inc.sh.repository.TestDatabase;
+import com.inc.sh.repository.WarehouseItemsRepository;
+import com.inc.sh.repository.WarehouseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재고 전기 서비스 테스트
+ * - 월별재고마감 미등록(FAIL)이면 쓰기 전에 품목명/창고명을 포함한 메시지로 실패
+ * - (H2 MariaDB 호환 모드) 같은 (창고, 품목)의 복원/차감 상계 후 월별재고마감 카운터/계산값 갱신, 미등록(CREATE) 시 신규 생성
+ */
+class InventoryPostingServiceTests {
+
+    private InventoryPostingRepository inventoryPostingRepository;
+    private ItemRepository itemRepository;
+    private WarehouseRepository warehouseRepository;
+    private InventoryPostingService inventoryPostingService;
+
+    @BeforeEach
+    void setUp() {
+        inventoryPostingRepository = mock(InventoryPostingRepository.class);
+        itemRepository = mock(ItemRepository.class);
+        warehouseRepository = mock(WarehouseRepository.class);
+        inventoryPostingService = new InventoryPostingService(inventoryPostingRepository,
+                mock(WarehouseItemsRepository.class), itemRepository, warehouseRepository);
+
+        when(inventoryPostingRepository.findWarehouseItems(anyList())).thenReturn(List.of(WarehouseItems.builder()
+                .warehouseItemCode(1)
+                .warehouseCode(10)
+                .itemCode(100)
+                .currentQuantity(50)
+                .build()));
+        when(inventoryPostingRepository.findExistingClosingKeys(anyList())).thenReturn(Set.of());
+    }
+
+    @Test
+    void missingClosingMessageShowsItemAndWarehouseNames() {
+        when(itemRepository.findById(100)).thenReturn(Optional.of(Item.builder().itemName("양파").build()));
+        when(warehouseRepository.findById(10)).thenReturn(Optional.of(Warehouse.builder().warehouseName("본사창고").build()));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, this::postDelivery);
+
+        assertEquals("재고등록이 필요합니다. 품목명: 양파, 창고: 본사창고 (품목코드: 100, 창고코드: 10, 마감년월: 202501)",
+                exception.getMessage());
+        verify(inventoryPostingRepository, never()).addCurrentQuantity(anyInt(), anyInt(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void missingClosingMessageFallsBackWhenNamesAreUnknown() {
+        when(itemRepository.findById(100)).thenReturn(Optional.empty());
+        when(warehouseRepository.findById(10)).thenThrow(new RuntimeException("조회 오류"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, this::postDelivery);
+
+        assertEquals("재고등록이 필요합니다. 품목명: 알 수 없는 품목, 창고: 창고코드: 10 (품목코드: 100, 창고코드: 10, 마감년월: 202501)",
+                exception.getMessage());
+    }
+
+    @Test
+    void restoreAndDeductOnSameKeyAreNettedIntoClosingCounters() {
+        JdbcTemplate jdbcTemplate = h2JdbcTemplate();
+        jdbcTemplate.update("INSERT INTO monthly_inventory_closing (warehouse_item_code, warehouse_code, item_code, " +
+                "closing_ym, opening_quantity, opening_amount, in_quantity, in_amount, out_quantity, out_amount, " +
+                "cal_quantity, cal_amount, is_closed, created_at, updated_at) " +
+                "VALUES (1, 10, 100, '202501', 10, 10000, 1, 1000, 2, 2000, 9, 9000, FALSE, NOW(), NOW())");
+
+        h2PostingService(jdbcTemplate).post(List.of(
+                        closingLine(5, 5, 5_000, 0, 0),     // 반품 복원
+                        closingLine(-3, 0, 0, 3, 3_000)),   // 출고 차감
+                options(InventoryPostingService.MissingPolicy.FAIL));
+
+        assertEquals(52, jdbcTemplate.queryForObject(
+                "SELECT current_quantity FROM warehouse_items WHERE warehouse_item_code = 1", Integer.class));
+        assertEquals(Map.of("IN_QUANTITY", 6, "IN_AMOUNT", 6_000, "OUT_QUANTITY", 5, "OUT_AMOUNT", 5_000,
+                        "CAL_QUANTITY", 11, "CAL_AMOUNT", 11_000),
+                closingCounters(jdbcTemplate));
+    }
+
+    @Test
+    void missingClosingIsCreatedFromNettedCounters() {
+        JdbcTemplate jdbcTemplate = h2JdbcTemplate();
+
+        h2PostingService(jdbcTemplate).post(List.of(
+                        closingLine(5, 5, 5_000, 0, 0),
+                        closingLine(-3, 0, 0, 3, 3_000)),
+                options(InventoryPostingService.MissingPolicy.CREATE));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM monthly_inventory_closing", Integer.class));
+        assertEquals(Map.of("IN_QUANTITY", 5, "IN_AMOUNT", 5_000, "OUT_QUANTITY", 3, "OUT_AMOUNT", 3_000,
+                        "CAL_QUANTITY", 2, "CAL_AMOUNT", 2_000),
+                closingCounters(jdbcTemplate));
+    }
+
+    private JdbcTemplate h2JdbcTemplate() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(TestDatabase.connectionPerCall("inventory-posting"));
+        jdbcTemplate.update("INSERT INTO warehouse_items (warehouse_code, item_code, current_quantity, safe_quantity, " +
+                "created_at, updated_at) VALUES (10, 100, 50, 0, NOW(), NOW())");
+        return jdbcTemplate;
+    }
+
+    private InventoryPostingService h2PostingService(JdbcTemplate jdbcTemplate) {
+        return new InventoryPostingService(new InventoryPostingRepository(jdbcTemplate),
+                mock(WarehouseItemsRepository.class), itemRepository, warehouseRepository);
+    }
+
+    private static Map<String, Object> closingCounters(JdbcTemplate jdbcTemplate) {
+        return new HashMap<>(jdbcTemplate.queryForMap("SELECT in_quantity, in_amount, out_quantity, out_amount, " +
+                "cal_quantity, cal_amount FROM monthly_inventory_closing WHERE warehouse_code = 10 AND item_code = 100"));
+    }
+
+    private static InventoryPostingService.PostingLine closingLine(int quantityChange, int inQuantity, int inAmount,
+                                                                   int outQuantity, int outAmount) {
+        return InventoryPostingService.PostingLine.builder()
+                .warehouseCode(10)
+                .itemCode(100)
+                .quantityChange(quantityChange)
+                .closingYm("202501")
+                .inQuantity(inQuantity)
+                .inAmount(inAmount)
+                .outQuantity(outQuantity)
+                .outAmount(outAmount)
+                .build();
+    }
+
+    private static InventoryPostingService.PostingOptions options(InventoryPostingService.MissingPolicy missingClosing) {
+        return InventoryPostingService.PostingOptions.builder()
+                .missingWarehouseItem(InventoryPostingService.MissingPolicy.FAIL)
+                .missingClosing(missingClosing)
+                .checkStock(true)
+                .build();
+    }
+
+    private void postDelivery() {
+        inventoryPostingService.post(List.of(InventoryPostingService.PostingLine.builder()
+                        .warehouseCode(10)
+                        .itemCode(100)
+                        .quantityChange(-3)
+                        .closingYm("202501")
+                        .outQuantity(3)
+                        .outAmount(3_000)
+                        .build()),
+                InventoryPostingService.PostingOptions.builder()
+                        .missingWarehouseItem(InventoryPostingService.MissingPolicy.SKIP)
+                        .missingClosing(InventoryPostingService.MissingPolicy.FAIL)
+                        .checkStock(true)
+                        .build());
+    }
+}
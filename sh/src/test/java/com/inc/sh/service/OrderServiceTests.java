@@ -0,0 +1,264 @@
+package com.inc.sh.service;
+
+import com.inc.sh.common.dto.RespDto;
+import com.inc.sh.dto.order.reqDto.OrderSaveReqDto;
+import com.inc.sh.dto.order.respDto.OrderBatchResult;
+import com.inc.sh.entity.Customer;
+import com.inc.sh.entity.DistCenter;
+import com.inc.sh.entity.Notification;
+import com.inc.sh.entity.Order;
+import com.inc.sh.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * 주문 다중 저장 테스트 (H2 MariaDB 호환 모드)
+ * - 신규 주문은 배치 INSERT 1회, 응답/알림에 등록일시 포함, 검증 실패 건만 실패 처리
+ * - 배치 안의 한 건이 INSERT에 실패하면 해당 배치만 건별 재시도, 실패 건만 실패 처리 (나머지는 저장/알림)
+ * - benchmark 태그: 건별 INSERT(주문 + 알림)와 배치 INSERT의 DB 호출 수/시간 비교
+ */
+class OrderServiceTests {
+
+    private static final String DELIVERY_DT = "20250106";
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private OrderBatchRepository orderBatchRepository;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicInteger orderSequence = new AtomicInteger();
+
+    private CustomerRepository customerRepository;
+    private DistCenterRepository distCenterRepository;
+    private DocumentSequenceService documentSequenceService;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                countingStatements(TestDatabase.connection("order-save")), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        orderBatchRepository = new OrderBatchRepository(jdbcTemplate);
+
+        customerRepository = mock(CustomerRepository.class);
+        when(customerRepository.findByCustomerCodeIn(anyCollection())).thenReturn(List.of(
+                Customer.builder().customerCode(1).hqCode(1).brandCode(1).customerName("거래처1").bizNum("111").build(),
+                Customer.builder().customerCode(2).hqCode(1).brandCode(1).customerName("거래처2").bizNum("222").build()));
+        distCenterRepository = mock(DistCenterRepository.class);
+        when(distCenterRepository.findByDistCenterCodeIn(anyCollection())).thenReturn(List.of(
+                DistCenter.builder().distCenterCode(1).hqCode(1).distCenterName("센터1").build()));
+        documentSequenceService = mock(DocumentSequenceService.class);
+        when(documentSequenceService.nextOrderNo()).thenAnswer(invocation ->
+                String.format("20250101%05d", orderSequence.incrementAndGet()));
+    }
+
+    private OrderService orderService(NotificationService notificationService) {
+        return new OrderService(mock(OrderRepository.class), mock(OrderItemRepository.class), customerRepository,
+                mock(CustomerAccountTransactionsRepository.class), mock(DeliveryHolidayRepository.class),
+                mock(OrderLimitSetRepository.class), mock(InventoryPostingService.class), notificationService,
+                distCenterRepository, documentSequenceService, orderBatchRepository, mock(CustomerBalanceLedgerService.class));
+    }
+
+    @Test
+    void savesNewOrdersInOneBatchAndReportsInvalidRows() {
+        NotificationService notificationService = mock(NotificationService.class);
+        List<OrderSaveReqDto.OrderSaveItemDto> orders = List.of(newOrder(1), newOrder(99), newOrder(2), newOrder(1));
+
+        statements.set(0);
+        RespDto<OrderBatchResult> response = inTransaction(() -> orderService(notificationService).saveOrders(request(orders)));
+        OrderBatchResult result = response.getData();
+
+        assertEquals(3, result.getSuccessCount());
+        assertEquals(1, result.getFailCount());
+        assertEquals("존재하지 않는 거래처입니다: 99", result.getFailData().get(0).getErrorMessage());
+        assertEquals(List.of("2025010100001", "2025010100002", "2025010100003"),
+                result.getSuccessData().stream().map(order -> order.getOrderNo()).toList());
+        assertEquals(1, statements.get(), "주문 INSERT는 배치 1회");
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `order`", Integer.class));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Order>> notified = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).createOrderNotifications(notified.capture());
+        assertEquals(3, notified.getValue().size());
+        for (Order order : notified.getValue()) {
+            assertNotNull(order.getCreatedAt(), order.getOrderNo());
+            LocalDateTime stored = jdbcTemplate.queryForObject(
+                    "SELECT created_at FROM `order` WHERE order_no = ?", LocalDateTime.class, order.getOrderNo());
+            assertEquals(order.getCreatedAt().truncatedTo(ChronoUnit.MILLIS), stored.truncatedTo(ChronoUnit.MILLIS));
+        }
+    }
+
+    @Test
+    void badRowInsideBatchIsReportedAlone() {
+        NotificationService notificationService = mock(NotificationService.class);
+        // 두 번째로 발급될 번호가 이미 있음 → 배치 중간 실패
+        jdbcTemplate.update("INSERT INTO `order` (order_no, hq_code, customer_code, created_at, updated_at) " +
+                "VALUES ('2025010100002', 1, 1, NOW(), NOW())");
+
+        statements.set(0);
+        OrderBatchResult result = inTransaction(() ->
+                orderService(notificationService).saveOrders(request(List.of(newOrder(1), newOrder(2), newOrder(1))))).getData();
+
+        assertEquals(2, result.getSuccessCount());
+        assertEquals(List.of("2025010100001", "2025010100003"),
+                result.getSuccessData().stream().map(order -> order.getOrderNo()).toList());
+        assertEquals(1, result.getFailCount());
+        assertEquals("거래처2", result.getFailData().get(0).getCustomerName());
+        assertTrue(result.getFailData().get(0).getErrorMessage().startsWith("주문 생성 중 오류가 발생했습니다"),
+                result.getFailData().get(0).getErrorMessage());
+        assertEquals(1 + 3, statements.get(), "실패한 배치 1회 + 건별 재시도 3회");
+        assertEquals(List.of(1, 1, 1), jdbcTemplate.queryForList(
+                "SELECT customer_code FROM `order` ORDER BY order_no", Integer.class));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Order>> notified = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).createOrderNotifications(notified.capture());
+        assertEquals(List.of("2025010100001", "2025010100003"),
+                notified.getValue().stream().map(Order::getOrderNo).toList());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareBatchWithPerRowInsert() {
+        int count = 2_000;
+        NotificationService notificationService = new NotificationService(NativeQueryRepositories.create(
+                NotificationRepository.class, namedJdbcTemplate, (proxy, method, args) -> {
+                    // JPA save/saveAll (IDENTITY 키)과 같이 알림 1건당 INSERT 1회
+                    if (method.getName().equals("save")) {
+                        insertNotification((Notification) args[0]);
+                        return args[0];
+                    }
+                    if (method.getName().equals("saveAll")) {
+                        for (Object notification : (Iterable<?>) args[0]) {
+                            insertNotification((Notification) notification);
+                        }
+                        return args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+        OrderService orderService = orderService(notificationService);
+        List<OrderSaveReqDto.OrderSaveItemDto> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(newOrder(1 + i % 2));
+        }
+        inTransaction(() -> orderService.saveOrders(request(orders.subList(0, 100))));
+        jdbcTemplate.execute("DELETE FROM `order`");
+        jdbcTemplate.execute("DELETE FROM notification");
+
+        // 변경 전: 주문마다 주문 INSERT + 알림 INSERT
+        statements.set(0);
+        long start = System.nanoTime();
+        inTransaction(() -> {
+            for (int i = 0; i < count; i++) {
+                Order order = Order.builder().orderNo("ROW-" + i).hqCode(1).customerCode(1 + i % 2)
+                        .customerName("거래처" + (1 + i % 2)).distCenterCode(1).orderDt("20250101")
+                        .deliveryRequestDt(DELIVERY_DT).paymentStatus("결제대기").depositTypeCode(0)
+                        .totalAmt(0).totalQty(0).build();
+                orderBatchRepository.batchInsertOrders(List.of(order));
+                notificationService.createOrderNotification(order.getHqCode(), order.getCustomerCode(),
+                        order.getCustomerName(), order.getOrderNo());
+            }
+            return null;
+        });
+        long perRowNanos = System.nanoTime() - start;
+        int perRowStatements = statements.get();
+
+        // 변경 후: saveOrders (주문 배치 INSERT + 알림 saveAll)
+        statements.set(0);
+        start = System.nanoTime();
+        OrderBatchResult result = inTransaction(() -> orderService.saveOrders(request(orders))).getData();
+        long batchNanos = System.nanoTime() - start;
+        int batchStatements = statements.get();
+
+        assertEquals(count, result.getSuccessCount());
+        assertEquals(count * 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `order`", Integer.class));
+        assertEquals(count * 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification", Integer.class));
+        assertEquals(count * 2, perRowStatements);
+        assertEquals(count / 500 + count, batchStatements, "주문 배치 " + count / 500 + "회 + 알림 " + count + "건");
+        assertTrue(batchNanos < perRowNanos,
+                "배치 " + batchNanos / 1_000_000 + "ms / 건별 " + perRowNanos / 1_000_000 + "ms");
+    }
+
+    /**
+     * 운영과 같이 트랜잭션 안에서 실행 (배치 INSERT 실패 시 세이브포인트 사용)
+     */
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private void insertNotification(Notification notification) {
+        jdbcTemplate.update("INSERT INTO notification (hq_code, customer_code, customer_name, reference_name, " +
+                        "reference_code, read_yn, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, NOW(), NOW())",
+                notification.getHqCode(), notification.getCustomerCode(), notification.getCustomerName(),
+                notification.getReferenceName(), notification.getReferenceCode(), notification.getReadYn());
+    }
+
+    private static OrderSaveReqDto request(List<OrderSaveReqDto.OrderSaveItemDto> orders) {
+        return OrderSaveReqDto.builder().orders(orders).build();
+    }
+
+    private static OrderSaveReqDto.OrderSaveItemDto newOrder(int customerCode) {
+        return OrderSaveReqDto.OrderSaveItemDto.builder()
+                .hqCode(1)
+                .customerCode(customerCode)
+                .orderDt("20250101")
+                .deliveryRequestDt(DELIVERY_DT)
+                .deliveryStatus("배송요청")
+                .deliveryAmt(0)
+                .distCenterCode(1)
+                .build();
+    }
+
+    /**
+     * PreparedStatement 실행 횟수 집계 (executeBatch는 배치당 1회)
+     */
+    private Connection countingStatements(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(method, target, args);
+                    if (result instanceof PreparedStatement statement) {
+                        return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                                new Class<?>[]{PreparedStatement.class}, (statementProxy, statementMethod, statementArgs) -> {
+                                    if (statementMethod.getName().startsWith("execute")) {
+                                        statements.incrementAndGet();
+                                    }
+                                    return invoke(statementMethod, statement, statementArgs);
+                                });
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
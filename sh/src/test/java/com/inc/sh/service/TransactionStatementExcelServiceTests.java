@@ -0,0 +1,496 @@
+package com.inc.sh.service;
+
+import com.inc.sh.service.TransactionStatementExcelService.StatementOrder;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 거래명세표 엑셀 출력 테스트
+ * - 캐시한 템플릿 + SXSSF 출력이 기존 방식(주문마다 템플릿 열기 + 셀 단위 복사)과 같은 셀 값/스타일/병합 영역인지
+ * - 엑셀 1개(주문별 시트) / ZIP(주문별 파일) 출력 확인
+ * - ZIP 동시 생성: 요청 순서 유지, 생성/기록 대기 건수 제한
+ * - benchmark 태그 (기본 test 태스크 제외, gradle benchmark로 실행): 주문 500건 ZIP 메모리 비교, 스레드 수별 시간 비교
+ */
+class TransactionStatementExcelServiceTests {
+
+    private static final int ROWS_PER_PAGE = TransactionStatementTemplate.ROWS_PER_PAGE;
+
+    private final TransactionStatementExcelService service = new TransactionStatementExcelService(null, 2, 3);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void renderedStatementMatchesTemplateCopy() throws IOException {
+        for (int itemCount : new int[]{0, 7, 10, 25}) {
+            StatementOrder order = order(itemCount, itemCount);
+            int pages = Math.max(1, (itemCount + 9) / 10);
+
+            try (Workbook legacy = new XSSFWorkbook(new ByteArrayInputStream(legacyStatement(order)));
+                 Workbook rendered = new XSSFWorkbook(new ByteArrayInputStream(render(order)))) {
+                Sheet legacySheet = legacy.getSheetAt(0);
+                Sheet sheet = rendered.getSheetAt(0);
+
+                for (int rowIdx = 0; rowIdx < pages * ROWS_PER_PAGE; rowIdx++) {
+                    Row legacyRow = legacySheet.getRow(rowIdx);
+                    Row row = sheet.getRow(rowIdx);
+                    assertNotNull(row, "row " + rowIdx);
+                    assertEquals(legacyRow.getHeight(), row.getHeight(), "row " + rowIdx);
+                    for (int col = 0; col < 11; col++) {
+                        Cell legacyCell = legacyRow.getCell(col);
+                        Cell cell = row.getCell(col);
+                        String at = itemCount + "품목 " + rowIdx + "행 " + col + "열";
+                        assertEquals(legacyCell == null, cell == null, at);
+                        if (cell != null) {
+                            assertEquals(valueOf(legacyCell), valueOf(cell), at);
+                            assertEquals(legacyCell.getCellStyle().getIndex(), cell.getCellStyle().getIndex(), at);
+                            assertEquals(styleOf(legacy, legacyCell.getCellStyle()), styleOf(rendered, cell.getCellStyle()), at);
+                        }
+                    }
+                }
+                for (int col = 0; col < 11; col++) {
+                    assertEquals(legacySheet.getColumnWidth(col), sheet.getColumnWidth(col));
+                }
+                assertEquals(regions(legacySheet, pages), regions(sheet, pages));
+                assertEquals(fontOf(legacy.getFontAt(0)), fontOf(rendered.getFontAt(0)));
+                assertEquals(legacySheet.getPrintSetup().getScale(), sheet.getPrintSetup().getScale());
+                assertEquals(legacySheet.getPrintSetup().getPaperSize(), sheet.getPrintSetup().getPaperSize());
+
+                // 페이지 나누기: 페이지 마지막 행 뒤 (템플릿 1페이지와 동일)
+                int[] expectedBreaks = new int[pages - 1];
+                for (int page = 0; page < pages - 1; page++) {
+                    expectedBreaks[page] = page * ROWS_PER_PAGE + ROWS_PER_PAGE - 1;
+                }
+                assertArrayEquals(expectedBreaks, sheet.getRowBreaks());
+            }
+        }
+    }
+
+    @Test
+    void writesWorkbookAndZip() throws IOException {
+        List<StatementOrder> orders = List.of(order(1, 3), order(2, 12), order(3, 0));
+
+        ByteArrayOutputStream workbookBytes = new ByteArrayOutputStream();
+        assertEquals(3, service.writeStatementWorkbook(orders, workbookBytes));
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(workbookBytes.toByteArray()))) {
+            assertEquals(3, workbook.getNumberOfSheets());
+            assertEquals("ORD-2", workbook.getSheetAt(1).getSheetName());
+            assertEquals("ORD-2", workbook.getSheetAt(1).getRow(ROWS_PER_PAGE + 3).getCell(9).getStringCellValue());
+            assertEquals("1/2", workbook.getSheetAt(1).getRow(2).getCell(9).getStringCellValue());
+            assertEquals("2/2", workbook.getSheetAt(1).getRow(ROWS_PER_PAGE + 2).getCell(9).getStringCellValue());
+        }
+
+        ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+        assertEquals(3, service.writeStatementZip(orders, zipBytes));
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(zipBytes.toByteArray()))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                entries.add(entry.getName());
+                try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(zip.readAllBytes()))) {
+                    assertEquals(1, workbook.getNumberOfSheets());
+                }
+            }
+        }
+        assertEquals(List.of("거래명세표_ORD-1.xlsx", "거래명세표_ORD-2.xlsx", "거래명세표_ORD-3.xlsx"), entries);
+    }
+
+    @Test
+    void skipsFailedOrder() throws IOException {
+        Object[] brokenInfo = order(9, 1).getOrderInfo().clone();
+        brokenInfo[2] = "합계 아님";
+        List<StatementOrder> orders = List.of(order(1, 3), new StatementOrder("ORD-9", brokenInfo, List.of(), null));
+
+        ByteArrayOutputStream workbookBytes = new ByteArrayOutputStream();
+        assertEquals(1, service.writeStatementWorkbook(orders, workbookBytes));
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(workbookBytes.toByteArray()))) {
+            assertEquals(1, workbook.getNumberOfSheets());
+        }
+
+        ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+        assertEquals(1, service.writeStatementZip(orders, zipBytes));
+
+        // 전부 실패하면 아무것도 쓰지 않음 (오류 응답 가능)
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        assertThrows(RuntimeException.class, () -> service.writeStatementZip(orders.subList(1, 2), empty));
+        assertEquals(0, empty.size());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareMemoryAt500Orders() throws Exception {
+        List<StatementOrder> orders = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            orders.add(order(i, 1 + (i * 7) % 25));
+        }
+        int warmupCount = 20;
+        legacyZip(legacyStatements(orders.subList(0, warmupCount)));
+        service.writeStatementZip(orders.subList(0, warmupCount), OutputStream.nullOutputStream());
+
+        Measurement legacy = measure(() -> {
+            Map<String, byte[]> excelFiles = legacyStatements(orders);
+            byte[] zip = legacyZip(excelFiles);
+            return new Object[]{new Object[]{excelFiles, zip}, zip.length, excelFiles.size()};
+        });
+        Measurement streamed = measure(() -> {
+            CountingOutputStream out = new CountingOutputStream();
+            int written = service.writeStatementZip(orders, out);
+            return new Object[]{null, (int) out.count, written};
+        });
+
+        assertEquals(500, legacy.orderCount);
+        assertEquals(500, streamed.orderCount);
+        // 기존 방식은 파일 500개 + ZIP 전체를 응답 직전까지 들고 있고, 변경 후에는 스트림으로 바로 내보냄
+        assertTrue(streamed.retainedKb * 10 < legacy.retainedKb,
+                "응답 직전 보유 " + streamed.retainedKb + "KB / 기존 " + legacy.retainedKb + "KB");
+        assertTrue(streamed.allocatedMb < legacy.allocatedMb,
+                "할당 " + streamed.allocatedMb + "MB / 기존 " + legacy.allocatedMb + "MB");
+    }
+
+    @Test
+    void parallelZipKeepsOrderAndBoundsPending() throws IOException {
+        int maxPending = 3;
+        AtomicInteger live = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        TransactionStatementExcelService parallel = new TransactionStatementExcelService(null, 4, maxPending) {
+            @Override
+            byte[] renderStatementFile(StatementOrder order) throws IOException {
+                peak.accumulateAndGet(live.incrementAndGet(), Math::max);
+                sleep(order.getOrderNo().hashCode() % 4 * 3); // 완료 순서가 요청 순서와 다르게
+                try {
+                    return super.renderStatementFile(order);
+                } catch (RuntimeException e) {
+                    live.decrementAndGet(); // 실패한 주문은 기록되지 않음
+                    throw e;
+                }
+            }
+
+            @Override
+            void writeZipEntry(ZipOutputStream zip, String orderNo, byte[] excelData) throws IOException {
+                sleep(5); // 기록이 생성보다 느린 경우
+                super.writeZipEntry(zip, orderNo, excelData);
+                live.decrementAndGet();
+            }
+        };
+
+        try {
+            List<StatementOrder> orders = new ArrayList<>();
+            List<String> expected = new ArrayList<>();
+            for (int i = 1; i <= 30; i++) {
+                if (i == 17) {
+                    Object[] brokenInfo = order(i, 1).getOrderInfo().clone();
+                    brokenInfo[2] = "합계 아님";
+                    orders.add(new StatementOrder("ORD-" + i, brokenInfo, List.of(), null));
+                    continue;
+                }
+                orders.add(order(i, i % 15));
+                expected.add("거래명세표_ORD-" + i + ".xlsx");
+            }
+
+            ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+            assertEquals(29, parallel.writeStatementZip(orders, zipBytes));
+            assertEquals(expected, entryNames(zipBytes.toByteArray()));
+            assertTrue(peak.get() <= maxPending, "생성/기록 대기 최대 " + peak.get() + "건");
+        } finally {
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareParallelRendering() throws IOException {
+        List<StatementOrder> orders = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            orders.add(order(i, 1 + (i * 7) % 25));
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        int[] threadCounts = {1, Math.max(2, cores)};
+        long[] millis = new long[threadCounts.length];
+
+        List<String> sequentialEntries = null;
+        for (int i = 0; i < threadCounts.length; i++) {
+            int threads = threadCounts[i];
+            TransactionStatementExcelService runner = new TransactionStatementExcelService(null, threads, threads * 2);
+            try {
+                runner.writeStatementZip(orders.subList(0, 20), OutputStream.nullOutputStream());
+
+                ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+                long start = System.nanoTime();
+                assertEquals(200, runner.writeStatementZip(orders, zipBytes));
+                millis[i] = (System.nanoTime() - start) / 1_000_000;
+
+                List<String> entries = entryNames(zipBytes.toByteArray());
+                assertEquals(200, entries.size());
+                if (sequentialEntries == null) {
+                    sequentialEntries = entries;
+                } else {
+                    assertEquals(sequentialEntries, entries);
+                }
+            } finally {
+                runner.shutdown();
+            }
+        }
+
+        // 코어가 1개면 동시 생성 이득이 없으므로 순서/건수만 확인
+        if (cores > 1) {
+            assertTrue(millis[1] < millis[0], "생성 스레드 " + threadCounts[1] + "개 " + millis[1] + "ms / 1개 " + millis[0] + "ms");
+        }
+    }
+
+    private static List<String> entryNames(byte[] zipBytes) throws IOException {
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(zipBytes))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                entries.add(entry.getName());
+            }
+        }
+        return entries;
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(Math.abs(millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private byte[] render(StatementOrder order) throws IOException {
+        SXSSFWorkbook workbook = service.renderStatement(order);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 기존 방식: 주문별 파일 전체를 byte[]로 보관 (서비스 응답)
+     */
+    private Map<String, byte[]> legacyStatements(List<StatementOrder> orders) throws IOException {
+        Map<String, byte[]> excelFiles = new LinkedHashMap<>();
+        for (StatementOrder order : orders) {
+            excelFiles.put(order.getOrderNo(), legacyStatement(order));
+        }
+        return excelFiles;
+    }
+
+    /**
+     * 기존 방식: 보관한 파일들을 메모리 ZIP으로 압축 후 응답 (컨트롤러)
+     */
+    private byte[] legacyZip(Map<String, byte[]> excelFiles) throws IOException {
+        ByteArrayOutputStream zipOutputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(zipOutputStream)) {
+            for (Map.Entry<String, byte[]> entry : excelFiles.entrySet()) {
+                zip.putNextEntry(new ZipEntry("거래명세표_" + entry.getKey() + ".xlsx"));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return zipOutputStream.toByteArray();
+    }
+
+    /**
+     * 기존 방식: 주문마다 템플릿 열기, 2페이지부터 템플릿 행/병합 영역 복사
+     */
+    private byte[] legacyStatement(StatementOrder order) throws IOException {
+        try (InputStream templateStream = new ClassPathResource(TransactionStatementTemplate.TEMPLATE_PATH).getInputStream();
+             Workbook workbook = new XSSFWorkbook(templateStream)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            List<Object[]> items = order.getOrderItems() != null ? order.getOrderItems() : List.of();
+            int totalPages = Math.max(1, (items.size() + 9) / 10);
+
+            for (int pageIndex = 0; pageIndex < totalPages; pageIndex++) {
+                int startRow = pageIndex * ROWS_PER_PAGE;
+                if (pageIndex > 0) {
+                    for (int rowIdx = 0; rowIdx < ROWS_PER_PAGE; rowIdx++) {
+                        Row sourceRow = sheet.getRow(rowIdx);
+                        Row targetRow = sheet.createRow(startRow + rowIdx);
+                        targetRow.setHeight(sourceRow.getHeight());
+                        for (Cell sourceCell : sourceRow) {
+                            Cell targetCell = targetRow.createCell(sourceCell.getColumnIndex());
+                            targetCell.setCellStyle(sourceCell.getCellStyle());
+                            Object value = valueOf(sourceCell);
+                            if (value instanceof String) {
+                                targetCell.setCellValue((String) value);
+                            } else if (value instanceof Double) {
+                                targetCell.setCellValue((Double) value);
+                            }
+                        }
+                    }
+                    for (CellRangeAddress region : new ArrayList<>(sheet.getMergedRegions())) {
+                        if (region.getLastRow() <= 56) {
+                            sheet.addMergedRegion(new CellRangeAddress(region.getFirstRow() + startRow,
+                                    region.getLastRow() + startRow, region.getFirstColumn(), region.getLastColumn()));
+                        }
+                    }
+                }
+                List<Object[]> pageItems = items.subList(pageIndex * 10, Math.min(items.size(), pageIndex * 10 + 10));
+                service.fillPageDataAtRow(sheet, order.getOrderNo(), order.getOrderInfo(), pageItems,
+                        order.getCollectionInfo(), order.getOrderItems(), pageIndex + 1, totalPages, startRow);
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            workbook.write(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    /**
+     * 셀 값 (수식은 계산된 값)
+     */
+    /**
+     * 스타일 내용 (글꼴, 정렬, 테두리, 채우기, 표시 형식)
+     */
+    private static List<Object> styleOf(Workbook workbook, CellStyle style) {
+        XSSFCellStyle xssfStyle = (XSSFCellStyle) style;
+        XSSFColor fill = xssfStyle.getFillForegroundColorColor();
+        return List.of(fontOf(workbook.getFontAt(style.getFontIndex())),
+                style.getAlignment(), style.getVerticalAlignment(), style.getWrapText(),
+                style.getBorderTop(), style.getBorderBottom(), style.getBorderLeft(), style.getBorderRight(),
+                style.getFillPattern(), fill == null ? "" : String.valueOf(fill.getARGBHex()),
+                style.getDataFormatString());
+    }
+
+    private static List<Object> fontOf(Font font) {
+        XSSFColor color = ((XSSFFont) font).getXSSFColor();
+        return List.of(font.getFontName(), font.getFontHeight(), font.getBold(), font.getItalic(), font.getUnderline(),
+                color == null ? "" : String.valueOf(color.getARGBHex()));
+    }
+
+    private static Object valueOf(Cell cell) {
+        CellType type = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+        return switch (type) {
+            case STRING -> cell.getStringCellValue();
+            case NUMERIC -> cell.getNumericCellValue();
+            default -> null;
+        };
+    }
+
+    private static Set<String> regions(Sheet sheet, int pages) {
+        Set<String> regions = new TreeSet<>();
+        for (CellRangeAddress region : sheet.getMergedRegions()) {
+            if (region.getLastRow() < pages * ROWS_PER_PAGE) {
+                regions.add(region.formatAsString());
+            }
+        }
+        return regions;
+    }
+
+    private static StatementOrder order(int seq, int itemCount) {
+        String orderNo = "ORD-" + seq;
+        Object[] orderInfo = new Object[22];
+        orderInfo[0] = orderNo;
+        orderInfo[1] = "20250310";
+        orderInfo[2] = 110_000 * itemCount;
+        orderInfo[3] = 100_000 * itemCount;
+        orderInfo[4] = 10_000 * itemCount;
+        orderInfo[5] = seq % 2;
+        for (int i = 6; i < 22; i++) {
+            orderInfo[i] = "정보" + i + "-" + seq;
+        }
+
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new Object[]{orderNo, "품목" + seq + "-" + i, "1kg", "EA", 1 + i % 4, 25_000,
+                    100_000, 10_000, 110_000, i % 3 == 0 ? "면세" : "과세"});
+        }
+        Object[] collectionInfo = seq % 3 == 0 ? null : new Object[]{orderNo, null, null, 50_000};
+        return new StatementOrder(orderNo, orderInfo, itemCount == 0 ? null : items, collectionInfo);
+    }
+
+    private interface Run {
+        Object[] run() throws Exception;
+    }
+
+    private static class Measurement {
+        long allocatedMb;
+        long retainedKb;
+        long millis;
+        int outputBytes;
+        int orderCount;
+    }
+
+    /**
+     * 할당량(생성 작업 스레드 포함 전체), 결과를 들고 있는 상태(응답 전송 직전)의 GC 후 힙 증가량
+     */
+    private static Measurement measure(Run run) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long baseline = usedAfterGc();
+
+        long allocatedBefore = allocatedBytes(threads);
+        long start = System.nanoTime();
+        Object[] result = run.run();
+        Measurement measurement = new Measurement();
+        measurement.millis = (System.nanoTime() - start) / 1_000_000;
+        measurement.allocatedMb = (allocatedBytes(threads) - allocatedBefore) >> 20;
+
+        measurement.retainedKb = Math.max(0, usedAfterGc() - baseline) >> 10;
+        measurement.outputBytes = (Integer) result[1];
+        measurement.orderCount = (Integer) result[2];
+        return measurement;
+    }
+
+    /**
+     * GC 직후 힙 사용량
+     * - GC 뒤에 다른 스레드가 할당한 양은 제외
+     * - 한 번의 GC로는 압축하지 않은 영역의 빈 공간이 남을 수 있어 사용량이 더 줄지 않을 때까지 반복 (최대 5회)
+     */
+    private static long usedAfterGc() {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            long current = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null)
+                    .mapToLong(pool -> pool.getCollectionUsage().getUsed())
+                    .sum();
+            if (current >= used) {
+                break;
+            }
+            used = current;
+        }
+        return used;
+    }
+
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads) {
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds())).filter(bytes -> bytes > 0).sum();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
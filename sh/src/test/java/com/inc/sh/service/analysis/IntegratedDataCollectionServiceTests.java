@@ -0,0 +1,81 @@
+package com.inc.sh.service.analysis;
+
+import com.inc.sh.dto.publicDataAnalysis.reqDto.PublicDataAnalysisReqDto;
+import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 통합 공공데이터 수집 단계 구성 테스트
+ * - 소득/소비, 업소수/인구는 기존 행만 갱신하므로 매출을 함께 수집하면 항상 매출 완료 후 실행
+ *   (분석 데이터가 이미 있어도 매출 단계가 새 행정동 행을 추가할 수 있음)
+ */
+class IntegratedDataCollectionServiceTests {
+
+    private PublicDataPipelineRunner pipelineRunner;
+    private IntegratedDataCollectionService integratedDataCollectionService;
+
+    @BeforeEach
+    void setUp() {
+        pipelineRunner = mock(PublicDataPipelineRunner.class);
+        PublicDataCollectionJobService jobService = mock(PublicDataCollectionJobService.class);
+        when(jobService.startJob(anyString(), anyString(), any(), anyList())).thenReturn(1L);
+        when(pipelineRunner.run(anyString(), anyList())).thenReturn(
+                PublicDataAnalysisRespDto.CollectionProgressResp.builder()
+                        .status("COMPLETED")
+                        .build());
+
+        integratedDataCollectionService = new IntegratedDataCollectionService(
+                mock(SalesDataCollectionService.class),
+                mock(IncomeConsumptionDataCollectionService.class),
+                mock(BusinessPopulationDataCollectionService.class),
+                pipelineRunner,
+                jobService,
+                mock(PublicDataAnalysisService.class));
+    }
+
+    @Test
+    void updateOnlyStagesWaitForSalesWhenSalesIsIncluded() {
+        Map<String, List<String>> dependencies = collect(true);
+
+        assertEquals(List.of(), dependencies.get("SALES"));
+        assertEquals(List.of("SALES"), dependencies.get("INCOME_CONSUMPTION"));
+        assertEquals(List.of("SALES"), dependencies.get("BUSINESS_POPULATION"));
+    }
+
+    @Test
+    void updateOnlyStagesRunConcurrentlyWithoutSales() {
+        Map<String, List<String>> dependencies = collect(false);
+
+        assertEquals(2, dependencies.size());
+        assertEquals(List.of(), dependencies.get("INCOME_CONSUMPTION"));
+        assertEquals(List.of(), dependencies.get("BUSINESS_POPULATION"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, List<String>> collect(boolean includeSales) {
+        integratedDataCollectionService.collectIntegratedData(PublicDataAnalysisReqDto.IntegratedDataCollectReq.builder()
+                .cities(List.of("서울특별시"))
+                .areaCodes(List.of("11010"))
+                .includeSales(includeSales)
+                .build());
+
+        ArgumentCaptor<List<PublicDataPipelineRunner.Stage>> stages = ArgumentCaptor.forClass(List.class);
+        verify(pipelineRunner).run(anyString(), stages.capture());
+        return stages.getValue().stream().collect(Collectors.toMap(
+                PublicDataPipelineRunner.Stage::getName, PublicDataPipelineRunner.Stage::getDependsOn));
+    }
+}
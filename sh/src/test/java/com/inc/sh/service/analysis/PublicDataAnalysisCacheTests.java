@@ -0,0 +1,107 @@
+package com.inc.sh.service.analysis;
+
+import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
+import com.inc.sh.entity.PublicDataAnalysis;
+import com.inc.sh.repository.PublicDataAnalysisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 공공데이터 분석 조회 캐시 테스트
+ * - 적재 후 동코드/상위 N개/범위 조회는 DB를 호출하지 않음
+ * - 스냅샷 밖 동코드는 크기 제한 LRU로 보관, 재적재 시 스냅샷 교체
+ */
+class PublicDataAnalysisCacheTests {
+
+    private PublicDataAnalysisRepository repository;
+    private PublicDataAnalysisCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PublicDataAnalysisRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                analysis(11110515, 500L, 1_000),
+                analysis(11110520, 300L, 30_000),
+                analysis(11110530, 900L, 20_000),
+                analysis(11110540, 300L, 5_000)));
+        when(repository.findByAdminDongCode(anyInt())).thenReturn(Optional.empty());
+        cache = new PublicDataAnalysisCache(repository, 2);
+        cache.reload();
+    }
+
+    @Test
+    void lookupsAreServedFromSnapshot() {
+        assertEquals("행정동11110530", cache.get(11110530).orElseThrow().getAdminDongName());
+        assertSame(cache.get(11110530).orElseThrow(), cache.get(11110530).orElseThrow());
+
+        List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> top = cache.top(PublicDataAnalysisCache.Metric.TOTAL_SALES, 3);
+        assertEquals(List.of(11110530, 11110515, 11110520), codes(top));
+        assertEquals(4, cache.top(PublicDataAnalysisCache.Metric.TOTAL_POPULATION, 100).size());
+
+        assertEquals(List.of(11110540, 11110530),
+                codes(cache.range(PublicDataAnalysisCache.Metric.FLOATING_POPULATION, 5_000L, 20_000L)));
+        assertEquals(List.of(11110520),
+                codes(cache.range(PublicDataAnalysisCache.Metric.FLOATING_POPULATION, 20_001L, null)));
+        assertTrue(cache.range(PublicDataAnalysisCache.Metric.INCOME, 1L, null).isEmpty());
+
+        verify(repository, times(1)).findAll();
+        verify(repository, times(0)).findByAdminDongCode(anyInt());
+
+        PublicDataAnalysisRespDto.CacheStatsResp stats = cache.getStats();
+        assertEquals(4, stats.getSize());
+        assertEquals(0L, stats.getMissCount());
+        assertEquals(100.0, stats.getHitRate());
+    }
+
+    @Test
+    void missesAreBoundedAndClearedOnReload() {
+        assertFalse(cache.get(99999999).isPresent());
+        assertFalse(cache.get(99999999).isPresent());
+        verify(repository, times(1)).findByAdminDongCode(99999999);
+
+        // LRU 최대 2개 → 세 번째 동코드에서 가장 오래된 항목 제거
+        cache.get(99999998);
+        cache.get(99999997);
+        cache.get(99999999);
+        verify(repository, times(2)).findByAdminDongCode(99999999);
+
+        PublicDataAnalysisRespDto.CacheStatsResp stats = cache.getStats();
+        assertEquals(2, stats.getMissCacheSize());
+        assertEquals(2L, stats.getEvictionCount());
+        assertEquals(4L, stats.getMissCount());
+
+        // 수집 후 재적재: 새 스냅샷으로 교체되고 LRU는 비워짐
+        when(repository.findAll()).thenReturn(List.of(analysis(99999999, 100L, 10)));
+        cache.reload();
+        assertTrue(cache.get(99999999).isPresent());
+        assertFalse(cache.get(11110515).isPresent());
+        assertEquals(1, cache.getStats().getSize());
+        assertEquals(2L, cache.getStats().getLoadCount());
+    }
+
+    private static List<Integer> codes(List<PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp> rows) {
+        return rows.stream().map(PublicDataAnalysisRespDto.PublicDataAnalysisDetailResp::getAdminDongCode).toList();
+    }
+
+    private static PublicDataAnalysis analysis(int adminDongCode, long koreanSales, int floatingPopulation) {
+        return PublicDataAnalysis.builder()
+                .adminDongCode(adminDongCode)
+                .adminDongName("행정동" + adminDongCode)
+                .koreanSales(koreanSales)
+                .floatingPopulation(floatingPopulation)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.inc.sh.service.analysis;
+
+import com.inc.sh.common.util.ManualClock;
+import com.inc.sh.common.util.TokenBucket;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 공공데이터 수집 실행기 테스트
+ * - 로컬 스텁 API 서버(응답 지연 50ms)에서 측정한 동시 요청 수가 동시실행 설정을 넘지 않는지 확인
+ * - 5xx 재시도, 전체 초당 호출 수 제한은 가짜 시계 토큰버킷의 발급 수/경과 시간으로 확인
+ */
+class PublicDataCollectionEngineTests {
+
+    private static final int CALL_COUNT = 32;
+    private static final long LATENCY_MS = 50;
+
+    private HttpServer server;
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/sales", exchange -> {
+            maxInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlightRequests.decrementAndGet();
+            }
+            String query = exchange.getRequestURI().getQuery();
+            int status = remainingFailures.getAndDecrement() > 0 ? 503 : 200;
+            String box = query.substring(query.indexOf("box=") + 4);
+            byte[] body = ("[{\"admCd\":\"" + box + "\",\"admNm\":\"행정동" + box + "\",\"saleAmt\":\"1,000\",\"storeCnt\":\"3\"}]")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void inFlightCallsNeverExceedConcurrency() {
+        for (int concurrency : new int[]{1, 2, 4, 8}) {
+            PublicDataCollectionEngine engine = new PublicDataCollectionEngine(concurrency, 0, 10);
+            TokenBucket rateLimiter = rateLimiter(engine, 0, concurrency, new ManualClock());
+            Map<String, Object> merged = new ConcurrentHashMap<>();
+            maxInFlightRequests.set(0);
+            try {
+                PublicDataCollectionEngine.CollectionResult result = engine.collect(
+                        "매출", boxes(), 0, this::call, (box, rows) -> rows.forEach(row -> merged.put(box, row)));
+
+                assertEquals(CALL_COUNT, result.getSuccessCalls().get());
+                assertEquals(CALL_COUNT, merged.size());
+                assertEquals(CALL_COUNT, rateLimiter.getAcquiredCount());
+                assertTrue(maxInFlightRequests.get() <= concurrency,
+                        "동시실행 " + concurrency + ", 동시 요청 " + maxInFlightRequests.get());
+                if (concurrency > 1) {
+                    assertTrue(maxInFlightRequests.get() > 1, "동시실행 " + concurrency + "에서 요청이 동시에 실행되어야 합니다.");
+                }
+            } finally {
+                engine.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void retriesServerErrors() {
+        PublicDataCollectionEngine engine = new PublicDataCollectionEngine(4, 0, 10);
+        TokenBucket rateLimiter = rateLimiter(engine, 0, 4, new ManualClock());
+        remainingFailures.set(3);
+        try {
+            PublicDataCollectionEngine.CollectionResult result = engine.collect(
+                    "매출", boxes().subList(0, 4), 2, this::call, (box, rows) -> { });
+
+            assertEquals(4, result.getSuccessCalls().get());
+            assertEquals(0, result.getFailureCalls().get());
+            assertEquals(3, result.getRetryCalls().get());
+            // 재시도도 토큰을 1개씩 소비
+            assertEquals(7, rateLimiter.getAcquiredCount());
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void requestsPerSecondCapBoundsRunTime() {
+        // 초당 20건, 버킷 4건 → 20건 호출에 최소 (20 - 4) / 20 = 0.8초 분량의 대기
+        PublicDataCollectionEngine engine = new PublicDataCollectionEngine(4, 20, 10);
+        ManualClock clock = new ManualClock();
+        TokenBucket rateLimiter = rateLimiter(engine, 20, 4, clock);
+        try {
+            PublicDataCollectionEngine.CollectionResult result = engine.collect(
+                    "매출", boxes().subList(0, 20), 0, this::call, (box, rows) -> { });
+
+            assertEquals(20, result.getSuccessCalls().get());
+            assertEquals(20, rateLimiter.getAcquiredCount());
+            assertTrue(clock.elapsedMs() >= 800, "초당 호출 제한이 적용되어야 합니다: " + clock.elapsedMs() + "ms");
+            assertTrue(maxInFlightRequests.get() <= 4, "동시 요청: " + maxInFlightRequests.get());
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    private static TokenBucket rateLimiter(PublicDataCollectionEngine engine, double permitsPerSecond, int capacity,
+                                           ManualClock clock) {
+        TokenBucket rateLimiter = new TokenBucket(permitsPerSecond, capacity, clock);
+        ReflectionTestUtils.setField(engine, "rateLimiter", rateLimiter);
+        return rateLimiter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> call(String box) {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/sales?box=" + box;
+        return restTemplate.getForObject(url, List.class);
+    }
+
+    private List<String> boxes() {
+        List<String> boxes = new ArrayList<>();
+        for (int i = 0; i < CALL_COUNT; i++) {
+            boxes.add(String.valueOf(11110000 + i));
+        }
+        return boxes;
+    }
+}
@@ -0,0 +1,257 @@
+package com.inc.sh.service.analysis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inc.sh.config.CityBoxCoordinates;
+import com.inc.sh.dto.publicDataAnalysis.reqDto.PublicDataAnalysisReqDto;
+import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
+import com.inc.sh.repository.PublicDataAnalysisBatchRepository;
+import com.inc.sh.repository.PublicDataCollectionJobRepository;
+import com.inc.sh.repository.TestDatabase;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 공공데이터 수집 작업 기록 테스트 (H2 MariaDB 호환 모드 + 로컬 스텁 API 서버)
+ * - 매출 수집 도중 실행기를 강제 종료한 뒤 같은 작업으로 재실행
+ * - 재실행 시 완료된 (광역시, 박스, 업종) 호출은 다시 하지 않고 결과는 전체 수집과 동일
+ * - 완료된 단계의 호출 단위 응답은 비우고, 보관기간이 지난 미완료 작업의 응답은 삭제
+ * - 하트비트가 멈춘 진행 중 작업만 중단 처리 (다른 서버가 실행 중인 작업은 유지)
+ */
+class PublicDataCollectionJobTests {
+
+    private static final String CITY = "울산광역시";
+    private static final int KILL_AFTER_HITS = 12;
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile Runnable killSwitch = () -> {};
+
+    private JdbcTemplate jdbcTemplate;
+    private PublicDataCollectionJobService jobService;
+    private PublicDataCollectionJobRepository jobRepository;
+    private PublicDataAnalysisBatchRepository batchRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/sales", exchange -> {
+            // 정해진 호출 수를 넘으면 수집 실행기를 강제 종료 (서버 종료 상황)
+            if (hits.incrementAndGet() > KILL_AFTER_HITS) {
+                killSwitch.run();
+            }
+            String query = exchange.getRequestURI().getQuery();
+            int boxCode = 31_000_000 + Math.floorMod(query.substring(query.indexOf("minXAxis"),
+                    query.indexOf("&upjongCd")).hashCode(), 1_000_000);
+            String upjongCd = query.substring(query.indexOf("upjongCd=") + 9, query.indexOf("&bzznType"));
+            byte[] body = ("[{\"admCd\":\"" + boxCode + "\",\"admNm\":\"행정동" + boxCode + "\",\"saleAmt\":\"" +
+                    upjongCd.hashCode() % 1000 + "\",\"storeCnt\":\"" + upjongCd.length() + "\"}]")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        DriverManagerDataSource dataSource = TestDatabase.connectionPerCall("collection-job");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        batchRepository = new PublicDataAnalysisBatchRepository(jdbcTemplate);
+        jobRepository = new PublicDataCollectionJobRepository(jdbcTemplate);
+        jobService = new PublicDataCollectionJobService(jobRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(jobService, "heartbeatTimeoutSeconds", 300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void resumeAfterKillSkipsCompletedUnits() {
+        int totalUnits = CityBoxCoordinates.getBoxes(CITY).size() * CityBoxCoordinates.UPJONG_CODES_SALES.length;
+        assertTrue(totalUnits > KILL_AFTER_HITS);
+
+        Long jobCode = jobService.startJob("scheduler_test", PublicDataCollectionJobService.JOB_TYPE_SCHEDULER,
+                PublicDataAnalysisReqDto.IntegratedDataCollectReq.builder().cities(List.of(CITY)).includeSales(true).build(),
+                List.of("SALES"));
+
+        // 1차 실행: 도중에 실행기 강제 종료
+        PublicDataCollectionEngine killedEngine = new PublicDataCollectionEngine(2, 0, 10);
+        killSwitch = killedEngine::shutdown;
+        PublicDataAnalysisRespDto.CollectionProgressResp killed = salesService(killedEngine)
+                .collectSalesData(salesRequest(), jobService.checkpoint(jobCode, "SALES"));
+        jobService.finishStage(jobCode, "SALES", killed);
+        jobService.finishJob(jobCode, killed);
+
+        int recordedUnits = jobRepository.countUnitsByStage(jobCode).getOrDefault("SALES", 0);
+        assertEquals("FAILED", killed.getStatus());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM public_data_analysis", Integer.class));
+        assertTrue(recordedUnits > 0 && recordedUnits < totalUnits);
+
+        // 작업 기록 기준 진행 상황 (중단 시점까지 완료된 호출 단위)
+        PublicDataAnalysisRespDto.CollectionProgressResp stored = jobService.getJobProgress("scheduler_test");
+        assertEquals("FAILED", stored.getStatus());
+        assertEquals(totalUnits, stored.getTotalApiCalls());
+        assertEquals(recordedUnits, stored.getCompletedApiCalls());
+
+        // 2차 실행: 같은 작업 재실행 → 남은 호출 단위만 API 호출
+        killSwitch = () -> {};
+        hits.set(0);
+        jobService.reopenJob(jobService.getJob("scheduler_test"));
+        PublicDataCollectionEngine engine = new PublicDataCollectionEngine(2, 0, 10);
+        try {
+            PublicDataAnalysisRespDto.CollectionProgressResp resumed = salesService(engine)
+                    .collectSalesData(salesRequest(), jobService.checkpoint(jobCode, "SALES"));
+            jobService.finishStage(jobCode, "SALES", resumed);
+            jobService.finishJob(jobCode, resumed);
+
+            assertEquals("COMPLETED", resumed.getStatus());
+            assertEquals(totalUnits - recordedUnits, hits.get());
+            assertEquals(totalUnits, resumed.getSuccessApiCalls());
+            assertEquals(totalUnits, jobRepository.countUnitsByStage(jobCode).get("SALES"));
+            assertEquals(100.0, jobService.getJobProgress("scheduler_test").getProgressPercent());
+            assertEquals(Set.of("SALES"), jobService.completedStages(jobCode));
+            assertEquals(0, storedPayloadCount(jobCode));
+
+            List<Map<String, Object>> resumedRows = analysisRows();
+
+            // 같은 조건의 전체 수집 결과와 비교
+            jdbcTemplate.execute("DELETE FROM public_data_analysis");
+            hits.set(0);
+            salesService(engine).collectSalesData(salesRequest());
+            assertEquals(totalUnits, hits.get());
+            assertEquals(analysisRows(), resumedRows);
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void completedOrRunningJobCannotBeReopened() {
+        jobService.startJob("integrated_test", PublicDataCollectionJobService.JOB_TYPE_INTEGRATED,
+                PublicDataAnalysisReqDto.IntegratedDataCollectReq.builder().includeSales(true).build(), List.of("SALES"));
+
+        // 진행 중 작업은 재실행 불가, 하트비트가 멈춰 중단 처리되면 재실행 가능
+        assertThrows(RuntimeException.class, () -> jobService.reopenJob(jobService.getJob("integrated_test")));
+        assertEquals(0, jobService.recoverInterruptedJobs().size());
+        stopHeartbeat("integrated_test");
+        assertEquals(1, jobService.recoverInterruptedJobs().size());
+        jobService.reopenJob(jobService.getJob("integrated_test"));
+
+        PublicDataCollectionJobRepository.JobRecord job = jobService.getJob("integrated_test");
+        assertEquals(PublicDataCollectionJobService.STATUS_PROCESSING, job.getStatus());
+        assertEquals(Boolean.TRUE, jobService.readRequest(job).getIncludeSales());
+
+        jobService.finishJob(job.getJobCode(), PublicDataAnalysisRespDto.CollectionProgressResp.builder()
+                .status(PublicDataCollectionJobService.STATUS_COMPLETED).build());
+        assertThrows(RuntimeException.class, () -> jobService.reopenJob(jobService.getJob("integrated_test")));
+        assertEquals(PublicDataCollectionJobService.STATUS_COMPLETED,
+                jobService.getLatestJobProgress(PublicDataCollectionJobService.JOB_TYPE_INTEGRATED).getStatus());
+    }
+
+    @Test
+    void onlyJobsWithStaleHeartbeatAreInterrupted() {
+        PublicDataCollectionJobService otherNode = new PublicDataCollectionJobService(jobRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(otherNode, "heartbeatTimeoutSeconds", 300);
+        jobService.startJob("crashed_test", PublicDataCollectionJobService.JOB_TYPE_SCHEDULER,
+                PublicDataAnalysisReqDto.IntegratedDataCollectReq.builder().build(), List.of("SALES"));
+        otherNode.startJob("running_test", PublicDataCollectionJobService.JOB_TYPE_SCHEDULER,
+                PublicDataAnalysisReqDto.IntegratedDataCollectReq.builder().build(), List.of("SALES"));
+        stopHeartbeat("crashed_test");
+        stopHeartbeat("running_test");
+
+        // 실행 중인 서버가 하트비트를 갱신한 작업은 새로 뜬 서버가 중단 처리하지 않음
+        otherNode.heartbeat();
+        jobService.heartbeat();
+
+        assertEquals(PublicDataCollectionJobService.STATUS_INTERRUPTED, jobService.getJob("crashed_test").getStatus());
+        assertEquals(PublicDataCollectionJobService.STATUS_PROCESSING, jobService.getJob("running_test").getStatus());
+        assertEquals(List.of("crashed_test"), jobService.recoverInterruptedJobs().stream()
+                .map(PublicDataCollectionJobRepository.JobRecord::getTaskId).toList());
+    }
+
+    @Test
+    void staleUnfinishedJobPayloadsArePurged() {
+        Long staleJob = jobService.startJob("stale_test", PublicDataCollectionJobService.JOB_TYPE_INTEGRATED,
+                PublicDataAnalysisReqDto.IntegratedDataCollectReq.builder().build(), List.of("SALES"));
+        Long recentJob = jobService.startJob("recent_test", PublicDataCollectionJobService.JOB_TYPE_INTEGRATED,
+                PublicDataAnalysisReqDto.IntegratedDataCollectReq.builder().build(), List.of("SALES"));
+        Long runningJob = jobService.startJob("running_test", PublicDataCollectionJobService.JOB_TYPE_INTEGRATED,
+                PublicDataAnalysisReqDto.IntegratedDataCollectReq.builder().build(), List.of("SALES"));
+        for (Long jobCode : List.of(staleJob, recentJob, runningJob)) {
+            jobRepository.insertUnit(jobCode, "SALES", "unit-1", "[]");
+            jobRepository.insertUnit(jobCode, "SALES", "unit-2", "[]");
+        }
+        jobRepository.updateJobStatus(staleJob, "FAILED", null, LocalDateTime.now().minusDays(31));
+        jobRepository.updateJobStatus(recentJob, "FAILED", null, LocalDateTime.now().minusDays(1));
+
+        assertEquals(2, jobService.purgeUnitPayloads(30));
+
+        assertEquals(0, storedPayloadCount(staleJob));
+        assertEquals(2, storedPayloadCount(recentJob));
+        assertEquals(2, storedPayloadCount(runningJob));
+    }
+
+    private void stopHeartbeat(String taskId) {
+        jdbcTemplate.update("UPDATE public_data_collection_job SET updated_at = ? WHERE task_id = ?",
+                LocalDateTime.now().minusMinutes(10), taskId);
+    }
+
+    private int storedPayloadCount(Long jobCode) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM public_data_collection_unit " +
+                "WHERE job_code = ? AND payload IS NOT NULL", Integer.class, jobCode);
+    }
+
+    private SalesDataCollectionService salesService(PublicDataCollectionEngine engine) {
+        SalesDataCollectionService service = new SalesDataCollectionService(
+                batchRepository, new RestTemplate(), new ObjectMapper(), engine, transactionTemplate);
+        ReflectionTestUtils.setField(service, "salesApiBaseUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/sales");
+        ReflectionTestUtils.setField(service, "mapLevel", "3");
+        ReflectionTestUtils.setField(service, "substr", "8");
+        ReflectionTestUtils.setField(service, "bzznType", "1");
+        return service;
+    }
+
+    private static PublicDataAnalysisReqDto.SalesDataCollectReq salesRequest() {
+        return PublicDataAnalysisReqDto.SalesDataCollectReq.builder()
+                .cities(List.of(CITY))
+                .applyMultiplier(false)
+                .retryCount(0)
+                .build();
+    }
+
+    private List<Map<String, Object>> analysisRows() {
+        return jdbcTemplate.queryForList("SELECT admin_dong_code, admin_dong_name, " +
+                "korean_restaurant_count, korean_sales, chinese_restaurant_count, chinese_sales, " +
+                "japanese_restaurant_count, japanese_sales, western_restaurant_count, western_sales, " +
+                "southeast_asian_restaurant_count, southeast_asian_sales " +
+                "FROM public_data_analysis ORDER BY admin_dong_code");
+    }
+}
@@ -0,0 +1,183 @@
+package com.inc.sh.service.analysis;
+
+import com.inc.sh.dto.publicDataAnalysis.respDto.PublicDataAnalysisRespDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 공공데이터 수집 단계 실행기 테스트
+ * - 독립 단계 동시 실행 (모든 단계가 서로 시작을 기다려 만나는지 확인)
+ * - 선행 단계 실패 시 의존 단계만 건너뜀, 실패 단계만 재실행
+ */
+class PublicDataPipelineRunnerTests {
+
+    private final PublicDataPipelineRunner runner = new PublicDataPipelineRunner();
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    void runsIndependentStagesConcurrently() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        AtomicInteger overlapped = new AtomicInteger();
+        List<PublicDataPipelineRunner.Stage> stages = List.of(
+                PublicDataPipelineRunner.Stage.of("SALES", meetOthers(allStarted, overlapped, 10)),
+                PublicDataPipelineRunner.Stage.of("INCOME_CONSUMPTION", meetOthers(allStarted, overlapped, 20)),
+                PublicDataPipelineRunner.Stage.of("BUSINESS_POPULATION", meetOthers(allStarted, overlapped, 30)));
+
+        PublicDataAnalysisRespDto.CollectionProgressResp progress = runner.run("concurrent", stages);
+
+        assertEquals("COMPLETED", progress.getStatus());
+        assertEquals(3, progress.getCompletedSteps());
+        assertEquals(60, progress.getSuccessRecords());
+        assertEquals(100.0, progress.getProgressPercent());
+        assertEquals(3, overlapped.get(), "독립 단계는 동시에 실행되어야 합니다");
+    }
+
+    @Test
+    void failedStageSkipsOnlyItsDependents() {
+        PublicDataAnalysisRespDto.CollectionProgressResp progress = runner.run("partial", List.of(
+                PublicDataPipelineRunner.Stage.of("SALES", () -> {
+                    throw new RuntimeException("API 오류");
+                }),
+                PublicDataPipelineRunner.Stage.of("INCOME_CONSUMPTION", stage("COMPLETED", 5), "SALES"),
+                PublicDataPipelineRunner.Stage.of("BUSINESS_POPULATION", stage("COMPLETED", 7))));
+
+        assertEquals("PARTIAL_SUCCESS", progress.getStatus());
+        assertEquals(1, progress.getCompletedSteps());
+        assertEquals(7, progress.getSuccessRecords());
+        assertTrue(progress.getErrorMessages().stream().anyMatch(message -> message.contains("SALES 단계 오류")));
+        assertTrue(progress.getErrorMessages().stream().anyMatch(message -> message.contains("INCOME_CONSUMPTION 단계 건너뜀")));
+    }
+
+    @Test
+    void resumeRerunsOnlyUnfinishedStages() {
+        AtomicInteger salesRuns = new AtomicInteger();
+        AtomicInteger businessRuns = new AtomicInteger();
+        AtomicInteger incomeRuns = new AtomicInteger();
+
+        List<PublicDataPipelineRunner.Stage> stages = List.of(
+                PublicDataPipelineRunner.Stage.of("SALES", () -> {
+                    salesRuns.incrementAndGet();
+                    return progress("COMPLETED", 10);
+                }),
+                PublicDataPipelineRunner.Stage.of("INCOME_CONSUMPTION", () ->
+                        progress(incomeRuns.incrementAndGet() == 1 ? "FAILED" : "COMPLETED", 20), "SALES"),
+                PublicDataPipelineRunner.Stage.of("BUSINESS_POPULATION", () -> {
+                    businessRuns.incrementAndGet();
+                    return progress("COMPLETED", 30);
+                }));
+
+        assertEquals("PARTIAL_SUCCESS", runner.run("resume", stages).getStatus());
+
+        PublicDataAnalysisRespDto.CollectionProgressResp resumed = runner.resume("resume");
+
+        assertEquals("COMPLETED", resumed.getStatus());
+        assertEquals(60, resumed.getSuccessRecords());
+        assertEquals(List.of(), resumed.getErrorMessages());
+        assertEquals(1, salesRuns.get());
+        assertEquals(1, businessRuns.get());
+        assertEquals(2, incomeRuns.get());
+    }
+
+    @Test
+    void reportsProgressWhileRunning() throws Exception {
+        CountDownLatch salesStarted = new CountDownLatch(1);
+        CountDownLatch releaseSales = new CountDownLatch(1);
+
+        CompletableFuture<PublicDataAnalysisRespDto.CollectionProgressResp> running = CompletableFuture.supplyAsync(() ->
+                runner.run("live", List.of(
+                        PublicDataPipelineRunner.Stage.of("SALES", () -> {
+                            salesStarted.countDown();
+                            await(releaseSales);
+                            return progress("COMPLETED", 10);
+                        }),
+                        PublicDataPipelineRunner.Stage.of("BUSINESS_POPULATION", stage("COMPLETED", 30)))));
+
+        assertTrue(salesStarted.await(5, TimeUnit.SECONDS));
+        waitUntil(() -> runner.getProgress("live").getCompletedSteps() == 1);
+
+        PublicDataAnalysisRespDto.CollectionProgressResp live = runner.getProgress("live");
+        assertEquals("PROCESSING", live.getStatus());
+        assertEquals("SALES", live.getCurrentStep());
+        assertEquals(30, live.getSuccessRecords());
+        assertEquals(50.0, live.getProgressPercent());
+        assertThrows(RuntimeException.class, () -> runner.resume("live"));
+
+        releaseSales.countDown();
+        assertEquals("COMPLETED", running.get(5, TimeUnit.SECONDS).getStatus());
+    }
+
+    @Test
+    void rejectsUnknownDependenciesAndCycles() {
+        assertThrows(IllegalArgumentException.class, () -> runner.run("unknown", List.of(
+                PublicDataPipelineRunner.Stage.of("INCOME_CONSUMPTION", stage("COMPLETED", 1), "SALES"))));
+        assertThrows(IllegalArgumentException.class, () -> runner.run("cycle", List.of(
+                PublicDataPipelineRunner.Stage.of("A", stage("COMPLETED", 1), "B"),
+                PublicDataPipelineRunner.Stage.of("B", stage("COMPLETED", 1), "A"))));
+    }
+
+    private static Supplier<PublicDataAnalysisRespDto.CollectionProgressResp> stage(String status, int records) {
+        return () -> progress(status, records);
+    }
+
+    /**
+     * 다른 단계가 모두 시작할 때까지 대기 (순차 실행이면 시간 초과로 만나지 못함)
+     */
+    private static Supplier<PublicDataAnalysisRespDto.CollectionProgressResp> meetOthers(
+            CountDownLatch allStarted, AtomicInteger overlapped, int records) {
+        return () -> {
+            allStarted.countDown();
+            await(allStarted);
+            if (allStarted.getCount() == 0) {
+                overlapped.incrementAndGet();
+            }
+            return progress("COMPLETED", records);
+        };
+    }
+
+    private static PublicDataAnalysisRespDto.CollectionProgressResp progress(String status, int records) {
+        return PublicDataAnalysisRespDto.CollectionProgressResp.builder()
+                .status(status)
+                .totalApiCalls(records)
+                .completedApiCalls(records)
+                .successApiCalls(records)
+                .failureApiCalls(0)
+                .totalRecords(records)
+                .processedRecords(records)
+                .successRecords(records)
+                .failureRecords(0)
+                .errorMessages(new ArrayList<>())
+                .warnings(new ArrayList<>())
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.get() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
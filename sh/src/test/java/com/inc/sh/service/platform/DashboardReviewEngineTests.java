@@ -0,0 +1,231 @@
+package com.inc.sh.service.platform;
+
+import com.inc.sh.dto.platform.respDto.DashboardReviewRespDto;
+import com.inc.sh.repository.StoreReviewStatsQueryRepository;
+import com.inc.sh.repository.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 대시보드 리뷰 계산 테스트 (H2 MariaDB 호환 모드)
+ * - 기존 5개 쿼리(채널별 리뷰수/별점, 월별 추이, 평점/리뷰수 매장 순위)와 같은 결과
+ * - 대시보드 1회 조회당 쿼리 1회
+ */
+class DashboardReviewEngineTests {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 6, 15);
+    private static final String[] PLATFORMS = {"배민", "요기요", "쿠팡이츠"};
+    private static final int STORE_COUNT = 60;
+
+    // 기존 쿼리의 DATE_FORMAT(review_date) 조건을 같은 기간의 날짜 범위로 바꾼 형태
+    private static final String FROM_WHERE =
+            "FROM review_platform rp " +
+            "INNER JOIN store_platforms sp ON rp.store_platform_code = sp.store_platform_code " +
+            "WHERE sp.hq_code = ? AND sp.is_active = true AND (? = 0 OR sp.brand_code = ?) " +
+            "AND rp.review_date >= ? AND rp.review_date < ? ";
+    private static final String LEGACY_CHANNEL_COUNTS = "SELECT rp.platform, COUNT(*) AS review_count " +
+            FROM_WHERE + "GROUP BY rp.platform";
+    private static final String LEGACY_CHANNEL_RATINGS = "SELECT rp.platform, " +
+            "ROUND(AVG(CAST(rp.rating AS DECIMAL(3,2))), 1) AS avg_rating " + FROM_WHERE + "GROUP BY rp.platform";
+    private static final String LEGACY_MONTHLY_TREND = "SELECT YEAR(rp.review_date) * 100 + MONTH(rp.review_date) AS review_month, " +
+            "rp.platform, COUNT(*) AS review_count " + FROM_WHERE +
+            "GROUP BY YEAR(rp.review_date) * 100 + MONTH(rp.review_date), rp.platform";
+    // 동점 순서가 정해지도록 매장명을 마지막 정렬 기준으로 추가
+    private static final String LEGACY_TOP_RATED = "SELECT sp.platform_store_name AS store_name, " +
+            "ROUND(AVG(CAST(rp.rating AS DECIMAL(3,2))), 1) AS avg_rating, COUNT(*) AS review_count " + FROM_WHERE +
+            "GROUP BY sp.platform_store_name HAVING COUNT(*) >= 3 " +
+            "ORDER BY avg_rating DESC, review_count DESC, store_name LIMIT 10";
+    private static final String LEGACY_TOP_REVIEWED = "SELECT sp.platform_store_name AS store_name, " +
+            "COUNT(*) AS review_count, ROUND(AVG(CAST(rp.rating AS DECIMAL(3,2))), 1) AS avg_rating " + FROM_WHERE +
+            "GROUP BY sp.platform_store_name ORDER BY review_count DESC, avg_rating DESC, store_name LIMIT 10";
+
+    private JdbcTemplate jdbcTemplate;
+    private DashboardReviewEngine engine;
+    private final AtomicInteger queryCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("dashboard-review")) {
+            @Override
+            public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse) {
+                queryCount.incrementAndGet();
+                return super.query(psc, pss, rse);
+            }
+        };
+        engine = new DashboardReviewEngine(new StoreReviewStatsQueryRepository(jdbcTemplate));
+
+        // 매장명 1개 = 플랫폼별 매장 3개, 13개 중 1개는 비활성, 14개월치 리뷰 (현재월은 매장별 리뷰수가 다름)
+        List<Object[]> reviews = new ArrayList<>();
+        LocalDate firstMonth = BASE_DATE.withDayOfMonth(1).minusMonths(13);
+        for (int code = 1; code <= STORE_COUNT * 3; code++) {
+            int store = (code - 1) / 3 + 1;
+            String platform = PLATFORMS[code % 3];
+            jdbcTemplate.update("INSERT INTO store_platforms (store_platform_code, hq_code, brand_code, platform, " +
+                    "platform_store_name, is_active) VALUES (?, ?, ?, ?, ?, ?)",
+                    code, store % 20 == 0 ? 2 : 1, store % 4 + 1, platform, String.format("매장%03d", store), code % 13 != 0 ? 1 : 0);
+
+            for (int month = 0; month < 14; month++) {
+                int reviewCount = (code * 7 + month * 3) % 5;
+                for (int i = 0; i < reviewCount; i++) {
+                    LocalDate reviewDate = firstMonth.plusMonths(month).plusDays((code + i * 9) % 28);
+                    reviews.add(new Object[]{code, platform, Date.valueOf(reviewDate), 1 + (code * 5 + month + i * 3) % 5});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO review_platform (store_platform_code, platform, review_date, rating) " +
+                "VALUES (?, ?, ?, ?)", reviews);
+    }
+
+    @Test
+    void rendersSameDataAsSeparateQueries() {
+        for (int brandCode : new int[]{0, 3}) {
+            DashboardReviewRespDto legacy = renderLegacy(1, brandCode);
+            DashboardReviewRespDto rendered = engine.render(1, brandCode, BASE_DATE);
+
+            DashboardReviewRespDto.ChannelRatio legacyRatio = legacy.getChannelRatio();
+            DashboardReviewRespDto.ChannelRatio ratio = rendered.getChannelRatio();
+            assertEquals(List.of(legacyRatio.getBaeminCount(), legacyRatio.getYogiyoCount(), legacyRatio.getCoupangCount()),
+                    List.of(ratio.getBaeminCount(), ratio.getYogiyoCount(), ratio.getCoupangCount()));
+            assertEquals(List.of(legacyRatio.getBaeminRate(), legacyRatio.getYogiyoRate(), legacyRatio.getCoupangRate()),
+                    List.of(ratio.getBaeminRate(), ratio.getYogiyoRate(), ratio.getCoupangRate()));
+
+            DashboardReviewRespDto.ChannelRatings legacyRatings = legacy.getChannelRatings();
+            DashboardReviewRespDto.ChannelRatings ratings = rendered.getChannelRatings();
+            assertEquals(List.of(legacyRatings.getBaeminRating(), legacyRatings.getYogiyoRating(), legacyRatings.getCoupangRating()),
+                    List.of(ratings.getBaeminRating(), ratings.getYogiyoRating(), ratings.getCoupangRating()));
+
+            assertEquals(trend(legacy.getChannelTrend()), trend(rendered.getChannelTrend()));
+            assertEquals(rankings(legacy.getTopRatedStores()), rankings(rendered.getTopRatedStores()));
+            assertEquals(rankings(legacy.getTopReviewedStores()), rankings(rendered.getTopReviewedStores()));
+            assertTrue(rendered.getTopRatedStores().size() > 0);
+        }
+
+        DashboardReviewRespDto rendered = engine.render(1, 0, BASE_DATE);
+        assertEquals("2024년 7월", rendered.getChannelTrend().get(0).getMonth());
+        assertEquals("2025년 6월", rendered.getChannelTrend().get(11).getMonth());
+        assertEquals(10, rendered.getTopReviewedStores().size());
+
+        // 본사 데이터가 없으면 모든 항목 0
+        DashboardReviewRespDto empty = engine.render(99, 0, BASE_DATE);
+        assertEquals(0, empty.getChannelRatio().getTotalCount());
+        assertEquals("0.0%", empty.getChannelRatio().getBaeminRate());
+        assertEquals(0.0, empty.getChannelRatings().getCoupangRating());
+        assertEquals(12, empty.getChannelTrend().size());
+        assertEquals(0, empty.getTopRatedStores().size());
+    }
+
+    @Test
+    void rendersWithOneQuery() {
+        queryCount.set(0);
+        engine.render(1, 0, BASE_DATE);
+
+        assertEquals(1, queryCount.get());
+    }
+
+    /**
+     * 변경 전 조회 방식 (쿼리 5회)
+     */
+    private DashboardReviewRespDto renderLegacy(int hqCode, int brandCode) {
+        Date month11Ago = Date.valueOf(BASE_DATE.withDayOfMonth(1).minusMonths(11));
+        Date month2Ago = Date.valueOf(BASE_DATE.withDayOfMonth(1).minusMonths(2));
+        Date currentMonth = Date.valueOf(BASE_DATE.withDayOfMonth(1));
+        Date nextMonth = Date.valueOf(BASE_DATE.withDayOfMonth(1).plusMonths(1));
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList(LEGACY_CHANNEL_COUNTS,
+                hqCode, brandCode, brandCode, month2Ago, nextMonth)) {
+            counts.put((String) row.get("platform"), ((Number) row.get("review_count")).intValue());
+        }
+        Map<String, Double> ratings = new HashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList(LEGACY_CHANNEL_RATINGS,
+                hqCode, brandCode, brandCode, month2Ago, nextMonth)) {
+            ratings.put((String) row.get("platform"), ((Number) row.get("avg_rating")).doubleValue());
+        }
+        Map<String, Map<String, Integer>> monthly = new HashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList(LEGACY_MONTHLY_TREND,
+                hqCode, brandCode, brandCode, month11Ago, nextMonth)) {
+            monthly.computeIfAbsent(String.valueOf(row.get("review_month")), k -> new HashMap<>())
+                    .put((String) row.get("platform"), ((Number) row.get("review_count")).intValue());
+        }
+
+        int total = counts.values().stream().mapToInt(Integer::intValue).sum();
+        List<DashboardReviewRespDto.MonthlyReviewTrend> trend = new ArrayList<>();
+        for (int i = 11; i >= 0; i--) {
+            LocalDate month = BASE_DATE.minusMonths(i);
+            Map<String, Integer> platformCounts = monthly.getOrDefault(
+                    String.format("%04d%02d", month.getYear(), month.getMonthValue()), Map.of());
+            trend.add(DashboardReviewRespDto.MonthlyReviewTrend.builder()
+                    .month(month.getYear() + "년 " + month.getMonthValue() + "월")
+                    .baeminCount(platformCounts.getOrDefault("배민", 0))
+                    .yogiyoCount(platformCounts.getOrDefault("요기요", 0))
+                    .coupangCount(platformCounts.getOrDefault("쿠팡이츠", 0))
+                    .build());
+        }
+
+        return DashboardReviewRespDto.builder()
+                .channelRatio(DashboardReviewRespDto.ChannelRatio.builder()
+                        .baeminCount(counts.getOrDefault("배민", 0))
+                        .baeminRate(rate(counts.getOrDefault("배민", 0), total))
+                        .yogiyoCount(counts.getOrDefault("요기요", 0))
+                        .yogiyoRate(rate(counts.getOrDefault("요기요", 0), total))
+                        .coupangCount(counts.getOrDefault("쿠팡이츠", 0))
+                        .coupangRate(rate(counts.getOrDefault("쿠팡이츠", 0), total))
+                        .build())
+                .channelRatings(DashboardReviewRespDto.ChannelRatings.builder()
+                        .baeminRating(ratings.getOrDefault("배민", 0.0))
+                        .yogiyoRating(ratings.getOrDefault("요기요", 0.0))
+                        .coupangRating(ratings.getOrDefault("쿠팡이츠", 0.0))
+                        .build())
+                .channelTrend(trend)
+                .topRatedStores(legacyRankings(LEGACY_TOP_RATED, hqCode, brandCode, currentMonth, nextMonth, true))
+                .topReviewedStores(legacyRankings(LEGACY_TOP_REVIEWED, hqCode, brandCode, currentMonth, nextMonth, false))
+                .build();
+    }
+
+    private List<DashboardReviewRespDto.StoreRanking> legacyRankings(String sql, int hqCode, int brandCode,
+                                                                     Date from, Date to, boolean isRatingRank) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, hqCode, brandCode, brandCode, from, to);
+        List<DashboardReviewRespDto.StoreRanking> rankings = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> row = rows.get(i);
+            rankings.add(DashboardReviewRespDto.StoreRanking.builder()
+                    .rank(i + 1)
+                    .storeName((String) row.get("store_name"))
+                    .rating(isRatingRank ? ((Number) row.get("avg_rating")).doubleValue() : null)
+                    .reviewCount(isRatingRank ? null : ((Number) row.get("review_count")).intValue())
+                    .build());
+        }
+        return rankings;
+    }
+
+    private static String rate(int part, int total) {
+        return total == 0 ? "0.0%" : String.format("%.1f%%", (double) part / total * 100);
+    }
+
+    private static List<String> trend(List<DashboardReviewRespDto.MonthlyReviewTrend> trend) {
+        return trend.stream()
+                .map(t -> t.getMonth() + ":" + t.getBaeminCount() + "/" + t.getYogiyoCount() + "/" + t.getCoupangCount())
+                .toList();
+    }
+
+    private static List<String> rankings(List<DashboardReviewRespDto.StoreRanking> rankings) {
+        return rankings.stream()
+                .map(r -> r.getRank() + ":" + r.getStoreName() + ":" + r.getRating() + ":" + r.getReviewCount())
+                .toList();
+    }
+}
@@ -0,0 +1,255 @@
+package com.inc.sh.service.platform;
+
+import com.inc.sh.dto.platform.respDto.DashboardSalesRespDto;
+import com.inc.sh.repository.DashboardSalesRepository;
+import com.inc.sh.repository.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대시보드 매출 계산 테스트 (H2 MariaDB 호환 모드)
+ * - 기존 5개 쿼리(3개월 매출/주문수, 12개월 매출/주문수, 5개월 플랫폼별 매출)와 같은 결과
+ * - 대시보드 1회 조회당 쿼리 1회
+ * - benchmark 태그: 대시보드 1회 조회당 쿼리 수/DB 시간 비교
+ */
+class DashboardSalesEngineTests {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 6, 15);
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String[] PLATFORMS = {"배민", "요기요", "쿠팡이츠"};
+    private static final int STORE_COUNT = 300;
+
+    private static final String FROM_WHERE =
+            "FROM platform_monthly_sales pms " +
+            "INNER JOIN store_platforms sp ON pms.store_platform_code = sp.store_platform_code " +
+            "INNER JOIN customer c ON sp.customer_code = c.customer_code " +
+            "WHERE pms.hq_code = ? AND sp.is_active = true AND (? = 0 OR pms.brand_code = ?) ";
+
+    private static final String LEGACY_3_MONTH_SALES = "SELECT pms.sales_month, COALESCE(SUM(pms.order_amount), 0) " +
+            FROM_WHERE + "AND pms.sales_month IN (?, ?, ?) GROUP BY pms.sales_month ORDER BY pms.sales_month";
+    private static final String LEGACY_3_MONTH_ORDERS = "SELECT pms.sales_month, COALESCE(SUM(pms.order_count), 0) " +
+            FROM_WHERE + "AND pms.sales_month IN (?, ?, ?) GROUP BY pms.sales_month ORDER BY pms.sales_month";
+    private static final String LEGACY_12_MONTH_SALES = "SELECT pms.sales_month, COALESCE(SUM(pms.order_amount), 0) " +
+            FROM_WHERE + "AND pms.sales_month >= ? AND pms.sales_month <= ? GROUP BY pms.sales_month ORDER BY pms.sales_month";
+    private static final String LEGACY_12_MONTH_ORDERS = "SELECT pms.sales_month, COALESCE(SUM(pms.order_count), 0) " +
+            FROM_WHERE + "AND pms.sales_month >= ? AND pms.sales_month <= ? GROUP BY pms.sales_month ORDER BY pms.sales_month";
+    private static final String LEGACY_5_MONTH_PLATFORM = "SELECT pms.sales_month, pms.platform, COALESCE(SUM(pms.order_amount), 0) " +
+            FROM_WHERE + "AND pms.sales_month >= ? AND pms.sales_month <= ? " +
+            "GROUP BY pms.sales_month, pms.platform ORDER BY pms.sales_month, pms.platform";
+
+    // DashboardSalesRepository.findMonthlyPlatformSales 와 같은 쿼리
+    private static final String MONTHLY_PLATFORM_SALES = "SELECT pms.sales_month, pms.platform, " +
+            "COALESCE(SUM(pms.order_amount), 0), COALESCE(SUM(pms.order_count), 0) " +
+            FROM_WHERE + "AND pms.sales_month >= ? AND pms.sales_month <= ? " +
+            "GROUP BY pms.sales_month, pms.platform ORDER BY pms.sales_month, pms.platform";
+
+    private JdbcTemplate jdbcTemplate;
+    private DashboardSalesEngine engine;
+    private final AtomicInteger queryCount = new AtomicInteger();
+    private final AtomicLong queryNanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.singleConnection("dashboard"));
+
+        List<Object[]> rollups = new ArrayList<>();
+        for (int store = 1; store <= STORE_COUNT; store++) {
+            jdbcTemplate.update("INSERT INTO customer (customer_code) VALUES (?)", store);
+            jdbcTemplate.update("INSERT INTO store_platforms (store_platform_code, customer_code, brand_code, hq_code, " +
+                    "platform, is_active) VALUES (?, ?, ?, ?, ?, ?)",
+                    store, store, store % 3 + 1, 1, PLATFORMS[store % 3], store % 10 != 0 ? 1 : 0);
+
+            // 2년치 집계 (일부 월은 주문 없음)
+            for (int i = 0; i < 24; i++) {
+                if ((store + i) % 11 == 0) {
+                    continue;
+                }
+                String month = BASE_DATE.minusMonths(i).format(MONTH_FORMAT);
+                rollups.add(new Object[]{store, month, 1, store % 3 + 1, PLATFORMS[store % 3],
+                        10 + (store + i) % 40, 100_000L * (1 + (store * 7 + i) % 30)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO platform_monthly_sales " +
+                "(store_platform_code, sales_month, hq_code, brand_code, platform, order_count, order_amount) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", rollups);
+
+        DashboardSalesRepository repository = mock(DashboardSalesRepository.class);
+        when(repository.findMonthlyPlatformSales(any(), any(), anyString(), anyString())).thenAnswer(invocation -> {
+            Integer hqCode = invocation.getArgument(0);
+            Integer brandCode = invocation.getArgument(1);
+            return query(MONTHLY_PLATFORM_SALES,
+                    hqCode, brandCode, brandCode, invocation.getArgument(2), invocation.getArgument(3));
+        });
+        engine = new DashboardSalesEngine(repository);
+    }
+
+    @Test
+    void rendersSameDataAsSeparateQueries() {
+        for (int brandCode : new int[]{0, 2}) {
+            DashboardSalesRespDto legacy = renderLegacy(1, brandCode);
+            DashboardSalesRespDto rendered = engine.render(1, brandCode, BASE_DATE);
+
+            assertEquals(values(legacy.getSales3Month()), values(rendered.getSales3Month()));
+            assertEquals(values(legacy.getOrder3Month()), values(rendered.getOrder3Month()));
+            assertEquals(values(legacy.getSales12Month()), values(rendered.getSales12Month()));
+            assertEquals(values(legacy.getOrder12Month()), values(rendered.getOrder12Month()));
+            assertEquals(rates(legacy.getDeliveryAnalysis()), rates(rendered.getDeliveryAnalysis()));
+        }
+
+        DashboardSalesRespDto rendered = engine.render(1, 0, BASE_DATE);
+        assertEquals("2024년 7월", rendered.getSales12Month().get(0).getMonth());
+        assertEquals("2025년 6월", rendered.getSales3Month().get(2).getMonth());
+        assertEquals("2025년 2월", rendered.getDeliveryAnalysis().get(0).getMonth());
+
+        // 본사 데이터가 없으면 모든 월 0
+        DashboardSalesRespDto empty = engine.render(99, 0, BASE_DATE);
+        assertEquals(12, empty.getOrder12Month().size());
+        assertEquals(0L, empty.getOrder12Month().stream().mapToLong(DashboardSalesRespDto.MonthlyData::getValue).sum());
+        assertEquals("0.0%", empty.getDeliveryAnalysis().get(4).getBaeminRate());
+    }
+
+    @Test
+    void rendersWithOneQuery() {
+        resetCounters();
+        engine.render(1, 0, BASE_DATE);
+
+        assertEquals(1, queryCount.get());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void compareDbTimePerRender() {
+        int renders = 50;
+
+        // 워밍업
+        for (int i = 0; i < 5; i++) {
+            renderLegacy(1, 0);
+            engine.render(1, 0, BASE_DATE);
+        }
+
+        resetCounters();
+        for (int i = 0; i < renders; i++) {
+            renderLegacy(1, 0);
+        }
+        int legacyQueries = queryCount.get();
+        long legacyMicros = queryNanos.get() / 1_000 / renders;
+
+        resetCounters();
+        for (int i = 0; i < renders; i++) {
+            engine.render(1, 0, BASE_DATE);
+        }
+        int engineQueries = queryCount.get();
+        long engineMicros = queryNanos.get() / 1_000 / renders;
+
+        assertEquals(5 * renders, legacyQueries);
+        assertEquals(renders, engineQueries);
+
+        assertTrue(engineMicros < legacyMicros, "단일 " + engineMicros + "µs / 기존 " + legacyMicros + "µs");
+    }
+
+    /**
+     * 변경 전 조회 방식 (쿼리 5회)
+     */
+    private DashboardSalesRespDto renderLegacy(int hqCode, int brandCode) {
+        List<String> months12 = new ArrayList<>();
+        for (int i = 11; i >= 0; i--) {
+            months12.add(BASE_DATE.minusMonths(i).format(MONTH_FORMAT));
+        }
+        List<String> months5 = months12.subList(7, 12);
+        List<String> months3 = months12.subList(9, 12);
+        String current = months12.get(11);
+
+        List<Object[]> sales3 = query(LEGACY_3_MONTH_SALES, hqCode, brandCode, brandCode, current, months12.get(10), months12.get(9));
+        List<Object[]> orders3 = query(LEGACY_3_MONTH_ORDERS, hqCode, brandCode, brandCode, current, months12.get(10), months12.get(9));
+        List<Object[]> sales12 = query(LEGACY_12_MONTH_SALES, hqCode, brandCode, brandCode, months12.get(0), current);
+        List<Object[]> orders12 = query(LEGACY_12_MONTH_ORDERS, hqCode, brandCode, brandCode, months12.get(0), current);
+        List<Object[]> platform5 = query(LEGACY_5_MONTH_PLATFORM, hqCode, brandCode, brandCode, months5.get(0), current);
+
+        Map<String, Map<String, Long>> platformSales = new HashMap<>();
+        for (Object[] row : platform5) {
+            platformSales.computeIfAbsent((String) row[0], k -> new HashMap<>()).put((String) row[1], ((Number) row[2]).longValue());
+        }
+        List<DashboardSalesRespDto.DeliveryRateData> delivery = new ArrayList<>();
+        for (String month : months5) {
+            Map<String, Long> sales = platformSales.getOrDefault(month, Map.of());
+            long total = sales.values().stream().mapToLong(Long::longValue).sum();
+            delivery.add(DashboardSalesRespDto.DeliveryRateData.builder()
+                    .baeminRate(rate(sales.getOrDefault("배민", 0L), total))
+                    .yogiyoRate(rate(sales.getOrDefault("요기요", 0L), total))
+                    .coupangRate(rate(sales.getOrDefault("쿠팡이츠", 0L), total))
+                    .build());
+        }
+
+        return DashboardSalesRespDto.builder()
+                .sales3Month(monthly(sales3, months3))
+                .order3Month(monthly(orders3, months3))
+                .sales12Month(monthly(sales12, months12))
+                .order12Month(monthly(orders12, months12))
+                .deliveryAnalysis(delivery)
+                .build();
+    }
+
+    private List<Object[]> query(String sql, Object... params) {
+        long start = System.nanoTime();
+        List<Object[]> rows = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Object[] row = new Object[rs.getMetaData().getColumnCount()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            return row;
+        }, params);
+        queryNanos.addAndGet(System.nanoTime() - start);
+        queryCount.incrementAndGet();
+        return rows;
+    }
+
+    private void resetCounters() {
+        queryCount.set(0);
+        queryNanos.set(0);
+    }
+
+    private static List<DashboardSalesRespDto.MonthlyData> monthly(List<Object[]> rows, List<String> months) {
+        Map<String, Long> byMonth = new HashMap<>();
+        for (Object[] row : rows) {
+            byMonth.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        List<DashboardSalesRespDto.MonthlyData> result = new ArrayList<>();
+        for (String month : months) {
+            result.add(DashboardSalesRespDto.MonthlyData.builder().month(month).value(byMonth.getOrDefault(month, 0L)).build());
+        }
+        return result;
+    }
+
+    private static String rate(long part, long total) {
+        return total == 0 ? "0.0%" : String.format("%.1f%%", (double) part / total * 100);
+    }
+
+    private static List<Long> values(List<DashboardSalesRespDto.MonthlyData> data) {
+        return data.stream().map(DashboardSalesRespDto.MonthlyData::getValue).toList();
+    }
+
+    private static List<List<String>> rates(List<DashboardSalesRespDto.DeliveryRateData> data) {
+        return data.stream()
+                .map(d -> Arrays.asList(d.getBaeminRate(), d.getYogiyoRate(), d.getCoupangRate()))
+                .toList();
+    }
+}
@@ -0,0 +1,183 @@
+package com.inc.sh.service.platform;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 하이픈 API 클라이언트 테스트
+ * - 로컬 스텁 HTTP 서버의 접속 포트로 커넥션 재사용 여부 확인
+ * - 5xx 응답/연결 실패 재시도와 엔드포인트별 지표 확인
+ * - 응답 타임아웃은 기본 재시도하지 않고, 설정으로 켠 경우에만 짧은 타임아웃으로 재시도
+ */
+class HyphenApiClientTests {
+
+    private static final int REQUEST_COUNT = 10;
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+    private final AtomicInteger slowRequests = new AtomicInteger();
+
+    private HyphenApiClient hyphenApiClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/orders", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            // /orders?delayMs=: 첫 요청은 delayMs, 이후 요청은 그 절반만큼 지연 후 응답
+            String query = exchange.getRequestURI().getQuery();
+            if (query != null && query.startsWith("delayMs=")) {
+                long delayMs = Long.parseLong(query.substring("delayMs=".length()));
+                sleep(slowRequests.getAndIncrement() == 0 ? delayMs : delayMs / 2);
+            }
+
+            int status = remainingFailures.getAndDecrement() > 0 ? 503 : 200;
+            byte[] body = "{\"common\":{\"errYn\":\"N\"}}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // 지연 응답 중에도 다른 요청을 받도록 요청별 스레드
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        hyphenApiClient = new HyphenApiClient(httpClient, 5_000, 2, 10, false, 5_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void sharedClientReusesConnection() throws Exception {
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            assertEquals(200, hyphenApiClient.send(request()).statusCode());
+        }
+        assertEquals(1, clientPorts.size(), "공유 클라이언트는 커넥션 1개를 재사용해야 합니다.");
+
+        // 비교: 요청마다 새 HttpClient를 만들면 요청마다 새 커넥션이 생성됨
+        clientPorts.clear();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            HttpClient.newHttpClient().send(request(), HttpResponse.BodyHandlers.ofString());
+        }
+        assertEquals(REQUEST_COUNT, clientPorts.size());
+    }
+
+    @Test
+    void retriesServerErrorsAndRecordsMetrics() throws Exception {
+        remainingFailures.set(2);
+
+        HttpResponse<String> response = hyphenApiClient.send(request());
+
+        assertEquals(200, response.statusCode());
+        Map<String, Object> metrics = hyphenApiClient.getMetrics().get(endpoint());
+        assertEquals(1L, metrics.get("requestCount"));
+        assertEquals(2L, metrics.get("retryCount"));
+        assertEquals(0L, metrics.get("errorCount"));
+    }
+
+    @Test
+    void returnsLastServerErrorWhenRetriesExhausted() throws Exception {
+        remainingFailures.set(10);
+
+        HttpResponse<String> response = hyphenApiClient.send(request());
+
+        assertEquals(503, response.statusCode());
+        Map<String, Object> metrics = hyphenApiClient.getMetrics().get(endpoint());
+        assertEquals(2L, metrics.get("retryCount"));
+        assertEquals(1L, metrics.get("errorCount"));
+    }
+
+    @Test
+    void retriesConnectFailures() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        String closedEndpoint = "http://127.0.0.1:" + closedPort + "/orders";
+
+        assertThrows(ConnectException.class, () -> hyphenApiClient.send(request(closedEndpoint)));
+
+        Map<String, Object> metrics = hyphenApiClient.getMetrics().get(closedEndpoint);
+        assertEquals(2L, metrics.get("retryCount"));
+        assertEquals(1L, metrics.get("errorCount"));
+    }
+
+    @Test
+    void doesNotRetryTimeoutsByDefault() {
+        HyphenApiClient client = new HyphenApiClient(HttpClient.newHttpClient(), 200, 2, 10, false, 100);
+
+        assertThrows(HttpTimeoutException.class, () -> client.send(request(endpoint() + "?delayMs=1000")));
+
+        // 요청이 이미 전달된 POST는 다시 보내지 않음
+        assertEquals(1, slowRequests.get());
+        assertEquals(0L, client.getMetrics().get(endpoint()).get("retryCount"));
+        assertEquals(1L, client.getMetrics().get(endpoint()).get("errorCount"));
+    }
+
+    @Test
+    void optInTimeoutRetriesUseShorterTimeout() {
+        // 첫 요청 1,000ms 지연(타임아웃 500ms 초과), 재시도 요청 500ms 지연: 재시도 타임아웃이 100ms라서 재시도도 실패해야 함
+        HyphenApiClient client = new HyphenApiClient(HttpClient.newHttpClient(), 500, 2, 10, true, 100);
+
+        assertThrows(HttpTimeoutException.class, () -> client.send(request(endpoint() + "?delayMs=1000")));
+
+        assertEquals(3, slowRequests.get());
+        assertEquals(2L, client.getMetrics().get(endpoint()).get("retryCount"));
+        assertEquals(1L, client.getMetrics().get(endpoint()).get("errorCount"));
+    }
+
+    private HttpRequest request() {
+        return request(endpoint());
+    }
+
+    private HttpRequest request(String uri) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/orders";
+    }
+}
@@ -0,0 +1,176 @@
+package com.inc.sh.service.platform;
+
+import com.inc.sh.common.util.ManualClock;
+import com.inc.sh.entity.StorePlatforms;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 플랫폼 매장 동기화 실행기 테스트
+ * - 응답마다 지연이 있는 로컬 스텁 HTTP 서버를 대상으로 실행
+ * - 토큰버킷은 가짜 시계로 실행해 벽시계 시간 대신 토큰 발급 수/가짜 시계 경과/동시 요청 수로 확인
+ * - 동시 실행 제한은 같은 플랫폼의 동시 호출(본사별)끼리 공유, 완료된 진행현황은 보관기간 후 삭제
+ */
+class PlatformSyncExecutorTests {
+
+    private static final int STORE_COUNT = 20;
+    private static final int MAX_IN_FLIGHT = 4;
+    private static final long STUB_LATENCY_MS = 50;
+
+    private HttpServer server;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/orders", exchange -> {
+            requestCount.incrementAndGet();
+            maxInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(STUB_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlightRequests.decrementAndGet();
+            }
+            byte[] body = "{\"common\":{\"errYn\":\"N\"}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void storesTakeOnePermitEachAndRespectRateAndInFlightLimits() {
+        ManualClock slowClock = new ManualClock();
+        ManualClock fastClock = new ManualClock();
+
+        assertEquals(STORE_COUNT, runSync(10.0, slowClock));
+        assertEquals(STORE_COUNT, runSync(20.0, fastClock));
+
+        // 버킷 1개(burst 1)로 20개 토큰: 초당 10건이면 최소 1.9초, 초당 20건이면 최소 0.95초 분량의 대기
+        assertTrue(slowClock.elapsedMs() >= 1_900, "초당 10건 대기: " + slowClock.elapsedMs() + "ms");
+        assertTrue(fastClock.elapsedMs() >= 950, "초당 20건 대기: " + fastClock.elapsedMs() + "ms");
+        assertEquals(STORE_COUNT * 2, requestCount.get());
+        assertTrue(maxInFlightRequests.get() <= MAX_IN_FLIGHT, "동시 요청: " + maxInFlightRequests.get());
+        assertTrue(maxInFlightRequests.get() > 1, "매장 동기화는 동시에 실행되어야 합니다.");
+    }
+
+    @Test
+    void failedStoreDoesNotStopOthers() {
+        PlatformSyncExecutor executor = new PlatformSyncExecutor(STORE_COUNT, 0, 1);
+
+        List<PlatformSyncExecutor.StoreSyncResult<Integer>> results = executor.execute("배민", 1, stores(), store -> {
+            if (store.getStorePlatformCode() % 5 == 0) {
+                throw new RuntimeException("스텁 오류");
+            }
+            return callStub();
+        });
+        executor.shutdown();
+
+        assertEquals(STORE_COUNT, results.size());
+        assertEquals(STORE_COUNT / 5, results.stream().filter(r -> !r.isSuccess()).count());
+        assertEquals(STORE_COUNT, executor.getProgress("배민", 1).getCompletedCount().get());
+        assertEquals(STORE_COUNT / 5, executor.getProgress("배민", 1).getFailedCount().get());
+    }
+
+    @Test
+    void inFlightLimitIsSharedAcrossCallsForSamePlatform() throws Exception {
+        PlatformSyncExecutor executor = new PlatformSyncExecutor(MAX_IN_FLIGHT, 0, 1);
+        ReflectionTestUtils.setField(executor, "clock", new ManualClock());
+
+        Future<?> first = executor.submit(() -> executor.execute("배민", 1, stores(), store -> callStub()));
+        Future<?> second = executor.submit(() -> executor.execute("배민", 2, stores(), store -> callStub()));
+        first.get();
+        second.get();
+        executor.shutdown();
+
+        assertEquals(STORE_COUNT * 2, requestCount.get());
+        assertTrue(maxInFlightRequests.get() <= MAX_IN_FLIGHT, "동시 요청: " + maxInFlightRequests.get());
+    }
+
+    @Test
+    void finishedProgressIsEvictedAfterRetention() {
+        ManualClock clock = new ManualClock();
+        PlatformSyncExecutor executor = new PlatformSyncExecutor(MAX_IN_FLIGHT, 0, 1);
+        ReflectionTestUtils.setField(executor, "clock", clock);
+        ReflectionTestUtils.setField(executor, "progressRetentionMinutes", 30L);
+
+        executor.execute("배민", 1, stores(), store -> 200);
+        executor.shutdown();
+
+        clock.sleep(TimeUnit.MINUTES.toNanos(30));
+        assertTrue(executor.getProgress("배민", 1).isFinished());
+        clock.sleep(TimeUnit.MINUTES.toNanos(1));
+        assertNull(executor.getProgress("배민", 1));
+    }
+
+    /**
+     * @return 토큰버킷이 발급한 토큰 수
+     */
+    private long runSync(double permitsPerSecond, ManualClock clock) {
+        PlatformSyncExecutor executor = new PlatformSyncExecutor(MAX_IN_FLIGHT, permitsPerSecond, 1);
+        ReflectionTestUtils.setField(executor, "clock", clock);
+
+        List<PlatformSyncExecutor.StoreSyncResult<Integer>> results =
+                executor.execute("배민", 1, stores(), store -> callStub());
+        executor.shutdown();
+
+        assertTrue(results.stream().allMatch(PlatformSyncExecutor.StoreSyncResult::isSuccess));
+        return executor.getBucket("배민").getAcquiredCount();
+    }
+
+    private Integer callStub() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/orders"))
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).statusCode();
+    }
+
+    private List<StorePlatforms> stores() {
+        List<StorePlatforms> stores = new ArrayList<>();
+        for (int i = 1; i <= STORE_COUNT; i++) {
+            stores.add(StorePlatforms.builder()
+                    .storePlatformCode(i)
+                    .platform("배민")
+                    .platformStoreId("store-" + i)
+                    .platformStoreName("테스트매장" + i)
+                    .build());
+        }
+        return stores;
+    }
+}
@@ -0,0 +1,185 @@
+package com.inc.sh.service.platform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inc.sh.common.dto.RespDto;
+import com.inc.sh.controller.platform.PlatformIntegratedController;
+import com.inc.sh.entity.StorePlatforms;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 플랫폼 동기화 작업 테스트
+ * - 동기화 요청은 작업 등록 후 바로 반환되고, 작업은 전용 스레드풀에서 끝까지 진행
+ * - 같은 본사/플랫폼 재요청은 진행 중인 작업을 그대로 반환
+ * - 취소 시 진행 중인 매장 동기화 인터럽트
+ */
+class PlatformSyncJobServiceTests {
+
+    private static final int STORE_COUNT = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger interrupted = new AtomicInteger();
+
+    private PlatformSyncExecutor platformSyncExecutor;
+    private PlatformSyncJobService platformSyncJobService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        platformSyncExecutor = new PlatformSyncExecutor(STORE_COUNT, 1000.0, STORE_COUNT);
+
+        // 매장 동기화가 release 전까지 끝나지 않는 주문 서비스
+        PlatformOrderService platformOrderService = mock(PlatformOrderService.class);
+        when(platformOrderService.syncBaeminOrders(anyInt(), anyBoolean()))
+                .thenAnswer(inv -> blockingSync("배민", inv.getArgument(0)));
+        when(platformOrderService.syncYogiyoOrders(anyInt(), anyBoolean()))
+                .thenAnswer(inv -> blockingSync("요기요", inv.getArgument(0)));
+        when(platformOrderService.syncCoupangOrders(anyInt(), anyBoolean()))
+                .thenAnswer(inv -> blockingSync("쿠팡이츠", inv.getArgument(0)));
+
+        platformSyncJobService = new PlatformSyncJobService(platformOrderService, platformSyncExecutor, 3, 10, 50);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PlatformIntegratedController(
+                platformSyncJobService, mock(PlatformSummaryService.class), platformSyncExecutor,
+                mock(HyphenApiClient.class))).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        platformSyncJobService.shutdown();
+        platformSyncExecutor.shutdown();
+    }
+
+    @Test
+    void syncRequestReturnsImmediatelyAndJobCompletesInBackground() throws Exception {
+        long start = System.currentTimeMillis();
+        JsonNode first = call(post("/api/v1/platform/order/sync/all").param("hqCode", "1"));
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertEquals(1, first.get("code").asInt());
+        assertEquals(3, first.get("data").size());
+        assertTrue(elapsed < 1_000, "동기화 요청 응답 지연: " + elapsed + "ms");
+        for (JsonNode job : first.get("data")) {
+            assertNotEquals(PlatformSyncJobService.STATUS_COMPLETED, job.get("status").asText());
+        }
+
+        // 진행 중 재요청 → 같은 작업 반환
+        JsonNode second = call(post("/api/v1/platform/order/sync/all").param("hqCode", "1"));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(first.get("data").get(i).get("jobId").asText(), second.get("data").get(i).get("jobId").asText());
+        }
+
+        String jobId = first.get("data").get(0).get("jobId").asText();
+        JsonNode running = awaitJob(jobId, job -> job.get("totalStoreCount").asInt() == STORE_COUNT);
+        assertEquals(PlatformSyncJobService.STATUS_RUNNING, running.get("status").asText());
+
+        release.countDown();
+        for (JsonNode job : first.get("data")) {
+            JsonNode done = awaitJob(job.get("jobId").asText(), j -> j.hasNonNull("finishedAt"));
+            assertEquals(PlatformSyncJobService.STATUS_COMPLETED, done.get("status").asText());
+            assertEquals(STORE_COUNT, done.get("completedStoreCount").asInt());
+        }
+
+        // 종료 후 재요청 → 새 작업
+        JsonNode third = call(post("/api/v1/platform/order/sync/all").param("hqCode", "1"));
+        assertNotEquals(jobId, third.get("data").get(0).get("jobId").asText());
+        assertEquals(6, call(get("/api/v1/platform/order/sync/jobs").param("hqCode", "1")).get("data").size());
+    }
+
+    @Test
+    void cancelInterruptsRunningJob() throws Exception {
+        JsonNode jobs = call(post("/api/v1/platform/order/sync/all").param("hqCode", "2"));
+        String jobId = jobs.get("data").get(0).get("jobId").asText();
+        awaitJob(jobId, job -> job.get("totalStoreCount").asInt() == STORE_COUNT);
+
+        JsonNode cancelled = call(post("/api/v1/platform/order/sync/jobs/" + jobId + "/cancel"));
+        assertEquals(1, cancelled.get("code").asInt());
+        assertEquals(PlatformSyncJobService.STATUS_CANCELLED, cancelled.get("data").get("status").asText());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (interrupted.get() < STORE_COUNT && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(STORE_COUNT, interrupted.get());
+
+        // 취소 상태 유지, 다시 취소하면 실패 응답
+        assertEquals(PlatformSyncJobService.STATUS_CANCELLED,
+                call(get("/api/v1/platform/order/sync/jobs/" + jobId)).get("data").get("status").asText());
+        assertEquals(-1, call(post("/api/v1/platform/order/sync/jobs/" + jobId + "/cancel")).get("code").asInt());
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        PlatformSyncJobService small = new PlatformSyncJobService(
+                mock(PlatformOrderService.class, inv -> {
+                    release.await();
+                    return RespDto.success("ok", "ok");
+                }), platformSyncExecutor, 1, 1, 50);
+        try {
+            small.submit(1, "배민", false);
+            small.submit(2, "배민", false);
+            assertThrows(RuntimeException.class, () -> small.submit(3, "배민", false));
+            assertThrows(RuntimeException.class, () -> small.submit(4, "없는플랫폼", false));
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    private RespDto<String> blockingSync(String platform, Integer hqCode) {
+        List<StorePlatforms> stores = new ArrayList<>();
+        for (int i = 1; i <= STORE_COUNT; i++) {
+            stores.add(StorePlatforms.builder().storePlatformCode(i).platform(platform).build());
+        }
+        platformSyncExecutor.execute(platform, hqCode, stores, store -> {
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+                throw e;
+            }
+        });
+        return RespDto.success(platform + " 동기화 완료", platform);
+    }
+
+    private JsonNode awaitJob(String jobId, Predicate<JsonNode> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        JsonNode job;
+        do {
+            job = call(get("/api/v1/platform/order/sync/jobs/" + jobId)).get("data");
+            if (condition.test(job)) {
+                return job;
+            }
+            Thread.sleep(20);
+        } while (System.currentTimeMillis() < deadline);
+        throw new AssertionError("작업 상태 대기 시간 초과: " + job);
+    }
+
+    private JsonNode call(RequestBuilder request) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(request).andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+}
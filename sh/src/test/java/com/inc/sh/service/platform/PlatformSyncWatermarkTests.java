@@ -0,0 +1,43 @@
+package com.inc.sh.service.platform;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 증분 동기화 조회 시작일 계산 테스트
+ */
+class PlatformSyncWatermarkTests {
+
+    private final PlatformSyncWatermark platformSyncWatermark = new PlatformSyncWatermark(1);
+
+    @Test
+    void startsFromWatermarkMinusOverlap() {
+        String watermark = LocalDateTime.now().minusDays(2).format(PlatformSyncWatermark.WATERMARK_FORMAT);
+
+        assertEquals(date(3), platformSyncWatermark.resolveDateFrom(watermark, 30, false));
+    }
+
+    @Test
+    void usesFullWindowWithoutWatermarkOrOnFullResync() {
+        String watermark = LocalDateTime.now().minusDays(2).format(PlatformSyncWatermark.WATERMARK_FORMAT);
+
+        assertEquals(date(30), platformSyncWatermark.resolveDateFrom(null, 30, false));
+        assertEquals(date(30), platformSyncWatermark.resolveDateFrom(watermark, 30, true));
+        assertEquals(date(30), platformSyncWatermark.resolveDateFrom("2025-01-01T10:00:00", 30, false));
+    }
+
+    @Test
+    void neverGoesBeyondFullWindow() {
+        String watermark = LocalDateTime.now().minusDays(60).format(PlatformSyncWatermark.WATERMARK_FORMAT);
+
+        assertEquals(date(7), platformSyncWatermark.resolveDateFrom(watermark, 7, false));
+    }
+
+    private static String date(int daysAgo) {
+        return LocalDate.now().minusDays(daysAgo).format(PlatformSyncWatermark.API_DATE_FORMAT);
+    }
+}
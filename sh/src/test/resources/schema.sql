@@ -0,0 +1,446 @@
+-- 테스트 공통 스키마 (H2, MariaDB 호환 모드) - TestDatabase가 테스트 DB마다 적용
+-- - 컬럼/타입/길이/NOT NULL/키는 엔티티 기준, 엔티티가 없는 테이블(집계/스냅샷/수집 작업)은 해당 Repository SQL 기준
+-- - NOT NULL 컬럼의 DEFAULT는 테스트 데이터가 관련 컬럼만 넣을 수 있도록 둔 테스트 전용 값 (엔티티 @Builder.Default가 있으면 그 값)
+-- - MariaDB JSON 함수는 H2 별칭으로 대체
+
+CREATE ALIAS JSON_EXTRACT FOR 'com.inc.sh.repository.TestDatabase.jsonExtract';
+CREATE ALIAS JSON_UNQUOTE FOR 'com.inc.sh.repository.TestDatabase.jsonUnquote';
+
+-- 브랜드 / 거래처 / 거래처 원장
+
+CREATE TABLE brand_info (
+    brand_code INT AUTO_INCREMENT PRIMARY KEY,
+    hq_code INT NOT NULL DEFAULT 0,
+    brand_name VARCHAR(250) NOT NULL DEFAULT '',
+    note VARCHAR(250),
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE customer (
+    customer_code INT AUTO_INCREMENT PRIMARY KEY,
+    hq_code INT NOT NULL DEFAULT 0,
+    brand_code INT NOT NULL DEFAULT 0,
+    virtual_account_code INT,
+    customer_name VARCHAR(250) NOT NULL DEFAULT '',
+    owner_name VARCHAR(250) NOT NULL DEFAULT '',
+    biz_num VARCHAR(250) NOT NULL DEFAULT '',
+    zip_code VARCHAR(250),
+    addr VARCHAR(250),
+    biz_type VARCHAR(250),
+    biz_sector VARCHAR(250),
+    email VARCHAR(250),
+    tel_num VARCHAR(250),
+    mobile_num VARCHAR(250),
+    fax_num VARCHAR(250),
+    tax_invoice_yn VARCHAR(255) NOT NULL DEFAULT '',
+    tax_invoice_name VARCHAR(250),
+    reg_dt VARCHAR(250) NOT NULL DEFAULT '',
+    close_dt VARCHAR(250),
+    print_note VARCHAR(250),
+    bank_name VARCHAR(250),
+    account_holder VARCHAR(250),
+    account_num VARCHAR(250),
+    dist_center_code INT NOT NULL DEFAULT 0,
+    delivery_weekday VARCHAR(7) NOT NULL DEFAULT '1111111',
+    deposit_type_code INT NOT NULL DEFAULT 0,
+    virtual_account VARCHAR(250),
+    virtual_bank_name VARCHAR(250),
+    balance_amt INT NOT NULL DEFAULT 0,
+    hq_memo VARCHAR(250),
+    credit_limit INT NOT NULL DEFAULT 0,
+    collection_day INT NOT NULL DEFAULT 0,
+    order_block_yn INT NOT NULL DEFAULT 0,
+    order_block_reason VARCHAR(250),
+    order_block_dt VARCHAR(250),
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE customer_account_transactions (
+    transaction_code INT AUTO_INCREMENT PRIMARY KEY,
+    customer_code INT NOT NULL,
+    virtual_account_code INT NOT NULL DEFAULT 0,
+    transaction_date VARCHAR(250) NOT NULL,
+    transaction_type VARCHAR(250) NOT NULL DEFAULT '',
+    amount INT NOT NULL,
+    balance_after INT NOT NULL,
+    reference_type VARCHAR(250),
+    reference_id VARCHAR(250),
+    note VARCHAR(250),
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_cat_customer_date ON customer_account_transactions (customer_code, transaction_date, transaction_code);
+
+CREATE TABLE customer_balance_daily (
+    customer_code INT NOT NULL,
+    balance_date VARCHAR(250) NOT NULL,
+    closing_balance INT NOT NULL,
+    last_transaction_code INT NOT NULL,
+    updated_at DATETIME NOT NULL,
+    PRIMARY KEY (customer_code, balance_date)
+);
+CREATE INDEX idx_cbd_last_transaction ON customer_balance_daily (last_transaction_code);
+
+-- 주문 / 반품 / 알림 / 문서번호
+
+CREATE TABLE `order` (
+    order_no VARCHAR(250) PRIMARY KEY,
+    hq_code INT NOT NULL DEFAULT 0,
+    customer_code INT NOT NULL DEFAULT 0,
+    vehicle_code INT,
+    dist_center_code INT NOT NULL DEFAULT 0,
+    customer_name VARCHAR(250) NOT NULL DEFAULT '',
+    biz_num VARCHAR(250),
+    zip_code VARCHAR(250),
+    addr VARCHAR(250),
+    owner_name VARCHAR(250),
+    tel_num VARCHAR(250),
+    order_dt VARCHAR(250) NOT NULL DEFAULT '',
+    delivery_request_dt VARCHAR(250) NOT NULL DEFAULT '',
+    delivery_amt INT,
+    dist_center_name VARCHAR(250),
+    delivery_dt VARCHAR(250),
+    vehicle_name VARCHAR(250),
+    delivery_status VARCHAR(250) NOT NULL DEFAULT '배송요청',
+    payment_status VARCHAR(250) NOT NULL DEFAULT '',
+    deposit_type_code INT NOT NULL DEFAULT 0,
+    payment_at VARCHAR(250),
+    end_at VARCHAR(250),
+    order_message VARCHAR(250),
+    taxable_amt INT NOT NULL DEFAULT 0,
+    tax_free_amt INT NOT NULL DEFAULT 0,
+    supply_amt INT NOT NULL DEFAULT 0,
+    vat_amt INT NOT NULL DEFAULT 0,
+    total_amt INT NOT NULL DEFAULT 0,
+    total_qty INT NOT NULL DEFAULT 0,
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE order_item (
+    order_item_code INT AUTO_INCREMENT PRIMARY KEY,
+    order_no VARCHAR(250) NOT NULL,
+    item_code INT NOT NULL,
+    release_warehouse_code INT NOT NULL DEFAULT 0,
+    item_name VARCHAR(250) NOT NULL DEFAULT '',
+    specification VARCHAR(250),
+    unit VARCHAR(250) NOT NULL DEFAULT '',
+    price_type INT NOT NULL DEFAULT 0,
+    order_unit_price INT NOT NULL DEFAULT 0,
+    current_stock_qty INT,
+    order_qty INT NOT NULL DEFAULT 0,
+    tax_target VARCHAR(250),
+    warehouse_name VARCHAR(250),
+    taxable_amt INT NOT NULL DEFAULT 0,
+    tax_free_amt INT NOT NULL DEFAULT 0,
+    supply_amt INT NOT NULL DEFAULT 0,
+    vat_amt INT NOT NULL DEFAULT 0,
+    total_amt INT NOT NULL DEFAULT 0,
+    total_qty INT NOT NULL DEFAULT 0,
+    returned_qty INT NOT NULL DEFAULT 0,
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_order_item_order_no ON order_item (order_no);
+
+CREATE TABLE `return` (
+    return_no VARCHAR(250) PRIMARY KEY,
+    return_customer_code INT NOT NULL DEFAULT 0,
+    order_no VARCHAR(250) NOT NULL,
+    order_item_code INT NOT NULL DEFAULT 0,
+    item_code INT NOT NULL DEFAULT 0,
+    receive_warehouse_code INT,
+    return_customer_name VARCHAR(250),
+    return_request_dt VARCHAR(250) NOT NULL DEFAULT '',
+    item_name VARCHAR(250),
+    specification VARCHAR(250),
+    unit VARCHAR(250),
+    qty INT NOT NULL DEFAULT 1,
+    price_type INT,
+    unit_price INT,
+    supply_price INT,
+    vat_amt INT,
+    total_amt INT,
+    return_message VARCHAR(250),
+    reply_message VARCHAR(250),
+    note VARCHAR(250),
+    progress_status VARCHAR(250) NOT NULL DEFAULT '미승인',
+    warehouse_name VARCHAR(250),
+    return_approve_dt VARCHAR(250),
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE notification (
+    notification_code INT AUTO_INCREMENT PRIMARY KEY,
+    hq_code INT NOT NULL,
+    customer_code INT NOT NULL,
+    customer_name VARCHAR(250) NOT NULL,
+    reference_name VARCHAR(100) NOT NULL,
+    reference_code VARCHAR(250) NOT NULL,
+    read_yn INT NOT NULL DEFAULT 0,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE document_sequence (
+    sequence_code INT AUTO_INCREMENT PRIMARY KEY,
+    seq_type VARCHAR(50) NOT NULL,
+    seq_date VARCHAR(8) NOT NULL,
+    last_value BIGINT NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_document_sequence_type_date UNIQUE (seq_type, seq_date)
+);
+
+-- 재고
+
+CREATE TABLE warehouse_items (
+    warehouse_item_code INT AUTO_INCREMENT PRIMARY KEY,
+    warehouse_code INT NOT NULL,
+    item_code INT NOT NULL,
+    current_quantity INT NOT NULL DEFAULT 0,
+    safe_quantity INT NOT NULL DEFAULT 0,
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE monthly_inventory_closing (
+    closing_code INT AUTO_INCREMENT PRIMARY KEY,
+    warehouse_item_code INT NOT NULL,
+    warehouse_code INT NOT NULL,
+    item_code INT NOT NULL,
+    closing_ym VARCHAR(250) NOT NULL,
+    opening_quantity INT,
+    opening_amount INT,
+    in_quantity INT,
+    in_amount INT,
+    out_quantity INT,
+    out_amount INT,
+    cal_quantity INT,
+    cal_amount INT,
+    actual_quantity INT,
+    actual_unit_price INT,
+    actual_amount INT,
+    diff_quantity INT,
+    diff_amount INT,
+    is_closed BOOLEAN NOT NULL DEFAULT FALSE,
+    closed_at VARCHAR(250),
+    closed_user VARCHAR(250),
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 배달 플랫폼 매장 / 주문 / 리뷰 / 집계
+
+CREATE TABLE store_platforms (
+    store_platform_code INT AUTO_INCREMENT PRIMARY KEY,
+    customer_code INT NOT NULL DEFAULT 0,
+    brand_code INT NOT NULL DEFAULT 0,
+    hq_code INT NOT NULL DEFAULT 0,
+    platform VARCHAR(250) NOT NULL DEFAULT '',
+    platform_store_id VARCHAR(250) NOT NULL DEFAULT '',
+    platform_store_name VARCHAR(250),
+    login_id VARCHAR(250),
+    login_password VARCHAR(250),
+    total_rating VARCHAR(250),
+    review_count INT DEFAULT 0,
+    comment_count INT DEFAULT 0,
+    is_active INT NOT NULL DEFAULT 1,
+    last_synced_at VARCHAR(250),
+    order_synced_at VARCHAR(250),
+    review_synced_at VARCHAR(250),
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE order_platforms (
+    order_platform_code INT AUTO_INCREMENT PRIMARY KEY,
+    store_platform_code INT NOT NULL,
+    customer_code INT NOT NULL,
+    brand_code INT NOT NULL,
+    user_tr_no VARCHAR(250),
+    hyphen_tr_no VARCHAR(250),
+    platform VARCHAR(250) NOT NULL,
+    order_no VARCHAR(250) NOT NULL,
+    order_date VARCHAR(250) NOT NULL,
+    order_time VARCHAR(250),
+    order_division VARCHAR(250),
+    order_name VARCHAR(250),
+    delivery_type VARCHAR(250),
+    payment_method VARCHAR(250),
+    order_amount INT,
+    delivery_amount INT,
+    discount_amount INT,
+    coupon_amount INT,
+    order_fee INT,
+    card_fee INT,
+    tax INT,
+    settle_date VARCHAR(250),
+    settle_amount INT,
+    offline_order_amount INT,
+    raw_data LONGTEXT,
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_order_platforms_order_no_store UNIQUE (order_no, store_platform_code)
+);
+CREATE INDEX idx_order_platforms_order_date ON order_platforms (order_date);
+
+-- review_platform_code: 엔티티는 직접 지정 @Id지만 일괄 저장은 생성 키를 사용하므로 AUTO_INCREMENT
+CREATE TABLE review_platform (
+    review_platform_code INT AUTO_INCREMENT PRIMARY KEY,
+    store_platform_code INT NOT NULL,
+    customer_code INT NOT NULL DEFAULT 0,
+    brand_code INT NOT NULL DEFAULT 0,
+    platform VARCHAR(50) NOT NULL,
+    review_date DATE NOT NULL,
+    review_time TIME,
+    rating INT NOT NULL,
+    order_menu VARCHAR(250),
+    content VARCHAR(500),
+    owner_reply_content VARCHAR(500),
+    owner_reply_date DATE,
+    owner_reply_time TIME,
+    has_images VARCHAR(1) NOT NULL DEFAULT 'N',
+    raw_data LONGTEXT,
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    order_review_id VARCHAR(100) AS (JSON_UNQUOTE(JSON_EXTRACT(raw_data, '$.orderReviewId')))
+);
+CREATE INDEX idx_review_platform_store_date ON review_platform (store_platform_code, review_date);
+CREATE INDEX idx_review_platform_order_review_id ON review_platform (platform, order_review_id);
+
+CREATE TABLE review_image_platform (
+    review_image_platform_code INT AUTO_INCREMENT PRIMARY KEY,
+    review_platform_code INT NOT NULL,
+    store_platform_code INT NOT NULL,
+    customer_code INT NOT NULL,
+    brand_code INT NOT NULL,
+    seq INT NOT NULL DEFAULT 1,
+    image_url VARCHAR(500) NOT NULL,
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE daily_sales_summary (
+    daily_sales_summary_code INT AUTO_INCREMENT PRIMARY KEY,
+    store_platform_code INT NOT NULL,
+    customer_code INT NOT NULL,
+    brand_code INT NOT NULL,
+    platform VARCHAR(250) NOT NULL,
+    summary_date VARCHAR(10) NOT NULL,
+    order_count INT,
+    total_order_amount INT,
+    total_settle_amount INT,
+    total_delivery_amount INT,
+    total_discount_amount INT,
+    total_fee INT,
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_daily_sales_summary_store_date UNIQUE (store_platform_code, summary_date)
+);
+
+CREATE TABLE store_ranking_cache (
+    store_ranking_cache_code INT AUTO_INCREMENT PRIMARY KEY,
+    store_platform_code INT NOT NULL,
+    customer_code INT NOT NULL,
+    brand_code INT NOT NULL,
+    ranking_type VARCHAR(50) NOT NULL,
+    ranking_period VARCHAR(50) NOT NULL,
+    platform VARCHAR(250) NOT NULL,
+    store_name VARCHAR(250),
+    metric_value DECIMAL(10, 2),
+    rank_number INT,
+    last_updated_at DATETIME,
+    description VARCHAR(250),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE platform_monthly_sales (
+    store_platform_code INT NOT NULL,
+    sales_month CHAR(6) NOT NULL,
+    hq_code INT NOT NULL,
+    brand_code INT NOT NULL,
+    platform VARCHAR(250) NOT NULL,
+    order_count INT NOT NULL,
+    order_amount BIGINT NOT NULL,
+    updated_at DATETIME,
+    PRIMARY KEY (store_platform_code, sales_month)
+);
+CREATE INDEX idx_platform_monthly_sales_hq ON platform_monthly_sales (hq_code, sales_month);
+
+-- 공공데이터 상권 분석 / 수집 작업
+
+CREATE TABLE public_data_analysis (
+    analysis_code BIGINT AUTO_INCREMENT PRIMARY KEY,
+    admin_dong_code INT NOT NULL UNIQUE,
+    admin_dong_name VARCHAR(100) NOT NULL,
+    korean_restaurant_count INT,
+    korean_sales BIGINT,
+    chinese_restaurant_count INT,
+    chinese_sales BIGINT,
+    japanese_restaurant_count INT,
+    japanese_sales BIGINT,
+    western_restaurant_count INT,
+    western_sales BIGINT,
+    southeast_asian_restaurant_count INT,
+    southeast_asian_sales BIGINT,
+    floating_population INT,
+    residential_population INT,
+    working_population INT,
+    household_count INT,
+    income BIGINT,
+    consumption BIGINT,
+    created_at DATETIME,
+    updated_at DATETIME
+);
+
+CREATE TABLE public_data_collection_job (
+    job_code BIGINT AUTO_INCREMENT PRIMARY KEY,
+    task_id VARCHAR(100) NOT NULL UNIQUE,
+    job_type VARCHAR(30) NOT NULL,
+    status VARCHAR(30) NOT NULL,
+    request_json LONGTEXT,
+    error_message VARCHAR(1000),
+    owner_id VARCHAR(100),
+    started_at DATETIME,
+    finished_at DATETIME,
+    created_at DATETIME,
+    updated_at DATETIME
+);
+
+CREATE TABLE public_data_collection_stage (
+    job_code BIGINT NOT NULL,
+    stage VARCHAR(30) NOT NULL,
+    status VARCHAR(30) NOT NULL,
+    total_units INT NOT NULL DEFAULT 0,
+    success_records INT,
+    failure_records INT,
+    updated_at DATETIME,
+    PRIMARY KEY (job_code, stage)
+);
+
+CREATE TABLE public_data_collection_unit (
+    job_code BIGINT NOT NULL,
+    stage VARCHAR(30) NOT NULL,
+    unit_key VARCHAR(200) NOT NULL,
+    payload LONGTEXT,
+    created_at DATETIME,
+    PRIMARY KEY (job_code, stage, unit_key)
+);